@@ -0,0 +1,230 @@
+package com.example.foody.model;
+
+import com.example.foody.model.order_dish.OrderDish;
+import com.example.foody.model.seat_ledger.SeatLedgerEntry;
+import com.example.foody.model.user.*;
+import com.example.foody.state.order.impl.CreatedState;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark counting the JDBC round-trips needed to generate a full week of sitting times and to persist an order
+ * with 20 dishes, with and without JDBC batching.
+ * <p>
+ * Hibernate runs on the real entity mappings against a stub connection, so no database is needed: every statement
+ * execution, batch execution and sequence call is a round-trip. The {@code roundTrips} counter reports the
+ * round-trips of a single operation.
+ * <p>
+ * Run with {@code gradle jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceRoundTripBenchmark {
+
+    private static final int WEEK_DAYS = 7;
+    private static final int SITTING_TIME_MINUTES = 30;
+    private static final int ORDER_DISHES = 20;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private final AtomicLong executedRoundTrips = new AtomicLong();
+    private final AtomicLong sequenceValue = new AtomicLong();
+
+    private SessionFactory sessionFactory;
+
+    /**
+     * Counter reporting the round-trips of the last operation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+
+        public long roundTrips;
+    }
+
+    @Setup
+    public void setUp() {
+        Configuration configuration = new Configuration();
+        List.of(
+                Address.class, Booking.class, Category.class, CreditCard.class, Dish.class,
+                EmailOutboxMessage.class, MediaUpload.class, Order.class, OrderDish.class, Restaurant.class,
+                Review.class, SeatLedgerEntry.class, SittingTime.class, WeekDayInfo.class, User.class,
+                AdminUser.class, CookUser.class, CustomerUser.class, EmployeeUser.class, ModeratorUser.class,
+                RestaurateurUser.class, WaiterUser.class
+        ).forEach(configuration::addAnnotatedClass);
+
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, stubDataSource());
+        configuration.setProperty(AvailableSettings.DIALECT, "org.hibernate.dialect.MariaDBDialect");
+        configuration.setProperty(AvailableSettings.ALLOW_METADATA_ON_BOOT, "false");
+        configuration.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize));
+        configuration.setProperty(AvailableSettings.ORDER_INSERTS, "true");
+        configuration.setProperty(AvailableSettings.ORDER_UPDATES, "true");
+        configuration.setProperty(AvailableSettings.JAKARTA_VALIDATION_MODE, "none");
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void generateWeekOfSittingTimes(RoundTrips counter) {
+        executedRoundTrips.set(0);
+
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int weekDay = 1; weekDay <= WEEK_DAYS; weekDay++) {
+                WeekDayInfo weekDayInfo = session.getReference(WeekDayInfo.class, (long) weekDay);
+                persistSittingTimes(session, weekDayInfo, LocalTime.of(12, 0), LocalTime.of(15, 0));
+                persistSittingTimes(session, weekDayInfo, LocalTime.of(19, 0), LocalTime.of(23, 0));
+            }
+            session.getTransaction().commit();
+        }
+
+        counter.roundTrips = executedRoundTrips.get();
+    }
+
+    @Benchmark
+    public void persistOrderWithDishes(RoundTrips counter) {
+        executedRoundTrips.set(0);
+
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            Order order = new Order(
+                    0,
+                    "T1",
+                    new ArrayList<>(),
+                    new BuyerUser(),
+                    session.getReference(Restaurant.class, 1L),
+                    new CreatedState()
+            );
+            session.persist(order);
+            for (long dishId = 1; dishId <= ORDER_DISHES; dishId++) {
+                OrderDish orderDish = new OrderDish(order, createDish(dishId), 1);
+                orderDish.setDish(session.getReference(Dish.class, dishId));
+                session.persist(orderDish);
+                order.addOrderDish(orderDish);
+            }
+            session.getTransaction().commit();
+        }
+
+        counter.roundTrips = executedRoundTrips.get();
+    }
+
+    private void persistSittingTimes(Session session, WeekDayInfo weekDayInfo, LocalTime start, LocalTime end) {
+        for (LocalTime current = start; current.isBefore(end); current = current.plusMinutes(SITTING_TIME_MINUTES)) {
+            SittingTime sittingTime = new SittingTime();
+            sittingTime.setStart(current);
+            sittingTime.setEnd(current.plusMinutes(SITTING_TIME_MINUTES));
+            sittingTime.setWeekDayInfo(weekDayInfo);
+            session.persist(sittingTime);
+        }
+    }
+
+    /**
+     * Creates a dish carrying the price that the order dish snapshots, standing in for a dish loaded by the service.
+     *
+     * @param id the ID of the dish
+     * @return the dish
+     */
+    private static Dish createDish(long id) {
+        Dish dish = new Dish();
+        dish.setId(id);
+        dish.setPrice(BigDecimal.TEN);
+        return dish;
+    }
+
+    /**
+     * Creates a data source whose connections count the round-trips instead of reaching a database.
+     *
+     * @return the stub data source
+     */
+    private DataSource stubDataSource() {
+        return stub(DataSource.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getConnection" -> stubConnection();
+            default -> defaultValue(method.getReturnType());
+        });
+    }
+
+    private Connection stubConnection() {
+        return stub(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+            case "prepareStatement" -> stubStatement();
+            case "getAutoCommit", "isValid" -> true;
+            default -> defaultValue(method.getReturnType());
+        });
+    }
+
+    private PreparedStatement stubStatement() {
+        int[] batched = new int[1];
+        return stub(PreparedStatement.class, (proxy, method, args) -> switch (method.getName()) {
+            case "addBatch" -> {
+                batched[0]++;
+                yield null;
+            }
+            case "executeBatch" -> {
+                executedRoundTrips.incrementAndGet();
+                int[] rowCounts = new int[batched[0]];
+                Arrays.fill(rowCounts, 1);
+                batched[0] = 0;
+                yield rowCounts;
+            }
+            case "executeUpdate" -> {
+                executedRoundTrips.incrementAndGet();
+                yield 1;
+            }
+            case "executeQuery" -> {
+                executedRoundTrips.incrementAndGet();
+                yield stubSequenceResult(sequenceValue.addAndGet(DefaultEntity.ID_ALLOCATION_SIZE));
+            }
+            default -> defaultValue(method.getReturnType());
+        });
+    }
+
+    private ResultSet stubSequenceResult(long value) {
+        boolean[] read = new boolean[1];
+        return stub(ResultSet.class, (proxy, method, args) -> switch (method.getName()) {
+            case "next" -> {
+                boolean hasRow = !read[0];
+                read[0] = true;
+                yield hasRow;
+            }
+            case "getLong", "getObject" -> value;
+            default -> defaultValue(method.getReturnType());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.example.foody.utils.email_template;
+
+import com.example.foody.utils.enums.EmailPlaceholder;
+import com.example.foody.utils.enums.EmailTemplateType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing the rendering of an email with a precompiled {@link EmailTemplate} against the previous
+ * implementation, which read the template and replaced the placeholders on every email.
+ * <p>
+ * Run with {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private static final String TEMPLATES_PATH = "/email/templates";
+
+    private final Map<EmailPlaceholder, Object> variables = Map.of(
+            EmailPlaceholder.RESTAURANT_NAME, "Trattoria da Mario",
+            EmailPlaceholder.COOK_NAME, "Luigi",
+            EmailPlaceholder.COOK_SURNAME, "Verdi",
+            EmailPlaceholder.ORDER_ID, 12345L,
+            EmailPlaceholder.CUSTOMER_NAME, "Anna",
+            EmailPlaceholder.CUSTOMER_SURNAME, "Rossi"
+    );
+
+    private EmailTemplate compiledTemplate;
+
+    @Setup
+    public void setUp() throws IOException {
+        compiledTemplate = EmailTemplate.compile(readTemplateContent(EmailTemplateType.NEW_ORDER));
+    }
+
+    @Benchmark
+    public EmailContent compiledTemplate() {
+        return compiledTemplate.render(variables);
+    }
+
+    @Benchmark
+    public EmailContent legacyTemplate() throws IOException {
+        String content = readTemplateContent(EmailTemplateType.NEW_ORDER);
+        for (Map.Entry<EmailPlaceholder, Object> entry : variables.entrySet()) {
+            content = content.replace(entry.getKey().toString(), entry.getValue().toString());
+        }
+        String subject = content.split(EmailTemplate.SUBJECT_MARKER + "|" + EmailTemplate.BODY_MARKER)[1].trim();
+        String body = content.split(EmailTemplate.SUBJECT_MARKER + "|" + EmailTemplate.BODY_MARKER)[2].trim();
+        return new EmailContent(subject, body);
+    }
+
+    private static String readTemplateContent(EmailTemplateType emailTemplateType) throws IOException {
+        Path templatePath = Path.of(TEMPLATES_PATH, emailTemplateType.getTemplateName() + ".txt");
+        return new ClassPathResource(templatePath.toString()).getContentAsString(StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.example.foody;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Entry point for the Foody application.
@@ -12,8 +13,12 @@ import org.springframework.scheduling.annotation.EnableAsync;
  * <p>
  * The {@link EnableAsync} annotation enables asynchronous processing, allowing the application
  * to execute tasks in a separate thread without blocking the main flow.
+ * <p>
+ * The {@link EnableScheduling} annotation enables scheduled tasks, such as the background refresh
+ * of the cached Firebase custom tokens.
  */
 @EnableAsync
+@EnableScheduling
 @SpringBootApplication
 public class FoodyApplication {
 
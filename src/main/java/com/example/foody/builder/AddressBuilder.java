@@ -1,7 +1,6 @@
 package com.example.foody.builder;
 
 import com.example.foody.model.Address;
-import com.example.foody.model.Restaurant;
 
 /**
  * Interface for building {@link Address} objects.
@@ -13,6 +12,7 @@ public interface AddressBuilder {
     AddressBuilder street(String street);
     AddressBuilder civicNumber(String civicNumber);
     AddressBuilder postalCode(String postalCode);
-    AddressBuilder restaurant(Restaurant restaurant);
+    AddressBuilder latitude(Double latitude);
+    AddressBuilder longitude(Double longitude);
     Address build();
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.example.foody.model.Dish;
 import com.example.foody.model.Restaurant;
 import com.example.foody.model.Review;
 import com.example.foody.model.order_dish.OrderDish;
+import com.example.foody.model.rating_aggregate.RatingAggregate;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -20,5 +21,6 @@ public interface DishBuilder {
     DishBuilder restaurant(Restaurant restaurant);
     DishBuilder reviews(List<Review> reviews);
     DishBuilder orderDishes(List<OrderDish> orderDishes);
+    DishBuilder ratingAggregate(RatingAggregate ratingAggregate);
     Dish build();
 }
\ No newline at end of file
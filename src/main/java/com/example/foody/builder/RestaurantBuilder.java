@@ -1,6 +1,7 @@
 package com.example.foody.builder;
 
 import com.example.foody.model.*;
+import com.example.foody.model.rating_aggregate.RatingAggregate;
 import com.example.foody.model.user.EmployeeUser;
 import com.example.foody.model.user.RestaurateurUser;
 
@@ -26,5 +27,6 @@ public interface RestaurantBuilder {
     RestaurantBuilder address(Address address);
     RestaurantBuilder restaurateur(RestaurateurUser restaurateur);
     RestaurantBuilder employees(List<EmployeeUser> employees);
+    RestaurantBuilder ratingAggregate(RatingAggregate ratingAggregate);
     Restaurant build();
 }
\ No newline at end of file
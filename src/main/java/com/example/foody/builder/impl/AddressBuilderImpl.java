@@ -2,7 +2,6 @@ package com.example.foody.builder.impl;
 
 import com.example.foody.builder.AddressBuilder;
 import com.example.foody.model.Address;
-import com.example.foody.model.Restaurant;
 import org.springframework.stereotype.Component;
 
 /**
@@ -17,7 +16,8 @@ public class AddressBuilderImpl implements AddressBuilder {
     private String street;
     private String civicNumber;
     private String postalCode;
-    private Restaurant restaurant;
+    private Double latitude;
+    private Double longitude;
 
     @Override
     public AddressBuilder id(long id) {
@@ -56,8 +56,14 @@ public class AddressBuilderImpl implements AddressBuilder {
     }
 
     @Override
-    public AddressBuilder restaurant(Restaurant restaurant) {
-        this.restaurant = restaurant;
+    public AddressBuilder latitude(Double latitude) {
+        this.latitude = latitude;
+        return this;
+    }
+
+    @Override
+    public AddressBuilder longitude(Double longitude) {
+        this.longitude = longitude;
         return this;
     }
 
@@ -70,7 +76,8 @@ public class AddressBuilderImpl implements AddressBuilder {
                 street,
                 civicNumber,
                 postalCode,
-                restaurant
+                latitude,
+                longitude
         );
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.example.foody.model.Dish;
 import com.example.foody.model.Restaurant;
 import com.example.foody.model.Review;
 import com.example.foody.model.order_dish.OrderDish;
+import com.example.foody.model.rating_aggregate.RatingAggregate;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -25,6 +26,7 @@ public class DishBuilderImpl implements DishBuilder {
     private Restaurant restaurant;
     private List<Review> reviews = new ArrayList<>();
     private List<OrderDish> orderDishes = new ArrayList<>();
+    private RatingAggregate ratingAggregate;
 
     @Override
     public DishBuilder id(long id) {
@@ -74,8 +76,24 @@ public class DishBuilderImpl implements DishBuilder {
         return this;
     }
 
+    @Override
+    public DishBuilder ratingAggregate(RatingAggregate ratingAggregate) {
+        this.ratingAggregate = ratingAggregate;
+        return this;
+    }
+
     @Override
     public Dish build() {
-        return new Dish(id, name, description, price, photoUrl, restaurant, reviews, orderDishes);
+        return new Dish(
+                id,
+                name,
+                description,
+                price,
+                photoUrl,
+                restaurant,
+                reviews,
+                orderDishes,
+                ratingAggregate != null ? ratingAggregate : new RatingAggregate()
+        );
     }
 }
\ No newline at end of file
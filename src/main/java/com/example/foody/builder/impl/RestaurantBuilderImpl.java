@@ -2,6 +2,7 @@ package com.example.foody.builder.impl;
 
 import com.example.foody.builder.RestaurantBuilder;
 import com.example.foody.model.*;
+import com.example.foody.model.rating_aggregate.RatingAggregate;
 import com.example.foody.model.user.EmployeeUser;
 import com.example.foody.model.user.RestaurateurUser;
 import org.springframework.stereotype.Component;
@@ -31,6 +32,7 @@ public class RestaurantBuilderImpl implements RestaurantBuilder {
     private Address address;
     private RestaurateurUser restaurateur;
     private List<EmployeeUser> employees = new ArrayList<>();
+    private RatingAggregate ratingAggregate;
 
     @Override
     public RestaurantBuilder id(long id) {
@@ -128,6 +130,12 @@ public class RestaurantBuilderImpl implements RestaurantBuilder {
         return this;
     }
 
+    @Override
+    public RestaurantBuilder ratingAggregate(RatingAggregate ratingAggregate) {
+        this.ratingAggregate = ratingAggregate;
+        return this;
+    }
+
     @Override
     public Restaurant build() {
         return new Restaurant(
@@ -146,7 +154,8 @@ public class RestaurantBuilderImpl implements RestaurantBuilder {
                 address,
                 restaurateur,
                 employees,
-                photoUrl
+                photoUrl,
+                ratingAggregate != null ? ratingAggregate : new RatingAggregate()
         );
     }
 }
\ No newline at end of file
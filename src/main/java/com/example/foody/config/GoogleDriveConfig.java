@@ -11,6 +11,7 @@ import com.google.auth.oauth2.GoogleCredentials;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -56,6 +57,7 @@ public class GoogleDriveConfig {
      * @throws GeneralSecurityException If there is a security configuration issue.
      */
     @Bean
+    @ConditionalOnProperty(name = "spring.media.storage", havingValue = "google-drive", matchIfMissing = true)
     public Drive googleDrive() throws IOException, GeneralSecurityException {
         InputStream inputStream = new ClassPathResource(CREDENTIALS_FILE_PATH).getInputStream();
         GoogleCredentials credentials = GoogleCredentials.fromStream(inputStream)
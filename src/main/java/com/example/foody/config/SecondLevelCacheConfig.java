@@ -0,0 +1,123 @@
+package com.example.foody.config;
+
+import com.example.foody.model.*;
+import com.example.foody.security.PrincipalCache;
+import com.example.foody.utils.SoftDeleteCacheEvictor;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Configuration class for the Hibernate second-level cache.
+ * <p>
+ * The read-mostly entities, the categories of the restaurants and the cacheable queries are kept in Caffeine caches
+ * accessed through JCache, one per region. Each region is bounded by its own size, evicting the least valuable entries
+ * first, and its entries are reloaded from the database at least once per {@link CacheLimits#ENTRY_TTL}. The hits,
+ * misses and evictions of each region are published as JCache statistics MBeans.
+ * <p>
+ * The caches are local to each instance, and only the changes made by the instance itself evict its entries. A change
+ * made by another instance, like the approval of a restaurant, is seen once the stale entries expire, so the TTL is
+ * kept short. The users are not kept in the second-level cache: the authenticated users are held by the
+ * {@link PrincipalCache} instead, which also keeps a snapshot per instance, so a deactivation, a password change or a
+ * role change made on another instance applies within {@link PrincipalCache.CacheLifecycle#TTL}.
+ * <p>
+ * The caching itself is enabled in application.properties; Hibernate fails to start if an entity is cached in a region
+ * not configured here.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * Provides the JCache {@link CacheManager} holding the regions of the second-level cache.
+     *
+     * @return the cache manager with a cache for each region
+     */
+    @Bean
+    public CacheManager secondLevelCacheManager() {
+        return createCacheManager();
+    }
+
+    /**
+     * Provides a {@link HibernatePropertiesCustomizer} handing the cache manager to the Hibernate region factory and
+     * registering the {@link SoftDeleteCacheEvictor}.
+     *
+     * @param secondLevelCacheManager the cache manager of the second-level cache
+     * @return the customizer of the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(
+                    JpaSettings.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new SoftDeleteCacheEvictor())
+            );
+        };
+    }
+
+    /**
+     * Creates a cache manager with a bounded cache for each region of {@link CacheLimits#REGION_SIZES}.
+     * <p>
+     * The update timestamps of the tables are never evicted, because a query result cached before a missing timestamp
+     * would be considered up to date.
+     *
+     * @return the cache manager with a cache for each region
+     */
+    public static CacheManager createCacheManager() {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager();
+
+        CacheLimits.REGION_SIZES.forEach((region, size) -> {
+            if (cacheManager.getCache(region) != null) return;
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(size));
+            configuration.setExpireAfterWrite(OptionalLong.of(CacheLimits.ENTRY_TTL.toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        });
+
+        if (cacheManager.getCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME) == null) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, configuration);
+        }
+
+        return cacheManager;
+    }
+
+    /**
+     * Limits of the regions of the second-level cache.
+     */
+    public static class CacheLimits {
+
+        /** Maximum time an entry is served from the cache, bounding how long a change of another instance is missed. */
+        public static final Duration ENTRY_TTL = Duration.ofSeconds(30);
+
+        /** Maximum number of entries of each region, keyed by region name. */
+        public static final Map<String, Long> REGION_SIZES = Map.of(
+                Category.class.getName(), 1_000L,
+                Restaurant.class.getName(), 10_000L,
+                Restaurant.class.getName() + ".categories", 10_000L,
+                Address.class.getName(), 10_000L,
+                WeekDayInfo.class.getName(), 70_000L,
+                SittingTime.class.getName(), 200_000L,
+                Dish.class.getName(), 100_000L,
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, 10_000L
+        );
+    }
+}
\ No newline at end of file
@@ -2,22 +2,37 @@ package com.example.foody.controller;
 
 import com.example.foody.dto.request.BookingRequestDTO;
 import com.example.foody.dto.response.BookingResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
+import com.example.foody.dto.response.RestaurantAvailabilityResponseDTO;
+import com.example.foody.dto.response.SeatAvailabilityResponseDTO;
 import com.example.foody.exceptions.booking.BookingNotAllowedException;
 import com.example.foody.exceptions.booking.ForbiddenBookingAccessException;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.exceptions.pagination.InvalidCursorException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
 import com.example.foody.model.user.CustomerUser;
 import com.example.foody.service.BookingService;
+import com.example.foody.service.impl.BookingServiceImpl.AvailabilityLimits;
+import com.example.foody.utils.NdjsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -25,10 +40,12 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/api/v1/bookings")
+@Validated
 @AllArgsConstructor
 public class BookingController {
 
     private final BookingService bookingService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Saves a new booking.
@@ -57,6 +74,33 @@ public class BookingController {
         return ResponseEntity.ok(responseDTOs);
     }
 
+    /**
+     * Retrieves a page of bookings using keyset pagination.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the response entity containing the page of booking response data transfer objects
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @GetMapping(params = {"size", "!stream"})
+    public ResponseEntity<PageResponseDTO<BookingResponseDTO>> getBookingsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size
+    ) throws InvalidCursorException {
+        PageResponseDTO<BookingResponseDTO> page = bookingService.findAll(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Streams all bookings as newline delimited JSON.
+     *
+     * @return the response entity containing the streamed booking response data transfer objects
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamBookings() {
+        return NdjsonUtils.ndjsonResponse(objectMapper, bookingService::streamAll);
+    }
+
     /**
      * Retrieves a booking by its ID.
      *
@@ -117,6 +161,45 @@ public class BookingController {
         return ResponseEntity.ok(responseDTOs);
     }
 
+    /**
+     * Retrieves the free seats of every sitting time of a restaurant over the next days.
+     *
+     * @param restaurantId the restaurant ID
+     * @return the response entity containing the list of seat availability response data transfer objects
+     * @throws EntityNotFoundException if the entity is not found
+     */
+    @GetMapping(path = "/availability/restaurant/{restaurant-id}")
+    public ResponseEntity<List<SeatAvailabilityResponseDTO>> getAvailabilityByRestaurant(
+            @PathVariable("restaurant-id") long restaurantId
+    ) throws EntityNotFoundException {
+        List<SeatAvailabilityResponseDTO> responseDTOs = bookingService.findAvailabilityByRestaurant(restaurantId);
+        return ResponseEntity.ok(responseDTOs);
+    }
+
+    /**
+     * Searches the restaurants having enough free seats in a sitting time starting around a date and time.
+     *
+     * @param date          the date, in ISO format
+     * @param time          the preferred start time, in HH:mm format
+     * @param seats         the number of seats needed
+     * @param windowMinutes the maximum distance, in minutes, between the start of a sitting time and the preferred time
+     * @param categoryId    the ID of the category of the restaurants, or null for any category
+     * @return the response entity containing the list of restaurant availability response data transfer objects
+     */
+    @GetMapping(path = "/availability")
+    public ResponseEntity<List<RestaurantAvailabilityResponseDTO>> searchAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @FutureOrPresent LocalDate date,
+            @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime time,
+            @RequestParam @Min(1) int seats,
+            @RequestParam(name = "window-minutes", defaultValue = "" + AvailabilityLimits.DEFAULT_WINDOW_MINUTES)
+            @Min(0) @Max(AvailabilityLimits.MAX_WINDOW_MINUTES) int windowMinutes,
+            @RequestParam(name = "category-id", required = false) Long categoryId
+    ) {
+        List<RestaurantAvailabilityResponseDTO> responseDTOs =
+                bookingService.searchAvailability(date, time, seats, windowMinutes, categoryId);
+        return ResponseEntity.ok(responseDTOs);
+    }
+
     /**
      * Cancels a booking by its ID.
      *
@@ -3,19 +3,24 @@ package com.example.foody.controller;
 import com.example.foody.dto.request.DishRequestDTO;
 import com.example.foody.dto.request.DishUpdateRequestDTO;
 import com.example.foody.dto.response.DishResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.google_drive.GoogleDriveFileDeleteException;
 import com.example.foody.exceptions.google_drive.GoogleDriveFileUploadException;
+import com.example.foody.exceptions.pagination.InvalidCursorException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
 import com.example.foody.service.DishService;
+import com.example.foody.utils.NdjsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -28,6 +33,7 @@ import java.util.List;
 public class DishController {
 
     private final DishService dishService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Saves a new dish.
@@ -58,6 +64,33 @@ public class DishController {
         return ResponseEntity.ok(dishes);
     }
 
+    /**
+     * Retrieves a page of dishes using keyset pagination.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the response entity containing the page of dish response data transfer objects
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @GetMapping(params = {"size", "!stream"})
+    public ResponseEntity<PageResponseDTO<DishResponseDTO>> getDishesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size
+    ) throws InvalidCursorException {
+        PageResponseDTO<DishResponseDTO> page = dishService.findAll(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Streams all dishes as newline delimited JSON.
+     *
+     * @return the response entity containing the streamed dish response data transfer objects
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamDishes() {
+        return NdjsonUtils.ndjsonResponse(objectMapper, dishService::streamAll);
+    }
+
     /**
      * Retrieves a dish by its ID.
      *
@@ -0,0 +1,78 @@
+package com.example.foody.controller;
+
+import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.service.MediaService;
+import lombok.AllArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Controller for handling media-related requests.
+ */
+@RestController
+@RequestMapping("/api/v1/media")
+@AllArgsConstructor
+public class MediaController {
+
+    private final MediaService mediaService;
+
+    /**
+     * Retrieves an image that is staged and not yet uploaded.
+     * <p>
+     * The content type is detected from the first bytes of the image, since staged images have no extension.
+     *
+     * @param id the ID of the staged image
+     * @return the response entity containing the staged image
+     * @throws EntityNotFoundException if the staged image is not found
+     */
+    @GetMapping("/staged/{id}")
+    public ResponseEntity<Resource> getStagedImage(
+            @PathVariable("id") long id
+    ) throws EntityNotFoundException {
+        Path stagedImage = mediaService.findStagedImage(id);
+        return ResponseEntity.ok()
+                .contentType(detectContentType(stagedImage))
+                .body(new FileSystemResource(stagedImage));
+    }
+
+    /**
+     * Detects the content type of an image from its first bytes.
+     *
+     * @param image the path of the image
+     * @return the content type of the image, or {@link MediaType#APPLICATION_OCTET_STREAM} if it is not recognized
+     */
+    private MediaType detectContentType(Path image) {
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(image))) {
+            // WebP images are RIFF containers, which the JDK takes for WAV audio
+            inputStream.mark(12);
+            byte[] header = inputStream.readNBytes(12);
+            inputStream.reset();
+            if (header.length == 12
+                    && new String(header, 0, 4, StandardCharsets.US_ASCII).equals("RIFF")
+                    && new String(header, 8, 4, StandardCharsets.US_ASCII).equals("WEBP")) {
+                return MediaType.parseMediaType("image/webp");
+            }
+
+            String contentType = URLConnection.guessContentTypeFromStream(inputStream);
+            if (contentType != null && contentType.startsWith("image/")) return MediaType.parseMediaType(contentType);
+        } catch (IOException ignored) {
+            // An unreadable image is served as a generic binary, like an unrecognized one
+        }
+
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+}
\ No newline at end of file
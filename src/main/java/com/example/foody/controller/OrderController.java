@@ -1,7 +1,9 @@
 package com.example.foody.controller;
 
+import com.example.foody.dto.request.OrderBulkTransitionRequestDTO;
 import com.example.foody.dto.request.OrderRequestDTO;
 import com.example.foody.dto.response.OrderResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityEditException;
@@ -9,15 +11,20 @@ import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.order.ForbiddenOrderAccessException;
 import com.example.foody.exceptions.order.InvalidOrderStateException;
 import com.example.foody.exceptions.order.OrderNotAllowedException;
+import com.example.foody.exceptions.pagination.InvalidCursorException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
 import com.example.foody.model.user.User;
 import com.example.foody.service.OrderService;
+import com.example.foody.utils.NdjsonUtils;
+import com.example.foody.utils.kitchen_board.KitchenBoard;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -30,6 +37,7 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Saves a new order.
@@ -59,6 +67,33 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Retrieves a page of orders using keyset pagination.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the response entity containing the page of order response data transfer objects
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @GetMapping(params = {"size", "!stream"})
+    public ResponseEntity<PageResponseDTO<OrderResponseDTO>> getOrdersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size
+    ) throws InvalidCursorException {
+        PageResponseDTO<OrderResponseDTO> page = orderService.findAll(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Streams all orders as newline delimited JSON.
+     *
+     * @return the response entity containing the streamed order response data transfer objects
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamOrders() {
+        return NdjsonUtils.ndjsonResponse(objectMapper, orderService::streamAll);
+    }
+
     /**
      * Retrieves an order by its ID.
      *
@@ -108,7 +143,8 @@ public class OrderController {
      * Retrieves all in-progress orders for a specific restaurant.
      *
      * @param restaurantId the restaurant ID
-     * @return the response entity containing the list of in-progress order response data transfer objects
+     * @return the response entity containing the list of in-progress order response data transfer objects, with the
+     * version of the kitchen board in the {@link KitchenBoard#VERSION_HEADER} header
      * @throws EntityNotFoundException            if the entity is not found
      * @throws ForbiddenRestaurantAccessException if access to the restaurant is forbidden
      */
@@ -116,8 +152,10 @@ public class OrderController {
     public ResponseEntity<List<OrderResponseDTO>> getOrdersByRestaurantAndInProgress(
             @PathVariable("restaurant-id") long restaurantId
     ) throws EntityNotFoundException, ForbiddenRestaurantAccessException {
-        List<OrderResponseDTO> orders = orderService.findAllByRestaurantAndInProgress(restaurantId);
-        return ResponseEntity.ok(orders);
+        KitchenBoard board = orderService.findAllByRestaurantAndInProgress(restaurantId);
+        return ResponseEntity.ok()
+                .header(KitchenBoard.VERSION_HEADER, String.valueOf(board.version()))
+                .body(board.orders());
     }
 
     /**
@@ -175,6 +213,42 @@ public class OrderController {
         return ResponseEntity.ok(orderResponseDTO);
     }
 
+    /**
+     * Prepares several paid orders of a restaurant at once, selected by their IDs or by their table.
+     *
+     * @param restaurantId the restaurant ID
+     * @param requestDTO   the selection of the orders
+     * @return the response entity containing the list of updated order response data transfer objects
+     * @throws ForbiddenRestaurantAccessException if access to the restaurant is forbidden
+     * @throws EntityEditException                if there is an error editing the entities
+     */
+    @PatchMapping(path = "/restaurant/{restaurant-id}/prepare")
+    public ResponseEntity<List<OrderResponseDTO>> prepareOrders(
+            @PathVariable("restaurant-id") long restaurantId,
+            @Valid @RequestBody OrderBulkTransitionRequestDTO requestDTO
+    ) throws ForbiddenRestaurantAccessException, EntityEditException {
+        List<OrderResponseDTO> orders = orderService.prepareAllByRestaurant(restaurantId, requestDTO);
+        return ResponseEntity.ok(orders);
+    }
+
+    /**
+     * Completes several preparing orders of a restaurant at once, selected by their IDs or by their table.
+     *
+     * @param restaurantId the restaurant ID
+     * @param requestDTO   the selection of the orders
+     * @return the response entity containing the list of updated order response data transfer objects
+     * @throws ForbiddenRestaurantAccessException if access to the restaurant is forbidden
+     * @throws EntityEditException                if there is an error editing the entities
+     */
+    @PatchMapping(path = "/restaurant/{restaurant-id}/complete")
+    public ResponseEntity<List<OrderResponseDTO>> completeOrders(
+            @PathVariable("restaurant-id") long restaurantId,
+            @Valid @RequestBody OrderBulkTransitionRequestDTO requestDTO
+    ) throws ForbiddenRestaurantAccessException, EntityEditException {
+        List<OrderResponseDTO> orders = orderService.completeAllByRestaurant(restaurantId, requestDTO);
+        return ResponseEntity.ok(orders);
+    }
+
     /**
      * Removes an order.
      *
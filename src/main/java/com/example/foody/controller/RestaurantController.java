@@ -2,6 +2,8 @@ package com.example.foody.controller;
 
 import com.example.foody.dto.request.RestaurantRequestDTO;
 import com.example.foody.dto.response.DetailedRestaurantResponseDTO;
+import com.example.foody.dto.response.NearbyRestaurantResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.dto.response.RestaurantResponseDTO;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
@@ -9,16 +11,24 @@ import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.google_drive.GoogleDriveFileDeleteException;
 import com.example.foody.exceptions.google_drive.GoogleDriveFileUploadException;
+import com.example.foody.exceptions.pagination.InvalidCursorException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
 import com.example.foody.exceptions.restaurant.RestaurateurAlreadyHasRestaurantException;
 import com.example.foody.model.user.RestaurateurUser;
 import com.example.foody.service.RestaurantService;
+import com.example.foody.service.impl.RestaurantServiceImpl.NearbyLimits;
+import com.example.foody.utils.NdjsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -27,10 +37,12 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/api/v1/restaurants")
+@Validated
 @AllArgsConstructor
 public class RestaurantController {
 
     private final RestaurantService restaurantService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Saves a new restaurant.
@@ -60,6 +72,62 @@ public class RestaurantController {
         return ResponseEntity.ok(restaurants);
     }
 
+    /**
+     * Retrieves a page of restaurants using keyset pagination.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the response entity containing the page of detailed restaurant response data transfer objects
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @GetMapping(params = {"size", "!stream"})
+    public ResponseEntity<PageResponseDTO<DetailedRestaurantResponseDTO>> getRestaurantsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size
+    ) throws InvalidCursorException {
+        PageResponseDTO<DetailedRestaurantResponseDTO> page = restaurantService.findAll(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Streams all restaurants as newline delimited JSON.
+     *
+     * @return the response entity containing the streamed detailed restaurant response data transfer objects
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamRestaurants() {
+        return NdjsonUtils.ndjsonResponse(objectMapper, restaurantService::streamAll);
+    }
+
+    /**
+     * Retrieves a page of the approved restaurants near a position, ordered from the nearest to the farthest.
+     *
+     * @param latitude   the latitude of the position, in degrees
+     * @param longitude  the longitude of the position, in degrees
+     * @param radiusKm   the maximum distance of the restaurants, in kilometers
+     * @param categoryId the ID of the category of the restaurants, or null for any category
+     * @param openNow    whether the restaurants must be in a sitting time now
+     * @param cursor     the cursor returned with the previous page, or null for the first page
+     * @param size       the requested page size
+     * @return the response entity containing the page of nearby restaurant response data transfer objects
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @GetMapping(path = "/nearby")
+    public ResponseEntity<PageResponseDTO<NearbyRestaurantResponseDTO>> getNearbyRestaurants(
+            @RequestParam @DecimalMin("-90") @DecimalMax("90") double latitude,
+            @RequestParam @DecimalMin("-180") @DecimalMax("180") double longitude,
+            @RequestParam(name = "radius-km", defaultValue = "" + NearbyLimits.DEFAULT_RADIUS_KM)
+            @DecimalMin(value = "0", inclusive = false) @DecimalMax("" + NearbyLimits.MAX_RADIUS_KM) double radiusKm,
+            @RequestParam(name = "category-id", required = false) Long categoryId,
+            @RequestParam(name = "open-now", defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + PageResponseDTO.QueryResultLimits.DEFAULT_PAGE_SIZE) int size
+    ) throws InvalidCursorException {
+        PageResponseDTO<NearbyRestaurantResponseDTO> page =
+                restaurantService.findNearby(latitude, longitude, radiusKm, categoryId, openNow, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Retrieves a restaurant by its ID.
      *
@@ -1,20 +1,25 @@
 package com.example.foody.controller;
 
 import com.example.foody.dto.request.ReviewRequestDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.dto.response.ReviewResponseDTO;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.exceptions.pagination.InvalidCursorException;
 import com.example.foody.exceptions.review.ForbiddenReviewAccessException;
 import com.example.foody.exceptions.review.ReviewNotAllowedException;
 import com.example.foody.model.user.User;
 import com.example.foody.service.ReviewService;
+import com.example.foody.utils.NdjsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -27,6 +32,7 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Saves a new review.
@@ -55,6 +61,33 @@ public class ReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    /**
+     * Retrieves a page of reviews using keyset pagination.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the response entity containing the page of review response data transfer objects
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @GetMapping(params = {"size", "!stream"})
+    public ResponseEntity<PageResponseDTO<ReviewResponseDTO>> getReviewsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size
+    ) throws InvalidCursorException {
+        PageResponseDTO<ReviewResponseDTO> page = reviewService.findAll(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Streams all reviews as newline delimited JSON.
+     *
+     * @return the response entity containing the streamed review response data transfer objects
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamReviews() {
+        return NdjsonUtils.ndjsonResponse(objectMapper, reviewService::streamAll);
+    }
+
     /**
      * Retrieves a review by its ID.
      *
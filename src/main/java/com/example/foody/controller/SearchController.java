@@ -0,0 +1,55 @@
+package com.example.foody.controller;
+
+import com.example.foody.dto.response.SearchResultResponseDTO;
+import com.example.foody.exceptions.search.SearchIndexException;
+import com.example.foody.service.SearchService;
+import com.example.foody.service.impl.SearchServiceImpl.SearchLimits;
+import com.example.foody.utils.enums.SearchDocumentType;
+import com.example.foody.utils.validator.value_of_enum.ValueOfEnum;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for handling full-text search requests.
+ */
+@RestController
+@RequestMapping("/api/v1/search")
+@Validated
+@AllArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * Searches the restaurants, dishes and categories matching a text, the last word also matching as a prefix.
+     *
+     * @param query the searched text
+     * @param type  the type of the results, or null for any type
+     * @param limit the maximum number of results
+     * @return the response entity containing the list of search result response data transfer objects
+     * @throws SearchIndexException if the search index cannot be read
+     */
+    @GetMapping
+    public ResponseEntity<List<SearchResultResponseDTO>> search(
+            @RequestParam @NotBlank @Size(max = SearchLimits.MAX_QUERY_LENGTH) String query,
+            @RequestParam(required = false)
+            @ValueOfEnum(enumClass = SearchDocumentType.class, message = "Invalid type value") String type,
+            @RequestParam(defaultValue = "" + SearchLimits.DEFAULT_RESULTS)
+            @Min(1) @Max(SearchLimits.MAX_RESULTS) int limit
+    ) throws SearchIndexException {
+        List<SearchResultResponseDTO> responseDTOs = searchService.search(
+                query,
+                type == null ? null : SearchDocumentType.valueOf(type),
+                limit
+        );
+        return ResponseEntity.ok(responseDTOs);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.example.foody.controller;
+
+import com.example.foody.dto.response.SoftDeleteJobResponseDTO;
+import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.exceptions.soft_delete_job.SoftDeleteJobNotFailedException;
+import com.example.foody.service.SoftDeleteJobService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller for following the progress of the soft delete cascades and retrying the failed ones.
+ */
+@RestController
+@RequestMapping("/api/v1/soft-delete-jobs")
+@AllArgsConstructor
+public class SoftDeleteJobController {
+
+    private final SoftDeleteJobService softDeleteJobService;
+
+    /**
+     * Retrieves the cascades that are still pending or have failed.
+     *
+     * @return the response entity containing the list of soft delete cascade response data transfer objects
+     */
+    @GetMapping
+    public ResponseEntity<List<SoftDeleteJobResponseDTO>> getUncompletedSoftDeleteJobs() {
+        List<SoftDeleteJobResponseDTO> responseDTOs = softDeleteJobService.findAllUncompleted();
+        return ResponseEntity.ok(responseDTOs);
+    }
+
+    /**
+     * Retrieves a cascade by its ID.
+     *
+     * @param id the ID of the cascade
+     * @return the response entity containing the soft delete cascade response data transfer object
+     * @throws EntityNotFoundException if the cascade is not found
+     */
+    @GetMapping(path = "/{id}")
+    public ResponseEntity<SoftDeleteJobResponseDTO> getSoftDeleteJobById(@PathVariable long id)
+            throws EntityNotFoundException {
+        SoftDeleteJobResponseDTO responseDTO = softDeleteJobService.findById(id);
+        return ResponseEntity.ok(responseDTO);
+    }
+
+    /**
+     * Retries a cascade that failed too many times.
+     *
+     * @param id the ID of the cascade
+     * @return the response entity containing the soft delete cascade response data transfer object
+     * @throws EntityNotFoundException         if the cascade is not found
+     * @throws SoftDeleteJobNotFailedException if the cascade has not failed
+     */
+    @PatchMapping(path = "/retry/{id}")
+    public ResponseEntity<SoftDeleteJobResponseDTO> retrySoftDeleteJob(@PathVariable long id)
+            throws EntityNotFoundException, SoftDeleteJobNotFailedException {
+        SoftDeleteJobResponseDTO responseDTO = softDeleteJobService.retry(id);
+        return ResponseEntity.ok(responseDTO);
+    }
+}
\ No newline at end of file
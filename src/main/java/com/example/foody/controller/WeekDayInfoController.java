@@ -2,6 +2,7 @@ package com.example.foody.controller;
 
 import com.example.foody.dto.request.WeekDayInfoRequestDTO;
 import com.example.foody.dto.request.WeekDayInfoUpdateRequestDTO;
+import com.example.foody.dto.request.WeekDayInfoWeekRequestDTO;
 import com.example.foody.dto.response.WeekDayInfoResponseDTO;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
@@ -86,4 +87,23 @@ public class WeekDayInfoController {
         WeekDayInfoResponseDTO responseDTO = weekDayInfoService.update(id, weekDayInfoUpdateRequestDTO);
         return ResponseEntity.ok(responseDTO);
     }
+
+    /**
+     * Updates the week day infos of several week days of a restaurant at once.
+     *
+     * @param restaurantId              the restaurant ID
+     * @param weekDayInfoWeekRequestDTO the week update request data transfer object
+     * @return the response entity containing the list of updated week day info response data transfer objects
+     * @throws EntityNotFoundException            if the entity is not found
+     * @throws ForbiddenRestaurantAccessException if access to the restaurant is forbidden
+     */
+    @PutMapping(path = "/restaurant/{restaurant-id}")
+    public ResponseEntity<List<WeekDayInfoResponseDTO>> updateWeekDayInfosByRestaurant(
+            @PathVariable("restaurant-id") long restaurantId,
+            @Valid @RequestBody WeekDayInfoWeekRequestDTO weekDayInfoWeekRequestDTO
+    ) throws EntityNotFoundException, ForbiddenRestaurantAccessException {
+        List<WeekDayInfoResponseDTO> responseDTOs =
+                weekDayInfoService.updateWeek(restaurantId, weekDayInfoWeekRequestDTO);
+        return ResponseEntity.ok(responseDTOs);
+    }
 }
\ No newline at end of file
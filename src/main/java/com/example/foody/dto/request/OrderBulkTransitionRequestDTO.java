@@ -0,0 +1,39 @@
+package com.example.foody.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for requests changing the status of several orders of a restaurant at once.
+ * <p>
+ * The orders are selected either by their IDs or by the code of their table.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBulkTransitionRequestDTO {
+
+    @Size(max = 100, message = "orderIds cannot contain more than 100 IDs")
+    private List<@NotNull @Positive Long> orderIds = new ArrayList<>();
+
+    @Size(min = 1, max = 10, message = "tableCode cannot be less than 1 character or more than 10 characters long")
+    private String tableCode;
+
+    /**
+     * Checks that the orders are selected either by their IDs or by the code of their table, but not both.
+     *
+     * @return true if exactly one of the selections is given, false otherwise
+     */
+    @JsonIgnore
+    @AssertTrue(message = "exactly one of orderIds and tableCode must be given")
+    public boolean isSelectionValid() {
+        boolean byIds = orderIds != null && !orderIds.isEmpty();
+        return byIds != (tableCode != null);
+    }
+}
\ No newline at end of file
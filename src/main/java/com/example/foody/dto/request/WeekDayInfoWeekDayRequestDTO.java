@@ -0,0 +1,24 @@
+package com.example.foody.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the week day information of a single week day in week update requests.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeekDayInfoWeekDayRequestDTO extends WeekDayInfoUpdateRequestDTO {
+
+    @NotNull(message = "weekDay cannot be null")
+    @Min(value = 1, message = "weekDay cannot be less than 1")
+    @Max(value = 7, message = "weekDay cannot be greater than 7")
+    private Integer weekDay;
+}
\ No newline at end of file
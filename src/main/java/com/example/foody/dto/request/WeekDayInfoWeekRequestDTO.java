@@ -0,0 +1,47 @@
+package com.example.foody.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object for requests updating the week day information of several week days of a restaurant at once.
+ * <p>
+ * Week days that are not included are left unchanged.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeekDayInfoWeekRequestDTO {
+
+    @NotEmpty(message = "weekDayInfos cannot be empty")
+    @Size(max = 7, message = "weekDayInfos cannot contain more than 7 week days")
+    private List<@NotNull @Valid WeekDayInfoWeekDayRequestDTO> weekDayInfos = new ArrayList<>();
+
+    /**
+     * Checks that every week day is included at most once.
+     *
+     * @return true if the week days are distinct, false otherwise
+     */
+    @JsonIgnore
+    @AssertTrue(message = "weekDayInfos cannot contain the same weekDay more than once")
+    public boolean isWeekDaysDistinct() {
+        if (weekDayInfos == null) return true;
+
+        List<Integer> weekDays = weekDayInfos.stream()
+                .filter(Objects::nonNull)
+                .map(WeekDayInfoWeekDayRequestDTO::getWeekDay)
+                .toList();
+        return weekDays.stream().distinct().count() == weekDays.size();
+    }
+}
\ No newline at end of file
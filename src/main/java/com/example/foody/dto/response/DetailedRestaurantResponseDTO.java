@@ -22,6 +22,16 @@ public class DetailedRestaurantResponseDTO extends RestaurantResponseDTO {
     @JsonSerialize(using = RoundedDoubleSerializer.class)
     private double averageRating;
 
+    /**
+     * The number of active reviews of the restaurant, including the reviews of its dishes.
+     */
+    private int ratingCount;
+
+    /**
+     * The number of active reviews of each rating, from 1 to 5 stars.
+     */
+    private List<Integer> ratingHistogram = new ArrayList<>();
+
     /**
      * List of sitting times, first SITTING_TIMES_LIMIT ordered by start time after now.
      */
@@ -0,0 +1,25 @@
+package com.example.foody.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a restaurant found near a position.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyRestaurantResponseDTO {
+
+    private long id;
+    private String name;
+    private String city;
+    private double latitude;
+    private double longitude;
+
+    /**
+     * Distance, in kilometers, between the searched position and the address of the restaurant.
+     */
+    private double distanceKm;
+}
\ No newline at end of file
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,4 +37,8 @@ public class OrderResponseDTO {
     private RestaurantResponseDTO restaurant;
 
     private String status;
+
+    private BigDecimal totalAmount;
+
+    private int itemCount;
 }
\ No newline at end of file
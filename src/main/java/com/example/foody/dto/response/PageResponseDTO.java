@@ -0,0 +1,37 @@
+package com.example.foody.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a page of a keyset paginated list.
+ *
+ * @param <T> the type of the page elements
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponseDTO<T> {
+
+    private List<T> content = new ArrayList<>();
+
+    /**
+     * Cursor to pass to get the next page, null if this is the last page.
+     */
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    /**
+     * Query result limits for the page size and for the chunks of streamed lists.
+     */
+    public static class QueryResultLimits {
+        public static final int DEFAULT_PAGE_SIZE = 20;
+        public static final int MAX_PAGE_SIZE = 100;
+        public static final int STREAM_BATCH_SIZE = 100;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.foody.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the sitting times of a restaurant having enough free seats for a search.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantAvailabilityResponseDTO {
+
+    private long restaurantId;
+
+    private String restaurantName;
+
+    private List<SeatAvailabilityResponseDTO> sittingTimes = new ArrayList<>();
+}
\ No newline at end of file
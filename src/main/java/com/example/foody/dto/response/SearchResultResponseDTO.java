@@ -0,0 +1,24 @@
+package com.example.foody.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a restaurant, dish or category matching a full-text search.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultResponseDTO {
+
+    private String type;
+
+    private long id;
+
+    private Long restaurantId;
+
+    private String name;
+
+    private float score;
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.foody.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Data Transfer Object for the free seats of a sitting time on a specific date.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAvailabilityResponseDTO {
+
+    private LocalDate date;
+
+    private long sittingTimeId;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime start;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime end;
+
+    private int freeSeats;
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.example.foody.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for soft delete cascade response, reporting its progress.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SoftDeleteJobResponseDTO {
+    private long id;
+    private String entityType;
+    private long entityId;
+    private String status;
+    private int completedSteps;
+    private int totalSteps;
+    private long deletedRows;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
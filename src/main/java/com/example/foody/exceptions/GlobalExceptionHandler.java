@@ -7,15 +7,20 @@ import com.example.foody.exceptions.entity.*;
 import com.example.foody.exceptions.firebase.FirebaseCustomTokenCreationException;
 import com.example.foody.exceptions.google_drive.GoogleDriveFileDeleteException;
 import com.example.foody.exceptions.google_drive.GoogleDriveFileUploadException;
+import com.example.foody.exceptions.media.MediaStagingException;
 import com.example.foody.exceptions.order.ForbiddenOrderAccessException;
 import com.example.foody.exceptions.order.InvalidOrderStateException;
 import com.example.foody.exceptions.order.OrderNotAllowedException;
+import com.example.foody.exceptions.order.OrderStateConflictException;
+import com.example.foody.exceptions.pagination.InvalidCursorException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
 import com.example.foody.exceptions.restaurant.RestaurateurAlreadyHasRestaurantException;
 import com.example.foody.exceptions.review.ForbiddenReviewAccessException;
 import com.example.foody.exceptions.review.ReviewNotAllowedException;
+import com.example.foody.exceptions.search.SearchIndexException;
 import com.example.foody.exceptions.sitting_time.InvalidWeekDayException;
 import com.example.foody.exceptions.sitting_time.SittingTimeOverlappingException;
+import com.example.foody.exceptions.soft_delete_job.SoftDeleteJobNotFailedException;
 import com.example.foody.exceptions.user.InvalidPasswordException;
 import com.example.foody.exceptions.user.UserNotActiveException;
 import com.example.foody.utils.enums.CustomHttpStatus;
@@ -26,6 +31,7 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -141,7 +147,9 @@ public class GlobalExceptionHandler {
             InvalidBookingSittingTimeException.class,
             OrderNotAllowedException.class,
             InvalidOrderStateException.class,
-            ReviewNotAllowedException.class
+            ReviewNotAllowedException.class,
+            InvalidCursorException.class,
+            SoftDeleteJobNotFailedException.class
     })
     public ResponseEntity<ErrorDTO> handleBadRequestException(
             RuntimeException exception,
@@ -236,7 +244,10 @@ public class GlobalExceptionHandler {
     @ExceptionHandler({
             EntityDuplicateException.class,
             RestaurateurAlreadyHasRestaurantException.class,
-            DuplicateActiveFutureBookingException.class
+            DuplicateActiveFutureBookingException.class,
+            OrderStateConflictException.class,
+            BookingStateConflictException.class,
+            OptimisticLockingFailureException.class
     })
     public ResponseEntity<ErrorDTO> handleConflictException(
             RuntimeException exception,
@@ -288,6 +299,8 @@ public class GlobalExceptionHandler {
             EntityDeletionException.class,
             GoogleDriveFileUploadException.class,
             GoogleDriveFileDeleteException.class,
+            MediaStagingException.class,
+            SearchIndexException.class,
             EmailSendingException.class,
             FirebaseCustomTokenCreationException.class
     })
@@ -0,0 +1,19 @@
+package com.example.foody.exceptions.booking;
+
+/**
+ * Exception thrown when the status of a booking was changed concurrently by another request.
+ * <p>
+ * Extends {@link InvalidBookingStateException}, since the transition is no longer allowed, but is reported as a conflict.
+ */
+public class BookingStateConflictException extends InvalidBookingStateException {
+
+    /**
+     * Constructs a new BookingStateConflictException for the specified booking and status.
+     *
+     * @param id     the ID of the booking
+     * @param status the status the booking was changed to concurrently
+     */
+    public BookingStateConflictException(long id, String status) {
+        super(String.format("Booking with id %d was changed concurrently and is already %s.", id, status));
+    }
+}
\ No newline at end of file
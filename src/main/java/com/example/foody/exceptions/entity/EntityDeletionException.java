@@ -5,6 +5,15 @@ package com.example.foody.exceptions.entity;
  */
 public class EntityDeletionException extends RuntimeException {
 
+    /**
+     * Constructs a new EntityDeletionException with a formatted message indicating the name of the objects that failed to be deleted.
+     *
+     * @param objectName the name of the objects that failed to be deleted
+     */
+    public EntityDeletionException(String objectName) {
+        super(String.format("There was an error while trying to delete these %s.", objectName));
+    }
+
     /**
      * Constructs a new EntityDeletionException with a formatted message indicating the object name, property name, and value that caused the deletion error.
      *
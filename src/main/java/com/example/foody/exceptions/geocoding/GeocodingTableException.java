@@ -0,0 +1,16 @@
+package com.example.foody.exceptions.geocoding;
+
+/**
+ * Exception thrown when the table of the postal code centroids used for geocoding cannot be read.
+ */
+public class GeocodingTableException extends RuntimeException {
+
+    /**
+     * Constructs a new GeocodingTableException with a message containing the path of the table.
+     *
+     * @param path the classpath location of the table
+     */
+    public GeocodingTableException(String path) {
+        super(String.format("Reading the postal code centroids from %s failed.", path));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.foody.exceptions.media;
+
+import com.example.foody.utils.enums.GoogleDriveFileType;
+
+/**
+ * Exception thrown when there is an error staging an image before its upload.
+ */
+public class MediaStagingException extends RuntimeException {
+
+    /**
+     * Constructs a new MediaStagingException with a formatted message indicating the file type that could not be staged.
+     *
+     * @param fileType the type of the file that failed to be staged
+     */
+    public MediaStagingException(GoogleDriveFileType fileType) {
+        super(String.format("Staging the %s file for upload failed.", fileType.name().toLowerCase()));
+    }
+}
\ No newline at end of file
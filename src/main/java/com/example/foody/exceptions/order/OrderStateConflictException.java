@@ -0,0 +1,19 @@
+package com.example.foody.exceptions.order;
+
+/**
+ * Exception thrown when the status of an order was changed concurrently by another request.
+ * <p>
+ * Extends {@link InvalidOrderStateException}, since the transition is no longer allowed, but is reported as a conflict.
+ */
+public class OrderStateConflictException extends InvalidOrderStateException {
+
+    /**
+     * Constructs a new OrderStateConflictException for the specified order and status.
+     *
+     * @param id     the ID of the order
+     * @param status the status the order was changed to concurrently
+     */
+    public OrderStateConflictException(long id, String status) {
+        super(String.format("Order with id %d was changed concurrently and is already %s.", id, status));
+    }
+}
\ No newline at end of file
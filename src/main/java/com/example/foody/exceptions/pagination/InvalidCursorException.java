@@ -0,0 +1,16 @@
+package com.example.foody.exceptions.pagination;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidCursorException with a detail message containing the invalid cursor.
+     *
+     * @param cursor the invalid cursor
+     */
+    public InvalidCursorException(String cursor) {
+        super(String.format("Invalid pagination cursor: %s.", cursor));
+    }
+}
\ No newline at end of file
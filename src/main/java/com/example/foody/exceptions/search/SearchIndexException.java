@@ -0,0 +1,14 @@
+package com.example.foody.exceptions.search;
+
+/**
+ * Exception thrown when the full-text search index cannot be read.
+ */
+public class SearchIndexException extends RuntimeException {
+
+    /**
+     * Constructs a new SearchIndexException with a message indicating that the search failed.
+     */
+    public SearchIndexException() {
+        super("Reading the search index failed.");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.foody.exceptions.soft_delete_job;
+
+import com.example.foody.utils.enums.SoftDeleteJobStatus;
+
+/**
+ * Exception thrown when a soft delete cascade that has not failed is retried.
+ */
+public class SoftDeleteJobNotFailedException extends RuntimeException {
+
+    /**
+     * Constructs a new SoftDeleteJobNotFailedException for the specified cascade and status.
+     *
+     * @param id     the ID of the cascade
+     * @param status the current status of the cascade
+     */
+    public SoftDeleteJobNotFailedException(long id, SoftDeleteJobStatus status) {
+        super(String.format("Soft delete job with id %d is %s, only failed jobs can be retried.", id, status));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.example.foody.helper;
+
+import com.example.foody.dto.response.RestaurantAvailabilityResponseDTO;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Interface for searching the free seats of all the approved restaurants from memory.
+ */
+public interface AvailabilityIndexHelper {
+
+    /**
+     * Retrieves the approved restaurants having enough free seats in at least one sitting time of a date, starting
+     * between two times, both included.
+     *
+     * @param date       the date
+     * @param from       the earliest start time of the sitting times
+     * @param to         the latest start time of the sitting times
+     * @param seats      the number of seats needed
+     * @param categoryId the ID of the category of the restaurants, or null for any category
+     * @return the restaurants with their sitting times having enough free seats, ordered by restaurant ID and start
+     * time
+     */
+    List<RestaurantAvailabilityResponseDTO> findAvailableRestaurants(
+            LocalDate date,
+            LocalTime from,
+            LocalTime to,
+            int seats,
+            Long categoryId
+    );
+
+    /**
+     * Adds booked seats to a sitting time of a date, or removes them if negative.
+     * <p>
+     * If a transaction is active, the change is applied once it commits, and discarded if it rolls back.
+     *
+     * @param date          the date
+     * @param sittingTimeId the ID of the sitting time
+     * @param seats         the number of booked seats to add
+     */
+    void addBookedSeats(LocalDate date, long sittingTimeId, int seats);
+
+    /**
+     * Discards the booked seats of a date kept in memory, once the active transaction commits, so they are read again
+     * from the seat ledger.
+     *
+     * @param date the date
+     */
+    void evictDate(LocalDate date);
+
+    /**
+     * Discards the approved restaurants kept in memory, once the active transaction commits, so they are read again
+     * after a change of their approval, seats, name or categories.
+     */
+    void evictRestaurants();
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.foody.helper;
+
+import com.example.foody.model.user.User;
+
+/**
+ * Helper interface for managing the lifecycle of the users' Firebase custom tokens.
+ */
+public interface FirebaseTokenHelper {
+
+    /**
+     * Retrieves a valid Firebase custom token for the given user, creating a new one only if needed.
+     *
+     * @param user the user
+     * @return the Firebase custom token, or null if the user is null
+     */
+    String getCustomToken(User user);
+
+    /**
+     * Refreshes the cached Firebase custom tokens that are about to expire and evicts the idle ones.
+     */
+    void refreshExpiringTokens();
+}
\ No newline at end of file
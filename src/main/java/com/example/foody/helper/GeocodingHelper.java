@@ -0,0 +1,17 @@
+package com.example.foody.helper;
+
+import com.example.foody.model.Address;
+
+/**
+ * Interface for geocoding addresses offline.
+ */
+public interface GeocodingHelper {
+
+    /**
+     * Sets the coordinates of an address from the centroid of its postal code, or of its province if the postal code
+     * is unknown. The coordinates are cleared if neither is known.
+     *
+     * @param address the address to geocode
+     */
+    void geocode(Address address);
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.example.foody.helper;
+
+/**
+ * Interface for keeping the identifier sequences of the entities ahead of their stored identifiers.
+ */
+public interface IdSequenceHelper {
+
+    /**
+     * Moves every identifier sequence past the highest identifier stored in its table, so that identifiers assigned
+     * before the entities were generated from sequences are never reused.
+     *
+     * @return the number of aligned sequences
+     */
+    int alignSequences();
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.example.foody.helper;
+
+import com.example.foody.dto.response.OrderResponseDTO;
+import com.example.foody.utils.kitchen_board.KitchenBoard;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface for keeping the in-progress orders of each restaurant in memory and publishing their changes.
+ */
+public interface KitchenBoardHelper {
+
+    /**
+     * Retrieves the kitchen board of a restaurant, if it is loaded in memory.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the kitchen board, or empty if it is not loaded
+     */
+    Optional<KitchenBoard> findBoard(long restaurantId);
+
+    /**
+     * Loads the kitchen board of a restaurant from the database and keeps it in memory.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the kitchen board
+     */
+    KitchenBoard loadBoard(long restaurantId);
+
+    /**
+     * Applies a change of an order to the kitchen board of its restaurant and publishes it to the WebSocket topic of
+     * the new status of the order.
+     * <p>
+     * If a transaction is active, the change is applied once it commits, and discarded if it rolls back.
+     *
+     * @param restaurantId the ID of the restaurant of the order
+     * @param order        the changed order
+     */
+    void applyOrderChange(long restaurantId, OrderResponseDTO order);
+
+    /**
+     * Applies changes of several orders of a restaurant to its kitchen board as a single new version, and publishes
+     * them together.
+     * <p>
+     * If a transaction is active, the changes are applied once it commits, and discarded if it rolls back.
+     *
+     * @param restaurantId the ID of the restaurant of the orders
+     * @param orders       the changed orders
+     */
+    void applyOrderChanges(long restaurantId, List<OrderResponseDTO> orders);
+
+    /**
+     * Removes a deleted order from the kitchen board of its restaurant.
+     * <p>
+     * If a transaction is active, the order is removed once it commits, and kept if it rolls back.
+     *
+     * @param restaurantId the ID of the restaurant of the order
+     * @param orderId      the ID of the deleted order
+     */
+    void removeOrder(long restaurantId, long orderId);
+
+    /**
+     * Removes the in-progress orders of a deleted buyer from the kitchen boards of their restaurants.
+     * <p>
+     * The orders are read when called, so this must be called before they are deleted. If a transaction is active,
+     * the orders are removed once it commits, and kept if it rolls back.
+     *
+     * @param buyerId the ID of the buyer
+     */
+    void removeBuyerOrders(long buyerId);
+
+    /**
+     * Evicts the kitchen board of a deleted restaurant from memory.
+     * <p>
+     * If a transaction is active, the board is evicted once it commits, and kept if it rolls back.
+     *
+     * @param restaurantId the ID of the restaurant
+     */
+    void evictBoard(long restaurantId);
+}
\ No newline at end of file
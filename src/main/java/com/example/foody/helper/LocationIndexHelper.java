@@ -0,0 +1,41 @@
+package com.example.foody.helper;
+
+import com.example.foody.dto.response.NearbyRestaurantResponseDTO;
+import com.example.foody.utils.location_index.DistanceCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Interface for searching the approved restaurants near a position from memory.
+ */
+public interface LocationIndexHelper {
+
+    /**
+     * Retrieves the approved restaurants nearest to a position, within a radius, after a cursor.
+     *
+     * @param latitude   the latitude of the position, in degrees
+     * @param longitude  the longitude of the position, in degrees
+     * @param radiusKm   the maximum distance of the restaurants, in kilometers
+     * @param categoryId the ID of the category of the restaurants, or null for any category
+     * @param openAt     the date and time at which the restaurants must be in a sitting time, or null for any time
+     * @param after      the position of the last restaurant of the previous page
+     * @param limit      the maximum number of results
+     * @return the restaurants ordered by distance and ID
+     */
+    List<NearbyRestaurantResponseDTO> findNearest(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            Long categoryId,
+            LocalDateTime openAt,
+            DistanceCursor after,
+            int limit
+    );
+
+    /**
+     * Discards the approved restaurants kept in memory, once the active transaction commits, so they are read again
+     * after a change of their approval, name, address or categories.
+     */
+    void evictRestaurants();
+}
\ No newline at end of file
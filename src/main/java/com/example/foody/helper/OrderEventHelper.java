@@ -0,0 +1,36 @@
+package com.example.foody.helper;
+
+import com.example.foody.utils.kitchen_board.OrderEvent;
+
+import java.util.List;
+
+/**
+ * Interface for publishing the events of the orders to the WebSocket topics.
+ */
+public interface OrderEventHelper {
+
+    /**
+     * Queues an event for the next publication to a topic.
+     * <p>
+     * An event replaces the queued event of the same order on the same topic.
+     *
+     * @param destination the destination of the topic
+     * @param event       the event to publish
+     */
+    void enqueue(String destination, OrderEvent event);
+
+    /**
+     * Queues several events for the next publication to a topic, so they are published in the same message.
+     *
+     * @param destination the destination of the topic
+     * @param events      the events to publish
+     */
+    void enqueueAll(String destination, List<OrderEvent> events);
+
+    /**
+     * Publishes the queued events, as one message per topic.
+     *
+     * @return the number of published messages
+     */
+    int flush();
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.example.foody.helper;
+
+import com.example.foody.dto.response.PageResponseDTO;
+import com.example.foody.utils.pagination.KeysetCursor;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Helper interface for building keyset paginated and streamed lists of DTOs.
+ */
+public interface PaginationHelper {
+
+    /**
+     * Normalizes a requested page size into the allowed range.
+     *
+     * @param size the requested page size
+     * @return the page size to use
+     */
+    int getPageSize(int size);
+
+    /**
+     * Builds a {@link PageResponseDTO} from the entities fetched for a page.
+     * <p>
+     * The entities must have been fetched with a limit of {@code pageSize + 1}, the extra entity only tells whether
+     * there is a next page.
+     *
+     * @param entities    the entities fetched for the page
+     * @param pageSize    the page size
+     * @param cursorOf    the function extracting the keyset cursor of an entity
+     * @param dtosBuilder the function converting the entities to DTOs
+     * @param <E>         the entity type
+     * @param <D>         the DTO type
+     * @return the constructed {@link PageResponseDTO}
+     */
+    <E, D> PageResponseDTO<D> buildPageResponseDTO(
+            List<E> entities,
+            int pageSize,
+            Function<E, KeysetCursor> cursorOf,
+            Function<List<E>, List<D>> dtosBuilder
+    );
+
+    /**
+     * Converts a stream of entities to DTOs in fixed-size batches, passing each DTO to the consumer.
+     * <p>
+     * The persistence context is cleared after each batch, so memory usage does not depend on the stream size.
+     * The stream is closed at the end.
+     *
+     * @param entities    the stream of entities
+     * @param dtosBuilder the function converting a batch of entities to DTOs
+     * @param consumer    the consumer of the DTOs
+     * @param <E>         the entity type
+     * @param <D>         the DTO type
+     */
+    <E, D> void streamInBatches(
+            Stream<E> entities,
+            Function<List<E>, List<D>> dtosBuilder,
+            Consumer<D> consumer
+    );
+}
\ No newline at end of file
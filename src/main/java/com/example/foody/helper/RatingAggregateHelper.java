@@ -0,0 +1,46 @@
+package com.example.foody.helper;
+
+import com.example.foody.model.Review;
+
+/**
+ * Interface for keeping the rating aggregates of the restaurants and dishes up to date with their reviews.
+ */
+public interface RatingAggregateHelper {
+
+    /**
+     * Adds the rating of a new review to the aggregates of its restaurant and dish.
+     *
+     * @param review the saved review
+     */
+    void addReview(Review review);
+
+    /**
+     * Removes the rating of a deleted review from the aggregates of its restaurant and dish.
+     *
+     * @param review the deleted review
+     */
+    void removeReview(Review review);
+
+    /**
+     * Removes the ratings of the active reviews of a dish from the aggregate of its restaurant, before the reviews are
+     * deleted along with the dish.
+     *
+     * @param dishId the ID of the dish
+     */
+    void removeDishReviews(long dishId);
+
+    /**
+     * Removes the ratings of the active reviews of a customer from the aggregates of the rated restaurants and dishes,
+     * before the reviews are deleted along with the customer.
+     *
+     * @param customerId the ID of the customer
+     */
+    void removeCustomerReviews(long customerId);
+
+    /**
+     * Recomputes the aggregates that differ from the active reviews.
+     *
+     * @return the number of corrected restaurants and dishes
+     */
+    int reconcile();
+}
\ No newline at end of file
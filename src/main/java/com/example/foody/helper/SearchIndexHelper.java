@@ -0,0 +1,81 @@
+package com.example.foody.helper;
+
+import com.example.foody.dto.response.SearchResultResponseDTO;
+import com.example.foody.model.Category;
+import com.example.foody.model.Dish;
+import com.example.foody.model.Restaurant;
+import com.example.foody.utils.enums.SearchDocumentType;
+
+import java.util.List;
+
+/**
+ * Interface for searching the approved restaurants, their dishes and the categories by their text.
+ */
+public interface SearchIndexHelper {
+
+    /**
+     * Searches the restaurants, dishes and categories matching all the words of a text, the last word also matching as
+     * a prefix.
+     *
+     * @param text  the searched text
+     * @param type  the type of the results, or null for any type
+     * @param limit the maximum number of results
+     * @return the results, ordered by relevance
+     */
+    List<SearchResultResponseDTO> search(String text, SearchDocumentType type, int limit);
+
+    /**
+     * Indexes a restaurant together with its dishes, replacing them in the index, or removes them if the restaurant
+     * is not approved or is deleted.
+     * <p>
+     * If a transaction is active, the change is applied once it commits, and discarded if it rolls back.
+     *
+     * @param restaurant the restaurant
+     */
+    void indexRestaurant(Restaurant restaurant);
+
+    /**
+     * Removes a restaurant and its dishes from the index.
+     * <p>
+     * If a transaction is active, the change is applied once it commits, and discarded if it rolls back.
+     *
+     * @param restaurantId the ID of the restaurant
+     */
+    void removeRestaurant(long restaurantId);
+
+    /**
+     * Indexes a dish, replacing it in the index, if its restaurant is approved.
+     * <p>
+     * If a transaction is active, the change is applied once it commits, and discarded if it rolls back.
+     *
+     * @param dish the dish
+     */
+    void indexDish(Dish dish);
+
+    /**
+     * Removes a dish from the index.
+     * <p>
+     * If a transaction is active, the change is applied once it commits, and discarded if it rolls back.
+     *
+     * @param dishId the ID of the dish
+     */
+    void removeDish(long dishId);
+
+    /**
+     * Indexes a category, replacing it in the index.
+     * <p>
+     * If a transaction is active, the change is applied once it commits, and discarded if it rolls back.
+     *
+     * @param category the category
+     */
+    void indexCategory(Category category);
+
+    /**
+     * Removes a category from the index.
+     * <p>
+     * If a transaction is active, the change is applied once it commits, and discarded if it rolls back.
+     *
+     * @param categoryId the ID of the category
+     */
+    void removeCategory(long categoryId);
+}
\ No newline at end of file
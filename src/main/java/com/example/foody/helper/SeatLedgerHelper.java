@@ -0,0 +1,47 @@
+package com.example.foody.helper;
+
+import com.example.foody.model.Booking;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interface for keeping track of the seats booked for each sitting time.
+ */
+public interface SeatLedgerHelper {
+
+    /**
+     * Reserves the seats of a booking, if the restaurant has enough free seats for its sitting time.
+     *
+     * @param booking the booking
+     * @return true if the seats were reserved, false if there are not enough free seats
+     */
+    boolean reserveSeats(Booking booking);
+
+    /**
+     * Releases the seats of a booking.
+     *
+     * @param booking the booking
+     */
+    void releaseSeats(Booking booking);
+
+    /**
+     * Releases all the seats booked for the given sitting times, on every date.
+     *
+     * @param sittingTimeIds the IDs of the sitting times
+     */
+    void releaseSittingTimes(List<Long> sittingTimeIds);
+
+    /**
+     * Retrieves the booked seats of each sitting time of a restaurant between two dates, both included.
+     * <p>
+     * Sitting times without bookings are not included in the result.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param from         the first date
+     * @param to           the last date
+     * @return the booked seats, keyed by date and then by sitting time ID
+     */
+    Map<LocalDate, Map<Long, Integer>> findBookedSeats(long restaurantId, LocalDate from, LocalDate to);
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.example.foody.helper;
+
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interface for reading the weekly sitting times of restaurants from memory.
+ */
+public interface SittingTimeCalendarHelper {
+
+    /**
+     * Retrieves all the sitting times of a restaurant.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the sitting times, ordered by week day and start time
+     */
+    List<SittingTimeSlot> findSlots(long restaurantId);
+
+    /**
+     * Retrieves the sitting times of a restaurant for a week day.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param weekDay      the week day, from 1 (Monday) to 7 (Sunday)
+     * @return the sitting times, ordered by start time
+     */
+    List<SittingTimeSlot> findSlots(long restaurantId, int weekDay);
+
+    /**
+     * Retrieves the sitting times of the given restaurants for a week day, starting after the given time, limited to a
+     * specified number of results per restaurant.
+     *
+     * @param restaurantIds the IDs of the restaurants
+     * @param weekDay       the week day, from 1 (Monday) to 7 (Sunday)
+     * @param time          the time after which the sitting times start
+     * @param limit         the maximum number of results for each restaurant
+     * @return the sitting times ordered by start time, keyed by restaurant ID
+     */
+    Map<Long, List<SittingTimeSlot>> findSlotsStartingAfter(
+            List<Long> restaurantIds,
+            int weekDay,
+            LocalTime time,
+            int limit
+    );
+
+    /**
+     * Retrieves the sitting times of the given restaurants for a week day, starting between two times, both included.
+     *
+     * @param restaurantIds the IDs of the restaurants
+     * @param weekDay       the week day, from 1 (Monday) to 7 (Sunday)
+     * @param from          the earliest start time
+     * @param to            the latest start time
+     * @return the sitting times ordered by start time, keyed by restaurant ID
+     */
+    Map<Long, List<SittingTimeSlot>> findSlotsStartingBetween(
+            List<Long> restaurantIds,
+            int weekDay,
+            LocalTime from,
+            LocalTime to
+    );
+
+    /**
+     * Discards the sitting times of a restaurant kept in memory, once the active transaction commits, so they are
+     * read again after a change of its schedule.
+     *
+     * @param restaurantId the ID of the restaurant
+     */
+    void evict(long restaurantId);
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.example.foody.helper;
+
+import com.example.foody.model.DefaultEntity;
+import com.example.foody.model.SoftDeleteJob;
+
+import java.time.LocalDateTime;
+
+/**
+ * Interface for cascading the soft delete of an entity to the entities that descend from it.
+ * <p>
+ * The cascade follows the removal cascades of the entity model, one table at a time, instead of loading the
+ * descending entities.
+ */
+public interface SoftDeleteHelper {
+
+    /**
+     * Marks as deleted the active entities descending from a deleted entity, with the deletion timestamp of the entity.
+     * <p>
+     * Small cascades are completed in the current transaction, large ones are left pending and completed with
+     * {@link #runBatch(SoftDeleteJob)}.
+     *
+     * @param entityType the type of the deleted entity
+     * @param entityId   the ID of the deleted entity
+     * @param deletedAt  the deletion timestamp of the deleted entity
+     * @return the saved cascade, either completed or pending
+     */
+    SoftDeleteJob deleteDescendants(Class<? extends DefaultEntity> entityType, long entityId, LocalDateTime deletedAt);
+
+    /**
+     * Runs the next batch of a pending cascade in its own transaction, together with the update of its progress.
+     * <p>
+     * The progress is saved against the version of the given cascade, so the batch is rolled back if the cascade was
+     * changed in the meantime.
+     *
+     * @param softDeleteJob the pending cascade
+     * @return the saved cascade, to be given to the next batch
+     */
+    SoftDeleteJob runBatch(SoftDeleteJob softDeleteJob);
+}
\ No newline at end of file
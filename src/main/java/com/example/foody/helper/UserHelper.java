@@ -18,6 +18,17 @@ public interface UserHelper {
      */
     UserResponseDTO buildUserResponseDTO(User user);
 
+    /**
+     * Builds a {@link UserResponseDTO} from a given {@link User}, optionally without the Firebase custom token.
+     * <p>
+     * Skipping the token avoids any token lookup when the caller does not need it.
+     *
+     * @param user                       the User object to convert
+     * @param includeFirebaseCustomToken whether to include the Firebase custom token of the user
+     * @return the constructed {@link UserResponseDTO}
+     */
+    UserResponseDTO buildUserResponseDTO(User user, boolean includeFirebaseCustomToken);
+
     /**
      * Builds a list of {@link UserResponseDTO} objects from a given list of {@link User} objects.
      *
@@ -25,4 +36,14 @@ public interface UserHelper {
      * @return the list of constructed {@link UserResponseDTO} objects
      */
     List<UserResponseDTO> buildUserResponseDTOs(List<? extends User> users);
+
+    /**
+     * Builds a list of {@link UserResponseDTO} objects from a given list of {@link User} objects, optionally without
+     * the Firebase custom tokens.
+     *
+     * @param users                      the list of User objects to convert
+     * @param includeFirebaseCustomToken whether to include the Firebase custom tokens of the users
+     * @return the list of constructed {@link UserResponseDTO} objects
+     */
+    List<UserResponseDTO> buildUserResponseDTOs(List<? extends User> users, boolean includeFirebaseCustomToken);
 }
\ No newline at end of file
@@ -0,0 +1,218 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.dto.response.RestaurantAvailabilityResponseDTO;
+import com.example.foody.dto.response.SeatAvailabilityResponseDTO;
+import com.example.foody.helper.AvailabilityIndexHelper;
+import com.example.foody.helper.SittingTimeCalendarHelper;
+import com.example.foody.repository.RestaurantRepository;
+import com.example.foody.repository.SeatLedgerRepository;
+import com.example.foody.utils.GuardedCache;
+import com.example.foody.utils.TransactionUtils;
+import com.example.foody.utils.availability_index.RestaurantCapacity;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the {@link AvailabilityIndexHelper} interface.
+ * <p>
+ * Keeps in memory the names, seats and categories of the approved restaurants, and the booked seats of each sitting
+ * time for up to {@link #MAX_DATES} searched dates. The sitting times of a week day are taken from the weekly calendars
+ * of the {@link SittingTimeCalendarHelper}, which keeps one per restaurant and evicts it when its schedule changes. A
+ * search only reads the database for the restaurants, a date or the calendars that are not in memory yet.
+ * <p>
+ * Every committed reservation or release updates the booked seats of its date in place, so the index follows the seat
+ * ledger without reading it again. The booked seats of past dates are discarded when a new date is read.
+ * <p>
+ * The index only guides the search: a booking is still checked against the seat ledger when it is saved.
+ */
+@Component
+@AllArgsConstructor
+public class AvailabilityIndexHelperImpl implements AvailabilityIndexHelper {
+
+    /**
+     * Maximum number of dates whose booked seats are kept in memory.
+     */
+    public static final int MAX_DATES = 366;
+
+    private final RestaurantRepository restaurantRepository;
+    private final SeatLedgerRepository seatLedgerRepository;
+    private final SittingTimeCalendarHelper sittingTimeCalendarHelper;
+
+    private final GuardedCache<Boolean, RestaurantIndex> restaurantIndexes = new GuardedCache<>(1);
+    private final GuardedCache<LocalDate, Map<Long, Integer>> bookedSeatsByDate = new GuardedCache<>(MAX_DATES);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Restaurants with fewer seats than needed are skipped before their sitting times are read.
+     *
+     * @param date       the date
+     * @param from       the earliest start time of the sitting times
+     * @param to         the latest start time of the sitting times
+     * @param seats      the number of seats needed
+     * @param categoryId the ID of the category of the restaurants, or null for any category
+     * @return the restaurants with their sitting times having enough free seats, ordered by restaurant ID and start
+     * time
+     */
+    @Override
+    public List<RestaurantAvailabilityResponseDTO> findAvailableRestaurants(
+            LocalDate date,
+            LocalTime from,
+            LocalTime to,
+            int seats,
+            Long categoryId
+    ) {
+        RestaurantIndex restaurants = findRestaurantIndex();
+        List<Long> restaurantIds = restaurants.restaurantIds(categoryId, seats);
+        if (restaurantIds.isEmpty()) return List.of();
+
+        Map<Long, Integer> bookedSeats = findBookedSeats(date);
+        Map<Long, List<SittingTimeSlot>> slotsByRestaurant = sittingTimeCalendarHelper
+                .findSlotsStartingBetween(restaurantIds, date.getDayOfWeek().getValue(), from, to);
+
+        List<RestaurantAvailabilityResponseDTO> availabilities = new ArrayList<>();
+        for (long restaurantId : restaurantIds) {
+            List<SittingTimeSlot> slots = slotsByRestaurant.get(restaurantId);
+            if (slots == null) continue;
+
+            IndexedRestaurant restaurant = restaurants.restaurant(restaurantId);
+            List<SeatAvailabilityResponseDTO> sittingTimes = new ArrayList<>();
+            for (SittingTimeSlot slot : slots) {
+                int freeSeats = restaurant.seats() - bookedSeats.getOrDefault(slot.id(), 0);
+                if (freeSeats < seats) continue;
+
+                sittingTimes.add(new SeatAvailabilityResponseDTO(date, slot.id(), slot.start(), slot.end(), freeSeats));
+            }
+            if (sittingTimes.isEmpty()) continue;
+
+            availabilities.add(new RestaurantAvailabilityResponseDTO(restaurantId, restaurant.name(), sittingTimes));
+        }
+
+        return availabilities;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param date          the date
+     * @param sittingTimeId the ID of the sitting time
+     * @param seats         the number of booked seats to add
+     */
+    @Override
+    public void addBookedSeats(LocalDate date, long sittingTimeId, int seats) {
+        TransactionUtils.afterCommit(() -> {
+            Map<Long, Integer> bookedSeats = bookedSeatsByDate.countChange(date);
+            if (bookedSeats != null) bookedSeats.merge(sittingTimeId, seats, Integer::sum);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param date the date
+     */
+    @Override
+    public void evictDate(LocalDate date) {
+        TransactionUtils.afterCommit(() -> bookedSeatsByDate.evict(date));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evictRestaurants() {
+        TransactionUtils.afterCommit(() -> restaurantIndexes.evict(true));
+    }
+
+    /**
+     * Retrieves the approved restaurants, reading them from the database if they are not in memory.
+     *
+     * @return the index of the approved restaurants
+     */
+    private RestaurantIndex findRestaurantIndex() {
+        return restaurantIndexes.load(
+                true,
+                () -> new RestaurantIndex(restaurantRepository.findCapacitiesByApproved(true))
+        );
+    }
+
+    /**
+     * Retrieves the booked seats of each sitting time of a date, reading them from the seat ledger if they are not in
+     * memory. The booked seats of past dates are discarded first.
+     *
+     * @param date the date
+     * @return the booked seats, keyed by sitting time ID
+     */
+    private Map<Long, Integer> findBookedSeats(LocalDate date) {
+        Map<Long, Integer> bookedSeats = bookedSeatsByDate.get(date);
+        if (bookedSeats != null) return bookedSeats;
+
+        LocalDate today = LocalDate.now();
+        bookedSeatsByDate.evictIf((loadedDate, loadedSeats) -> loadedDate.isBefore(today));
+
+        return bookedSeatsByDate.load(date, () -> {
+            Map<Long, Integer> loaded = new ConcurrentHashMap<>();
+            seatLedgerRepository.findAllById_Date(date)
+                    .forEach(entry -> loaded.put(entry.getId().getSittingTimeId(), entry.getBookedSeats()));
+            return loaded;
+        });
+    }
+
+    /**
+     * Seats and name of an approved restaurant.
+     *
+     * @param name  the name of the restaurant
+     * @param seats the seats of the restaurant
+     */
+    private record IndexedRestaurant(String name, int seats) {
+    }
+
+    /**
+     * Immutable index of the approved restaurants, by ID and by category.
+     */
+    private static class RestaurantIndex {
+
+        private final Map<Long, IndexedRestaurant> restaurants = new TreeMap<>();
+        private final Map<Long, List<Long>> restaurantIdsByCategory = new HashMap<>();
+
+        /**
+         * Constructs an index holding the given restaurants.
+         *
+         * @param capacities the capacities of the restaurants, one for each of their categories
+         */
+        RestaurantIndex(List<RestaurantCapacity> capacities) {
+            capacities.forEach(capacity -> {
+                restaurants.putIfAbsent(
+                        capacity.restaurantId(),
+                        new IndexedRestaurant(capacity.name(), capacity.seats())
+                );
+                if (capacity.categoryId() == null) return;
+
+                restaurantIdsByCategory
+                        .computeIfAbsent(capacity.categoryId(), categoryId -> new ArrayList<>())
+                        .add(capacity.restaurantId());
+            });
+            restaurantIdsByCategory.values().forEach(Collections::sort);
+        }
+
+        IndexedRestaurant restaurant(long restaurantId) {
+            return restaurants.get(restaurantId);
+        }
+
+        List<Long> restaurantIds(Long categoryId, int seats) {
+            Collection<Long> restaurantIds = categoryId == null
+                    ? restaurants.keySet()
+                    : restaurantIdsByCategory.getOrDefault(categoryId, List.of());
+
+            return restaurantIds.stream()
+                    .filter(restaurantId -> restaurants.get(restaurantId).seats() >= seats)
+                    .toList();
+        }
+    }
+}
\ No newline at end of file
@@ -4,7 +4,6 @@ import com.example.foody.dto.response.DishResponseDTO;
 import com.example.foody.helper.DishHelper;
 import com.example.foody.mapper.DishMapper;
 import com.example.foody.model.Dish;
-import com.example.foody.repository.ReviewRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -19,20 +18,19 @@ import java.util.List;
 @AllArgsConstructor
 public class DishHelperImpl implements DishHelper {
 
-    private final ReviewRepository reviewRepository;
     private final DishMapper dishMapper;
 
     /**
      * {@inheritDoc}
      * <p>
-     * Calculates the average rating for the dish and maps it to a {@link DishResponseDTO}.
+     * Reads the average rating from the rating aggregate of the dish and maps it to a {@link DishResponseDTO}.
      *
      * @param dish the Dish object to convert
      * @return the constructed {@link DishResponseDTO}
      */
     @Override
     public DishResponseDTO buildDishResponseDTO(Dish dish) {
-        double averageRating = reviewRepository.findAverageRatingByDish_Id(dish.getId());
+        double averageRating = dish.getRatingAggregate().getAverageRating();
         return dishMapper.dishToDishResponseDTO(dish, averageRating);
     }
 
@@ -50,4 +48,5 @@ public class DishHelperImpl implements DishHelper {
                 .map(this::buildDishResponseDTO)
                 .toList();
     }
+
 }
\ No newline at end of file
@@ -0,0 +1,198 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.exceptions.entity.EntityEditException;
+import com.example.foody.exceptions.firebase.FirebaseCustomTokenCreationException;
+import com.example.foody.helper.FirebaseTokenHelper;
+import com.example.foody.model.user.User;
+import com.example.foody.repository.UserRepository;
+import com.example.foody.service.FirebaseService;
+import com.example.foody.utils.FirebaseTokenUtils;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the {@link FirebaseTokenHelper} interface.
+ * <p>
+ * Keeps the Firebase custom token of each recently used user in memory together with its expiration date, which is
+ * decoded locally from the token. A scheduled task refreshes the cached tokens before they expire, so mapping users
+ * never calls Firebase while their tokens are cached.
+ */
+@Component
+@AllArgsConstructor
+public class FirebaseTokenHelperImpl implements FirebaseTokenHelper {
+
+    private final FirebaseService firebaseService;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final Map<Long, CachedToken> cachedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The token is taken from the cache, then from the user itself, and a new one is created only if both are
+     * missing or expired. New tokens are set on the user, so a managed user is saved with its next flush, while a
+     * detached user is saved with a bulk update.
+     *
+     * @param user the user
+     * @return the Firebase custom token, or null if the user is null
+     * @throws FirebaseCustomTokenCreationException if there is an error during the creation of the token
+     * @throws EntityEditException                  if there is an error saving the token to the user
+     */
+    @Override
+    public String getCustomToken(User user) {
+        if (user == null) {
+            return null;
+        }
+
+        Instant now = Instant.now();
+        CachedToken cachedToken = cachedTokens.get(user.getId());
+
+        if (cachedToken != null && cachedToken.isUsableAt(now)) {
+            cachedToken.setLastAccessedAt(now);
+            return cachedToken.getToken();
+        }
+
+        String storedToken = user.getFirebaseCustomToken();
+        Optional<Instant> storedTokenExpiration = FirebaseTokenUtils.getExpiration(storedToken);
+
+        if (storedTokenExpiration.isPresent()) {
+            cachedToken = new CachedToken(user.getId(), user.getEmail(), storedToken, storedTokenExpiration.get(), now);
+            if (cachedToken.isUsableAt(now)) {
+                cachedTokens.put(user.getId(), cachedToken);
+                return storedToken;
+            }
+        }
+
+        String customToken = createAndCacheCustomToken(user.getId(), user.getEmail(), now);
+        if (!entityManager.contains(user)) {
+            saveCustomToken(user.getId(), customToken);
+        }
+        user.setFirebaseCustomToken(customToken);
+        return customToken;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Tokens that have not been used for {@link TokenLifecycle#IDLE_TIMEOUT} are evicted instead of refreshed.
+     * Tokens that cannot be refreshed stay cached until they expire, so the refresh is retried on the next run.
+     */
+    @Override
+    @Scheduled(fixedDelayString = TokenLifecycle.REFRESH_INTERVAL_MILLIS)
+    public void refreshExpiringTokens() {
+        Instant now = Instant.now();
+
+        cachedTokens.values().removeIf(cachedToken ->
+                cachedToken.getLastAccessedAt().plus(TokenLifecycle.IDLE_TIMEOUT).isBefore(now)
+                        || !cachedToken.getExpiresAt().isAfter(now)
+        );
+
+        cachedTokens.values().stream()
+                .filter(cachedToken -> cachedToken.getExpiresAt().isBefore(now.plus(TokenLifecycle.REFRESH_MARGIN)))
+                .toList()
+                .forEach(cachedToken -> {
+                    try {
+                        String customToken = createAndCacheCustomToken(
+                                cachedToken.getUserId(),
+                                cachedToken.getUid(),
+                                cachedToken.getLastAccessedAt()
+                        );
+                        saveCustomToken(cachedToken.getUserId(), customToken);
+                    } catch (RuntimeException ignored) {
+                        // Retried on the next run while the current token is still valid
+                    }
+                });
+    }
+
+    /**
+     * Creates a new Firebase custom token and caches it.
+     *
+     * @param userId         the ID of the user
+     * @param uid            the Firebase user ID, which is the email of the user
+     * @param lastAccessedAt the last time the token of the user was used
+     * @return the new Firebase custom token
+     * @throws FirebaseCustomTokenCreationException if there is an error during the creation of the token
+     */
+    private String createAndCacheCustomToken(long userId, String uid, Instant lastAccessedAt) {
+        Instant now = Instant.now();
+        String customToken = firebaseService.createCustomToken(uid);
+
+        Instant expiresAt = FirebaseTokenUtils.getExpiration(customToken)
+                .orElse(now.plus(TokenLifecycle.DEFAULT_VALIDITY));
+        cachedTokens.put(userId, new CachedToken(userId, uid, customToken, expiresAt, lastAccessedAt));
+
+        return customToken;
+    }
+
+    /**
+     * Saves a Firebase custom token to a user that is not managed by the current persistence context.
+     *
+     * @param userId      the ID of the user
+     * @param customToken the Firebase custom token
+     * @throws EntityEditException if there is an error saving the token to the user
+     */
+    private void saveCustomToken(long userId, String customToken) {
+        try {
+            userRepository.updateFirebaseCustomTokenById(userId, customToken);
+        } catch (Exception e) {
+            throw new EntityEditException("user", "id", userId);
+        }
+    }
+
+    /**
+     * Cached Firebase custom token of a user.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class CachedToken {
+
+        private final long userId;
+        private final String uid;
+        private final String token;
+        private final Instant expiresAt;
+
+        @Setter
+        private volatile Instant lastAccessedAt;
+
+        /**
+         * Checks if the token can still be handed out to a client at the given instant.
+         *
+         * @param instant the instant to check
+         * @return true if the token does not expire within {@link TokenLifecycle#MIN_REMAINING_VALIDITY}
+         */
+        private boolean isUsableAt(Instant instant) {
+            return expiresAt.isAfter(instant.plus(TokenLifecycle.MIN_REMAINING_VALIDITY));
+        }
+    }
+
+    /**
+     * Durations driving the lifecycle of the cached tokens.
+     */
+    public static class TokenLifecycle {
+
+        /** Validity of a Firebase custom token, used when it cannot be decoded from the token. */
+        public static final Duration DEFAULT_VALIDITY = Duration.ofHours(1);
+
+        /** Minimum validity left for a token to be handed out to a client. */
+        public static final Duration MIN_REMAINING_VALIDITY = Duration.ofMinutes(1);
+
+        /** Validity left under which cached tokens are refreshed in the background. */
+        public static final Duration REFRESH_MARGIN = Duration.ofMinutes(10);
+
+        /** Time without use after which cached tokens are evicted instead of refreshed. */
+        public static final Duration IDLE_TIMEOUT = Duration.ofHours(1);
+
+        /** Interval between two runs of the background refresh, in milliseconds. */
+        public static final String REFRESH_INTERVAL_MILLIS = "60000";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.exceptions.geocoding.GeocodingTableException;
+import com.example.foody.helper.GeocodingHelper;
+import com.example.foody.model.Address;
+import com.example.foody.utils.geocoding.Centroid;
+import com.example.foody.utils.geocoding.CentroidTable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Implementation of the {@link GeocodingHelper} interface.
+ * <p>
+ * Geocodes addresses from the {@link CentroidTable} of the postal codes bundled with the application, read once at
+ * startup, so saving an address never calls a geocoding service. Addresses saved before the coordinates were
+ * introduced are geocoded once by the V10 migration, from the same table.
+ */
+@Component
+public class GeocodingHelperImpl implements GeocodingHelper {
+
+    private final CentroidTable centroidTable;
+
+    /**
+     * Constructs the helper and reads the table of the centroids.
+     *
+     * @throws GeocodingTableException if the table cannot be read
+     */
+    public GeocodingHelperImpl() {
+        this(CentroidTable.read());
+    }
+
+    /**
+     * Constructs the helper over the given table of the centroids.
+     *
+     * @param centroidTable the table of the centroids
+     */
+    public GeocodingHelperImpl(CentroidTable centroidTable) {
+        this.centroidTable = centroidTable;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param address the address to geocode
+     */
+    @Override
+    public void geocode(Address address) {
+        Centroid centroid = centroidTable.find(address.getPostalCode(), address.getProvince()).orElse(null);
+
+        address.setLatitude(centroid == null ? null : centroid.latitude());
+        address.setLongitude(centroid == null ? null : centroid.longitude());
+    }
+}
\ No newline at end of file
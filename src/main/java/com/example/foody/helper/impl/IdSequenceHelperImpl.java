@@ -0,0 +1,75 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.helper.IdSequenceHelper;
+import com.example.foody.model.DefaultEntity;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Implementation of the {@link IdSequenceHelper} interface.
+ * <p>
+ * The sequence of each entity is named after its table with the {@link SequenceNames#SUFFIX} suffix. Sequences are
+ * aligned once all the beans are created, before the application accepts requests or runs scheduled tasks, so no
+ * entity can draw an identifier that is already stored. Sequences only move forward, so aligning them again is
+ * harmless.
+ */
+@Component
+@AllArgsConstructor
+public class IdSequenceHelperImpl implements IdSequenceHelper, SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each sequence is moved a whole allocation past the highest identifier, since the pooled optimizer hands out the
+     * block of identifiers preceding the value it reads.
+     *
+     * @return the number of aligned sequences
+     */
+    @Override
+    public int alignSequences() {
+        List<String> sequences = jdbcTemplate.queryForList(
+                "SELECT table_name FROM information_schema.tables " +
+                        "WHERE table_schema = DATABASE() AND table_type = 'SEQUENCE'",
+                String.class
+        );
+
+        int aligned = 0;
+        for (String sequence : sequences) {
+            if (!sequence.endsWith(SequenceNames.SUFFIX)) continue;
+
+            String table = sequence.substring(0, sequence.length() - SequenceNames.SUFFIX.length());
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            if (maxId == null) continue;
+
+            jdbcTemplate.queryForList(
+                    "SELECT SETVAL(" + sequence + ", " + (maxId + DefaultEntity.ID_ALLOCATION_SIZE) + ")"
+            );
+            aligned++;
+        }
+
+        return aligned;
+    }
+
+    /**
+     * Aligns the sequences once all the beans are created.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        alignSequences();
+    }
+
+    /**
+     * Naming convention of the identifier sequences.
+     */
+    public static class SequenceNames {
+
+        /** Suffix appended to the table name of an entity to name its sequence. */
+        public static final String SUFFIX = "_seq";
+    }
+}
\ No newline at end of file
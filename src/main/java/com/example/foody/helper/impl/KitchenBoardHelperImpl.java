@@ -0,0 +1,319 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.dto.response.OrderResponseDTO;
+import com.example.foody.helper.KitchenBoardHelper;
+import com.example.foody.helper.OrderEventHelper;
+import com.example.foody.mapper.OrderMapper;
+import com.example.foody.model.Order;
+import com.example.foody.repository.OrderRepository;
+import com.example.foody.utils.GuardedCache;
+import com.example.foody.utils.TransactionUtils;
+import com.example.foody.utils.enums.OrderStatus;
+import com.example.foody.utils.enums.WebSocketTopics;
+import com.example.foody.utils.kitchen_board.KitchenBoard;
+import com.example.foody.utils.kitchen_board.OrderEvent;
+import jakarta.transaction.Transactional;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the {@link KitchenBoardHelper} interface.
+ * <p>
+ * Keeps the paid and preparing orders of each restaurant in memory, so kitchen screens are served without reading the
+ * database. Boards are built at startup and loaded on demand for restaurants without in-progress orders at that time.
+ * <p>
+ * Every committed change of an order increases the version of the board of its restaurant and is queued as an
+ * {@link OrderEvent} for the WebSocket topic of its new status. Changes are applied and queued under the lock of the
+ * board, so each topic sees increasing versions. Boards are held in a {@link GuardedCache}, so a board read while an
+ * order of its restaurant changed is served once and read again on the next request.
+ * <p>
+ * At most {@link BoardLimits#MAX_BOARDS} boards are kept. Boards not read for {@link BoardLimits#IDLE_TTL} are
+ * evicted, and loaded again on the next request, and the boards of deleted restaurants are evicted right away.
+ */
+@Component
+@AllArgsConstructor
+public class KitchenBoardHelperImpl implements KitchenBoardHelper {
+
+    private static final List<String> IN_PROGRESS_STATUSES = List.of(OrderStatus.PAID.name(), OrderStatus.PREPARING.name());
+
+    private static final Comparator<OrderResponseDTO> MOST_RECENT_FIRST = Comparator
+            .comparing(OrderResponseDTO::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(OrderResponseDTO::getId, Comparator.reverseOrder());
+
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final OrderEventHelper orderEventHelper;
+
+    private final GuardedCache<Long, Board> boards = new GuardedCache<>(BoardLimits.MAX_BOARDS);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the kitchen board, or empty if it is not loaded
+     */
+    @Override
+    public Optional<KitchenBoard> findBoard(long restaurantId) {
+        return Optional.ofNullable(boards.get(restaurantId))
+                .map(Board::read);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If a change of the restaurant is applied or the board is evicted while it is read, or if
+     * {@link BoardLimits#MAX_BOARDS} boards are already kept, the board is returned without being kept, and the next
+     * request loads it again.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the kitchen board
+     */
+    @Override
+    public KitchenBoard loadBoard(long restaurantId) {
+        return boards.load(restaurantId, () -> new Board(orderMapper.ordersToOrderResponseDTOs(
+                orderRepository.findAllByRestaurant_IdAndStatusInOrderByCreatedAtDesc(restaurantId, IN_PROGRESS_STATUSES)
+        ))).read();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Orders that are neither paid nor preparing are removed from the board. Orders that were just created are not
+     * published, since the kitchen does not handle them yet.
+     *
+     * @param restaurantId the ID of the restaurant of the order
+     * @param order        the changed order
+     */
+    @Override
+    public void applyOrderChange(long restaurantId, OrderResponseDTO order) {
+        applyOrderChanges(restaurantId, List.of(order));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Orders that are neither paid nor preparing are removed from the board. Orders that were just created are not
+     * published, since the kitchen does not handle them yet.
+     *
+     * @param restaurantId the ID of the restaurant of the orders
+     * @param orders       the changed orders
+     */
+    @Override
+    public void applyOrderChanges(long restaurantId, List<OrderResponseDTO> orders) {
+        List<OrderResponseDTO> changedOrders = orders.stream()
+                .filter(order -> !OrderStatus.CREATED.name().equals(order.getStatus()))
+                .toList();
+        if (changedOrders.isEmpty()) return;
+
+        TransactionUtils.afterCommit(() -> apply(restaurantId, changedOrders));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The removal increases the version of the board, but is not published, since no topic carries deleted orders.
+     *
+     * @param restaurantId the ID of the restaurant of the order
+     * @param orderId      the ID of the deleted order
+     */
+    @Override
+    public void removeOrder(long restaurantId, long orderId) {
+        TransactionUtils.afterCommit(() -> {
+            Board board = boards.countChange(restaurantId);
+            if (board == null) return;
+
+            synchronized (board) {
+                board.remove(orderId);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param buyerId the ID of the buyer
+     */
+    @Override
+    public void removeBuyerOrders(long buyerId) {
+        orderRepository.findAllByBuyer_IdAndStatusIn(buyerId, IN_PROGRESS_STATUSES)
+                .forEach(order -> removeOrder(order.getRestaurant().getId(), order.getId()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The eviction counts as a change of the restaurant, so a board read concurrently is not kept either.
+     *
+     * @param restaurantId the ID of the restaurant
+     */
+    @Override
+    public void evictBoard(long restaurantId) {
+        TransactionUtils.afterCommit(() -> boards.evict(restaurantId));
+    }
+
+    /**
+     * Evicts the boards that were not read for {@link BoardLimits#IDLE_TTL}.
+     */
+    @Scheduled(fixedDelayString = BoardLimits.EVICTION_INTERVAL_MILLIS)
+    public void evictIdleBoards() {
+        Instant readBefore = Instant.now().minus(BoardLimits.IDLE_TTL);
+        boards.evictIf((restaurantId, board) -> board.lastReadAt.isBefore(readBefore));
+    }
+
+    /**
+     * Builds the boards of the restaurants with in-progress orders once the application is ready, up to
+     * {@link BoardLimits#MAX_BOARDS}.
+     * <p>
+     * Boards loaded or changed in the meantime are kept, and nothing is built if any change was applied while the
+     * orders were read.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeBoards() {
+        boards.preload(() -> {
+            Map<Long, List<Order>> ordersByRestaurant = orderRepository
+                    .findAllByStatusInOrderByCreatedAtDesc(IN_PROGRESS_STATUSES)
+                    .stream()
+                    .collect(Collectors.groupingBy(order -> order.getRestaurant().getId()));
+
+            Map<Long, Board> loaded = new HashMap<>();
+            ordersByRestaurant.forEach((restaurantId, orders) ->
+                    loaded.put(restaurantId, new Board(orderMapper.ordersToOrderResponseDTOs(orders)))
+            );
+            return loaded;
+        });
+    }
+
+    /**
+     * Applies committed changes of orders to the board of their restaurant, if loaded, as a single new version, and
+     * publishes them.
+     *
+     * @param restaurantId the ID of the restaurant of the orders
+     * @param orders       the changed orders
+     */
+    private void apply(long restaurantId, List<OrderResponseDTO> orders) {
+        Board board = boards.countChange(restaurantId);
+        if (board == null) {
+            publish(restaurantId, orders, 0);
+            return;
+        }
+
+        synchronized (board) {
+            board.apply(orders);
+            publish(restaurantId, orders, board.snapshot.version());
+        }
+    }
+
+    /**
+     * Queues the events of changes of orders for the WebSocket topics of their new statuses.
+     * <p>
+     * The events of each topic are queued together, so they are published in the same message.
+     *
+     * @param restaurantId the ID of the restaurant of the orders
+     * @param orders       the changed orders
+     * @param version      the version of the board after the changes, or 0 if the board is not loaded
+     */
+    private void publish(long restaurantId, List<OrderResponseDTO> orders, long version) {
+        Map<WebSocketTopics, List<OrderEvent>> eventsByTopic = new EnumMap<>(WebSocketTopics.class);
+        orders.forEach(order -> {
+            WebSocketTopics topic = switch (OrderStatus.valueOf(order.getStatus())) {
+                case PAID -> WebSocketTopics.TOPIC_ORDERS_PAYED;
+                case PREPARING -> WebSocketTopics.TOPIC_ORDERS_PREPARING;
+                case COMPLETED -> WebSocketTopics.TOPIC_ORDERS_COMPLETED;
+                default -> null;
+            };
+            if (topic == null) return;
+
+            eventsByTopic.computeIfAbsent(topic, key -> new ArrayList<>()).add(OrderEvent.of(order, version));
+        });
+
+        eventsByTopic.forEach((topic, events) -> orderEventHelper.enqueueAll(topic.getName() + restaurantId, events));
+    }
+
+    /**
+     * Mutable board of a restaurant, publishing an immutable snapshot after every change.
+     */
+    private static class Board {
+
+        private final Map<Long, OrderResponseDTO> orders = new HashMap<>();
+        private volatile KitchenBoard snapshot;
+        private volatile Instant lastReadAt = Instant.now();
+
+        /**
+         * Constructs a board holding the given orders, at version 0.
+         *
+         * @param orders the in-progress orders
+         */
+        Board(List<OrderResponseDTO> orders) {
+            orders.forEach(order -> this.orders.put(order.getId(), order));
+            this.snapshot = new KitchenBoard(0, sortedOrders());
+        }
+
+        /**
+         * Adds, replaces or removes orders, depending on whether they are still in progress, and publishes the next
+         * snapshot.
+         *
+         * @param changedOrders the changed orders
+         */
+        void apply(List<OrderResponseDTO> changedOrders) {
+            changedOrders.forEach(order -> {
+                if (IN_PROGRESS_STATUSES.contains(order.getStatus())) {
+                    orders.put(order.getId(), order);
+                } else {
+                    orders.remove(order.getId());
+                }
+            });
+            snapshot = new KitchenBoard(snapshot.version() + 1, sortedOrders());
+        }
+
+        /**
+         * Removes an order and publishes the next snapshot.
+         *
+         * @param orderId the ID of the removed order
+         */
+        void remove(long orderId) {
+            orders.remove(orderId);
+            snapshot = new KitchenBoard(snapshot.version() + 1, sortedOrders());
+        }
+
+        /**
+         * Retrieves the current snapshot, recording the read so the board is not evicted as idle.
+         *
+         * @return the current snapshot
+         */
+        KitchenBoard read() {
+            lastReadAt = Instant.now();
+            return snapshot;
+        }
+
+        private List<OrderResponseDTO> sortedOrders() {
+            return orders.values()
+                    .stream()
+                    .sorted(MOST_RECENT_FIRST)
+                    .toList();
+        }
+    }
+
+    /**
+     * Limits of the kitchen boards kept in memory.
+     */
+    public static class BoardLimits {
+
+        /** Maximum number of boards kept; the boards of further restaurants are read on every request. */
+        public static final int MAX_BOARDS = 1000;
+
+        /** Time after which a board that was not read is evicted. */
+        public static final Duration IDLE_TTL = Duration.ofMinutes(30);
+
+        /** Interval between two evictions of the idle boards, in milliseconds. */
+        public static final String EVICTION_INTERVAL_MILLIS = "300000";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,338 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.dto.response.NearbyRestaurantResponseDTO;
+import com.example.foody.helper.LocationIndexHelper;
+import com.example.foody.helper.SittingTimeCalendarHelper;
+import com.example.foody.repository.RestaurantRepository;
+import com.example.foody.utils.GuardedCache;
+import com.example.foody.utils.TransactionUtils;
+import com.example.foody.utils.location_index.DistanceCursor;
+import com.example.foody.utils.location_index.RestaurantLocation;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Implementation of the {@link LocationIndexHelper} interface.
+ * <p>
+ * Keeps the geocoded approved restaurants in memory, in a grid of cells of {@link IndexLimits#CELL_DEGREES} degrees
+ * of latitude and longitude. A search visits the rings of cells around the cell of the searched position, from the
+ * nearest, and stops once no restaurant of the next ring can be within the radius or nearer than the farthest result
+ * found. The restaurants are read from the database with a single query the first time they are needed, and discarded
+ * whenever one of them is approved, changed or removed.
+ * <p>
+ * The "open now" filter only checks the candidates of the visited rings, against their weekly calendars in the
+ * {@link SittingTimeCalendarHelper}.
+ */
+@Component
+@AllArgsConstructor
+public class LocationIndexHelperImpl implements LocationIndexHelper {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final RestaurantRepository restaurantRepository;
+    private final SittingTimeCalendarHelper sittingTimeCalendarHelper;
+
+    private final GuardedCache<Boolean, LocationIndex> locationIndexes = new GuardedCache<>(1);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The sitting times of the "open now" filter are read once for all the candidates of each ring of cells.
+     *
+     * @param latitude   the latitude of the position, in degrees
+     * @param longitude  the longitude of the position, in degrees
+     * @param radiusKm   the maximum distance of the restaurants, in kilometers
+     * @param categoryId the ID of the category of the restaurants, or null for any category
+     * @param openAt     the date and time at which the restaurants must be in a sitting time, or null for any time
+     * @param after      the position of the last restaurant of the previous page
+     * @param limit      the maximum number of results
+     * @return the restaurants ordered by distance and ID
+     */
+    @Override
+    public List<NearbyRestaurantResponseDTO> findNearest(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            Long categoryId,
+            LocalDateTime openAt,
+            DistanceCursor after,
+            int limit
+    ) {
+        LocationIndex index = findLocationIndex();
+        if (index.isEmpty() || limit < 1) return List.of();
+
+        Comparator<NearbyRestaurantResponseDTO> nearestFirst = Comparator
+                .comparingDouble(NearbyRestaurantResponseDTO::getDistanceKm)
+                .thenComparingLong(NearbyRestaurantResponseDTO::getId);
+        List<NearbyRestaurantResponseDTO> nearest = new ArrayList<>();
+
+        int latitudeCell = cell(latitude);
+        int longitudeCell = cell(longitude);
+        int lastRing = index.lastRing(latitudeCell, longitudeCell);
+
+        for (int ring = 0; ring <= lastRing; ring++) {
+            double ringDistanceKm = ringDistanceKm(latitude, ring);
+            if (ringDistanceKm > radiusKm) break;
+            if (nearest.size() >= limit && ringDistanceKm > nearest.getLast().getDistanceKm()) break;
+
+            List<NearbyRestaurantResponseDTO> candidates = new ArrayList<>();
+            for (IndexedRestaurant restaurant : index.ring(latitudeCell, longitudeCell, ring)) {
+                if (categoryId != null && !restaurant.categoryIds().contains(categoryId)) continue;
+
+                double distanceKm = distanceKm(latitude, longitude, restaurant.latitude(), restaurant.longitude());
+                if (distanceKm > radiusKm || !after.isBefore(distanceKm, restaurant.id())) continue;
+
+                candidates.add(new NearbyRestaurantResponseDTO(
+                        restaurant.id(),
+                        restaurant.name(),
+                        restaurant.city(),
+                        restaurant.latitude(),
+                        restaurant.longitude(),
+                        distanceKm
+                ));
+            }
+            if (openAt != null) candidates = filterOpen(candidates, openAt);
+
+            nearest.addAll(candidates);
+            nearest.sort(nearestFirst);
+            if (nearest.size() > limit) nearest = new ArrayList<>(nearest.subList(0, limit));
+        }
+
+        return nearest;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evictRestaurants() {
+        TransactionUtils.afterCommit(() -> locationIndexes.evict(true));
+    }
+
+    /**
+     * Retrieves the geocoded approved restaurants, reading them from the database if they are not in memory.
+     *
+     * @return the index of the geocoded approved restaurants
+     */
+    private LocationIndex findLocationIndex() {
+        return locationIndexes.load(
+                true,
+                () -> new LocationIndex(restaurantRepository.findLocationsByApproved(true))
+        );
+    }
+
+    /**
+     * Keeps the restaurants being in a sitting time at a date and time.
+     *
+     * @param candidates the restaurants
+     * @param openAt     the date and time
+     * @return the restaurants in a sitting time
+     */
+    private List<NearbyRestaurantResponseDTO> filterOpen(
+            List<NearbyRestaurantResponseDTO> candidates,
+            LocalDateTime openAt
+    ) {
+        if (candidates.isEmpty()) return candidates;
+
+        LocalTime time = openAt.toLocalTime();
+        Map<Long, List<SittingTimeSlot>> slotsByRestaurant = sittingTimeCalendarHelper.findSlotsStartingBetween(
+                candidates.stream().map(NearbyRestaurantResponseDTO::getId).toList(),
+                openAt.getDayOfWeek().getValue(),
+                LocalTime.MIN,
+                time
+        );
+
+        return candidates.stream()
+                .filter(candidate -> slotsByRestaurant.getOrDefault(candidate.getId(), List.of())
+                        .stream()
+                        .anyMatch(slot -> slot.end().isAfter(time)))
+                .toList();
+    }
+
+    /**
+     * Computes the cell containing a latitude or a longitude.
+     *
+     * @param degrees the latitude or longitude, in degrees
+     * @return the index of the cell
+     */
+    private static int cell(double degrees) {
+        return (int) Math.floor(degrees / IndexLimits.CELL_DEGREES);
+    }
+
+    /**
+     * Computes a lower bound of the distance between a position and the restaurants of a ring of cells around it.
+     * <p>
+     * The restaurants of the ring are more than {@code ring - 1} cells away in latitude or in longitude. A difference
+     * in longitude is shortest at the latitude farthest from the equator that the ring can reach.
+     *
+     * @param latitude the latitude of the position, in degrees
+     * @param ring     the distance of the ring from the cell of the position, in cells
+     * @return the minimum distance, in kilometers
+     */
+    private static double ringDistanceKm(double latitude, int ring) {
+        if (ring <= 1) return 0;
+
+        double gapRadians = Math.toRadians((ring - 1) * IndexLimits.CELL_DEGREES);
+        double farthestLatitude = Math.min(90, Math.abs(latitude) + (ring + 1) * IndexLimits.CELL_DEGREES);
+        double longitudeBound = Math.cos(Math.toRadians(farthestLatitude)) * Math.sin(gapRadians / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, longitudeBound));
+    }
+
+    /**
+     * Computes the great-circle distance between two positions with the haversine formula.
+     *
+     * @param latitude1  the latitude of the first position, in degrees
+     * @param longitude1 the longitude of the first position, in degrees
+     * @param latitude2  the latitude of the second position, in degrees
+     * @param longitude2 the longitude of the second position, in degrees
+     * @return the distance, in kilometers
+     */
+    private static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double latitudeDelta = Math.toRadians(latitude2 - latitude1);
+        double longitudeDelta = Math.toRadians(longitude2 - longitude1);
+        double haversine = Math.pow(Math.sin(latitudeDelta / 2), 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.pow(Math.sin(longitudeDelta / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(haversine)));
+    }
+
+    /**
+     * Location, name and categories of a geocoded approved restaurant.
+     *
+     * @param id          the ID of the restaurant
+     * @param name        the name of the restaurant
+     * @param city        the city of the restaurant
+     * @param latitude    the latitude of the restaurant, in degrees
+     * @param longitude   the longitude of the restaurant, in degrees
+     * @param categoryIds the IDs of the categories of the restaurant
+     */
+    private record IndexedRestaurant(
+            long id,
+            String name,
+            String city,
+            double latitude,
+            double longitude,
+            Set<Long> categoryIds
+    ) {
+    }
+
+    /**
+     * Immutable grid of the geocoded approved restaurants, keyed by cell.
+     */
+    private static class LocationIndex {
+
+        private final Map<Long, List<IndexedRestaurant>> restaurantsByCell = new HashMap<>();
+        private int minLatitudeCell = Integer.MAX_VALUE;
+        private int maxLatitudeCell = Integer.MIN_VALUE;
+        private int minLongitudeCell = Integer.MAX_VALUE;
+        private int maxLongitudeCell = Integer.MIN_VALUE;
+
+        /**
+         * Constructs an index holding the given restaurants.
+         *
+         * @param locations the locations of the restaurants, one for each of their categories
+         */
+        LocationIndex(List<RestaurantLocation> locations) {
+            Map<Long, IndexedRestaurant> restaurants = new HashMap<>();
+            locations.forEach(location -> {
+                IndexedRestaurant restaurant = restaurants.computeIfAbsent(
+                        location.restaurantId(),
+                        id -> new IndexedRestaurant(
+                                id,
+                                location.name(),
+                                location.city(),
+                                location.latitude(),
+                                location.longitude(),
+                                new HashSet<>()
+                        )
+                );
+                if (location.categoryId() != null) restaurant.categoryIds().add(location.categoryId());
+            });
+
+            restaurants.values().forEach(restaurant -> {
+                int latitudeCell = cell(restaurant.latitude());
+                int longitudeCell = cell(restaurant.longitude());
+                restaurantsByCell
+                        .computeIfAbsent(key(latitudeCell, longitudeCell), key -> new ArrayList<>())
+                        .add(restaurant);
+
+                minLatitudeCell = Math.min(minLatitudeCell, latitudeCell);
+                maxLatitudeCell = Math.max(maxLatitudeCell, latitudeCell);
+                minLongitudeCell = Math.min(minLongitudeCell, longitudeCell);
+                maxLongitudeCell = Math.max(maxLongitudeCell, longitudeCell);
+            });
+        }
+
+        boolean isEmpty() {
+            return restaurantsByCell.isEmpty();
+        }
+
+        /**
+         * Computes the last ring of cells around a cell holding restaurants.
+         *
+         * @param latitudeCell  the latitude cell of the center
+         * @param longitudeCell the longitude cell of the center
+         * @return the distance of the farthest ring holding restaurants, in cells
+         */
+        int lastRing(int latitudeCell, int longitudeCell) {
+            return Math.max(
+                    Math.max(Math.abs(latitudeCell - minLatitudeCell), Math.abs(latitudeCell - maxLatitudeCell)),
+                    Math.max(Math.abs(longitudeCell - minLongitudeCell), Math.abs(longitudeCell - maxLongitudeCell))
+            );
+        }
+
+        /**
+         * Retrieves the restaurants of the cells at a given distance from a cell.
+         * <p>
+         * Only the cells within the bounds of the grid are visited.
+         *
+         * @param latitudeCell  the latitude cell of the center
+         * @param longitudeCell the longitude cell of the center
+         * @param ring          the distance of the cells from the center, in cells
+         * @return the restaurants of the ring
+         */
+        List<IndexedRestaurant> ring(int latitudeCell, int longitudeCell, int ring) {
+            List<IndexedRestaurant> restaurants = new ArrayList<>();
+            int fromLatitude = Math.max(latitudeCell - ring, minLatitudeCell);
+            int toLatitude = Math.min(latitudeCell + ring, maxLatitudeCell);
+
+            for (int latitude = fromLatitude; latitude <= toLatitude; latitude++) {
+                if (Math.abs(latitude - latitudeCell) == ring) {
+                    int fromLongitude = Math.max(longitudeCell - ring, minLongitudeCell);
+                    int toLongitude = Math.min(longitudeCell + ring, maxLongitudeCell);
+                    for (int longitude = fromLongitude; longitude <= toLongitude; longitude++) {
+                        addCell(restaurants, latitude, longitude);
+                    }
+                } else {
+                    addCell(restaurants, latitude, longitudeCell - ring);
+                    addCell(restaurants, latitude, longitudeCell + ring);
+                }
+            }
+
+            return restaurants;
+        }
+
+        private void addCell(List<IndexedRestaurant> restaurants, int latitudeCell, int longitudeCell) {
+            List<IndexedRestaurant> cell = restaurantsByCell.get(key(latitudeCell, longitudeCell));
+            if (cell != null) restaurants.addAll(cell);
+        }
+
+        private static long key(int latitudeCell, int longitudeCell) {
+            return ((long) latitudeCell << 32) | (longitudeCell & 0xffffffffL);
+        }
+    }
+
+    /**
+     * Limits of the location index.
+     */
+    public static class IndexLimits {
+
+        /** Size of the cells of the grid, in degrees of latitude and longitude. */
+        public static final double CELL_DEGREES = 0.1;
+    }
+}
\ No newline at end of file
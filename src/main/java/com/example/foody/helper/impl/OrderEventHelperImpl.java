@@ -0,0 +1,101 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.helper.OrderEventHelper;
+import com.example.foody.utils.kitchen_board.KitchenBoard;
+import com.example.foody.utils.kitchen_board.OrderEvent;
+import lombok.AllArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the {@link OrderEventHelper} interface.
+ * <p>
+ * Events are queued per topic and published together at the end of each coalescing window, configured with the
+ * {@code spring.websocket.order-events.window-millis} property. Only the last event of an order is kept within a
+ * window, so a burst of changes on a restaurant costs one message per topic instead of one per change.
+ */
+@Component
+@AllArgsConstructor
+public class OrderEventHelperImpl implements OrderEventHelper {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Map<String, Map<Long, OrderEvent>> pendingEvents = new LinkedHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A replaced event is moved to the end of the queue, so the events of a topic stay ordered by version.
+     *
+     * @param destination the destination of the topic
+     * @param event       the event to publish
+     */
+    @Override
+    public synchronized void enqueue(String destination, OrderEvent event) {
+        Map<Long, OrderEvent> events = pendingEvents.computeIfAbsent(destination, key -> new LinkedHashMap<>());
+        events.remove(event.orderId());
+        events.put(event.orderId(), event);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param destination the destination of the topic
+     * @param events      the events to publish
+     */
+    @Override
+    public synchronized void enqueueAll(String destination, List<OrderEvent> events) {
+        events.forEach(event -> enqueue(destination, event));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each message carries the list of the events of its topic, with the highest version among them in the
+     * {@link KitchenBoard#MESSAGE_VERSION_HEADER} header.
+     *
+     * @return the number of published messages
+     */
+    @Override
+    @Scheduled(fixedDelayString = EventLimits.WINDOW_MILLIS)
+    public int flush() {
+        Map<String, Map<Long, OrderEvent>> events;
+        synchronized (this) {
+            if (pendingEvents.isEmpty()) return 0;
+
+            events = new LinkedHashMap<>(pendingEvents);
+            pendingEvents.clear();
+        }
+
+        events.forEach((destination, destinationEvents) -> {
+            List<OrderEvent> payload = new ArrayList<>(destinationEvents.values());
+            long version = payload.stream()
+                    .mapToLong(OrderEvent::version)
+                    .max()
+                    .orElse(0);
+
+            messagingTemplate.convertAndSend(
+                    destination,
+                    payload,
+                    Map.of(KitchenBoard.MESSAGE_VERSION_HEADER, version)
+            );
+        });
+
+        return events.size();
+    }
+
+    /**
+     * Limits of the publication of the order events.
+     */
+    public static class EventLimits {
+
+        /** Length of the coalescing window, in milliseconds. */
+        public static final String WINDOW_MILLIS = "${spring.websocket.order-events.window-millis:200}";
+    }
+}
\ No newline at end of file
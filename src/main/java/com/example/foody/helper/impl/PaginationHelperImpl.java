@@ -0,0 +1,107 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.dto.response.PageResponseDTO;
+import com.example.foody.helper.PaginationHelper;
+import com.example.foody.utils.pagination.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link PaginationHelper} interface.
+ * <p>
+ * Provides methods to build keyset paginated and streamed lists of DTOs.
+ */
+@Component
+@AllArgsConstructor
+public class PaginationHelperImpl implements PaginationHelper {
+
+    private final EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Values lower than 1 are replaced by the default page size, values greater than the maximum are capped.
+     *
+     * @param size the requested page size
+     * @return the page size to use
+     */
+    @Override
+    public int getPageSize(int size) {
+        if (size < 1) {
+            return PageResponseDTO.QueryResultLimits.DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, PageResponseDTO.QueryResultLimits.MAX_PAGE_SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param entities    the entities fetched for the page
+     * @param pageSize    the page size
+     * @param cursorOf    the function extracting the keyset cursor of an entity
+     * @param dtosBuilder the function converting the entities to DTOs
+     * @return the constructed {@link PageResponseDTO}
+     */
+    @Override
+    public <E, D> PageResponseDTO<D> buildPageResponseDTO(
+            List<E> entities,
+            int pageSize,
+            Function<E, KeysetCursor> cursorOf,
+            Function<List<E>, List<D>> dtosBuilder
+    ) {
+        boolean hasNext = entities.size() > pageSize;
+        List<E> pageEntities = hasNext ? entities.subList(0, pageSize) : entities;
+        String nextCursor = hasNext
+                ? cursorOf.apply(pageEntities.getLast()).encode()
+                : null;
+
+        return new PageResponseDTO<>(dtosBuilder.apply(pageEntities), nextCursor, hasNext);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param entities    the stream of entities
+     * @param dtosBuilder the function converting a batch of entities to DTOs
+     * @param consumer    the consumer of the DTOs
+     */
+    @Override
+    public <E, D> void streamInBatches(
+            Stream<E> entities,
+            Function<List<E>, List<D>> dtosBuilder,
+            Consumer<D> consumer
+    ) {
+        try (entities) {
+            List<E> batch = new ArrayList<>(PageResponseDTO.QueryResultLimits.STREAM_BATCH_SIZE);
+            entities.forEachOrdered(entity -> {
+                batch.add(entity);
+                if (batch.size() == PageResponseDTO.QueryResultLimits.STREAM_BATCH_SIZE) {
+                    flushBatch(batch, dtosBuilder, consumer);
+                }
+            });
+            flushBatch(batch, dtosBuilder, consumer);
+        }
+    }
+
+    /**
+     * Converts a batch of entities to DTOs, passes them to the consumer and detaches the entities.
+     *
+     * @param batch       the batch of entities, emptied at the end
+     * @param dtosBuilder the function converting the entities to DTOs
+     * @param consumer    the consumer of the DTOs
+     */
+    private <E, D> void flushBatch(List<E> batch, Function<List<E>, List<D>> dtosBuilder, Consumer<D> consumer) {
+        if (batch.isEmpty()) return;
+
+        dtosBuilder.apply(batch).forEach(consumer);
+        batch.clear();
+        entityManager.clear();
+    }
+}
\ No newline at end of file
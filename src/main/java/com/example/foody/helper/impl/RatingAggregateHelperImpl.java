@@ -0,0 +1,102 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.helper.RatingAggregateHelper;
+import com.example.foody.model.Review;
+import com.example.foody.repository.DishRepository;
+import com.example.foody.repository.RestaurantRepository;
+import jakarta.transaction.Transactional;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Implementation of the {@link RatingAggregateHelper} interface.
+ * <p>
+ * Every change is applied with a single atomic update per restaurant or dish and rating value, in the transaction of
+ * the review, so the aggregates are read by the detail views instead of averaging the reviews. The reviews deleted
+ * along with their dish or customer are counted and removed by the database in a single update per table.
+ * <p>
+ * The aggregates are periodically recomputed from the reviews, so a review changed without going through this helper
+ * is eventually counted correctly. The reviews of deleted dishes and customers are left out of the recomputation, so
+ * it agrees with the ratings already removed while a large soft delete cascade is still marking those reviews in the
+ * background.
+ */
+@Component
+@AllArgsConstructor
+public class RatingAggregateHelperImpl implements RatingAggregateHelper {
+
+    private final RestaurantRepository restaurantRepository;
+    private final DishRepository dishRepository;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param review the saved review
+     */
+    @Override
+    public void addReview(Review review) {
+        restaurantRepository.addRatings(review.getRestaurant().getId(), review.getRating(), 1);
+        if (review.getDish() == null) return;
+
+        dishRepository.addRatings(review.getDish().getId(), review.getRating(), 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param review the deleted review
+     */
+    @Override
+    public void removeReview(Review review) {
+        restaurantRepository.addRatings(review.getRestaurant().getId(), review.getRating(), -1);
+        if (review.getDish() == null) return;
+
+        dishRepository.addRatings(review.getDish().getId(), review.getRating(), -1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The reviews are counted by the database, so they are not loaded.
+     *
+     * @param dishId the ID of the dish
+     */
+    @Override
+    public void removeDishReviews(long dishId) {
+        restaurantRepository.removeRatingsByDish_Id(dishId);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The reviews are counted by the database, so they are not loaded.
+     *
+     * @param customerId the ID of the customer
+     */
+    @Override
+    public void removeCustomerReviews(long customerId) {
+        restaurantRepository.removeRatingsByCustomer_Id(customerId);
+        dishRepository.removeRatingsByCustomer_Id(customerId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the number of corrected restaurants and dishes
+     */
+    @Override
+    @Scheduled(fixedDelayString = AggregateLimits.RECONCILIATION_INTERVAL_MILLIS)
+    @Transactional
+    public int reconcile() {
+        return restaurantRepository.reconcileRatingAggregates() + dishRepository.reconcileRatingAggregates();
+    }
+
+    /**
+     * Limits of the rating aggregates.
+     */
+    public static class AggregateLimits {
+
+        /** Interval between two reconciliations of the aggregates with the reviews, in milliseconds. */
+        public static final String RECONCILIATION_INTERVAL_MILLIS = "3600000";
+    }
+}
\ No newline at end of file
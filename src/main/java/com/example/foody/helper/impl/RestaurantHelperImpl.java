@@ -2,19 +2,22 @@ package com.example.foody.helper.impl;
 
 import com.example.foody.dto.response.DetailedRestaurantResponseDTO;
 import com.example.foody.helper.RestaurantHelper;
+import com.example.foody.helper.SittingTimeCalendarHelper;
 import com.example.foody.mapper.RestaurantMapper;
 import com.example.foody.model.Dish;
 import com.example.foody.model.Restaurant;
 import com.example.foody.model.Review;
-import com.example.foody.model.SittingTime;
 import com.example.foody.repository.DishRepository;
 import com.example.foody.repository.ReviewRepository;
-import com.example.foody.repository.SittingTimeRepository;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link RestaurantHelper} interface.
@@ -25,28 +28,24 @@ import java.util.List;
 @AllArgsConstructor
 public class RestaurantHelperImpl implements RestaurantHelper {
     private final ReviewRepository reviewRepository;
-    private final SittingTimeRepository sittingTimeRepository;
+    private final SittingTimeCalendarHelper sittingTimeCalendarHelper;
     private final DishRepository dishRepository;
     private final RestaurantMapper restaurantMapper;
 
     /**
      * {@inheritDoc}
      * <p>
-     * This method calculates the average rating for the restaurant, retrieves the sitting times, dishes, and reviews,
-     * and maps them to a {@link DetailedRestaurantResponseDTO}.
+     * This method reads the average rating from the rating aggregate of the restaurant, retrieves the sitting times,
+     * dishes, and reviews, and maps them to a {@link DetailedRestaurantResponseDTO}.
      *
      * @param restaurant the Restaurant object to convert
      * @return the constructed {@link DetailedRestaurantResponseDTO}
      */
     @Override
     public DetailedRestaurantResponseDTO buildDetailedRestaurantResponseDTO(Restaurant restaurant) {
-        double averageRating = reviewRepository.findAverageRatingByRestaurant_Id(restaurant.getId());
-        List<SittingTime> sittingTimes = sittingTimeRepository
-                .findAllByRestaurant_IdAndWeekDayAndStartAfterNowOrderByStartLimit(
-                        restaurant.getId(),
-                        LocalDateTime.now().getDayOfWeek().getValue(),
-                        DetailedRestaurantResponseDTO.QueryResultLimits.SITTING_TIMES_LIMIT
-                );
+        double averageRating = restaurant.getRatingAggregate().getAverageRating();
+        List<SittingTimeSlot> sittingTimes = findSittingTimes(List.of(restaurant.getId()))
+                .getOrDefault(restaurant.getId(), List.of());
         List<Dish> dishes = dishRepository
                 .findAllByRestaurant_IdOrderByAverageRatingDescLimit(
                         restaurant.getId(),
@@ -65,15 +64,97 @@ public class RestaurantHelperImpl implements RestaurantHelper {
     /**
      * {@inheritDoc}
      * <p>
-     * This method converts a list of {@link Restaurant} objects to a list of {@link DetailedRestaurantResponseDTO} objects.
+     * This method loads the sitting times, dishes, and reviews of all the restaurants at once,
+     * with a constant number of queries regardless of the number of restaurants, and assembles the
+     * {@link DetailedRestaurantResponseDTO} objects in memory.
      *
      * @param restaurants the list of Restaurant objects to convert
      * @return the list of constructed {@link DetailedRestaurantResponseDTO} objects
      */
     @Override
     public List<DetailedRestaurantResponseDTO> buildDetailedRestaurantResponseDTOs(List<Restaurant> restaurants) {
+        if (restaurants.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> restaurantIds = restaurants.stream()
+                .map(Restaurant::getId)
+                .toList();
+
+        Map<Long, List<SittingTimeSlot>> sittingTimes = findSittingTimes(restaurantIds);
+        Map<Long, List<Dish>> dishes = findDishes(restaurantIds);
+        Map<Long, List<Review>> reviews = findReviews(restaurantIds);
+
         return restaurants.stream()
-                .map(this::buildDetailedRestaurantResponseDTO)
+                .map(restaurant -> restaurantMapper.restaurantToDetailedRestaurantResponseDTO(
+                        restaurant,
+                        restaurant.getRatingAggregate().getAverageRating(),
+                        sittingTimes.getOrDefault(restaurant.getId(), List.of()),
+                        dishes.getOrDefault(restaurant.getId(), List.of()),
+                        reviews.getOrDefault(restaurant.getId(), List.of())
+                ))
                 .toList();
     }
+
+    /**
+     * Retrieves the next sitting times of today for the given restaurants from their in-memory calendars.
+     *
+     * @param restaurantIds the IDs of the restaurants
+     * @return the sitting times ordered by start time, grouped by restaurant ID
+     */
+    private Map<Long, List<SittingTimeSlot>> findSittingTimes(List<Long> restaurantIds) {
+        LocalDateTime now = LocalDateTime.now();
+        return sittingTimeCalendarHelper.findSlotsStartingAfter(
+                restaurantIds,
+                now.getDayOfWeek().getValue(),
+                now.toLocalTime(),
+                DetailedRestaurantResponseDTO.QueryResultLimits.SITTING_TIMES_LIMIT
+        );
+    }
+
+    /**
+     * Retrieves the best rated dishes of the given restaurants.
+     *
+     * @param restaurantIds the IDs of the restaurants
+     * @return the dishes ordered by average rating in descending order, grouped by restaurant ID
+     */
+    private Map<Long, List<Dish>> findDishes(List<Long> restaurantIds) {
+        List<Long> dishIds = dishRepository
+                .findIdsByRestaurant_IdInOrderByAverageRatingDescLimit(
+                        restaurantIds,
+                        DetailedRestaurantResponseDTO.QueryResultLimits.DISHES_LIMIT
+                );
+
+        if (dishIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return dishRepository.findAllById(dishIds).stream()
+                .sorted(Comparator
+                        .comparing((Dish dish) -> dish.getRatingAggregate().getAverageRating())
+                        .thenComparing(Dish::getId)
+                        .reversed())
+                .collect(Collectors.groupingBy(dish -> dish.getRestaurant().getId()));
+    }
+
+    /**
+     * Retrieves the latest reviews of the given restaurants.
+     *
+     * @param restaurantIds the IDs of the restaurants
+     * @return the reviews ordered by creation date in descending order, grouped by restaurant ID
+     */
+    private Map<Long, List<Review>> findReviews(List<Long> restaurantIds) {
+        List<Long> reviewIds = reviewRepository
+                .findIdsByRestaurant_IdInOrderByCreated_AtDescLimit(
+                        restaurantIds,
+                        DetailedRestaurantResponseDTO.QueryResultLimits.REVIEWS_LIMIT
+                );
+
+        if (reviewIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return reviewRepository.findAllByIdInOrderByCreatedAtDesc(reviewIds).stream()
+                .collect(Collectors.groupingBy(review -> review.getRestaurant().getId()));
+    }
 }
\ No newline at end of file
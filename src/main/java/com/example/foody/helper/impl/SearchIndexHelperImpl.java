@@ -0,0 +1,585 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.dto.response.SearchResultResponseDTO;
+import com.example.foody.exceptions.search.SearchIndexException;
+import com.example.foody.helper.SearchIndexHelper;
+import com.example.foody.model.Address;
+import com.example.foody.model.Category;
+import com.example.foody.model.Dish;
+import com.example.foody.model.Restaurant;
+import com.example.foody.repository.CategoryRepository;
+import com.example.foody.repository.DishRepository;
+import com.example.foody.repository.RestaurantRepository;
+import com.example.foody.utils.TransactionUtils;
+import com.example.foody.utils.enums.SearchDocumentType;
+import com.example.foody.utils.search_index.SearchableDish;
+import com.example.foody.utils.search_index.SearchableRestaurant;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.it.ItalianAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.*;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link SearchIndexHelper} interface.
+ * <p>
+ * Keeps an embedded Lucene index of the approved restaurants, their dishes and the categories in a local directory,
+ * so searches never read the database and the index survives restarts. It is only rebuilt from the database when it
+ * is missing or its layout changed, and after a failed write.
+ * <p>
+ * The name, description and city of each entity are indexed three times: folded to lower case ASCII, for exact and
+ * prefix matches, and stemmed in Italian and in English. Matches on the name weigh more than on the city, and on the
+ * city more than on the description.
+ * <p>
+ * Every committed change is written and committed to the index at once, so searches see it immediately. Changes
+ * applied while the index is rebuilt are written again over the rebuilt index, so they are never lost.
+ */
+@Component
+public class SearchIndexHelperImpl implements SearchIndexHelper {
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String RESTAURANT_ID = "restaurant_id";
+    private static final String TITLE = "title";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String CITY = "city";
+    private static final String VERSION_KEY = "version";
+
+    private static final String FOLDED = "_folded";
+    private static final List<String> STEMMED = List.of("_it", "_en");
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(NAME, 4f, CITY, 2f, DESCRIPTION, 1f);
+
+    private static final Analyzer FOLDING_ANALYZER = new FoldingAnalyzer();
+    private static final Analyzer ANALYZER = buildAnalyzer();
+
+    private final RestaurantRepository restaurantRepository;
+    private final DishRepository dishRepository;
+    private final CategoryRepository categoryRepository;
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+    private final List<IndexChange> changesDuringRebuild = new ArrayList<>();
+    private boolean rebuilding;
+    private volatile boolean rebuildRequested;
+
+    /**
+     * Constructs an instance of {@link SearchIndexHelperImpl}, opening the index in the given directory or creating it
+     * if missing.
+     *
+     * @param restaurantRepository the repository to use for rebuilding the restaurants
+     * @param dishRepository       the repository to use for rebuilding the dishes
+     * @param categoryRepository   the repository to use for rebuilding the categories
+     * @param indexDirectory       the directory of the index
+     * @throws IOException if the index cannot be opened
+     */
+    public SearchIndexHelperImpl(
+            RestaurantRepository restaurantRepository,
+            DishRepository dishRepository,
+            CategoryRepository categoryRepository,
+            @Value("${spring.search.index-path}") String indexDirectory
+    ) throws IOException {
+        Path indexPath = Paths.get(indexDirectory).toAbsolutePath().normalize();
+        Files.createDirectories(indexPath);
+
+        this.restaurantRepository = restaurantRepository;
+        this.dishRepository = dishRepository;
+        this.categoryRepository = categoryRepository;
+        this.directory = FSDirectory.open(indexPath);
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(ANALYZER));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Words without meaning in both languages, such as articles, are not required to match, and neither is a last
+     * word shorter than {@link IndexLimits#PREFIX_MIN_LENGTH}, as it is likely still being typed.
+     *
+     * @param text  the searched text
+     * @param type  the type of the results, or null for any type
+     * @param limit the maximum number of results
+     * @return the results, ordered by relevance
+     * @throws SearchIndexException if the index cannot be read
+     */
+    @Override
+    public List<SearchResultResponseDTO> search(String text, SearchDocumentType type, int limit) {
+        Query query = buildQuery(text, type);
+        if (query == null) return List.of();
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                StoredFields storedFields = searcher.storedFields();
+                List<SearchResultResponseDTO> results = new ArrayList<>();
+
+                for (ScoreDoc scoreDoc : searcher.search(query, limit).scoreDocs) {
+                    Document document = storedFields.document(scoreDoc.doc);
+                    String restaurantId = document.get(RESTAURANT_ID);
+                    results.add(new SearchResultResponseDTO(
+                            document.get(TYPE),
+                            document.getField(ID).numericValue().longValue(),
+                            restaurantId == null ? null : Long.valueOf(restaurantId),
+                            document.get(TITLE),
+                            scoreDoc.score
+                    ));
+                }
+
+                return results;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new SearchIndexException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurant the restaurant
+     */
+    @Override
+    public void indexRestaurant(Restaurant restaurant) {
+        List<IndexChange> changes = new ArrayList<>();
+        changes.add(IndexChange.delete(restaurantTerm(restaurant.getId())));
+
+        if (restaurant.isApproved() && restaurant.getDeletedAt() == null) {
+            changes.add(restaurantChange(new SearchableRestaurant(
+                    restaurant.getId(),
+                    restaurant.getName(),
+                    restaurant.getDescription(),
+                    Optional.ofNullable(restaurant.getAddress()).map(Address::getCity).orElse(null)
+            )));
+            restaurant.getDishes()
+                    .stream()
+                    .filter(dish -> dish.getDeletedAt() == null)
+                    .forEach(dish -> changes.add(dishChange(searchableDish(dish))));
+        }
+
+        TransactionUtils.afterCommit(() -> apply(changes));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantId the ID of the restaurant
+     */
+    @Override
+    public void removeRestaurant(long restaurantId) {
+        List<IndexChange> changes = List.of(IndexChange.delete(restaurantTerm(restaurantId)));
+        TransactionUtils.afterCommit(() -> apply(changes));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dish the dish
+     */
+    @Override
+    public void indexDish(Dish dish) {
+        if (!dish.getRestaurant().isApproved()) return;
+
+        List<IndexChange> changes = List.of(dishChange(searchableDish(dish)));
+        TransactionUtils.afterCommit(() -> apply(changes));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dishId the ID of the dish
+     */
+    @Override
+    public void removeDish(long dishId) {
+        List<IndexChange> changes = List.of(IndexChange.delete(keyTerm(SearchDocumentType.DISH, dishId)));
+        TransactionUtils.afterCommit(() -> apply(changes));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param category the category
+     */
+    @Override
+    public void indexCategory(Category category) {
+        List<IndexChange> changes = List.of(categoryChange(category));
+        TransactionUtils.afterCommit(() -> apply(changes));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param categoryId the ID of the category
+     */
+    @Override
+    public void removeCategory(long categoryId) {
+        List<IndexChange> changes = List.of(IndexChange.delete(keyTerm(SearchDocumentType.CATEGORY, categoryId)));
+        TransactionUtils.afterCommit(() -> apply(changes));
+    }
+
+    /**
+     * Rebuilds the index once the application is ready, if it is missing or was built with another layout.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeIndex() {
+        if (IndexLimits.VERSION.equals(committedVersion())) return;
+
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the index if a write failed since the last run.
+     */
+    @Scheduled(fixedDelayString = IndexLimits.REBUILD_INTERVAL_MILLIS)
+    @Transactional
+    public void rebuildIfRequested() {
+        if (!rebuildRequested) return;
+
+        rebuild();
+    }
+
+    /**
+     * Commits and closes the index.
+     *
+     * @throws IOException if the index cannot be closed
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    /**
+     * Writes committed changes to the index and commits them. If the write fails, a rebuild is requested.
+     *
+     * @param changes the changes
+     */
+    private synchronized void apply(List<IndexChange> changes) {
+        if (rebuilding) changesDuringRebuild.addAll(changes);
+
+        try {
+            write(changes);
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            rebuildRequested = true;
+        }
+    }
+
+    /**
+     * Replaces the content of the index with the approved restaurants, their dishes and the categories read from the
+     * database, followed by the changes applied in the meantime.
+     * <p>
+     * The index keeps its previous content until the rebuilt one is committed, so searches are answered meanwhile.
+     */
+    private void rebuild() {
+        synchronized (this) {
+            if (rebuilding) return;
+
+            rebuilding = true;
+            rebuildRequested = false;
+        }
+
+        try {
+            List<IndexChange> changes = new ArrayList<>();
+            categoryRepository.findAll().forEach(category -> changes.add(categoryChange(category)));
+            restaurantRepository.findSearchableByApproved(true)
+                    .forEach(restaurant -> changes.add(restaurantChange(restaurant)));
+            try (Stream<SearchableDish> dishes = dishRepository.streamSearchableByRestaurant_Approved(true)) {
+                dishes.forEach(dish -> changes.add(dishChange(dish)));
+            }
+
+            synchronized (this) {
+                indexWriter.deleteAll();
+                write(changes);
+                write(changesDuringRebuild);
+                indexWriter.setLiveCommitData(Map.of(VERSION_KEY, IndexLimits.VERSION).entrySet());
+                indexWriter.commit();
+                searcherManager.maybeRefresh();
+            }
+        } catch (IOException e) {
+            rebuildRequested = true;
+        } finally {
+            synchronized (this) {
+                rebuilding = false;
+                changesDuringRebuild.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes changes to the index, without committing them.
+     *
+     * @param changes the changes
+     * @throws IOException if the index cannot be written
+     */
+    private void write(List<IndexChange> changes) throws IOException {
+        for (IndexChange change : changes) {
+            if (change.document() == null) {
+                indexWriter.deleteDocuments(change.term());
+            } else {
+                indexWriter.updateDocument(change.term(), change.document());
+            }
+        }
+    }
+
+    /**
+     * Retrieves the layout version of the last commit of the index.
+     *
+     * @return the version, or null if the index was never committed or cannot be read
+     */
+    private String committedVersion() {
+        try {
+            if (!DirectoryReader.indexExists(directory)) return null;
+
+            return SegmentInfos.readLatestCommit(directory).getUserData().get(VERSION_KEY);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static SearchableDish searchableDish(Dish dish) {
+        return new SearchableDish(dish.getId(), dish.getRestaurant().getId(), dish.getName(), dish.getDescription());
+    }
+
+    private static IndexChange restaurantChange(SearchableRestaurant restaurant) {
+        Document document = buildDocument(SearchDocumentType.RESTAURANT, restaurant.id(), restaurant.id());
+        addText(document, NAME, restaurant.name());
+        addText(document, DESCRIPTION, restaurant.description());
+        addText(document, CITY, restaurant.city());
+        return IndexChange.update(keyTerm(SearchDocumentType.RESTAURANT, restaurant.id()), document);
+    }
+
+    private static IndexChange dishChange(SearchableDish dish) {
+        Document document = buildDocument(SearchDocumentType.DISH, dish.id(), dish.restaurantId());
+        addText(document, NAME, dish.name());
+        addText(document, DESCRIPTION, dish.description());
+        return IndexChange.update(keyTerm(SearchDocumentType.DISH, dish.id()), document);
+    }
+
+    private static IndexChange categoryChange(Category category) {
+        Document document = buildDocument(SearchDocumentType.CATEGORY, category.getId(), null);
+        addText(document, NAME, category.getName());
+        return IndexChange.update(keyTerm(SearchDocumentType.CATEGORY, category.getId()), document);
+    }
+
+    /**
+     * Builds a document holding the stored fields of an entity.
+     *
+     * @param type         the type of the entity
+     * @param id           the ID of the entity
+     * @param restaurantId the ID of the restaurant of the entity, or null if it does not belong to a restaurant
+     * @return the document, without its text
+     */
+    private static Document buildDocument(SearchDocumentType type, long id, Long restaurantId) {
+        Document document = new Document();
+        document.add(new StringField(KEY, keyTerm(type, id).text(), Field.Store.NO));
+        document.add(new StringField(TYPE, type.name(), Field.Store.YES));
+        document.add(new StoredField(ID, id));
+        if (restaurantId != null) {
+            document.add(new StringField(RESTAURANT_ID, restaurantId.toString(), Field.Store.YES));
+        }
+        return document;
+    }
+
+    /**
+     * Adds a text to a document, folded and stemmed in each language. The name is also stored as the title.
+     *
+     * @param document the document
+     * @param field    the field of the text
+     * @param text     the text, ignored if null
+     */
+    private static void addText(Document document, String field, String text) {
+        if (text == null) return;
+
+        if (field.equals(NAME)) document.add(new StoredField(TITLE, text));
+        document.add(new TextField(field + FOLDED, text, Field.Store.NO));
+        STEMMED.forEach(suffix -> document.add(new TextField(field + suffix, text, Field.Store.NO)));
+    }
+
+    private static Term keyTerm(SearchDocumentType type, long id) {
+        return new Term(KEY, type.name() + ":" + id);
+    }
+
+    private static Term restaurantTerm(long restaurantId) {
+        return new Term(RESTAURANT_ID, Long.toString(restaurantId));
+    }
+
+    /**
+     * Builds the query of a search, requiring each word to match any field, folded or stemmed in any language.
+     * <p>
+     * Stop words of any language and a last word too short to be a prefix are optional, unless every word is.
+     *
+     * @param text the searched text
+     * @param type the type of the results, or null for any type
+     * @return the query, or null if the text has no words
+     */
+    private static Query buildQuery(String text, SearchDocumentType type) {
+        List<String> words = analyze(FOLDING_ANALYZER, NAME + FOLDED, text);
+        if (words.isEmpty()) return null;
+
+        words = words.subList(0, Math.min(words.size(), IndexLimits.MAX_WORDS));
+        List<BooleanClause> clauses = new ArrayList<>();
+        boolean anyRequired = false;
+
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            boolean prefix = i == words.size() - 1;
+            boolean required = !prefix || word.length() >= IndexLimits.PREFIX_MIN_LENGTH;
+
+            BooleanQuery.Builder wordQuery = new BooleanQuery.Builder();
+            boolean[] stemmed = new boolean[STEMMED.size()];
+            for (Map.Entry<String, Float> field : FIELD_WEIGHTS.entrySet()) {
+                float weight = field.getValue();
+                String foldedField = field.getKey() + FOLDED;
+
+                wordQuery.add(new BoostQuery(new TermQuery(new Term(foldedField, word)), weight * 2), Occur.SHOULD);
+                for (int j = 0; j < STEMMED.size(); j++) {
+                    String stemmedField = field.getKey() + STEMMED.get(j);
+                    for (String stem : analyze(ANALYZER, stemmedField, word)) {
+                        Query stemQuery = new TermQuery(new Term(stemmedField, stem));
+                        wordQuery.add(new BoostQuery(stemQuery, weight), Occur.SHOULD);
+                        stemmed[j] = true;
+                    }
+                }
+                if (prefix && word.length() >= IndexLimits.PREFIX_MIN_LENGTH) {
+                    wordQuery.add(new BoostQuery(new PrefixQuery(new Term(foldedField, word)), weight), Occur.SHOULD);
+                }
+            }
+
+            for (boolean stemmedInLanguage : stemmed) required &= stemmedInLanguage;
+            anyRequired |= required;
+            clauses.add(new BooleanClause(wordQuery.build(), required ? Occur.MUST : Occur.SHOULD));
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (BooleanClause clause : clauses) {
+            query.add(clause.getQuery(), anyRequired ? clause.getOccur() : Occur.MUST);
+        }
+        if (type != null) query.add(new TermQuery(new Term(TYPE, type.name())), Occur.FILTER);
+
+        return query.build();
+    }
+
+    /**
+     * Splits a text into the terms produced by an analyzer for a field.
+     *
+     * @param analyzer the analyzer
+     * @param field    the field
+     * @param text     the text
+     * @return the terms
+     * @throws SearchIndexException if the text cannot be analyzed
+     */
+    private static List<String> analyze(Analyzer analyzer, String field, String text) {
+        List<String> terms = new ArrayList<>();
+
+        try (TokenStream stream = analyzer.tokenStream(field, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new SearchIndexException();
+        }
+
+        return terms;
+    }
+
+    /**
+     * Builds the analyzer of the index, stemming the fields of each language and folding the others.
+     *
+     * @return the analyzer
+     */
+    private static Analyzer buildAnalyzer() {
+        Analyzer italianAnalyzer = new ItalianAnalyzer();
+        Analyzer englishAnalyzer = new EnglishAnalyzer();
+        Map<String, Analyzer> analyzers = new HashMap<>();
+
+        FIELD_WEIGHTS.keySet().forEach(field -> {
+            analyzers.put(field + STEMMED.get(0), italianAnalyzer);
+            analyzers.put(field + STEMMED.get(1), englishAnalyzer);
+        });
+
+        return new PerFieldAnalyzerWrapper(FOLDING_ANALYZER, analyzers);
+    }
+
+    /**
+     * Change of the index: a document replacing the ones matching a term, or the deletion of the documents matching
+     * a term.
+     *
+     * @param term     the term of the replaced or deleted documents
+     * @param document the new document, or null to delete the documents
+     */
+    private record IndexChange(Term term, Document document) {
+
+        static IndexChange update(Term term, Document document) {
+            return new IndexChange(term, document);
+        }
+
+        static IndexChange delete(Term term) {
+            return new IndexChange(term, null);
+        }
+    }
+
+    /**
+     * Analyzer splitting a text into words, lower case and without accents.
+     */
+    private static class FoldingAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+    }
+
+    /**
+     * Limits of the search index.
+     */
+    public static class IndexLimits {
+
+        /** Version of the layout of the documents, to be increased whenever it changes so the index is rebuilt. */
+        public static final String VERSION = "1";
+
+        /** Minimum length of the last word of a search for it to also match as a prefix. */
+        public static final int PREFIX_MIN_LENGTH = 2;
+
+        /** Maximum number of words of a search, the following ones being ignored. */
+        public static final int MAX_WORDS = 8;
+
+        /** Interval between two checks for a rebuild requested after a failed write, in milliseconds. */
+        public static final String REBUILD_INTERVAL_MILLIS = "60000";
+    }
+}
\ No newline at end of file
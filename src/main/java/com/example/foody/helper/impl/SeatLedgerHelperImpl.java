@@ -0,0 +1,142 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.helper.AvailabilityIndexHelper;
+import com.example.foody.helper.SeatLedgerHelper;
+import com.example.foody.model.Booking;
+import com.example.foody.model.seat_ledger.SeatLedgerEntry;
+import com.example.foody.model.seat_ledger.SeatLedgerKey;
+import com.example.foody.repository.SeatLedgerRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the {@link SeatLedgerHelper} interface.
+ * <p>
+ * Keeps a ledger of the booked seats keyed by restaurant, date and sitting time. Reservations are checked and applied
+ * by a single conditional update, so they never exceed the seats of the restaurant, even under concurrent bookings.
+ * Missing entries are created from the active bookings, at startup for the upcoming dates and on demand otherwise.
+ * <p>
+ * Every reservation and release is also applied to the {@link AvailabilityIndexHelper}, once committed.
+ */
+@Component
+@AllArgsConstructor
+public class SeatLedgerHelperImpl implements SeatLedgerHelper {
+
+    private final SeatLedgerRepository seatLedgerRepository;
+    private final AvailabilityIndexHelper availabilityIndexHelper;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the entry of the sitting time does not exist yet, it is created from the active bookings and the reservation
+     * is retried once, and the booked seats of the date kept in memory are read again.
+     *
+     * @param booking the booking
+     * @return true if the seats were reserved, false if there are not enough free seats
+     */
+    @Override
+    public boolean reserveSeats(Booking booking) {
+        long restaurantId = booking.getRestaurant().getId();
+        long sittingTimeId = booking.getSittingTime().getId();
+
+        if (reserve(booking, restaurantId, sittingTimeId)) {
+            availabilityIndexHelper.addBookedSeats(booking.getDate(), sittingTimeId, booking.getSeats());
+            return true;
+        }
+        if (seatLedgerRepository.existsById(new SeatLedgerKey(restaurantId, booking.getDate(), sittingTimeId)))
+            return false;
+
+        seatLedgerRepository.insertIgnoreFromBookings(restaurantId, booking.getDate(), sittingTimeId);
+        availabilityIndexHelper.evictDate(booking.getDate());
+        return reserve(booking, restaurantId, sittingTimeId);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the entry of the sitting time does not exist yet, nothing is released, as the entry will be created from the
+     * active bookings, and the availability index is left unchanged.
+     *
+     * @param booking the booking
+     */
+    @Override
+    public void releaseSeats(Booking booking) {
+        long sittingTimeId = booking.getSittingTime().getId();
+        int released = seatLedgerRepository.releaseSeats(
+                booking.getRestaurant().getId(),
+                booking.getDate(),
+                sittingTimeId,
+                booking.getSeats()
+        );
+        if (released == 0) return;
+
+        availabilityIndexHelper.addBookedSeats(booking.getDate(), sittingTimeId, -booking.getSeats());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The entries of the sitting times are deleted, as no booking can be made for them anymore.
+     *
+     * @param sittingTimeIds the IDs of the sitting times
+     */
+    @Override
+    public void releaseSittingTimes(List<Long> sittingTimeIds) {
+        seatLedgerRepository.deleteAllById_SittingTimeIdIn(sittingTimeIds);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param from         the first date
+     * @param to           the last date
+     * @return the booked seats, keyed by date and then by sitting time ID
+     */
+    @Override
+    public Map<LocalDate, Map<Long, Integer>> findBookedSeats(long restaurantId, LocalDate from, LocalDate to) {
+        Map<LocalDate, Map<Long, Integer>> bookedSeats = new HashMap<>();
+
+        for (SeatLedgerEntry entry : seatLedgerRepository.findAllById_RestaurantIdAndId_DateBetween(restaurantId, from, to)) {
+            bookedSeats
+                    .computeIfAbsent(entry.getId().getDate(), date -> new HashMap<>())
+                    .put(entry.getId().getSittingTimeId(), entry.getBookedSeats());
+        }
+
+        return bookedSeats;
+    }
+
+    /**
+     * Creates the missing entries of the upcoming dates from the active bookings, so the ledger can answer
+     * availability queries without falling back to the bookings.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeLedger() {
+        seatLedgerRepository.insertIgnoreAllFromBookings(LocalDate.now());
+    }
+
+    /**
+     * Reserves the seats of a booking on the existing entry of its sitting time.
+     *
+     * @param booking       the booking
+     * @param restaurantId  the ID of the restaurant
+     * @param sittingTimeId the ID of the sitting time
+     * @return true if the seats were reserved
+     */
+    private boolean reserve(Booking booking, long restaurantId, long sittingTimeId) {
+        return seatLedgerRepository.reserveSeats(
+                restaurantId,
+                booking.getDate(),
+                sittingTimeId,
+                booking.getSeats(),
+                booking.getRestaurant().getSeats()
+        ) > 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.helper.SittingTimeCalendarHelper;
+import com.example.foody.repository.SittingTimeRepository;
+import com.example.foody.utils.GuardedCache;
+import com.example.foody.utils.TransactionUtils;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the {@link SittingTimeCalendarHelper} interface.
+ * <p>
+ * Keeps the sitting times of each restaurant in memory as a compact weekly calendar, so restaurant pages, sitting
+ * time lists and seat availability are served without joining the sitting times with the week day information. A
+ * calendar is read with a single query the first time it is needed, and discarded whenever the schedule of its
+ * restaurant changes or the restaurant is deleted.
+ * <p>
+ * The sitting time rows stay the identity of bookings; the calendar only replaces the joined reads of the schedule.
+ * At most {@link #MAX_CALENDARS} calendars are kept, so the sitting times of further restaurants are read on every
+ * request.
+ */
+@Component
+@AllArgsConstructor
+public class SittingTimeCalendarHelperImpl implements SittingTimeCalendarHelper {
+
+    /**
+     * Maximum number of calendars kept in memory.
+     */
+    public static final int MAX_CALENDARS = 10000;
+
+    private final SittingTimeRepository sittingTimeRepository;
+
+    private final GuardedCache<Long, WeekCalendar> calendars = new GuardedCache<>(MAX_CALENDARS);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the sitting times, ordered by week day and start time
+     */
+    @Override
+    public List<SittingTimeSlot> findSlots(long restaurantId) {
+        return findCalendars(List.of(restaurantId)).get(restaurantId).slots();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param weekDay      the week day, from 1 (Monday) to 7 (Sunday)
+     * @return the sitting times, ordered by start time
+     */
+    @Override
+    public List<SittingTimeSlot> findSlots(long restaurantId, int weekDay) {
+        return findCalendars(List.of(restaurantId)).get(restaurantId).slots(weekDay);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The calendars that are not in memory yet are read with a single query.
+     *
+     * @param restaurantIds the IDs of the restaurants
+     * @param weekDay       the week day, from 1 (Monday) to 7 (Sunday)
+     * @param time          the time after which the sitting times start
+     * @param limit         the maximum number of results for each restaurant
+     * @return the sitting times ordered by start time, keyed by restaurant ID
+     */
+    @Override
+    public Map<Long, List<SittingTimeSlot>> findSlotsStartingAfter(
+            List<Long> restaurantIds,
+            int weekDay,
+            LocalTime time,
+            int limit
+    ) {
+        Map<Long, List<SittingTimeSlot>> slots = new HashMap<>();
+        findCalendars(restaurantIds).forEach((restaurantId, calendar) -> {
+            List<SittingTimeSlot> nextSlots = calendar.slots(weekDay)
+                    .stream()
+                    .filter(slot -> slot.start().isAfter(time))
+                    .limit(limit)
+                    .toList();
+            if (!nextSlots.isEmpty()) slots.put(restaurantId, nextSlots);
+        });
+        return slots;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The calendars that are not in memory yet are read with a single query. Restaurants without sitting times in the
+     * range are not included in the result.
+     *
+     * @param restaurantIds the IDs of the restaurants
+     * @param weekDay       the week day, from 1 (Monday) to 7 (Sunday)
+     * @param from          the earliest start time
+     * @param to            the latest start time
+     * @return the sitting times ordered by start time, keyed by restaurant ID
+     */
+    @Override
+    public Map<Long, List<SittingTimeSlot>> findSlotsStartingBetween(
+            List<Long> restaurantIds,
+            int weekDay,
+            LocalTime from,
+            LocalTime to
+    ) {
+        Map<Long, List<SittingTimeSlot>> slots = new HashMap<>();
+        findCalendars(restaurantIds).forEach((restaurantId, calendar) -> {
+            List<SittingTimeSlot> slotsInRange = calendar.slots(weekDay)
+                    .stream()
+                    .filter(slot -> !slot.start().isBefore(from) && !slot.start().isAfter(to))
+                    .toList();
+            if (!slotsInRange.isEmpty()) slots.put(restaurantId, slotsInRange);
+        });
+        return slots;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantId the ID of the restaurant
+     */
+    @Override
+    public void evict(long restaurantId) {
+        TransactionUtils.afterCommit(() -> calendars.evict(restaurantId));
+    }
+
+    /**
+     * Retrieves the calendars of the given restaurants, reading the missing ones from the database at once.
+     *
+     * @param restaurantIds the IDs of the restaurants
+     * @return the calendars, keyed by restaurant ID
+     */
+    private Map<Long, WeekCalendar> findCalendars(List<Long> restaurantIds) {
+        return calendars.loadAll(restaurantIds, missingIds -> {
+            Map<Long, List<SittingTimeSlot>> slotsByRestaurant = sittingTimeRepository
+                    .findSlotsByRestaurant_IdIn(missingIds)
+                    .stream()
+                    .collect(Collectors.groupingBy(SittingTimeSlot::restaurantId));
+
+            Map<Long, WeekCalendar> loaded = new HashMap<>();
+            missingIds.forEach(restaurantId -> loaded.put(
+                    restaurantId,
+                    new WeekCalendar(slotsByRestaurant.getOrDefault(restaurantId, List.of()))
+            ));
+            return loaded;
+        });
+    }
+
+    /**
+     * Immutable weekly calendar of a restaurant, holding its sitting times by week day.
+     */
+    private static class WeekCalendar {
+
+        private final List<List<SittingTimeSlot>> slotsByWeekDay = new ArrayList<>();
+
+        /**
+         * Constructs a calendar holding the given sitting times.
+         *
+         * @param slots the sitting times of the restaurant
+         */
+        WeekCalendar(List<SittingTimeSlot> slots) {
+            for (int weekDay = 1; weekDay <= 7; weekDay++) {
+                int day = weekDay;
+                slotsByWeekDay.add(slots.stream()
+                        .filter(slot -> slot.weekDay() == day)
+                        .sorted(Comparator.comparing(SittingTimeSlot::start))
+                        .toList());
+            }
+        }
+
+        List<SittingTimeSlot> slots() {
+            return slotsByWeekDay.stream()
+                    .flatMap(List::stream)
+                    .toList();
+        }
+
+        List<SittingTimeSlot> slots(int weekDay) {
+            if (weekDay < 1 || weekDay > 7) return List.of();
+
+            return slotsByWeekDay.get(weekDay - 1);
+        }
+    }
+}
\ No newline at end of file
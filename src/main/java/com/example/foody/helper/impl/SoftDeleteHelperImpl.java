@@ -0,0 +1,408 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.helper.SoftDeleteHelper;
+import com.example.foody.model.DefaultEntity;
+import com.example.foody.model.SoftDeleteJob;
+import com.example.foody.repository.SoftDeleteJobRepository;
+import com.example.foody.utils.enums.SoftDeleteJobStatus;
+import com.example.foody.utils.soft_delete.SoftDeleteStep;
+import jakarta.persistence.*;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.transaction.Transactional;
+import lombok.AllArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link SoftDeleteHelper} interface.
+ * <p>
+ * The steps of a cascade are derived once per entity type from the mapping annotations: every {@link OneToMany} or
+ * {@link OneToOne} association cascading {@link CascadeType#REMOVE} to a {@link DefaultEntity}, on the entity type,
+ * its superclasses, its entity subtypes and their embedded objects, leads to a table whose rows are selected by a
+ * subquery on the table of the parent. Each step is a single bulk UPDATE, and the steps are ordered from the deepest
+ * descendants to the direct children, so a parent is never marked as deleted before its children.
+ */
+@Component
+@AllArgsConstructor
+public class SoftDeleteHelperImpl implements SoftDeleteHelper {
+
+    private final EntityManager entityManager;
+    private final SoftDeleteJobRepository softDeleteJobRepository;
+    private final Map<Class<?>, List<SoftDeleteStep>> steps = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The descending rows are counted first, stopping at {@link SoftDeleteLimits#MAX_SYNCHRONOUS_ROWS}: below the
+     * limit every step runs in the current transaction, which stays atomic with the deletion of the entity; above it
+     * the cascade is left to the background worker, which keeps each transaction and its locks short.
+     *
+     * @param entityType the type of the deleted entity
+     * @param entityId   the ID of the deleted entity
+     * @param deletedAt  the deletion timestamp of the deleted entity
+     * @return the saved cascade, either completed or pending
+     */
+    @Override
+    public SoftDeleteJob deleteDescendants(
+            Class<? extends DefaultEntity> entityType,
+            long entityId,
+            LocalDateTime deletedAt
+    ) {
+        List<SoftDeleteStep> cascadeSteps = getSteps(entityType);
+        SoftDeleteJob softDeleteJob = new SoftDeleteJob(
+                entityManager.getMetamodel().entity(entityType).getName(),
+                entityId,
+                deletedAt,
+                cascadeSteps.size()
+        );
+
+        if (countRows(cascadeSteps, entityId) <= SoftDeleteLimits.MAX_SYNCHRONOUS_ROWS) {
+            for (SoftDeleteStep step : cascadeSteps) {
+                softDeleteJob.setDeletedRows(
+                        softDeleteJob.getDeletedRows() + executeStep(step, softDeleteJob, Integer.MAX_VALUE)
+                );
+            }
+            softDeleteJob.setCompletedSteps(cascadeSteps.size());
+            softDeleteJob.setStatus(SoftDeleteJobStatus.COMPLETED);
+        }
+
+        return softDeleteJobRepository.save(softDeleteJob);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A step is completed once a batch marks fewer rows than {@link SoftDeleteLimits#BATCH_SIZE}. Since the steps are
+     * idempotent, a batch rolled back with its progress is simply run again.
+     *
+     * @param softDeleteJob the pending cascade
+     * @return the saved cascade, to be given to the next batch
+     */
+    @Override
+    @Transactional
+    public SoftDeleteJob runBatch(SoftDeleteJob softDeleteJob) {
+        List<SoftDeleteStep> cascadeSteps = getSteps(findEntityType(softDeleteJob.getEntityType()));
+
+        if (softDeleteJob.getCompletedSteps() < cascadeSteps.size()) {
+            SoftDeleteStep step = cascadeSteps.get(softDeleteJob.getCompletedSteps());
+            int deletedRows = executeStep(step, softDeleteJob, SoftDeleteLimits.BATCH_SIZE);
+
+            softDeleteJob.setDeletedRows(softDeleteJob.getDeletedRows() + deletedRows);
+            if (deletedRows < SoftDeleteLimits.BATCH_SIZE) {
+                softDeleteJob.setCompletedSteps(softDeleteJob.getCompletedSteps() + 1);
+            }
+        }
+
+        if (softDeleteJob.getCompletedSteps() >= cascadeSteps.size()) {
+            softDeleteJob.setStatus(SoftDeleteJobStatus.COMPLETED);
+        }
+        return softDeleteJobRepository.save(softDeleteJob);
+    }
+
+    /**
+     * Marks as deleted a limited number of the active rows of a step.
+     * <p>
+     * The table is declared as the only one affected, so the session only flushes the pending changes of that table
+     * and the caches of the other tables are kept.
+     *
+     * @param step          the step
+     * @param softDeleteJob the cascade of the step
+     * @param limit         the maximum number of rows to mark
+     * @return the number of marked rows
+     */
+    private int executeStep(SoftDeleteStep step, SoftDeleteJob softDeleteJob, int limit) {
+        return entityManager.createNativeQuery(step.toUpdateSql())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(step.table())
+                .setParameter("id", softDeleteJob.getEntityId())
+                .setParameter("deletedAt", softDeleteJob.getEntityDeletedAt())
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    /**
+     * Counts the active rows of the steps of a cascade, stopping as soon as there are more than
+     * {@link SoftDeleteLimits#MAX_SYNCHRONOUS_ROWS}.
+     *
+     * @param cascadeSteps the steps
+     * @param entityId     the ID of the deleted entity
+     * @return the number of active rows, or a greater number if the limit is exceeded
+     */
+    private long countRows(List<SoftDeleteStep> cascadeSteps, long entityId) {
+        long rows = 0;
+        for (SoftDeleteStep step : cascadeSteps) {
+            rows += ((Number) entityManager.createNativeQuery(step.toCountSql())
+                    .setParameter("id", entityId)
+                    .setParameter("limit", SoftDeleteLimits.MAX_SYNCHRONOUS_ROWS - rows + 1)
+                    .getSingleResult()).longValue();
+            if (rows > SoftDeleteLimits.MAX_SYNCHRONOUS_ROWS) break;
+        }
+        return rows;
+    }
+
+    /**
+     * Retrieves the steps of the cascade from an entity type, deriving them on first use.
+     *
+     * @param entityType the entity type
+     * @return the steps, from the deepest descendants to the direct children
+     */
+    private List<SoftDeleteStep> getSteps(Class<?> entityType) {
+        return steps.computeIfAbsent(entityType, type -> {
+            List<SoftDeleteStep> cascadeSteps = new ArrayList<>();
+            Set<Class<?>> path = new HashSet<>(Set.of(type));
+            addDescendantSteps(type, getIdColumn(type) + " = :id", path, cascadeSteps);
+            return List.copyOf(cascadeSteps);
+        });
+    }
+
+    /**
+     * Adds the steps of the entities descending from the selected rows of an entity type, each child after its own
+     * descendants.
+     * <p>
+     * Types already on the path from the deleted entity are skipped, so cyclic cascades terminate.
+     *
+     * @param parentType     the entity type of the parent rows
+     * @param parentSelector the SQL predicate selecting the parent rows
+     * @param path           the entity types on the path from the deleted entity
+     * @param cascadeSteps   the steps to add to
+     */
+    private void addDescendantSteps(
+            Class<?> parentType,
+            String parentSelector,
+            Set<Class<?>> path,
+            List<SoftDeleteStep> cascadeSteps
+    ) {
+        String parentIdColumn = getIdColumn(parentType);
+
+        for (CascadeEdge edge : findCascadeEdges(parentType)) {
+            if (!path.add(edge.childType())) continue;
+
+            boolean parentIsDeletedEntity = parentSelector.equals(parentIdColumn + " = :id");
+            String selector = parentIsDeletedEntity && edge.parentColumn().equals(parentIdColumn)
+                    ? edge.childColumn() + " = :id"
+                    : edge.childColumn() + " IN (SELECT " + edge.parentColumn()
+                    + " FROM " + getTable(parentType) + " WHERE " + parentSelector + ")";
+
+            addDescendantSteps(edge.childType(), selector, path, cascadeSteps);
+            cascadeSteps.add(new SoftDeleteStep(getTable(edge.childType()), selector));
+            path.remove(edge.childType());
+        }
+    }
+
+    /**
+     * Finds the removal cascades from an entity type, including those declared by its superclasses, its entity
+     * subtypes and their embedded objects, in a deterministic order.
+     *
+     * @param parentType the entity type
+     * @return the removal cascades to soft deletable entities
+     */
+    private List<CascadeEdge> findCascadeEdges(Class<?> parentType) {
+        List<Class<?>> types = new ArrayList<>();
+        for (Class<?> type = parentType; type != null; type = type.getSuperclass()) {
+            types.add(type);
+        }
+        entityManager.getMetamodel().getEntities().stream()
+                .<Class<?>>map(EntityType::getJavaType)
+                .filter(type -> type != parentType && parentType.isAssignableFrom(type))
+                .sorted(Comparator.comparing(Class::getName))
+                .forEach(types::add);
+
+        List<CascadeEdge> edges = new ArrayList<>();
+        String parentIdColumn = getIdColumn(parentType);
+        for (Class<?> type : types) {
+            for (Field field : getSortedDeclaredFields(type)) {
+                if (!field.isAnnotationPresent(Embedded.class)) {
+                    findCascadeEdge(field, parentIdColumn).ifPresent(edges::add);
+                    continue;
+                }
+
+                String embeddedIdColumn = findEmbeddedIdColumn(field);
+                if (embeddedIdColumn == null) continue;
+
+                for (Field embeddedField : getSortedDeclaredFields(field.getType())) {
+                    findCascadeEdge(embeddedField, embeddedIdColumn).ifPresent(edges::add);
+                }
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Finds the removal cascade declared by an association field.
+     *
+     * @param field        the field
+     * @param parentColumn the column of the parent table referenced by the child rows of an inverse association
+     * @return the removal cascade, or empty if the field declares none to a soft deletable entity
+     */
+    private Optional<CascadeEdge> findCascadeEdge(Field field, String parentColumn) {
+        OneToMany oneToMany = field.getAnnotation(OneToMany.class);
+        OneToOne oneToOne = field.getAnnotation(OneToOne.class);
+        CascadeEdge edge = null;
+
+        if (oneToMany != null && cascadesRemove(oneToMany.cascade())) {
+            Class<?> childType = (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+            edge = new CascadeEdge(childType, findJoinColumn(childType, oneToMany.mappedBy()), parentColumn);
+        } else if (oneToOne != null && cascadesRemove(oneToOne.cascade())) {
+            Class<?> childType = field.getType();
+            edge = oneToOne.mappedBy().isEmpty()
+                    ? new CascadeEdge(childType, getIdColumn(childType), field.getAnnotation(JoinColumn.class).name())
+                    : new CascadeEdge(childType, findJoinColumn(childType, oneToOne.mappedBy()), parentColumn);
+        }
+
+        return Optional.ofNullable(edge)
+                .filter(cascadeEdge -> DefaultEntity.class.isAssignableFrom(cascadeEdge.childType()));
+    }
+
+    /**
+     * Tells whether the cascade types of an association include the removal.
+     *
+     * @param cascadeTypes the cascade types
+     * @return true if the removal is cascaded
+     */
+    private boolean cascadesRemove(CascadeType[] cascadeTypes) {
+        return Arrays.stream(cascadeTypes)
+                .anyMatch(cascadeType -> cascadeType == CascadeType.REMOVE || cascadeType == CascadeType.ALL);
+    }
+
+    /**
+     * Finds the column of the child table referencing the parent, from the field owning the association.
+     *
+     * @param childType the entity type of the child
+     * @param fieldName the name of the field owning the association
+     * @return the name of the join column, or of the overridden ID column if the field is an embedded object
+     */
+    private String findJoinColumn(Class<?> childType, String fieldName) {
+        Field field = findField(childType, fieldName);
+        JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+        return joinColumn != null ? joinColumn.name() : findEmbeddedIdColumn(field);
+    }
+
+    /**
+     * Finds the column of the ID of an embedded object, from the attribute overrides of the embedding field.
+     *
+     * @param field the embedding field
+     * @return the name of the column, or null if the ID is not overridden
+     */
+    private String findEmbeddedIdColumn(Field field) {
+        AttributeOverrides attributeOverrides = field.getAnnotation(AttributeOverrides.class);
+        AttributeOverride[] overrides = attributeOverrides != null
+                ? attributeOverrides.value()
+                : field.getAnnotationsByType(AttributeOverride.class);
+
+        return Arrays.stream(overrides)
+                .filter(override -> override.name().equals("id"))
+                .map(override -> override.column().name())
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Retrieves the ID column of an entity type.
+     *
+     * @param entityType the entity type
+     * @return the name of the column of the field annotated with {@link Id}
+     */
+    private String getIdColumn(Class<?> entityType) {
+        Field idField = getFields(entityType)
+                .filter(field -> field.isAnnotationPresent(Id.class))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No ID field in " + entityType.getName()));
+        Column column = idField.getAnnotation(Column.class);
+        return column != null && !column.name().isEmpty() ? column.name() : idField.getName();
+    }
+
+    /**
+     * Retrieves the table of an entity type, which may be declared by an entity superclass.
+     *
+     * @param entityType the entity type
+     * @return the name of the table
+     */
+    private String getTable(Class<?> entityType) {
+        for (Class<?> type = entityType; type != null; type = type.getSuperclass()) {
+            Table table = type.getAnnotation(Table.class);
+            if (table != null) return table.name();
+        }
+        throw new IllegalStateException("No table for " + entityType.getName());
+    }
+
+    /**
+     * Finds a field of a type or of its superclasses.
+     *
+     * @param type      the type
+     * @param fieldName the name of the field
+     * @return the field
+     */
+    private Field findField(Class<?> type, String fieldName) {
+        return getFields(type)
+                .filter(field -> field.getName().equals(fieldName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No field " + fieldName + " in " + type.getName()));
+    }
+
+    /**
+     * Streams the declared fields of a type and of its superclasses.
+     *
+     * @param type the type
+     * @return the fields, starting with those of the type
+     */
+    private Stream<Field> getFields(Class<?> type) {
+        return Stream.<Class<?>>iterate(type, Objects::nonNull, Class::getSuperclass)
+                .flatMap(current -> Arrays.stream(current.getDeclaredFields()));
+    }
+
+    /**
+     * Retrieves the declared fields of a type sorted by name, since the order of reflection is unspecified and the
+     * progress of a pending cascade is recorded as a step index.
+     *
+     * @param type the type
+     * @return the sorted fields
+     */
+    private List<Field> getSortedDeclaredFields(Class<?> type) {
+        return Arrays.stream(type.getDeclaredFields())
+                .sorted(Comparator.comparing(Field::getName))
+                .toList();
+    }
+
+    /**
+     * Finds the entity type with the given entity name.
+     *
+     * @param entityName the entity name
+     * @return the entity type
+     */
+    private Class<?> findEntityType(String entityName) {
+        return entityManager.getMetamodel().getEntities().stream()
+                .filter(entityType -> entityType.getName().equals(entityName))
+                .findFirst()
+                .<Class<?>>map(EntityType::getJavaType)
+                .orElseThrow(() -> new IllegalStateException("Unknown entity " + entityName));
+    }
+
+    /**
+     * Removal cascade from a parent entity type to a child entity type.
+     *
+     * @param childType    the entity type of the child
+     * @param childColumn  the column of the child table matched against the parent column
+     * @param parentColumn the column of the parent table
+     */
+    private record CascadeEdge(Class<?> childType, String childColumn, String parentColumn) {
+    }
+
+    /**
+     * Limits of the soft delete cascades.
+     */
+    public static class SoftDeleteLimits {
+
+        /** Maximum number of descending rows marked in the transaction deleting the entity. */
+        public static final long MAX_SYNCHRONOUS_ROWS = 5000;
+
+        /** Maximum number of rows marked by a single batch of a pending cascade. */
+        public static final int BATCH_SIZE = 1000;
+    }
+}
\ No newline at end of file
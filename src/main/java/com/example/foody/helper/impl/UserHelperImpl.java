@@ -2,11 +2,11 @@ package com.example.foody.helper.impl;
 
 import com.example.foody.dto.response.UserResponseDTO;
 import com.example.foody.exceptions.entity.EntityEditException;
+import com.example.foody.exceptions.firebase.FirebaseCustomTokenCreationException;
+import com.example.foody.helper.FirebaseTokenHelper;
 import com.example.foody.helper.UserHelper;
 import com.example.foody.mapper.UserMapper;
 import com.example.foody.model.user.User;
-import com.example.foody.repository.UserRepository;
-import com.example.foody.service.FirebaseService;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -21,9 +21,8 @@ import java.util.List;
 @AllArgsConstructor
 public class UserHelperImpl implements UserHelper {
 
-    private final FirebaseService firebaseService;
+    private final FirebaseTokenHelper firebaseTokenHelper;
     private final UserMapper userMapper;
-    private final UserRepository userRepository;
 
     /**
      * {@inheritDoc}
@@ -32,71 +31,57 @@ public class UserHelperImpl implements UserHelper {
      *
      * @param user the User object to convert
      * @return the constructed {@link UserResponseDTO}
+     * @throws FirebaseCustomTokenCreationException if there is an error during the creation of the token
+     * @throws EntityEditException                  if there is an error saving the token to the user
      */
     @Override
     public UserResponseDTO buildUserResponseDTO(User user) {
-        String firebaseCustomToken = getFirebaseCustomToken(user);
-        return userMapper.userToUserResponseDTO(user, firebaseCustomToken);
+        return buildUserResponseDTO(user, true);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * This method converts a list of {@link User} objects to a list of {@link UserResponseDTO} objects.
+     * This method retrieves the Firebase custom token for the user only if requested.
      *
-     * @param users the list of User objects to convert
-     * @return the list of constructed {@link UserResponseDTO} objects
+     * @param user                       the User object to convert
+     * @param includeFirebaseCustomToken whether to include the Firebase custom token of the user
+     * @return the constructed {@link UserResponseDTO}
+     * @throws FirebaseCustomTokenCreationException if there is an error during the creation of the token
+     * @throws EntityEditException                  if there is an error saving the token to the user
      */
     @Override
-    public List<UserResponseDTO> buildUserResponseDTOs(List<? extends User> users) {
-        return users.stream()
-                .map(this::buildUserResponseDTO)
-                .toList();
+    public UserResponseDTO buildUserResponseDTO(User user, boolean includeFirebaseCustomToken) {
+        String firebaseCustomToken = includeFirebaseCustomToken
+                ? firebaseTokenHelper.getCustomToken(user)
+                : null;
+        return userMapper.userToUserResponseDTO(user, firebaseCustomToken);
     }
 
     /**
-     * Retrieves the Firebase custom token for the given user.
+     * {@inheritDoc}
      * <p>
-     * If the token is invalid or not present, it updates the token.
+     * This method converts a list of {@link User} objects to a list of {@link UserResponseDTO} objects.
      *
-     * @param user the User object
-     * @return the Firebase custom token
+     * @param users the list of User objects to convert
+     * @return the list of constructed {@link UserResponseDTO} objects
      */
-    private String getFirebaseCustomToken(User user) {
-        if (user == null) {
-            return null;
-        }
-
-        String customToken = user.getFirebaseCustomToken();
-
-        if (customToken == null || !firebaseService.verifyToken(customToken)) {
-            return updateUserFirebaseCustomToken(user);
-        }
-
-        return customToken;
+    @Override
+    public List<UserResponseDTO> buildUserResponseDTOs(List<? extends User> users) {
+        return buildUserResponseDTOs(users, true);
     }
 
     /**
-     * Updates the Firebase custom token for the given user and saves the user.
+     * {@inheritDoc}
      *
-     * @param user the User object
-     * @return the new Firebase custom token
-     * @throws EntityEditException if there is an error saving the user
+     * @param users                      the list of User objects to convert
+     * @param includeFirebaseCustomToken whether to include the Firebase custom tokens of the users
+     * @return the list of constructed {@link UserResponseDTO} objects
      */
-    private String updateUserFirebaseCustomToken(User user) {
-        if (user == null) {
-            return null;
-        }
-
-        String firebaseCustomToken = firebaseService.createCustomToken(user.getEmail());
-        user.setFirebaseCustomToken(firebaseCustomToken);
-
-        try {
-            userRepository.save(user);
-        } catch (Exception e) {
-            throw new EntityEditException("user", "id", user.getId());
-        }
-
-        return firebaseCustomToken;
+    @Override
+    public List<UserResponseDTO> buildUserResponseDTOs(List<? extends User> users, boolean includeFirebaseCustomToken) {
+        return users.stream()
+                .map(user -> buildUserResponseDTO(user, includeFirebaseCustomToken))
+                .toList();
     }
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ import com.example.foody.dto.response.RestaurantResponseDTO;
 import com.example.foody.model.Dish;
 import com.example.foody.model.Restaurant;
 import com.example.foody.model.Review;
-import com.example.foody.model.SittingTime;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
 
 import java.util.List;
 
@@ -36,7 +36,7 @@ public interface RestaurantMapper {
     DetailedRestaurantResponseDTO restaurantToDetailedRestaurantResponseDTO(
             Restaurant restaurant,
             double averageRating,
-            List<SittingTime> sittingTimes,
+            List<SittingTimeSlot> sittingTimes,
             List<Dish> dishes,
             List<Review> reviews
     );
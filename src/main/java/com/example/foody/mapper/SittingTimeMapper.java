@@ -2,6 +2,7 @@ package com.example.foody.mapper;
 
 import com.example.foody.dto.response.SittingTimeResponseDTO;
 import com.example.foody.model.SittingTime;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
 
 import java.util.List;
 
@@ -25,4 +26,20 @@ public interface SittingTimeMapper {
      * @return the list of converted SittingTimeResponseDTOs
      */
     List<SittingTimeResponseDTO> sittingTimesToSittingTimeResponseDTOs(List<SittingTime> sittingTimes);
+
+    /**
+     * Converts a SittingTimeSlot to a SittingTimeResponseDTO.
+     *
+     * @param sittingTimeSlot the SittingTimeSlot to convert
+     * @return the converted SittingTimeResponseDTO
+     */
+    SittingTimeResponseDTO sittingTimeSlotToSittingTimeResponseDTO(SittingTimeSlot sittingTimeSlot);
+
+    /**
+     * Converts a list of SittingTimeSlots to a list of SittingTimeResponseDTOs.
+     *
+     * @param sittingTimeSlots the list of SittingTimeSlots to convert
+     * @return the list of converted SittingTimeResponseDTOs
+     */
+    List<SittingTimeResponseDTO> sittingTimeSlotsToSittingTimeResponseDTOs(List<SittingTimeSlot> sittingTimeSlots);
 }
\ No newline at end of file
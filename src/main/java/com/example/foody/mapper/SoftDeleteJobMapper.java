@@ -0,0 +1,28 @@
+package com.example.foody.mapper;
+
+import com.example.foody.dto.response.SoftDeleteJobResponseDTO;
+import com.example.foody.model.SoftDeleteJob;
+
+import java.util.List;
+
+/**
+ * Mapper interface for converting SoftDeleteJob entities to DTOs.
+ */
+public interface SoftDeleteJobMapper {
+
+    /**
+     * Converts a SoftDeleteJob entity to a SoftDeleteJobResponseDTO.
+     *
+     * @param softDeleteJob the SoftDeleteJob entity to convert
+     * @return the converted SoftDeleteJobResponseDTO
+     */
+    SoftDeleteJobResponseDTO softDeleteJobToSoftDeleteJobResponseDTO(SoftDeleteJob softDeleteJob);
+
+    /**
+     * Converts a list of SoftDeleteJob entities to a list of SoftDeleteJobResponseDTOs.
+     *
+     * @param softDeleteJobs the list of SoftDeleteJob entities to convert
+     * @return the list of converted SoftDeleteJobResponseDTOs
+     */
+    List<SoftDeleteJobResponseDTO> softDeleteJobsToSoftDeleteJobResponseDTOs(List<SoftDeleteJob> softDeleteJobs);
+}
\ No newline at end of file
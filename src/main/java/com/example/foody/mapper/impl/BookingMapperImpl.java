@@ -49,7 +49,7 @@ public class BookingMapperImpl implements BookingMapper {
                 sittingTimeMapper.sittingTimeToSittingTimeResponseDTO(booking.getSittingTime())
         );
         bookingResponseDTO.setCustomer(
-                (CustomerUserResponseDTO) userHelper.buildUserResponseDTO(booking.getCustomer())
+                (CustomerUserResponseDTO) userHelper.buildUserResponseDTO(booking.getCustomer(), false)
         );
         bookingResponseDTO.setRestaurant(
                 restaurantMapper.restaurantToRestaurantResponseDTO(booking.getRestaurant())
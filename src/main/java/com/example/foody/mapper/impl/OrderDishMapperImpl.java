@@ -9,7 +9,6 @@ import com.example.foody.model.order_dish.OrderDish;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -42,7 +41,7 @@ public class OrderDishMapperImpl implements OrderDishMapper {
 
         orderDishResponseDTO.setDishId(orderDishDishId(orderDish));
         orderDishResponseDTO.setDishName(orderDishDishName(orderDish));
-        orderDishResponseDTO.setPrice(orderDishDishPrice(orderDish));
+        orderDishResponseDTO.setPrice(orderDish.getUnitPrice());
         orderDishResponseDTO.setQuantity(orderDish.getQuantity());
 
         return orderDishResponseDTO;
@@ -120,21 +119,4 @@ public class OrderDishMapperImpl implements OrderDishMapper {
         }
         return dish.getName();
     }
-
-    /**
-     * Retrieves the dish price from an {@link OrderDish} entity.
-     *
-     * @param orderDish the OrderDish entity
-     * @return the dish price, or null if not available
-     */
-    private BigDecimal orderDishDishPrice(OrderDish orderDish) {
-        if (orderDish == null) {
-            return null;
-        }
-        Dish dish = orderDish.getDish();
-        if (dish == null) {
-            return null;
-        }
-        return dish.getPrice();
-    }
 }
\ No newline at end of file
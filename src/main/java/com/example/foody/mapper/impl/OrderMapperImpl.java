@@ -48,7 +48,7 @@ public class OrderMapperImpl implements OrderMapper {
                 orderDishMapper.orderDishesToOrderDishResponseDTOs(order.getOrderDishes())
         );
         orderResponseDTO.setBuyer(
-                userHelper.buildUserResponseDTO(order.getBuyer().getUser())
+                userHelper.buildUserResponseDTO(order.getBuyer().getUser(), false)
         );
         orderResponseDTO.setRestaurant(
                 restaurantMapper.restaurantToRestaurantResponseDTO(order.getRestaurant())
@@ -56,6 +56,8 @@ public class OrderMapperImpl implements OrderMapper {
         orderResponseDTO.setId(order.getId());
         orderResponseDTO.setCreatedAt(order.getCreatedAt());
         orderResponseDTO.setTableCode(order.getTableCode());
+        orderResponseDTO.setTotalAmount(order.getTotalAmount());
+        orderResponseDTO.setItemCount(order.getItemCount());
         if (order.getStatus() != null) {
             orderResponseDTO.setStatus(order.getStatus().name());
         }
@@ -12,6 +12,7 @@ import com.example.foody.mapper.ReviewMapper;
 import com.example.foody.mapper.SittingTimeMapper;
 import com.example.foody.model.*;
 import com.example.foody.model.user.RestaurateurUser;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -69,7 +70,7 @@ public class RestaurantMapperImpl implements RestaurantMapper {
     public DetailedRestaurantResponseDTO restaurantToDetailedRestaurantResponseDTO(
             Restaurant restaurant,
             double averageRating,
-            List<SittingTime> sittingTimes,
+            List<SittingTimeSlot> sittingTimes,
             List<Dish> dishes,
             List<Review> reviews
     ) {
@@ -81,8 +82,10 @@ public class RestaurantMapperImpl implements RestaurantMapper {
 
         mapCommonFields(restaurant, detailedRestaurantResponseDTO);
         detailedRestaurantResponseDTO.setAverageRating(averageRating);
+        detailedRestaurantResponseDTO.setRatingCount(restaurant.getRatingAggregate().getCount());
+        detailedRestaurantResponseDTO.setRatingHistogram(restaurant.getRatingAggregate().getHistogram());
         detailedRestaurantResponseDTO.setSittingTimes(
-                sittingTimeMapper.sittingTimesToSittingTimeResponseDTOs(sittingTimes)
+                sittingTimeMapper.sittingTimeSlotsToSittingTimeResponseDTOs(sittingTimes)
         );
         detailedRestaurantResponseDTO.setDishes(
                 dishHelper.buildDishResponseDTOs(dishes)
@@ -4,6 +4,7 @@ import com.example.foody.dto.response.SittingTimeResponseDTO;
 import com.example.foody.mapper.SittingTimeMapper;
 import com.example.foody.model.SittingTime;
 import com.example.foody.model.WeekDayInfo;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -61,6 +62,52 @@ public class SittingTimeMapperImpl implements SittingTimeMapper {
         return list;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Converts a {@link SittingTimeSlot} to a {@link SittingTimeResponseDTO}.
+     *
+     * @param sittingTimeSlot the SittingTimeSlot to convert
+     * @return the converted SittingTimeResponseDTO
+     */
+    @Override
+    public SittingTimeResponseDTO sittingTimeSlotToSittingTimeResponseDTO(SittingTimeSlot sittingTimeSlot) {
+        if (sittingTimeSlot == null) {
+            return null;
+        }
+
+        SittingTimeResponseDTO sittingTimeResponseDTO = new SittingTimeResponseDTO();
+
+        sittingTimeResponseDTO.setWeekDayInfoId(sittingTimeSlot.weekDayInfoId());
+        sittingTimeResponseDTO.setId(sittingTimeSlot.id());
+        sittingTimeResponseDTO.setStart(sittingTimeSlot.start());
+        sittingTimeResponseDTO.setEnd(sittingTimeSlot.end());
+
+        return sittingTimeResponseDTO;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Converts a list of {@link SittingTimeSlot} objects to a list of {@link SittingTimeResponseDTO} objects.
+     *
+     * @param sittingTimeSlots the list of SittingTimeSlots to convert
+     * @return the list of converted SittingTimeResponseDTO objects
+     */
+    @Override
+    public List<SittingTimeResponseDTO> sittingTimeSlotsToSittingTimeResponseDTOs(
+            List<SittingTimeSlot> sittingTimeSlots
+    ) {
+        if (sittingTimeSlots == null) {
+            return null;
+        }
+
+        List<SittingTimeResponseDTO> list = new ArrayList<>(sittingTimeSlots.size());
+        sittingTimeSlots.forEach(sittingTimeSlot -> list.add(sittingTimeSlotToSittingTimeResponseDTO(sittingTimeSlot)));
+
+        return list;
+    }
+
     /**
      * Retrieves the week day info ID from a {@link SittingTime} entity.
      *
@@ -0,0 +1,70 @@
+package com.example.foody.mapper.impl;
+
+import com.example.foody.dto.response.SoftDeleteJobResponseDTO;
+import com.example.foody.mapper.SoftDeleteJobMapper;
+import com.example.foody.model.SoftDeleteJob;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of the {@link SoftDeleteJobMapper} interface.
+ * <p>
+ * Provides methods to convert {@link SoftDeleteJob} entities to DTOs.
+ */
+@Component
+public class SoftDeleteJobMapperImpl implements SoftDeleteJobMapper {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Converts a {@link SoftDeleteJob} entity to a {@link SoftDeleteJobResponseDTO}.
+     *
+     * @param softDeleteJob the SoftDeleteJob entity to convert
+     * @return the converted SoftDeleteJobResponseDTO
+     */
+    @Override
+    public SoftDeleteJobResponseDTO softDeleteJobToSoftDeleteJobResponseDTO(SoftDeleteJob softDeleteJob) {
+        if (softDeleteJob == null) {
+            return null;
+        }
+
+        SoftDeleteJobResponseDTO softDeleteJobResponseDTO = new SoftDeleteJobResponseDTO();
+
+        softDeleteJobResponseDTO.setId(softDeleteJob.getId());
+        softDeleteJobResponseDTO.setEntityType(softDeleteJob.getEntityType());
+        softDeleteJobResponseDTO.setEntityId(softDeleteJob.getEntityId());
+        softDeleteJobResponseDTO.setStatus(softDeleteJob.getStatus().name());
+        softDeleteJobResponseDTO.setCompletedSteps(softDeleteJob.getCompletedSteps());
+        softDeleteJobResponseDTO.setTotalSteps(softDeleteJob.getTotalSteps());
+        softDeleteJobResponseDTO.setDeletedRows(softDeleteJob.getDeletedRows());
+        softDeleteJobResponseDTO.setAttempts(softDeleteJob.getAttempts());
+        softDeleteJobResponseDTO.setLastError(softDeleteJob.getLastError());
+        softDeleteJobResponseDTO.setCreatedAt(softDeleteJob.getCreatedAt());
+
+        return softDeleteJobResponseDTO;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Converts a list of {@link SoftDeleteJob} entities to a list of {@link SoftDeleteJobResponseDTO} objects.
+     *
+     * @param softDeleteJobs the list of SoftDeleteJob entities to convert
+     * @return the list of converted SoftDeleteJobResponseDTO objects
+     */
+    @Override
+    public List<SoftDeleteJobResponseDTO> softDeleteJobsToSoftDeleteJobResponseDTOs(
+            List<SoftDeleteJob> softDeleteJobs
+    ) {
+        if (softDeleteJobs == null) {
+            return null;
+        }
+
+        List<SoftDeleteJobResponseDTO> list = new ArrayList<>(softDeleteJobs.size());
+        softDeleteJobs.forEach(softDeleteJob -> list.add(softDeleteJobToSoftDeleteJobResponseDTO(softDeleteJob)));
+
+        return list;
+    }
+}
\ No newline at end of file
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLRestriction;
 
 /**
@@ -19,10 +21,13 @@ import org.hibernate.annotations.SQLRestriction;
 @Entity
 @Table(name = "addresses")
 @SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Address extends DefaultEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "addresses_seq")
+    @SequenceGenerator(name = "addresses_seq", sequenceName = "addresses_seq", allocationSize = DefaultEntity.ID_ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "city", length = 20, nullable = false)
@@ -40,6 +45,15 @@ public class Address extends DefaultEntity {
     @Column(name = "postal_code", length = 5, nullable = false)
     private String postalCode;
 
-    @OneToOne(mappedBy = "address")
-    private Restaurant restaurant;
+    /**
+     * Latitude of the address, in degrees, or null if the address could not be geocoded.
+     */
+    @Column(name = "latitude")
+    private Double latitude;
+
+    /**
+     * Longitude of the address, in degrees, or null if the address could not be geocoded.
+     */
+    @Column(name = "longitude")
+    private Double longitude;
 }
\ No newline at end of file
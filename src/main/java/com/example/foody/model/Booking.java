@@ -27,7 +27,8 @@ import java.time.LocalDate;
 public class Booking extends DefaultEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = DefaultEntity.ID_ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "date", nullable = false)
@@ -58,6 +59,11 @@ public class Booking extends DefaultEntity {
     @Enumerated(EnumType.STRING)
     private BookingStatus status;
 
+    /** The version of the booking, also increased by the guarded status transitions. */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public Booking(
             long id,
             LocalDate date,
@@ -22,7 +22,8 @@ import org.hibernate.annotations.SQLRestriction;
 public class CreditCard extends DefaultEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_cards_seq")
+    @SequenceGenerator(name = "credit_cards_seq", sequenceName = "credit_cards_seq", allocationSize = DefaultEntity.ID_ALLOCATION_SIZE)
     private long id;
 
     /** The token associated with the credit card. */
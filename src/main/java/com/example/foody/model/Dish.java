@@ -1,11 +1,14 @@
 package com.example.foody.model;
 
 import com.example.foody.model.order_dish.OrderDish;
+import com.example.foody.model.rating_aggregate.RatingAggregate;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.math.BigDecimal;
@@ -24,10 +27,13 @@ import java.util.List;
 @Entity
 @Table(name = "dishes")
 @SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Dish extends DefaultEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dishes_seq")
+    @SequenceGenerator(name = "dishes_seq", sequenceName = "dishes_seq", allocationSize = DefaultEntity.ID_ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "name", length = 100, nullable = false)
@@ -58,13 +64,8 @@ public class Dish extends DefaultEntity {
     private List<OrderDish> orderDishes = new ArrayList<>();
 
     /**
-     * Marks the dish as deleted by setting the deletedAt timestamp to the current time.
-     * <p>
-     * Also marks all associated reviews as deleted.
+     * The aggregate of the ratings of the active reviews of the dish.
      */
-    @Override
-    public void delete() {
-        super.delete();
-        this.reviews.forEach(Review::delete);
-    }
+    @Embedded
+    private RatingAggregate ratingAggregate = new RatingAggregate();
 }
\ No newline at end of file
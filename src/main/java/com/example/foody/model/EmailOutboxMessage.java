@@ -0,0 +1,76 @@
+package com.example.foody.model;
+
+import com.example.foody.utils.enums.EmailOutboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents an email waiting in the outbox to be delivered.
+ * <p>
+ * The email is rendered and saved in the same transaction as the change that triggers it, and is delivered later
+ * by a background worker.
+ * <p>
+ * Extends {@link DefaultEntity}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "email_outbox")
+public class EmailOutboxMessage extends DefaultEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "email_outbox_seq")
+    @SequenceGenerator(name = "email_outbox_seq", sequenceName = "email_outbox_seq", allocationSize = DefaultEntity.ID_ALLOCATION_SIZE)
+    private long id;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+    /** The number of failed delivery attempts. */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /** The earliest time at which the next delivery attempt can be made. */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /** The token of the delivery worker that claimed the message, if any. */
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    /**
+     * Constructs a pending outbox message that can be delivered immediately.
+     *
+     * @param recipient the recipient email address
+     * @param subject the subject of the email
+     * @param body the body of the email
+     */
+    public EmailOutboxMessage(String recipient, String subject, String body) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.example.foody.model;
+
+import com.example.foody.utils.enums.GoogleDriveFileType;
+import com.example.foody.utils.enums.MediaUploadStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents an image staged on the local filesystem and waiting to be uploaded to the image storage.
+ * <p>
+ * Until the upload completes, the entity owning the image references it with the staged URL of this upload.
+ * <p>
+ * Extends {@link DefaultEntity}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "media_uploads")
+public class MediaUpload extends DefaultEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "media_uploads_seq")
+    @SequenceGenerator(name = "media_uploads_seq", sequenceName = "media_uploads_seq", allocationSize = DefaultEntity.ID_ALLOCATION_SIZE)
+    private long id;
+
+    @Column(name = "file_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private GoogleDriveFileType fileType;
+
+    /** The path of the staged image file. */
+    @Column(name = "staged_path", nullable = false, length = 500)
+    private String stagedPath;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MediaUploadStatus status = MediaUploadStatus.PENDING;
+
+    /** The number of failed upload attempts. */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /** The earliest time at which the next upload attempt can be made. */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /** The token of the upload worker that claimed the upload, if any. */
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    /** The public URL of the image, once it is uploaded to the storage. */
+    @Column(name = "uploaded_url", length = 500)
+    private String uploadedUrl;
+
+    /**
+     * Constructs a pending upload that can be attempted immediately.
+     *
+     * @param fileType   the type of the image
+     * @param stagedPath the path of the staged image file
+     */
+    public MediaUpload(GoogleDriveFileType fileType, String stagedPath) {
+        this.fileType = fileType;
+        this.stagedPath = stagedPath;
+    }
+}
\ No newline at end of file
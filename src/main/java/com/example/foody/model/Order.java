@@ -11,6 +11,7 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.SQLRestriction;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,7 +29,8 @@ import java.util.List;
 public class Order extends DefaultEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = DefaultEntity.ID_ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "table_code", length = 10, nullable = false)
@@ -63,6 +65,29 @@ public class Order extends DefaultEntity {
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
+    /**
+     * The total amount of the order, computed from the unit prices of its dishes when they were ordered.
+     * <p>
+     * Maintained as dishes are added to the order, so that reading it never joins the order dishes.
+     */
+    @Column(name = "total_amount", precision = 10, scale = 2, nullable = false)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    /**
+     * The total quantity of dishes in the order.
+     */
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    /**
+     * The version of the order, increased by every update.
+     * <p>
+     * Status transitions increase it in their guarded update, so concurrent saves of a stale order fail.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public Order(
             long id,
             String tableCode,
@@ -73,11 +98,12 @@ public class Order extends DefaultEntity {
     ) {
         this.id = id;
         this.tableCode = tableCode;
-        this.orderDishes = orderDishes;
+        this.orderDishes = orderDishes != null ? new ArrayList<>(orderDishes) : new ArrayList<>();
         this.buyer = buyer;
         this.restaurant = restaurant;
         this.state = state;
         setStatus(state);
+        this.orderDishes.forEach(this::addToTotals);
     }
 
     /**
@@ -102,6 +128,16 @@ public class Order extends DefaultEntity {
         setStatus(state);
     }
 
+    /**
+     * Adds a dish to the order and updates its totals.
+     *
+     * @param orderDish the order dish to add
+     */
+    public void addOrderDish(OrderDish orderDish) {
+        orderDishes.add(orderDish);
+        addToTotals(orderDish);
+    }
+
     /**
      * Creates the order by invoking the create method on the current state.
      */
@@ -138,4 +174,14 @@ public class Order extends DefaultEntity {
     private void setStatus(OrderState state) {
         this.status = state != null ? state.getStatus() : null;
     }
+
+    /**
+     * Adds the amount and the quantity of an order dish to the totals of the order.
+     *
+     * @param orderDish the order dish
+     */
+    private void addToTotals(OrderDish orderDish) {
+        totalAmount = totalAmount.add(orderDish.getUnitPrice().multiply(BigDecimal.valueOf(orderDish.getQuantity())));
+        itemCount += orderDish.getQuantity();
+    }
 }
\ No newline at end of file
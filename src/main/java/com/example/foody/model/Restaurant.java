@@ -1,5 +1,6 @@
 package com.example.foody.model;
 
+import com.example.foody.model.rating_aggregate.RatingAggregate;
 import com.example.foody.model.user.EmployeeUser;
 import com.example.foody.model.user.RestaurateurUser;
 import jakarta.persistence.*;
@@ -8,11 +9,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Represents a restaurant entity in the system.
@@ -26,10 +28,13 @@ import java.util.Optional;
 @Entity
 @Table(name = "restaurants")
 @SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Restaurant extends DefaultEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "restaurants_seq")
+    @SequenceGenerator(name = "restaurants_seq", sequenceName = "restaurants_seq", allocationSize = DefaultEntity.ID_ALLOCATION_SIZE)
     protected long id;
 
     @Column(name = "name", length = 100, nullable = false)
@@ -49,6 +54,7 @@ public class Restaurant extends DefaultEntity {
     protected boolean approved;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
             name = "restaurant_category",
             joinColumns = @JoinColumn(name = "restaurant_id", nullable = false),
@@ -78,7 +84,7 @@ public class Restaurant extends DefaultEntity {
     @JoinColumn(name = "address_id", nullable = false)
     protected Address address;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "restaurateur_id", nullable = false)
     protected RestaurateurUser restaurateur;
 
@@ -89,27 +95,8 @@ public class Restaurant extends DefaultEntity {
     protected String photoUrl;
 
     /**
-     * Marks the restaurant as deleted by setting the deletedAt timestamp to the current time.
-     * <p>
-     * Also marks all associated entities as deleted.
+     * The aggregate of the ratings of the active reviews, including the reviews of the dishes.
      */
-    @Override
-    public void delete() {
-        super.delete();
-        deleteChildren();
-    }
-
-    /**
-     * Marks all child entities of the restaurant as deleted.
-     */
-    private void deleteChildren() {
-        this.dishes.forEach(Dish::delete);
-        this.reviews.forEach(Review::delete);
-        this.weekDayInfos.forEach(WeekDayInfo::delete);
-        this.orders.forEach(Order::delete);
-        this.bookings.forEach(Booking::delete);
-        this.employees.forEach(EmployeeUser::delete);
-        Optional.ofNullable(this.address)
-                .ifPresent(Address::delete);
-    }
+    @Embedded
+    protected RatingAggregate ratingAggregate = new RatingAggregate();
 }
\ No newline at end of file
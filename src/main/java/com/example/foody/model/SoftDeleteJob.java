@@ -0,0 +1,97 @@
+package com.example.foody.model;
+
+import com.example.foody.utils.enums.SoftDeleteJobStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents the soft delete cascade from a deleted entity to the entities that descend from it, and its progress.
+ * <p>
+ * Small cascades are completed in the transaction deleting the entity, large ones are left pending and completed in
+ * the background, one step and batch at a time.
+ * <p>
+ * Extends {@link DefaultEntity}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "soft_delete_jobs")
+public class SoftDeleteJob extends DefaultEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "soft_delete_jobs_seq")
+    @SequenceGenerator(name = "soft_delete_jobs_seq", sequenceName = "soft_delete_jobs_seq", allocationSize = DefaultEntity.ID_ALLOCATION_SIZE)
+    private long id;
+
+    /** The name of the entity type of the deleted entity. */
+    @Column(name = "entity_type", nullable = false, length = 100)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private long entityId;
+
+    /** The deletion timestamp of the deleted entity, given to every descending entity. */
+    @Column(name = "entity_deleted_at", nullable = false)
+    private LocalDateTime entityDeletedAt;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private SoftDeleteJobStatus status = SoftDeleteJobStatus.PENDING;
+
+    @Column(name = "total_steps", nullable = false)
+    private int totalSteps;
+
+    /** The number of steps whose rows are all marked as deleted. */
+    @Column(name = "completed_steps", nullable = false)
+    private int completedSteps;
+
+    /** The number of rows marked as deleted so far. */
+    @Column(name = "deleted_rows", nullable = false)
+    private long deletedRows;
+
+    /** The number of failed attempts. */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /** The earliest time at which the next batch can be run. */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /** The token of the background worker that claimed the cascade, if any. */
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    /**
+     * The version of the cascade, increased by every update.
+     * <p>
+     * Claims increase it in their bulk update, so a worker whose claim expired fails to save its progress.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /**
+     * Constructs a pending cascade from a deleted entity.
+     *
+     * @param entityType      the name of the entity type of the deleted entity
+     * @param entityId        the ID of the deleted entity
+     * @param entityDeletedAt the deletion timestamp of the deleted entity
+     * @param totalSteps      the number of steps of the cascade
+     */
+    public SoftDeleteJob(String entityType, long entityId, LocalDateTime entityDeletedAt, int totalSteps) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.entityDeletedAt = entityDeletedAt;
+        this.totalSteps = totalSteps;
+    }
+}
\ No newline at end of file
@@ -8,6 +8,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalTime;
@@ -31,10 +33,13 @@ import java.util.List;
         }
 )
 @SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class WeekDayInfo extends DefaultEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "week_day_infos_seq")
+    @SequenceGenerator(name = "week_day_infos_seq", sequenceName = "week_day_infos_seq", allocationSize = DefaultEntity.ID_ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "week_day", nullable = false)
@@ -64,15 +69,4 @@ public class WeekDayInfo extends DefaultEntity {
 
     @OneToMany(mappedBy = "weekDayInfo", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<SittingTime> sittingTimes = new ArrayList<>();
-
-    /**
-     * Marks the WeekDayInfo as deleted by setting the deletedAt timestamp to the current time.
-     * <p>
-     * Also marks all associated sitting times as deleted.
-     */
-    @Override
-    public void delete() {
-        super.delete();
-        sittingTimes.forEach(SittingTime::delete);
-    }
 }
\ No newline at end of file
@@ -4,16 +4,24 @@ import com.example.foody.model.Dish;
 import com.example.foody.model.Order;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
 
 /**
  * Represents the association between an order and a dish in the system.
+ * <p>
+ * Implements {@link Persistable} so that saving a new association persists it directly, instead of merging it and
+ * selecting the assigned composite key first.
  */
 @Data
 @NoArgsConstructor
 @Entity
 @Table(name = "order_dish")
-public class OrderDish {
+public class OrderDish implements Persistable<OrderDishKey> {
 
     /**
      * The composite key for the OrderDish entity.
@@ -34,8 +42,21 @@ public class OrderDish {
     @Column(name = "quantity", nullable = false)
     private int quantity;
 
+    /**
+     * The price of the dish when it was ordered, unaffected by later changes to the dish price.
+     */
+    @Column(name = "unit_price", precision = 8, scale = 2, nullable = false)
+    private BigDecimal unitPrice;
+
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean persisted;
+
     /**
      * Constructs an OrderDish with the specified order, dish, and quantity.
+     * <p>
+     * The unit price is taken from the current price of the dish.
      *
      * @param order    the order associated with this OrderDish
      * @param dish     the dish associated with this OrderDish
@@ -45,6 +66,26 @@ public class OrderDish {
         this.order = order;
         this.dish = dish;
         this.quantity = quantity;
+        this.unitPrice = dish.getPrice();
         this.id = new OrderDishKey(order.getId(), dish.getId());
     }
+
+    /**
+     * Checks if the association has not been persisted or loaded yet.
+     *
+     * @return true if the association is new
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    /**
+     * Marks the association as persisted once it is stored or loaded.
+     */
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
\ No newline at end of file
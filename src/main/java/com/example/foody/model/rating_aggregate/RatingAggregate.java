@@ -0,0 +1,53 @@
+package com.example.foody.model.rating_aggregate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Represents the aggregate of the ratings of the active reviews of a restaurant or a dish.
+ * <p>
+ * The columns are only written by the atomic updates of the repositories, so they are neither inserted nor updated
+ * with the entity. The average rating is generated by the database.
+ */
+@Data
+@NoArgsConstructor
+@Embeddable
+public class RatingAggregate {
+
+    @Column(name = "rating_count", nullable = false, insertable = false, updatable = false)
+    private int count;
+
+    @Column(name = "rating_sum", nullable = false, insertable = false, updatable = false)
+    private int sum;
+
+    @Column(name = "rating_1_count", nullable = false, insertable = false, updatable = false)
+    private int oneStarCount;
+
+    @Column(name = "rating_2_count", nullable = false, insertable = false, updatable = false)
+    private int twoStarCount;
+
+    @Column(name = "rating_3_count", nullable = false, insertable = false, updatable = false)
+    private int threeStarCount;
+
+    @Column(name = "rating_4_count", nullable = false, insertable = false, updatable = false)
+    private int fourStarCount;
+
+    @Column(name = "rating_5_count", nullable = false, insertable = false, updatable = false)
+    private int fiveStarCount;
+
+    @Column(name = "average_rating", nullable = false, insertable = false, updatable = false)
+    private double averageRating;
+
+    /**
+     * Retrieves the number of ratings of each star value.
+     *
+     * @return the number of ratings from 1 to 5 stars
+     */
+    public List<Integer> getHistogram() {
+        return List.of(oneStarCount, twoStarCount, threeStarCount, fourStarCount, fiveStarCount);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.example.foody.model.seat_ledger;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the number of seats booked at a restaurant for a sitting time of a specific date.
+ * <p>
+ * The entry is kept in sync with the active bookings, so seat availability can be checked and reserved with a single
+ * statement instead of summing the bookings.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "seat_ledger")
+public class SeatLedgerEntry {
+
+    @EmbeddedId
+    private SeatLedgerKey id;
+
+    @Column(name = "booked_seats", nullable = false)
+    private int bookedSeats;
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.example.foody.model.seat_ledger;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Represents the composite key for the SeatLedgerEntry entity.
+ */
+@Data
+@NoArgsConstructor
+@Embeddable
+public class SeatLedgerKey implements Serializable {
+
+    @Column(name = "restaurant_id")
+    private Long restaurantId;
+
+    @Column(name = "date")
+    private LocalDate date;
+
+    @Column(name = "sitting_time_id")
+    private Long sittingTimeId;
+
+    /**
+     * Constructs a SeatLedgerKey with the specified restaurant ID, date and sitting time ID.
+     *
+     * @param restaurantId  the ID of the restaurant
+     * @param date          the date of the bookings
+     * @param sittingTimeId the ID of the sitting time
+     */
+    public SeatLedgerKey(Long restaurantId, LocalDate date, Long sittingTimeId) {
+        this.restaurantId = restaurantId;
+        this.date = date;
+        this.sittingTimeId = sittingTimeId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SeatLedgerKey that = (SeatLedgerKey) o;
+        return Objects.equals(restaurantId, that.restaurantId)
+                && Objects.equals(date, that.date)
+                && Objects.equals(sittingTimeId, that.sittingTimeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(restaurantId, date, sittingTimeId);
+    }
+}
\ No newline at end of file
@@ -13,7 +13,6 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Represents a customer user in the system.
@@ -87,24 +86,4 @@ public class CustomerUser extends User {
     public void setOrders(List<Order> orders) {
         buyer.setOrders(orders);
     }
-
-    /**
-     * Deletes the customer user and its associated entities.
-     */
-    @Override
-    public void delete() {
-        super.delete();
-        deleteChildren();
-    }
-
-    /**
-     * Deletes the associated entities of the customer user.
-     */
-    private void deleteChildren() {
-        Optional.ofNullable(this.creditCard)
-                .ifPresent(CreditCard::delete);
-        this.reviews.forEach(Review::delete);
-        this.bookings.forEach(Booking::delete);
-        this.buyer.getOrders().forEach(Order::delete);
-    }
 }
\ No newline at end of file
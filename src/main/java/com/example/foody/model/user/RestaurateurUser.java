@@ -10,7 +10,6 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
-import java.util.Optional;
 
 /**
  * Represents a restaurateur user in the system.
@@ -44,14 +43,4 @@ public class RestaurateurUser extends User {
         super(id, email, password, name, surname, birthDate, phoneNumber, avatar, role, active, firebaseCustomToken);
         this.restaurant = restaurant;
     }
-
-    /**
-     * Deletes the restaurateur user and its associated restaurant.
-     */
-    @Override
-    public void delete() {
-        super.delete();
-        Optional.ofNullable(restaurant)
-                .ifPresent(Restaurant::delete);
-    }
 }
\ No newline at end of file
@@ -33,7 +33,8 @@ import java.util.List;
 public class User extends DefaultEntity implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = DefaultEntity.ID_ALLOCATION_SIZE)
     protected long id;
 
     @Column(name = "email", length = 320, nullable = false, unique = true)
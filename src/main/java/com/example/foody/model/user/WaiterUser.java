@@ -79,13 +79,4 @@ public class WaiterUser extends EmployeeUser {
     public void setOrders(List<Order> orders) {
         buyer.setOrders(orders);
     }
-
-    /**
-     * Deletes the waiter user and its associated orders.
-     */
-    @Override
-    public void delete() {
-        super.delete();
-        this.buyer.getOrders().forEach(Order::delete);
-    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.example.foody.service.EmailService;
 import com.example.foody.utils.enums.EmailPlaceholder;
 import com.example.foody.utils.enums.EmailTemplateType;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 
 import java.util.Map;
 
@@ -16,13 +17,26 @@ import java.util.Map;
  * Implements the {@link EventListener} interface for {@link Order} events.
  * <p>
  * Sends an email notification to the cook user when a new order is created.
+ * <p>
+ * Listeners are equal when they notify the same cook user.
  */
 @AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class CookUserOrderCreatedEventListener implements EventListener<Order> {
 
     private final EmailService emailService;
     private final CookUser cookUser;
 
+    /**
+     * Retrieves the email of the notified cook user, which identifies the listener.
+     *
+     * @return the email of the cook user
+     */
+    @EqualsAndHashCode.Include
+    private String recipientEmail() {
+        return cookUser.getEmail();
+    }
+
     /**
      * {@inheritDoc}
      * <p>
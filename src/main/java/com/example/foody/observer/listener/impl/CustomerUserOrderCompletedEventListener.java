@@ -6,6 +6,7 @@ import com.example.foody.service.EmailService;
 import com.example.foody.utils.enums.EmailPlaceholder;
 import com.example.foody.utils.enums.EmailTemplateType;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 
 import java.util.Map;
 
@@ -15,8 +16,11 @@ import java.util.Map;
  * Implements the {@link EventListener} interface for {@link Order} events.
  * <p>
  * Sends an email notification to the customer user when an order is completed.
+ * <p>
+ * The recipient is the buyer of the notified order, so all the listeners are equal.
  */
 @AllArgsConstructor
+@EqualsAndHashCode
 public class CustomerUserOrderCompletedEventListener implements EventListener<Order> {
 
     private final EmailService emailService;
@@ -6,6 +6,7 @@ import com.example.foody.observer.listener.EventListener;
 import com.example.foody.service.EmailService;
 import com.example.foody.utils.enums.EmailPlaceholder;
 import com.example.foody.utils.enums.EmailTemplateType;
+import lombok.EqualsAndHashCode;
 
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
@@ -16,7 +17,10 @@ import java.util.Map;
  * Implements the {@link EventListener} interface for {@link Review} events.
  * <p>
  * Sends an email notification to the restaurant staff when a new review is created.
+ * <p>
+ * Listeners are equal when they notify the same user.
  */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class RestaurantStaffNewReviewEventListener implements EventListener<Review> {
     private final EmailService emailService;
     private final User user; // RestaurateurUser or EmployeeUser
@@ -26,6 +30,16 @@ public class RestaurantStaffNewReviewEventListener implements EventListener<Revi
         this.user = user;
     }
 
+    /**
+     * Retrieves the email of the notified user, which identifies the listener.
+     *
+     * @return the email of the user
+     */
+    @EqualsAndHashCode.Include
+    private String recipientEmail() {
+        return user.getEmail();
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -1,12 +1,20 @@
 package com.example.foody.repository;
 
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.model.Booking;
 import com.example.foody.repository.customized.CustomizedBookingRepository;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Booking} entities.
@@ -32,26 +40,6 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, Customi
      */
     List<Booking> findAllByRestaurant_IdOrderByDateDesc(long restaurantId);
 
-    /**
-     * Counts the number of booked seats for a specific date, sitting time, and restaurant.
-     * <p>
-     * coalesce() returns the first non-null argument (case: empty table so sum() returns null)
-     *
-     * @param date          the date of the booking
-     * @param sittingTimeId the ID of the sitting time
-     * @param restaurantId  the ID of the restaurant
-     * @return the number of booked seats
-     */
-    @Query("""
-            SELECT COALESCE(SUM(b.seats), 0)
-            FROM Booking b
-            WHERE b.status = 'ACTIVE'
-            AND b.date = :date
-            AND b.sittingTime.id = :sittingTimeId
-            AND b.restaurant.id = :restaurantId
-            """)
-    long countBookedSeats(LocalDate date, long sittingTimeId, long restaurantId);
-
     /**
      * Checks if there is an active future booking for a specific customer, restaurant, and date.
      * <p>
@@ -129,4 +117,136 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, Customi
             AND b.date <= CURRENT_DATE
             """)
     boolean existsPastActiveBookingByCustomer_IdAndRestaurant_Id(long customerId, long restaurantId);
+
+    /**
+     * Finds the page of bookings created before the given keyset cursor position, ordered by creation date and ID in
+     * descending order, limited to a specified number of results.
+     *
+     * @param createdAt the creation date of the cursor position
+     * @param id the ID of the cursor position
+     * @param limit the maximum number of results to return
+     * @return a list of bookings after the cursor position, ordered by creation date and ID in descending order
+     */
+    @Query("""
+            SELECT b
+            FROM Booking b
+            WHERE (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id))
+            ORDER BY b.createdAt DESC, b.id DESC
+            LIMIT :limit
+            """)
+    List<Booking> findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(
+            LocalDateTime createdAt,
+            long id,
+            int limit
+    );
+
+    /**
+     * Streams all bookings, ordered by creation date and ID in descending order.
+     * <p>
+     * Rows are fetched from the database in chunks, so the stream must be consumed inside a transaction and closed.
+     *
+     * @return a stream of all bookings, ordered by creation date and ID in descending order
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + PageResponseDTO.QueryResultLimits.STREAM_BATCH_SIZE))
+    Stream<Booking> streamAllByOrderByCreatedAtDescIdDesc();
+
+    /**
+     * Changes the status of a booking, only if its current status is one of the given statuses, and increases its
+     * version.
+     * <p>
+     * The check and the change run as a single statement, so only one of several concurrent transitions of the same
+     * booking succeeds.
+     *
+     * @param id             the ID of the booking
+     * @param status         the new status
+     * @param sourceStatuses the statuses from which the transition is allowed
+     * @return the number of updated bookings, 0 if the booking is missing or not in one of the given statuses
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE bookings
+            SET status = :status, version = version + 1
+            WHERE id = :id
+            AND status IN (:sourceStatuses)
+            AND deleted_at IS NULL
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "bookings"))
+    int updateStatusByIdAndStatusIn(long id, String status, List<String> sourceStatuses);
+
+    /**
+     * Finds the IDs of the active future bookings of the given sitting times, and locks them until the end of the
+     * transaction.
+     * <p>
+     * Bookings of the current date are only included if their sitting time has not started yet.
+     *
+     * @param sittingTimeIds the IDs of the sitting times
+     * @return the IDs of the matching bookings
+     */
+    @Query(value = """
+            SELECT b.id
+            FROM bookings b
+            JOIN sitting_times s ON s.id = b.sitting_time_id
+            WHERE b.sitting_time_id IN (:sittingTimeIds)
+            AND b.status = 'ACTIVE'
+            AND b.deleted_at IS NULL
+            AND (b.date > CURRENT_DATE OR (b.date = CURRENT_DATE AND s.start > CURRENT_TIME))
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> findActiveFutureIdsForUpdateBySittingTime_IdIn(List<Long> sittingTimeIds);
+
+    /**
+     * Finds the IDs of the active future bookings of a customer, and locks them until the end of the transaction.
+     * <p>
+     * Bookings of the current date are only included if their sitting time has not started yet.
+     *
+     * @param customerId the ID of the customer
+     * @return the IDs of the matching bookings
+     */
+    @Query(value = """
+            SELECT b.id
+            FROM bookings b
+            JOIN sitting_times s ON s.id = b.sitting_time_id
+            WHERE b.customer_id = :customerId
+            AND b.status = 'ACTIVE'
+            AND b.deleted_at IS NULL
+            AND (b.date > CURRENT_DATE OR (b.date = CURRENT_DATE AND s.start > CURRENT_TIME))
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> findActiveFutureIdsForUpdateByCustomer_Id(long customerId);
+
+    /**
+     * Finds all bookings by their IDs.
+     * <p>
+     * The customer, the restaurant and the sitting time are fetched in the same query.
+     *
+     * @param ids the IDs of the bookings
+     * @return a list of bookings with the specified IDs
+     */
+    @Query("""
+            SELECT b
+            FROM Booking b
+            JOIN FETCH b.customer
+            JOIN FETCH b.restaurant
+            JOIN FETCH b.sittingTime
+            WHERE b.id IN :ids
+            """)
+    List<Booking> findAllByIdIn(List<Long> ids);
+
+    /**
+     * Marks all the bookings of the given sitting times as deleted, in a single statement.
+     *
+     * @param sittingTimeIds the IDs of the sitting times
+     * @return the number of deleted bookings
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE bookings
+            SET deleted_at = CURRENT_TIMESTAMP
+            WHERE sitting_time_id IN (:sittingTimeIds)
+            AND deleted_at IS NULL
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "bookings"))
+    int deleteAllBySittingTime_IdIn(List<Long> sittingTimeIds);
 }
\ No newline at end of file
@@ -1,7 +1,12 @@
 package com.example.foody.repository;
 
 import com.example.foody.model.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 /**
  * Repository interface for managing {@link Category} entities.
@@ -9,4 +14,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * Extends the {@link JpaRepository} interface to provide CRUD operations for {@link Category} entities.
  */
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    /**
+     * Finds all the categories.
+     * <p>
+     * Redeclared to keep the result in the query cache until a category is changed.
+     *
+     * @return a list of all the categories
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Category> findAll();
 }
\ No newline at end of file
@@ -1,10 +1,19 @@
 package com.example.foody.repository;
 
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.model.Dish;
+import com.example.foody.utils.search_index.SearchableDish;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Dish} entities.
@@ -19,6 +28,7 @@ public interface DishRepository extends JpaRepository<Dish, Long> {
      * @param restaurantId the ID of the restaurant
      * @return a list of dishes associated with the specified restaurant
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Dish> findAllByRestaurant_Id(long restaurantId);
 
     /**
@@ -31,11 +41,214 @@ public interface DishRepository extends JpaRepository<Dish, Long> {
     @Query("""
             SELECT d
             FROM Dish d
-            LEFT JOIN d.reviews r ON d.id = r.dish.id
             WHERE d.restaurant.id = :restaurantId
-            GROUP BY d.id
-            ORDER BY COALESCE(AVG(r.rating), 0) DESC
+            ORDER BY d.ratingAggregate.averageRating DESC, d.id DESC
             LIMIT :limit
             """)
     List<Dish> findAllByRestaurant_IdOrderByAverageRatingDescLimit(long restaurantId, int limit);
+
+    /**
+     * Finds the IDs of the best rated dishes of each of the specified restaurants, limited to a specified number of
+     * results per restaurant.
+     * <p>
+     * Native query because JPQL has no window functions; the deleted_at filter of the entity is repeated explicitly.
+     *
+     * @param restaurantIds the IDs of the restaurants
+     * @param limit the maximum number of results to return for each restaurant
+     * @return a list of dish IDs
+     */
+    @Query(value = """
+            SELECT ranked.id
+            FROM (
+                SELECT d.id,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY d.restaurant_id
+                           ORDER BY d.average_rating DESC, d.id DESC
+                       ) AS row_num
+                FROM dishes d
+                WHERE d.deleted_at IS NULL
+                AND d.restaurant_id IN (:restaurantIds)
+            ) ranked
+            WHERE ranked.row_num <= :limit
+            """, nativeQuery = true)
+    List<Long> findIdsByRestaurant_IdInOrderByAverageRatingDescLimit(List<Long> restaurantIds, int limit);
+
+    /**
+     * Finds the page of dishes created before the given keyset cursor position, ordered by creation date and ID in
+     * descending order, limited to a specified number of results.
+     *
+     * @param createdAt the creation date of the cursor position
+     * @param id the ID of the cursor position
+     * @param limit the maximum number of results to return
+     * @return a list of dishes after the cursor position, ordered by creation date and ID in descending order
+     */
+    @Query("""
+            SELECT d
+            FROM Dish d
+            WHERE (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id))
+            ORDER BY d.createdAt DESC, d.id DESC
+            LIMIT :limit
+            """)
+    List<Dish> findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(
+            LocalDateTime createdAt,
+            long id,
+            int limit
+    );
+
+    /**
+     * Streams all dishes, ordered by creation date and ID in descending order.
+     * <p>
+     * Rows are fetched from the database in chunks, so the stream must be consumed inside a transaction and closed.
+     *
+     * @return a stream of all dishes, ordered by creation date and ID in descending order
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + PageResponseDTO.QueryResultLimits.STREAM_BATCH_SIZE))
+    Stream<Dish> streamAllByOrderByCreatedAtDescIdDesc();
+
+    /**
+     * Streams the searchable text of all dishes of the restaurants with the specified approval status.
+     * <p>
+     * Rows are fetched from the database in chunks, so the stream must be consumed inside a transaction and closed.
+     *
+     * @param approved the approval status of the restaurants
+     * @return a stream of the searchable text of the dishes
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + PageResponseDTO.QueryResultLimits.STREAM_BATCH_SIZE))
+    @Query("""
+            SELECT new com.example.foody.utils.search_index.SearchableDish(d.id, r.id, d.name, d.description)
+            FROM Dish d
+            JOIN d.restaurant r
+            WHERE r.approved = :approved
+            """)
+    Stream<SearchableDish> streamSearchableByRestaurant_Approved(boolean approved);
+
+    /**
+     * Replaces the photo URL of the dish having the given photo URL.
+     *
+     * @param photoUrl    the current photo URL
+     * @param newPhotoUrl the new photo URL
+     * @return the number of updated dishes, 0 if no dish has the current photo URL anymore
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Dish d SET d.photoUrl = :newPhotoUrl WHERE d.photoUrl = :photoUrl")
+    int updatePhotoUrlByPhotoUrl(String photoUrl, String newPhotoUrl);
+
+    /**
+     * Checks if a dish has the given photo URL.
+     *
+     * @param photoUrl the photo URL
+     * @return true if a dish has the photo URL, false otherwise
+     */
+    boolean existsByPhotoUrl(String photoUrl);
+
+    /**
+     * Adds a number of ratings of the same value to the rating aggregate of a dish.
+     * <p>
+     * Native query because the columns of the aggregate are not updatable through the entity. The updated row stays
+     * locked until the end of the transaction, so concurrent reviews of the same dish are all counted.
+     *
+     * @param dishId the ID of the dish
+     * @param rating the value of the ratings, from 1 to 5
+     * @param count  the number of ratings to add, negative to remove them
+     * @return the number of updated dishes
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE dishes
+            SET rating_count = rating_count + :count,
+                rating_sum = rating_sum + :rating * :count,
+                rating_1_count = rating_1_count + IF(:rating = 1, :count, 0),
+                rating_2_count = rating_2_count + IF(:rating = 2, :count, 0),
+                rating_3_count = rating_3_count + IF(:rating = 3, :count, 0),
+                rating_4_count = rating_4_count + IF(:rating = 4, :count, 0),
+                rating_5_count = rating_5_count + IF(:rating = 5, :count, 0)
+            WHERE id = :dishId
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "dishes"))
+    int addRatings(long dishId, int rating, int count);
+
+    /**
+     * Recomputes the rating aggregates of the active dishes that differ from their active reviews.
+     * <p>
+     * Native query because JPQL has no joins on derived tables; the deleted_at filters of the entities are repeated
+     * explicitly. The reviews of deleted customers are not counted: their ratings were removed when the customer was
+     * deleted, even if a pending soft delete cascade has not marked the reviews yet.
+     *
+     * @return the number of corrected dishes
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE dishes t
+            LEFT JOIN (
+                SELECT dish_id,
+                       COUNT(*) AS rating_count,
+                       SUM(rating) AS rating_sum,
+                       SUM(rating = 1) AS rating_1_count,
+                       SUM(rating = 2) AS rating_2_count,
+                       SUM(rating = 3) AS rating_3_count,
+                       SUM(rating = 4) AS rating_4_count,
+                       SUM(rating = 5) AS rating_5_count
+                FROM reviews r
+                JOIN users c ON c.id = r.customer_id
+                WHERE r.deleted_at IS NULL
+                AND c.deleted_at IS NULL
+                AND r.dish_id IS NOT NULL
+                GROUP BY dish_id
+            ) a ON a.dish_id = t.id
+            SET t.rating_count = COALESCE(a.rating_count, 0),
+                t.rating_sum = COALESCE(a.rating_sum, 0),
+                t.rating_1_count = COALESCE(a.rating_1_count, 0),
+                t.rating_2_count = COALESCE(a.rating_2_count, 0),
+                t.rating_3_count = COALESCE(a.rating_3_count, 0),
+                t.rating_4_count = COALESCE(a.rating_4_count, 0),
+                t.rating_5_count = COALESCE(a.rating_5_count, 0)
+            WHERE t.deleted_at IS NULL
+            AND (t.rating_count <> COALESCE(a.rating_count, 0)
+                 OR t.rating_sum <> COALESCE(a.rating_sum, 0)
+                 OR t.rating_1_count <> COALESCE(a.rating_1_count, 0)
+                 OR t.rating_2_count <> COALESCE(a.rating_2_count, 0)
+                 OR t.rating_3_count <> COALESCE(a.rating_3_count, 0)
+                 OR t.rating_4_count <> COALESCE(a.rating_4_count, 0)
+                 OR t.rating_5_count <> COALESCE(a.rating_5_count, 0))
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "dishes"))
+    int reconcileRatingAggregates();
+
+    /**
+     * Removes the ratings of the active reviews of a customer from the rating aggregates of the rated dishes.
+     * <p>
+     * Native query because JPQL has no joins on derived tables. Must run before the reviews are marked as deleted.
+     *
+     * @param customerId the ID of the customer
+     * @return the number of updated dishes
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE dishes t
+            JOIN (
+                SELECT dish_id,
+                       COUNT(*) AS rating_count,
+                       SUM(rating) AS rating_sum,
+                       SUM(rating = 1) AS rating_1_count,
+                       SUM(rating = 2) AS rating_2_count,
+                       SUM(rating = 3) AS rating_3_count,
+                       SUM(rating = 4) AS rating_4_count,
+                       SUM(rating = 5) AS rating_5_count
+                FROM reviews
+                WHERE customer_id = :customerId
+                AND deleted_at IS NULL
+                AND dish_id IS NOT NULL
+                GROUP BY dish_id
+            ) a ON a.dish_id = t.id
+            SET t.rating_count = t.rating_count - a.rating_count,
+                t.rating_sum = t.rating_sum - a.rating_sum,
+                t.rating_1_count = t.rating_1_count - a.rating_1_count,
+                t.rating_2_count = t.rating_2_count - a.rating_2_count,
+                t.rating_3_count = t.rating_3_count - a.rating_3_count,
+                t.rating_4_count = t.rating_4_count - a.rating_4_count,
+                t.rating_5_count = t.rating_5_count - a.rating_5_count
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "dishes"))
+    int removeRatingsByCustomer_Id(long customerId);
 }
\ No newline at end of file
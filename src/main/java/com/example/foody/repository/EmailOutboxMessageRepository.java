@@ -0,0 +1,129 @@
+package com.example.foody.repository;
+
+import com.example.foody.model.EmailOutboxMessage;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link EmailOutboxMessage} entities.
+ * <p>
+ * Extends the {@link JpaRepository} interface to provide CRUD operations for {@link EmailOutboxMessage} entities.
+ */
+public interface EmailOutboxMessageRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    /**
+     * Claims the pending outbox messages that are due for a delivery attempt, in the order they were enqueued, in a
+     * single statement.
+     * <p>
+     * The claimed messages are marked with the claim token, and their next attempt is moved to the end of the lease,
+     * so that no other worker claims them until the lease expires.
+     *
+     * @param claimToken the token identifying the claim
+     * @param now the current time
+     * @param leaseUntil the end of the lease of the claimed messages
+     * @param limit the maximum number of messages to claim
+     * @return the number of claimed messages
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE email_outbox
+            SET claim_token = :claimToken, next_attempt_at = :leaseUntil
+            WHERE status = 'PENDING'
+            AND next_attempt_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "email_outbox"))
+    int claimDue(String claimToken, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * Finds the outbox messages with the given claim token, ordered by ID.
+     *
+     * @param claimToken the token identifying the claim
+     * @return a list of claimed outbox messages, in the order they were enqueued
+     */
+    List<EmailOutboxMessage> findAllByClaimTokenOrderById(String claimToken);
+
+    /**
+     * Marks the given claimed outbox messages as delivered and releases their claim, in a single statement.
+     * <p>
+     * Messages whose claim expired and was taken by another worker are left unchanged.
+     *
+     * @param ids the IDs of the messages
+     * @param claimToken the token identifying the claim
+     * @param sentAt the time of the delivery
+     * @return the number of updated messages
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE email_outbox
+            SET status = 'SENT', sent_at = :sentAt, last_error = NULL, claim_token = NULL
+            WHERE id IN (:ids)
+            AND claim_token = :claimToken
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "email_outbox"))
+    int markSentByIdInAndClaimToken(List<Long> ids, String claimToken, LocalDateTime sentAt);
+
+    /**
+     * Records a failed delivery attempt of the given claimed outbox messages and releases their claim, in a single
+     * statement.
+     * <p>
+     * Messages whose claim expired and was taken by another worker are left unchanged.
+     *
+     * @param ids the IDs of the messages, which all have the same number of attempts
+     * @param claimToken the token identifying the claim
+     * @param status the new status of the messages
+     * @param attempts the number of attempts, including the failed one
+     * @param nextAttemptAt the time of the next attempt
+     * @param lastError the error of the failed attempt
+     * @return the number of updated messages
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE email_outbox
+            SET status = :status, attempts = :attempts, next_attempt_at = :nextAttemptAt, last_error = :lastError,
+                claim_token = NULL
+            WHERE id IN (:ids)
+            AND claim_token = :claimToken
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "email_outbox"))
+    int markFailedAttemptByIdInAndClaimToken(
+            List<Long> ids,
+            String claimToken,
+            String status,
+            int attempts,
+            LocalDateTime nextAttemptAt,
+            String lastError
+    );
+
+    /**
+     * Deletes the outbox messages with the given status that were sent before the given time, limited to a specified
+     * number of rows, in a single statement.
+     *
+     * @param status the status of the messages
+     * @param sentBefore the time before which the messages were sent
+     * @param limit the maximum number of messages to delete
+     * @return the number of deleted messages
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM email_outbox
+            WHERE status = :status
+            AND sent_at < :sentBefore
+            LIMIT :limit
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "email_outbox"))
+    int deleteAllByStatusAndSentAtBeforeLimit(String status, LocalDateTime sentBefore, int limit);
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.example.foody.repository;
+
+import com.example.foody.model.MediaUpload;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link MediaUpload} entities.
+ * <p>
+ * Extends the {@link JpaRepository} interface to provide CRUD operations for {@link MediaUpload} entities.
+ */
+public interface MediaUploadRepository extends JpaRepository<MediaUpload, Long> {
+
+    /**
+     * Claims the pending uploads that are due for an upload attempt, in the order they were staged, in a single
+     * statement.
+     * <p>
+     * The claimed uploads are marked with the claim token, and their next attempt is moved to the end of the lease,
+     * so that no other worker claims them until the lease expires.
+     *
+     * @param claimToken the token identifying the claim
+     * @param now the current time
+     * @param leaseUntil the end of the lease of the claimed uploads
+     * @param limit the maximum number of uploads to claim
+     * @return the number of claimed uploads
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE media_uploads
+            SET claim_token = :claimToken, next_attempt_at = :leaseUntil
+            WHERE status = 'PENDING'
+            AND next_attempt_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "media_uploads"))
+    int claimDue(String claimToken, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * Finds the uploads with the given claim token, ordered by ID.
+     *
+     * @param claimToken the token identifying the claim
+     * @return a list of claimed uploads, in the order they were staged
+     */
+    List<MediaUpload> findAllByClaimTokenOrderById(String claimToken);
+
+    /**
+     * Records the public URL of a claimed upload, in a single statement.
+     *
+     * @param id the ID of the upload
+     * @param claimToken the token of the claim holding the upload
+     * @param uploadedUrl the public URL of the image
+     * @return the number of updated uploads, 0 if the upload was discarded or claimed again
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE media_uploads
+            SET uploaded_url = :uploadedUrl
+            WHERE id = :id
+            AND claim_token = :claimToken
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "media_uploads"))
+    int updateUploadedUrlByIdAndClaimToken(long id, String claimToken, String uploadedUrl);
+
+    /**
+     * Records a failed attempt of a claimed upload and releases the claim, in a single statement.
+     *
+     * @param id the ID of the upload
+     * @param claimToken the token of the claim holding the upload
+     * @param status the new status
+     * @param attempts the number of failed attempts
+     * @param nextAttemptAt the earliest time of the next attempt
+     * @param lastError the error of the attempt
+     * @return the number of updated uploads, 0 if the upload was discarded or claimed again
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE media_uploads
+            SET status = :status, attempts = :attempts, next_attempt_at = :nextAttemptAt, last_error = :lastError,
+                claim_token = NULL
+            WHERE id = :id
+            AND claim_token = :claimToken
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "media_uploads"))
+    int updateFailedAttemptByIdAndClaimToken(
+            long id,
+            String claimToken,
+            String status,
+            int attempts,
+            LocalDateTime nextAttemptAt,
+            String lastError
+    );
+}
\ No newline at end of file
@@ -2,8 +2,15 @@ package com.example.foody.repository;
 
 import com.example.foody.model.Order;
 import com.example.foody.repository.customized.CustomizedOrderRepository;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 /**
  * Repository interface for managing {@link Order} entities.
@@ -30,16 +37,108 @@ public interface OrderRepository extends JpaRepository<Order, Long>, CustomizedO
     boolean existsByBuyer_IdAndDish_Id(long buyerId, long dishId);
 
     /**
-     * Finds the total amount for a specific order.
+     * Changes the status of an order, only if its current status is one of the given statuses, and increases its
+     * version.
+     * <p>
+     * The check and the change run as a single statement, so only one of several concurrent transitions of the same
+     * order succeeds.
      *
-     * @param orderId the ID of the order
-     * @return the total amount of the order
+     * @param id             the ID of the order
+     * @param status         the new status
+     * @param sourceStatuses the statuses from which the transition is allowed
+     * @return the number of updated orders, 0 if the order is missing or not in one of the given statuses
      */
-    @Query("""
-            SELECT COALESCE(SUM(od.quantity * od.dish.price), 0)
-            FROM Order o
-            JOIN o.orderDishes od
-            WHERE o.id = :orderId
-            """)
-    double findAmountByOrder_Id(long orderId);
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE orders
+            SET status = :status, version = version + 1
+            WHERE id = :id
+            AND status IN (:sourceStatuses)
+            AND deleted_at IS NULL
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "orders"))
+    int updateStatusByIdAndStatusIn(long id, String status, List<String> sourceStatuses);
+
+    /**
+     * Finds the IDs of the given orders of a restaurant whose status is one of the given statuses, and locks them
+     * until the end of the transaction.
+     *
+     * @param restaurantId   the ID of the restaurant
+     * @param ids            the IDs of the orders
+     * @param sourceStatuses the statuses from which a transition is allowed
+     * @return the IDs of the matching orders
+     */
+    @Query(value = """
+            SELECT id
+            FROM orders
+            WHERE restaurant_id = :restaurantId
+            AND id IN (:ids)
+            AND status IN (:sourceStatuses)
+            AND deleted_at IS NULL
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> findIdsForUpdateByRestaurant_IdAndIdInAndStatusIn(
+            long restaurantId,
+            List<Long> ids,
+            List<String> sourceStatuses
+    );
+
+    /**
+     * Finds the IDs of the orders of a table of a restaurant whose status is one of the given statuses, and locks them
+     * until the end of the transaction.
+     *
+     * @param restaurantId   the ID of the restaurant
+     * @param tableCode      the code of the table
+     * @param sourceStatuses the statuses from which a transition is allowed
+     * @return the IDs of the matching orders
+     */
+    @Query(value = """
+            SELECT id
+            FROM orders
+            WHERE restaurant_id = :restaurantId
+            AND table_code = :tableCode
+            AND status IN (:sourceStatuses)
+            AND deleted_at IS NULL
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> findIdsForUpdateByRestaurant_IdAndTableCodeAndStatusIn(
+            long restaurantId,
+            String tableCode,
+            List<String> sourceStatuses
+    );
+
+    /**
+     * Changes the status of the given orders and increases their versions, in a single statement.
+     *
+     * @param ids    the IDs of the orders
+     * @param status the new status
+     * @return the number of updated orders
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE orders
+            SET status = :status, version = version + 1
+            WHERE id IN (:ids)
+            AND deleted_at IS NULL
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "orders"))
+    int updateStatusByIdIn(List<Long> ids, String status);
+
+    /**
+     * Finds the orders of a buyer whose status is one of the given statuses.
+     *
+     * @param buyerId  the ID of the buyer
+     * @param statuses the list of statuses
+     * @return a list of the orders of the buyer with the specified statuses
+     */
+    @Query(value = """
+            SELECT *
+            FROM orders
+            WHERE buyer_id = :buyerId
+            AND status IN (:statuses)
+            AND deleted_at IS NULL
+            """, nativeQuery = true)
+    List<Order> findAllByBuyer_IdAndStatusIn(long buyerId, List<String> statuses);
 }
\ No newline at end of file
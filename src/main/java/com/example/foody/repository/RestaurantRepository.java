@@ -1,10 +1,22 @@
 package com.example.foody.repository;
 
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.model.Restaurant;
+import com.example.foody.utils.availability_index.RestaurantCapacity;
+import com.example.foody.utils.location_index.RestaurantLocation;
+import com.example.foody.utils.search_index.SearchableRestaurant;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing Restaurant entities.
@@ -20,13 +32,67 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
      */
     List<Restaurant> findAllByApproved(boolean approved);
 
-    /**2
+    /**
+     * Finds the capacity of all restaurants with the specified approval status, with one row for each of their
+     * categories.
+     *
+     * @param approved the approval status of the restaurants
+     * @return a list of restaurant capacities, one for each category of each restaurant, or one without category for
+     * restaurants without categories
+     */
+    @Query("""
+            SELECT new com.example.foody.utils.availability_index.RestaurantCapacity(r.id, r.name, r.seats, c.id)
+            FROM Restaurant r
+            LEFT JOIN r.categories c
+            WHERE r.approved = :approved
+            """)
+    List<RestaurantCapacity> findCapacitiesByApproved(boolean approved);
+
+    /**
+     * Finds the searchable text of all restaurants with the specified approval status.
+     *
+     * @param approved the approval status of the restaurants
+     * @return a list of the searchable text of the restaurants, with the city of their address
+     */
+    @Query("""
+            SELECT new com.example.foody.utils.search_index.SearchableRestaurant(r.id, r.name, r.description, a.city)
+            FROM Restaurant r
+            JOIN r.address a
+            WHERE r.approved = :approved
+            """)
+    List<SearchableRestaurant> findSearchableByApproved(boolean approved);
+
+    /**
+     * Finds the location of all geocoded restaurants with the specified approval status, with one row for each of
+     * their categories.
+     *
+     * @param approved the approval status of the restaurants
+     * @return a list of restaurant locations, one for each category of each restaurant, or one without category for
+     * restaurants without categories
+     */
+    @Query("""
+            SELECT new com.example.foody.utils.location_index.RestaurantLocation(
+                r.id, r.name, a.city, a.latitude, a.longitude, c.id
+            )
+            FROM Restaurant r
+            JOIN r.address a
+            LEFT JOIN r.categories c
+            WHERE r.approved = :approved
+            AND a.latitude IS NOT NULL
+            AND a.longitude IS NOT NULL
+            """)
+    List<RestaurantLocation> findLocationsByApproved(boolean approved);
+
+    /**
      * Finds a restaurant by its ID and approval status.
+     * <p>
+     * The result is kept in the query cache, so repeated lookups of the same restaurant only hit the entity cache.
      *
      * @param id the ID of the restaurant
      * @param approved the approval status of the restaurant
      * @return an Optional containing the restaurant if found, or empty if not found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Restaurant> findByIdAndApproved(long id, boolean approved);
 
     /**
@@ -35,6 +101,7 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
      * @param restaurateurId the ID of the restaurateur
      * @return an Optional containing the restaurant if found, or empty if not found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Restaurant> findByRestaurateur_Id(long restaurateurId);
 
     /**
@@ -61,4 +128,207 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
      * @return true if a restaurant exists with the specified restaurateur ID, false otherwise
      */
     boolean existsByRestaurateur_Id(long restaurateurId);
+
+    /**
+     * Finds the page of restaurants with one of the specified approval statuses created before the given keyset cursor
+     * position, ordered by creation date and ID in descending order, limited to a specified number of results.
+     *
+     * @param approved the accepted approval statuses of the restaurants
+     * @param createdAt the creation date of the cursor position
+     * @param id the ID of the cursor position
+     * @param limit the maximum number of results to return
+     * @return a list of restaurants after the cursor position, ordered by creation date and ID in descending order
+     */
+    @Query("""
+            SELECT r
+            FROM Restaurant r
+            WHERE r.approved IN :approved
+            AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+            ORDER BY r.createdAt DESC, r.id DESC
+            LIMIT :limit
+            """)
+    List<Restaurant> findAllByApprovedInAndCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(
+            List<Boolean> approved,
+            LocalDateTime createdAt,
+            long id,
+            int limit
+    );
+
+    /**
+     * Streams all restaurants with one of the specified approval statuses, ordered by creation date and ID in
+     * descending order.
+     * <p>
+     * Rows are fetched from the database in chunks, so the stream must be consumed inside a transaction and closed.
+     *
+     * @param approved the accepted approval statuses of the restaurants
+     * @return a stream of restaurants, ordered by creation date and ID in descending order
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + PageResponseDTO.QueryResultLimits.STREAM_BATCH_SIZE))
+    Stream<Restaurant> streamAllByApprovedInOrderByCreatedAtDescIdDesc(List<Boolean> approved);
+
+    /**
+     * Replaces the photo URL of the restaurant having the given photo URL.
+     *
+     * @param photoUrl    the current photo URL
+     * @param newPhotoUrl the new photo URL
+     * @return the number of updated restaurants, 0 if no restaurant has the current photo URL anymore
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Restaurant r SET r.photoUrl = :newPhotoUrl WHERE r.photoUrl = :photoUrl")
+    int updatePhotoUrlByPhotoUrl(String photoUrl, String newPhotoUrl);
+
+    /**
+     * Checks if a restaurant has the given photo URL.
+     *
+     * @param photoUrl the photo URL
+     * @return true if a restaurant has the photo URL, false otherwise
+     */
+    boolean existsByPhotoUrl(String photoUrl);
+
+    /**
+     * Adds a number of ratings of the same value to the rating aggregate of a restaurant.
+     * <p>
+     * Native query because the columns of the aggregate are not updatable through the entity. The updated row stays
+     * locked until the end of the transaction, so concurrent reviews of the same restaurant are all counted.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param rating       the value of the ratings, from 1 to 5
+     * @param count        the number of ratings to add, negative to remove them
+     * @return the number of updated restaurants
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE restaurants
+            SET rating_count = rating_count + :count,
+                rating_sum = rating_sum + :rating * :count,
+                rating_1_count = rating_1_count + IF(:rating = 1, :count, 0),
+                rating_2_count = rating_2_count + IF(:rating = 2, :count, 0),
+                rating_3_count = rating_3_count + IF(:rating = 3, :count, 0),
+                rating_4_count = rating_4_count + IF(:rating = 4, :count, 0),
+                rating_5_count = rating_5_count + IF(:rating = 5, :count, 0)
+            WHERE id = :restaurantId
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "restaurants"))
+    int addRatings(long restaurantId, int rating, int count);
+
+    /**
+     * Recomputes the rating aggregates of the active restaurants that differ from their active reviews.
+     * <p>
+     * Native query because JPQL has no joins on derived tables; the deleted_at filters of the entities are repeated
+     * explicitly. The reviews of deleted dishes and customers are not counted: their ratings were removed when the
+     * dish or customer was deleted, even if a pending soft delete cascade has not marked the reviews yet.
+     *
+     * @return the number of corrected restaurants
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE restaurants t
+            LEFT JOIN (
+                SELECT restaurant_id,
+                       COUNT(*) AS rating_count,
+                       SUM(rating) AS rating_sum,
+                       SUM(rating = 1) AS rating_1_count,
+                       SUM(rating = 2) AS rating_2_count,
+                       SUM(rating = 3) AS rating_3_count,
+                       SUM(rating = 4) AS rating_4_count,
+                       SUM(rating = 5) AS rating_5_count
+                FROM reviews r
+                JOIN users c ON c.id = r.customer_id
+                LEFT JOIN dishes d ON d.id = r.dish_id
+                WHERE r.deleted_at IS NULL
+                AND c.deleted_at IS NULL
+                AND d.deleted_at IS NULL
+                GROUP BY restaurant_id
+            ) a ON a.restaurant_id = t.id
+            SET t.rating_count = COALESCE(a.rating_count, 0),
+                t.rating_sum = COALESCE(a.rating_sum, 0),
+                t.rating_1_count = COALESCE(a.rating_1_count, 0),
+                t.rating_2_count = COALESCE(a.rating_2_count, 0),
+                t.rating_3_count = COALESCE(a.rating_3_count, 0),
+                t.rating_4_count = COALESCE(a.rating_4_count, 0),
+                t.rating_5_count = COALESCE(a.rating_5_count, 0)
+            WHERE t.deleted_at IS NULL
+            AND (t.rating_count <> COALESCE(a.rating_count, 0)
+                 OR t.rating_sum <> COALESCE(a.rating_sum, 0)
+                 OR t.rating_1_count <> COALESCE(a.rating_1_count, 0)
+                 OR t.rating_2_count <> COALESCE(a.rating_2_count, 0)
+                 OR t.rating_3_count <> COALESCE(a.rating_3_count, 0)
+                 OR t.rating_4_count <> COALESCE(a.rating_4_count, 0)
+                 OR t.rating_5_count <> COALESCE(a.rating_5_count, 0))
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "restaurants"))
+    int reconcileRatingAggregates();
+
+    /**
+     * Removes the ratings of the active reviews of a dish from the rating aggregates of the rated restaurants.
+     * <p>
+     * Native query because JPQL has no joins on derived tables. Must run before the reviews are marked as deleted.
+     *
+     * @param dishId the ID of the dish
+     * @return the number of updated restaurants
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE restaurants t
+            JOIN (
+                SELECT restaurant_id,
+                       COUNT(*) AS rating_count,
+                       SUM(rating) AS rating_sum,
+                       SUM(rating = 1) AS rating_1_count,
+                       SUM(rating = 2) AS rating_2_count,
+                       SUM(rating = 3) AS rating_3_count,
+                       SUM(rating = 4) AS rating_4_count,
+                       SUM(rating = 5) AS rating_5_count
+                FROM reviews
+                WHERE dish_id = :dishId
+                AND deleted_at IS NULL
+                GROUP BY restaurant_id
+            ) a ON a.restaurant_id = t.id
+            SET t.rating_count = t.rating_count - a.rating_count,
+                t.rating_sum = t.rating_sum - a.rating_sum,
+                t.rating_1_count = t.rating_1_count - a.rating_1_count,
+                t.rating_2_count = t.rating_2_count - a.rating_2_count,
+                t.rating_3_count = t.rating_3_count - a.rating_3_count,
+                t.rating_4_count = t.rating_4_count - a.rating_4_count,
+                t.rating_5_count = t.rating_5_count - a.rating_5_count
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "restaurants"))
+    int removeRatingsByDish_Id(long dishId);
+
+    /**
+     * Removes the ratings of the active reviews of a customer from the rating aggregates of the rated restaurants.
+     * <p>
+     * Native query because JPQL has no joins on derived tables. Must run before the reviews are marked as deleted.
+     *
+     * @param customerId the ID of the customer
+     * @return the number of updated restaurants
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE restaurants t
+            JOIN (
+                SELECT restaurant_id,
+                       COUNT(*) AS rating_count,
+                       SUM(rating) AS rating_sum,
+                       SUM(rating = 1) AS rating_1_count,
+                       SUM(rating = 2) AS rating_2_count,
+                       SUM(rating = 3) AS rating_3_count,
+                       SUM(rating = 4) AS rating_4_count,
+                       SUM(rating = 5) AS rating_5_count
+                FROM reviews
+                WHERE customer_id = :customerId
+                AND deleted_at IS NULL
+                GROUP BY restaurant_id
+            ) a ON a.restaurant_id = t.id
+            SET t.rating_count = t.rating_count - a.rating_count,
+                t.rating_sum = t.rating_sum - a.rating_sum,
+                t.rating_1_count = t.rating_1_count - a.rating_1_count,
+                t.rating_2_count = t.rating_2_count - a.rating_2_count,
+                t.rating_3_count = t.rating_3_count - a.rating_3_count,
+                t.rating_4_count = t.rating_4_count - a.rating_4_count,
+                t.rating_5_count = t.rating_5_count - a.rating_5_count
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "restaurants"))
+    int removeRatingsByCustomer_Id(long customerId);
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package com.example.foody.repository;
 
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.model.Review;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Review} entities.
@@ -45,44 +51,92 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findAllByDish_IdOrderByCreatedAtDesc(long dishId);
 
     /**
-     * Finds the average rating for a specific restaurant.
+     * Finds all reviews by the restaurant ID, ordered by creation date in descending order, limited to a specified number of results.
      *
      * @param restaurantId the ID of the restaurant
-     * @return the average rating of the specified restaurant
+     * @param limit the maximum number of results to return
+     * @return a list of reviews associated with the specified restaurant, ordered by creation date in descending order
      */
     @Query("""
-            SELECT COALESCE(AVG(r.rating), 0)
+            SELECT r
             FROM Review r
             WHERE r.restaurant.id = :restaurantId
+            ORDER BY r.createdAt DESC
+            LIMIT :limit
             """)
-    double findAverageRatingByRestaurant_Id(long restaurantId);
+    List<Review> findAllByRestaurant_IdOrderByCreated_AtDescLimit(long restaurantId, int limit);
 
     /**
-     * Finds the average rating for a specific dish.
+     * Finds the IDs of the latest reviews of each of the specified restaurants, limited to a specified number of
+     * results per restaurant.
+     * <p>
+     * Native query because JPQL has no window functions; the deleted_at filter of the entity is repeated explicitly.
      *
-     * @param dishId the ID of the dish
-     * @return the average rating of the specified dish
+     * @param restaurantIds the IDs of the restaurants
+     * @param limit the maximum number of results to return for each restaurant
+     * @return a list of review IDs
+     */
+    @Query(value = """
+            SELECT ranked.id
+            FROM (
+                SELECT r.id,
+                       ROW_NUMBER() OVER (PARTITION BY r.restaurant_id ORDER BY r.created_at DESC) AS row_num
+                FROM reviews r
+                WHERE r.deleted_at IS NULL
+                AND r.restaurant_id IN (:restaurantIds)
+            ) ranked
+            WHERE ranked.row_num <= :limit
+            """, nativeQuery = true)
+    List<Long> findIdsByRestaurant_IdInOrderByCreated_AtDescLimit(List<Long> restaurantIds, int limit);
+
+    /**
+     * Finds all reviews by their IDs, ordered by creation date in descending order.
+     * <p>
+     * The customer, its credit card and the dish are fetched in the same query.
+     *
+     * @param ids the IDs of the reviews
+     * @return a list of reviews with the specified IDs, ordered by creation date in descending order
      */
     @Query("""
-            SELECT COALESCE(AVG(r.rating), 0)
+            SELECT r
             FROM Review r
-            WHERE r.dish.id = :dishId
+            JOIN FETCH r.customer c
+            LEFT JOIN FETCH c.creditCard
+            LEFT JOIN FETCH r.dish
+            WHERE r.id IN :ids
+            ORDER BY r.createdAt DESC
             """)
-    double findAverageRatingByDish_Id(long dishId);
+    List<Review> findAllByIdInOrderByCreatedAtDesc(List<Long> ids);
 
     /**
-     * Finds all reviews by the restaurant ID, ordered by creation date in descending order, limited to a specified number of results.
+     * Finds the page of reviews created before the given keyset cursor position, ordered by creation date and ID in
+     * descending order, limited to a specified number of results.
      *
-     * @param restaurantId the ID of the restaurant
+     * @param createdAt the creation date of the cursor position
+     * @param id the ID of the cursor position
      * @param limit the maximum number of results to return
-     * @return a list of reviews associated with the specified restaurant, ordered by creation date in descending order
+     * @return a list of reviews after the cursor position, ordered by creation date and ID in descending order
      */
     @Query("""
             SELECT r
             FROM Review r
-            WHERE r.restaurant.id = :restaurantId
-            ORDER BY r.createdAt DESC
+            WHERE (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+            ORDER BY r.createdAt DESC, r.id DESC
             LIMIT :limit
             """)
-    List<Review> findAllByRestaurant_IdOrderByCreated_AtDescLimit(long restaurantId, int limit);
+    List<Review> findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(
+            LocalDateTime createdAt,
+            long id,
+            int limit
+    );
+
+    /**
+     * Streams all reviews, ordered by creation date and ID in descending order.
+     * <p>
+     * Rows are fetched from the database in chunks, so the stream must be consumed inside a transaction and closed.
+     *
+     * @return a stream of all reviews, ordered by creation date and ID in descending order
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + PageResponseDTO.QueryResultLimits.STREAM_BATCH_SIZE))
+    Stream<Review> streamAllByOrderByCreatedAtDescIdDesc();
 }
\ No newline at end of file
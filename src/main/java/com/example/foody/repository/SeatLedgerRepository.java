@@ -0,0 +1,142 @@
+package com.example.foody.repository;
+
+import com.example.foody.model.seat_ledger.SeatLedgerEntry;
+import com.example.foody.model.seat_ledger.SeatLedgerKey;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link SeatLedgerEntry} entities.
+ * <p>
+ * Extends the {@link JpaRepository} interface to provide CRUD operations for {@link SeatLedgerEntry} entities.
+ */
+public interface SeatLedgerRepository extends JpaRepository<SeatLedgerEntry, SeatLedgerKey> {
+
+    /**
+     * Finds all the entries of a restaurant between two dates, both included.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param from         the first date
+     * @param to           the last date
+     * @return a list of entries of the restaurant between the two dates
+     */
+    List<SeatLedgerEntry> findAllById_RestaurantIdAndId_DateBetween(long restaurantId, LocalDate from, LocalDate to);
+
+    /**
+     * Finds all the entries of a date, for every restaurant.
+     *
+     * @param date the date
+     * @return a list of entries of the date
+     */
+    List<SeatLedgerEntry> findAllById_Date(LocalDate date);
+
+    /**
+     * Adds the given number of seats to an entry, only if the booked seats do not exceed the capacity afterwards.
+     * <p>
+     * The check and the update are a single statement, and the updated row stays locked until the end of the
+     * transaction, so concurrent reservations of the same sitting time cannot exceed the capacity.
+     *
+     * @param restaurantId  the ID of the restaurant
+     * @param date          the date of the booking
+     * @param sittingTimeId the ID of the sitting time
+     * @param seats         the number of seats to reserve
+     * @param capacity      the number of seats of the restaurant
+     * @return the number of updated entries, 0 if the entry does not exist or there are not enough seats
+     */
+    @Modifying
+    @Query("""
+            UPDATE SeatLedgerEntry e
+            SET e.bookedSeats = e.bookedSeats + :seats
+            WHERE e.id.restaurantId = :restaurantId
+            AND e.id.date = :date
+            AND e.id.sittingTimeId = :sittingTimeId
+            AND e.bookedSeats + :seats <= :capacity
+            """)
+    int reserveSeats(long restaurantId, LocalDate date, long sittingTimeId, int seats, int capacity);
+
+    /**
+     * Removes the given number of seats from an entry.
+     *
+     * @param restaurantId  the ID of the restaurant
+     * @param date          the date of the booking
+     * @param sittingTimeId the ID of the sitting time
+     * @param seats         the number of seats to release
+     * @return the number of updated entries, 0 if the entry does not exist
+     */
+    @Modifying
+    @Query("""
+            UPDATE SeatLedgerEntry e
+            SET e.bookedSeats = e.bookedSeats - :seats
+            WHERE e.id.restaurantId = :restaurantId
+            AND e.id.date = :date
+            AND e.id.sittingTimeId = :sittingTimeId
+            AND e.bookedSeats >= :seats
+            """)
+    int releaseSeats(long restaurantId, LocalDate date, long sittingTimeId, int seats);
+
+    /**
+     * Creates the entry of a sitting time from its active bookings, unless it already exists.
+     * <p>
+     * Native query because JPQL has no INSERT IGNORE; the deleted_at filter of the bookings is repeated explicitly.
+     *
+     * @param restaurantId  the ID of the restaurant
+     * @param date          the date of the bookings
+     * @param sittingTimeId the ID of the sitting time
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO seat_ledger (restaurant_id, date, sitting_time_id, booked_seats)
+            SELECT :restaurantId, :date, :sittingTimeId, COALESCE(SUM(b.seats), 0)
+            FROM bookings b
+            WHERE b.deleted_at IS NULL
+            AND b.status = 'ACTIVE'
+            AND b.restaurant_id = :restaurantId
+            AND b.date = :date
+            AND b.sitting_time_id = :sittingTimeId
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seat_ledger"))
+    void insertIgnoreFromBookings(long restaurantId, LocalDate date, long sittingTimeId);
+
+    /**
+     * Creates the missing entries of every sitting time with active bookings from the given date on.
+     * <p>
+     * Native query because JPQL has no INSERT IGNORE; the deleted_at filter of the bookings is repeated explicitly.
+     *
+     * @param from the first date
+     * @return the number of created entries
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT IGNORE INTO seat_ledger (restaurant_id, date, sitting_time_id, booked_seats)
+            SELECT b.restaurant_id, b.date, b.sitting_time_id, SUM(b.seats)
+            FROM bookings b
+            WHERE b.deleted_at IS NULL
+            AND b.status = 'ACTIVE'
+            AND b.date >= :from
+            GROUP BY b.restaurant_id, b.date, b.sitting_time_id
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seat_ledger"))
+    int insertIgnoreAllFromBookings(LocalDate from);
+
+    /**
+     * Deletes all the entries of the given sitting times, in a single statement.
+     *
+     * @param sittingTimeIds the IDs of the sitting times
+     * @return the number of deleted entries
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM SeatLedgerEntry e
+            WHERE e.id.sittingTimeId IN :sittingTimeIds
+            """)
+    int deleteAllById_SittingTimeIdIn(List<Long> sittingTimeIds);
+}
\ No newline at end of file
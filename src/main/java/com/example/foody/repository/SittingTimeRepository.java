@@ -1,8 +1,14 @@
 package com.example.foody.repository;
 
 import com.example.foody.model.SittingTime;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
@@ -14,62 +20,38 @@ import java.util.List;
 public interface SittingTimeRepository extends JpaRepository<SittingTime, Long> {
 
     /**
-     * Finds all sitting times by the restaurant ID.
+     * Finds the slots of all the sitting times of the specified restaurants.
+     * <p>
+     * Only the columns of the slots are read, without loading the sitting time entities.
      *
-     * @param restaurantId the ID of the restaurant
-     * @return a list of sitting times associated with the specified restaurant
-     */
-    List<SittingTime> findAllByWeekDayInfoRestaurantId(long restaurantId);
-
-    /**
-     * Finds all sitting times by the restaurant ID and weekday, ordered by start time.
-     *
-     * @param restaurantId the ID of the restaurant
-     * @param weekDay the day of the week
-     * @return a list of sitting times associated with the specified restaurant and weekday, ordered by start time
-     */
-    List<SittingTime> findAllByWeekDayInfo_Restaurant_IdAndWeekDayInfo_WeekDayOrderByStart(
-            long restaurantId,
-            int weekDay
-    );
-
-    /**
-     * Finds all sitting times by the restaurant ID and weekday, starting after the current time, ordered by start time.
-     *
-     * @param restaurantId the ID of the restaurant
-     * @param weekDay the day of the week
-     * @return a list of sitting times associated with the specified restaurant and weekday, starting after the current time, ordered by start time
+     * @param restaurantIds the IDs of the restaurants
+     * @return a list of the slots of the sitting times of the specified restaurants
      */
     @Query("""
-            SELECT s
+            SELECT new com.example.foody.utils.sitting_time_calendar.SittingTimeSlot(
+                s.id, w.restaurant.id, w.id, w.weekDay, s.start, s.end
+            )
             FROM SittingTime s
-            WHERE s.weekDayInfo.restaurant.id = :restaurantId
-            AND s.weekDayInfo.weekDay = :weekDay
-            AND s.start > current_timestamp
-            ORDER BY s.start
+            JOIN s.weekDayInfo w
+            WHERE w.restaurant.id IN :restaurantIds
+            AND w.deletedAt IS NULL
             """)
-    List<SittingTime> findAllByRestaurantIdAndWeekDayAndStartAfterNowOrderByStart(long restaurantId, int weekDay);
+    List<SittingTimeSlot> findSlotsByRestaurant_IdIn(List<Long> restaurantIds);
 
     /**
-     * Finds all sitting times by the restaurant ID and weekday, starting after the current time, ordered by start time, limited to a specified number of results.
+     * Marks the given sitting times as deleted, in a single statement.
      *
-     * @param restaurantId the ID of the restaurant
-     * @param weekDay the day of the week
-     * @param limit the maximum number of results to return
-     * @return a list of sitting times associated with the specified restaurant and weekday, starting after the current time, ordered by start time
+     * @param ids the IDs of the sitting times
+     * @return the number of deleted sitting times
      */
-    @Query("""
-            SELECT s
-            FROM SittingTime s
-            WHERE s.weekDayInfo.restaurant.id = :restaurantId
-            AND s.weekDayInfo.weekDay = :weekDay
-            AND s.start > current_timestamp
-            ORDER BY s.start
-            LIMIT :limit
-            """)
-    List<SittingTime> findAllByRestaurant_IdAndWeekDayAndStartAfterNowOrderByStartLimit(
-            long restaurantId,
-            int weekDay,
-            int limit
-    );
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE sitting_times
+            SET deleted_at = CURRENT_TIMESTAMP
+            WHERE id IN (:ids)
+            AND deleted_at IS NULL
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sitting_times"))
+    int deleteAllByIdIn(List<Long> ids);
 }
\ No newline at end of file
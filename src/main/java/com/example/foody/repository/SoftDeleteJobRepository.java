@@ -0,0 +1,64 @@
+package com.example.foody.repository;
+
+import com.example.foody.model.SoftDeleteJob;
+import com.example.foody.utils.enums.SoftDeleteJobStatus;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link SoftDeleteJob} entities.
+ * <p>
+ * Extends the {@link JpaRepository} interface to provide CRUD operations for {@link SoftDeleteJob} entities.
+ */
+public interface SoftDeleteJobRepository extends JpaRepository<SoftDeleteJob, Long> {
+
+    /**
+     * Claims the pending cascades that are due for a run, in the order they were started, in a single statement.
+     * <p>
+     * The claimed cascades are marked with the claim token, their next run is moved to the end of the lease and their
+     * version is increased, so that no other worker claims them until the lease expires, and a worker whose lease
+     * expired fails to save their progress.
+     *
+     * @param claimToken the token identifying the claim
+     * @param now the current time
+     * @param leaseUntil the end of the lease of the claimed cascades
+     * @param limit the maximum number of cascades to claim
+     * @return the number of claimed cascades
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE soft_delete_jobs
+            SET claim_token = :claimToken, next_attempt_at = :leaseUntil, version = version + 1
+            WHERE status = 'PENDING'
+            AND next_attempt_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "soft_delete_jobs"))
+    int claimDue(String claimToken, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * Finds the cascades with the given claim token, ordered by ID.
+     *
+     * @param claimToken the token identifying the claim
+     * @return a list of claimed cascades, in the order they were started
+     */
+    List<SoftDeleteJob> findAllByClaimTokenOrderById(String claimToken);
+
+    /**
+     * Finds the cascades whose status differs from the given one, ordered by ID.
+     *
+     * @param status the excluded status
+     * @return a list of cascades, in the order they were started
+     */
+    List<SoftDeleteJob> findAllByStatusNotOrderById(SoftDeleteJobStatus status);
+}
\ No newline at end of file
@@ -2,7 +2,10 @@ package com.example.foody.repository;
 
 import com.example.foody.model.user.User;
 import com.example.foody.utils.enums.Role;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,4 +32,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return a list of users with the specified role
      */
     List<User> findByRole(Role role);
+
+    /**
+     * Updates the Firebase custom token of a user.
+     *
+     * @param id                  the ID of the user
+     * @param firebaseCustomToken the new Firebase custom token
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.firebaseCustomToken = :firebaseCustomToken WHERE u.id = :id")
+    void updateFirebaseCustomTokenById(long id, String firebaseCustomToken);
+
+    /**
+     * Replaces the avatar URL of the user having the given avatar URL.
+     *
+     * @param avatarUrl    the current avatar URL
+     * @param newAvatarUrl the new avatar URL
+     * @return the number of updated users, 0 if no user has the current avatar URL anymore
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.avatarUrl = :newAvatarUrl WHERE u.avatarUrl = :avatarUrl")
+    int updateAvatarUrlByAvatarUrl(String avatarUrl, String newAvatarUrl);
+
+    /**
+     * Checks if a user has the given avatar URL.
+     *
+     * @param avatarUrl the avatar URL
+     * @return true if a user has the avatar URL, false otherwise
+     */
+    boolean existsByAvatarUrl(String avatarUrl);
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.example.foody.repository;
 
 import com.example.foody.model.WeekDayInfo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
@@ -18,5 +21,6 @@ public interface WeekDayInfoRepository extends JpaRepository<WeekDayInfo, Long>
      * @param restaurantId the ID of the restaurant
      * @return a list of WeekDayInfo entities associated with the specified restaurant, ordered by the weekday
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<WeekDayInfo> findAllByRestaurantIdOrderByWeekDay(long restaurantId);
 }
\ No newline at end of file
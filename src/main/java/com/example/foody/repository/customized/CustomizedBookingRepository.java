@@ -18,4 +18,11 @@ public interface CustomizedBookingRepository {
      * @return an {@link Optional} containing the booking if found, or empty if not found
      */
     Optional<Booking> findById(long id);
+
+    /**
+     * Reloads the state of a managed booking from the database, for example after a bulk update of its status.
+     *
+     * @param booking the managed booking
+     */
+    void refresh(Booking booking);
 }
\ No newline at end of file
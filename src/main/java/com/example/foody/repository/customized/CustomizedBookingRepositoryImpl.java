@@ -39,6 +39,19 @@ public class CustomizedBookingRepositoryImpl implements CustomizedBookingReposit
                 });
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also resets the booking state to match the reloaded status.
+     *
+     * @param booking the managed booking
+     */
+    @Override
+    public void refresh(Booking booking) {
+        entityManager.refresh(booking);
+        booking.setState(BookingStateUtils.getState(booking.getStatus()));
+    }
+
     /**
      * Sets the state of the booking based on its status.
      *
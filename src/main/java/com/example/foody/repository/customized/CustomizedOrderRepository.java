@@ -2,8 +2,10 @@ package com.example.foody.repository.customized;
 
 import com.example.foody.model.Order;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Customized repository interface for managing {@link Order} entities.
@@ -27,6 +29,21 @@ public interface CustomizedOrderRepository {
      */
     Optional<Order> findById(long id);
 
+    /**
+     * Reloads the state of a managed order from the database, for example after a bulk update of its status.
+     *
+     * @param order the managed order
+     */
+    void refresh(Order order);
+
+    /**
+     * Records the current values of a managed order as its values in the database, after a bulk update wrote the same
+     * changes, so the order is not updated again when the persistence context is flushed.
+     *
+     * @param order the managed order, with the values written by the bulk update
+     */
+    void markUpdated(Order order);
+
     /**
      * Finds all orders by buyer ID.
      *
@@ -51,4 +68,51 @@ public interface CustomizedOrderRepository {
      * @return a list of all orders by the restaurant with the specified statuses
      */
     List<Order> findAllByRestaurant_IdAndStatusInOrderByCreatedAtDesc(long restaurantId, List<String> statuses);
+
+    /**
+     * Finds all orders with the given statuses, across all restaurants.
+     *
+     * @param statuses the list of statuses
+     * @return a list of all orders with the specified statuses
+     */
+    List<Order> findAllByStatusInOrderByCreatedAtDesc(List<String> statuses);
+
+    /**
+     * Finds the orders with the given IDs, ordered by creation date in descending order.
+     *
+     * @param ids the IDs of the orders
+     * @return a list of the orders with the specified IDs
+     */
+    List<Order> findAllByIdInOrderByCreatedAtDesc(List<Long> ids);
+
+    /**
+     * Finds the page of orders created before the given keyset cursor position, ordered by creation date and ID in
+     * descending order, limited to a specified number of results.
+     *
+     * @param createdAt the creation date of the cursor position
+     * @param id        the ID of the cursor position
+     * @param limit     the maximum number of results to return
+     * @return a list of orders after the cursor position
+     */
+    List<Order> findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(LocalDateTime createdAt, long id, int limit);
+
+    /**
+     * Streams all orders, ordered by creation date and ID in descending order.
+     * <p>
+     * Rows are fetched from the database in chunks, so the stream must be consumed inside a transaction and closed.
+     * The details of the streamed orders are not loaded, they must be loaded in batches with
+     * {@link #loadDetails(List)}.
+     *
+     * @return a stream of all orders
+     */
+    Stream<Order> streamAllByOrderByCreatedAtDescIdDesc();
+
+    /**
+     * Loads the details of the given orders in batched queries: their states, their order dishes with the dishes,
+     * and their buyer users.
+     *
+     * @param orders the orders
+     * @return the same orders, with their details loaded
+     */
+    List<Order> loadDetails(List<Order> orders);
 }
\ No newline at end of file
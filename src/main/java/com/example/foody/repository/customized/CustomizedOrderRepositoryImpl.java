@@ -1,106 +1,156 @@
 package com.example.foody.repository.customized;
 
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.model.Order;
 import com.example.foody.model.user.BuyerUser;
 import com.example.foody.model.user.User;
 import com.example.foody.utils.state.OrderStateUtils;
 import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link CustomizedOrderRepository} interface.
  * <p>
  * Provides custom query methods for specific order-related operations.
+ * <p>
+ * Orders are loaded with a constant number of queries, whatever their number: one query for the orders joined with
+ * their restaurant, one for their order dishes and dishes, and one for all their buyer users.
  */
 @AllArgsConstructor
 public class CustomizedOrderRepositoryImpl implements CustomizedOrderRepository {
 
+    /**
+     * Selects the orders joined with their restaurant and its eagerly loaded associations.
+     * <p>
+     * The join is an inner join on purpose: a soft-deleted restaurant cannot be loaded, so an order still pointing to
+     * one, until the soft delete cascade reaches it, is left out instead of failing the whole query as an outer join
+     * or a separate select of the restaurant would.
+     */
+    private static final String SELECT_ORDERS = """
+            SELECT o
+            FROM Order o
+            JOIN FETCH o.restaurant r
+            JOIN FETCH r.address
+            JOIN FETCH r.restaurateur
+            """;
+
     private final EntityManager entityManager;
 
     /**
      * {@inheritDoc}
      * <p>
-     * Also processes each order by setting the order state and the buyer user.
+     * Also loads the details of the orders with {@link #loadDetails(List)}.
      *
      * @return a list of all orders
      */
     @Override
     public List<Order> findAll() {
-        return entityManager
-                .createQuery("SELECT o FROM Order o", Order.class)
-                .getResultList()
-                .stream()
-                .peek(this::processOrder)
-                .toList();
+        List<Order> orders = entityManager
+                .createQuery(SELECT_ORDERS, Order.class)
+                .getResultList();
+        return loadDetails(orders);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Also processes the order by setting the order state and the buyer user.
+     * Also loads the details of the order with {@link #loadDetails(List)}.
      *
      * @param id the ID of the order
      * @return an {@link Optional} containing the order if found, or empty if not found
      */
     @Override
     public Optional<Order> findById(long id) {
-        return entityManager
-                .createQuery("SELECT o FROM Order o WHERE o.id = :id", Order.class)
+        List<Order> orders = entityManager
+                .createQuery(SELECT_ORDERS + "WHERE o.id = :id", Order.class)
                 .setParameter("id", id)
-                .getResultList()
+                .getResultList();
+        return loadDetails(orders)
                 .stream()
-                .findFirst()
-                .map(o -> {
-                    processOrder(o);
-                    return o;
-                });
+                .findFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also resets the order state to match the reloaded status.
+     *
+     * @param order the managed order
+     */
+    @Override
+    public void refresh(Order order) {
+        entityManager.refresh(order);
+        order.setState(OrderStateUtils.getState(order.getStatus()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values and the version of the order are recorded in its entry of the persistence context, as Hibernate does
+     * after flushing an update. Orders that are not managed are left unchanged.
+     *
+     * @param order the managed order, with the values written by the bulk update
+     */
+    @Override
+    public void markUpdated(Order order) {
+        EntityEntry entry = entityManager
+                .unwrap(SessionImplementor.class)
+                .getPersistenceContextInternal()
+                .getEntry(order);
+        if (entry == null) return;
+
+        entry.postUpdate(order, entry.getPersister().getValues(order), order.getVersion());
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Also processes each order by setting the order state and the buyer user.
+     * Also loads the details of the orders with {@link #loadDetails(List)}.
      *
      * @param buyerId the ID of the buyer
      * @return a list of all orders by the buyer
      */
     @Override
     public List<Order> findAllByBuyer_IdOrderByCreatedAtDesc(long buyerId) {
-        return entityManager
-                .createQuery("SELECT o FROM Order o WHERE o.buyer.id = :buyerId ORDER BY o.createdAt DESC", Order.class)
+        List<Order> orders = entityManager
+                .createQuery(SELECT_ORDERS + "WHERE o.buyer.id = :buyerId ORDER BY o.createdAt DESC", Order.class)
                 .setParameter("buyerId", buyerId)
-                .getResultList()
-                .stream()
-                .peek(this::processOrder)
-                .toList();
+                .getResultList();
+        return loadDetails(orders);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Also processes each order by setting the order state and the buyer user.
+     * Also loads the details of the orders with {@link #loadDetails(List)}.
      *
      * @param restaurantId the ID of the restaurant
      * @return a list of all orders by the restaurant
      */
     @Override
     public List<Order> findAllByRestaurant_IdOrderByCreatedAtDesc(long restaurantId) {
-        return entityManager
-                .createQuery("SELECT o FROM Order o WHERE o.restaurant.id = :restaurantId ORDER BY o.createdAt DESC", Order.class)
+        List<Order> orders = entityManager
+                .createQuery(SELECT_ORDERS + "WHERE r.id = :restaurantId ORDER BY o.createdAt DESC", Order.class)
                 .setParameter("restaurantId", restaurantId)
-                .getResultList()
-                .stream()
-                .peek(this::processOrder)
-                .toList();
+                .getResultList();
+        return loadDetails(orders);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Also processes each order by setting the order state and the buyer user.
+     * Also loads the details of the orders with {@link #loadDetails(List)}.
      *
      * @param restaurantId the ID of the restaurant
      * @param statuses     the list of statuses
@@ -108,30 +158,123 @@ public class CustomizedOrderRepositoryImpl implements CustomizedOrderRepository
      */
     @Override
     public List<Order> findAllByRestaurant_IdAndStatusInOrderByCreatedAtDesc(long restaurantId, List<String> statuses) {
-        return entityManager
-                .createQuery("""
-                        SELECT o
-                        FROM Order o
-                        WHERE o.restaurant.id = :restaurantId
+        List<Order> orders = entityManager
+                .createQuery(SELECT_ORDERS + """
+                        WHERE r.id = :restaurantId
                         AND o.status IN :statuses
                         ORDER BY o.createdAt DESC
                         """, Order.class)
                 .setParameter("restaurantId", restaurantId)
                 .setParameter("statuses", statuses)
-                .getResultList()
-                .stream()
-                .peek(this::processOrder)
-                .toList();
+                .getResultList();
+        return loadDetails(orders);
     }
 
     /**
-     * Processes the order by setting the order state and the buyer user.
+     * {@inheritDoc}
+     * <p>
+     * Also loads the details of the orders with {@link #loadDetails(List)}.
      *
-     * @param order the order entity
+     * @param statuses the list of statuses
+     * @return a list of all orders with the specified statuses
+     */
+    @Override
+    public List<Order> findAllByStatusInOrderByCreatedAtDesc(List<String> statuses) {
+        List<Order> orders = entityManager
+                .createQuery(SELECT_ORDERS + """
+                        WHERE o.status IN :statuses
+                        ORDER BY o.createdAt DESC
+                        """, Order.class)
+                .setParameter("statuses", statuses)
+                .getResultList();
+        return loadDetails(orders);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also loads the details of the orders with {@link #loadDetails(List)}.
+     *
+     * @param ids the IDs of the orders
+     * @return a list of the orders with the specified IDs
+     */
+    @Override
+    public List<Order> findAllByIdInOrderByCreatedAtDesc(List<Long> ids) {
+        List<Order> orders = entityManager
+                .createQuery(SELECT_ORDERS + """
+                        WHERE o.id IN :ids
+                        ORDER BY o.createdAt DESC
+                        """, Order.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        return loadDetails(orders);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also loads the details of the orders with {@link #loadDetails(List)}.
+     *
+     * @param createdAt the creation date of the cursor position
+     * @param id        the ID of the cursor position
+     * @param limit     the maximum number of results to return
+     * @return a list of orders after the cursor position
+     */
+    @Override
+    public List<Order> findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(
+            LocalDateTime createdAt,
+            long id,
+            int limit
+    ) {
+        List<Order> orders = entityManager
+                .createQuery(SELECT_ORDERS + """
+                        WHERE (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id))
+                        ORDER BY o.createdAt DESC, o.id DESC
+                        """, Order.class)
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", id)
+                .setMaxResults(limit)
+                .getResultList();
+        return loadDetails(orders);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the order states are set while streaming, the details must be loaded per batch with
+     * {@link #loadDetails(List)}.
+     *
+     * @return a stream of all orders
+     */
+    @Override
+    public Stream<Order> streamAllByOrderByCreatedAtDescIdDesc() {
+        return entityManager
+                .createQuery(SELECT_ORDERS + "ORDER BY o.createdAt DESC, o.id DESC", Order.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, PageResponseDTO.QueryResultLimits.STREAM_BATCH_SIZE)
+                .getResultStream()
+                .peek(this::setOrderState);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Sets the order states, then fetches the order dishes with their dishes in one query and the buyer users in
+     * another one.
+     *
+     * @param orders the orders
+     * @return the same orders, with their details loaded
      */
-    private void processOrder(Order order) {
-        setOrderState(order);
-        setBuyerUser(order.getBuyer());
+    @Override
+    public List<Order> loadDetails(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+
+        orders.forEach(this::setOrderState);
+        fetchOrderDishes(orders);
+        setBuyerUsers(orders);
+
+        return orders;
     }
 
     /**
@@ -146,19 +289,49 @@ public class CustomizedOrderRepositoryImpl implements CustomizedOrderRepository
     }
 
     /**
-     * Sets the buyer user of the order.
+     * Initializes the order dishes of the orders, together with their dishes, in a single query.
+     * <p>
+     * The orders are already managed, so the query only fills their order dishes collections.
      *
-     * @param buyer the buyer entity
+     * @param orders the order entities
      */
-    private void setBuyerUser(BuyerUser buyer) {
-        if (buyer == null || buyer.getId() == null) return;
-
+    private void fetchOrderDishes(List<Order> orders) {
         entityManager
-                .createQuery("SELECT u FROM User u WHERE u.id = :id", User.class)
-                .setParameter("id", buyer.getId())
+                .createQuery("""
+                        SELECT DISTINCT o
+                        FROM Order o
+                        LEFT JOIN FETCH o.orderDishes od
+                        LEFT JOIN FETCH od.dish
+                        WHERE o IN :orders
+                        """, Order.class)
+                .setParameter("orders", orders)
+                .getResultList();
+    }
+
+    /**
+     * Sets the buyer users of the orders, looking them up in a single query by the IDs of the buyers.
+     *
+     * @param orders the order entities
+     */
+    private void setBuyerUsers(List<Order> orders) {
+        List<BuyerUser> buyers = orders.stream()
+                .map(Order::getBuyer)
+                .filter(buyer -> buyer != null && buyer.getId() != null)
+                .toList();
+
+        if (buyers.isEmpty()) return;
+
+        List<Long> buyerIds = buyers.stream()
+                .map(BuyerUser::getId)
+                .distinct()
+                .toList();
+        Map<Long, User> usersById = entityManager
+                .createQuery("SELECT u FROM User u WHERE u.id IN :ids", User.class)
+                .setParameter("ids", buyerIds)
                 .getResultList()
                 .stream()
-                .findFirst()
-                .ifPresent(buyer::setUser);
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        buyers.forEach(buyer -> buyer.setUser(usersById.get(buyer.getId())));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.example.foody.security;
 
 import com.example.foody.exceptions.user.UserNotActiveException;
 import com.example.foody.model.user.User;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,7 +19,8 @@ import org.springframework.web.servlet.HandlerExceptionResolver;
 /**
  * Filter that processes JWT authentication for each request.
  * <p>
- * Extends {@link OncePerRequestFilter} to ensure a single execution per request.
+ * Extends {@link OncePerRequestFilter} to ensure a single execution per request. The token is parsed once per request
+ * and the authenticated user is taken from the {@link PrincipalCache}, so most requests do not hit the database.
  */
 @Component
 @AllArgsConstructor
@@ -26,6 +28,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
     private final HandlerExceptionResolver handlerExceptionResolver;
 
     /**
@@ -49,17 +52,21 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // Extract the JWT token from the Authorization header
+            // Extract the JWT token from the Authorization header, verifying its signature and expiration
             String token = authHeader.substring("Bearer ".length());
-            String username = jwtService.extractUsername(token);
+            Claims claims = jwtService.parseToken(token);
+            String username = claims.getSubject();
 
             // If the token is valid and the user is not authenticated, set the authentication
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                User user = (User) userDetailsService.loadUserByUsername(username);
+                if (Boolean.FALSE.equals(claims.get(JwtService.ClaimNames.ACTIVE, Boolean.class)))
+                    throw new UserNotActiveException(username);
+
+                User user = principalCache.get(username, email -> (User) userDetailsService.loadUserByUsername(email));
 
                 if (!user.isActive()) throw new UserNotActiveException(username);
 
-                if (jwtService.validateToken(token, user)) {
+                if (isIssuedFor(claims, user)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             user,
                             null,
@@ -76,4 +83,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             handlerExceptionResolver.resolveException(request, response, null, e);
         }
     }
+
+    /**
+     * Checks if the token was issued for the given user.
+     * <p>
+     * Tokens issued before the ID claim was introduced are matched by username only.
+     *
+     * @param claims the claims of the token
+     * @param user   the user with the username of the token
+     * @return true if the ID claim is missing or matches the ID of the user
+     */
+    private boolean isIssuedFor(Claims claims, User user) {
+        Number id = claims.get(JwtService.ClaimNames.ID, Number.class);
+        return id == null || id.longValue() == user.getId();
+    }
 }
\ No newline at end of file
@@ -2,9 +2,12 @@ package com.example.foody.security;
 
 import com.example.foody.model.user.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,7 +23,8 @@ import java.util.function.Function;
 /**
  * Service class for handling JWT operations such as token generation, validation, and extraction of claims.
  * <p>
- * Utilizes a secret key and expiration time defined in the application properties.
+ * Utilizes a secret key and expiration time defined in the application properties. The signing key and the parser are
+ * built once from the secret and reused for every token.
  */
 @Getter
 @Setter
@@ -33,6 +37,25 @@ public class JwtService {
     @Value("${security.jwt.expiration}")
     private long EXPIRATION;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile SecretKey signKey;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile JwtParser parser;
+
+    /**
+     * Sets the secret used to sign the tokens, discarding the key and parser built from the previous secret.
+     *
+     * @param secret the Base64-encoded secret
+     */
+    public void setSECRET(String secret) {
+        this.SECRET = secret;
+        this.signKey = null;
+        this.parser = null;
+    }
+
     /**
      * Generates a JWT token for the given user.
      *
@@ -41,7 +64,9 @@ public class JwtService {
      */
     public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("role", user.getRole());
+        claims.put(ClaimNames.ID, user.getId());
+        claims.put(ClaimNames.ROLE, user.getRole());
+        claims.put(ClaimNames.ACTIVE, user.isActive());
         return createToken(claims, user.getEmail());
     }
 
@@ -63,13 +88,47 @@ public class JwtService {
     }
 
     /**
-     * Retrieves the signing key for the JWT token.
+     * Retrieves the signing key for the JWT token, decoding it from the secret on first use.
      *
      * @return the signing key
      */
     private SecretKey getSignKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET);
-        return Keys.hmacShaKeyFor(keyBytes);
+        SecretKey key = signKey;
+        if (key == null) {
+            byte[] keyBytes = Decoders.BASE64.decode(SECRET);
+            key = Keys.hmacShaKeyFor(keyBytes);
+            signKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * Retrieves the parser verifying the signature of the JWT tokens, building it on first use.
+     *
+     * @return the parser
+     */
+    private JwtParser getParser() {
+        JwtParser jwtParser = parser;
+        if (jwtParser == null) {
+            jwtParser = Jwts.parser()
+                    .verifyWith(getSignKey())
+                    .build();
+            parser = jwtParser;
+        }
+        return jwtParser;
+    }
+
+    /**
+     * Parses the given JWT token, verifying its signature and expiration.
+     * <p>
+     * Callers needing several claims should parse the token once with this method instead of extracting each claim.
+     *
+     * @param token the JWT token
+     * @return the claims of the token
+     * @throws JwtException if the token is invalid or expired
+     */
+    public Claims parseToken(String token) {
+        return extractAllClaims(token);
     }
 
     /**
@@ -112,23 +171,11 @@ public class JwtService {
      * @return the claims extracted from the token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignKey())
-                .build()
+        return getParser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    /**
-     * Checks if the given JWT token is expired.
-     *
-     * @param token the JWT token
-     * @return true if the token is expired, false otherwise
-     */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
     /**
      * Validates the given JWT token against the user details.
      *
@@ -137,7 +184,17 @@ public class JwtService {
      * @return true if the token is valid, false otherwise
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date()));
+    }
+
+    /**
+     * Names of the claims describing the user in the JWT tokens.
+     */
+    public static class ClaimNames {
+
+        public static final String ID = "id";
+        public static final String ROLE = "role";
+        public static final String ACTIVE = "active";
     }
 }
\ No newline at end of file
@@ -0,0 +1,229 @@
+package com.example.foody.security;
+
+import com.example.foody.model.CreditCard;
+import com.example.foody.model.Restaurant;
+import com.example.foody.model.user.*;
+import com.example.foody.utils.enums.Role;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of the authenticated users, keyed by username.
+ * <p>
+ * Lets {@link JwtAuthFilter} authenticate consecutive requests of the same user without loading the user from the
+ * database each time. The cache keeps an immutable snapshot of each user, and every request gets its own copy of the
+ * user built from the snapshot, so a request changing its principal cannot leak the change to other requests. The
+ * relations of the copy carry only their ID. Entries expire after {@link CacheLifecycle#TTL} and must be invalidated
+ * whenever the user or its relations are changed.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Map<String, PrincipalSnapshot> cachedPrincipals = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves a copy of the cached user with the given username, loading and caching it if it is missing or expired.
+     *
+     * @param username the username of the user
+     * @param loader   the function loading the user when it is not cached
+     * @return a new copy of the user with the given username
+     */
+    public User get(String username, Function<String, User> loader) {
+        Instant now = Instant.now();
+        PrincipalSnapshot cachedPrincipal = cachedPrincipals.get(username);
+
+        if (cachedPrincipal == null || !cachedPrincipal.expiresAt().isAfter(now)) {
+            cachedPrincipal = PrincipalSnapshot.of(loader.apply(username), now.plus(CacheLifecycle.TTL));
+            if (cachedPrincipals.size() < CacheLifecycle.MAX_SIZE) {
+                cachedPrincipals.put(username, cachedPrincipal);
+            }
+        }
+
+        return cachedPrincipal.toUser();
+    }
+
+    /**
+     * Removes the user with the given username from the cache.
+     * <p>
+     * When called inside a transaction, the user is removed again after the commit, so requests running concurrently
+     * with the transaction cannot keep the previous state of the user cached.
+     *
+     * @param username the username of the user
+     */
+    public void invalidate(String username) {
+        if (username == null) return;
+
+        cachedPrincipals.remove(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cachedPrincipals.remove(username);
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes the users with the given usernames from the cache, like {@link #invalidate(String)}.
+     *
+     * @param usernames the usernames of the users
+     */
+    public void invalidateAll(Collection<String> usernames) {
+        usernames.forEach(this::invalidate);
+    }
+
+    /**
+     * Removes the expired users from the cache.
+     */
+    @Scheduled(fixedDelayString = CacheLifecycle.EVICTION_INTERVAL_MILLIS)
+    public void evictExpired() {
+        Instant now = Instant.now();
+        cachedPrincipals.values().removeIf(cachedPrincipal -> !cachedPrincipal.expiresAt().isAfter(now));
+    }
+
+    /**
+     * Immutable snapshot of a cached user, with the IDs of its relations and its expiration date.
+     *
+     * @param restaurantId the ID of the restaurant of a restaurateur, or of the employer restaurant of an employee
+     * @param creditCardId the ID of the credit card of a customer
+     */
+    private record PrincipalSnapshot(
+            long id,
+            String email,
+            String password,
+            String name,
+            String surname,
+            LocalDate birthDate,
+            String phoneNumber,
+            String avatarUrl,
+            Role role,
+            boolean active,
+            String firebaseCustomToken,
+            Long restaurantId,
+            Long creditCardId,
+            Instant expiresAt
+    ) {
+
+        /**
+         * Takes a snapshot of the given user.
+         *
+         * @param user      the user
+         * @param expiresAt the expiration date of the snapshot
+         * @return the snapshot of the user
+         */
+        private static PrincipalSnapshot of(User user, Instant expiresAt) {
+            Restaurant restaurant = switch (user) {
+                case RestaurateurUser restaurateurUser -> restaurateurUser.getRestaurant();
+                case EmployeeUser employeeUser -> employeeUser.getEmployerRestaurant();
+                default -> null;
+            };
+            CreditCard creditCard = user instanceof CustomerUser customerUser ? customerUser.getCreditCard() : null;
+
+            return new PrincipalSnapshot(
+                    user.getId(),
+                    user.getEmail(),
+                    user.getPassword(),
+                    user.getName(),
+                    user.getSurname(),
+                    user.getBirthDate(),
+                    user.getPhoneNumber(),
+                    user.getAvatarUrl(),
+                    user.getRole(),
+                    user.isActive(),
+                    user.getFirebaseCustomToken(),
+                    restaurant == null ? null : restaurant.getId(),
+                    creditCard == null ? null : creditCard.getId(),
+                    expiresAt
+            );
+        }
+
+        /**
+         * Builds a new user from the snapshot, whose relations are references carrying only their ID.
+         *
+         * @return the user
+         */
+        private User toUser() {
+            return switch (role) {
+                case ADMIN -> new AdminUser(
+                        id, email, password, name, surname, birthDate, phoneNumber, avatarUrl, role, active,
+                        firebaseCustomToken
+                );
+                case MODERATOR -> new ModeratorUser(
+                        id, email, password, name, surname, birthDate, phoneNumber, avatarUrl, role, active,
+                        firebaseCustomToken
+                );
+                case RESTAURATEUR -> new RestaurateurUser(
+                        id, email, password, name, surname, birthDate, phoneNumber, avatarUrl, role, active,
+                        firebaseCustomToken, restaurantReference()
+                );
+                case COOK -> new CookUser(
+                        id, email, password, name, surname, birthDate, phoneNumber, avatarUrl, role, active,
+                        firebaseCustomToken, restaurantReference()
+                );
+                case WAITER -> new WaiterUser(
+                        id, email, password, name, surname, birthDate, phoneNumber, avatarUrl, role, active,
+                        firebaseCustomToken, restaurantReference(), new ArrayList<>()
+                );
+                case CUSTOMER -> new CustomerUser(
+                        id, email, password, name, surname, birthDate, phoneNumber, avatarUrl, role, active,
+                        firebaseCustomToken, creditCardReference(), new ArrayList<>(), new ArrayList<>(),
+                        new ArrayList<>()
+                );
+            };
+        }
+
+        /**
+         * Builds a reference to the restaurant of the user.
+         *
+         * @return the reference, or null if the user has no restaurant
+         */
+        private Restaurant restaurantReference() {
+            if (restaurantId == null) return null;
+
+            Restaurant restaurant = new Restaurant();
+            restaurant.setId(restaurantId);
+            return restaurant;
+        }
+
+        /**
+         * Builds a reference to the credit card of the user.
+         *
+         * @return the reference, or null if the user has no credit card
+         */
+        private CreditCard creditCardReference() {
+            if (creditCardId == null) return null;
+
+            CreditCard creditCard = new CreditCard();
+            creditCard.setId(creditCardId);
+            return creditCard;
+        }
+    }
+
+    /**
+     * Limits driving the lifecycle of the cached users.
+     */
+    public static class CacheLifecycle {
+
+        /** Time after which a cached user is loaded again from the database. */
+        public static final Duration TTL = Duration.ofSeconds(30);
+
+        /** Maximum number of cached users; further users are loaded on every request until entries expire. */
+        public static final int MAX_SIZE = 10_000;
+
+        /** Interval between two evictions of the expired users, in milliseconds. */
+        public static final String EVICTION_INTERVAL_MILLIS = "60000";
+    }
+}
\ No newline at end of file
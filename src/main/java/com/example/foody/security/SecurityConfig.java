@@ -107,6 +107,7 @@ public class SecurityConfig {
                         // WeekDayInfo endpoints
                         .requestMatchers(POST, "/api/v1/week-day-infos").access(hasSpecificRole(Role.RESTAURATEUR))
                         .requestMatchers(PUT, "/api/v1/week-day-infos/*").access(hasSpecificRole(Role.RESTAURATEUR))
+                        .requestMatchers(PUT, "/api/v1/week-day-infos/restaurant/*").access(hasSpecificRole(Role.RESTAURATEUR))
                         .requestMatchers(GET, "/api/v1/week-day-infos").hasRole(Role.Constants.ADMIN_VALUE)
                         .requestMatchers("/api/v1/week-day-infos/**").authenticated()
 
@@ -114,6 +115,12 @@ public class SecurityConfig {
                         .requestMatchers(GET, "/api/v1/sitting-times").hasRole(Role.Constants.ADMIN_VALUE)
                         .requestMatchers("/api/v1/sitting-times/**").authenticated()
 
+                        // Media endpoints
+                        .requestMatchers(GET, "/api/v1/media/staged/*").permitAll()
+
+                        // Soft delete job endpoints
+                        .requestMatchers("/api/v1/soft-delete-jobs/**").hasRole(Role.Constants.ADMIN_VALUE)
+
                         // Booking endpoints
                         .requestMatchers(POST, "/api/v1/bookings").access(hasSpecificRole(Role.CUSTOMER))
                         .requestMatchers(DELETE, "/api/v1/bookings/*").hasRole(Role.Constants.ADMIN_VALUE)
@@ -138,6 +145,8 @@ public class SecurityConfig {
                         .requestMatchers(PATCH, "/api/v1/orders/pay/*").hasAnyRole(Role.Constants.CUSTOMER_VALUE, Role.Constants.WAITER_VALUE)
                         .requestMatchers(PATCH, "/api/v1/orders/prepare/*").hasRole(Role.Constants.COOK_VALUE)
                         .requestMatchers(PATCH, "/api/v1/orders/complete/*").hasRole(Role.Constants.COOK_VALUE)
+                        .requestMatchers(PATCH, "/api/v1/orders/restaurant/*/prepare").hasRole(Role.Constants.COOK_VALUE)
+                        .requestMatchers(PATCH, "/api/v1/orders/restaurant/*/complete").hasRole(Role.Constants.COOK_VALUE)
                         .requestMatchers(GET, "/api/v1/orders").hasRole(Role.Constants.ADMIN_VALUE)
                         .requestMatchers(GET, "/api/v1/orders/*").hasAnyRole(Role.Constants.CUSTOMER_VALUE, Role.Constants.WAITER_VALUE)
                         .requestMatchers(GET, "/api/v1/orders/buyer").access(hasSpecificRole(Role.CUSTOMER, Role.WAITER))
@@ -153,6 +162,9 @@ public class SecurityConfig {
                         .requestMatchers(GET, "/api/v1/reviews/customer").access(hasSpecificRole(Role.CUSTOMER))
                         .requestMatchers("/api/v1/reviews/**").authenticated()
 
+                        // Search endpoints
+                        .requestMatchers(GET, "/api/v1/search").authenticated()
+
                         // User endpoints
                         .requestMatchers(PUT, "/api/v1/users").authenticated()
                         .requestMatchers(PATCH, "/api/v1/users/chat-id").authenticated()
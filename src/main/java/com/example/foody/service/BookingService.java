@@ -2,8 +2,14 @@ package com.example.foody.service;
 
 import com.example.foody.dto.request.BookingRequestDTO;
 import com.example.foody.dto.response.BookingResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
+import com.example.foody.dto.response.RestaurantAvailabilityResponseDTO;
+import com.example.foody.dto.response.SeatAvailabilityResponseDTO;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing bookings.
@@ -25,6 +31,22 @@ public interface BookingService {
      */
     List<BookingResponseDTO> findAll();
 
+    /**
+     * Retrieves a page of bookings, ordered from the newest to the oldest.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the page of booking response data transfer objects
+     */
+    PageResponseDTO<BookingResponseDTO> findAll(String cursor, int size);
+
+    /**
+     * Streams all bookings, ordered from the newest to the oldest, without loading them all in memory.
+     *
+     * @param consumer the consumer of the booking response data transfer objects
+     */
+    void streamAll(Consumer<BookingResponseDTO> consumer);
+
     /**
      * Retrieves a booking by its ID.
      *
@@ -57,6 +79,32 @@ public interface BookingService {
      */
     List<BookingResponseDTO> findAllByRestaurant(long restaurantId);
 
+    /**
+     * Retrieves the free seats of every sitting time of a restaurant over the next days.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the list of seat availability response data transfer objects
+     */
+    List<SeatAvailabilityResponseDTO> findAvailabilityByRestaurant(long restaurantId);
+
+    /**
+     * Searches the approved restaurants having enough free seats in a sitting time of a date, starting around a time.
+     *
+     * @param date          the date
+     * @param time          the preferred start time
+     * @param seats         the number of seats needed
+     * @param windowMinutes the maximum distance, in minutes, between the start of a sitting time and the preferred time
+     * @param categoryId    the ID of the category of the restaurants, or null for any category
+     * @return the list of restaurant availability response data transfer objects
+     */
+    List<RestaurantAvailabilityResponseDTO> searchAvailability(
+            LocalDate date,
+            LocalTime time,
+            int seats,
+            int windowMinutes,
+            Long categoryId
+    );
+
     /**
      * Cancels a booking by its ID.
      *
@@ -72,4 +120,12 @@ public interface BookingService {
      * @return true if the booking was removed, false otherwise
      */
     boolean remove(long id);
+
+    /**
+     * Removes all the bookings of the given sitting times.
+     *
+     * @param sittingTimeIds the IDs of the sitting times
+     * @return the number of removed bookings
+     */
+    int removeAllBySittingTimes(List<Long> sittingTimeIds);
 }
\ No newline at end of file
@@ -3,8 +3,10 @@ package com.example.foody.service;
 import com.example.foody.dto.request.DishRequestDTO;
 import com.example.foody.dto.request.DishUpdateRequestDTO;
 import com.example.foody.dto.response.DishResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing dishes.
@@ -26,6 +28,22 @@ public interface DishService {
      */
     List<DishResponseDTO> findAll();
 
+    /**
+     * Retrieves a page of dishes, ordered from the newest to the oldest.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the page of dish response data transfer objects
+     */
+    PageResponseDTO<DishResponseDTO> findAll(String cursor, int size);
+
+    /**
+     * Streams all dishes, ordered from the newest to the oldest, without loading them all in memory.
+     *
+     * @param consumer the consumer of the dish response data transfer objects
+     */
+    void streamAll(Consumer<DishResponseDTO> consumer);
+
     /**
      * Retrieves a dish by its ID.
      *
@@ -7,15 +7,36 @@ import java.util.Map;
 
 /**
  * Service interface for sending templated emails.
+ * <p>
+ * Emails are queued in a persistent outbox and delivered in the background.
  */
 public interface EmailService {
 
     /**
      * Sends a templated email.
+     * <p>
+     * The email is rendered and queued in the outbox within the current transaction, if any, so it is delivered only
+     * if the transaction commits.
      *
      * @param to the recipient's email address
      * @param emailTemplateType the type of email template to use
      * @param variables the variables to replace in the email template
      */
     void sendTemplatedEmail(String to, EmailTemplateType emailTemplateType, Map<EmailPlaceholder, Object> variables);
+
+    /**
+     * Delivers a batch of the queued emails that are due for a delivery attempt.
+     * <p>
+     * Failed deliveries are retried with an exponential backoff.
+     *
+     * @return the number of outbox messages delivered
+     */
+    int deliverPendingEmails();
+
+    /**
+     * Deletes the delivered emails that are older than the retention period of the outbox.
+     *
+     * @return the number of outbox messages deleted
+     */
+    int purgeSentEmails();
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.foody.service;
 
+import com.example.foody.utils.email_template.EmailContent;
 import com.example.foody.utils.enums.EmailPlaceholder;
 import com.example.foody.utils.enums.EmailTemplateType;
 
@@ -15,23 +16,7 @@ public interface EmailTemplateService {
      *
      * @param emailTemplateType the type of email template to use
      * @param variables the variables to replace in the email template
-     * @return the prepared email content
+     * @return the prepared email content, split into subject and body
      */
-    String prepareEmailContent(EmailTemplateType emailTemplateType, Map<EmailPlaceholder, Object> variables);
-
-    /**
-     * Extracts the subject from the given template content.
-     *
-     * @param templateContent the content of the email template
-     * @return the extracted subject
-     */
-    String extractSubject(String templateContent);
-
-    /**
-     * Extracts the body from the given template content.
-     *
-     * @param templateContent the content of the email template
-     * @return the extracted body
-     */
-    String extractBody(String templateContent);
+    EmailContent prepareEmailContent(EmailTemplateType emailTemplateType, Map<EmailPlaceholder, Object> variables);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.foody.service;
+
+import com.example.foody.utils.enums.GoogleDriveFileType;
+
+import java.nio.file.Path;
+
+/**
+ * Service interface for the backend storing the uploaded images.
+ */
+public interface ImageStorageService {
+
+    /**
+     * Uploads an image file to the storage.
+     *
+     * @param image the path of the image file to upload
+     * @param fileType the type of the file to be uploaded
+     * @return the public URL of the uploaded image
+     */
+    String uploadImage(Path image, GoogleDriveFileType fileType);
+
+    /**
+     * Deletes an image from the storage.
+     *
+     * @param fileUrl the URL of the image to delete
+     */
+    void deleteImage(String fileUrl);
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.example.foody.service;
+
+import com.example.foody.utils.enums.GoogleDriveFileType;
+
+import java.nio.file.Path;
+
+/**
+ * Service interface for managing the images of users, restaurants and dishes.
+ * <p>
+ * Images are staged locally and uploaded to the {@link ImageStorageService} in the background.
+ */
+public interface MediaService {
+
+    /**
+     * Stages a base64 encoded image for upload.
+     *
+     * @param base64Image the base64 encoded image
+     * @param fileType the type of the image
+     * @return the staged URL of the image, replaced with the public URL once the image is uploaded
+     */
+    String stageImage(String base64Image, GoogleDriveFileType fileType);
+
+    /**
+     * Deletes an image, whether it is still staged or already uploaded.
+     *
+     * @param fileUrl the URL of the image
+     */
+    void deleteImage(String fileUrl);
+
+    /**
+     * Retrieves the file of a staged image.
+     *
+     * @param id the ID of the staged image
+     * @return the path of the staged image file
+     */
+    Path findStagedImage(long id);
+
+    /**
+     * Uploads a batch of the staged images that are due for an upload attempt, and replaces their staged URLs with the
+     * public URLs.
+     * <p>
+     * Failed uploads are retried with an exponential backoff.
+     *
+     * @return the number of uploaded images
+     */
+    int uploadStagedImages();
+}
\ No newline at end of file
@@ -1,9 +1,13 @@
 package com.example.foody.service;
 
+import com.example.foody.dto.request.OrderBulkTransitionRequestDTO;
 import com.example.foody.dto.request.OrderRequestDTO;
 import com.example.foody.dto.response.OrderResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
+import com.example.foody.utils.kitchen_board.KitchenBoard;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing orders.
@@ -25,6 +29,22 @@ public interface OrderService {
      */
     List<OrderResponseDTO> findAll();
 
+    /**
+     * Retrieves a page of orders, ordered from the newest to the oldest.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the page of order response data transfer objects
+     */
+    PageResponseDTO<OrderResponseDTO> findAll(String cursor, int size);
+
+    /**
+     * Streams all orders, ordered from the newest to the oldest, without loading them all in memory.
+     *
+     * @param consumer the consumer of the order response data transfer objects
+     */
+    void streamAll(Consumer<OrderResponseDTO> consumer);
+
     /**
      * Finds an order by its ID.
      *
@@ -53,9 +73,9 @@ public interface OrderService {
      * Finds all in-progress orders by restaurant ID.
      *
      * @param restaurantId the ID of the restaurant
-     * @return a list of in-progress order response data transfer objects for the specified restaurant
+     * @return the kitchen board holding the in-progress orders of the specified restaurant
      */
-    List<OrderResponseDTO> findAllByRestaurantAndInProgress(long restaurantId);
+    KitchenBoard findAllByRestaurantAndInProgress(long restaurantId);
 
     /**
      * Marks an order as paid by its ID.
@@ -81,6 +101,24 @@ public interface OrderService {
      */
     OrderResponseDTO completeById(long id);
 
+    /**
+     * Marks several orders of a restaurant as being prepared.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param requestDTO   the selection of the orders
+     * @return the list of updated order response data transfer objects
+     */
+    List<OrderResponseDTO> prepareAllByRestaurant(long restaurantId, OrderBulkTransitionRequestDTO requestDTO);
+
+    /**
+     * Marks several orders of a restaurant as completed.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param requestDTO   the selection of the orders
+     * @return the list of updated order response data transfer objects
+     */
+    List<OrderResponseDTO> completeAllByRestaurant(long restaurantId, OrderBulkTransitionRequestDTO requestDTO);
+
     /**
      * Removes an order by its ID.
      *
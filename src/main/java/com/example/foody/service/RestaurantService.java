@@ -2,9 +2,12 @@ package com.example.foody.service;
 
 import com.example.foody.dto.request.RestaurantRequestDTO;
 import com.example.foody.dto.response.DetailedRestaurantResponseDTO;
+import com.example.foody.dto.response.NearbyRestaurantResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.dto.response.RestaurantResponseDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing restaurants.
@@ -26,6 +29,26 @@ public interface RestaurantService {
      */
     List<DetailedRestaurantResponseDTO> findAll();
 
+    /**
+     * Retrieves a page of restaurants, ordered from the newest to the oldest.
+     * <p>
+     * Only approved restaurants are included, unless the authenticated user is an admin or a moderator.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the page of restaurant response data transfer objects
+     */
+    PageResponseDTO<DetailedRestaurantResponseDTO> findAll(String cursor, int size);
+
+    /**
+     * Streams all restaurants, ordered from the newest to the oldest, without loading them all in memory.
+     * <p>
+     * Only approved restaurants are included, unless the authenticated user is an admin or a moderator.
+     *
+     * @param consumer the consumer of the restaurant response data transfer objects
+     */
+    void streamAll(Consumer<DetailedRestaurantResponseDTO> consumer);
+
     /**
      * Finds a restaurant by its ID.
      *
@@ -50,6 +73,28 @@ public interface RestaurantService {
      */
     List<DetailedRestaurantResponseDTO> findAllByCategory(long categoryId);
 
+    /**
+     * Retrieves a page of the approved restaurants near a position, ordered from the nearest to the farthest.
+     *
+     * @param latitude   the latitude of the position, in degrees
+     * @param longitude  the longitude of the position, in degrees
+     * @param radiusKm   the maximum distance of the restaurants, in kilometers
+     * @param categoryId the ID of the category of the restaurants, or null for any category
+     * @param openNow    whether the restaurants must be in a sitting time now
+     * @param cursor     the cursor returned with the previous page, or null for the first page
+     * @param size       the requested page size
+     * @return the page of nearby restaurant response data transfer objects
+     */
+    PageResponseDTO<NearbyRestaurantResponseDTO> findNearby(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            Long categoryId,
+            boolean openNow,
+            String cursor,
+            int size
+    );
+
     /**
      * Approves a restaurant by its ID.
      *
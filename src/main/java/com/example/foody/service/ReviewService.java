@@ -1,9 +1,11 @@
 package com.example.foody.service;
 
 import com.example.foody.dto.request.ReviewRequestDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.dto.response.ReviewResponseDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing reviews.
@@ -25,6 +27,22 @@ public interface ReviewService {
      */
     List<ReviewResponseDTO> findAll();
 
+    /**
+     * Retrieves a page of reviews, ordered from the newest to the oldest.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the page of review response data transfer objects
+     */
+    PageResponseDTO<ReviewResponseDTO> findAll(String cursor, int size);
+
+    /**
+     * Streams all reviews, ordered from the newest to the oldest, without loading them all in memory.
+     *
+     * @param consumer the consumer of the review response data transfer objects
+     */
+    void streamAll(Consumer<ReviewResponseDTO> consumer);
+
     /**
      * Finds a review by its ID.
      *
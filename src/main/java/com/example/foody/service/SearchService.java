@@ -0,0 +1,22 @@
+package com.example.foody.service;
+
+import com.example.foody.dto.response.SearchResultResponseDTO;
+import com.example.foody.utils.enums.SearchDocumentType;
+
+import java.util.List;
+
+/**
+ * Service interface for the full-text search of restaurants, dishes and categories.
+ */
+public interface SearchService {
+
+    /**
+     * Searches the approved restaurants, their dishes and the categories matching a text.
+     *
+     * @param query the searched text
+     * @param type  the type of the results, or null for any type
+     * @param limit the maximum number of results
+     * @return the list of search result response data transfer objects
+     */
+    List<SearchResultResponseDTO> search(String query, SearchDocumentType type, int limit);
+}
\ No newline at end of file
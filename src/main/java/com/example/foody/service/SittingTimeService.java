@@ -19,6 +19,14 @@ public interface SittingTimeService {
      */
     List<SittingTime> createForWeekDayInfo(WeekDayInfo weekDayInfo);
 
+    /**
+     * Updates the sitting times of the given week day information to match their current opening hours.
+     *
+     * @param weekDayInfos the updated week day information
+     * @return a list of the sitting times of the week day information after the update
+     */
+    List<SittingTime> updateForWeekDayInfos(List<WeekDayInfo> weekDayInfos);
+
     /**
      * Retrieves all sitting times.
      *
@@ -0,0 +1,44 @@
+package com.example.foody.service;
+
+import com.example.foody.dto.response.SoftDeleteJobResponseDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for running and monitoring the soft delete cascades.
+ */
+public interface SoftDeleteJobService {
+
+    /**
+     * Retrieves all cascades that are not completed.
+     *
+     * @return the list of soft delete cascade response data transfer objects
+     */
+    List<SoftDeleteJobResponseDTO> findAllUncompleted();
+
+    /**
+     * Retrieves a cascade by its ID.
+     *
+     * @param id the ID of the cascade
+     * @return the soft delete cascade response data transfer object
+     */
+    SoftDeleteJobResponseDTO findById(long id);
+
+    /**
+     * Retries a cascade that failed too many times.
+     *
+     * @param id the ID of the cascade
+     * @return the soft delete cascade response data transfer object
+     */
+    SoftDeleteJobResponseDTO retry(long id);
+
+    /**
+     * Runs the batches of the pending cascades that are due for a run.
+     * <p>
+     * Failed cascades are retried with an exponential backoff, until they are given up and left for
+     * {@link #retry(long)}.
+     *
+     * @return the number of completed cascades
+     */
+    int runPendingJobs();
+}
\ No newline at end of file
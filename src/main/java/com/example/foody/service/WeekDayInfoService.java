@@ -2,6 +2,7 @@ package com.example.foody.service;
 
 import com.example.foody.dto.request.WeekDayInfoRequestDTO;
 import com.example.foody.dto.request.WeekDayInfoUpdateRequestDTO;
+import com.example.foody.dto.request.WeekDayInfoWeekRequestDTO;
 import com.example.foody.dto.response.WeekDayInfoResponseDTO;
 
 import java.util.List;
@@ -42,4 +43,13 @@ public interface WeekDayInfoService {
      * @return the updated week day information response data transfer object
      */
     WeekDayInfoResponseDTO update(long id, WeekDayInfoUpdateRequestDTO weekDayInfoUpdateRequestDTO);
+
+    /**
+     * Updates the week day information of several week days of a restaurant at once, creating the missing ones.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param weekDayInfoWeekRequestDTO the week update request data transfer object
+     * @return a list of the updated week day information response data transfer objects, ordered by week day
+     */
+    List<WeekDayInfoResponseDTO> updateWeek(long restaurantId, WeekDayInfoWeekRequestDTO weekDayInfoWeekRequestDTO);
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.helper.GeocodingHelper;
 import com.example.foody.model.Address;
 import com.example.foody.repository.AddressRepository;
 import com.example.foody.service.AddressService;
@@ -22,11 +23,12 @@ import org.springframework.stereotype.Service;
 public class AddressServiceImpl implements AddressService {
 
     private final AddressRepository addressRepository;
+    private final GeocodingHelper geocodingHelper;
 
     /**
      * {@inheritDoc}
      * <p>
-     * This method persists a new {@link Address} entity to the database.
+     * This method geocodes and persists a new {@link Address} entity to the database.
      *
      * @param address the address to save
      * @return the saved address
@@ -34,6 +36,8 @@ public class AddressServiceImpl implements AddressService {
      */
     @Override
     public Address save(Address address) {
+        geocodingHelper.geocode(address);
+
         try {
             address = addressRepository.save(address);
         } catch (Exception e) {
@@ -46,7 +50,8 @@ public class AddressServiceImpl implements AddressService {
     /**
      * {@inheritDoc}
      * <p>
-     * This method updates the details of an existing {@link Address} entity identified by its ID.
+     * This method updates the details of an existing {@link Address} entity identified by its ID, and geocodes it
+     * again.
      *
      * @param id the ID of the address to update
      * @param newAddress the new address data
@@ -65,6 +70,7 @@ public class AddressServiceImpl implements AddressService {
         address.setStreet(newAddress.getStreet());
         address.setCivicNumber(newAddress.getCivicNumber());
         address.setPostalCode(newAddress.getPostalCode());
+        geocodingHelper.geocode(address);
 
         try {
             return addressRepository.save(address);
@@ -23,10 +23,11 @@ import com.example.foody.model.user.User;
 import com.example.foody.repository.RestaurantRepository;
 import com.example.foody.repository.UserRepository;
 import com.example.foody.security.JwtService;
+import com.example.foody.security.PrincipalCache;
 import com.example.foody.service.AuthenticationService;
 import com.example.foody.service.EmailService;
 import com.example.foody.service.FirebaseService;
-import com.example.foody.service.GoogleDriveService;
+import com.example.foody.service.MediaService;
 import com.example.foody.utils.UserRoleUtils;
 import com.example.foody.utils.enums.EmailPlaceholder;
 import com.example.foody.utils.enums.EmailTemplateType;
@@ -61,9 +62,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final UserHelper userHelper;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
-    private final GoogleDriveService googleDriveService;
+    private final MediaService mediaService;
     private final FirebaseService firebaseService;
     private final JwtService jwtService;
+    private final PrincipalCache principalCache;
     private final EmailService emailService;
 
     /**
@@ -264,10 +266,12 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     /**
      * {@inheritDoc}
      * <p>
-     * Changes the password of the authenticated user.
+     * Changes the password of the authenticated user. The user is loaded again, since the principal is a copy whose
+     * relations carry only their ID.
      *
      * @param userChangePasswordRequestDTO the user change password request data transfer object
      * @throws InvalidPasswordException if the password is invalid
+     * @throws EntityNotFoundException if the user is not found
      * @throws EntityEditException if there is an error editing the entity
      */
     @Override
@@ -278,15 +282,19 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             throw new InvalidPasswordException();
         }
 
-        principal.setPassword(passwordEncoder.encode(userChangePasswordRequestDTO.getNewPassword()));
+        User user = userRepository
+                .findById(principal.getId())
+                .orElseThrow(() -> new EntityNotFoundException("user", "id", principal.getId()));
+        user.setPassword(passwordEncoder.encode(userChangePasswordRequestDTO.getNewPassword()));
+        principalCache.invalidate(user.getEmail());
 
         try {
-            userRepository.save(principal);
+            userRepository.save(user);
         } catch (Exception e) {
-            throw new EntityEditException("user", "id", principal.getId());
+            throw new EntityEditException("user", "id", user.getId());
         }
 
-        sendChangePasswordEmail(principal);
+        sendChangePasswordEmail(user);
     }
 
     /**
@@ -341,7 +349,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     /**
      * Saves an employee user for a specific restaurant.
      * <p>
-     * This method sets the employer restaurant, saves the employee user, and returns the saved employee user.
+     * This method sets the employer restaurant, saves the employee user, adds it to the employees of the restaurant,
+     * and returns the saved employee user.
      *
      * @param restaurantId the restaurant ID
      * @param employeeUser the employee user to save
@@ -361,6 +370,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
         employeeUser.setEmployerRestaurant(restaurant);
         employeeUser = saveUser(employeeUser, avatarBase64);
+        principalCache.invalidate(employeeUser.getEmail());
+
+        // Keeps the cached employees of the restaurant in sync, since they are not refreshed by the employer change
+        restaurant.getEmployees().add(employeeUser);
 
         return employeeUser;
     }
@@ -402,14 +415,14 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     /**
      * Saves the user's avatar image.
      * <p>
-     * This method uploads the base64 encoded avatar image to Google Drive and returns the URL.
+     * This method stages the base64 encoded avatar image for upload and returns its URL.
      *
      * @param userAvatarBase64 the base64 encoded avatar image
-     * @return the URL of the uploaded avatar image
+     * @return the URL of the staged avatar image
      */
     private String saveUserAvatar(String userAvatarBase64) {
         return Optional.ofNullable(userAvatarBase64)
-                .map(avatarBase64 -> googleDriveService.uploadBase64Image(
+                .map(avatarBase64 -> mediaService.stageImage(
                         avatarBase64,
                         GoogleDriveFileType.USER_AVATAR
                 ))
@@ -419,13 +432,13 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     /**
      * Removes the user's avatar image.
      * <p>
-     * This method deletes the avatar image from Google Drive.
+     * This method deletes the avatar image from the image storage.
      *
      * @param user the user whose avatar image to remove
      */
     private void removeUserAvatar(User user) {
         Optional.ofNullable(user.getAvatarUrl())
-                .ifPresent(googleDriveService::deleteImage);
+                .ifPresent(mediaService::deleteImage);
     }
 
     /**
@@ -2,12 +2,20 @@ package com.example.foody.service.impl;
 
 import com.example.foody.dto.request.BookingRequestDTO;
 import com.example.foody.dto.response.BookingResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
+import com.example.foody.dto.response.RestaurantAvailabilityResponseDTO;
+import com.example.foody.dto.response.SeatAvailabilityResponseDTO;
 import com.example.foody.exceptions.booking.*;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.exceptions.pagination.InvalidCursorException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
+import com.example.foody.helper.AvailabilityIndexHelper;
+import com.example.foody.helper.PaginationHelper;
+import com.example.foody.helper.SeatLedgerHelper;
+import com.example.foody.helper.SittingTimeCalendarHelper;
 import com.example.foody.mapper.BookingMapper;
 import com.example.foody.model.Booking;
 import com.example.foody.model.Restaurant;
@@ -21,8 +29,12 @@ import com.example.foody.service.BookingService;
 import com.example.foody.service.EmailService;
 import com.example.foody.state.booking.impl.ActiveState;
 import com.example.foody.utils.UserRoleUtils;
+import com.example.foody.utils.enums.BookingStatus;
 import com.example.foody.utils.enums.EmailPlaceholder;
 import com.example.foody.utils.enums.EmailTemplateType;
+import com.example.foody.utils.pagination.KeysetCursor;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
+import com.example.foody.utils.state.BookingStateUtils;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -31,8 +43,12 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the {@link BookingService} interface.
@@ -44,11 +60,17 @@ import java.util.Map;
 @AllArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final List<String> CANCELLED_SOURCE_STATUSES = BookingStateUtils.getSourceStatuses(Booking::cancel);
+
     private final BookingRepository bookingRepository;
     private final SittingTimeRepository sittingTimeRepository;
     private final RestaurantRepository restaurantRepository;
     private final BookingMapper bookingMapper;
     private final EmailService emailService;
+    private final PaginationHelper paginationHelper;
+    private final SeatLedgerHelper seatLedgerHelper;
+    private final SittingTimeCalendarHelper sittingTimeCalendarHelper;
+    private final AvailabilityIndexHelper availabilityIndexHelper;
 
     /**
      * {@inheritDoc}
@@ -102,6 +124,50 @@ public class BookingServiceImpl implements BookingService {
         return bookingMapper.bookingsToBookingResponseDTOs(bookings);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method retrieves the {@link Booking} entities after the cursor position using keyset pagination, fetching
+     * one extra entity to know whether there is a next page.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the page of booking response data transfer objects
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @Override
+    public PageResponseDTO<BookingResponseDTO> findAll(String cursor, int size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = paginationHelper.getPageSize(size);
+        List<Booking> bookings = bookingRepository.findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(
+                keysetCursor.createdAt(),
+                keysetCursor.id(),
+                pageSize + 1
+        );
+        return paginationHelper.buildPageResponseDTO(
+                bookings,
+                pageSize,
+                booking -> new KeysetCursor(booking.getCreatedAt(), booking.getId()),
+                bookingMapper::bookingsToBookingResponseDTOs
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method streams the {@link Booking} entities from the database and converts them in batches.
+     *
+     * @param consumer the consumer of the booking response data transfer objects
+     */
+    @Override
+    public void streamAll(Consumer<BookingResponseDTO> consumer) {
+        paginationHelper.streamInBatches(
+                bookingRepository.streamAllByOrderByCreatedAtDescIdDesc(),
+                bookingMapper::bookingsToBookingResponseDTOs,
+                consumer
+        );
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -181,12 +247,113 @@ public class BookingServiceImpl implements BookingService {
     /**
      * {@inheritDoc}
      * <p>
-     * This method cancels a {@link Booking} entity by its ID.
+     * This method reads the booked seats of the next {@link AvailabilityLimits#DAYS} days from the seat ledger with a
+     * single query, and subtracts them from the seats of the restaurant. The sitting times are read from the in-memory
+     * calendar of the restaurant. Sitting times of today that have already started are not included.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the list of seat availability response data transfer objects, ordered by date and start time
+     * @throws EntityNotFoundException if the restaurant with the specified ID is not found
+     */
+    @Override
+    public List<SeatAvailabilityResponseDTO> findAvailabilityByRestaurant(long restaurantId) {
+        Restaurant restaurant = restaurantRepository
+                .findByIdAndApproved(restaurantId, true)
+                .orElseThrow(() -> new EntityNotFoundException("restaurant", "id", restaurantId));
+
+        LocalDate today = LocalDate.now();
+        LocalTime now = LocalTime.now();
+        Map<LocalDate, Map<Long, Integer>> bookedSeats = seatLedgerHelper
+                .findBookedSeats(restaurantId, today, today.plusDays(AvailabilityLimits.DAYS - 1));
+
+        List<SeatAvailabilityResponseDTO> availabilities = new ArrayList<>();
+        for (LocalDate date = today; date.isBefore(today.plusDays(AvailabilityLimits.DAYS)); date = date.plusDays(1)) {
+            Map<Long, Integer> bookedSeatsOfDate = bookedSeats.getOrDefault(date, Map.of());
+
+            List<SittingTimeSlot> sittingTimes =
+                    sittingTimeCalendarHelper.findSlots(restaurantId, date.getDayOfWeek().getValue());
+
+            for (SittingTimeSlot sittingTime : sittingTimes) {
+                if (date.equals(today) && !sittingTime.start().isAfter(now)) continue;
+
+                int freeSeats = restaurant.getSeats() - bookedSeatsOfDate.getOrDefault(sittingTime.id(), 0);
+                availabilities.add(new SeatAvailabilityResponseDTO(
+                        date,
+                        sittingTime.id(),
+                        sittingTime.start(),
+                        sittingTime.end(),
+                        Math.max(freeSeats, 0)
+                ));
+            }
+        }
+
+        return availabilities;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method answers from the in-memory availability index, so it does not read the seat ledger or the sitting
+     * times of each restaurant. Dates outside the next {@link AvailabilityLimits#DAYS} days return no restaurants, and
+     * the window is cut at the bounds of the date. Sitting times of today that have already started are not included.
+     *
+     * @param date          the date
+     * @param time          the preferred start time
+     * @param seats         the number of seats needed
+     * @param windowMinutes the maximum distance, in minutes, between the start of a sitting time and the preferred time
+     * @param categoryId    the ID of the category of the restaurants, or null for any category
+     * @return the list of restaurant availability response data transfer objects, ordered by the distance between the
+     * preferred time and their closest sitting time
+     */
+    @Override
+    public List<RestaurantAvailabilityResponseDTO> searchAvailability(
+            LocalDate date,
+            LocalTime time,
+            int seats,
+            int windowMinutes,
+            Long categoryId
+    ) {
+        LocalDate today = LocalDate.now();
+        if (date.isBefore(today) || !date.isBefore(today.plusDays(AvailabilityLimits.DAYS))) return List.of();
+
+        long windowSeconds = windowMinutes * 60L;
+        LocalTime from = LocalTime.ofSecondOfDay(Math.max(time.toSecondOfDay() - windowSeconds, 0));
+        LocalTime to = LocalTime.ofSecondOfDay(
+                Math.min(time.toSecondOfDay() + windowSeconds, LocalTime.MAX.toSecondOfDay())
+        );
+
+        List<RestaurantAvailabilityResponseDTO> availabilities =
+                new ArrayList<>(availabilityIndexHelper.findAvailableRestaurants(date, from, to, seats, categoryId));
+
+        if (date.equals(today)) {
+            LocalTime now = LocalTime.now();
+            availabilities.forEach(availability -> availability.setSittingTimes(
+                    availability.getSittingTimes()
+                            .stream()
+                            .filter(sittingTime -> sittingTime.getStart().isAfter(now))
+                            .toList()
+            ));
+            availabilities.removeIf(availability -> availability.getSittingTimes().isEmpty());
+        }
+
+        availabilities.sort(Comparator
+                .comparingLong((RestaurantAvailabilityResponseDTO availability) -> closestDistance(availability, time))
+                .thenComparingLong(RestaurantAvailabilityResponseDTO::getRestaurantId));
+
+        return availabilities;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method checks the access of the user to a {@link Booking} entity, then cancels it with a single guarded
+     * update and reloads the booking.
      *
      * @param id the ID of the booking to cancel
      * @return the cancelled booking response data transfer object
      * @throws EntityNotFoundException if the booking with the specified ID is not found
      * @throws InvalidBookingStateException if the booking is in an invalid state for cancellation
+     * @throws BookingStateConflictException if the booking was cancelled by a concurrent request
      * @throws EntityEditException if there is an error during the update of the booking
      */
     @Override
@@ -198,11 +365,22 @@ public class BookingServiceImpl implements BookingService {
 
         checkBookingCancelOrThrow(principal, booking);
 
+        int updated;
         try {
-            booking.cancel();
-            booking = bookingRepository.save(booking);
-        } catch (IllegalStateException e) {
-            throw new InvalidBookingStateException(e.getMessage());
+            updated = bookingRepository.updateStatusByIdAndStatusIn(
+                    id,
+                    BookingStatus.CANCELLED.name(),
+                    CANCELLED_SOURCE_STATUSES
+            );
+        } catch (Exception e) {
+            throw new EntityEditException("booking", "id", id);
+        }
+        bookingRepository.refresh(booking);
+
+        if (updated == 0) throw cancelFailure(booking);
+
+        try {
+            seatLedgerHelper.releaseSeats(booking);
         } catch (Exception e) {
             throw new EntityEditException("booking", "id", id);
         }
@@ -230,6 +408,7 @@ public class BookingServiceImpl implements BookingService {
         booking.delete();
 
         try {
+            if (booking.getStatus() == BookingStatus.ACTIVE) seatLedgerHelper.releaseSeats(booking);
             bookingRepository.save(booking);
         } catch (Exception e) {
             throw new EntityDeletionException("booking", "id", id);
@@ -241,6 +420,39 @@ public class BookingServiceImpl implements BookingService {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method removes the {@link Booking} entities of the given sitting times and releases their seats, in a
+     * fixed number of statements. Only the owners of the active future bookings are notified, as the other bookings
+     * were already cancelled or took place.
+     *
+     * @param sittingTimeIds the IDs of the sitting times
+     * @return the number of removed bookings
+     * @throws EntityDeletionException if there is an error during the deletion of the bookings
+     */
+    @Override
+    public int removeAllBySittingTimes(List<Long> sittingTimeIds) {
+        if (sittingTimeIds.isEmpty()) return 0;
+
+        List<Long> cancelledIds = bookingRepository.findActiveFutureIdsForUpdateBySittingTime_IdIn(sittingTimeIds);
+        List<Booking> cancelledBookings = cancelledIds.isEmpty()
+                ? List.of()
+                : bookingRepository.findAllByIdIn(cancelledIds);
+
+        int removed;
+        try {
+            removed = bookingRepository.deleteAllBySittingTime_IdIn(sittingTimeIds);
+            seatLedgerHelper.releaseSittingTimes(sittingTimeIds);
+        } catch (Exception e) {
+            throw new EntityDeletionException("bookings");
+        }
+
+        cancelledBookings.forEach(this::sendBookingCancelledByRestaurantEmail);
+
+        return removed;
+    }
+
     /**
      * Checks the validity of the booking creation.
      * <p>
@@ -300,6 +512,28 @@ public class BookingServiceImpl implements BookingService {
         if (UserRoleUtils.isRestaurateur(user)) checkRestaurantAccessOrThrow(user, booking.getRestaurant());
     }
 
+    /**
+     * Builds the exception explaining why the guarded cancellation of a booking changed nothing.
+     * <p>
+     * If the booking is already cancelled, it was cancelled by a concurrent request. Otherwise, the cancellation is run
+     * on the booking to report the reason given by its state.
+     *
+     * @param booking the booking, as read after the update
+     * @return the exception to throw
+     */
+    private RuntimeException cancelFailure(Booking booking) {
+        if (booking.getStatus() == BookingStatus.CANCELLED) {
+            return new BookingStateConflictException(booking.getId(), BookingStatus.CANCELLED.name());
+        }
+
+        try {
+            booking.cancel();
+        } catch (IllegalStateException e) {
+            return new InvalidBookingStateException(e.getMessage());
+        }
+        return new BookingStateConflictException(booking.getId(), booking.getStatus().name());
+    }
+
     /**
      * Sends an email notification for a booking cancelled by the customer.
      * <p>
@@ -411,17 +645,16 @@ public class BookingServiceImpl implements BookingService {
     }
 
     /**
-     * Checks if there are enough seats available for the booking.
+     * Checks if there are enough seats available for the booking and reserves them.
      * <p>
-     * This method throws an exception if there are not enough seats available.
+     * This method throws an exception if there are not enough seats available. The reservation is part of the current
+     * transaction, so it is rolled back if the booking cannot be saved.
      *
      * @param booking the booking to check
      * @throws BookingNotAllowedException if there are not enough seats available
      */
     private void checkSeatsAvailabilityOrThrow(Booking booking) {
-        long bookedSeats = bookingRepository
-                .countBookedSeats(booking.getDate(), booking.getSittingTime().getId(), booking.getRestaurant().getId());
-        if (bookedSeats + booking.getSeats() <= booking.getRestaurant().getSeats()) return;
+        if (seatLedgerHelper.reserveSeats(booking)) return;
 
         throw new BookingNotAllowedException(
                 booking.getRestaurant().getId(),
@@ -462,4 +695,34 @@ public class BookingServiceImpl implements BookingService {
 
         throw new ForbiddenRestaurantAccessException();
     }
+
+    /**
+     * Computes the distance, in seconds, between a time and the closest start of the sitting times of a restaurant.
+     *
+     * @param availability the availability of the restaurant
+     * @param time         the time
+     * @return the distance in seconds
+     */
+    private long closestDistance(RestaurantAvailabilityResponseDTO availability, LocalTime time) {
+        return availability.getSittingTimes()
+                .stream()
+                .mapToLong(sittingTime -> Math.abs(ChronoUnit.SECONDS.between(time, sittingTime.getStart())))
+                .min()
+                .orElse(Long.MAX_VALUE);
+    }
+
+    /**
+     * Limits of the seat availability queries.
+     */
+    public static class AvailabilityLimits {
+
+        /** Number of days, starting from today, covered by an availability query. */
+        public static final int DAYS = 14;
+
+        /** Default distance, in minutes, between the preferred time of a search and the start of a sitting time. */
+        public static final int DEFAULT_WINDOW_MINUTES = 60;
+
+        /** Maximum distance, in minutes, between the preferred time of a search and the start of a sitting time. */
+        public static final int MAX_WINDOW_MINUTES = 180;
+    }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityDuplicateException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.helper.SearchIndexHelper;
 import com.example.foody.mapper.CategoryMapper;
 import com.example.foody.model.Category;
 import com.example.foody.model.Restaurant;
@@ -32,6 +33,7 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final RestaurantRepository restaurantRepository;
     private final CategoryMapper categoryMapper;
+    private final SearchIndexHelper searchIndexHelper;
 
     /**
      * {@inheritDoc}
@@ -55,6 +57,8 @@ public class CategoryServiceImpl implements CategoryService {
             throw new EntityCreationException("category");
         }
 
+        searchIndexHelper.indexCategory(category);
+
         return categoryMapper.categoryToCategoryResponseDTO(category);
     }
 
@@ -137,6 +141,8 @@ public class CategoryServiceImpl implements CategoryService {
             throw new EntityDeletionException("category", "id", id);
         }
 
+        searchIndexHelper.removeCategory(id);
+
         return true;
     }
 
@@ -3,13 +3,19 @@ package com.example.foody.service.impl;
 import com.example.foody.dto.request.DishRequestDTO;
 import com.example.foody.dto.request.DishUpdateRequestDTO;
 import com.example.foody.dto.response.DishResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.exceptions.dish.ForbiddenDishAccessException;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.exceptions.pagination.InvalidCursorException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
 import com.example.foody.helper.DishHelper;
+import com.example.foody.helper.PaginationHelper;
+import com.example.foody.helper.RatingAggregateHelper;
+import com.example.foody.helper.SearchIndexHelper;
+import com.example.foody.helper.SoftDeleteHelper;
 import com.example.foody.mapper.DishMapper;
 import com.example.foody.model.Dish;
 import com.example.foody.model.Restaurant;
@@ -17,9 +23,10 @@ import com.example.foody.model.user.User;
 import com.example.foody.repository.DishRepository;
 import com.example.foody.repository.RestaurantRepository;
 import com.example.foody.service.DishService;
-import com.example.foody.service.GoogleDriveService;
+import com.example.foody.service.MediaService;
 import com.example.foody.utils.UserRoleUtils;
 import com.example.foody.utils.enums.GoogleDriveFileType;
+import com.example.foody.utils.pagination.KeysetCursor;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,6 +34,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the {@link DishService} interface.
@@ -42,7 +50,11 @@ public class DishServiceImpl implements DishService {
     private final RestaurantRepository restaurantRepository;
     private final DishMapper dishMapper;
     private final DishHelper dishHelper;
-    private final GoogleDriveService googleDriveService;
+    private final MediaService mediaService;
+    private final PaginationHelper paginationHelper;
+    private final SearchIndexHelper searchIndexHelper;
+    private final RatingAggregateHelper ratingAggregateHelper;
+    private final SoftDeleteHelper softDeleteHelper;
 
     /**
      * {@inheritDoc}
@@ -76,6 +88,8 @@ public class DishServiceImpl implements DishService {
             throw new EntityCreationException("dish");
         }
 
+        searchIndexHelper.indexDish(dish);
+
         return dishHelper.buildDishResponseDTO(dish);
     }
 
@@ -92,6 +106,50 @@ public class DishServiceImpl implements DishService {
         return dishHelper.buildDishResponseDTOs(dishes);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method retrieves the {@link Dish} entities after the cursor position using keyset pagination, fetching
+     * one extra entity to know whether there is a next page.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the page of dish response data transfer objects
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @Override
+    public PageResponseDTO<DishResponseDTO> findAll(String cursor, int size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = paginationHelper.getPageSize(size);
+        List<Dish> dishes = dishRepository.findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(
+                keysetCursor.createdAt(),
+                keysetCursor.id(),
+                pageSize + 1
+        );
+        return paginationHelper.buildPageResponseDTO(
+                dishes,
+                pageSize,
+                dish -> new KeysetCursor(dish.getCreatedAt(), dish.getId()),
+                dishHelper::buildDishResponseDTOs
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method streams the {@link Dish} entities from the database and converts them in batches.
+     *
+     * @param consumer the consumer of the dish response data transfer objects
+     */
+    @Override
+    public void streamAll(Consumer<DishResponseDTO> consumer) {
+        paginationHelper.streamInBatches(
+                dishRepository.streamAllByOrderByCreatedAtDescIdDesc(),
+                dishHelper::buildDishResponseDTOs,
+                consumer
+        );
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -155,13 +213,16 @@ public class DishServiceImpl implements DishService {
             throw new EntityEditException("dish", "id", id);
         }
 
+        searchIndexHelper.indexDish(dish);
+
         return dishHelper.buildDishResponseDTO(dish);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * This method removes a {@link Dish} entity by its ID.
+     * This method removes a {@link Dish} entity by its ID, and cascades the removal to its reviews with
+     * {@link SoftDeleteHelper} once their ratings are removed from the restaurant.
      *
      * @param id the ID of the dish to remove
      * @return true if the dish was removed, false otherwise
@@ -185,6 +246,10 @@ public class DishServiceImpl implements DishService {
             throw new EntityDeletionException("dish", "id", id);
         }
 
+        ratingAggregateHelper.removeDishReviews(id);
+        softDeleteHelper.deleteDescendants(Dish.class, id, dish.getDeletedAt());
+        searchIndexHelper.removeDish(id);
+
         return true;
     }
 
@@ -207,14 +272,14 @@ public class DishServiceImpl implements DishService {
     /**
      * Saves the dish photo.
      * <p>
-     * This method uploads the base64 encoded dish photo to Google Drive and returns the URL.
+     * This method stages the base64 encoded dish photo for upload and returns its URL.
      *
      * @param dishPhotoBase64 the base64 encoded dish photo
-     * @return the URL of the uploaded dish photo
+     * @return the URL of the staged dish photo
      */
     private String saveDishPhoto(String dishPhotoBase64) {
         return Optional.ofNullable(dishPhotoBase64)
-                .map(photoBase64 -> googleDriveService.uploadBase64Image(photoBase64, GoogleDriveFileType.DISH_PHOTO))
+                .map(photoBase64 -> mediaService.stageImage(photoBase64, GoogleDriveFileType.DISH_PHOTO))
                 .orElse(null);
     }
 
@@ -237,11 +302,11 @@ public class DishServiceImpl implements DishService {
     /**
      * Updates the dish photo.
      * <p>
-     * This method removes the old dish photo and uploads the new base64 encoded dish photo to Google Drive.
+     * This method removes the old dish photo and stages the new base64 encoded dish photo for upload.
      *
      * @param dish the dish to update the photo for
      * @param photoBase64 the base64 encoded new dish photo
-     * @return the URL of the uploaded new dish photo
+     * @return the URL of the staged new dish photo
      */
     private String updateDishPhoto(Dish dish, String photoBase64) {
         removeDishPhoto(dish);
@@ -251,12 +316,12 @@ public class DishServiceImpl implements DishService {
     /**
      * Removes the dish photo.
      * <p>
-     * This method deletes the dish photo from Google Drive.
+     * This method deletes the dish photo from the image storage.
      *
      * @param dish the dish whose photo to remove
      */
     private void removeDishPhoto(Dish dish) {
         Optional.ofNullable(dish.getPhotoUrl())
-                .ifPresent(googleDriveService::deleteImage);
+                .ifPresent(mediaService::deleteImage);
     }
 }
\ No newline at end of file
@@ -1,28 +1,42 @@
 package com.example.foody.service.impl;
 
 import com.example.foody.exceptions.email.EmailSendingException;
+import com.example.foody.exceptions.entity.EntityCreationException;
+import com.example.foody.model.EmailOutboxMessage;
+import com.example.foody.repository.EmailOutboxMessageRepository;
 import com.example.foody.service.EmailService;
 import com.example.foody.service.EmailTemplateService;
+import com.example.foody.utils.email_template.EmailContent;
+import com.example.foody.utils.enums.EmailOutboxStatus;
 import com.example.foody.utils.enums.EmailPlaceholder;
 import com.example.foody.utils.enums.EmailTemplateType;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link EmailService} interface.
  * <p>
- * Provides methods to send templated emails.
+ * Provides methods to send templated emails through a persistent outbox. Emails are rendered when they are queued and
+ * a scheduled worker delivers them in batches, sending each batch over a single SMTP connection. Each batch is claimed
+ * with a single statement, so concurrent workers never deliver the same message twice, and the outcome of its
+ * delivery is recorded with one statement for the delivered messages and one for each kind of failure.
  */
 @Service
 public class EmailServiceImpl implements EmailService {
 
     private final JavaMailSender javaMailSender;
     private final EmailTemplateService emailTemplateService;
+    private final EmailOutboxMessageRepository emailOutboxMessageRepository;
 
     @Value("${spring.mail.username}")
     private String FROM;
@@ -32,52 +46,265 @@ public class EmailServiceImpl implements EmailService {
      *
      * @param javaMailSender the JavaMailSender to use for sending emails
      * @param emailTemplateService the service to use for preparing email templates
+     * @param emailOutboxMessageRepository the repository to use for queueing emails
      */
-    public EmailServiceImpl(JavaMailSender javaMailSender, EmailTemplateService emailTemplateService) {
+    public EmailServiceImpl(
+            JavaMailSender javaMailSender,
+            EmailTemplateService emailTemplateService,
+            EmailOutboxMessageRepository emailOutboxMessageRepository
+    ) {
         this.javaMailSender = javaMailSender;
         this.emailTemplateService = emailTemplateService;
+        this.emailOutboxMessageRepository = emailOutboxMessageRepository;
     }
 
     /**
-     * Sends a templated email asynchronously.
+     * Renders a templated email and queues it in the outbox.
      *
      * @param to the recipient email address
      * @param emailTemplateType the type of email template to use
      * @param variables the variables to replace in the email template
+     * @throws EmailSendingException if there is an error preparing the email
+     * @throws EntityCreationException if there is an error queueing the email
      */
-    @Async
     @Override
     public void sendTemplatedEmail(
             String to,
             EmailTemplateType emailTemplateType,
             Map<EmailPlaceholder, Object> variables
     ) {
-        String emailContent = emailTemplateService.prepareEmailContent(emailTemplateType, variables);
-        String subject = emailTemplateService.extractSubject(emailContent);
-        String body = emailTemplateService.extractBody(emailContent);
-        send(to, subject, body);
+        EmailContent emailContent = emailTemplateService.prepareEmailContent(emailTemplateType, variables);
+
+        try {
+            emailOutboxMessageRepository.save(new EmailOutboxMessage(to, emailContent.subject(), emailContent.body()));
+        } catch (Exception e) {
+            throw new EntityCreationException("email outbox message");
+        }
     }
 
     /**
-     * Sends an email.
+     * {@inheritDoc}
+     * <p>
+     * Messages of the batch with the same recipient and content are coalesced into a single email. The whole batch is
+     * sent over one SMTP connection, and only the messages that the server rejected are retried.
+     * <p>
+     * The batch is claimed for {@link DeliveryLimits#CLAIM_LEASE} before it is sent, so a batch whose worker crashed
+     * is delivered again after the lease.
      *
-     * @param to the recipient email address
-     * @param subject the subject of the email
-     * @param text the body of the email
-     * @throws EmailSendingException if there is an error sending the email
+     * @return the number of outbox messages delivered
+     */
+    @Override
+    @Scheduled(fixedDelayString = DeliveryLimits.DELIVERY_INTERVAL_MILLIS)
+    public int deliverPendingEmails() {
+        LocalDateTime now = LocalDateTime.now();
+        String claimToken = UUID.randomUUID().toString();
+        int claimed = emailOutboxMessageRepository.claimDue(
+                claimToken,
+                now,
+                now.plus(DeliveryLimits.CLAIM_LEASE),
+                DeliveryLimits.BATCH_SIZE
+        );
+
+        if (claimed == 0) {
+            return 0;
+        }
+
+        List<EmailOutboxMessage> outboxMessages = emailOutboxMessageRepository.findAllByClaimTokenOrderById(claimToken);
+
+        Map<SimpleMailMessage, List<EmailOutboxMessage>> outboxMessagesByEmail = outboxMessages.stream()
+                .collect(Collectors.groupingBy(this::buildMailMessage, LinkedHashMap::new, Collectors.toList()));
+        Map<Object, Exception> failures = sendAll(outboxMessagesByEmail.keySet());
+
+        List<Long> sentIds = new ArrayList<>();
+        Map<FailedAttempt, List<Long>> failedIds = new LinkedHashMap<>();
+        outboxMessagesByEmail.forEach((email, emailOutboxMessages) -> {
+            Exception failure = failures.get(email);
+
+            for (EmailOutboxMessage outboxMessage : emailOutboxMessages) {
+                if (failure == null) {
+                    sentIds.add(outboxMessage.getId());
+                } else {
+                    failedIds.computeIfAbsent(failedAttempt(outboxMessage, failure, now), key -> new ArrayList<>())
+                            .add(outboxMessage.getId());
+                }
+            }
+        });
+
+        if (!sentIds.isEmpty()) {
+            emailOutboxMessageRepository.markSentByIdInAndClaimToken(sentIds, claimToken, now);
+        }
+        failedIds.forEach((failedAttempt, ids) -> emailOutboxMessageRepository.markFailedAttemptByIdInAndClaimToken(
+                ids,
+                claimToken,
+                failedAttempt.status().name(),
+                failedAttempt.attempts(),
+                failedAttempt.nextAttemptAt(),
+                failedAttempt.lastError()
+        ));
+
+        return sentIds.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The messages are deleted in batches of {@link DeliveryLimits#PURGE_BATCH_SIZE}, so that no statement holds its
+     * locks for long.
+     *
+     * @return the number of outbox messages deleted
+     */
+    @Override
+    @Scheduled(fixedDelayString = DeliveryLimits.PURGE_INTERVAL_MILLIS)
+    public int purgeSentEmails() {
+        LocalDateTime sentBefore = LocalDateTime.now().minus(DeliveryLimits.SENT_RETENTION);
+
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = emailOutboxMessageRepository.deleteAllByStatusAndSentAtBeforeLimit(
+                    EmailOutboxStatus.SENT.name(),
+                    sentBefore,
+                    DeliveryLimits.PURGE_BATCH_SIZE
+            );
+            purged += deleted;
+        } while (deleted == DeliveryLimits.PURGE_BATCH_SIZE);
+
+        return purged;
+    }
+
+    /**
+     * Builds the email to send for an outbox message.
+     *
+     * @param outboxMessage the outbox message
+     * @return the email to send
      */
-    private void send(String to, String subject, String text) {
+    private SimpleMailMessage buildMailMessage(EmailOutboxMessage outboxMessage) {
         SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(FROM);
+        message.setTo(outboxMessage.getRecipient());
+        message.setSubject(outboxMessage.getSubject());
+        message.setText(outboxMessage.getBody());
+        return message;
+    }
 
+    /**
+     * Sends the given emails over a single SMTP connection.
+     *
+     * @param messages the emails to send
+     * @return the failure of each email that could not be sent, keyed by the email
+     */
+    private Map<Object, Exception> sendAll(Collection<SimpleMailMessage> messages) {
         try {
-            message.setFrom(FROM);
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(text);
+            javaMailSender.send(messages.toArray(SimpleMailMessage[]::new));
+            return Map.of();
+        } catch (MailSendException e) {
+            if (!e.getFailedMessages().isEmpty()) {
+                return e.getFailedMessages();
+            }
+            return failAll(messages, e);
+        } catch (MailException e) {
+            return failAll(messages, e);
+        }
+    }
 
-            this.javaMailSender.send(message);
-        } catch (Exception e) {
-            throw new EmailSendingException(to, subject);
+    /**
+     * Maps every given email to the same failure.
+     *
+     * @param messages the emails that could not be sent
+     * @param failure the failure
+     * @return the failure of each email, keyed by the email
+     */
+    private Map<Object, Exception> failAll(Collection<SimpleMailMessage> messages, Exception failure) {
+        Map<Object, Exception> failures = new HashMap<>();
+        messages.forEach(message -> failures.put(message, failure));
+        return failures;
+    }
+
+    /**
+     * Computes the outcome of a failed delivery attempt of an outbox message, scheduling the next attempt with an
+     * exponential backoff, or giving up after {@link DeliveryLimits#MAX_ATTEMPTS} attempts.
+     *
+     * @param outboxMessage the outbox message
+     * @param failure the failure of the attempt
+     * @param now the time of the attempt
+     * @return the outcome of the attempt
+     */
+    private FailedAttempt failedAttempt(EmailOutboxMessage outboxMessage, Exception failure, LocalDateTime now) {
+        int attempts = outboxMessage.getAttempts() + 1;
+        String lastError = truncate(String.valueOf(failure.getMessage()));
+
+        if (attempts >= DeliveryLimits.MAX_ATTEMPTS) {
+            return new FailedAttempt(EmailOutboxStatus.FAILED, attempts, now, lastError);
         }
+
+        Duration backoff = DeliveryLimits.BASE_BACKOFF.multipliedBy(1L << (attempts - 1));
+        if (backoff.compareTo(DeliveryLimits.MAX_BACKOFF) > 0) {
+            backoff = DeliveryLimits.MAX_BACKOFF;
+        }
+        return new FailedAttempt(EmailOutboxStatus.PENDING, attempts, now.plus(backoff), lastError);
+    }
+
+    /**
+     * Truncates an error message to fit in the outbox table.
+     *
+     * @param error the error message
+     * @return the truncated error message
+     */
+    private String truncate(String error) {
+        return error.length() > DeliveryLimits.MAX_ERROR_LENGTH
+                ? error.substring(0, DeliveryLimits.MAX_ERROR_LENGTH)
+                : error;
+    }
+
+    /**
+     * Outcome of a failed delivery attempt, shared by the messages updated with the same statement.
+     *
+     * @param status the new status of the messages
+     * @param attempts the number of attempts, including the failed one
+     * @param nextAttemptAt the time of the next attempt
+     * @param lastError the error of the failed attempt
+     */
+    private record FailedAttempt(
+            EmailOutboxStatus status,
+            int attempts,
+            LocalDateTime nextAttemptAt,
+            String lastError
+    ) {
+    }
+
+    /**
+     * Limits of the delivery of the queued emails.
+     */
+    public static class DeliveryLimits {
+
+        /** Maximum number of outbox messages delivered by a single run of the worker. */
+        public static final int BATCH_SIZE = 50;
+
+        /** Number of failed attempts after which a message is no longer retried. */
+        public static final int MAX_ATTEMPTS = 6;
+
+        /** Delay before the first retry, doubled at each following attempt. */
+        public static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+
+        /** Maximum delay between two attempts. */
+        public static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+        /** Maximum length of the error message kept for a failed attempt. */
+        public static final int MAX_ERROR_LENGTH = 500;
+
+        /** Interval between two runs of the delivery worker, in milliseconds. */
+        public static final String DELIVERY_INTERVAL_MILLIS = "5000";
+
+        /** Time for which a batch is claimed by a worker, after which it can be claimed again. */
+        public static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+
+        /** Time for which the delivered messages are kept in the outbox. */
+        public static final Duration SENT_RETENTION = Duration.ofDays(7);
+
+        /** Maximum number of delivered messages deleted by a single statement of the purge. */
+        public static final int PURGE_BATCH_SIZE = 1000;
+
+        /** Interval between two runs of the purge of the delivered messages, in milliseconds. */
+        public static final String PURGE_INTERVAL_MILLIS = "3600000";
     }
 }
\ No newline at end of file
@@ -8,12 +8,14 @@ import com.example.foody.utils.enums.GoogleDriveFileType;
 import com.google.api.services.drive.Drive;
 import com.google.api.services.drive.model.File;
 import com.google.api.services.drive.model.Permission;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
-import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Map;
@@ -21,9 +23,11 @@ import java.util.Map;
 /**
  * Implementation of the {@link GoogleDriveService} interface.
  * <p>
- * Provides methods to upload and delete images on Google Drive.
+ * Provides methods to upload and delete images on Google Drive. Used as image storage unless another storage is
+ * configured with the <i>spring.media.storage</i> property.
  */
 @Service
+@ConditionalOnProperty(name = "spring.media.storage", havingValue = "google-drive", matchIfMissing = true)
 public class GoogleDriveServiceImpl implements GoogleDriveService {
 
     private static final String GOOGLE_DRIVE_URL = "https://drive.google.com/uc?id=";
@@ -48,19 +52,18 @@ public class GoogleDriveServiceImpl implements GoogleDriveService {
     /**
      * {@inheritDoc}
      * <p>
-     * This method uploads a base64 encoded image to Google Drive.
+     * This method streams an image file to Google Drive.
      *
-     * @param base64Image the base64 encoded image
-     * @param fileType    the type of the file to upload
+     * @param image    the path of the image file
+     * @param fileType the type of the file to upload
      * @return the public URL of the uploaded image
      * @throws GoogleDriveFileUploadException if there is an error during the upload
      */
     @Override
-    public String uploadBase64Image(String base64Image, GoogleDriveFileType fileType) {
+    public String uploadImage(Path image, GoogleDriveFileType fileType) {
         try {
-            byte[] decodedBytes = Base64.getDecoder().decode(base64Image);
             String folderId = getFolderId(fileType);
-            String fileId = uploadImage(decodedBytes, fileType.name().toLowerCase(), folderId);
+            String fileId = uploadImage(image, fileType.name().toLowerCase(), folderId);
             return generatePublicLink(fileId);
         } catch (Exception e) {
             throw new GoogleDriveFileUploadException(fileType);
@@ -104,22 +107,26 @@ public class GoogleDriveServiceImpl implements GoogleDriveService {
     /**
      * Uploads the image to Google Drive.
      *
-     * @param image    the image bytes
+     * @param image    the path of the image file
      * @param type     the type of the file
      * @param folderId the folder ID to upload the file to
      * @return the ID of the uploaded file
      * @throws IOException if there is an error during the upload
      */
-    private String uploadImage(byte[] image, String type, String folderId) throws IOException {
+    private String uploadImage(Path image, String type, String folderId) throws IOException {
         File file = createFileMetadata(type, folderId);
-        com.google.api.client.http.InputStreamContent mediaContent =
-                new com.google.api.client.http.InputStreamContent(IMAGE_MIME_TYPE, new ByteArrayInputStream(image));
 
-        File uploadedFile = drive.files().create(file, mediaContent)
-                .setFields("id")
-                .execute();
+        try (InputStream inputStream = Files.newInputStream(image)) {
+            com.google.api.client.http.InputStreamContent mediaContent =
+                    new com.google.api.client.http.InputStreamContent(IMAGE_MIME_TYPE, inputStream)
+                            .setLength(Files.size(image));
 
-        return uploadedFile.getId();
+            File uploadedFile = drive.files().create(file, mediaContent)
+                    .setFields("id")
+                    .execute();
+
+            return uploadedFile.getId();
+        }
     }
 
     /**
@@ -0,0 +1,80 @@
+package com.example.foody.service.impl;
+
+import com.example.foody.exceptions.google_drive.GoogleDriveFileDeleteException;
+import com.example.foody.exceptions.google_drive.GoogleDriveFileUploadException;
+import com.example.foody.service.ImageStorageService;
+import com.example.foody.utils.enums.GoogleDriveFileType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+/**
+ * Implementation of the {@link ImageStorageService} interface.
+ * <p>
+ * Stores the images on the local filesystem, one directory for each file type. Used instead of Google Drive when the
+ * <i>spring.media.storage</i> property is set to <i>local</i>, e.g. for development and tests.
+ */
+@Service
+@ConditionalOnProperty(name = "spring.media.storage", havingValue = "local")
+public class LocalImageStorageServiceImpl implements ImageStorageService {
+
+    private static final String IMAGE_EXTENSION = "jpeg";
+    private final Path rootDirectory;
+
+    /**
+     * Constructs an instance of {@link LocalImageStorageServiceImpl}.
+     *
+     * @param rootDirectory the directory in which the images are stored
+     */
+    public LocalImageStorageServiceImpl(@Value("${spring.media.local-storage-path}") String rootDirectory) {
+        this.rootDirectory = Paths.get(rootDirectory).toAbsolutePath().normalize();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method copies the image file to the directory of its file type.
+     *
+     * @param image    the path of the image file
+     * @param fileType the type of the file to upload
+     * @return the file URL of the stored image
+     * @throws GoogleDriveFileUploadException if there is an error copying the file
+     */
+    @Override
+    public String uploadImage(Path image, GoogleDriveFileType fileType) {
+        try {
+            Path directory = Files.createDirectories(rootDirectory.resolve(fileType.getFolderIdKey()));
+            Path storedImage = directory.resolve(String.format("%s.%s", UUID.randomUUID(), IMAGE_EXTENSION));
+            Files.copy(image, storedImage);
+            return storedImage.toUri().toString();
+        } catch (Exception e) {
+            throw new GoogleDriveFileUploadException(fileType);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method deletes the image file, if it is stored in the root directory.
+     *
+     * @param fileUrl the URL of the file to delete
+     * @throws GoogleDriveFileDeleteException if there is an error deleting the file
+     */
+    @Override
+    public void deleteImage(String fileUrl) {
+        try {
+            Path storedImage = Paths.get(URI.create(fileUrl)).normalize();
+            if (!storedImage.startsWith(rootDirectory)) return;
+
+            Files.deleteIfExists(storedImage);
+        } catch (Exception e) {
+            throw new GoogleDriveFileDeleteException(fileUrl);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,393 @@
+package com.example.foody.service.impl;
+
+import com.example.foody.exceptions.entity.EntityCreationException;
+import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.exceptions.media.MediaStagingException;
+import com.example.foody.model.MediaUpload;
+import com.example.foody.repository.DishRepository;
+import com.example.foody.repository.MediaUploadRepository;
+import com.example.foody.repository.RestaurantRepository;
+import com.example.foody.repository.UserRepository;
+import com.example.foody.service.ImageStorageService;
+import com.example.foody.service.MediaService;
+import com.example.foody.utils.enums.GoogleDriveFileType;
+import com.example.foody.utils.enums.MediaUploadStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of the {@link MediaService} interface.
+ * <p>
+ * Requests only decode the images into a local staging directory and record a pending upload in the same transaction,
+ * so they never wait for the image storage. A scheduled worker uploads the staged images, replaces the staged URL on
+ * the owning entity with the public URL, and retries failed uploads. Staged images and pending uploads survive
+ * restarts. Each batch is claimed with a single statement, and every step of an upload can be repeated, so a batch
+ * whose worker crashed is safely retried once its claim expires.
+ */
+@Service
+public class MediaServiceImpl implements MediaService {
+
+    /** Prefix of the URLs serving the staged images until they are uploaded. */
+    public static final String STAGED_URL_PREFIX = "/api/v1/media/staged/";
+
+    private final ImageStorageService imageStorageService;
+    private final MediaUploadRepository mediaUploadRepository;
+    private final UserRepository userRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final DishRepository dishRepository;
+    private final Path stagingDirectory;
+
+    /**
+     * Constructs an instance of {@link MediaServiceImpl}.
+     *
+     * @param imageStorageService   the storage to which the images are uploaded
+     * @param mediaUploadRepository the repository to use for the pending uploads
+     * @param userRepository        the repository to use for updating the user avatars
+     * @param restaurantRepository  the repository to use for updating the restaurant photos
+     * @param dishRepository        the repository to use for updating the dish photos
+     * @param stagingDirectory      the directory in which the images are staged
+     */
+    public MediaServiceImpl(
+            ImageStorageService imageStorageService,
+            MediaUploadRepository mediaUploadRepository,
+            UserRepository userRepository,
+            RestaurantRepository restaurantRepository,
+            DishRepository dishRepository,
+            @Value("${spring.media.staging-path}") String stagingDirectory
+    ) {
+        this.imageStorageService = imageStorageService;
+        this.mediaUploadRepository = mediaUploadRepository;
+        this.userRepository = userRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.dishRepository = dishRepository;
+        this.stagingDirectory = Paths.get(stagingDirectory).toAbsolutePath().normalize();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the current transaction is rolled back, the staged file is deleted.
+     *
+     * @param base64Image the base64 encoded image
+     * @param fileType    the type of the image
+     * @return the staged URL of the image
+     * @throws MediaStagingException   if the image cannot be decoded or written
+     * @throws EntityCreationException if the pending upload cannot be saved
+     */
+    @Override
+    public String stageImage(String base64Image, GoogleDriveFileType fileType) {
+        Path stagedImage;
+
+        try {
+            Files.createDirectories(stagingDirectory);
+            stagedImage = stagingDirectory.resolve(UUID.randomUUID().toString());
+            Files.write(stagedImage, Base64.getDecoder().decode(base64Image));
+        } catch (Exception e) {
+            throw new MediaStagingException(fileType);
+        }
+
+        deleteOnRollback(stagedImage);
+
+        MediaUpload mediaUpload;
+        try {
+            mediaUpload = mediaUploadRepository.save(new MediaUpload(fileType, stagedImage.toString()));
+        } catch (Exception e) {
+            throw new EntityCreationException("media upload");
+        }
+
+        return STAGED_URL_PREFIX + mediaUpload.getId();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Staged images are discarded together with their pending upload, uploaded images are deleted from the storage.
+     * Inside a transaction, a staged image is discarded only after the commit, since the entity still references it
+     * if the transaction is rolled back.
+     *
+     * @param fileUrl the URL of the image
+     */
+    @Override
+    public void deleteImage(String fileUrl) {
+        if (!fileUrl.startsWith(STAGED_URL_PREFIX)) {
+            imageStorageService.deleteImage(fileUrl);
+            return;
+        }
+
+        parseStagedId(fileUrl).ifPresent(id -> {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                discardStagedImage(id);
+                return;
+            }
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    discardStagedImage(id);
+                }
+            });
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param id the ID of the staged image
+     * @return the path of the staged image file
+     * @throws EntityNotFoundException if there is no staged image with the given ID
+     */
+    @Override
+    public Path findStagedImage(long id) {
+        return mediaUploadRepository.findById(id)
+                .map(mediaUpload -> Paths.get(mediaUpload.getStagedPath()))
+                .filter(Files::isReadable)
+                .orElseThrow(() -> new EntityNotFoundException("staged image", "id", id));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the entity no longer references the staged URL when the upload completes, e.g. because the image was replaced
+     * in the meantime, the uploaded image is deleted from the storage. The batch is claimed for
+     * {@link UploadLimits#CLAIM_LEASE} before it is uploaded.
+     *
+     * @return the number of uploaded images
+     */
+    @Override
+    @Scheduled(fixedDelayString = UploadLimits.UPLOAD_INTERVAL_MILLIS)
+    public int uploadStagedImages() {
+        LocalDateTime now = LocalDateTime.now();
+        String claimToken = UUID.randomUUID().toString();
+        int claimed = mediaUploadRepository.claimDue(
+                claimToken,
+                now,
+                now.plus(UploadLimits.CLAIM_LEASE),
+                UploadLimits.BATCH_SIZE
+        );
+
+        if (claimed == 0) {
+            return 0;
+        }
+
+        int uploaded = 0;
+        for (MediaUpload mediaUpload : mediaUploadRepository.findAllByClaimTokenOrderById(claimToken)) {
+            try {
+                if (upload(mediaUpload)) uploaded++;
+            } catch (Exception e) {
+                markFailed(mediaUpload, e, now);
+            }
+        }
+
+        return uploaded;
+    }
+
+    /**
+     * Uploads a staged image, replaces its staged URL with the public URL and discards the staged image.
+     * <p>
+     * The public URL is recorded before the staged URL is replaced, so a retried upload reuses the uploaded image, and
+     * the uploaded image is only deleted if no entity references it.
+     *
+     * @param mediaUpload the claimed upload
+     * @return true if the image was uploaded, false if the staged image was discarded in the meantime
+     */
+    private boolean upload(MediaUpload mediaUpload) {
+        String stagedUrl = STAGED_URL_PREFIX + mediaUpload.getId();
+        String url = mediaUpload.getUploadedUrl();
+
+        if (url == null) {
+            url = imageStorageService.uploadImage(Paths.get(mediaUpload.getStagedPath()), mediaUpload.getFileType());
+
+            int recorded = mediaUploadRepository.updateUploadedUrlByIdAndClaimToken(
+                    mediaUpload.getId(),
+                    mediaUpload.getClaimToken(),
+                    url
+            );
+            if (recorded == 0) {
+                // The staged image was discarded or claimed again by another worker in the meantime
+                imageStorageService.deleteImage(url);
+                return false;
+            }
+            mediaUpload.setUploadedUrl(url);
+        }
+
+        if (replaceImageUrl(mediaUpload.getFileType(), stagedUrl, url) == 0
+                && !isImageReferenced(mediaUpload.getFileType(), url)) {
+            imageStorageService.deleteImage(url);
+        }
+
+        mediaUploadRepository.delete(mediaUpload);
+        deleteStagedFile(mediaUpload);
+        return true;
+    }
+
+    /**
+     * Replaces the staged URL of an image with its public URL on the entity owning the image.
+     *
+     * @param fileType  the type of the image
+     * @param stagedUrl the staged URL
+     * @param url       the public URL
+     * @return the number of updated entities
+     */
+    private int replaceImageUrl(GoogleDriveFileType fileType, String stagedUrl, String url) {
+        return switch (fileType) {
+            case USER_AVATAR -> userRepository.updateAvatarUrlByAvatarUrl(stagedUrl, url);
+            case RESTAURANT_PHOTO -> restaurantRepository.updatePhotoUrlByPhotoUrl(stagedUrl, url);
+            case DISH_PHOTO -> dishRepository.updatePhotoUrlByPhotoUrl(stagedUrl, url);
+        };
+    }
+
+    /**
+     * Checks if the entity owning an image references its public URL.
+     *
+     * @param fileType the type of the image
+     * @param url      the public URL
+     * @return true if an entity references the public URL, false otherwise
+     */
+    private boolean isImageReferenced(GoogleDriveFileType fileType, String url) {
+        return switch (fileType) {
+            case USER_AVATAR -> userRepository.existsByAvatarUrl(url);
+            case RESTAURANT_PHOTO -> restaurantRepository.existsByPhotoUrl(url);
+            case DISH_PHOTO -> dishRepository.existsByPhotoUrl(url);
+        };
+    }
+
+    /**
+     * Records a failed upload attempt and schedules the next attempt with an exponential backoff, or gives up after
+     * {@link UploadLimits#MAX_ATTEMPTS} attempts. The attempt is only recorded while the worker holds the claim, so a
+     * discarded upload is not saved again.
+     *
+     * @param mediaUpload the pending upload
+     * @param failure     the failure of the attempt
+     * @param now         the time of the attempt
+     */
+    private void markFailed(MediaUpload mediaUpload, Exception failure, LocalDateTime now) {
+        int attempts = mediaUpload.getAttempts() + 1;
+        String error = String.valueOf(failure.getMessage());
+        mediaUpload.setAttempts(attempts);
+        mediaUpload.setLastError(error.length() > UploadLimits.MAX_ERROR_LENGTH
+                ? error.substring(0, UploadLimits.MAX_ERROR_LENGTH)
+                : error);
+
+        if (attempts >= UploadLimits.MAX_ATTEMPTS) {
+            mediaUpload.setStatus(MediaUploadStatus.FAILED);
+        } else {
+            Duration backoff = UploadLimits.BASE_BACKOFF.multipliedBy(1L << (attempts - 1));
+            if (backoff.compareTo(UploadLimits.MAX_BACKOFF) > 0) {
+                backoff = UploadLimits.MAX_BACKOFF;
+            }
+            mediaUpload.setNextAttemptAt(now.plus(backoff));
+        }
+
+        mediaUploadRepository.updateFailedAttemptByIdAndClaimToken(
+                mediaUpload.getId(),
+                mediaUpload.getClaimToken(),
+                mediaUpload.getStatus().name(),
+                attempts,
+                mediaUpload.getNextAttemptAt(),
+                mediaUpload.getLastError()
+        );
+        mediaUpload.setClaimToken(null);
+    }
+
+    /**
+     * Parses the ID of the pending upload from a staged URL.
+     *
+     * @param stagedUrl the staged URL
+     * @return the ID of the pending upload, or empty if the URL is malformed
+     */
+    private Optional<Long> parseStagedId(String stagedUrl) {
+        try {
+            return Optional.of(Long.parseLong(stagedUrl.substring(STAGED_URL_PREFIX.length())));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Discards a staged image together with its pending upload, if it still exists.
+     *
+     * @param id the ID of the pending upload
+     */
+    private void discardStagedImage(long id) {
+        mediaUploadRepository.findById(id).ifPresent(mediaUpload -> {
+            mediaUploadRepository.delete(mediaUpload);
+            deleteStagedFile(mediaUpload);
+        });
+    }
+
+    /**
+     * Deletes the staged file of an upload, ignoring errors since the file is no longer referenced.
+     *
+     * @param mediaUpload the upload
+     */
+    private void deleteStagedFile(MediaUpload mediaUpload) {
+        try {
+            Files.deleteIfExists(Paths.get(mediaUpload.getStagedPath()));
+        } catch (IOException ignored) {
+            // An orphaned staged file only wastes disk space
+        }
+    }
+
+    /**
+     * Deletes a staged file if the current transaction, if any, is rolled back.
+     *
+     * @param stagedImage the staged file
+     */
+    private void deleteOnRollback(Path stagedImage) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) return;
+
+                try {
+                    Files.deleteIfExists(stagedImage);
+                } catch (IOException ignored) {
+                    // An orphaned staged file only wastes disk space
+                }
+            }
+        });
+    }
+
+    /**
+     * Limits of the upload of the staged images.
+     */
+    public static class UploadLimits {
+
+        /** Maximum number of images uploaded by a single run of the worker. */
+        public static final int BATCH_SIZE = 10;
+
+        /** Number of failed attempts after which an upload is no longer retried. */
+        public static final int MAX_ATTEMPTS = 6;
+
+        /** Delay before the first retry, doubled at each following attempt. */
+        public static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+
+        /** Maximum delay between two attempts. */
+        public static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+        /** Maximum length of the error message kept for a failed attempt. */
+        public static final int MAX_ERROR_LENGTH = 500;
+
+        /** Interval between two runs of the upload worker, in milliseconds. */
+        public static final String UPLOAD_INTERVAL_MILLIS = "5000";
+
+        /** Time for which a batch is claimed by a worker, after which it can be claimed again. */
+        public static final Duration CLAIM_LEASE = Duration.ofMinutes(10);
+    }
+}
\ No newline at end of file
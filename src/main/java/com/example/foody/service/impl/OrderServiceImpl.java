@@ -1,8 +1,10 @@
 package com.example.foody.service.impl;
 
+import com.example.foody.dto.request.OrderBulkTransitionRequestDTO;
 import com.example.foody.dto.request.OrderDishRequestDTO;
 import com.example.foody.dto.request.OrderRequestDTO;
 import com.example.foody.dto.response.OrderResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityEditException;
@@ -10,7 +12,11 @@ import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.order.ForbiddenOrderAccessException;
 import com.example.foody.exceptions.order.InvalidOrderStateException;
 import com.example.foody.exceptions.order.OrderNotAllowedException;
+import com.example.foody.exceptions.order.OrderStateConflictException;
+import com.example.foody.exceptions.pagination.InvalidCursorException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
+import com.example.foody.helper.KitchenBoardHelper;
+import com.example.foody.helper.PaginationHelper;
 import com.example.foody.mapper.OrderMapper;
 import com.example.foody.model.Dish;
 import com.example.foody.model.Order;
@@ -18,6 +24,8 @@ import com.example.foody.model.Restaurant;
 import com.example.foody.model.order_dish.OrderDish;
 import com.example.foody.model.user.BuyerUser;
 import com.example.foody.model.user.CookUser;
+import com.example.foody.model.user.EmployeeUser;
+import com.example.foody.model.user.RestaurateurUser;
 import com.example.foody.model.user.User;
 import com.example.foody.observer.listener.impl.CookUserOrderCreatedEventListener;
 import com.example.foody.observer.listener.impl.CustomerUserOrderCompletedEventListener;
@@ -30,15 +38,19 @@ import com.example.foody.state.order.impl.CreatedState;
 import com.example.foody.state.order.impl.PaidState;
 import com.example.foody.utils.UserRoleUtils;
 import com.example.foody.utils.enums.*;
+import com.example.foody.utils.kitchen_board.KitchenBoard;
+import com.example.foody.utils.pagination.KeysetCursor;
+import com.example.foody.utils.state.OrderStateUtils;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the {@link OrderService} interface.
@@ -50,6 +62,10 @@ import java.util.Map;
 @AllArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
+    private static final List<String> PAID_SOURCE_STATUSES = OrderStateUtils.getSourceStatuses(Order::pay);
+    private static final List<String> PREPARING_SOURCE_STATUSES = OrderStateUtils.getSourceStatuses(Order::prepare);
+    private static final List<String> COMPLETED_SOURCE_STATUSES = OrderStateUtils.getSourceStatuses(Order::complete);
+
     private final OrderRepository orderRepository;
     private final RestaurantRepository restaurantRepository;
     private final BookingRepository bookingRepository;
@@ -58,7 +74,8 @@ public class OrderServiceImpl implements OrderService {
     private final OrderMapper orderMapper;
     private final EmailService emailService;
     private final EventManager eventManager;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final KitchenBoardHelper kitchenBoardHelper;
+    private final PaginationHelper paginationHelper;
 
     /**
      * {@inheritDoc}
@@ -90,19 +107,14 @@ public class OrderServiceImpl implements OrderService {
             throw new EntityCreationException("order");
         }
 
-        order.setOrderDishes(addDishesToOrder(order, orderDTO.getOrderDishes()));
+        addDishesToOrder(order, orderDTO.getOrderDishes());
         order.getBuyer().setUser(principal);
 
         notifyOrderCreatedListeners(order);
 
         OrderResponseDTO orderResponseDTO = orderMapper.orderToOrderResponseDTO(order);
 
-        if (order.getStatus() == OrderStatus.PAID) {
-            messagingTemplate.convertAndSend(
-                    WebSocketTopics.TOPIC_ORDERS_PAYED.getName() + order.getRestaurant().getId(),
-                    orderResponseDTO
-            );
-        }
+        kitchenBoardHelper.applyOrderChange(order.getRestaurant().getId(), orderResponseDTO);
 
         return orderResponseDTO;
     }
@@ -120,6 +132,51 @@ public class OrderServiceImpl implements OrderService {
         return orderMapper.ordersToOrderResponseDTOs(orders);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method retrieves the {@link Order} entities after the cursor position using keyset pagination, fetching
+     * one extra entity to know whether there is a next page.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the page of order response data transfer objects
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @Override
+    public PageResponseDTO<OrderResponseDTO> findAll(String cursor, int size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = paginationHelper.getPageSize(size);
+        List<Order> orders = orderRepository.findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(
+                keysetCursor.createdAt(),
+                keysetCursor.id(),
+                pageSize + 1
+        );
+        return paginationHelper.buildPageResponseDTO(
+                orders,
+                pageSize,
+                order -> new KeysetCursor(order.getCreatedAt(), order.getId()),
+                orderMapper::ordersToOrderResponseDTOs
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method streams the {@link Order} entities from the database, loads their details and converts them in
+     * batches.
+     *
+     * @param consumer the consumer of the order response data transfer objects
+     */
+    @Override
+    public void streamAll(Consumer<OrderResponseDTO> consumer) {
+        paginationHelper.streamInBatches(
+                orderRepository.streamAllByOrderByCreatedAtDescIdDesc(),
+                orders -> orderMapper.ordersToOrderResponseDTOs(orderRepository.loadDetails(orders)),
+                consumer
+        );
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -182,38 +239,45 @@ public class OrderServiceImpl implements OrderService {
     /**
      * {@inheritDoc}
      * <p>
-     * This method retrieves all {@link Order} entities for a specific restaurant that are in progress.
+     * This method serves the in-progress {@link Order} entities of a restaurant from its in-memory kitchen board,
+     * once the restaurant is found approved, checking access against the restaurant of the principal. The approved
+     * restaurant is read through the query cache, and the board is loaded from the database only if it is not in
+     * memory yet.
      *
      * @param restaurantId the ID of the restaurant
-     * @return the list of order response data transfer objects
+     * @return the kitchen board of the restaurant
+     * @throws EntityNotFoundException if the restaurant is not found or not approved
      */
     @Override
-    public List<OrderResponseDTO> findAllByRestaurantAndInProgress(long restaurantId) {
+    public KitchenBoard findAllByRestaurantAndInProgress(long restaurantId) {
         User principal = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Restaurant restaurant = restaurantRepository
                 .findByIdAndApproved(restaurantId, true)
                 .orElseThrow(() -> new EntityNotFoundException("restaurant", "id", restaurantId));
+        Optional<KitchenBoard> board = kitchenBoardHelper.findBoard(restaurantId);
 
-        checkRestaurantAccessOrThrow(principal, restaurant);
+        if (board.isPresent()) {
+            checkKitchenAccessOrThrow(principal, restaurantId);
+            return board.get();
+        }
 
-        List<Order> orders = orderRepository.findAllByRestaurant_IdAndStatusInOrderByCreatedAtDesc(
-                restaurantId,
-                List.of(OrderStatus.PAID.name(), OrderStatus.PREPARING.name())
-        );
+        checkRestaurantAccessOrThrow(principal, restaurant);
 
-        return orderMapper.ordersToOrderResponseDTOs(orders);
+        return kitchenBoardHelper.loadBoard(restaurantId);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * This method updates the status of an {@link Order} entity to "paid".
+     * This method checks the access of the user to an {@link Order} entity, then updates its status to "paid" with
+     * a single guarded update.
      *
      * @param id the ID of the order to update
      * @return the updated order response data transfer object
-     * @throws EntityNotFoundException    if the order with the specified ID is not found
-     * @throws EntityEditException        if there is an error during the update of the order
-     * @throws InvalidOrderStateException if the order is in an invalid state for this operation
+     * @throws EntityNotFoundException     if the order with the specified ID is not found
+     * @throws EntityEditException         if there is an error during the update of the order
+     * @throws InvalidOrderStateException  if the order is in an invalid state for this operation
+     * @throws OrderStateConflictException if the order was changed to the same status by a concurrent request
      */
     @Override
     public OrderResponseDTO payById(long id) {
@@ -224,23 +288,16 @@ public class OrderServiceImpl implements OrderService {
 
         checkPayAccessOrThrow(principal, order);
 
-        try {
-            order.pay();
-            order = orderRepository.save(order);
-        } catch (IllegalStateException e) {
-            throw new InvalidOrderStateException(e.getMessage());
-        } catch (Exception e) {
-            throw new EntityEditException("order", "id", id);
-        }
+        int updated = updateStatus(id, OrderStatus.PAID, PAID_SOURCE_STATUSES);
+        if (updated == 0) throw transitionFailure(order, Order::pay, OrderStatus.PAID);
+
+        markStatusUpdated(order, OrderStatus.PAID);
 
         sendPaymentReceivedEmail(order);
 
         OrderResponseDTO orderResponseDTO = orderMapper.orderToOrderResponseDTO(order);
 
-        messagingTemplate.convertAndSend(
-                WebSocketTopics.TOPIC_ORDERS_PAYED.getName() + order.getRestaurant().getId(),
-                orderResponseDTO
-        );
+        kitchenBoardHelper.applyOrderChange(order.getRestaurant().getId(), orderResponseDTO);
 
         return orderResponseDTO;
     }
@@ -248,13 +305,15 @@ public class OrderServiceImpl implements OrderService {
     /**
      * {@inheritDoc}
      * <p>
-     * This method updates the status of an {@link Order} entity to "preparing".
+     * This method checks the access of the user to an {@link Order} entity, then updates its status to "preparing" with
+     * a single guarded update.
      *
      * @param id the ID of the order to update
      * @return the updated order response data transfer object
-     * @throws EntityNotFoundException    if the order with the specified ID is not found
-     * @throws EntityEditException        if there is an error during the update of the order
-     * @throws InvalidOrderStateException if the order is in an invalid state for this operation
+     * @throws EntityNotFoundException     if the order with the specified ID is not found
+     * @throws EntityEditException         if there is an error during the update of the order
+     * @throws InvalidOrderStateException  if the order is in an invalid state for this operation
+     * @throws OrderStateConflictException if the order was changed to the same status by a concurrent request
      */
     @Override
     public OrderResponseDTO prepareById(long id) {
@@ -265,21 +324,14 @@ public class OrderServiceImpl implements OrderService {
 
         checkPrepareAccessOrThrow(principal, order);
 
-        try {
-            order.prepare();
-            order = orderRepository.save(order);
-        } catch (IllegalStateException e) {
-            throw new InvalidOrderStateException(e.getMessage());
-        } catch (Exception e) {
-            throw new EntityEditException("order", "id", id);
-        }
+        int updated = updateStatus(id, OrderStatus.PREPARING, PREPARING_SOURCE_STATUSES);
+        if (updated == 0) throw transitionFailure(order, Order::prepare, OrderStatus.PREPARING);
+
+        markStatusUpdated(order, OrderStatus.PREPARING);
 
         OrderResponseDTO orderResponseDTO = orderMapper.orderToOrderResponseDTO(order);
 
-        messagingTemplate.convertAndSend(
-                WebSocketTopics.TOPIC_ORDERS_PREPARING.getName() + order.getRestaurant().getId(),
-                orderResponseDTO
-        );
+        kitchenBoardHelper.applyOrderChange(order.getRestaurant().getId(), orderResponseDTO);
 
         return orderResponseDTO;
     }
@@ -287,13 +339,15 @@ public class OrderServiceImpl implements OrderService {
     /**
      * {@inheritDoc}
      * <p>
-     * This method updates the status of an {@link Order} entity to "completed".
+     * This method checks the access of the user to an {@link Order} entity, then updates its status to "completed" with
+     * a single guarded update.
      *
      * @param id the ID of the order to update
      * @return the updated order response data transfer object
-     * @throws EntityNotFoundException    if the order with the specified ID is not found
-     * @throws EntityEditException        if there is an error during the update of the order
-     * @throws InvalidOrderStateException if the order is in an invalid state for this operation
+     * @throws EntityNotFoundException     if the order with the specified ID is not found
+     * @throws EntityEditException         if there is an error during the update of the order
+     * @throws InvalidOrderStateException  if the order is in an invalid state for this operation
+     * @throws OrderStateConflictException if the order was changed to the same status by a concurrent request
      */
     @Override
     public OrderResponseDTO completeById(long id) {
@@ -304,27 +358,65 @@ public class OrderServiceImpl implements OrderService {
 
         checkCompleteAccessOrThrow(principal, order);
 
-        try {
-            order.complete();
-            order = orderRepository.save(order);
-        } catch (IllegalStateException e) {
-            throw new InvalidOrderStateException(e.getMessage());
-        } catch (Exception e) {
-            throw new EntityEditException("order", "id", id);
-        }
+        int updated = updateStatus(id, OrderStatus.COMPLETED, COMPLETED_SOURCE_STATUSES);
+        if (updated == 0) throw transitionFailure(order, Order::complete, OrderStatus.COMPLETED);
+
+        markStatusUpdated(order, OrderStatus.COMPLETED);
 
         notifyOrderCompletedListeners(order);
 
         OrderResponseDTO orderResponseDTO = orderMapper.orderToOrderResponseDTO(order);
 
-        messagingTemplate.convertAndSend(
-                WebSocketTopics.TOPIC_ORDERS_COMPLETED.getName() + order.getRestaurant().getId(),
-                orderResponseDTO
-        );
+        kitchenBoardHelper.applyOrderChange(order.getRestaurant().getId(), orderResponseDTO);
 
         return orderResponseDTO;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method updates the status of the selected paid {@link Order} entities of a restaurant to "preparing" with a
+     * single statement. Selected orders that are not paid are left unchanged and not returned.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param requestDTO   the selection of the orders
+     * @return the list of updated order response data transfer objects
+     * @throws ForbiddenRestaurantAccessException if the user is not an employee of the restaurant
+     * @throws EntityEditException                if there is an error during the update of the orders
+     */
+    @Override
+    public List<OrderResponseDTO> prepareAllByRestaurant(long restaurantId, OrderBulkTransitionRequestDTO requestDTO) {
+        List<Order> orders = updateStatuses(restaurantId, requestDTO, OrderStatus.PREPARING, PREPARING_SOURCE_STATUSES);
+        List<OrderResponseDTO> orderResponseDTOs = orderMapper.ordersToOrderResponseDTOs(orders);
+
+        kitchenBoardHelper.applyOrderChanges(restaurantId, orderResponseDTOs);
+
+        return orderResponseDTOs;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method updates the status of the selected preparing {@link Order} entities of a restaurant to "completed"
+     * with a single statement. Selected orders that are not being prepared are left unchanged and not returned.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @param requestDTO   the selection of the orders
+     * @return the list of updated order response data transfer objects
+     * @throws ForbiddenRestaurantAccessException if the user is not an employee of the restaurant
+     * @throws EntityEditException                if there is an error during the update of the orders
+     */
+    @Override
+    public List<OrderResponseDTO> completeAllByRestaurant(long restaurantId, OrderBulkTransitionRequestDTO requestDTO) {
+        List<Order> orders = updateStatuses(restaurantId, requestDTO, OrderStatus.COMPLETED, COMPLETED_SOURCE_STATUSES);
+        orders.forEach(this::notifyOrderCompletedListeners);
+        List<OrderResponseDTO> orderResponseDTOs = orderMapper.ordersToOrderResponseDTOs(orders);
+
+        kitchenBoardHelper.applyOrderChanges(restaurantId, orderResponseDTOs);
+
+        return orderResponseDTOs;
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -348,22 +440,124 @@ public class OrderServiceImpl implements OrderService {
             throw new EntityDeletionException("order", "id", id);
         }
 
+        kitchenBoardHelper.removeOrder(order.getRestaurant().getId(), order.getId());
+
         return true;
     }
 
+    /**
+     * Changes the status of an order with a single guarded update, if its current status allows it.
+     *
+     * @param id             the ID of the order
+     * @param status         the new status
+     * @param sourceStatuses the statuses from which the transition is allowed
+     * @return the number of updated orders
+     * @throws EntityEditException if there is an error during the update of the order
+     */
+    private int updateStatus(long id, OrderStatus status, List<String> sourceStatuses) {
+        try {
+            return orderRepository.updateStatusByIdAndStatusIn(id, status.name(), sourceStatuses);
+        } catch (Exception e) {
+            throw new EntityEditException("order", "id", id);
+        }
+    }
+
+    /**
+     * Applies the changes of a successful guarded update of the status to the managed order, without reading it again.
+     *
+     * @param order  the updated order
+     * @param status the new status
+     */
+    private void markStatusUpdated(Order order, OrderStatus status) {
+        order.setState(OrderStateUtils.getState(status));
+        order.setVersion(order.getVersion() + 1);
+        orderRepository.markUpdated(order);
+    }
+
+    /**
+     * Changes the status of the selected orders of a restaurant whose current status allows it.
+     * <p>
+     * The user is authorized once against the restaurant. The matching orders are locked, updated with a single
+     * statement and then read with their details.
+     *
+     * @param restaurantId   the ID of the restaurant
+     * @param requestDTO     the selection of the orders
+     * @param status         the new status
+     * @param sourceStatuses the statuses from which the transition is allowed
+     * @return the updated orders
+     * @throws ForbiddenRestaurantAccessException if the user is not an employee of the restaurant
+     * @throws EntityEditException                if there is an error during the update of the orders
+     */
+    private List<Order> updateStatuses(
+            long restaurantId,
+            OrderBulkTransitionRequestDTO requestDTO,
+            OrderStatus status,
+            List<String> sourceStatuses
+    ) {
+        User principal = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        checkKitchenAccessOrThrow(principal, restaurantId);
+
+        List<Long> ids = requestDTO.getTableCode() != null
+                ? orderRepository.findIdsForUpdateByRestaurant_IdAndTableCodeAndStatusIn(
+                        restaurantId,
+                        requestDTO.getTableCode(),
+                        sourceStatuses
+                )
+                : orderRepository.findIdsForUpdateByRestaurant_IdAndIdInAndStatusIn(
+                        restaurantId,
+                        requestDTO.getOrderIds(),
+                        sourceStatuses
+                );
+        if (ids.isEmpty()) return List.of();
+
+        try {
+            orderRepository.updateStatusByIdIn(ids, status.name());
+        } catch (Exception e) {
+            throw new EntityEditException("orders", "restaurantId", restaurantId);
+        }
+
+        return orderRepository.findAllByIdInOrderByCreatedAtDesc(ids);
+    }
+
+    /**
+     * Builds the exception explaining why the guarded update of the status of an order changed nothing.
+     * <p>
+     * The order is read again first, to find its current status.
+     * <p>
+     * If the order already has the target status, it was changed by a concurrent request. Otherwise, the transition is
+     * run on the order to report the reason given by its state.
+     *
+     * @param order      the order, read again since the update changed nothing
+     * @param transition the transition that was attempted
+     * @param status     the target status of the transition
+     * @return the exception to throw
+     */
+    private RuntimeException transitionFailure(Order order, Consumer<Order> transition, OrderStatus status) {
+        orderRepository.refresh(order);
+
+        if (order.getStatus() == status) {
+            return new OrderStateConflictException(order.getId(), status.name());
+        }
+
+        try {
+            transition.accept(order);
+        } catch (IllegalStateException e) {
+            return new InvalidOrderStateException(e.getMessage());
+        }
+        return new OrderStateConflictException(order.getId(), order.getStatus().name());
+    }
+
     /**
      * Adds dishes to the order.
      * <p>
-     * This method maps the order dish request DTOs to order dish entities and saves them.
+     * This method maps the order dish request DTOs to order dish entities, saves them and adds them to the order,
+     * updating its totals.
      *
      * @param order         the order to add dishes to
      * @param orderDishDTOs the list of order dish request data transfer objects
-     * @return the list of saved order dish entities
      */
-    private List<OrderDish> addDishesToOrder(Order order, List<OrderDishRequestDTO> orderDishDTOs) {
-        return orderDishDTOs.stream()
-                .map(orderDishDTO -> addDishToOrder(order, orderDishDTO))
-                .toList();
+    private void addDishesToOrder(Order order, List<OrderDishRequestDTO> orderDishDTOs) {
+        orderDishDTOs.forEach(orderDishDTO -> order.addOrderDish(addDishToOrder(order, orderDishDTO)));
     }
 
     /**
@@ -518,6 +712,28 @@ public class OrderServiceImpl implements OrderService {
         throw new ForbiddenRestaurantAccessException();
     }
 
+    /**
+     * Checks if the user has access to the kitchen of a restaurant, i.e. its kitchen board and its bulk transitions.
+     * <p>
+     * Unlike {@link #checkRestaurantAccessOrThrow(User, Restaurant)}, this method only relies on the restaurant of the
+     * user, so the access is checked without reading the restaurant.
+     *
+     * @param user         the user to check
+     * @param restaurantId the ID of the restaurant
+     * @throws ForbiddenRestaurantAccessException if access to the restaurant is forbidden
+     */
+    private void checkKitchenAccessOrThrow(User user, long restaurantId) {
+        if (!UserRoleUtils.isRestaurateur(user) && !UserRoleUtils.isEmployee(user)) return;
+        if (user instanceof RestaurateurUser restaurateurUser
+                && restaurateurUser.getRestaurant() != null
+                && restaurateurUser.getRestaurant().getId() == restaurantId) return;
+        if (user instanceof EmployeeUser employeeUser
+                && employeeUser.getEmployerRestaurant() != null
+                && employeeUser.getEmployerRestaurant().getId() == restaurantId) return;
+
+        throw new ForbiddenRestaurantAccessException();
+    }
+
     /**
      * Checks if the user has access to pay the order.
      * <p>
@@ -546,7 +762,7 @@ public class OrderServiceImpl implements OrderService {
                 EmailPlaceholder.ORDER_ID, order.getId(),
                 EmailPlaceholder.RESTAURATEUR_NAME, order.getRestaurant().getRestaurateur().getName(),
                 EmailPlaceholder.RESTAURATEUR_SURNAME, order.getRestaurant().getRestaurateur().getSurname(),
-                EmailPlaceholder.AMOUNT, orderRepository.findAmountByOrder_Id(order.getId())
+                EmailPlaceholder.AMOUNT, order.getTotalAmount()
         );
         emailService.sendTemplatedEmail(
                 order.getBuyer().getUser().getEmail(),
@@ -601,55 +817,31 @@ public class OrderServiceImpl implements OrderService {
     /**
      * Notifies the order created listeners.
      * <p>
-     * This method subscribes the order created listeners and notifies them.
+     * The listeners are the cooks of the restaurant of the order.
      *
      * @param order the order to notify listeners for
      */
     private void notifyOrderCreatedListeners(Order order) {
-        subscribeOrderCreatedListeners(order);
-        eventManager.notifyListeners(EventType.ORDER_CREATED, order);
-    }
-
-    /**
-     * Subscribes the order created listeners.
-     * <p>
-     * This method subscribes the order created listeners for the order.
-     *
-     * @param order the order to subscribe listeners for
-     */
-    private void subscribeOrderCreatedListeners(Order order) {
-        order.getRestaurant().getEmployees().stream()
+        List<CookUserOrderCreatedEventListener> listeners = order.getRestaurant().getEmployees().stream()
                 .filter(UserRoleUtils::isCook)
-                .forEach(cookUser -> eventManager.subscribe(
-                        EventType.ORDER_CREATED,
-                        new CookUserOrderCreatedEventListener(emailService, (CookUser) cookUser)
-                ));
+                .map(cookUser -> new CookUserOrderCreatedEventListener(emailService, (CookUser) cookUser))
+                .toList();
+        eventManager.publish(EventType.ORDER_CREATED, order, listeners);
     }
 
     /**
      * Notifies the order completed listeners.
      * <p>
-     * This method subscribes the order completed listeners and notifies them.
+     * The listener is the buyer of the order, if the buyer is a customer.
      *
      * @param order the order to notify listeners for
      */
     private void notifyOrderCompletedListeners(Order order) {
-        subscribeOrderCompletedListeners(order);
-        eventManager.notifyListeners(EventType.ORDER_COMPLETED, order);
-    }
-
-    /**
-     * Subscribes the order completed listeners.
-     * <p>
-     * This method subscribes the order completed listeners for the order.
-     *
-     * @param order the order to subscribe listeners for
-     */
-    private void subscribeOrderCompletedListeners(Order order) {
         if (UserRoleUtils.isCustomer(order.getBuyer().getUser())) {
-            eventManager.subscribe(
+            eventManager.publish(
                     EventType.ORDER_COMPLETED,
-                    new CustomerUserOrderCompletedEventListener(emailService)
+                    order,
+                    List.of(new CustomerUserOrderCompletedEventListener(emailService))
             );
         }
     }
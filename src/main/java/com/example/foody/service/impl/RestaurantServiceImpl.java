@@ -2,14 +2,24 @@ package com.example.foody.service.impl;
 
 import com.example.foody.dto.request.RestaurantRequestDTO;
 import com.example.foody.dto.response.DetailedRestaurantResponseDTO;
+import com.example.foody.dto.response.NearbyRestaurantResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.dto.response.RestaurantResponseDTO;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.exceptions.pagination.InvalidCursorException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
 import com.example.foody.exceptions.restaurant.RestaurateurAlreadyHasRestaurantException;
+import com.example.foody.helper.AvailabilityIndexHelper;
+import com.example.foody.helper.KitchenBoardHelper;
+import com.example.foody.helper.LocationIndexHelper;
+import com.example.foody.helper.PaginationHelper;
 import com.example.foody.helper.RestaurantHelper;
+import com.example.foody.helper.SearchIndexHelper;
+import com.example.foody.helper.SittingTimeCalendarHelper;
+import com.example.foody.helper.SoftDeleteHelper;
 import com.example.foody.mapper.RestaurantMapper;
 import com.example.foody.model.Address;
 import com.example.foody.model.Category;
@@ -18,20 +28,25 @@ import com.example.foody.model.user.RestaurateurUser;
 import com.example.foody.model.user.User;
 import com.example.foody.repository.CategoryRepository;
 import com.example.foody.repository.RestaurantRepository;
+import com.example.foody.security.PrincipalCache;
 import com.example.foody.service.*;
 import com.example.foody.utils.UserRoleUtils;
 import com.example.foody.utils.enums.EmailPlaceholder;
 import com.example.foody.utils.enums.EmailTemplateType;
 import com.example.foody.utils.enums.GoogleDriveFileType;
+import com.example.foody.utils.location_index.DistanceCursor;
+import com.example.foody.utils.pagination.KeysetCursor;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the RestaurantService interface.
@@ -49,8 +64,16 @@ public class RestaurantServiceImpl implements RestaurantService {
     private final RestaurantHelper restaurantHelper;
     private final CategoryService categoryService;
     private final AddressService addressService;
-    private final GoogleDriveService googleDriveService;
+    private final MediaService mediaService;
     private final EmailService emailService;
+    private final PaginationHelper paginationHelper;
+    private final PrincipalCache principalCache;
+    private final AvailabilityIndexHelper availabilityIndexHelper;
+    private final SearchIndexHelper searchIndexHelper;
+    private final LocationIndexHelper locationIndexHelper;
+    private final SoftDeleteHelper softDeleteHelper;
+    private final KitchenBoardHelper kitchenBoardHelper;
+    private final SittingTimeCalendarHelper sittingTimeCalendarHelper;
 
     /**
      * {@inheritDoc}
@@ -74,6 +97,7 @@ public class RestaurantServiceImpl implements RestaurantService {
         String photoUrl = saveRestaurantPhoto(restaurantDTO.getPhotoBase64());
 
         restaurant.setRestaurateur(principal);
+        principalCache.invalidate(principal.getEmail());
         restaurant.setAddress(address);
         restaurant.setCategories(categories);
         restaurant.setPhotoUrl(photoUrl);
@@ -104,6 +128,55 @@ public class RestaurantServiceImpl implements RestaurantService {
         return restaurantHelper.buildDetailedRestaurantResponseDTOs(restaurants);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method retrieves the {@link Restaurant} entities after the cursor position using keyset pagination, fetching
+     * one extra entity to know whether there is a next page.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the page of restaurant response data transfer objects
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @Override
+    public PageResponseDTO<DetailedRestaurantResponseDTO> findAll(String cursor, int size) {
+        User principal = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = paginationHelper.getPageSize(size);
+        List<Restaurant> restaurants = restaurantRepository.findAllByApprovedInAndCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(
+                getApprovedStatusesBasedOnUserRole(principal),
+                keysetCursor.createdAt(),
+                keysetCursor.id(),
+                pageSize + 1
+        );
+        return paginationHelper.buildPageResponseDTO(
+                restaurants,
+                pageSize,
+                restaurant -> new KeysetCursor(restaurant.getCreatedAt(), restaurant.getId()),
+                restaurantHelper::buildDetailedRestaurantResponseDTOs
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method streams the {@link Restaurant} entities from the database and converts them in batches.
+     *
+     * @param consumer the consumer of the restaurant response data transfer objects
+     */
+    @Override
+    public void streamAll(Consumer<DetailedRestaurantResponseDTO> consumer) {
+        User principal = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        paginationHelper.streamInBatches(
+                restaurantRepository.streamAllByApprovedInOrderByCreatedAtDescIdDesc(
+                        getApprovedStatusesBasedOnUserRole(principal)
+                ),
+                restaurantHelper::buildDetailedRestaurantResponseDTOs,
+                consumer
+        );
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -152,6 +225,54 @@ public class RestaurantServiceImpl implements RestaurantService {
         return restaurantHelper.buildDetailedRestaurantResponseDTOs(restaurants);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method reads the restaurants from the in-memory location index, fetching one extra restaurant to know
+     * whether there is a next page.
+     *
+     * @param latitude   the latitude of the position, in degrees
+     * @param longitude  the longitude of the position, in degrees
+     * @param radiusKm   the maximum distance of the restaurants, in kilometers
+     * @param categoryId the ID of the category of the restaurants, or null for any category
+     * @param openNow    whether the restaurants must be in a sitting time now
+     * @param cursor     the cursor returned with the previous page, or null for the first page
+     * @param size       the requested page size
+     * @return the page of nearby restaurant response data transfer objects
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @Override
+    public PageResponseDTO<NearbyRestaurantResponseDTO> findNearby(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            Long categoryId,
+            boolean openNow,
+            String cursor,
+            int size
+    ) {
+        DistanceCursor distanceCursor = DistanceCursor.decode(cursor);
+        int pageSize = paginationHelper.getPageSize(size);
+        List<NearbyRestaurantResponseDTO> restaurants = locationIndexHelper.findNearest(
+                latitude,
+                longitude,
+                Math.min(radiusKm, NearbyLimits.MAX_RADIUS_KM),
+                categoryId,
+                openNow ? LocalDateTime.now() : null,
+                distanceCursor,
+                pageSize + 1
+        );
+
+        boolean hasNext = restaurants.size() > pageSize;
+        List<NearbyRestaurantResponseDTO> pageRestaurants = hasNext ? restaurants.subList(0, pageSize) : restaurants;
+        NearbyRestaurantResponseDTO last = hasNext ? pageRestaurants.getLast() : null;
+        String nextCursor = last != null
+                ? new DistanceCursor(last.getDistanceKm(), last.getId()).encode()
+                : null;
+
+        return new PageResponseDTO<>(pageRestaurants, nextCursor, hasNext);
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -168,6 +289,7 @@ public class RestaurantServiceImpl implements RestaurantService {
                 .findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("restaurant", "id", id));
         restaurant.setApproved(true);
+        invalidateRestaurantStaffPrincipals(restaurant);
 
         try {
             restaurant = restaurantRepository.save(restaurant);
@@ -175,6 +297,9 @@ public class RestaurantServiceImpl implements RestaurantService {
             throw new EntityEditException("restaurant", "id", id);
         }
 
+        availabilityIndexHelper.evictRestaurants();
+        locationIndexHelper.evictRestaurants();
+        searchIndexHelper.indexRestaurant(restaurant);
         sendRestaurantApprovalEmail(restaurant);
 
         return restaurantHelper.buildDetailedRestaurantResponseDTO(restaurant);
@@ -216,13 +341,18 @@ public class RestaurantServiceImpl implements RestaurantService {
             throw new EntityEditException("restaurant", "id", id);
         }
 
+        availabilityIndexHelper.evictRestaurants();
+        locationIndexHelper.evictRestaurants();
+        searchIndexHelper.indexRestaurant(restaurant);
+
         return restaurantHelper.buildDetailedRestaurantResponseDTO(restaurant);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * This method removes a {@link Restaurant} by its ID.
+     * This method removes a {@link Restaurant} by its ID, and cascades the removal to its dishes, reviews, opening
+     * days, orders, bookings, employees and address with {@link SoftDeleteHelper}.
      *
      * @param id the restaurant ID
      * @return true if the restaurant was successfully removed, false otherwise
@@ -238,6 +368,7 @@ public class RestaurantServiceImpl implements RestaurantService {
 
         removeRestaurantFromCategories(restaurant);
         removeRestaurantPhoto(restaurant);
+        invalidateRestaurantStaffPrincipals(restaurant);
 
         try {
             restaurantRepository.save(restaurant);
@@ -245,6 +376,14 @@ public class RestaurantServiceImpl implements RestaurantService {
             throw new EntityDeletionException("restaurant", "id", id);
         }
 
+        softDeleteHelper.deleteDescendants(Restaurant.class, id, restaurant.getDeletedAt());
+
+        availabilityIndexHelper.evictRestaurants();
+        locationIndexHelper.evictRestaurants();
+        searchIndexHelper.removeRestaurant(id);
+        kitchenBoardHelper.evictBoard(id);
+        sittingTimeCalendarHelper.evict(id);
+
         return true;
     }
 
@@ -267,10 +406,7 @@ public class RestaurantServiceImpl implements RestaurantService {
      * @return the saved address
      */
     private Address saveRestaurantAddress(Restaurant restaurant) {
-        Address address = restaurant.getAddress();
-        address.setRestaurant(restaurant);
-
-        return addressService.save(address);
+        return addressService.save(restaurant.getAddress());
     }
 
     /**
@@ -303,7 +439,7 @@ public class RestaurantServiceImpl implements RestaurantService {
      */
     private String saveRestaurantPhoto(String restaurantPhotoBase64) {
         return Optional.ofNullable(restaurantPhotoBase64)
-                .map(photoBase64 -> googleDriveService.uploadBase64Image(
+                .map(photoBase64 -> mediaService.stageImage(
                         photoBase64,
                         GoogleDriveFileType.RESTAURANT_PHOTO
                 ))
@@ -317,7 +453,20 @@ public class RestaurantServiceImpl implements RestaurantService {
      */
     private void removeRestaurantPhoto(Restaurant restaurant) {
         Optional.ofNullable(restaurant.getPhotoUrl())
-                .ifPresent(googleDriveService::deleteImage);
+                .ifPresent(mediaService::deleteImage);
+    }
+
+    /**
+     * Removes the restaurateur and the employees of a restaurant from the {@link PrincipalCache}, since their
+     * principals depend on the restaurant.
+     *
+     * @param restaurant the restaurant
+     */
+    private void invalidateRestaurantStaffPrincipals(Restaurant restaurant) {
+        List<String> emails = new ArrayList<>();
+        emails.add(restaurant.getRestaurateur().getEmail());
+        restaurant.getEmployees().forEach(employee -> emails.add(employee.getEmail()));
+        principalCache.invalidateAll(emails);
     }
 
     /**
@@ -352,6 +501,20 @@ public class RestaurantServiceImpl implements RestaurantService {
         }
     }
 
+    /**
+     * Retrieves the approval statuses of the restaurants visible to the user based on the user's role.
+     *
+     * @param user the user
+     * @return the list of visible approval statuses
+     */
+    private List<Boolean> getApprovedStatusesBasedOnUserRole(User user) {
+        if (UserRoleUtils.isAdmin(user) || UserRoleUtils.isModerator(user)) {
+            return List.of(true, false);
+        } else {
+            return List.of(true);
+        }
+    }
+
     /**
      * Retrieves a restaurant by its ID based on the user's role.
      *
@@ -435,7 +598,8 @@ public class RestaurantServiceImpl implements RestaurantService {
                 restaurantDTO.getStreet(),
                 restaurantDTO.getCivicNumber(),
                 restaurantDTO.getPostalCode(),
-                restaurant
+                null,
+                null
         );
         return addressService.update(restaurant.getAddress().getId(), newAddress);
     }
@@ -479,4 +643,16 @@ public class RestaurantServiceImpl implements RestaurantService {
         );
         categoryRepository.saveAll(restaurant.getCategories());
     }
+
+    /**
+     * Limits of the nearby restaurant queries.
+     */
+    public static class NearbyLimits {
+
+        /** Default distance, in kilometers, of the restaurants from the searched position. */
+        public static final int DEFAULT_RADIUS_KM = 10;
+
+        /** Maximum distance, in kilometers, of the restaurants from the searched position. */
+        public static final int MAX_RADIUS_KM = 50;
+    }
 }
\ No newline at end of file
@@ -1,12 +1,16 @@
 package com.example.foody.service.impl;
 
 import com.example.foody.dto.request.ReviewRequestDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.dto.response.ReviewResponseDTO;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.exceptions.pagination.InvalidCursorException;
 import com.example.foody.exceptions.review.ForbiddenReviewAccessException;
 import com.example.foody.exceptions.review.ReviewNotAllowedException;
+import com.example.foody.helper.PaginationHelper;
+import com.example.foody.helper.RatingAggregateHelper;
 import com.example.foody.mapper.ReviewMapper;
 import com.example.foody.model.Dish;
 import com.example.foody.model.Restaurant;
@@ -20,6 +24,7 @@ import com.example.foody.service.EmailService;
 import com.example.foody.service.ReviewService;
 import com.example.foody.utils.UserRoleUtils;
 import com.example.foody.utils.enums.EventType;
+import com.example.foody.utils.pagination.KeysetCursor;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,6 +32,8 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the ReviewService interface.
@@ -46,6 +53,8 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewMapper reviewMapper;
     private final EmailService emailService;
     private final EventManager eventManager;
+    private final PaginationHelper paginationHelper;
+    private final RatingAggregateHelper ratingAggregateHelper;
 
     /**
      * {@inheritDoc}
@@ -77,6 +86,8 @@ public class ReviewServiceImpl implements ReviewService {
             throw new EntityCreationException("review");
         }
 
+        ratingAggregateHelper.addReview(review);
+
         notifyNewReviewListeners(review);
 
         return reviewMapper.reviewToReviewResponseDTO(review);
@@ -95,6 +106,50 @@ public class ReviewServiceImpl implements ReviewService {
         return reviewMapper.reviewsToReviewResponseDTOs(reviews);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method retrieves the {@link Review} entities after the cursor position using keyset pagination, fetching
+     * one extra entity to know whether there is a next page.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the requested page size
+     * @return the page of review response data transfer objects
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @Override
+    public PageResponseDTO<ReviewResponseDTO> findAll(String cursor, int size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = paginationHelper.getPageSize(size);
+        List<Review> reviews = reviewRepository.findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(
+                keysetCursor.createdAt(),
+                keysetCursor.id(),
+                pageSize + 1
+        );
+        return paginationHelper.buildPageResponseDTO(
+                reviews,
+                pageSize,
+                review -> new KeysetCursor(review.getCreatedAt(), review.getId()),
+                reviewMapper::reviewsToReviewResponseDTOs
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method streams the {@link Review} entities from the database and converts them in batches.
+     *
+     * @param consumer the consumer of the review response data transfer objects
+     */
+    @Override
+    public void streamAll(Consumer<ReviewResponseDTO> consumer) {
+        paginationHelper.streamInBatches(
+                reviewRepository.streamAllByOrderByCreatedAtDescIdDesc(),
+                reviewMapper::reviewsToReviewResponseDTOs,
+                consumer
+        );
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -187,6 +242,8 @@ public class ReviewServiceImpl implements ReviewService {
             throw new EntityDeletionException("review", "id", id);
         }
 
+        ratingAggregateHelper.removeReview(review);
+
         return true;
     }
 
@@ -283,47 +340,17 @@ public class ReviewServiceImpl implements ReviewService {
 
     /**
      * Notifies listeners that a new review has been created.
+     * <p>
+     * The listeners are the restaurateur and the employees of the restaurant of the review.
      *
      * @param review the review
      */
     private void notifyNewReviewListeners(Review review) {
-        subscribeNewReviewListeners(review);
-        eventManager.notifyListeners(EventType.NEW_REVIEW, review);
-    }
-
-    /**
-     * Subscribes listeners for new review events.
-     *
-     * @param review the review
-     */
-    private void subscribeNewReviewListeners(Review review) {
-        subscribeRestaurateurUserNewReviewListener(review);
-        subscribeEmployeesNewReviewListeners(review);
-    }
-
-    /**
-     * Subscribes the restaurateur user as a listener for new review events.
-     *
-     * @param review the review
-     */
-    private void subscribeRestaurateurUserNewReviewListener(Review review) {
-        eventManager.subscribe(
-                EventType.NEW_REVIEW,
-                new RestaurantStaffNewReviewEventListener(emailService, review.getRestaurant().getRestaurateur())
-        );
-    }
-
-    /**
-     * Subscribes the employees as listeners for new review events.
-     *
-     * @param review the review
-     */
-    private void subscribeEmployeesNewReviewListeners(Review review) {
-        review.getRestaurant().getEmployees().forEach(employee ->
-                eventManager.subscribe(
-                        EventType.NEW_REVIEW,
-                        new RestaurantStaffNewReviewEventListener(emailService, employee)
-                )
-        );
+        Restaurant restaurant = review.getRestaurant();
+        List<RestaurantStaffNewReviewEventListener> listeners = Stream
+                .concat(Stream.of(restaurant.getRestaurateur()), restaurant.getEmployees().stream())
+                .map(user -> new RestaurantStaffNewReviewEventListener(emailService, user))
+                .toList();
+        eventManager.publish(EventType.NEW_REVIEW, review, listeners);
     }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.example.foody.service.impl;
+
+import com.example.foody.dto.response.SearchResultResponseDTO;
+import com.example.foody.exceptions.search.SearchIndexException;
+import com.example.foody.helper.SearchIndexHelper;
+import com.example.foody.service.SearchService;
+import com.example.foody.utils.enums.SearchDocumentType;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementation of the {@link SearchService} interface.
+ * <p>
+ * Searches are answered by the embedded index of the {@link SearchIndexHelper}, without reading the database.
+ */
+@Service
+@AllArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private final SearchIndexHelper searchIndexHelper;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The number of results is capped at {@link SearchLimits#MAX_RESULTS}.
+     *
+     * @param query the searched text
+     * @param type  the type of the results, or null for any type
+     * @param limit the maximum number of results
+     * @return the list of search result response data transfer objects, ordered by relevance
+     * @throws SearchIndexException if the search index cannot be read
+     */
+    @Override
+    public List<SearchResultResponseDTO> search(String query, SearchDocumentType type, int limit) {
+        return searchIndexHelper.search(query, type, Math.min(limit, SearchLimits.MAX_RESULTS));
+    }
+
+    /**
+     * Limits of the full-text searches.
+     */
+    public static class SearchLimits {
+
+        /** Number of results returned when the client does not ask for a number. */
+        public static final int DEFAULT_RESULTS = 20;
+
+        /** Maximum number of results returned by a search. */
+        public static final int MAX_RESULTS = 50;
+
+        /** Maximum length of a searched text. */
+        public static final int MAX_QUERY_LENGTH = 100;
+    }
+}
\ No newline at end of file
@@ -6,19 +6,23 @@ import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.sitting_time.InvalidWeekDayException;
+import com.example.foody.helper.SittingTimeCalendarHelper;
 import com.example.foody.mapper.SittingTimeMapper;
 import com.example.foody.model.SittingTime;
 import com.example.foody.model.WeekDayInfo;
 import com.example.foody.repository.SittingTimeRepository;
 import com.example.foody.service.BookingService;
 import com.example.foody.service.SittingTimeService;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of the SittingTimeService interface.
@@ -34,6 +38,7 @@ public class SittingTimeServiceImpl implements SittingTimeService {
     private final SittingTimeMapper sittingTimeMapper;
     private final SittingTimeBuilder sittingTimeBuilder;
     private final BookingService bookingService;
+    private final SittingTimeCalendarHelper sittingTimeCalendarHelper;
 
     /**
      * {@inheritDoc}
@@ -45,15 +50,56 @@ public class SittingTimeServiceImpl implements SittingTimeService {
      */
     @Override
     public List<SittingTime> createForWeekDayInfo(WeekDayInfo weekDayInfo) {
+        sittingTimeCalendarHelper.evict(weekDayInfo.getRestaurant().getId());
+        return saveSittingTimes(generateSittingTimes(weekDayInfo));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method compares the current {@link SittingTime} entities of each week day information with the ones its
+     * opening hours produce. Sitting times with the same start and end are kept along with their bookings, so only
+     * the difference is written: the missing sitting times are inserted in a batch, and the outdated ones are deleted
+     * in a single statement, together with their bookings.
+     *
+     * @param weekDayInfos the updated week day information
+     * @return the list of the sitting times of the week day information after the update
+     * @throws EntityDeletionException if there is an error during sitting time deletion
+     * @throws EntityCreationException if there is an error during sitting time creation
+     */
+    @Override
+    public List<SittingTime> updateForWeekDayInfos(List<WeekDayInfo> weekDayInfos) {
         List<SittingTime> sittingTimes = new ArrayList<>();
+        List<SittingTime> createdSittingTimes = new ArrayList<>();
+        List<Long> removedIds = new ArrayList<>();
 
-        int minutes = weekDayInfo.getSittingTimeStep().getMinutes();
-        sittingTimes.addAll(
-                generateSittingTimes(weekDayInfo, weekDayInfo.getStartLaunch(), weekDayInfo.getEndLaunch(), minutes)
-        );
-        sittingTimes.addAll(
-                generateSittingTimes(weekDayInfo, weekDayInfo.getStartDinner(), weekDayInfo.getEndDinner(), minutes)
-        );
+        weekDayInfos.forEach(weekDayInfo -> {
+            sittingTimeCalendarHelper.evict(weekDayInfo.getRestaurant().getId());
+
+            Map<LocalTime, SittingTime> currentSittingTimes = new HashMap<>();
+            weekDayInfo.getSittingTimes().forEach(sittingTime -> {
+                if (currentSittingTimes.putIfAbsent(sittingTime.getStart(), sittingTime) != null) {
+                    removedIds.add(sittingTime.getId());
+                }
+            });
+
+            generateSittingTimes(weekDayInfo).forEach(sittingTime -> {
+                SittingTime current = currentSittingTimes.remove(sittingTime.getStart());
+                if (current != null && current.getEnd().equals(sittingTime.getEnd())) {
+                    sittingTimes.add(current);
+                    return;
+                }
+
+                if (current != null) removedIds.add(current.getId());
+                sittingTimes.add(sittingTime);
+                createdSittingTimes.add(sittingTime);
+            });
+
+            currentSittingTimes.values().forEach(sittingTime -> removedIds.add(sittingTime.getId()));
+        });
+
+        removeSittingTimes(removedIds);
+        saveSittingTimes(createdSittingTimes);
 
         return sittingTimes;
     }
@@ -74,22 +120,21 @@ public class SittingTimeServiceImpl implements SittingTimeService {
     /**
      * {@inheritDoc}
      * <p>
-     * This method retrieves all {@link SittingTime} entities for a given restaurant.
+     * This method retrieves all the sitting times of a given restaurant from its in-memory calendar.
      *
      * @param restaurantId the restaurant ID
      * @return the list of sitting time response data transfer objects
      */
     @Override
     public List<SittingTimeResponseDTO> findAllByRestaurant(long restaurantId) {
-        List<SittingTime> sittingTimes = sittingTimeRepository
-                .findAllByWeekDayInfoRestaurantId(restaurantId);
-        return sittingTimeMapper.sittingTimesToSittingTimeResponseDTOs(sittingTimes);
+        List<SittingTimeSlot> sittingTimes = sittingTimeCalendarHelper.findSlots(restaurantId);
+        return sittingTimeMapper.sittingTimeSlotsToSittingTimeResponseDTOs(sittingTimes);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * This method retrieves a {@link SittingTime} by its ID.
+     * This method retrieves the sitting times of a given restaurant and week day from its in-memory calendar.
      *
      * @param restaurantId the restaurant ID
      * @param weekDay      the week day
@@ -98,15 +143,15 @@ public class SittingTimeServiceImpl implements SittingTimeService {
     @Override
     public List<SittingTimeResponseDTO> findAllByRestaurantAndWeekDay(long restaurantId, int weekDay) {
         checkWeekDay(weekDay);
-        List<SittingTime> sittingTimes = sittingTimeRepository
-                .findAllByWeekDayInfo_Restaurant_IdAndWeekDayInfo_WeekDayOrderByStart(restaurantId, weekDay);
-        return sittingTimeMapper.sittingTimesToSittingTimeResponseDTOs(sittingTimes);
+        List<SittingTimeSlot> sittingTimes = sittingTimeCalendarHelper.findSlots(restaurantId, weekDay);
+        return sittingTimeMapper.sittingTimeSlotsToSittingTimeResponseDTOs(sittingTimes);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * This method retrieves all {@link SittingTime} entities for a given restaurant and week day.
+     * This method retrieves the sitting times of a given restaurant and week day that start after the current time,
+     * from its in-memory calendar.
      *
      * @param restaurantId the restaurant ID
      * @param weekDay      the week day
@@ -115,9 +160,12 @@ public class SittingTimeServiceImpl implements SittingTimeService {
     @Override
     public List<SittingTimeResponseDTO> findAllByRestaurantAndWeekDayAndStartAfterNow(long restaurantId, int weekDay) {
         checkWeekDay(weekDay);
-        List<SittingTime> sittingTimes = sittingTimeRepository
-                .findAllByRestaurantIdAndWeekDayAndStartAfterNowOrderByStart(restaurantId, weekDay);
-        return sittingTimeMapper.sittingTimesToSittingTimeResponseDTOs(sittingTimes);
+        LocalTime now = LocalTime.now();
+        List<SittingTimeSlot> sittingTimes = sittingTimeCalendarHelper.findSlots(restaurantId, weekDay)
+                .stream()
+                .filter(sittingTime -> sittingTime.start().isAfter(now))
+                .toList();
+        return sittingTimeMapper.sittingTimeSlotsToSittingTimeResponseDTOs(sittingTimes);
     }
 
     /**
@@ -136,6 +184,7 @@ public class SittingTimeServiceImpl implements SittingTimeService {
                 .findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("sitting time", "id", id));
         sittingTime.delete();
+        sittingTimeCalendarHelper.evict(sittingTime.getWeekDayInfo().getRestaurant().getId());
 
         removeBookings(sittingTime);
 
@@ -149,7 +198,27 @@ public class SittingTimeServiceImpl implements SittingTimeService {
     }
 
     /**
-     * Generates sitting times for a given week day information and time range.
+     * Generates the sitting times of the opening hours of a week day information, without saving them.
+     *
+     * @param weekDayInfo the week day information
+     * @return the list of generated sitting times, ordered by start time
+     */
+    private List<SittingTime> generateSittingTimes(WeekDayInfo weekDayInfo) {
+        List<SittingTime> sittingTimes = new ArrayList<>();
+
+        int minutes = weekDayInfo.getSittingTimeStep().getMinutes();
+        sittingTimes.addAll(
+                generateSittingTimes(weekDayInfo, weekDayInfo.getStartLaunch(), weekDayInfo.getEndLaunch(), minutes)
+        );
+        sittingTimes.addAll(
+                generateSittingTimes(weekDayInfo, weekDayInfo.getStartDinner(), weekDayInfo.getEndDinner(), minutes)
+        );
+
+        return sittingTimes;
+    }
+
+    /**
+     * Generates sitting times for a given week day information and time range, without saving them.
      *
      * @param weekDayInfo the week day information
      * @param start       the start time
@@ -177,7 +246,7 @@ public class SittingTimeServiceImpl implements SittingTimeService {
                     .weekDayInfo(weekDayInfo)
                     .build();
 
-            sittingTimes.add(saveSittingTime(sittingTime));
+            sittingTimes.add(sittingTime);
 
             currentStart = currentEnd;
         }
@@ -186,20 +255,41 @@ public class SittingTimeServiceImpl implements SittingTimeService {
     }
 
     /**
-     * Saves a sitting time.
+     * Saves sitting times in a batch.
      *
-     * @param sittingTime the sitting time
-     * @return the saved sitting time
+     * @param sittingTimes the sitting times
+     * @return the saved sitting times
      * @throws EntityCreationException if there is an error during sitting time creation
      */
-    private SittingTime saveSittingTime(SittingTime sittingTime) {
+    private List<SittingTime> saveSittingTimes(List<SittingTime> sittingTimes) {
+        if (sittingTimes.isEmpty()) return sittingTimes;
+
         try {
-            return sittingTimeRepository.save(sittingTime);
+            return sittingTimeRepository.saveAll(sittingTimes);
         } catch (Exception e) {
             throw new EntityCreationException("sitting time");
         }
     }
 
+    /**
+     * Removes sitting times and their bookings, in a fixed number of statements.
+     *
+     * @param ids the IDs of the sitting times
+     * @throws EntityDeletionException if there is an error during sitting time deletion
+     */
+    private void removeSittingTimes(List<Long> ids) {
+        if (ids.isEmpty()) return;
+
+        // Owners of the affected bookings are notified by email, so bookings are removed by the booking service.
+        bookingService.removeAllBySittingTimes(ids);
+
+        try {
+            sittingTimeRepository.deleteAllByIdIn(ids);
+        } catch (Exception e) {
+            throw new EntityDeletionException("sitting times");
+        }
+    }
+
     /**
      * Checks if the given week day is valid.
      *
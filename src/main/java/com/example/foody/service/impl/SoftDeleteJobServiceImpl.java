@@ -0,0 +1,218 @@
+package com.example.foody.service.impl;
+
+import com.example.foody.dto.response.SoftDeleteJobResponseDTO;
+import com.example.foody.exceptions.entity.EntityEditException;
+import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.exceptions.soft_delete_job.SoftDeleteJobNotFailedException;
+import com.example.foody.helper.SoftDeleteHelper;
+import com.example.foody.mapper.SoftDeleteJobMapper;
+import com.example.foody.model.SoftDeleteJob;
+import com.example.foody.repository.SoftDeleteJobRepository;
+import com.example.foody.service.SoftDeleteJobService;
+import com.example.foody.utils.enums.SoftDeleteJobStatus;
+import lombok.AllArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of the {@link SoftDeleteJobService} interface.
+ * <p>
+ * A scheduled worker completes the cascades too large to run in the transaction deleting their entity. Each batch
+ * commits together with the progress of its cascade, so the progress survives restarts and can be followed through
+ * the cascade. Cascades are claimed with a single statement and saved against their version, so each cascade is run
+ * by a single worker even with several instances.
+ */
+@Service
+@AllArgsConstructor
+public class SoftDeleteJobServiceImpl implements SoftDeleteJobService {
+
+    private final SoftDeleteJobRepository softDeleteJobRepository;
+    private final SoftDeleteJobMapper softDeleteJobMapper;
+    private final SoftDeleteHelper softDeleteHelper;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the list of soft delete cascade response data transfer objects
+     */
+    @Override
+    public List<SoftDeleteJobResponseDTO> findAllUncompleted() {
+        List<SoftDeleteJob> softDeleteJobs = softDeleteJobRepository.findAllByStatusNotOrderById(
+                SoftDeleteJobStatus.COMPLETED
+        );
+        return softDeleteJobMapper.softDeleteJobsToSoftDeleteJobResponseDTOs(softDeleteJobs);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param id the ID of the cascade
+     * @return the soft delete cascade response data transfer object
+     * @throws EntityNotFoundException if there is no cascade with the given ID
+     */
+    @Override
+    public SoftDeleteJobResponseDTO findById(long id) {
+        SoftDeleteJob softDeleteJob = softDeleteJobRepository
+                .findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("soft delete job", "id", id));
+        return softDeleteJobMapper.softDeleteJobToSoftDeleteJobResponseDTO(softDeleteJob);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The cascade is left pending with no failed attempts, and is run again by the next run of the worker.
+     *
+     * @param id the ID of the cascade
+     * @return the soft delete cascade response data transfer object
+     * @throws EntityNotFoundException         if there is no cascade with the given ID
+     * @throws SoftDeleteJobNotFailedException if the cascade has not failed
+     * @throws EntityEditException             if there is an error during the update of the cascade
+     */
+    @Override
+    public SoftDeleteJobResponseDTO retry(long id) {
+        SoftDeleteJob softDeleteJob = softDeleteJobRepository
+                .findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("soft delete job", "id", id));
+        if (softDeleteJob.getStatus() != SoftDeleteJobStatus.FAILED) {
+            throw new SoftDeleteJobNotFailedException(id, softDeleteJob.getStatus());
+        }
+
+        softDeleteJob.setStatus(SoftDeleteJobStatus.PENDING);
+        softDeleteJob.setAttempts(0);
+        softDeleteJob.setNextAttemptAt(LocalDateTime.now());
+        softDeleteJob.setClaimToken(null);
+
+        try {
+            softDeleteJob = softDeleteJobRepository.save(softDeleteJob);
+        } catch (Exception e) {
+            throw new EntityEditException("soft delete job", "id", id);
+        }
+
+        return softDeleteJobMapper.softDeleteJobToSoftDeleteJobResponseDTO(softDeleteJob);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The due cascades are claimed for {@link CascadeLimits#CLAIM_LEASE} with a single statement, so each cascade is
+     * run by a single worker. Each run gives every claimed cascade at most {@link CascadeLimits#MAX_BATCHES_PER_RUN}
+     * batches, so a very large cascade does not hold back the others, and then releases it for the next run.
+     * <p>
+     * If the lease of a cascade expires and another worker claims it, the next batch of this worker fails to save the
+     * progress, and the cascade is left to the other worker.
+     *
+     * @return the number of completed cascades
+     */
+    @Override
+    @Scheduled(fixedDelayString = CascadeLimits.RUN_INTERVAL_MILLIS)
+    public int runPendingJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        String claimToken = UUID.randomUUID().toString();
+        int claimed = softDeleteJobRepository.claimDue(
+                claimToken,
+                now,
+                now.plus(CascadeLimits.CLAIM_LEASE),
+                CascadeLimits.JOBS_PER_RUN
+        );
+
+        if (claimed == 0) {
+            return 0;
+        }
+
+        int completed = 0;
+        for (SoftDeleteJob softDeleteJob : softDeleteJobRepository.findAllByClaimTokenOrderById(claimToken)) {
+            try {
+                for (int batch = 0; batch < CascadeLimits.MAX_BATCHES_PER_RUN; batch++) {
+                    if (softDeleteJob.getStatus() != SoftDeleteJobStatus.PENDING) break;
+                    softDeleteJob = softDeleteHelper.runBatch(softDeleteJob);
+                }
+
+                if (softDeleteJob.getStatus() == SoftDeleteJobStatus.COMPLETED) {
+                    completed++;
+                } else {
+                    softDeleteJob.setClaimToken(null);
+                    softDeleteJob.setNextAttemptAt(LocalDateTime.now());
+                    softDeleteJobRepository.save(softDeleteJob);
+                }
+            } catch (Exception e) {
+                // The progress of the failed batch was rolled back with it
+                SoftDeleteJob committedJob = softDeleteJobRepository
+                        .findById(softDeleteJob.getId())
+                        .orElse(null);
+                if (committedJob == null || !claimToken.equals(committedJob.getClaimToken())) {
+                    // The cascade was claimed again by another worker in the meantime
+                    continue;
+                }
+                markFailed(committedJob, e, now);
+                committedJob.setClaimToken(null);
+                softDeleteJobRepository.save(committedJob);
+            }
+        }
+
+        return completed;
+    }
+
+    /**
+     * Records a failed batch and schedules the next run of the cascade with an exponential backoff, or gives up after
+     * {@link CascadeLimits#MAX_ATTEMPTS} attempts.
+     *
+     * @param softDeleteJob the pending cascade
+     * @param failure       the failure of the batch
+     * @param now           the time of the run
+     */
+    private void markFailed(SoftDeleteJob softDeleteJob, Exception failure, LocalDateTime now) {
+        int attempts = softDeleteJob.getAttempts() + 1;
+        String error = String.valueOf(failure.getMessage());
+        softDeleteJob.setAttempts(attempts);
+        softDeleteJob.setLastError(error.length() > CascadeLimits.MAX_ERROR_LENGTH
+                ? error.substring(0, CascadeLimits.MAX_ERROR_LENGTH)
+                : error);
+
+        if (attempts >= CascadeLimits.MAX_ATTEMPTS) {
+            softDeleteJob.setStatus(SoftDeleteJobStatus.FAILED);
+            return;
+        }
+
+        Duration backoff = CascadeLimits.BASE_BACKOFF.multipliedBy(1L << (attempts - 1));
+        if (backoff.compareTo(CascadeLimits.MAX_BACKOFF) > 0) {
+            backoff = CascadeLimits.MAX_BACKOFF;
+        }
+        softDeleteJob.setNextAttemptAt(now.plus(backoff));
+    }
+
+    /**
+     * Limits of the background runs of the soft delete cascades.
+     */
+    public static class CascadeLimits {
+
+        /** Maximum number of cascades run by a single run of the worker. */
+        public static final int JOBS_PER_RUN = 5;
+
+        /** Maximum number of batches of a cascade run by a single run of the worker. */
+        public static final int MAX_BATCHES_PER_RUN = 50;
+
+        /** Number of failed attempts after which a cascade is no longer retried. */
+        public static final int MAX_ATTEMPTS = 6;
+
+        /** Delay before the first retry, doubled at each following attempt. */
+        public static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+
+        /** Maximum delay between two attempts. */
+        public static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+        /** Maximum length of the error message kept for a failed attempt. */
+        public static final int MAX_ERROR_LENGTH = 500;
+
+        /** Interval between two runs of the worker, in milliseconds. */
+        public static final String RUN_INTERVAL_MILLIS = "1000";
+
+        /** Time for which a cascade is claimed by a worker, after which it can be claimed again. */
+        public static final Duration CLAIM_LEASE = Duration.ofMinutes(10);
+    }
+}
\ No newline at end of file
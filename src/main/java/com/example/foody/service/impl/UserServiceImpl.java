@@ -5,16 +5,28 @@ import com.example.foody.dto.response.UserResponseDTO;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.helper.KitchenBoardHelper;
+import com.example.foody.helper.RatingAggregateHelper;
+import com.example.foody.helper.SeatLedgerHelper;
+import com.example.foody.helper.SoftDeleteHelper;
 import com.example.foody.helper.UserHelper;
 import com.example.foody.mapper.UserMapper;
+import com.example.foody.model.user.BuyerUser;
+import com.example.foody.model.user.CustomerUser;
+import com.example.foody.model.user.RestaurateurUser;
 import com.example.foody.model.user.User;
+import com.example.foody.model.user.WaiterUser;
+import com.example.foody.repository.BookingRepository;
 import com.example.foody.repository.UserRepository;
-import com.example.foody.service.GoogleDriveService;
+import com.example.foody.security.PrincipalCache;
+import com.example.foody.service.MediaService;
+import com.example.foody.service.RestaurantService;
 import com.example.foody.service.UserService;
 import com.example.foody.utils.enums.GoogleDriveFileType;
 import com.example.foody.utils.enums.Role;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -33,19 +45,27 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final UserHelper userHelper;
-    private final GoogleDriveService googleDriveService;
+    private final MediaService mediaService;
+    private final PrincipalCache principalCache;
+    private final RatingAggregateHelper ratingAggregateHelper;
+    private final SoftDeleteHelper softDeleteHelper;
+    private final KitchenBoardHelper kitchenBoardHelper;
+    private final SeatLedgerHelper seatLedgerHelper;
+    private final BookingRepository bookingRepository;
+    private final RestaurantService restaurantService;
 
     /**
      * {@inheritDoc}
      * <p>
      * This method retrieves a {@link User} entity from the database.
+     * The Firebase custom tokens of the users are not included.
      *
      * @return a list of user response data transfer objects
      */
     @Override
     public List<UserResponseDTO> findAll() {
         List<User> users = userRepository.findAll();
-        return userHelper.buildUserResponseDTOs(users);
+        return userHelper.buildUserResponseDTOs(users, false);
     }
 
     /**
@@ -86,6 +106,7 @@ public class UserServiceImpl implements UserService {
      * {@inheritDoc}
      * <p>
      * This method retrieves a list of {@link User} entities from the database by role.
+     * The Firebase custom tokens of the users are not included.
      *
      * @param role the user role
      * @return a list of user response data transfer objects
@@ -93,7 +114,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public List<UserResponseDTO> findByRole(Role role) {
         List<User> users = userRepository.findByRole(role);
-        return userHelper.buildUserResponseDTOs(users);
+        return userHelper.buildUserResponseDTOs(users, false);
     }
 
     /**
@@ -113,6 +134,8 @@ public class UserServiceImpl implements UserService {
                 .findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("user", "id", id));
 
+        principalCache.invalidate(user.getEmail());
+
         String updatedAvatarUrl = updateUserAvatar(user, userUpdateRequestDTO.getAvatarBase64());
 
         userMapper.updateUserFromUserUpdateRequestDTO(user, userUpdateRequestDTO);
@@ -130,7 +153,12 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      * <p>
-     * This method removes a new {@link User} entity to the database.
+     * This method removes a new {@link User} entity to the database, and cascades the removal to the entities it owns
+     * with {@link SoftDeleteHelper}, once the ratings of the reviews of a customer are removed.
+     * <p>
+     * The restaurant of a restaurateur is removed with {@link RestaurantService}, so it also leaves the indexes and the
+     * kitchen boards. Before the cascade, the seats of the active future bookings of a customer are released, and the
+     * in-progress orders of a buyer are removed from the kitchen boards.
      *
      * @param id the user ID
      * @return true if the user was successfully removed, false otherwise
@@ -142,7 +170,13 @@ public class UserServiceImpl implements UserService {
         User user = userRepository
                 .findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("user", "id", id));
+
+        if (user instanceof RestaurateurUser restaurateurUser) {
+            removeRestaurateurRestaurant(restaurateurUser);
+        }
+
         user.delete();
+        principalCache.invalidate(user.getEmail());
 
         removeUserAvatar(user);
 
@@ -152,9 +186,57 @@ public class UserServiceImpl implements UserService {
             throw new EntityDeletionException("user", "id", id);
         }
 
+        if (user instanceof CustomerUser customerUser) {
+            ratingAggregateHelper.removeCustomerReviews(id);
+            releaseActiveFutureBookings(id);
+            removeBuyerOrdersFromKitchenBoards(customerUser.getBuyer());
+        } else if (user instanceof WaiterUser waiterUser) {
+            removeBuyerOrdersFromKitchenBoards(waiterUser.getBuyer());
+        }
+        softDeleteHelper.deleteDescendants(Hibernate.getClass(user), id, user.getDeletedAt());
+
         return true;
     }
 
+    /**
+     * Removes the restaurant of a restaurateur, if any.
+     *
+     * @param restaurateurUser the restaurateur
+     */
+    private void removeRestaurateurRestaurant(RestaurateurUser restaurateurUser) {
+        Optional.ofNullable(restaurateurUser.getRestaurant())
+                .filter(restaurant -> restaurant.getDeletedAt() == null)
+                .ifPresent(restaurant -> restaurantService.remove(restaurant.getId()));
+    }
+
+    /**
+     * Releases the seats of the active future bookings of a customer.
+     *
+     * @param customerId the ID of the customer
+     * @throws EntityDeletionException if there is an error while releasing the seats
+     */
+    private void releaseActiveFutureBookings(long customerId) {
+        try {
+            List<Long> bookingIds = bookingRepository.findActiveFutureIdsForUpdateByCustomer_Id(customerId);
+            if (bookingIds.isEmpty()) return;
+
+            bookingRepository.findAllByIdIn(bookingIds).forEach(seatLedgerHelper::releaseSeats);
+        } catch (Exception e) {
+            throw new EntityDeletionException("user", "id", customerId);
+        }
+    }
+
+    /**
+     * Removes the in-progress orders of a buyer from the kitchen boards.
+     *
+     * @param buyer the buyer details of the user
+     */
+    private void removeBuyerOrdersFromKitchenBoards(BuyerUser buyer) {
+        Optional.ofNullable(buyer)
+                .map(BuyerUser::getId)
+                .ifPresent(kitchenBoardHelper::removeBuyerOrders);
+    }
+
     /**
      * Updates the user's avatar.
      *
@@ -175,7 +257,7 @@ public class UserServiceImpl implements UserService {
      */
     private String saveUserAvatar(String userAvatarBase64) {
         return Optional.ofNullable(userAvatarBase64)
-                .map(avatarBase64 -> googleDriveService.uploadBase64Image(avatarBase64, GoogleDriveFileType.USER_AVATAR))
+                .map(avatarBase64 -> mediaService.stageImage(avatarBase64, GoogleDriveFileType.USER_AVATAR))
                 .orElse(null);
     }
 
@@ -186,6 +268,6 @@ public class UserServiceImpl implements UserService {
      */
     private void removeUserAvatar(User user) {
         Optional.ofNullable(user.getAvatarUrl())
-                .ifPresent(googleDriveService::deleteImage);
+                .ifPresent(mediaService::deleteImage);
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.example.foody.service.impl;
 
 import com.example.foody.dto.request.WeekDayInfoRequestDTO;
 import com.example.foody.dto.request.WeekDayInfoUpdateRequestDTO;
+import com.example.foody.dto.request.WeekDayInfoWeekDayRequestDTO;
+import com.example.foody.dto.request.WeekDayInfoWeekRequestDTO;
 import com.example.foody.dto.response.WeekDayInfoResponseDTO;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDuplicateException;
@@ -23,7 +25,11 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the WeekDayInfoService interface.
@@ -143,11 +149,73 @@ public class WeekDayInfoServiceImpl implements WeekDayInfoService {
             throw new EntityEditException("week day info", "id", id);
         }
 
-        updateWeekDayInfoSittingTimes(weekDayInfo);
+        sittingTimeService.updateForWeekDayInfos(List.of(weekDayInfo));
 
         return weekDayInfoMapper.weekDayInfoToWeekDayInfoResponseDTO(weekDayInfo);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method updates the {@link WeekDayInfo} entities of the given week days of a restaurant, creating the
+     * missing ones, and updates all their sitting times at once, so the owners of the affected bookings are notified
+     * in a single pass.
+     *
+     * @param restaurantId              the ID of the restaurant
+     * @param weekDayInfoWeekRequestDTO the week update request data transfer object
+     * @return the list of updated week day information response data transfer objects, ordered by week day
+     * @throws EntityNotFoundException            if the restaurant is not found
+     * @throws ForbiddenRestaurantAccessException if the user does not have access to the restaurant
+     * @throws EntityEditException                if there is an error during week day information update
+     */
+    @Override
+    public List<WeekDayInfoResponseDTO> updateWeek(
+            long restaurantId,
+            WeekDayInfoWeekRequestDTO weekDayInfoWeekRequestDTO
+    ) {
+        RestaurateurUser principal =
+                (RestaurateurUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Restaurant restaurant = restaurantRepository
+                .findById(restaurantId)
+                .orElseThrow(() -> new EntityNotFoundException("restaurant", "id", restaurantId));
+
+        checkRestaurantAccessOrThrow(principal, restaurant);
+
+        Map<Integer, WeekDayInfo> currentWeekDayInfos = weekDayInfoRepository
+                .findAllByRestaurantIdOrderByWeekDay(restaurantId)
+                .stream()
+                .collect(Collectors.toMap(WeekDayInfo::getWeekDay, Function.identity()));
+
+        List<WeekDayInfo> weekDayInfos = weekDayInfoWeekRequestDTO.getWeekDayInfos()
+                .stream()
+                .sorted(Comparator.comparing(WeekDayInfoWeekDayRequestDTO::getWeekDay))
+                .map(weekDayInfoWeekDayRequestDTO -> {
+                    WeekDayInfo weekDayInfo = currentWeekDayInfos.get(weekDayInfoWeekDayRequestDTO.getWeekDay());
+                    if (weekDayInfo == null) {
+                        weekDayInfo = new WeekDayInfo();
+                        weekDayInfo.setWeekDay(weekDayInfoWeekDayRequestDTO.getWeekDay());
+                        weekDayInfo.setRestaurant(restaurant);
+                    }
+
+                    weekDayInfoMapper.updateWeekDayInfoFromWeekDayInfoUpdateRequestDTO(
+                            weekDayInfo,
+                            weekDayInfoWeekDayRequestDTO
+                    );
+                    return weekDayInfo;
+                })
+                .toList();
+
+        try {
+            weekDayInfos = weekDayInfoRepository.saveAll(weekDayInfos);
+        } catch (Exception e) {
+            throw new EntityEditException("week day info", "restaurantId", restaurantId);
+        }
+
+        sittingTimeService.updateForWeekDayInfos(weekDayInfos);
+
+        return weekDayInfoMapper.weekDayInfosToWeekDayInfoResponseDTOs(weekDayInfos);
+    }
+
     /**
      * Checks if the user has access to the restaurant.
      *
@@ -160,16 +228,4 @@ public class WeekDayInfoServiceImpl implements WeekDayInfoService {
 
         throw new ForbiddenRestaurantAccessException();
     }
-
-    /**
-     * Updates the sitting times for a week day information.
-     *
-     * @param weekDayInfo the week day information
-     */
-    private void updateWeekDayInfoSittingTimes(WeekDayInfo weekDayInfo) {
-        weekDayInfo.getSittingTimes().forEach(sittingTime ->
-                sittingTimeService.remove(sittingTime.getId())
-        );
-        sittingTimeService.createForWeekDayInfo(weekDayInfo);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.example.foody.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Utility class for Firebase custom token-related operations.
+ * <p>
+ * Firebase custom tokens are JWTs signed by the application itself, so their claims can be read locally without any
+ * call to Firebase.
+ */
+public class FirebaseTokenUtils {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String EXPIRATION_CLAIM = "exp";
+
+    /**
+     * Decodes the expiration date of a Firebase custom token.
+     * <p>
+     * The signature is not verified, so this must only be used for tokens created by the application.
+     *
+     * @param token the Firebase custom token
+     * @return an {@link Optional} containing the expiration date, or empty if the token is null or malformed
+     */
+    public static Optional<Instant> getExpiration(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonNode payload = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            JsonNode expiration = payload.get(EXPIRATION_CLAIM);
+            if (expiration == null || !expiration.canConvertToLong()) {
+                return Optional.empty();
+            }
+            return Optional.of(Instant.ofEpochSecond(expiration.asLong()));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,206 @@
+package com.example.foody.utils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of values read from the database, which never keeps a value that was read while a change of its
+ * key was being applied.
+ * <p>
+ * Every key being loaded has a counter of changes, created when its first load starts and dropped when its last load
+ * ends. Changes and evictions of the key increase its counter, so a load that started before them finds a different
+ * count when it ends, and returns its value without keeping it. The next load then reads the value again, including the
+ * change. Values kept in the cache are changed in place by their owner, see {@link #countChange(Object)}.
+ * <p>
+ * At most the given number of values are kept; values loaded beyond it are returned without being kept.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class GuardedCache<K, V> {
+
+    private final int maxSize;
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+    private final Map<K, LoadCounter> loadCounters = new HashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+
+    /**
+     * Constructs an empty cache keeping at most the given number of values.
+     *
+     * @param maxSize the maximum number of values kept
+     */
+    public GuardedCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Retrieves the value kept for a key.
+     *
+     * @param key the key
+     * @return the kept value, or null if the value is not kept
+     */
+    public V get(K key) {
+        return values.get(key);
+    }
+
+    /**
+     * Retrieves the value of a key, loading it if it is not kept.
+     *
+     * @param key    the key
+     * @param loader the function reading the value from the database
+     * @return the kept or loaded value
+     */
+    public V load(K key, Supplier<V> loader) {
+        return loadAll(List.of(key), keys -> Collections.singletonMap(key, loader.get())).get(key);
+    }
+
+    /**
+     * Retrieves the values of the given keys, loading the ones that are not kept at once.
+     *
+     * @param keys   the keys
+     * @param loader the function reading the values of the missing keys from the database, keyed by key
+     * @return the kept or loaded values, keyed by key, without the keys that the loader did not return
+     */
+    public Map<K, V> loadAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        Map<K, V> found = new HashMap<>();
+        Map<K, LoadGuard> guards = new LinkedHashMap<>();
+        synchronized (this) {
+            keys.forEach(key -> {
+                V value = values.get(key);
+                if (value != null) {
+                    found.put(key, value);
+                } else if (!guards.containsKey(key)) {
+                    LoadCounter counter = loadCounters.computeIfAbsent(key, k -> new LoadCounter());
+                    counter.loads++;
+                    guards.put(key, new LoadGuard(counter, counter.changes));
+                }
+            });
+        }
+        if (guards.isEmpty()) return found;
+
+        Map<K, V> loaded = loader.apply(List.copyOf(guards.keySet()));
+
+        synchronized (this) {
+            guards.forEach((key, guard) -> {
+                if (--guard.counter().loads == 0) loadCounters.remove(key, guard.counter());
+                V current = values.get(key);
+                if (current != null) {
+                    found.put(key, current);
+                    return;
+                }
+
+                V value = loaded.get(key);
+                if (value == null) return;
+
+                if (guard.counter().changes == guard.changesBefore() && values.size() < maxSize) {
+                    values.put(key, value);
+                }
+                found.put(key, value);
+            });
+        }
+
+        return found;
+    }
+
+    /**
+     * Keeps the values of a bulk load for the keys without a value, unless any key was changed or evicted while
+     * they were read.
+     *
+     * @param loader the function reading the values from the database, keyed by key
+     */
+    public void preload(Supplier<Map<K, V>> loader) {
+        long changesBefore = changes.get();
+        Map<K, V> loaded = loader.get();
+
+        synchronized (this) {
+            if (changes.get() != changesBefore) return;
+
+            loaded.forEach((key, value) -> {
+                if (values.size() < maxSize) values.putIfAbsent(key, value);
+            });
+        }
+    }
+
+    /**
+     * Counts a change applied to the value of a key, so a value of the key being loaded is not kept.
+     * <p>
+     * The returned value must be changed by the caller, under a lock of its own if the change is not atomic.
+     *
+     * @param key the key
+     * @return the kept value, or null if the value is not kept
+     */
+    public synchronized V countChange(K key) {
+        changes.incrementAndGet();
+        LoadCounter counter = loadCounters.get(key);
+        if (counter != null) counter.changes++;
+        return values.get(key);
+    }
+
+    /**
+     * Discards the value of a key, and any value of the key being loaded.
+     *
+     * @param key the key
+     */
+    public synchronized void evict(K key) {
+        changes.incrementAndGet();
+        values.remove(key);
+        drop(key);
+    }
+
+    /**
+     * Discards all the values, and any value being loaded.
+     */
+    public synchronized void evictAll() {
+        changes.incrementAndGet();
+        values.clear();
+        loadCounters.values().forEach(counter -> counter.changes++);
+    }
+
+    /**
+     * Discards the kept values matching a condition, and any value of their keys being loaded.
+     *
+     * @param condition the condition on the key and the value
+     */
+    public synchronized void evictIf(BiPredicate<K, V> condition) {
+        changes.incrementAndGet();
+        values.forEach((key, value) -> {
+            if (!condition.test(key, value)) return;
+
+            values.remove(key);
+            drop(key);
+        });
+    }
+
+    /**
+     * Counts a change of a key being loaded, so none of its loads keeps its value.
+     *
+     * @param key the key
+     */
+    private void drop(K key) {
+        LoadCounter counter = loadCounters.get(key);
+        if (counter != null) counter.changes++;
+    }
+
+    /**
+     * Changes applied to a key while it is loaded, and number of its loads in progress. Only accessed under the lock
+     * of the cache.
+     */
+    private static class LoadCounter {
+
+        private long changes;
+        private int loads;
+    }
+
+    /**
+     * Counter of changes of a key being loaded, with its value when the load started.
+     *
+     * @param counter       the counter of changes of the key
+     * @param changesBefore the value of the counter when the load started
+     */
+    private record LoadGuard(LoadCounter counter, long changesBefore) {
+    }
+}
\ No newline at end of file
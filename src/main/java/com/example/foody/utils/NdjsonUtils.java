@@ -0,0 +1,47 @@
+package com.example.foody.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Utility class for streaming responses in the NDJSON (newline delimited JSON) format.
+ */
+public class NdjsonUtils {
+
+    private static final byte NEWLINE = '\n';
+
+    /**
+     * Builds a streamed NDJSON response.
+     * <p>
+     * The source is invoked when the response body is written, and every element it produces is serialized as one
+     * JSON line and written to the response straight away, so the elements are never collected in memory.
+     *
+     * @param objectMapper the object mapper used to serialize the elements
+     * @param source       the source of the elements, which passes each element to the given consumer
+     * @param <T>          the type of the elements
+     * @return the response entity containing the streamed response body
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> ndjsonResponse(
+            ObjectMapper objectMapper,
+            Consumer<Consumer<T>> source
+    ) {
+        StreamingResponseBody body = outputStream -> source.accept(element -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(element));
+                outputStream.write(NEWLINE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.example.foody.utils;
+
+import com.example.foody.model.DefaultEntity;
+import org.hibernate.Cache;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Hibernate integrator evicting the soft-deleted entities from the second-level cache.
+ * <p>
+ * The deleted_at filter of the entities is only applied by the SQL queries, so an entity still cached after being
+ * marked as deleted would keep being found by ID. Once the transaction marking the entity is committed, and after
+ * Hibernate has cached its new state, the entity is evicted along with the cached collections it owns, and the cached
+ * collections of its type, which may still list it. The other collection regions are kept.
+ * <p>
+ * Registered through the {@code hibernate.integrator_provider} property, see
+ * {@link com.example.foody.config.SecondLevelCacheConfig}.
+ */
+public class SoftDeleteCacheEvictor implements Integrator, PostCommitUpdateEventListener {
+
+    /**
+     * Registers the evictor as listener of the committed updates.
+     *
+     * @param metadata           the metadata of the entities
+     * @param bootstrapContext   the bootstrap context
+     * @param sessionFactory     the session factory
+     */
+    @Override
+    public void integrate(
+            Metadata metadata,
+            BootstrapContext bootstrapContext,
+            SessionFactoryImplementor sessionFactory
+    ) {
+        sessionFactory.getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    }
+
+    /**
+     * Does nothing, the listener is discarded with the session factory.
+     *
+     * @param sessionFactory  the session factory
+     * @param serviceRegistry the service registry of the session factory
+     */
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    /**
+     * Evicts the updated entity and the cached collections related to it if the entity is marked as deleted.
+     * <p>
+     * The owners of the collections listing the entity are not known, so those collections are evicted for every
+     * owner, while the collections owned by the entity are only evicted for the entity itself.
+     *
+     * @param event the committed update
+     */
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof DefaultEntity entity) || entity.getDeletedAt() == null) return;
+
+        EntityPersister persister = event.getPersister();
+        Cache cache = event.getSession().getFactory().getCache();
+        cache.evictEntityData(persister.getEntityName(), event.getId());
+
+        event.getSession().getFactory().getMappingMetamodel().forEachCollectionDescriptor(collectionPersister -> {
+            if (!collectionPersister.hasCache()) return;
+
+            ModelPart elementDescriptor = collectionPersister.getAttributeMapping().getElementDescriptor();
+            if (elementDescriptor instanceof EntityValuedModelPart element
+                    && element.getEntityMappingType().isTypeOrSuperType(persister)) {
+                cache.evictCollectionData(collectionPersister.getRole());
+            } else if (collectionPersister.getOwnerEntityPersister().isTypeOrSuperType(persister)) {
+                cache.evictCollectionData(collectionPersister.getRole(), event.getId());
+            }
+        });
+    }
+
+    /**
+     * Does nothing, the cached state of a rolled back update is discarded by Hibernate.
+     *
+     * @param event the rolled back update
+     */
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    /**
+     * Requires the committed updates of the cached entities only.
+     *
+     * @param persister the persister of the updated entity
+     * @return true if the entity is cached, false otherwise
+     */
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+}
\ No newline at end of file
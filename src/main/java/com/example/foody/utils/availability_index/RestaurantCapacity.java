@@ -0,0 +1,18 @@
+package com.example.foody.utils.availability_index;
+
+/**
+ * Immutable view of the capacity of an approved restaurant in one of its categories, as read to build the
+ * availability index.
+ *
+ * @param restaurantId the ID of the restaurant
+ * @param name         the name of the restaurant
+ * @param seats        the seats of the restaurant
+ * @param categoryId   the ID of a category of the restaurant, or null if the restaurant has no categories
+ */
+public record RestaurantCapacity(
+        long restaurantId,
+        String name,
+        int seats,
+        Long categoryId
+) {
+}
\ No newline at end of file
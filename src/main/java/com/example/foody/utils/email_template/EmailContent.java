@@ -0,0 +1,10 @@
+package com.example.foody.utils.email_template;
+
+/**
+ * Rendered content of a templated email.
+ *
+ * @param subject the subject of the email
+ * @param body    the body of the email
+ */
+public record EmailContent(String subject, String body) {
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.example.foody.utils.email_template;
+
+import com.example.foody.utils.enums.EmailPlaceholder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Email template compiled into segments, so it can be rendered without parsing it again.
+ * <p>
+ * A template contains a subject section, introduced by {@value #SUBJECT_MARKER}, followed by a body section,
+ * introduced by {@value #BODY_MARKER}. Each section is split into literal chunks and {@link EmailPlaceholder} slots.
+ * Braced names which are not placeholders are kept as literal text.
+ */
+public class EmailTemplate {
+
+    public static final String SUBJECT_MARKER = "# Subject";
+    public static final String BODY_MARKER = "# Body";
+
+    private static final Map<String, EmailPlaceholder> PLACEHOLDERS = Arrays.stream(EmailPlaceholder.values())
+            .collect(Collectors.toMap(EmailPlaceholder::toString, Function.identity()));
+
+    /**
+     * Builder reused by the renderings of the current thread.
+     */
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private final List<Segment> subjectSegments;
+    private final List<Segment> bodySegments;
+
+    private EmailTemplate(List<Segment> subjectSegments, List<Segment> bodySegments) {
+        this.subjectSegments = subjectSegments;
+        this.bodySegments = bodySegments;
+    }
+
+    /**
+     * Compiles the content of an email template.
+     *
+     * @param templateContent the content of the email template
+     * @return the compiled template
+     * @throws IllegalArgumentException if the subject or the body marker is missing
+     */
+    public static EmailTemplate compile(String templateContent) {
+        int subjectStart = templateContent.indexOf(SUBJECT_MARKER);
+        int bodyStart = templateContent.indexOf(BODY_MARKER);
+
+        if (subjectStart < 0 || bodyStart < subjectStart) {
+            throw new IllegalArgumentException("Email template without subject and body sections");
+        }
+
+        return new EmailTemplate(
+                compileSection(templateContent.substring(subjectStart + SUBJECT_MARKER.length(), bodyStart)),
+                compileSection(templateContent.substring(bodyStart + BODY_MARKER.length()))
+        );
+    }
+
+    /**
+     * Renders the template, replacing the placeholders with the given variables.
+     * <p>
+     * Placeholders without a variable are kept as they are. Subject and body are trimmed.
+     *
+     * @param variables the variables to replace in the email template
+     * @return the rendered email content
+     */
+    public EmailContent render(Map<EmailPlaceholder, Object> variables) {
+        return new EmailContent(
+                renderSection(subjectSegments, variables),
+                renderSection(bodySegments, variables)
+        );
+    }
+
+    /**
+     * Renders the segments of a section in a single pass into the reused builder.
+     *
+     * @param segments  the segments of the section
+     * @param variables the variables to replace in the section
+     * @return the rendered and trimmed section
+     */
+    private static String renderSection(List<Segment> segments, Map<EmailPlaceholder, Object> variables) {
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+
+        for (Segment segment : segments) {
+            switch (segment) {
+                case Literal literal -> builder.append(literal.text());
+                case Slot slot -> {
+                    Object value = variables.get(slot.placeholder());
+                    builder.append(value != null ? value : slot.placeholder());
+                }
+            }
+        }
+
+        return builder.toString().trim();
+    }
+
+    /**
+     * Splits a section of a template into literal chunks and placeholder slots.
+     *
+     * @param section the section of the template
+     * @return the segments of the section
+     */
+    private static List<Segment> compileSection(String section) {
+        List<Segment> segments = new ArrayList<>();
+        int literalStart = 0;
+        int openIndex = section.indexOf('{');
+
+        while (openIndex >= 0) {
+            int closeIndex = section.indexOf('}', openIndex);
+            if (closeIndex < 0) break;
+
+            EmailPlaceholder placeholder = PLACEHOLDERS.get(section.substring(openIndex, closeIndex + 1));
+            if (placeholder != null) {
+                if (openIndex > literalStart) {
+                    segments.add(new Literal(section.substring(literalStart, openIndex)));
+                }
+                segments.add(new Slot(placeholder));
+                literalStart = closeIndex + 1;
+            }
+            openIndex = section.indexOf('{', openIndex + 1);
+        }
+
+        if (literalStart < section.length()) {
+            segments.add(new Literal(section.substring(literalStart)));
+        }
+
+        return List.copyOf(segments);
+    }
+
+    /**
+     * Precompiled part of a template section.
+     */
+    private sealed interface Segment permits Literal, Slot {
+    }
+
+    /**
+     * Literal chunk of text.
+     *
+     * @param text the text
+     */
+    private record Literal(String text) implements Segment {
+    }
+
+    /**
+     * Slot replaced by the value of a placeholder.
+     *
+     * @param placeholder the placeholder
+     */
+    private record Slot(EmailPlaceholder placeholder) implements Segment {
+    }
+}
\ No newline at end of file
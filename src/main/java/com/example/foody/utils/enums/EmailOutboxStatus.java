@@ -0,0 +1,11 @@
+package com.example.foody.utils.enums;
+
+/**
+ * Enumeration representing the delivery status of an email in the outbox.
+ */
+public enum EmailOutboxStatus {
+
+    PENDING,
+    SENT,
+    FAILED
+}
\ No newline at end of file
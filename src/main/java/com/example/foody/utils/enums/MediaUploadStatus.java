@@ -0,0 +1,10 @@
+package com.example.foody.utils.enums;
+
+/**
+ * Enumeration representing the status of a staged image waiting to be uploaded.
+ */
+public enum MediaUploadStatus {
+
+    PENDING,
+    FAILED
+}
\ No newline at end of file
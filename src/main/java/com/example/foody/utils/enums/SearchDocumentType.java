@@ -0,0 +1,11 @@
+package com.example.foody.utils.enums;
+
+/**
+ * Enumeration representing the types of the entities kept in the full-text search index.
+ */
+public enum SearchDocumentType {
+
+    RESTAURANT,
+    DISH,
+    CATEGORY
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.example.foody.utils.enums;
+
+/**
+ * Enumeration representing the progress status of a soft delete cascade.
+ */
+public enum SoftDeleteJobStatus {
+
+    PENDING,
+    COMPLETED,
+    FAILED
+}
\ No newline at end of file
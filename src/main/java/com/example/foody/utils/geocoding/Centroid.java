@@ -0,0 +1,10 @@
+package com.example.foody.utils.geocoding;
+
+/**
+ * Centroid of a postal code or of a province.
+ *
+ * @param latitude  the latitude, in degrees
+ * @param longitude the longitude, in degrees
+ */
+public record Centroid(double latitude, double longitude) {
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.example.foody.utils.geocoding;
+
+import com.example.foody.exceptions.geocoding.GeocodingTableException;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Table of the centroids of the Italian postal codes and provinces, read from the classpath.
+ * <p>
+ * Each line of a table holds a postal code, its province and the latitude and longitude of its centroid, after a
+ * header line. The build writes the complete table of the postal codes from GeoNames to {@link #POSTAL_CODES_PATH};
+ * builds without network access only ship the table of the province capitals at {@link #PROVINCE_CAPITALS_PATH}.
+ * The centroid of a province is the average of the centroids of its postal codes.
+ */
+public class CentroidTable {
+
+    /**
+     * Classpath location of the table of the postal codes of the province capitals, bundled with the sources.
+     */
+    public static final String PROVINCE_CAPITALS_PATH = "/geo/postal_code_centroids.csv";
+
+    /**
+     * Classpath location of the complete table of the postal codes, generated by the build.
+     */
+    public static final String POSTAL_CODES_PATH = "/geo/postal_codes.csv";
+
+    private final Map<String, Centroid> centroidsByPostalCode = new HashMap<>();
+    private final Map<String, Centroid> centroidsByProvince = new HashMap<>();
+
+    private CentroidTable() {
+    }
+
+    /**
+     * Reads the table of the province capitals and, if the build generated it, the complete table of the postal codes.
+     *
+     * @return the table of the centroids
+     * @throws GeocodingTableException if a table cannot be read
+     */
+    public static CentroidTable read() {
+        return read(PROVINCE_CAPITALS_PATH, POSTAL_CODES_PATH);
+    }
+
+    /**
+     * Reads a required table and, if it exists, an optional table whose postal codes replace those of the first one.
+     *
+     * @param requiredPath the classpath location of the required table
+     * @param optionalPath the classpath location of the optional table
+     * @return the table of the centroids
+     * @throws GeocodingTableException if a table cannot be read
+     */
+    public static CentroidTable read(String requiredPath, String optionalPath) {
+        CentroidTable table = new CentroidTable();
+        Map<String, String> provincesByPostalCode = new HashMap<>();
+        readLines(requiredPath, table.centroidsByPostalCode, provincesByPostalCode);
+        if (new ClassPathResource(optionalPath).exists()) {
+            readLines(optionalPath, table.centroidsByPostalCode, provincesByPostalCode);
+        }
+
+        Map<String, List<Centroid>> centroidsOfProvinces = new HashMap<>();
+        table.centroidsByPostalCode.forEach((postalCode, centroid) -> centroidsOfProvinces
+                .computeIfAbsent(provincesByPostalCode.get(postalCode), key -> new ArrayList<>())
+                .add(centroid));
+        centroidsOfProvinces.forEach((province, centroids) -> table.centroidsByProvince.put(province, new Centroid(
+                centroids.stream().mapToDouble(Centroid::latitude).average().orElseThrow(),
+                centroids.stream().mapToDouble(Centroid::longitude).average().orElseThrow()
+        )));
+
+        return table;
+    }
+
+    /**
+     * Finds the centroid of a postal code, or of a province if the postal code is not known.
+     *
+     * @param postalCode the postal code, or null
+     * @param province   the code of the province, or null
+     * @return the centroid, or empty if neither the postal code nor the province is known
+     */
+    public Optional<Centroid> find(String postalCode, String province) {
+        return Optional.ofNullable(postalCode)
+                .map(code -> centroidsByPostalCode.get(code.trim()))
+                .or(() -> Optional.ofNullable(province)
+                        .map(code -> centroidsByProvince.get(code.trim().toUpperCase(Locale.ROOT))));
+    }
+
+    /**
+     * Reads the lines of a table, replacing the postal codes already read.
+     *
+     * @param path                  the classpath location of the table
+     * @param centroidsByPostalCode the centroids read so far, keyed by postal code
+     * @param provincesByPostalCode the provinces read so far, keyed by postal code
+     * @throws GeocodingTableException if the table cannot be read
+     */
+    private static void readLines(
+            String path,
+            Map<String, Centroid> centroidsByPostalCode,
+            Map<String, String> provincesByPostalCode
+    ) {
+        try {
+            new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8)
+                    .lines()
+                    .skip(1)
+                    .filter(line -> !line.isBlank())
+                    .forEach(line -> {
+                        String[] columns = line.split(",");
+                        String postalCode = columns[0].trim();
+                        centroidsByPostalCode.put(postalCode, new Centroid(
+                                Double.parseDouble(columns[2].trim()),
+                                Double.parseDouble(columns[3].trim())
+                        ));
+                        provincesByPostalCode.put(postalCode, columns[1].trim().toUpperCase(Locale.ROOT));
+                    });
+        } catch (IOException | RuntimeException e) {
+            throw new GeocodingTableException(path);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.foody.utils.kitchen_board;
+
+import com.example.foody.dto.response.OrderResponseDTO;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of the in-progress orders of a restaurant, as shown on its kitchen screens.
+ * <p>
+ * The version increases with every change published for the restaurant, so a client can tell whether a change it
+ * receives follows the snapshot it holds, or whether it missed one and must fetch the board again.
+ *
+ * @param version the version of the board
+ * @param orders  the paid and preparing orders, most recent first
+ */
+public record KitchenBoard(long version, List<OrderResponseDTO> orders) {
+
+    /** HTTP response header carrying the version of a kitchen board. */
+    public static final String VERSION_HEADER = "X-Kitchen-Board-Version";
+
+    /** STOMP message header carrying the version of the kitchen board after a published change. */
+    public static final String MESSAGE_VERSION_HEADER = "kitchen-board-version";
+}
\ No newline at end of file
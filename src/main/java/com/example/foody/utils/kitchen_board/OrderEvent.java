@@ -0,0 +1,55 @@
+package com.example.foody.utils.kitchen_board;
+
+import com.example.foody.dto.response.OrderDishResponseDTO;
+import com.example.foody.dto.response.OrderResponseDTO;
+import com.example.foody.utils.enums.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Compact event published to the kitchen screens when an order changes.
+ * <p>
+ * The table, creation date and lines of the order are only carried when the order enters the kitchen board, since
+ * they do not change afterward. Later events only carry the new status.
+ *
+ * @param orderId   the ID of the order
+ * @param status    the new status of the order
+ * @param version   the version of the kitchen board after the change
+ * @param tableCode the table code of the order, only set when the order is paid
+ * @param createdAt the creation date of the order, only set when the order is paid
+ * @param lines     the dishes of the order, only set when the order is paid
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderEvent(
+        long orderId,
+        String status,
+        long version,
+        String tableCode,
+        LocalDateTime createdAt,
+        List<OrderDishResponseDTO> lines
+) {
+
+    /**
+     * Creates the event of a change of an order.
+     *
+     * @param order   the changed order
+     * @param version the version of the kitchen board after the change
+     * @return the event of the change
+     */
+    public static OrderEvent of(OrderResponseDTO order, long version) {
+        if (!OrderStatus.PAID.name().equals(order.getStatus())) {
+            return new OrderEvent(order.getId(), order.getStatus(), version, null, null, null);
+        }
+
+        return new OrderEvent(
+                order.getId(),
+                order.getStatus(),
+                version,
+                order.getTableCode(),
+                order.getCreatedAt(),
+                order.getOrderDishes()
+        );
+    }
+}
\ No newline at end of file
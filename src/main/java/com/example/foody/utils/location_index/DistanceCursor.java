@@ -0,0 +1,74 @@
+package com.example.foody.utils.location_index;
+
+import com.example.foody.exceptions.pagination.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of a pagination over restaurants ordered by distance and ID in ascending order.
+ * <p>
+ * The next page contains the restaurants farther than {@code distanceKm}, or at {@code distanceKm} with an ID greater
+ * than {@code id}. The cursor is exchanged with the clients as an opaque URL-safe Base64 string.
+ *
+ * @param distanceKm the distance, in kilometers, of the last restaurant of the previous page
+ * @param id         the ID of the last restaurant of the previous page
+ */
+public record DistanceCursor(double distanceKm, long id) {
+
+    /**
+     * Cursor positioned before the first page.
+     */
+    public static final DistanceCursor FIRST = new DistanceCursor(-1, Long.MIN_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Tells whether a restaurant comes after the cursor.
+     *
+     * @param distanceKm the distance of the restaurant, in kilometers
+     * @param id         the ID of the restaurant
+     * @return true if the restaurant belongs to the following pages
+     */
+    public boolean isBefore(double distanceKm, long id) {
+        return distanceKm > this.distanceKm || (distanceKm == this.distanceKm && id > this.id);
+    }
+
+    /**
+     * Encodes the cursor into an opaque string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = distanceKm + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     * <p>
+     * A null or blank cursor is decoded to {@link #FIRST}.
+     *
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    public static DistanceCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new DistanceCursor(
+                    Double.parseDouble(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.foody.utils.location_index;
+
+/**
+ * Immutable view of the location of an approved restaurant in one of its categories, as read to build the location
+ * index.
+ *
+ * @param restaurantId the ID of the restaurant
+ * @param name         the name of the restaurant
+ * @param city         the city of the restaurant
+ * @param latitude     the latitude of the address of the restaurant, in degrees
+ * @param longitude    the longitude of the address of the restaurant, in degrees
+ * @param categoryId   the ID of a category of the restaurant, or null if the restaurant has no categories
+ */
+public record RestaurantLocation(
+        long restaurantId,
+        String name,
+        String city,
+        double latitude,
+        double longitude,
+        Long categoryId
+) {
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.example.foody.utils.pagination;
+
+import com.example.foody.exceptions.pagination.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of a keyset (seek) pagination over entities ordered by creation date and ID in descending order.
+ * <p>
+ * The next page contains the entities created before {@code createdAt}, or at {@code createdAt} with an ID lower than
+ * {@code id}. The cursor is exchanged with the clients as an opaque URL-safe Base64 string.
+ *
+ * @param createdAt the creation date of the last entity of the previous page
+ * @param id        the ID of the last entity of the previous page
+ */
+public record KeysetCursor(LocalDateTime createdAt, long id) {
+
+    /**
+     * Cursor positioned before the first page.
+     * <p>
+     * Uses the maximum DATETIME value supported by MariaDB, so the keyset condition matches every entity.
+     */
+    public static final KeysetCursor FIRST = new KeysetCursor(
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+            Long.MAX_VALUE
+    );
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encodes the cursor into an opaque string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     * <p>
+     * A null or blank cursor is decoded to {@link #FIRST}.
+     *
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
\ No newline at end of file
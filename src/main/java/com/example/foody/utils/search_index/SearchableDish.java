@@ -0,0 +1,17 @@
+package com.example.foody.utils.search_index;
+
+/**
+ * Immutable view of the searchable text of a dish of an approved restaurant, as read to build the search index.
+ *
+ * @param id           the ID of the dish
+ * @param restaurantId the ID of the restaurant of the dish
+ * @param name         the name of the dish
+ * @param description  the description of the dish
+ */
+public record SearchableDish(
+        long id,
+        long restaurantId,
+        String name,
+        String description
+) {
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.foody.utils.search_index;
+
+/**
+ * Immutable view of the searchable text of an approved restaurant, as read to build the search index.
+ *
+ * @param id          the ID of the restaurant
+ * @param name        the name of the restaurant
+ * @param description the description of the restaurant
+ * @param city        the city of the address of the restaurant
+ */
+public record SearchableRestaurant(
+        long id,
+        String name,
+        String description,
+        String city
+) {
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.foody.utils.sitting_time_calendar;
+
+import java.time.LocalTime;
+
+/**
+ * Immutable, detached view of a sitting time, as kept in the in-memory calendar of a restaurant.
+ *
+ * @param id            the ID of the sitting time
+ * @param restaurantId  the ID of the restaurant of the sitting time
+ * @param weekDayInfoId the ID of the week day information of the sitting time
+ * @param weekDay       the week day of the sitting time, from 1 (Monday) to 7 (Sunday)
+ * @param start         the start time
+ * @param end           the end time
+ */
+public record SittingTimeSlot(
+        long id,
+        long restaurantId,
+        long weekDayInfoId,
+        int weekDay,
+        LocalTime start,
+        LocalTime end
+) {
+}
\ No newline at end of file
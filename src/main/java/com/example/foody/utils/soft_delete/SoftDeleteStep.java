@@ -0,0 +1,40 @@
+package com.example.foody.utils.soft_delete;
+
+/**
+ * Step of a soft delete cascade, marking as deleted the active rows of a table that descend from the deleted entity.
+ * <p>
+ * The selector only depends on the ID of the deleted entity, not on the rows already marked as deleted, so a step can
+ * be repeated or run in several batches with the same outcome.
+ *
+ * @param table    the table of the rows
+ * @param selector the SQL predicate selecting the rows, with the ID of the deleted entity bound to {@code :id}
+ */
+public record SoftDeleteStep(String table, String selector) {
+
+    /**
+     * Builds the statement marking as deleted a limited number of the active rows of the step.
+     * <p>
+     * Binds {@code :id}, {@code :deletedAt} and {@code :limit}.
+     *
+     * @return the native UPDATE statement
+     */
+    public String toUpdateSql() {
+        return "UPDATE " + table
+                + " SET deleted_at = :deletedAt"
+                + " WHERE deleted_at IS NULL AND " + selector
+                + " LIMIT :limit";
+    }
+
+    /**
+     * Builds the query counting the active rows of the step, up to a limit so a large table is not fully scanned.
+     * <p>
+     * Binds {@code :id} and {@code :limit}.
+     *
+     * @return the native SELECT statement
+     */
+    public String toCountSql() {
+        return "SELECT COUNT(*) FROM (SELECT 1 FROM " + table
+                + " WHERE deleted_at IS NULL AND " + selector
+                + " LIMIT :limit) active_rows";
+    }
+}
\ No newline at end of file
@@ -1,10 +1,15 @@
 package com.example.foody.utils.state;
 
+import com.example.foody.model.Booking;
 import com.example.foody.state.booking.BookingState;
 import com.example.foody.state.booking.impl.ActiveState;
 import com.example.foody.state.booking.impl.CancelledState;
 import com.example.foody.utils.enums.BookingStatus;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Utility class for handling booking states.
  */
@@ -22,4 +27,37 @@ public class BookingStateUtils {
             case CANCELLED -> new CancelledState();
         };
     }
+
+    /**
+     * Returns the statuses from which the given transition is allowed by the booking states.
+     * <p>
+     * Used to guard the single-statement updates of the status, so they follow the same rules as the states.
+     *
+     * @param transition the transition, e.g. {@code Booking::cancel}
+     * @return the names of the statuses allowing the transition
+     */
+    public static List<String> getSourceStatuses(Consumer<Booking> transition) {
+        return Arrays.stream(BookingStatus.values())
+                .filter(status -> isAllowed(status, transition))
+                .map(BookingStatus::name)
+                .toList();
+    }
+
+    /**
+     * Checks if a transition is allowed from the given status.
+     *
+     * @param status     the booking status
+     * @param transition the transition
+     * @return true if the state of the status allows the transition, false otherwise
+     */
+    private static boolean isAllowed(BookingStatus status, Consumer<Booking> transition) {
+        Booking booking = new Booking();
+        booking.setState(getState(status));
+        try {
+            transition.accept(booking);
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
 }
\ No newline at end of file
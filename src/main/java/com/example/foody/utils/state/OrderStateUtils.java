@@ -1,5 +1,6 @@
 package com.example.foody.utils.state;
 
+import com.example.foody.model.Order;
 import com.example.foody.state.order.OrderState;
 import com.example.foody.state.order.impl.CompletedState;
 import com.example.foody.state.order.impl.CreatedState;
@@ -7,6 +8,10 @@ import com.example.foody.state.order.impl.PaidState;
 import com.example.foody.state.order.impl.PreparingState;
 import com.example.foody.utils.enums.OrderStatus;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Utility class for handling order states.
  */
@@ -26,4 +31,37 @@ public class OrderStateUtils {
             case COMPLETED -> new CompletedState();
         };
     }
+
+    /**
+     * Returns the statuses from which the given transition is allowed by the order states.
+     * <p>
+     * Used to guard the single-statement updates of the status, so they follow the same rules as the states.
+     *
+     * @param transition the transition, e.g. {@code Order::pay}
+     * @return the names of the statuses allowing the transition
+     */
+    public static List<String> getSourceStatuses(Consumer<Order> transition) {
+        return Arrays.stream(OrderStatus.values())
+                .filter(status -> isAllowed(status, transition))
+                .map(OrderStatus::name)
+                .toList();
+    }
+
+    /**
+     * Checks if a transition is allowed from the given status.
+     *
+     * @param status     the order status
+     * @param transition the transition
+     * @return true if the state of the status allows the transition, false otherwise
+     */
+    private static boolean isAllowed(OrderStatus status, Consumer<Order> transition) {
+        Order order = new Order();
+        order.setState(getState(status));
+        try {
+            transition.accept(order);
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
 }
\ No newline at end of file
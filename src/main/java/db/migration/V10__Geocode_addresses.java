@@ -0,0 +1,91 @@
+package db.migration;
+
+import com.example.foody.utils.geocoding.Centroid;
+import com.example.foody.utils.geocoding.CentroidTable;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coordinates of the addresses saved before they were geocoded, computed once from the {@link CentroidTable}.
+ * <p>
+ * Addresses saved since then are geocoded when they are saved. Addresses whose postal code and province are both
+ * unknown keep no coordinates, and are not read again on later startups.
+ */
+public class V10__Geocode_addresses extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final CentroidTable centroidTable;
+
+    /**
+     * Constructs the migration and reads the table of the centroids.
+     */
+    public V10__Geocode_addresses() {
+        this(CentroidTable.read());
+    }
+
+    /**
+     * Constructs the migration over the given table of the centroids.
+     *
+     * @param centroidTable the table of the centroids
+     */
+    V10__Geocode_addresses(CentroidTable centroidTable) {
+        this.centroidTable = centroidTable;
+    }
+
+    /**
+     * Geocodes the addresses without coordinates and updates them in batches.
+     *
+     * @param context the context of the migration
+     * @throws Exception if reading or updating the addresses fails
+     */
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        List<GeocodedAddress> addresses = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("""
+                     SELECT id, postal_code, province
+                     FROM addresses
+                     WHERE latitude IS NULL
+                     OR longitude IS NULL
+                     """)) {
+            while (rows.next()) {
+                long id = rows.getLong("id");
+                centroidTable.find(rows.getString("postal_code"), rows.getString("province"))
+                        .ifPresent(centroid -> addresses.add(new GeocodedAddress(id, centroid)));
+            }
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE addresses SET latitude = ?, longitude = ? WHERE id = ?"
+        )) {
+            for (int i = 0; i < addresses.size(); i++) {
+                GeocodedAddress address = addresses.get(i);
+                statement.setDouble(1, address.centroid().latitude());
+                statement.setDouble(2, address.centroid().longitude());
+                statement.setLong(3, address.id());
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) statement.executeBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Address with the centroid found for it.
+     *
+     * @param id       the ID of the address
+     * @param centroid the centroid of its postal code or province
+     */
+    private record GeocodedAddress(long id, Centroid centroid) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,265 @@
+-- Schema of the entities as Hibernate used to create it with ddl-auto=update.
+--
+-- Every statement is guarded, so this migration also brings databases created before migrations were introduced
+-- (by Hibernate or by docker/init/dump.sql) up to date: missing tables, columns and sequences are added, and existing
+-- ones are left untouched.
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+CREATE TABLE IF NOT EXISTS addresses (
+    id           bigint      NOT NULL,
+    created_at   datetime(6) NOT NULL,
+    deleted_at   datetime(6) DEFAULT NULL,
+    city         varchar(20) NOT NULL,
+    civic_number varchar(10) NOT NULL,
+    postal_code  varchar(5)  NOT NULL,
+    province     varchar(2)  NOT NULL,
+    street       varchar(30) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS categories (
+    id   bigint      NOT NULL,
+    name varchar(30) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_categories_name (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS credit_cards (
+    id         bigint      NOT NULL,
+    created_at datetime(6) NOT NULL,
+    deleted_at datetime(6) DEFAULT NULL,
+    token      text        DEFAULT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_credit_cards_token (token)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS users (
+    role                   varchar(31)  NOT NULL,
+    id                     bigint       NOT NULL,
+    created_at             datetime(6)  NOT NULL,
+    deleted_at             datetime(6)  DEFAULT NULL,
+    active                 bit(1)       NOT NULL,
+    avatar_url             varchar(255) DEFAULT NULL,
+    birth_date             date         NOT NULL,
+    email                  varchar(320) NOT NULL,
+    firebase_custom_token  text         DEFAULT NULL,
+    name                   varchar(30)  NOT NULL,
+    password               varchar(100) NOT NULL,
+    phone_number           varchar(16)  DEFAULT NULL,
+    surname                varchar(30)  NOT NULL,
+    buyer_id               bigint       DEFAULT NULL,
+    employer_restaurant_id bigint       DEFAULT NULL,
+    credit_card_id         bigint       DEFAULT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_users_email (email),
+    UNIQUE KEY uk_users_credit_card_id (credit_card_id),
+    UNIQUE KEY uk_users_firebase_custom_token (firebase_custom_token),
+    KEY fk_users_employer_restaurant_id (employer_restaurant_id),
+    CONSTRAINT fk_users_employer_restaurant_id FOREIGN KEY (employer_restaurant_id) REFERENCES restaurants (id),
+    CONSTRAINT fk_users_credit_card_id FOREIGN KEY (credit_card_id) REFERENCES credit_cards (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS restaurants (
+    id              bigint       NOT NULL,
+    created_at      datetime(6)  NOT NULL,
+    deleted_at      datetime(6)  DEFAULT NULL,
+    approved        bit(1)       NOT NULL,
+    description     text         NOT NULL,
+    name            varchar(100) NOT NULL,
+    phone_number    varchar(16)  NOT NULL,
+    photo_url       varchar(255) DEFAULT NULL,
+    seats           int          NOT NULL CHECK (seats >= 0),
+    address_id      bigint       NOT NULL,
+    restaurateur_id bigint       NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_restaurants_address_id (address_id),
+    UNIQUE KEY uk_restaurants_restaurateur_id (restaurateur_id),
+    CONSTRAINT fk_restaurants_address_id FOREIGN KEY (address_id) REFERENCES addresses (id),
+    CONSTRAINT fk_restaurants_restaurateur_id FOREIGN KEY (restaurateur_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS restaurant_category (
+    restaurant_id bigint NOT NULL,
+    category_id   bigint NOT NULL,
+    KEY fk_restaurant_category_category_id (category_id),
+    KEY fk_restaurant_category_restaurant_id (restaurant_id),
+    CONSTRAINT fk_restaurant_category_category_id FOREIGN KEY (category_id) REFERENCES categories (id),
+    CONSTRAINT fk_restaurant_category_restaurant_id FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS dishes (
+    id            bigint       NOT NULL,
+    created_at    datetime(6)  NOT NULL,
+    deleted_at    datetime(6)  DEFAULT NULL,
+    description   text         NOT NULL,
+    name          varchar(100) NOT NULL,
+    photo_url     varchar(255) DEFAULT NULL,
+    price         decimal(8, 2) NOT NULL,
+    restaurant_id bigint       NOT NULL,
+    PRIMARY KEY (id),
+    KEY fk_dishes_restaurant_id (restaurant_id),
+    CONSTRAINT fk_dishes_restaurant_id FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS week_day_infos (
+    id                bigint                             NOT NULL,
+    created_at        datetime(6)                        NOT NULL,
+    deleted_at        datetime(6)                        DEFAULT NULL,
+    end_dinner        time(6)                            DEFAULT NULL,
+    end_launch        time(6)                            DEFAULT NULL,
+    sitting_time_step enum ('FIFTEEN', 'SIXTY', 'THIRTY') NOT NULL,
+    start_dinner      time(6)                            DEFAULT NULL,
+    start_launch      time(6)                            DEFAULT NULL,
+    week_day          int                                NOT NULL CHECK (week_day >= 1 AND week_day <= 7),
+    restaurant_id     bigint                             NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY week_day_restaurant_id_unique (week_day, restaurant_id),
+    KEY fk_week_day_infos_restaurant_id (restaurant_id),
+    CONSTRAINT fk_week_day_infos_restaurant_id FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS sitting_times (
+    id               bigint      NOT NULL,
+    created_at       datetime(6) NOT NULL,
+    deleted_at       datetime(6) DEFAULT NULL,
+    end              time(6)     NOT NULL,
+    start            time(6)     NOT NULL,
+    week_day_info_id bigint      NOT NULL,
+    PRIMARY KEY (id),
+    KEY fk_sitting_times_week_day_info_id (week_day_info_id),
+    CONSTRAINT fk_sitting_times_week_day_info_id FOREIGN KEY (week_day_info_id) REFERENCES week_day_infos (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS bookings (
+    id              bigint                      NOT NULL,
+    created_at      datetime(6)                 NOT NULL,
+    deleted_at      datetime(6)                 DEFAULT NULL,
+    date            date                        NOT NULL,
+    seats           int                         NOT NULL CHECK (seats >= 1),
+    status          enum ('ACTIVE', 'CANCELLED') NOT NULL,
+    version         bigint                      NOT NULL DEFAULT 0,
+    customer_id     bigint                      NOT NULL,
+    restaurant_id   bigint                      NOT NULL,
+    sitting_time_id bigint                      NOT NULL,
+    PRIMARY KEY (id),
+    KEY fk_bookings_customer_id (customer_id),
+    KEY fk_bookings_restaurant_id (restaurant_id),
+    KEY fk_bookings_sitting_time_id (sitting_time_id),
+    CONSTRAINT fk_bookings_customer_id FOREIGN KEY (customer_id) REFERENCES users (id),
+    CONSTRAINT fk_bookings_restaurant_id FOREIGN KEY (restaurant_id) REFERENCES restaurants (id),
+    CONSTRAINT fk_bookings_sitting_time_id FOREIGN KEY (sitting_time_id) REFERENCES sitting_times (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS seat_ledger (
+    date            date   NOT NULL,
+    restaurant_id   bigint NOT NULL,
+    sitting_time_id bigint NOT NULL,
+    booked_seats    int    NOT NULL,
+    PRIMARY KEY (date, restaurant_id, sitting_time_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS orders (
+    id            bigint                                          NOT NULL,
+    created_at    datetime(6)                                     NOT NULL,
+    deleted_at    datetime(6)                                     DEFAULT NULL,
+    buyer_id      bigint                                          DEFAULT NULL,
+    item_count    int                                             NOT NULL DEFAULT 0,
+    status        enum ('COMPLETED', 'CREATED', 'PAID', 'PREPARING') NOT NULL,
+    table_code    varchar(10)                                     NOT NULL,
+    total_amount  decimal(10, 2)                                  NOT NULL DEFAULT 0,
+    version       bigint                                          NOT NULL DEFAULT 0,
+    restaurant_id bigint                                          NOT NULL,
+    PRIMARY KEY (id),
+    KEY fk_orders_restaurant_id (restaurant_id),
+    CONSTRAINT fk_orders_restaurant_id FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS order_dish (
+    quantity   int           NOT NULL,
+    unit_price decimal(8, 2) NOT NULL DEFAULT 0,
+    dish_id    bigint        NOT NULL,
+    order_id   bigint        NOT NULL,
+    PRIMARY KEY (dish_id, order_id),
+    KEY fk_order_dish_order_id (order_id),
+    CONSTRAINT fk_order_dish_order_id FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_order_dish_dish_id FOREIGN KEY (dish_id) REFERENCES dishes (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS reviews (
+    id            bigint       NOT NULL,
+    created_at    datetime(6)  NOT NULL,
+    deleted_at    datetime(6)  DEFAULT NULL,
+    description   text         DEFAULT NULL,
+    rating        int          NOT NULL CHECK (rating <= 5 AND rating >= 1),
+    title         varchar(100) DEFAULT NULL,
+    customer_id   bigint       NOT NULL,
+    dish_id       bigint       DEFAULT NULL,
+    restaurant_id bigint       NOT NULL,
+    PRIMARY KEY (id),
+    KEY fk_reviews_customer_id (customer_id),
+    KEY fk_reviews_dish_id (dish_id),
+    KEY fk_reviews_restaurant_id (restaurant_id),
+    CONSTRAINT fk_reviews_dish_id FOREIGN KEY (dish_id) REFERENCES dishes (id),
+    CONSTRAINT fk_reviews_customer_id FOREIGN KEY (customer_id) REFERENCES users (id),
+    CONSTRAINT fk_reviews_restaurant_id FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id              bigint                             NOT NULL,
+    created_at      datetime(6)                        NOT NULL,
+    deleted_at      datetime(6)                        DEFAULT NULL,
+    attempts        int                                NOT NULL,
+    body            text                               NOT NULL,
+    last_error      varchar(500)                       DEFAULT NULL,
+    next_attempt_at datetime(6)                        NOT NULL,
+    recipient       varchar(255)                       NOT NULL,
+    sent_at         datetime(6)                        DEFAULT NULL,
+    status          enum ('PENDING', 'SENT', 'FAILED') NOT NULL,
+    subject         varchar(255)                       NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_email_outbox_status_next_attempt_at (status, next_attempt_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS media_uploads (
+    id              bigint                                                  NOT NULL,
+    created_at      datetime(6)                                             NOT NULL,
+    deleted_at      datetime(6)                                             DEFAULT NULL,
+    attempts        int                                                     NOT NULL,
+    file_type       enum ('USER_AVATAR', 'RESTAURANT_PHOTO', 'DISH_PHOTO') NOT NULL,
+    last_error      varchar(500)                                            DEFAULT NULL,
+    next_attempt_at datetime(6)                                             NOT NULL,
+    staged_path     varchar(500)                                            NOT NULL,
+    status          enum ('PENDING', 'FAILED')                              NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_media_uploads_status_next_attempt_at (status, next_attempt_at)
+) ENGINE = InnoDB;
+
+-- Columns added to existing tables after docker/init/dump.sql was taken.
+ALTER TABLE bookings
+    ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+ALTER TABLE orders
+    ADD COLUMN IF NOT EXISTS item_count int NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS total_amount decimal(10, 2) NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+ALTER TABLE order_dish
+    ADD COLUMN IF NOT EXISTS unit_price decimal(8, 2) NOT NULL DEFAULT 0;
+
+-- Identifier sequences, drawn by the pooled optimizer a whole allocation at a time.
+CREATE SEQUENCE IF NOT EXISTS addresses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS categories_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS credit_cards_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS dishes_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS email_outbox_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS media_uploads_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS orders_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS restaurants_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS reviews_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS sitting_times_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS week_day_infos_seq START WITH 1 INCREMENT BY 50;
+
+SET FOREIGN_KEY_CHECKS = 1;
\ No newline at end of file
@@ -0,0 +1,136 @@
+-- Indexes derived from the queries of the repositories.
+--
+-- Soft-deleted entities are filtered by Hibernate with deleted_at IS NULL, which MariaDB resolves as an equality, so
+-- deleted_at is placed after the equality columns and before the columns used for ranges and ordering. InnoDB appends
+-- the primary key to every secondary index, so the keyset pagination indexes end with created_at.
+
+-- BookingRepository.findAllByCustomer_IdOrderByDateDesc
+CREATE INDEX IF NOT EXISTS idx_bookings_customer_id_date
+    ON bookings (customer_id, deleted_at, date);
+
+-- BookingRepository.existsActiveFutureBookingByCustomer_IdAndRestaurant_IdAndDate, existsCurrentActiveBooking,
+-- findAllCurrentActiveBookingsByCustomer_Id and existsPastActiveBookingByCustomer_IdAndRestaurant_Id.
+-- Covering up to the join with sitting_times.
+CREATE INDEX IF NOT EXISTS idx_bookings_customer_id_status_date
+    ON bookings (customer_id, status, deleted_at, date, restaurant_id, sitting_time_id);
+
+-- BookingRepository.findAllByRestaurant_IdOrderByDateDesc and SeatLedgerRepository.insertIgnoreFromBookings.
+-- Covering for the ledger rebuild of a sitting time.
+CREATE INDEX IF NOT EXISTS idx_bookings_restaurant_id_date_sitting_time_id
+    ON bookings (restaurant_id, date, sitting_time_id, status, deleted_at, seats);
+
+-- SeatLedgerRepository.insertIgnoreAllFromBookings. Covering for the ledger rebuild at startup.
+CREATE INDEX IF NOT EXISTS idx_bookings_date_status
+    ON bookings (date, status, deleted_at, restaurant_id, sitting_time_id, seats);
+
+-- BookingRepository.findActiveFutureIdsForUpdateBySittingTime_IdIn and deleteAllBySittingTime_IdIn
+CREATE INDEX IF NOT EXISTS idx_bookings_sitting_time_id_status_date
+    ON bookings (sitting_time_id, status, deleted_at, date);
+
+-- BookingRepository.findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit and
+-- streamAllByOrderByCreatedAtDescIdDesc
+CREATE INDEX IF NOT EXISTS idx_bookings_created_at
+    ON bookings (deleted_at, created_at);
+
+-- CustomizedOrderRepository.findAllByBuyer_IdOrderByCreatedAtDesc and OrderRepository.existsByBuyer_IdAndDish_Id
+CREATE INDEX IF NOT EXISTS idx_orders_buyer_id_created_at
+    ON orders (buyer_id, deleted_at, created_at);
+
+-- CustomizedOrderRepository.findAllByRestaurant_IdOrderByCreatedAtDesc and restaurant revenue over a period.
+-- Replaces idx_orders_restaurant_id_created_at, which made MariaDB check deleted_at on every row.
+CREATE INDEX IF NOT EXISTS idx_orders_restaurant_id_deleted_at_created_at
+    ON orders (restaurant_id, deleted_at, created_at);
+
+DROP INDEX IF EXISTS idx_orders_restaurant_id_created_at ON orders;
+
+-- CustomizedOrderRepository.findAllByRestaurant_IdAndStatusInOrderByCreatedAtDesc and
+-- OrderRepository.findIdsForUpdateByRestaurant_IdAndIdInAndStatusIn
+CREATE INDEX IF NOT EXISTS idx_orders_restaurant_id_status_created_at
+    ON orders (restaurant_id, status, deleted_at, created_at);
+
+-- OrderRepository.findIdsForUpdateByRestaurant_IdAndTableCodeAndStatusIn
+CREATE INDEX IF NOT EXISTS idx_orders_restaurant_id_table_code_status
+    ON orders (restaurant_id, table_code, status, deleted_at);
+
+-- CustomizedOrderRepository.findAllByStatusInOrderByCreatedAtDesc
+CREATE INDEX IF NOT EXISTS idx_orders_status_created_at
+    ON orders (status, deleted_at, created_at);
+
+-- CustomizedOrderRepository.findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit and
+-- streamAllByOrderByCreatedAtDescIdDesc
+CREATE INDEX IF NOT EXISTS idx_orders_created_at
+    ON orders (deleted_at, created_at);
+
+-- ReviewRepository.findAllByRestaurant_IdOrderByCreatedAtDesc, findAllByRestaurant_IdOrderByCreated_AtDescLimit,
+-- findIdsByRestaurant_IdInOrderByCreated_AtDescLimit, findAverageRatingByRestaurant_Id and
+-- findAverageRatingsByRestaurant_IdIn. Covering for the averages.
+CREATE INDEX IF NOT EXISTS idx_reviews_restaurant_id_created_at
+    ON reviews (restaurant_id, deleted_at, created_at, rating);
+
+-- ReviewRepository.findAllByDish_IdOrderByCreatedAtDesc, findAverageRatingByDish_Id and the dish rankings of
+-- DishRepository. Covering for the averages.
+CREATE INDEX IF NOT EXISTS idx_reviews_dish_id_created_at
+    ON reviews (dish_id, deleted_at, created_at, rating);
+
+-- ReviewRepository.findAllByCustomer_IdOrderByCreatedAtDesc
+CREATE INDEX IF NOT EXISTS idx_reviews_customer_id_created_at
+    ON reviews (customer_id, deleted_at, created_at);
+
+-- ReviewRepository.findAllByOrderByCreatedAtDesc, findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit and
+-- streamAllByOrderByCreatedAtDescIdDesc
+CREATE INDEX IF NOT EXISTS idx_reviews_created_at
+    ON reviews (deleted_at, created_at);
+
+-- DishRepository.findAllByRestaurant_Id and the dish rankings
+CREATE INDEX IF NOT EXISTS idx_dishes_restaurant_id
+    ON dishes (restaurant_id, deleted_at);
+
+-- DishRepository.findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit and
+-- streamAllByOrderByCreatedAtDescIdDesc
+CREATE INDEX IF NOT EXISTS idx_dishes_created_at
+    ON dishes (deleted_at, created_at);
+
+-- DishRepository.updatePhotoUrlByPhotoUrl
+CREATE INDEX IF NOT EXISTS idx_dishes_photo_url
+    ON dishes (photo_url);
+
+-- RestaurantRepository.findAllByApproved and findByIdAndApproved
+CREATE INDEX IF NOT EXISTS idx_restaurants_approved
+    ON restaurants (approved, deleted_at);
+
+-- RestaurantRepository.findAllByApprovedInAndCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit and
+-- streamAllByApprovedInOrderByCreatedAtDescIdDesc. The approved filter is applied while reading the index.
+CREATE INDEX IF NOT EXISTS idx_restaurants_created_at
+    ON restaurants (deleted_at, created_at, approved);
+
+-- RestaurantRepository.updatePhotoUrlByPhotoUrl
+CREATE INDEX IF NOT EXISTS idx_restaurants_photo_url
+    ON restaurants (photo_url);
+
+-- RestaurantRepository.findAllByCategories_Id and findAllByCategories_IdAndApproved. Covering for the join.
+CREATE INDEX IF NOT EXISTS idx_restaurant_category_category_id_restaurant_id
+    ON restaurant_category (category_id, restaurant_id);
+
+-- UserRepository.findByRole
+CREATE INDEX IF NOT EXISTS idx_users_role
+    ON users (role, deleted_at);
+
+-- UserRepository.updateAvatarUrlByAvatarUrl
+CREATE INDEX IF NOT EXISTS idx_users_avatar_url
+    ON users (avatar_url);
+
+-- WeekDayInfoRepository.findAllByRestaurantIdOrderByWeekDay and SittingTimeRepository.findSlotsByRestaurant_IdIn
+CREATE INDEX IF NOT EXISTS idx_week_day_infos_restaurant_id_week_day
+    ON week_day_infos (restaurant_id, deleted_at, week_day);
+
+-- SittingTimeRepository.findSlotsByRestaurant_IdIn. Covering for the slots.
+CREATE INDEX IF NOT EXISTS idx_sitting_times_week_day_info_id
+    ON sitting_times (week_day_info_id, deleted_at, start, end);
+
+-- SeatLedgerRepository.findAllById_RestaurantIdAndId_DateBetween. The primary key leads with date.
+CREATE INDEX IF NOT EXISTS idx_seat_ledger_restaurant_id_date
+    ON seat_ledger (restaurant_id, date, sitting_time_id, booked_seats);
+
+-- SeatLedgerRepository.deleteAllById_SittingTimeIdIn
+CREATE INDEX IF NOT EXISTS idx_seat_ledger_sitting_time_id
+    ON seat_ledger (sitting_time_id);
\ No newline at end of file
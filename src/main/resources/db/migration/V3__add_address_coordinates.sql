@@ -0,0 +1,7 @@
+-- Coordinates of the addresses, geocoded offline from the centroid of their postal code or province.
+--
+-- Existing addresses are geocoded once by the V10 migration, and addresses whose postal code and province are both
+-- unknown are never geocoded, so the columns stay nullable.
+ALTER TABLE addresses
+    ADD COLUMN IF NOT EXISTS latitude  double DEFAULT NULL,
+    ADD COLUMN IF NOT EXISTS longitude double DEFAULT NULL;
\ No newline at end of file
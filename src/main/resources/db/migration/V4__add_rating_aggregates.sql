@@ -0,0 +1,75 @@
+-- Rating aggregates of the restaurants and dishes, kept up to date by every review write.
+--
+-- The averages are stored generated columns, so the best rated dishes of a restaurant are read from an index. The
+-- aggregates are filled from the active reviews and recomputed periodically in the same way.
+ALTER TABLE restaurants
+    ADD COLUMN IF NOT EXISTS rating_count   int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_sum     int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_1_count int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_2_count int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_3_count int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_4_count int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_5_count int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS average_rating double AS (IF(rating_count = 0, 0, rating_sum / rating_count)) STORED;
+
+ALTER TABLE dishes
+    ADD COLUMN IF NOT EXISTS rating_count   int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_sum     int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_1_count int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_2_count int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_3_count int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_4_count int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_5_count int    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS average_rating double AS (IF(rating_count = 0, 0, rating_sum / rating_count)) STORED;
+
+UPDATE restaurants r
+JOIN (
+    SELECT restaurant_id,
+           COUNT(*) AS rating_count,
+           SUM(rating) AS rating_sum,
+           SUM(rating = 1) AS rating_1_count,
+           SUM(rating = 2) AS rating_2_count,
+           SUM(rating = 3) AS rating_3_count,
+           SUM(rating = 4) AS rating_4_count,
+           SUM(rating = 5) AS rating_5_count
+    FROM reviews
+    WHERE deleted_at IS NULL
+    GROUP BY restaurant_id
+) a ON a.restaurant_id = r.id
+SET r.rating_count   = a.rating_count,
+    r.rating_sum     = a.rating_sum,
+    r.rating_1_count = a.rating_1_count,
+    r.rating_2_count = a.rating_2_count,
+    r.rating_3_count = a.rating_3_count,
+    r.rating_4_count = a.rating_4_count,
+    r.rating_5_count = a.rating_5_count;
+
+UPDATE dishes d
+JOIN (
+    SELECT dish_id,
+           COUNT(*) AS rating_count,
+           SUM(rating) AS rating_sum,
+           SUM(rating = 1) AS rating_1_count,
+           SUM(rating = 2) AS rating_2_count,
+           SUM(rating = 3) AS rating_3_count,
+           SUM(rating = 4) AS rating_4_count,
+           SUM(rating = 5) AS rating_5_count
+    FROM reviews
+    WHERE deleted_at IS NULL
+    AND dish_id IS NOT NULL
+    GROUP BY dish_id
+) a ON a.dish_id = d.id
+SET d.rating_count   = a.rating_count,
+    d.rating_sum     = a.rating_sum,
+    d.rating_1_count = a.rating_1_count,
+    d.rating_2_count = a.rating_2_count,
+    d.rating_3_count = a.rating_3_count,
+    d.rating_4_count = a.rating_4_count,
+    d.rating_5_count = a.rating_5_count;
+
+-- DishRepository.findAllByRestaurant_Id, findAllByRestaurant_IdOrderByAverageRatingDescLimit and
+-- findIdsByRestaurant_IdInOrderByAverageRatingDescLimit. Replaces idx_dishes_restaurant_id, which is a prefix of it.
+CREATE INDEX IF NOT EXISTS idx_dishes_restaurant_id_average_rating
+    ON dishes (restaurant_id, deleted_at, average_rating);
+
+DROP INDEX IF EXISTS idx_dishes_restaurant_id ON dishes;
\ No newline at end of file
@@ -0,0 +1,20 @@
+-- Soft delete cascades completed in the background, with their progress.
+CREATE TABLE IF NOT EXISTS soft_delete_jobs (
+    id                bigint                                  NOT NULL,
+    created_at        datetime(6)                             NOT NULL,
+    deleted_at        datetime(6)                             DEFAULT NULL,
+    attempts          int                                     NOT NULL,
+    completed_steps   int                                     NOT NULL,
+    deleted_rows      bigint                                  NOT NULL,
+    entity_deleted_at datetime(6)                             NOT NULL,
+    entity_id         bigint                                  NOT NULL,
+    entity_type       varchar(100)                            NOT NULL,
+    last_error        varchar(500)                            DEFAULT NULL,
+    next_attempt_at   datetime(6)                             NOT NULL,
+    status            enum ('PENDING', 'COMPLETED', 'FAILED') NOT NULL,
+    total_steps       int                                     NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_soft_delete_jobs_status_next_attempt_at (status, next_attempt_at)
+) ENGINE = InnoDB;
+
+CREATE SEQUENCE IF NOT EXISTS soft_delete_jobs_seq START WITH 1 INCREMENT BY 50;
\ No newline at end of file
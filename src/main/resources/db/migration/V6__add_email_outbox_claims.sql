@@ -0,0 +1,12 @@
+-- Claims of the outbox messages by the delivery workers, so that a message is delivered by a single worker.
+--
+-- A worker claims its batch with a single UPDATE, which also moves next_attempt_at to the end of the lease, and then
+-- loads the claimed messages by their claim token. A message of a crashed worker is claimed again after the lease.
+ALTER TABLE email_outbox
+    ADD COLUMN IF NOT EXISTS claim_token varchar(36) DEFAULT NULL;
+
+-- EmailOutboxMessageRepository.findAllByClaimTokenOrderById.
+CREATE INDEX IF NOT EXISTS idx_email_outbox_claim_token ON email_outbox (claim_token);
+
+-- EmailOutboxMessageRepository.deleteAllByStatusAndSentAtBeforeLimit.
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_sent_at ON email_outbox (status, sent_at);
\ No newline at end of file
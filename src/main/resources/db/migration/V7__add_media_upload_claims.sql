@@ -0,0 +1,10 @@
+-- Claims of the pending uploads by the upload workers, so that an image is uploaded by a single worker.
+--
+-- A worker claims its batch like the email outbox. The public URL of an uploaded image is recorded before the staged
+-- URL is replaced, so a retried upload does not upload the image again.
+ALTER TABLE media_uploads
+    ADD COLUMN IF NOT EXISTS claim_token  varchar(36)  DEFAULT NULL,
+    ADD COLUMN IF NOT EXISTS uploaded_url varchar(500) DEFAULT NULL;
+
+-- MediaUploadRepository.findAllByClaimTokenOrderById.
+CREATE INDEX IF NOT EXISTS idx_media_uploads_claim_token ON media_uploads (claim_token);
\ No newline at end of file
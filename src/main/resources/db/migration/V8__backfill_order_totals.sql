@@ -0,0 +1,20 @@
+-- Totals of the orders created before the totals were stored, computed once.
+--
+-- Every order holds at least one dish, so an order with no items is one whose totals were never computed. The current
+-- dish prices are snapshotted as the unit prices of their dishes first, since the totals are computed from them. New
+-- orders get their totals as dishes are added, so they are never touched.
+UPDATE order_dish od
+JOIN orders o ON o.id = od.order_id
+JOIN dishes d ON d.id = od.dish_id
+SET od.unit_price = d.price
+WHERE o.item_count = 0;
+
+UPDATE orders o
+JOIN (
+    SELECT od.order_id, SUM(od.quantity * od.unit_price) AS total_amount, SUM(od.quantity) AS item_count
+    FROM order_dish od
+    GROUP BY od.order_id
+) t ON t.order_id = o.id
+SET o.total_amount = t.total_amount,
+    o.item_count   = t.item_count
+WHERE o.item_count = 0;
\ No newline at end of file
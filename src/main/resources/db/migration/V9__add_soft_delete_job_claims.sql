@@ -0,0 +1,10 @@
+-- Claims of the pending soft delete cascades by the background workers, so that a cascade is run by a single worker.
+--
+-- A worker claims its cascades like the email outbox. Each claim also increases the version of the cascade, so a
+-- worker whose lease expired fails to save its progress once another worker claimed the cascade again.
+ALTER TABLE soft_delete_jobs
+    ADD COLUMN IF NOT EXISTS claim_token varchar(36) DEFAULT NULL,
+    ADD COLUMN IF NOT EXISTS version     bigint      NOT NULL DEFAULT 0;
+
+-- SoftDeleteJobRepository.findAllByClaimTokenOrderById.
+CREATE INDEX IF NOT EXISTS idx_soft_delete_jobs_claim_token ON soft_delete_jobs (claim_token);
\ No newline at end of file
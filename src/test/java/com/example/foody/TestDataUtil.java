@@ -13,6 +13,7 @@ import com.example.foody.utils.enums.BookingStatus;
 import com.example.foody.utils.enums.OrderStatus;
 import com.example.foody.utils.enums.Role;
 import com.example.foody.utils.enums.SittingTimeStep;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -142,7 +143,7 @@ public class TestDataUtil {
                 .approved(false)
                 .address(createTestAddress())
                 .restaurateur(createTestRestaurateurUser())
-                .employees(List.of(createTestCookUser(), createTestWaiterUser()))
+                .employees(new ArrayList<>(List.of(createTestCookUser(), createTestWaiterUser())))
                 .categories(new ArrayList<>())
                 .dishes(new ArrayList<>())
                 .reviews(new ArrayList<>())
@@ -161,7 +162,6 @@ public class TestDataUtil {
                 .street("Test Street")
                 .civicNumber("123")
                 .postalCode("12345")
-                .restaurant(null)
                 .build();
     }
 
@@ -198,6 +198,10 @@ public class TestDataUtil {
                 .build();
     }
 
+    public static SittingTimeSlot createTestSittingTimeSlot() {
+        return new SittingTimeSlot(1L, 1L, 1L, 1, LocalTime.of(12, 0), LocalTime.of(14, 0));
+    }
+
     public static Booking createTestBooking() {
         BookingBuilder bookingBuilder = new BookingBuilderImpl();
         return bookingBuilder
@@ -481,6 +485,20 @@ public class TestDataUtil {
         return requestDTO;
     }
 
+    public static WeekDayInfoWeekRequestDTO createTestWeekDayInfoWeekRequestDTO() {
+        WeekDayInfoWeekDayRequestDTO weekDayRequestDTO = new WeekDayInfoWeekDayRequestDTO();
+        weekDayRequestDTO.setWeekDay(1);
+        weekDayRequestDTO.setStartLaunch(LocalTime.of(12, 0));
+        weekDayRequestDTO.setEndLaunch(LocalTime.of(14, 0));
+        weekDayRequestDTO.setStartDinner(LocalTime.of(19, 0));
+        weekDayRequestDTO.setEndDinner(LocalTime.of(22, 0));
+        weekDayRequestDTO.setSittingTimeStep(SittingTimeStep.SIXTY.name());
+
+        WeekDayInfoWeekRequestDTO requestDTO = new WeekDayInfoWeekRequestDTO();
+        requestDTO.setWeekDayInfos(List.of(weekDayRequestDTO));
+        return requestDTO;
+    }
+
     public static SittingTimeResponseDTO createTestSittingTimeResponseDTO() {
         SittingTimeResponseDTO responseDTO = new SittingTimeResponseDTO();
         responseDTO.setId(1L);
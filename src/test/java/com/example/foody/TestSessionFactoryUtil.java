@@ -0,0 +1,124 @@
+package com.example.foody;
+
+import com.example.foody.utils.QueryCountInspector;
+import jakarta.persistence.Entity;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.integrator.spi.Integrator;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Utility class for building Hibernate session factories over the entities of the Foody application.
+ * <p>
+ * The session factories use the naming strategies of the application and count their statements with
+ * {@link QueryCountInspector}, so repository tests can run the real queries without starting the application context.
+ */
+public class TestSessionFactoryUtil {
+
+    /**
+     * URL of the in-memory H2 databases, in MariaDB compatibility mode and accepting the column names that are H2
+     * keywords.
+     */
+    private static final String H2_URL = "jdbc:h2:mem:%s;MODE=MariaDB;NON_KEYWORDS=START,END,VALUE;DB_CLOSE_DELAY=-1";
+
+    /**
+     * Builds a session factory over a new in-memory H2 database, whose schema is created from the entities.
+     *
+     * @param settings    the additional Hibernate settings
+     * @param integrators the integrators to register
+     * @return the session factory
+     */
+    public static SessionFactory buildH2SessionFactory(Map<String, Object> settings, Integrator... integrators) {
+        Map<String, Object> h2Settings = new HashMap<>(settings);
+        h2Settings.put(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        return buildSessionFactory(H2_URL.formatted(UUID.randomUUID()), "sa", "", h2Settings, integrators);
+    }
+
+    /**
+     * Builds a session factory over the given database.
+     *
+     * @param url         the JDBC URL of the database
+     * @param username    the username of the database
+     * @param password    the password of the database
+     * @param settings    the additional Hibernate settings
+     * @param integrators the integrators to register
+     * @return the session factory
+     */
+    public static SessionFactory buildSessionFactory(
+            String url,
+            String username,
+            String password,
+            Map<String, Object> settings,
+            Integrator... integrators
+    ) {
+        Map<String, Object> allSettings = new HashMap<>(settings);
+        allSettings.put(AvailableSettings.JAKARTA_JDBC_URL, url);
+        allSettings.put(AvailableSettings.JAKARTA_JDBC_USER, username);
+        allSettings.put(AvailableSettings.JAKARTA_JDBC_PASSWORD, password);
+        allSettings.put(
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                CamelCaseToUnderscoresNamingStrategy.class.getName()
+        );
+        allSettings.put(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName());
+        allSettings.put(AvailableSettings.STATEMENT_INSPECTOR, QueryCountInspector.class.getName());
+
+        BootstrapServiceRegistryBuilder bootstrapServiceRegistryBuilder = new BootstrapServiceRegistryBuilder();
+        for (Integrator integrator : integrators) {
+            bootstrapServiceRegistryBuilder.applyIntegrator(integrator);
+        }
+        MetadataSources metadataSources = new MetadataSources(
+                new StandardServiceRegistryBuilder(bootstrapServiceRegistryBuilder.build())
+                        .applySettings(allSettings)
+                        .build()
+        );
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        scanner.findCandidateComponents("com.example.foody.model")
+                .forEach(entity -> metadataSources.addAnnotatedClassName(entity.getBeanClassName()));
+
+        return metadataSources.buildMetadata().buildSessionFactory();
+    }
+
+    /**
+     * Executes the SQL statements in a single transaction, for example to seed the database.
+     *
+     * @param sessionFactory the session factory
+     * @param statements     the SQL statements
+     */
+    public static void executeStatements(SessionFactory sessionFactory, String... statements) {
+        sessionFactory.inTransaction(session -> session.doWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : statements) {
+                    statement.execute(sql);
+                }
+            }
+        }));
+    }
+
+    /**
+     * Runs the operation in a new session and transaction, counting the statements it sends.
+     *
+     * @param sessionFactory the session factory
+     * @param operation      the operation to run
+     * @return the number of statements sent by the operation
+     */
+    public static long countQueries(SessionFactory sessionFactory, Consumer<Session> operation) {
+        QueryCountInspector.resetQueryCount();
+        sessionFactory.inTransaction(operation);
+        return QueryCountInspector.getQueryCount();
+    }
+}
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.example.foody.controller;
 import com.example.foody.TestDataUtil;
 import com.example.foody.dto.request.BookingRequestDTO;
 import com.example.foody.dto.response.BookingResponseDTO;
+import com.example.foody.dto.response.RestaurantAvailabilityResponseDTO;
+import com.example.foody.dto.response.SeatAvailabilityResponseDTO;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.model.user.CustomerUser;
 import com.example.foody.service.BookingService;
@@ -14,6 +16,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -139,6 +143,40 @@ public class BookingControllerTest {
         assertEquals(responseDTOs, response.getBody());
     }
 
+    @Test
+    void getAvailabilityByRestaurantWhenValidIdReturnsOkResponse() {
+        // Arrange
+        List<SeatAvailabilityResponseDTO> responseDTOs = Collections.singletonList(new SeatAvailabilityResponseDTO());
+
+        when(bookingService.findAvailabilityByRestaurant(1L)).thenReturn(responseDTOs);
+
+        // Act
+        ResponseEntity<List<SeatAvailabilityResponseDTO>> response = bookingController.getAvailabilityByRestaurant(1L);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(responseDTOs, response.getBody());
+    }
+
+    @Test
+    void searchAvailabilityWhenValidParamsReturnsOkResponse() {
+        // Arrange
+        LocalDate date = LocalDate.now();
+        LocalTime time = LocalTime.of(20, 0);
+        List<RestaurantAvailabilityResponseDTO> responseDTOs =
+                Collections.singletonList(new RestaurantAvailabilityResponseDTO());
+
+        when(bookingService.searchAvailability(date, time, 2, 60, 1L)).thenReturn(responseDTOs);
+
+        // Act
+        ResponseEntity<List<RestaurantAvailabilityResponseDTO>> response =
+                bookingController.searchAvailability(date, time, 2, 60, 1L);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(responseDTOs, response.getBody());
+    }
+
     @Test
     void cancelBookingWhenValidIdReturnsOkResponse() {
         // Arrange
@@ -4,21 +4,32 @@ import com.example.foody.TestDataUtil;
 import com.example.foody.dto.request.DishRequestDTO;
 import com.example.foody.dto.request.DishUpdateRequestDTO;
 import com.example.foody.dto.response.DishResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.service.DishService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,6 +44,9 @@ public class DishControllerTest {
     @Mock
     private DishService dishService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @Test
     void saveDishWhenValidRequestReturnsCreatedResponse() {
         // Arrange
@@ -65,6 +79,50 @@ public class DishControllerTest {
         assertEquals(responseDTOs, response.getBody());
     }
 
+    @Test
+    void getDishesPageWhenCalledReturnsOkResponse() {
+        // Arrange
+        PageResponseDTO<DishResponseDTO> page = new PageResponseDTO<>(
+                List.of(TestDataUtil.createTestDishResponseDTO()),
+                "cursor",
+                true
+        );
+
+        when(dishService.findAll(null, 10)).thenReturn(page);
+
+        // Act
+        ResponseEntity<PageResponseDTO<DishResponseDTO>> response = dishController.getDishesPage(null, 10);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    void streamDishesWhenCalledWritesOneJsonLinePerDish() throws IOException {
+        // Arrange
+        DishResponseDTO responseDTO = TestDataUtil.createTestDishResponseDTO();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        doAnswer(invocation -> {
+            Consumer<DishResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(responseDTO);
+            consumer.accept(responseDTO);
+            return null;
+        }).when(dishService).streamAll(any());
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = dishController.streamDishes();
+        assertNotNull(response.getBody());
+        response.getBody().writeTo(outputStream);
+
+        // Assert
+        String line = objectMapper.writeValueAsString(responseDTO) + "\n";
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(line + line, outputStream.toString(StandardCharsets.UTF_8));
+    }
+
     @Test
     void getDishByIdWhenValidIdReturnsOkResponse() {
         // Arrange
@@ -0,0 +1,106 @@
+package com.example.foody.controller;
+
+import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.service.MediaService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the endpoints in the {@link MediaController} class using mock services.
+ */
+@ExtendWith(MockitoExtension.class)
+public class MediaControllerTest {
+
+    @InjectMocks
+    private MediaController mediaController;
+
+    @Mock
+    private MediaService mediaService;
+
+    @TempDir
+    private Path stagingDirectory;
+
+    private Path stageImage(byte[] header) throws IOException {
+        return Files.write(stagingDirectory.resolve("staged"), header);
+    }
+
+    @Test
+    void getStagedImageWhenStagedReturnsOkResponse() throws IOException {
+        // Arrange
+        Path stagedImage = stageImage(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10});
+        when(mediaService.findStagedImage(1L)).thenReturn(stagedImage);
+
+        // Act
+        ResponseEntity<Resource> response = mediaController.getStagedImage(1L);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.IMAGE_JPEG, response.getHeaders().getContentType());
+        assertEquals("staged", response.getBody().getFilename());
+    }
+
+    @Test
+    void getStagedImageWhenPngReturnsPngContentType() throws IOException {
+        // Arrange
+        Path stagedImage = stageImage(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        when(mediaService.findStagedImage(1L)).thenReturn(stagedImage);
+
+        // Act
+        ResponseEntity<Resource> response = mediaController.getStagedImage(1L);
+
+        // Assert
+        assertEquals(MediaType.IMAGE_PNG, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void getStagedImageWhenWebpReturnsWebpContentType() throws IOException {
+        // Arrange
+        Path stagedImage = stageImage("RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII));
+        when(mediaService.findStagedImage(1L)).thenReturn(stagedImage);
+
+        // Act
+        ResponseEntity<Resource> response = mediaController.getStagedImage(1L);
+
+        // Assert
+        assertEquals(MediaType.parseMediaType("image/webp"), response.getHeaders().getContentType());
+    }
+
+    @Test
+    void getStagedImageWhenNotRecognizedReturnsOctetStreamContentType() throws IOException {
+        // Arrange
+        Path stagedImage = stageImage(new byte[]{1, 2, 3});
+        when(mediaService.findStagedImage(1L)).thenReturn(stagedImage);
+
+        // Act
+        ResponseEntity<Resource> response = mediaController.getStagedImage(1L);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_OCTET_STREAM, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void getStagedImageWhenNotFoundThrowsException() {
+        // Arrange
+        when(mediaService.findStagedImage(1L)).thenThrow(new EntityNotFoundException("staged image", "id", 1L));
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> mediaController.getStagedImage(1L));
+    }
+}
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.example.foody.controller;
 
 import com.example.foody.TestDataUtil;
+import com.example.foody.dto.request.OrderBulkTransitionRequestDTO;
 import com.example.foody.dto.request.OrderRequestDTO;
 import com.example.foody.dto.response.OrderResponseDTO;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.model.user.User;
 import com.example.foody.service.OrderService;
+import com.example.foody.utils.kitchen_board.KitchenBoard;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -128,11 +130,44 @@ public class OrderControllerTest {
         List<OrderResponseDTO> responseDTOs =
                 Collections.singletonList(TestDataUtil.createTestOrderResponseDTO());
 
-        when(orderService.findAllByRestaurantAndInProgress(1L)).thenReturn(responseDTOs);
+        when(orderService.findAllByRestaurantAndInProgress(1L)).thenReturn(new KitchenBoard(7, responseDTOs));
 
         // Act
         ResponseEntity<List<OrderResponseDTO>> response = orderController.getOrdersByRestaurantAndInProgress(1L);
 
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(responseDTOs, response.getBody());
+        assertEquals("7", response.getHeaders().getFirst(KitchenBoard.VERSION_HEADER));
+    }
+
+    @Test
+    void prepareOrdersWhenValidRequestReturnsOkResponse() {
+        // Arrange
+        OrderBulkTransitionRequestDTO requestDTO = new OrderBulkTransitionRequestDTO(List.of(1L), null);
+        List<OrderResponseDTO> responseDTOs = Collections.singletonList(TestDataUtil.createTestOrderResponseDTO());
+
+        when(orderService.prepareAllByRestaurant(1L, requestDTO)).thenReturn(responseDTOs);
+
+        // Act
+        ResponseEntity<List<OrderResponseDTO>> response = orderController.prepareOrders(1L, requestDTO);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(responseDTOs, response.getBody());
+    }
+
+    @Test
+    void completeOrdersWhenValidRequestReturnsOkResponse() {
+        // Arrange
+        OrderBulkTransitionRequestDTO requestDTO = new OrderBulkTransitionRequestDTO(List.of(), "T4");
+        List<OrderResponseDTO> responseDTOs = Collections.singletonList(TestDataUtil.createTestOrderResponseDTO());
+
+        when(orderService.completeAllByRestaurant(1L, requestDTO)).thenReturn(responseDTOs);
+
+        // Act
+        ResponseEntity<List<OrderResponseDTO>> response = orderController.completeOrders(1L, requestDTO);
+
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(responseDTOs, response.getBody());
@@ -3,6 +3,8 @@ package com.example.foody.controller;
 import com.example.foody.TestDataUtil;
 import com.example.foody.dto.request.RestaurantRequestDTO;
 import com.example.foody.dto.response.DetailedRestaurantResponseDTO;
+import com.example.foody.dto.response.NearbyRestaurantResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.dto.response.RestaurantResponseDTO;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.service.RestaurantService;
@@ -66,6 +68,27 @@ public class RestaurantControllerTest {
         assertEquals(responseDTOs, response.getBody());
     }
 
+    @Test
+    void getNearbyRestaurantsReturnsOkResponse() {
+        // Arrange
+        PageResponseDTO<NearbyRestaurantResponseDTO> page = new PageResponseDTO<>(
+                Collections.singletonList(new NearbyRestaurantResponseDTO()),
+                null,
+                false
+        );
+
+        when(restaurantService.findNearby(45.46, 9.19, 10, 1L, true, null, 20)).thenReturn(page);
+
+        // Act
+        ResponseEntity<PageResponseDTO<NearbyRestaurantResponseDTO>> response =
+                restaurantController.getNearbyRestaurants(45.46, 9.19, 10, 1L, true, null, 20);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+        verify(restaurantService, times(1)).findNearby(45.46, 9.19, 10, 1L, true, null, 20);
+    }
+
     @Test
     void getRestaurantByIdWhenExistsReturnsOkResponse() {
         // Arrange
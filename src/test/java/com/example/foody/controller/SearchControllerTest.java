@@ -0,0 +1,61 @@
+package com.example.foody.controller;
+
+import com.example.foody.dto.response.SearchResultResponseDTO;
+import com.example.foody.service.SearchService;
+import com.example.foody.utils.enums.SearchDocumentType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the endpoints in the {@link SearchController} class using mock services.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SearchControllerTest {
+
+    @InjectMocks
+    private SearchController searchController;
+
+    @Mock
+    private SearchService searchService;
+
+    @Test
+    void searchWhenTypeIsGivenReturnsOkResponse() {
+        // Arrange
+        List<SearchResultResponseDTO> responseDTOs = Collections.singletonList(new SearchResultResponseDTO());
+
+        when(searchService.search("pizza", SearchDocumentType.DISH, 20)).thenReturn(responseDTOs);
+
+        // Act
+        ResponseEntity<List<SearchResultResponseDTO>> response = searchController.search("pizza", "DISH", 20);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(responseDTOs, response.getBody());
+    }
+
+    @Test
+    void searchWhenTypeIsMissingSearchesAllTypes() {
+        // Arrange
+        List<SearchResultResponseDTO> responseDTOs = Collections.singletonList(new SearchResultResponseDTO());
+
+        when(searchService.search("pizza", null, 20)).thenReturn(responseDTOs);
+
+        // Act
+        ResponseEntity<List<SearchResultResponseDTO>> response = searchController.search("pizza", null, 20);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(responseDTOs, response.getBody());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.example.foody.controller;
+
+import com.example.foody.dto.response.SoftDeleteJobResponseDTO;
+import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.exceptions.soft_delete_job.SoftDeleteJobNotFailedException;
+import com.example.foody.service.SoftDeleteJobService;
+import com.example.foody.utils.enums.SoftDeleteJobStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the endpoints in the {@link SoftDeleteJobController} class using mock services.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SoftDeleteJobControllerTest {
+
+    @InjectMocks
+    private SoftDeleteJobController softDeleteJobController;
+
+    @Mock
+    private SoftDeleteJobService softDeleteJobService;
+
+    @Test
+    void getUncompletedSoftDeleteJobsReturnsOkResponse() {
+        // Arrange
+        List<SoftDeleteJobResponseDTO> responseDTOs = List.of(new SoftDeleteJobResponseDTO());
+        when(softDeleteJobService.findAllUncompleted()).thenReturn(responseDTOs);
+
+        // Act
+        ResponseEntity<List<SoftDeleteJobResponseDTO>> response =
+                softDeleteJobController.getUncompletedSoftDeleteJobs();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(responseDTOs, response.getBody());
+    }
+
+    @Test
+    void getSoftDeleteJobByIdWhenFoundReturnsOkResponse() {
+        // Arrange
+        SoftDeleteJobResponseDTO responseDTO = new SoftDeleteJobResponseDTO();
+        when(softDeleteJobService.findById(1L)).thenReturn(responseDTO);
+
+        // Act
+        ResponseEntity<SoftDeleteJobResponseDTO> response = softDeleteJobController.getSoftDeleteJobById(1L);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(responseDTO, response.getBody());
+    }
+
+    @Test
+    void getSoftDeleteJobByIdWhenNotFoundThrowsException() {
+        // Arrange
+        when(softDeleteJobService.findById(1L)).thenThrow(new EntityNotFoundException("soft delete job", "id", 1L));
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> softDeleteJobController.getSoftDeleteJobById(1L));
+    }
+
+    @Test
+    void retrySoftDeleteJobWhenFailedReturnsOkResponse() {
+        // Arrange
+        SoftDeleteJobResponseDTO responseDTO = new SoftDeleteJobResponseDTO();
+        when(softDeleteJobService.retry(1L)).thenReturn(responseDTO);
+
+        // Act
+        ResponseEntity<SoftDeleteJobResponseDTO> response = softDeleteJobController.retrySoftDeleteJob(1L);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(responseDTO, response.getBody());
+    }
+
+    @Test
+    void retrySoftDeleteJobWhenNotFailedThrowsException() {
+        // Arrange
+        when(softDeleteJobService.retry(1L))
+                .thenThrow(new SoftDeleteJobNotFailedException(1L, SoftDeleteJobStatus.COMPLETED));
+
+        // Act & Assert
+        assertThrows(SoftDeleteJobNotFailedException.class, () -> softDeleteJobController.retrySoftDeleteJob(1L));
+    }
+}
\ No newline at end of file
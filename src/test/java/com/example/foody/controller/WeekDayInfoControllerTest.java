@@ -3,6 +3,7 @@ package com.example.foody.controller;
 import com.example.foody.TestDataUtil;
 import com.example.foody.dto.request.WeekDayInfoRequestDTO;
 import com.example.foody.dto.request.WeekDayInfoUpdateRequestDTO;
+import com.example.foody.dto.request.WeekDayInfoWeekRequestDTO;
 import com.example.foody.dto.response.WeekDayInfoResponseDTO;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.service.WeekDayInfoService;
@@ -118,4 +119,21 @@ public class WeekDayInfoControllerTest {
         // Act & Assert
         assertThrows(EntityNotFoundException.class, () -> weekDayInfoController.updateWeekDayInfo(1L, requestDTO));
     }
+
+    @Test
+    void updateWeekDayInfosByRestaurantWhenValidRequestReturnsOkResponse() {
+        // Arrange
+        WeekDayInfoWeekRequestDTO requestDTO = TestDataUtil.createTestWeekDayInfoWeekRequestDTO();
+        List<WeekDayInfoResponseDTO> responseDTOs = List.of(TestDataUtil.createTestWeekDayInfoResponseDTO());
+
+        when(weekDayInfoService.updateWeek(1L, requestDTO)).thenReturn(responseDTOs);
+
+        // Act
+        ResponseEntity<List<WeekDayInfoResponseDTO>> response =
+                weekDayInfoController.updateWeekDayInfosByRestaurant(1L, requestDTO);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(responseDTOs, response.getBody());
+    }
 }
\ No newline at end of file
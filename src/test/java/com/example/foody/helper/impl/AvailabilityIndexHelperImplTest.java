@@ -0,0 +1,218 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.dto.response.RestaurantAvailabilityResponseDTO;
+import com.example.foody.dto.response.SeatAvailabilityResponseDTO;
+import com.example.foody.helper.SittingTimeCalendarHelper;
+import com.example.foody.model.seat_ledger.SeatLedgerEntry;
+import com.example.foody.model.seat_ledger.SeatLedgerKey;
+import com.example.foody.repository.RestaurantRepository;
+import com.example.foody.repository.SeatLedgerRepository;
+import com.example.foody.utils.availability_index.RestaurantCapacity;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link AvailabilityIndexHelperImpl} class using mock repositories.
+ */
+@ExtendWith(MockitoExtension.class)
+public class AvailabilityIndexHelperImplTest {
+
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+    private static final int WEEK_DAY = DATE.getDayOfWeek().getValue();
+    private static final LocalTime FROM = LocalTime.of(19, 0);
+    private static final LocalTime TO = LocalTime.of(21, 0);
+
+    @InjectMocks
+    private AvailabilityIndexHelperImpl availabilityIndexHelper;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private SeatLedgerRepository seatLedgerRepository;
+
+    @Mock
+    private SittingTimeCalendarHelper sittingTimeCalendarHelper;
+
+    private SittingTimeSlot createSlot(long id, long restaurantId, int hour) {
+        return new SittingTimeSlot(id, restaurantId, WEEK_DAY, WEEK_DAY, LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0));
+    }
+
+    private SeatLedgerEntry createEntry(long restaurantId, long sittingTimeId, int bookedSeats) {
+        return new SeatLedgerEntry(new SeatLedgerKey(restaurantId, DATE, sittingTimeId), bookedSeats);
+    }
+
+    private void mockSlots(Map<Long, List<SittingTimeSlot>> slots) {
+        when(sittingTimeCalendarHelper.findSlotsStartingBetween(anyList(), eq(WEEK_DAY), eq(FROM), eq(TO)))
+                .thenAnswer(invocation -> {
+                    List<Long> restaurantIds = invocation.getArgument(0);
+                    return slots.entrySet()
+                            .stream()
+                            .filter(entry -> restaurantIds.contains(entry.getKey()))
+                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                });
+    }
+
+    private List<Long> findAvailableSittingTimeIds(int seats, Long categoryId) {
+        return availabilityIndexHelper.findAvailableRestaurants(DATE, FROM, TO, seats, categoryId)
+                .stream()
+                .flatMap(availability -> availability.getSittingTimes().stream())
+                .map(SeatAvailabilityResponseDTO::getSittingTimeId)
+                .toList();
+    }
+
+    @Test
+    void findAvailableRestaurantsReturnsSittingTimesWithEnoughFreeSeats() {
+        // Arrange
+        when(restaurantRepository.findCapacitiesByApproved(true)).thenReturn(List.of(
+                new RestaurantCapacity(1L, "First", 10, 1L),
+                new RestaurantCapacity(1L, "First", 10, 2L),
+                new RestaurantCapacity(2L, "Second", 4, null)
+        ));
+        when(seatLedgerRepository.findAllById_Date(DATE)).thenReturn(List.of(createEntry(1L, 1L, 8)));
+        mockSlots(Map.of(1L, List.of(createSlot(1L, 1L, 19), createSlot(2L, 1L, 20))));
+
+        // Act
+        List<RestaurantAvailabilityResponseDTO> availabilities =
+                availabilityIndexHelper.findAvailableRestaurants(DATE, FROM, TO, 6, 2L);
+
+        // Assert
+        assertEquals(1, availabilities.size());
+        assertEquals(1L, availabilities.get(0).getRestaurantId());
+        assertEquals("First", availabilities.get(0).getRestaurantName());
+        assertEquals(
+                List.of(new SeatAvailabilityResponseDTO(DATE, 2L, LocalTime.of(20, 0), LocalTime.of(21, 0), 10)),
+                availabilities.get(0).getSittingTimes()
+        );
+    }
+
+    @Test
+    void findAvailableRestaurantsSkipsRestaurantsWithFewerSeatsOrOtherCategories() {
+        // Arrange
+        when(restaurantRepository.findCapacitiesByApproved(true)).thenReturn(List.of(
+                new RestaurantCapacity(1L, "First", 10, 1L),
+                new RestaurantCapacity(2L, "Second", 4, 1L)
+        ));
+
+        // Act
+        List<RestaurantAvailabilityResponseDTO> availabilities =
+                availabilityIndexHelper.findAvailableRestaurants(DATE, FROM, TO, 6, 2L);
+
+        // Assert
+        assertTrue(availabilities.isEmpty());
+        verifyNoInteractions(seatLedgerRepository, sittingTimeCalendarHelper);
+    }
+
+    @Test
+    void findAvailableRestaurantsReadsRestaurantsAndDateOnce() {
+        // Arrange
+        when(restaurantRepository.findCapacitiesByApproved(true))
+                .thenReturn(List.of(new RestaurantCapacity(1L, "First", 10, null)));
+        when(seatLedgerRepository.findAllById_Date(DATE)).thenReturn(List.of());
+        mockSlots(Map.of(1L, List.of(createSlot(1L, 1L, 19))));
+
+        // Act
+        availabilityIndexHelper.findAvailableRestaurants(DATE, FROM, TO, 2, null);
+        availabilityIndexHelper.findAvailableRestaurants(DATE, FROM, TO, 2, null);
+
+        // Assert
+        verify(restaurantRepository, times(1)).findCapacitiesByApproved(true);
+        verify(seatLedgerRepository, times(1)).findAllById_Date(DATE);
+    }
+
+    @Test
+    void addBookedSeatsChangesLoadedDateWithoutReadingItAgain() {
+        // Arrange
+        when(restaurantRepository.findCapacitiesByApproved(true))
+                .thenReturn(List.of(new RestaurantCapacity(1L, "First", 10, null)));
+        when(seatLedgerRepository.findAllById_Date(DATE)).thenReturn(List.of(createEntry(1L, 1L, 4)));
+        mockSlots(Map.of(1L, List.of(createSlot(1L, 1L, 19))));
+        assertEquals(List.of(1L), findAvailableSittingTimeIds(6, null));
+
+        // Act
+        availabilityIndexHelper.addBookedSeats(DATE, 1L, 2);
+        List<Long> afterReservation = findAvailableSittingTimeIds(6, null);
+        availabilityIndexHelper.addBookedSeats(DATE, 1L, -2);
+        List<Long> afterRelease = findAvailableSittingTimeIds(6, null);
+
+        // Assert
+        assertTrue(afterReservation.isEmpty());
+        assertEquals(List.of(1L), afterRelease);
+        verify(seatLedgerRepository, times(1)).findAllById_Date(DATE);
+    }
+
+    @Test
+    void addBookedSeatsWhenTransactionActiveWaitsForCommit() {
+        // Arrange
+        when(restaurantRepository.findCapacitiesByApproved(true))
+                .thenReturn(List.of(new RestaurantCapacity(1L, "First", 10, null)));
+        when(seatLedgerRepository.findAllById_Date(DATE)).thenReturn(List.of());
+        mockSlots(Map.of(1L, List.of(createSlot(1L, 1L, 19))));
+        findAvailableSittingTimeIds(6, null);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            availabilityIndexHelper.addBookedSeats(DATE, 1L, 6);
+            assertEquals(List.of(1L), findAvailableSittingTimeIds(6, null));
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCommit());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertTrue(findAvailableSittingTimeIds(6, null).isEmpty());
+    }
+
+    @Test
+    void evictDateAndEvictRestaurantsReadThemAgain() {
+        // Arrange
+        when(restaurantRepository.findCapacitiesByApproved(true))
+                .thenReturn(List.of(new RestaurantCapacity(1L, "First", 10, null)));
+        when(seatLedgerRepository.findAllById_Date(DATE)).thenReturn(List.of());
+        mockSlots(Map.of(1L, List.of(createSlot(1L, 1L, 19))));
+        findAvailableSittingTimeIds(2, null);
+
+        // Act
+        availabilityIndexHelper.evictDate(DATE);
+        availabilityIndexHelper.evictRestaurants();
+        findAvailableSittingTimeIds(2, null);
+
+        // Assert
+        verify(restaurantRepository, times(2)).findCapacitiesByApproved(true);
+        verify(seatLedgerRepository, times(2)).findAllById_Date(DATE);
+    }
+
+    @Test
+    void findAvailableRestaurantsWhenSeatsChangedWhileReadingDoesNotKeepDate() {
+        // Arrange
+        when(restaurantRepository.findCapacitiesByApproved(true))
+                .thenReturn(List.of(new RestaurantCapacity(1L, "First", 10, null)));
+        when(seatLedgerRepository.findAllById_Date(DATE)).thenAnswer(invocation -> {
+            availabilityIndexHelper.addBookedSeats(DATE, 1L, 2);
+            return List.of(createEntry(1L, 1L, 4));
+        });
+        mockSlots(Map.of(1L, List.of(createSlot(1L, 1L, 19))));
+
+        // Act
+        findAvailableSittingTimeIds(2, null);
+        findAvailableSittingTimeIds(2, null);
+
+        // Assert
+        verify(seatLedgerRepository, times(2)).findAllById_Date(DATE);
+    }
+}
\ No newline at end of file
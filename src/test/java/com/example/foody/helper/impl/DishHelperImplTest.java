@@ -4,7 +4,6 @@ import com.example.foody.TestDataUtil;
 import com.example.foody.dto.response.DishResponseDTO;
 import com.example.foody.mapper.DishMapper;
 import com.example.foody.model.Dish;
-import com.example.foody.repository.ReviewRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -15,8 +14,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * Test class for {@link DishHelperImpl} class using mock services.
@@ -27,9 +25,6 @@ public class DishHelperImplTest {
     @InjectMocks
     private DishHelperImpl dishHelperImpl;
 
-    @Mock
-    private ReviewRepository reviewRepository;
-
     @Mock
     private DishMapper dishMapper;
 
@@ -40,7 +35,7 @@ public class DishHelperImplTest {
         DishResponseDTO dishResponseDTO = TestDataUtil.createTestDishResponseDTO();
         double averageRating = 4.5;
 
-        when(reviewRepository.findAverageRatingByDish_Id(dish.getId())).thenReturn(averageRating);
+        dish.getRatingAggregate().setAverageRating(averageRating);
         when(dishMapper.dishToDishResponseDTO(dish, averageRating)).thenReturn(dishResponseDTO);
 
         // Act
@@ -49,7 +44,6 @@ public class DishHelperImplTest {
         // Assert
         assertNotNull(result);
         assertEquals(dishResponseDTO, result);
-        verify(reviewRepository).findAverageRatingByDish_Id(dish.getId());
         verify(dishMapper).dishToDishResponseDTO(dish, averageRating);
     }
 
@@ -60,7 +54,7 @@ public class DishHelperImplTest {
         DishResponseDTO dishResponseDTO = TestDataUtil.createTestDishResponseDTO();
         double averageRating = 4.5;
 
-        when(reviewRepository.findAverageRatingByDish_Id(dish.getId())).thenReturn(averageRating);
+        dish.getRatingAggregate().setAverageRating(averageRating);
         when(dishMapper.dishToDishResponseDTO(dish, averageRating)).thenReturn(dishResponseDTO);
 
         // Act
@@ -70,7 +64,6 @@ public class DishHelperImplTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(dishResponseDTO, result.getFirst());
-        verify(reviewRepository).findAverageRatingByDish_Id(dish.getId());
         verify(dishMapper).dishToDishResponseDTO(dish, averageRating);
     }
 }
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.TestDataUtil;
+import com.example.foody.exceptions.entity.EntityEditException;
+import com.example.foody.model.user.CustomerUser;
+import com.example.foody.repository.UserRepository;
+import com.example.foody.service.FirebaseService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link FirebaseTokenHelperImpl} class using mock services.
+ */
+@ExtendWith(MockitoExtension.class)
+public class FirebaseTokenHelperImplTest {
+
+    @InjectMocks
+    private FirebaseTokenHelperImpl firebaseTokenHelper;
+
+    @Mock
+    private FirebaseService firebaseService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private static String createTestToken(Instant expiresAt) {
+        String payload = "{\"uid\":\"customer@example.com\",\"exp\":" + expiresAt.getEpochSecond() + "}";
+        return "header."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+
+    @Test
+    void getCustomTokenWhenUserIsNullReturnsNull() {
+        // Act
+        String result = firebaseTokenHelper.getCustomToken(null);
+
+        // Assert
+        assertNull(result);
+        verifyNoInteractions(firebaseService, userRepository);
+    }
+
+    @Test
+    void getCustomTokenWhenStoredTokenIsValidReturnsStoredTokenWithoutFirebaseCall() {
+        // Arrange
+        CustomerUser customer = TestDataUtil.createTestCustomerUser();
+        String storedToken = createTestToken(Instant.now().plus(Duration.ofMinutes(30)));
+        customer.setFirebaseCustomToken(storedToken);
+
+        // Act
+        String result = firebaseTokenHelper.getCustomToken(customer);
+
+        // Assert
+        assertEquals(storedToken, result);
+        verifyNoInteractions(firebaseService, userRepository);
+    }
+
+    @Test
+    void getCustomTokenWhenStoredTokenIsExpiredCreatesAndSavesNewToken() {
+        // Arrange
+        CustomerUser customer = TestDataUtil.createTestCustomerUser();
+        customer.setFirebaseCustomToken(createTestToken(Instant.now().minus(Duration.ofMinutes(1))));
+        String newToken = createTestToken(Instant.now().plus(Duration.ofHours(1)));
+
+        when(firebaseService.createCustomToken(customer.getEmail())).thenReturn(newToken);
+
+        // Act
+        String result = firebaseTokenHelper.getCustomToken(customer);
+
+        // Assert
+        assertEquals(newToken, result);
+        assertEquals(newToken, customer.getFirebaseCustomToken());
+        verify(userRepository).updateFirebaseCustomTokenById(customer.getId(), newToken);
+    }
+
+    @Test
+    void getCustomTokenWhenUserIsManagedSetsNewTokenWithoutBulkUpdate() {
+        // Arrange
+        CustomerUser customer = TestDataUtil.createTestCustomerUser();
+        customer.setFirebaseCustomToken(createTestToken(Instant.now().minus(Duration.ofMinutes(1))));
+        String newToken = createTestToken(Instant.now().plus(Duration.ofHours(1)));
+
+        when(firebaseService.createCustomToken(customer.getEmail())).thenReturn(newToken);
+        when(entityManager.contains(customer)).thenReturn(true);
+
+        // Act
+        String result = firebaseTokenHelper.getCustomToken(customer);
+
+        // Assert
+        assertEquals(newToken, result);
+        assertEquals(newToken, customer.getFirebaseCustomToken());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getCustomTokenWhenStoredTokenIsMalformedCreatesNewToken() {
+        // Arrange
+        CustomerUser customer = TestDataUtil.createTestCustomerUser();
+        String newToken = createTestToken(Instant.now().plus(Duration.ofHours(1)));
+
+        when(firebaseService.createCustomToken(customer.getEmail())).thenReturn(newToken);
+
+        // Act
+        String result = firebaseTokenHelper.getCustomToken(customer);
+
+        // Assert
+        assertEquals(newToken, result);
+        verify(firebaseService).createCustomToken(customer.getEmail());
+    }
+
+    @Test
+    void getCustomTokenWhenTokenIsCachedDoesNotCreateTokenAgain() {
+        // Arrange
+        CustomerUser customer = TestDataUtil.createTestCustomerUser();
+        customer.setFirebaseCustomToken(null);
+        String newToken = createTestToken(Instant.now().plus(Duration.ofHours(1)));
+
+        when(firebaseService.createCustomToken(customer.getEmail())).thenReturn(newToken);
+
+        // Act
+        firebaseTokenHelper.getCustomToken(customer);
+        customer.setFirebaseCustomToken(null);
+        String result = firebaseTokenHelper.getCustomToken(customer);
+
+        // Assert
+        assertEquals(newToken, result);
+        verify(firebaseService, times(1)).createCustomToken(customer.getEmail());
+    }
+
+    @Test
+    void getCustomTokenWhenSaveFailsThrowsEntityEditException() {
+        // Arrange
+        CustomerUser customer = TestDataUtil.createTestCustomerUser();
+        String newToken = createTestToken(Instant.now().plus(Duration.ofHours(1)));
+
+        when(firebaseService.createCustomToken(customer.getEmail())).thenReturn(newToken);
+        doThrow(new RuntimeException()).when(userRepository).updateFirebaseCustomTokenById(customer.getId(), newToken);
+
+        // Act & Assert
+        assertThrows(EntityEditException.class, () -> firebaseTokenHelper.getCustomToken(customer));
+    }
+
+    @Test
+    void refreshExpiringTokensWhenCachedTokenIsAboutToExpireRefreshesToken() {
+        // Arrange
+        CustomerUser customer = TestDataUtil.createTestCustomerUser();
+        customer.setFirebaseCustomToken(createTestToken(Instant.now().plus(Duration.ofMinutes(5))));
+        String newToken = createTestToken(Instant.now().plus(Duration.ofHours(1)));
+        firebaseTokenHelper.getCustomToken(customer);
+
+        when(firebaseService.createCustomToken(customer.getEmail())).thenReturn(newToken);
+
+        // Act
+        firebaseTokenHelper.refreshExpiringTokens();
+        String result = firebaseTokenHelper.getCustomToken(customer);
+
+        // Assert
+        assertEquals(newToken, result);
+        verify(userRepository).updateFirebaseCustomTokenById(customer.getId(), newToken);
+    }
+
+    @Test
+    void refreshExpiringTokensWhenCachedTokenIsNotAboutToExpireDoesNothing() {
+        // Arrange
+        CustomerUser customer = TestDataUtil.createTestCustomerUser();
+        customer.setFirebaseCustomToken(createTestToken(Instant.now().plus(Duration.ofMinutes(30))));
+        firebaseTokenHelper.getCustomToken(customer);
+
+        // Act
+        firebaseTokenHelper.refreshExpiringTokens();
+
+        // Assert
+        verifyNoInteractions(firebaseService, userRepository);
+    }
+
+    @Test
+    void refreshExpiringTokensWhenRefreshFailsKeepsCurrentToken() {
+        // Arrange
+        CustomerUser customer = TestDataUtil.createTestCustomerUser();
+        String storedToken = createTestToken(Instant.now().plus(Duration.ofMinutes(5)));
+        customer.setFirebaseCustomToken(storedToken);
+        firebaseTokenHelper.getCustomToken(customer);
+
+        when(firebaseService.createCustomToken(customer.getEmail())).thenThrow(new RuntimeException());
+
+        // Act
+        firebaseTokenHelper.refreshExpiringTokens();
+        String result = firebaseTokenHelper.getCustomToken(customer);
+
+        // Assert
+        assertEquals(storedToken, result);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.TestDataUtil;
+import com.example.foody.model.Address;
+import com.example.foody.utils.geocoding.CentroidTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link GeocodingHelperImpl} class using the bundled table of the province capitals only.
+ */
+public class GeocodingHelperImplTest {
+
+    private final GeocodingHelperImpl geocodingHelper = new GeocodingHelperImpl(
+            CentroidTable.read(CentroidTable.PROVINCE_CAPITALS_PATH, "/geo/missing.csv")
+    );
+
+    @Test
+    void geocodeWhenPostalCodeIsKnownSetsCentroidOfPostalCode() {
+        // Arrange
+        Address address = TestDataUtil.createTestAddress();
+        address.setPostalCode("20121");
+        address.setProvince("XX");
+
+        // Act
+        geocodingHelper.geocode(address);
+
+        // Assert
+        assertEquals(45.4642, address.getLatitude(), 0.0001);
+        assertEquals(9.19, address.getLongitude(), 0.0001);
+    }
+
+    @Test
+    void geocodeWhenPostalCodeIsUnknownSetsCentroidOfProvince() {
+        // Arrange
+        Address address = TestDataUtil.createTestAddress();
+        address.setPostalCode("20099");
+        address.setProvince("mi");
+
+        // Act
+        geocodingHelper.geocode(address);
+
+        // Assert
+        assertEquals(45.4642, address.getLatitude(), 0.0001);
+        assertEquals(9.19, address.getLongitude(), 0.0001);
+    }
+
+    @Test
+    void geocodeWhenPostalCodeAndProvinceAreUnknownClearsCoordinates() {
+        // Arrange
+        Address address = TestDataUtil.createTestAddress();
+        address.setLatitude(45.0);
+        address.setLongitude(9.0);
+
+        // Act
+        geocodingHelper.geocode(address);
+
+        // Assert
+        assertNull(address.getLatitude());
+        assertNull(address.getLongitude());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.model.DefaultEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link IdSequenceHelperImpl} class using a mock JDBC template.
+ */
+@ExtendWith(MockitoExtension.class)
+public class IdSequenceHelperImplTest {
+
+    @InjectMocks
+    private IdSequenceHelperImpl idSequenceHelper;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void alignSequencesMovesSequencesPastHighestId() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("orders_seq"));
+        when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM orders", Long.class)).thenReturn(120L);
+
+        // Act
+        int aligned = idSequenceHelper.alignSequences();
+
+        // Assert
+        assertEquals(1, aligned);
+        verify(jdbcTemplate).queryForList("SELECT SETVAL(orders_seq, " + (120 + DefaultEntity.ID_ALLOCATION_SIZE) + ")");
+    }
+
+    @Test
+    void alignSequencesWhenTableEmptySkipsSequence() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("orders_seq"));
+        when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM orders", Long.class)).thenReturn(null);
+
+        // Act
+        int aligned = idSequenceHelper.alignSequences();
+
+        // Assert
+        assertEquals(0, aligned);
+        verify(jdbcTemplate, never()).queryForList(startsWith("SELECT SETVAL"));
+    }
+
+    @Test
+    void alignSequencesIgnoresForeignSequences() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("hibernate_sequence"));
+
+        // Act
+        int aligned = idSequenceHelper.alignSequences();
+
+        // Assert
+        assertEquals(0, aligned);
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Long.class));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,246 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.TestDataUtil;
+import com.example.foody.dto.response.OrderResponseDTO;
+import com.example.foody.helper.OrderEventHelper;
+import com.example.foody.mapper.OrderMapper;
+import com.example.foody.model.Order;
+import com.example.foody.repository.OrderRepository;
+import com.example.foody.utils.enums.OrderStatus;
+import com.example.foody.utils.enums.WebSocketTopics;
+import com.example.foody.utils.kitchen_board.KitchenBoard;
+import com.example.foody.utils.kitchen_board.OrderEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link KitchenBoardHelperImpl} class using mock repositories.
+ */
+@ExtendWith(MockitoExtension.class)
+public class KitchenBoardHelperImplTest {
+
+    private static final long RESTAURANT_ID = 1L;
+
+    @InjectMocks
+    private KitchenBoardHelperImpl kitchenBoardHelper;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private OrderEventHelper orderEventHelper;
+
+    private OrderResponseDTO createOrder(long id, OrderStatus status, int minute) {
+        OrderResponseDTO order = TestDataUtil.createTestOrderResponseDTO();
+        order.setId(id);
+        order.setStatus(status.name());
+        order.setCreatedAt(LocalDateTime.of(2021, 1, 1, 12, minute));
+        return order;
+    }
+
+    private void mockBoard(List<OrderResponseDTO> orders) {
+        when(orderMapper.ordersToOrderResponseDTOs(anyList())).thenReturn(orders);
+    }
+
+    @Test
+    void findBoardWhenNotLoadedReturnsEmpty() {
+        // Act & Assert
+        assertTrue(kitchenBoardHelper.findBoard(RESTAURANT_ID).isEmpty());
+    }
+
+    @Test
+    void loadBoardKeepsBoardSortedByMostRecentFirst() {
+        // Arrange
+        mockBoard(List.of(createOrder(1L, OrderStatus.PAID, 0), createOrder(2L, OrderStatus.PREPARING, 5)));
+
+        // Act
+        KitchenBoard board = kitchenBoardHelper.loadBoard(RESTAURANT_ID);
+
+        // Assert
+        assertEquals(0, board.version());
+        assertEquals(List.of(2L, 1L), board.orders().stream().map(OrderResponseDTO::getId).toList());
+        assertEquals(board, kitchenBoardHelper.findBoard(RESTAURANT_ID).orElseThrow());
+    }
+
+    @Test
+    void applyOrderChangeWhenPaidAddsOrderAndQueuesVersionedEvent() {
+        // Arrange
+        mockBoard(List.of(createOrder(1L, OrderStatus.PAID, 0)));
+        kitchenBoardHelper.loadBoard(RESTAURANT_ID);
+        OrderResponseDTO paidOrder = createOrder(2L, OrderStatus.PAID, 5);
+
+        // Act
+        kitchenBoardHelper.applyOrderChange(RESTAURANT_ID, paidOrder);
+
+        // Assert
+        KitchenBoard board = kitchenBoardHelper.findBoard(RESTAURANT_ID).orElseThrow();
+        assertEquals(1, board.version());
+        assertEquals(List.of(2L, 1L), board.orders().stream().map(OrderResponseDTO::getId).toList());
+        verify(orderEventHelper).enqueueAll(
+                WebSocketTopics.TOPIC_ORDERS_PAYED.getName() + RESTAURANT_ID,
+                List.of(OrderEvent.of(paidOrder, 1L))
+        );
+    }
+
+    @Test
+    void applyOrderChangeWhenCompletedRemovesOrder() {
+        // Arrange
+        mockBoard(List.of(createOrder(1L, OrderStatus.PREPARING, 0)));
+        kitchenBoardHelper.loadBoard(RESTAURANT_ID);
+
+        // Act
+        kitchenBoardHelper.applyOrderChange(RESTAURANT_ID, createOrder(1L, OrderStatus.COMPLETED, 0));
+
+        // Assert
+        KitchenBoard board = kitchenBoardHelper.findBoard(RESTAURANT_ID).orElseThrow();
+        assertEquals(1, board.version());
+        assertTrue(board.orders().isEmpty());
+    }
+
+    @Test
+    void applyOrderChangesAppliesAllOrdersAsSingleVersion() {
+        // Arrange
+        mockBoard(List.of(createOrder(1L, OrderStatus.PAID, 0), createOrder(2L, OrderStatus.PAID, 5)));
+        kitchenBoardHelper.loadBoard(RESTAURANT_ID);
+        List<OrderResponseDTO> preparedOrders = List.of(
+                createOrder(1L, OrderStatus.PREPARING, 0),
+                createOrder(2L, OrderStatus.PREPARING, 5)
+        );
+
+        // Act
+        kitchenBoardHelper.applyOrderChanges(RESTAURANT_ID, preparedOrders);
+
+        // Assert
+        KitchenBoard board = kitchenBoardHelper.findBoard(RESTAURANT_ID).orElseThrow();
+        assertEquals(1, board.version());
+        assertTrue(board.orders().stream().allMatch(order -> order.getStatus().equals(OrderStatus.PREPARING.name())));
+        verify(orderEventHelper, times(1)).enqueueAll(
+                WebSocketTopics.TOPIC_ORDERS_PREPARING.getName() + RESTAURANT_ID,
+                preparedOrders.stream().map(order -> OrderEvent.of(order, 1L)).toList()
+        );
+    }
+
+    @Test
+    void applyOrderChangeWhenCreatedDoesNotQueueEvent() {
+        // Act
+        kitchenBoardHelper.applyOrderChange(RESTAURANT_ID, createOrder(1L, OrderStatus.CREATED, 0));
+
+        // Assert
+        verifyNoInteractions(orderEventHelper);
+    }
+
+    @Test
+    void applyOrderChangeWhenTransactionActiveWaitsForCommit() {
+        // Arrange
+        OrderResponseDTO paidOrder = createOrder(1L, OrderStatus.PAID, 0);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            kitchenBoardHelper.applyOrderChange(RESTAURANT_ID, paidOrder);
+            verifyNoInteractions(orderEventHelper);
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCommit());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        verify(orderEventHelper).enqueueAll(
+                WebSocketTopics.TOPIC_ORDERS_PAYED.getName() + RESTAURANT_ID,
+                List.of(OrderEvent.of(paidOrder, 0L))
+        );
+    }
+
+    @Test
+    void loadBoardWhenOrderChangedWhileReadingDoesNotKeepBoard() {
+        // Arrange
+        when(orderMapper.ordersToOrderResponseDTOs(anyList())).thenAnswer(invocation -> {
+            kitchenBoardHelper.applyOrderChange(RESTAURANT_ID, createOrder(2L, OrderStatus.PAID, 5));
+            return List.of(createOrder(1L, OrderStatus.PAID, 0));
+        });
+
+        // Act
+        KitchenBoard board = kitchenBoardHelper.loadBoard(RESTAURANT_ID);
+
+        // Assert
+        assertEquals(1, board.orders().size());
+        assertTrue(kitchenBoardHelper.findBoard(RESTAURANT_ID).isEmpty());
+    }
+
+    @Test
+    void removeBuyerOrdersRemovesInProgressOrdersOfBuyer() {
+        // Arrange
+        mockBoard(List.of(createOrder(1L, OrderStatus.PAID, 0), createOrder(2L, OrderStatus.PREPARING, 5)));
+        kitchenBoardHelper.loadBoard(RESTAURANT_ID);
+        Order order = TestDataUtil.createTestOrder();
+        order.getRestaurant().setId(RESTAURANT_ID);
+
+        when(orderRepository.findAllByBuyer_IdAndStatusIn(
+                order.getBuyer().getId(),
+                List.of(OrderStatus.PAID.name(), OrderStatus.PREPARING.name())
+        )).thenReturn(List.of(order));
+
+        // Act
+        kitchenBoardHelper.removeBuyerOrders(order.getBuyer().getId());
+
+        // Assert
+        KitchenBoard board = kitchenBoardHelper.findBoard(RESTAURANT_ID).orElseThrow();
+        assertEquals(1, board.version());
+        assertEquals(List.of(2L), board.orders().stream().map(OrderResponseDTO::getId).toList());
+    }
+
+    @Test
+    void evictBoardRemovesBoard() {
+        // Arrange
+        mockBoard(List.of(createOrder(1L, OrderStatus.PAID, 0)));
+        kitchenBoardHelper.loadBoard(RESTAURANT_ID);
+
+        // Act
+        kitchenBoardHelper.evictBoard(RESTAURANT_ID);
+
+        // Assert
+        assertTrue(kitchenBoardHelper.findBoard(RESTAURANT_ID).isEmpty());
+    }
+
+    @Test
+    void loadBoardWhenBoardEvictedWhileReadingDoesNotKeepBoard() {
+        // Arrange
+        when(orderMapper.ordersToOrderResponseDTOs(anyList())).thenAnswer(invocation -> {
+            kitchenBoardHelper.evictBoard(RESTAURANT_ID);
+            return List.of(createOrder(1L, OrderStatus.PAID, 0));
+        });
+
+        // Act
+        KitchenBoard board = kitchenBoardHelper.loadBoard(RESTAURANT_ID);
+
+        // Assert
+        assertEquals(1, board.orders().size());
+        assertTrue(kitchenBoardHelper.findBoard(RESTAURANT_ID).isEmpty());
+    }
+
+    @Test
+    void evictIdleBoardsKeepsRecentlyReadBoard() {
+        // Arrange
+        mockBoard(List.of(createOrder(1L, OrderStatus.PAID, 0)));
+        kitchenBoardHelper.loadBoard(RESTAURANT_ID);
+
+        // Act
+        kitchenBoardHelper.evictIdleBoards();
+
+        // Assert
+        assertTrue(kitchenBoardHelper.findBoard(RESTAURANT_ID).isPresent());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,234 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.dto.response.NearbyRestaurantResponseDTO;
+import com.example.foody.helper.SittingTimeCalendarHelper;
+import com.example.foody.repository.RestaurantRepository;
+import com.example.foody.utils.location_index.DistanceCursor;
+import com.example.foody.utils.location_index.RestaurantLocation;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link LocationIndexHelperImpl} class using mock repositories and helpers.
+ */
+@ExtendWith(MockitoExtension.class)
+public class LocationIndexHelperImplTest {
+
+    private static final double LATITUDE = 45.4642;
+    private static final double LONGITUDE = 9.19;
+
+    // Monday
+    private static final LocalDateTime OPEN_AT = LocalDateTime.of(2024, 1, 1, 20, 30);
+
+    @InjectMocks
+    private LocationIndexHelperImpl locationIndexHelper;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private SittingTimeCalendarHelper sittingTimeCalendarHelper;
+
+    private RestaurantLocation createLocation(long id, double latitude, double longitude, Long categoryId) {
+        return new RestaurantLocation(id, "Restaurant " + id, "Milano", latitude, longitude, categoryId);
+    }
+
+    private static double haversineKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double a = Math.pow(Math.sin(Math.toRadians(latitude2 - latitude1) / 2), 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.pow(Math.sin(Math.toRadians(longitude2 - longitude1) / 2), 2);
+        return 2 * 6371.0088 * Math.asin(Math.sqrt(a));
+    }
+
+    private List<Long> ids(List<NearbyRestaurantResponseDTO> restaurants) {
+        return restaurants.stream()
+                .map(NearbyRestaurantResponseDTO::getId)
+                .toList();
+    }
+
+    @Test
+    void findNearestReturnsRestaurantsWithinRadiusOrderedByDistance() {
+        // Arrange
+        when(restaurantRepository.findLocationsByApproved(true)).thenReturn(List.of(
+                createLocation(1L, LATITUDE + 0.05, LONGITUDE, null),
+                createLocation(2L, LATITUDE + 0.01, LONGITUDE, null),
+                createLocation(3L, LATITUDE, LONGITUDE - 0.03, null),
+                createLocation(4L, LATITUDE + 1, LONGITUDE, null)
+        ));
+
+        // Act
+        List<NearbyRestaurantResponseDTO> restaurants = locationIndexHelper
+                .findNearest(LATITUDE, LONGITUDE, 10, null, null, DistanceCursor.FIRST, 10);
+
+        // Assert
+        assertEquals(List.of(2L, 3L, 1L), ids(restaurants));
+        assertEquals(1.11, restaurants.getFirst().getDistanceKm(), 0.01);
+        assertEquals("Restaurant 2", restaurants.getFirst().getName());
+        assertEquals("Milano", restaurants.getFirst().getCity());
+    }
+
+    @Test
+    void findNearestWhenLimitIsReachedReturnsNearestRestaurants() {
+        // Arrange
+        when(restaurantRepository.findLocationsByApproved(true)).thenReturn(List.of(
+                createLocation(1L, LATITUDE + 0.3, LONGITUDE, null),
+                createLocation(2L, LATITUDE - 0.2, LONGITUDE, null),
+                createLocation(3L, LATITUDE, LONGITUDE + 0.01, null)
+        ));
+
+        // Act
+        List<NearbyRestaurantResponseDTO> restaurants = locationIndexHelper
+                .findNearest(LATITUDE, LONGITUDE, 50, null, null, DistanceCursor.FIRST, 2);
+
+        // Assert
+        assertEquals(List.of(3L, 2L), ids(restaurants));
+    }
+
+    @Test
+    void findNearestWhenCursorIsGivenReturnsFollowingRestaurants() {
+        // Arrange
+        when(restaurantRepository.findLocationsByApproved(true)).thenReturn(List.of(
+                createLocation(1L, LATITUDE + 0.01, LONGITUDE, null),
+                createLocation(2L, LATITUDE + 0.01, LONGITUDE, null),
+                createLocation(3L, LATITUDE + 0.02, LONGITUDE, null)
+        ));
+        List<NearbyRestaurantResponseDTO> firstPage = locationIndexHelper
+                .findNearest(LATITUDE, LONGITUDE, 10, null, null, DistanceCursor.FIRST, 1);
+        DistanceCursor cursor = new DistanceCursor(firstPage.getLast().getDistanceKm(), firstPage.getLast().getId());
+
+        // Act
+        List<NearbyRestaurantResponseDTO> secondPage = locationIndexHelper
+                .findNearest(LATITUDE, LONGITUDE, 10, null, null, cursor, 10);
+
+        // Assert
+        assertEquals(List.of(1L), ids(firstPage));
+        assertEquals(List.of(2L, 3L), ids(secondPage));
+        verify(restaurantRepository, times(1)).findLocationsByApproved(true);
+    }
+
+    @Test
+    void findNearestWhenCategoryIsGivenReturnsRestaurantsOfCategory() {
+        // Arrange
+        when(restaurantRepository.findLocationsByApproved(true)).thenReturn(List.of(
+                createLocation(1L, LATITUDE + 0.01, LONGITUDE, 1L),
+                createLocation(1L, LATITUDE + 0.01, LONGITUDE, 2L),
+                createLocation(2L, LATITUDE + 0.02, LONGITUDE, 1L),
+                createLocation(3L, LATITUDE + 0.03, LONGITUDE, null)
+        ));
+
+        // Act
+        List<NearbyRestaurantResponseDTO> restaurants = locationIndexHelper
+                .findNearest(LATITUDE, LONGITUDE, 10, 2L, null, DistanceCursor.FIRST, 10);
+
+        // Assert
+        assertEquals(List.of(1L), ids(restaurants));
+    }
+
+    @Test
+    void findNearestWhenOpenAtIsGivenReturnsRestaurantsInSittingTime() {
+        // Arrange
+        when(restaurantRepository.findLocationsByApproved(true)).thenReturn(List.of(
+                createLocation(1L, LATITUDE + 0.01, LONGITUDE, null),
+                createLocation(2L, LATITUDE + 0.02, LONGITUDE, null),
+                createLocation(3L, LATITUDE + 0.03, LONGITUDE, null)
+        ));
+        when(sittingTimeCalendarHelper.findSlotsStartingBetween(
+                anyList(),
+                eq(1),
+                eq(LocalTime.MIN),
+                eq(LocalTime.of(20, 30))
+        )).thenReturn(Map.of(
+                1L, List.of(new SittingTimeSlot(1L, 1L, 1L, 1, LocalTime.of(19, 0), LocalTime.of(20, 0))),
+                2L, List.of(new SittingTimeSlot(2L, 2L, 2L, 1, LocalTime.of(20, 0), LocalTime.of(21, 0)))
+        ));
+
+        // Act
+        List<NearbyRestaurantResponseDTO> restaurants = locationIndexHelper
+                .findNearest(LATITUDE, LONGITUDE, 10, null, OPEN_AT, DistanceCursor.FIRST, 10);
+
+        // Assert
+        assertEquals(List.of(2L), ids(restaurants));
+    }
+
+    @Test
+    void findNearestReturnsSameRestaurantsAsFullScan() {
+        // Arrange
+        Random random = new Random(42);
+        List<RestaurantLocation> locations = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            locations.add(createLocation(
+                    id,
+                    LATITUDE + (random.nextDouble() - 0.5) * 2,
+                    LONGITUDE + (random.nextDouble() - 0.5) * 2,
+                    null
+            ));
+        }
+        when(restaurantRepository.findLocationsByApproved(true)).thenReturn(locations);
+        double latitude = LATITUDE + 0.123;
+        double longitude = LONGITUDE - 0.456;
+
+        // Act
+        List<NearbyRestaurantResponseDTO> restaurants = locationIndexHelper
+                .findNearest(latitude, longitude, 50, null, null, DistanceCursor.FIRST, 100);
+
+        // Assert
+        List<Long> expected = locations.stream()
+                .sorted(Comparator.comparingDouble(location ->
+                        haversineKm(latitude, longitude, location.latitude(), location.longitude())))
+                .limit(100)
+                .map(RestaurantLocation::restaurantId)
+                .toList();
+        assertEquals(100, restaurants.size());
+        assertEquals(expected, ids(restaurants));
+        for (int i = 1; i < restaurants.size(); i++) {
+            assertTrue(restaurants.get(i - 1).getDistanceKm() <= restaurants.get(i).getDistanceKm());
+        }
+    }
+
+    @Test
+    void findNearestWhenNoRestaurantIsGeocodedReturnsEmptyList() {
+        // Arrange
+        when(restaurantRepository.findLocationsByApproved(true)).thenReturn(List.of());
+
+        // Act
+        List<NearbyRestaurantResponseDTO> restaurants = locationIndexHelper
+                .findNearest(LATITUDE, LONGITUDE, 10, null, null, DistanceCursor.FIRST, 10);
+
+        // Assert
+        assertTrue(restaurants.isEmpty());
+    }
+
+    @Test
+    void evictRestaurantsReadsRestaurantsAgain() {
+        // Arrange
+        when(restaurantRepository.findLocationsByApproved(true))
+                .thenReturn(List.of(createLocation(1L, LATITUDE, LONGITUDE, null)))
+                .thenReturn(List.of());
+        locationIndexHelper.findNearest(LATITUDE, LONGITUDE, 10, null, null, DistanceCursor.FIRST, 10);
+
+        // Act
+        locationIndexHelper.evictRestaurants();
+        List<NearbyRestaurantResponseDTO> restaurants = locationIndexHelper
+                .findNearest(LATITUDE, LONGITUDE, 10, null, null, DistanceCursor.FIRST, 10);
+
+        // Assert
+        assertTrue(restaurants.isEmpty());
+        verify(restaurantRepository, times(2)).findLocationsByApproved(true);
+    }
+}
\ No newline at end of file
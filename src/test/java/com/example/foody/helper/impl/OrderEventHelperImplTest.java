@@ -0,0 +1,105 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.TestDataUtil;
+import com.example.foody.dto.response.OrderResponseDTO;
+import com.example.foody.utils.enums.OrderStatus;
+import com.example.foody.utils.kitchen_board.KitchenBoard;
+import com.example.foody.utils.kitchen_board.OrderEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link OrderEventHelperImpl} class using a mock messaging template.
+ */
+@ExtendWith(MockitoExtension.class)
+public class OrderEventHelperImplTest {
+
+    private static final String DESTINATION = "/topic/orders-payed/1";
+
+    @InjectMocks
+    private OrderEventHelperImpl orderEventHelper;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private OrderEvent createEvent(long orderId, OrderStatus status, long version) {
+        OrderResponseDTO order = TestDataUtil.createTestOrderResponseDTO();
+        order.setId(orderId);
+        order.setStatus(status.name());
+        return OrderEvent.of(order, version);
+    }
+
+    @Test
+    void flushWhenNoEventsQueuedPublishesNothing() {
+        // Act
+        int published = orderEventHelper.flush();
+
+        // Assert
+        assertEquals(0, published);
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void flushPublishesQueuedEventsOfTopicAsSingleMessage() {
+        // Arrange
+        OrderEvent first = createEvent(1L, OrderStatus.PAID, 1L);
+        OrderEvent second = createEvent(2L, OrderStatus.PAID, 2L);
+        orderEventHelper.enqueue(DESTINATION, first);
+        orderEventHelper.enqueue(DESTINATION, second);
+
+        // Act
+        int published = orderEventHelper.flush();
+
+        // Assert
+        assertEquals(1, published);
+        verify(messagingTemplate).convertAndSend(
+                DESTINATION,
+                List.of(first, second),
+                Map.<String, Object>of(KitchenBoard.MESSAGE_VERSION_HEADER, 2L)
+        );
+        assertEquals(0, orderEventHelper.flush());
+    }
+
+    @Test
+    void enqueueWhenOrderAlreadyQueuedKeepsLatestEventOnly() {
+        // Arrange
+        OrderEvent first = createEvent(1L, OrderStatus.PAID, 1L);
+        OrderEvent second = createEvent(2L, OrderStatus.PAID, 2L);
+        OrderEvent replaced = createEvent(1L, OrderStatus.PAID, 3L);
+        orderEventHelper.enqueue(DESTINATION, first);
+        orderEventHelper.enqueue(DESTINATION, second);
+        orderEventHelper.enqueue(DESTINATION, replaced);
+
+        // Act
+        orderEventHelper.flush();
+
+        // Assert
+        verify(messagingTemplate).convertAndSend(
+                DESTINATION,
+                List.of(second, replaced),
+                Map.<String, Object>of(KitchenBoard.MESSAGE_VERSION_HEADER, 3L)
+        );
+    }
+
+    @Test
+    void ofWhenOrderNotPaidOmitsOrderDetails() {
+        // Act
+        OrderEvent event = createEvent(1L, OrderStatus.PREPARING, 4L);
+
+        // Assert
+        assertEquals(1L, event.orderId());
+        assertEquals(OrderStatus.PREPARING.name(), event.status());
+        assertNull(event.tableCode());
+        assertNull(event.lines());
+    }
+}
\ No newline at end of file
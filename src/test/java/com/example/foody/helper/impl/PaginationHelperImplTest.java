@@ -0,0 +1,112 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.dto.response.PageResponseDTO;
+import com.example.foody.utils.pagination.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test class for {@link PaginationHelperImpl} class using mock services.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PaginationHelperImplTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private static final Function<Long, KeysetCursor> CURSOR_OF = id -> new KeysetCursor(CREATED_AT, id);
+    private static final Function<List<Long>, List<String>> DTOS_BUILDER = ids -> ids.stream()
+            .map(String::valueOf)
+            .toList();
+
+    @InjectMocks
+    private PaginationHelperImpl paginationHelper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Test
+    void getPageSizeWhenSizeIsNotPositiveReturnsDefaultPageSize() {
+        // Act
+        int pageSize = paginationHelper.getPageSize(0);
+
+        // Assert
+        assertEquals(PageResponseDTO.QueryResultLimits.DEFAULT_PAGE_SIZE, pageSize);
+    }
+
+    @Test
+    void getPageSizeWhenSizeExceedsMaximumReturnsMaximumPageSize() {
+        // Act
+        int pageSize = paginationHelper.getPageSize(PageResponseDTO.QueryResultLimits.MAX_PAGE_SIZE + 1);
+
+        // Assert
+        assertEquals(PageResponseDTO.QueryResultLimits.MAX_PAGE_SIZE, pageSize);
+    }
+
+    @Test
+    void buildPageResponseDTOWhenExtraEntityFetchedReturnsPageWithNextCursor() {
+        // Arrange
+        List<Long> entities = List.of(5L, 4L, 3L);
+
+        // Act
+        PageResponseDTO<String> page = paginationHelper.buildPageResponseDTO(entities, 2, CURSOR_OF, DTOS_BUILDER);
+
+        // Assert
+        assertEquals(List.of("5", "4"), page.getContent());
+        assertTrue(page.isHasNext());
+        assertEquals(new KeysetCursor(CREATED_AT, 4L), KeysetCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void buildPageResponseDTOWhenNoExtraEntityFetchedReturnsLastPage() {
+        // Arrange
+        List<Long> entities = List.of(2L, 1L);
+
+        // Act
+        PageResponseDTO<String> page = paginationHelper.buildPageResponseDTO(entities, 2, CURSOR_OF, DTOS_BUILDER);
+
+        // Assert
+        assertEquals(List.of("2", "1"), page.getContent());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void streamInBatchesWhenStreamHasMultipleBatchesConsumesAllDtosAndClearsEachBatch() {
+        // Arrange
+        int batchSize = PageResponseDTO.QueryResultLimits.STREAM_BATCH_SIZE;
+        List<String> consumed = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        Stream<Long> entities = LongStream.rangeClosed(1, batchSize * 2L + 1).boxed();
+
+        // Act
+        paginationHelper.streamInBatches(
+                entities,
+                batch -> {
+                    batchSizes.add(batch.size());
+                    return DTOS_BUILDER.apply(batch);
+                },
+                consumed::add
+        );
+
+        // Assert
+        assertEquals(batchSize * 2 + 1, consumed.size());
+        assertEquals(IntStream.rangeClosed(1, batchSize * 2 + 1).mapToObj(String::valueOf).toList(), consumed);
+        assertEquals(List.of(batchSize, batchSize, 1), batchSizes);
+        verify(entityManager, times(3)).clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.TestDataUtil;
+import com.example.foody.model.Dish;
+import com.example.foody.model.Restaurant;
+import com.example.foody.model.Review;
+import com.example.foody.repository.DishRepository;
+import com.example.foody.repository.RestaurantRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link RatingAggregateHelperImpl} class using mock repositories.
+ */
+@ExtendWith(MockitoExtension.class)
+public class RatingAggregateHelperImplTest {
+
+    @InjectMocks
+    private RatingAggregateHelperImpl ratingAggregateHelper;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private DishRepository dishRepository;
+
+    @Test
+    void addReviewWhenDishReviewAddsRatingToRestaurantAndDish() {
+        // Arrange
+        Review review = createReview(4, TestDataUtil.createTestDish());
+
+        // Act
+        ratingAggregateHelper.addReview(review);
+
+        // Assert
+        verify(restaurantRepository).addRatings(review.getRestaurant().getId(), 4, 1);
+        verify(dishRepository).addRatings(review.getDish().getId(), 4, 1);
+    }
+
+    @Test
+    void addReviewWhenRestaurantReviewAddsRatingToRestaurantOnly() {
+        // Arrange
+        Review review = createReview(2, null);
+
+        // Act
+        ratingAggregateHelper.addReview(review);
+
+        // Assert
+        verify(restaurantRepository).addRatings(review.getRestaurant().getId(), 2, 1);
+        verifyNoInteractions(dishRepository);
+    }
+
+    @Test
+    void removeReviewWhenDishReviewRemovesRatingFromRestaurantAndDish() {
+        // Arrange
+        Review review = createReview(5, TestDataUtil.createTestDish());
+
+        // Act
+        ratingAggregateHelper.removeReview(review);
+
+        // Assert
+        verify(restaurantRepository).addRatings(review.getRestaurant().getId(), 5, -1);
+        verify(dishRepository).addRatings(review.getDish().getId(), 5, -1);
+    }
+
+    @Test
+    void removeDishReviewsRemovesRatingsFromRestaurant() {
+        // Act
+        ratingAggregateHelper.removeDishReviews(1L);
+
+        // Assert
+        verify(restaurantRepository).removeRatingsByDish_Id(1L);
+        verifyNoInteractions(dishRepository);
+    }
+
+    @Test
+    void removeCustomerReviewsRemovesRatingsFromRestaurantsAndDishes() {
+        // Act
+        ratingAggregateHelper.removeCustomerReviews(1L);
+
+        // Assert
+        verify(restaurantRepository).removeRatingsByCustomer_Id(1L);
+        verify(dishRepository).removeRatingsByCustomer_Id(1L);
+    }
+
+    @Test
+    void reconcileReturnsNumberOfCorrectedRestaurantsAndDishes() {
+        // Arrange
+        when(restaurantRepository.reconcileRatingAggregates()).thenReturn(2);
+        when(dishRepository.reconcileRatingAggregates()).thenReturn(3);
+
+        // Act
+        int result = ratingAggregateHelper.reconcile();
+
+        // Assert
+        assertEquals(5, result);
+    }
+
+    private Review createReview(int rating, Dish dish) {
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        Review review = TestDataUtil.createTestReview();
+        review.setRating(rating);
+        review.setRestaurant(restaurant);
+        review.setDish(dish);
+        return review;
+    }
+}
\ No newline at end of file
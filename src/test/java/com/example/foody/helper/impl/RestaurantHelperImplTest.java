@@ -2,14 +2,14 @@ package com.example.foody.helper.impl;
 
 import com.example.foody.TestDataUtil;
 import com.example.foody.dto.response.DetailedRestaurantResponseDTO;
+import com.example.foody.helper.SittingTimeCalendarHelper;
 import com.example.foody.mapper.RestaurantMapper;
 import com.example.foody.model.Dish;
 import com.example.foody.model.Restaurant;
 import com.example.foody.model.Review;
-import com.example.foody.model.SittingTime;
 import com.example.foody.repository.DishRepository;
 import com.example.foody.repository.ReviewRepository;
-import com.example.foody.repository.SittingTimeRepository;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -17,13 +17,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 /**
  * Test class for {@link RestaurantHelperImpl} class using mock services.
@@ -38,7 +43,7 @@ public class RestaurantHelperImplTest {
     private ReviewRepository reviewRepository;
 
     @Mock
-    private SittingTimeRepository sittingTimeRepository;
+    private SittingTimeCalendarHelper sittingTimeCalendarHelper;
 
     @Mock
     private DishRepository dishRepository;
@@ -51,15 +56,16 @@ public class RestaurantHelperImplTest {
         // Arrange
         Restaurant restaurant = TestDataUtil.createTestRestaurant();
         double averageRating = 4.5;
-        List<SittingTime> sittingTimes = List.of(TestDataUtil.createTestSittingTime());
+        List<SittingTimeSlot> sittingTimes = List.of(TestDataUtil.createTestSittingTimeSlot());
         List<Dish> dishes = List.of(TestDataUtil.createTestDish());
         List<Review> reviews = List.of(TestDataUtil.createTestReview());
         DetailedRestaurantResponseDTO expectedResponseDTO = TestDataUtil.createTestDetailedRestaurantResponseDTO();
 
-        when(reviewRepository.findAverageRatingByRestaurant_Id(restaurant.getId())).thenReturn(averageRating);
-        when(sittingTimeRepository.findAllByRestaurant_IdAndWeekDayAndStartAfterNowOrderByStartLimit(
-                restaurant.getId(), LocalDateTime.now().getDayOfWeek().getValue(), DetailedRestaurantResponseDTO.QueryResultLimits.SITTING_TIMES_LIMIT))
-                .thenReturn(sittingTimes);
+        restaurant.getRatingAggregate().setAverageRating(averageRating);
+        when(sittingTimeCalendarHelper.findSlotsStartingAfter(
+                eq(List.of(restaurant.getId())), eq(LocalDateTime.now().getDayOfWeek().getValue()), any(LocalTime.class),
+                eq(DetailedRestaurantResponseDTO.QueryResultLimits.SITTING_TIMES_LIMIT)))
+                .thenReturn(Map.of(restaurant.getId(), sittingTimes));
         when(dishRepository.findAllByRestaurant_IdOrderByAverageRatingDescLimit(
                 restaurant.getId(), DetailedRestaurantResponseDTO.QueryResultLimits.DISHES_LIMIT))
                 .thenReturn(dishes);
@@ -75,9 +81,6 @@ public class RestaurantHelperImplTest {
         // Assert
         assertNotNull(result);
         assertEquals(expectedResponseDTO, result);
-        verify(reviewRepository).findAverageRatingByRestaurant_Id(restaurant.getId());
-        verify(sittingTimeRepository).findAllByRestaurant_IdAndWeekDayAndStartAfterNowOrderByStartLimit(
-                restaurant.getId(), LocalDateTime.now().getDayOfWeek().getValue(), DetailedRestaurantResponseDTO.QueryResultLimits.SITTING_TIMES_LIMIT);
         verify(dishRepository).findAllByRestaurant_IdOrderByAverageRatingDescLimit(
                 restaurant.getId(), DetailedRestaurantResponseDTO.QueryResultLimits.DISHES_LIMIT);
         verify(reviewRepository).findAllByRestaurant_IdOrderByCreated_AtDescLimit(
@@ -89,23 +92,34 @@ public class RestaurantHelperImplTest {
     void buildDetailedRestaurantResponseDTOsWhenValidReturnsListOfDetailedRestaurantResponseDTO() {
         // Arrange
         Restaurant restaurant = TestDataUtil.createTestRestaurant();
-        double averageRating = 4.5;
-        List<SittingTime> sittingTimes = List.of(TestDataUtil.createTestSittingTime());
-        List<Dish> dishes = List.of(TestDataUtil.createTestDish());
-        List<Review> reviews = List.of(TestDataUtil.createTestReview());
+        List<Long> restaurantIds = List.of(restaurant.getId());
+        SittingTimeSlot sittingTime = TestDataUtil.createTestSittingTimeSlot();
+        Dish dish = TestDataUtil.createTestDish();
+        Dish bestDish = TestDataUtil.createTestDish();
+        Review review = TestDataUtil.createTestReview();
         DetailedRestaurantResponseDTO expectedResponseDTO = TestDataUtil.createTestDetailedRestaurantResponseDTO();
 
-        when(reviewRepository.findAverageRatingByRestaurant_Id(restaurant.getId())).thenReturn(averageRating);
-        when(sittingTimeRepository.findAllByRestaurant_IdAndWeekDayAndStartAfterNowOrderByStartLimit(
-                restaurant.getId(), LocalDateTime.now().getDayOfWeek().getValue(), DetailedRestaurantResponseDTO.QueryResultLimits.SITTING_TIMES_LIMIT))
-                .thenReturn(sittingTimes);
-        when(dishRepository.findAllByRestaurant_IdOrderByAverageRatingDescLimit(
-                restaurant.getId(), DetailedRestaurantResponseDTO.QueryResultLimits.DISHES_LIMIT))
-                .thenReturn(dishes);
-        when(reviewRepository.findAllByRestaurant_IdOrderByCreated_AtDescLimit(
-                restaurant.getId(), DetailedRestaurantResponseDTO.QueryResultLimits.REVIEWS_LIMIT))
-                .thenReturn(reviews);
-        when(restaurantMapper.restaurantToDetailedRestaurantResponseDTO(restaurant, averageRating, sittingTimes, dishes, reviews))
+        restaurant.getRatingAggregate().setAverageRating(4.5);
+        dish.getRatingAggregate().setAverageRating(4.0);
+        bestDish.setId(dish.getId() + 1);
+        bestDish.getRatingAggregate().setAverageRating(5.0);
+
+        when(sittingTimeCalendarHelper.findSlotsStartingAfter(
+                eq(restaurantIds), eq(LocalDateTime.now().getDayOfWeek().getValue()), any(LocalTime.class),
+                eq(DetailedRestaurantResponseDTO.QueryResultLimits.SITTING_TIMES_LIMIT)))
+                .thenReturn(Map.of(restaurant.getId(), List.of(sittingTime)));
+        when(dishRepository.findIdsByRestaurant_IdInOrderByAverageRatingDescLimit(
+                restaurantIds, DetailedRestaurantResponseDTO.QueryResultLimits.DISHES_LIMIT))
+                .thenReturn(List.of(bestDish.getId(), dish.getId()));
+        when(dishRepository.findAllById(List.of(bestDish.getId(), dish.getId())))
+                .thenReturn(List.of(dish, bestDish));
+        when(reviewRepository.findIdsByRestaurant_IdInOrderByCreated_AtDescLimit(
+                restaurantIds, DetailedRestaurantResponseDTO.QueryResultLimits.REVIEWS_LIMIT))
+                .thenReturn(List.of(review.getId()));
+        when(reviewRepository.findAllByIdInOrderByCreatedAtDesc(List.of(review.getId())))
+                .thenReturn(List.of(review));
+        when(restaurantMapper.restaurantToDetailedRestaurantResponseDTO(
+                restaurant, 4.5, List.of(sittingTime), List.of(bestDish, dish), List.of(review)))
                 .thenReturn(expectedResponseDTO);
 
         // Act
@@ -115,5 +129,47 @@ public class RestaurantHelperImplTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(expectedResponseDTO, result.get(0));
+        verify(dishRepository, never()).findAllByRestaurant_IdOrderByAverageRatingDescLimit(anyLong(), anyInt());
+        verify(reviewRepository, never()).findAllByRestaurant_IdOrderByCreated_AtDescLimit(anyLong(), anyInt());
+    }
+
+    @Test
+    void buildDetailedRestaurantResponseDTOsWhenNoChildrenReturnsDTOsWithoutFetchingChildren() {
+        // Arrange
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        List<Long> restaurantIds = List.of(restaurant.getId());
+        DetailedRestaurantResponseDTO expectedResponseDTO = TestDataUtil.createTestDetailedRestaurantResponseDTO();
+
+        when(sittingTimeCalendarHelper.findSlotsStartingAfter(
+                eq(restaurantIds), eq(LocalDateTime.now().getDayOfWeek().getValue()), any(LocalTime.class),
+                eq(DetailedRestaurantResponseDTO.QueryResultLimits.SITTING_TIMES_LIMIT)))
+                .thenReturn(Map.of());
+        when(dishRepository.findIdsByRestaurant_IdInOrderByAverageRatingDescLimit(
+                restaurantIds, DetailedRestaurantResponseDTO.QueryResultLimits.DISHES_LIMIT))
+                .thenReturn(List.of());
+        when(reviewRepository.findIdsByRestaurant_IdInOrderByCreated_AtDescLimit(
+                restaurantIds, DetailedRestaurantResponseDTO.QueryResultLimits.REVIEWS_LIMIT))
+                .thenReturn(List.of());
+        when(restaurantMapper.restaurantToDetailedRestaurantResponseDTO(
+                restaurant, 0.0, List.of(), List.of(), List.of()))
+                .thenReturn(expectedResponseDTO);
+
+        // Act
+        List<DetailedRestaurantResponseDTO> result = restaurantHelperImpl.buildDetailedRestaurantResponseDTOs(List.of(restaurant));
+
+        // Assert
+        assertEquals(List.of(expectedResponseDTO), result);
+        verify(dishRepository, never()).findAllById(any());
+        verify(reviewRepository, never()).findAllByIdInOrderByCreatedAtDesc(any());
+    }
+
+    @Test
+    void buildDetailedRestaurantResponseDTOsWhenEmptyReturnsEmptyList() {
+        // Act
+        List<DetailedRestaurantResponseDTO> result = restaurantHelperImpl.buildDetailedRestaurantResponseDTOs(List.of());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(reviewRepository, sittingTimeCalendarHelper, dishRepository, restaurantMapper);
     }
 }
\ No newline at end of file
@@ -0,0 +1,284 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.TestDataUtil;
+import com.example.foody.dto.response.SearchResultResponseDTO;
+import com.example.foody.model.Category;
+import com.example.foody.model.Dish;
+import com.example.foody.model.Restaurant;
+import com.example.foody.repository.CategoryRepository;
+import com.example.foody.repository.DishRepository;
+import com.example.foody.repository.RestaurantRepository;
+import com.example.foody.utils.enums.SearchDocumentType;
+import com.example.foody.utils.search_index.SearchableDish;
+import com.example.foody.utils.search_index.SearchableRestaurant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link SearchIndexHelperImpl} class using mock repositories and an index in a temporary directory.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SearchIndexHelperImplTest {
+
+    @TempDir
+    private Path indexDirectory;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private DishRepository dishRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private SearchIndexHelperImpl searchIndexHelper;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndexHelper = openIndex();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndexHelper.close();
+    }
+
+    private SearchIndexHelperImpl openIndex() throws IOException {
+        return new SearchIndexHelperImpl(
+                restaurantRepository,
+                dishRepository,
+                categoryRepository,
+                indexDirectory.toString()
+        );
+    }
+
+    private Restaurant createApprovedRestaurant() {
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        restaurant.setName("Da Mario");
+        restaurant.setDescription("Trattoria con forno a legna");
+        restaurant.getAddress().setCity("Napoli");
+        restaurant.setApproved(true);
+        restaurant.getDishes().add(createDish(restaurant, 1L, "Pizza Margherita", "Pomodoro, mozzarella e basilico"));
+        restaurant.getDishes().add(createDish(restaurant, 2L, "Cheeseburgers", "Grilled beef with melted cheese"));
+        return restaurant;
+    }
+
+    private Dish createDish(Restaurant restaurant, long id, String name, String description) {
+        Dish dish = TestDataUtil.createTestDish();
+        dish.setId(id);
+        dish.setName(name);
+        dish.setDescription(description);
+        dish.setRestaurant(restaurant);
+        return dish;
+    }
+
+    private List<String> search(String text, SearchDocumentType type) {
+        return searchIndexHelper.search(text, type, 10)
+                .stream()
+                .map(result -> result.getType() + ":" + result.getId())
+                .toList();
+    }
+
+    @Test
+    void indexRestaurantIndexesRestaurantAndDishesWithStemsAndPrefixes() {
+        // Arrange
+        searchIndexHelper.indexRestaurant(createApprovedRestaurant());
+
+        // Act & Assert
+        assertEquals(List.of("RESTAURANT:1"), search("mario", null));
+        assertEquals(List.of("RESTAURANT:1"), search("napoli", null));
+        assertEquals(List.of("DISH:1"), search("margherite", null));
+        assertEquals(List.of("DISH:1"), search("Pizza marg", null));
+        assertEquals(List.of("DISH:2"), search("cheeseburger", null));
+        assertTrue(search("sushi", null).isEmpty());
+    }
+
+    @Test
+    void searchReturnsStoredFieldsOfResults() {
+        // Arrange
+        searchIndexHelper.indexRestaurant(createApprovedRestaurant());
+
+        // Act
+        List<SearchResultResponseDTO> results = searchIndexHelper.search("margherita", null, 10);
+
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals(SearchDocumentType.DISH.name(), results.get(0).getType());
+        assertEquals(1L, results.get(0).getId());
+        assertEquals(1L, results.get(0).getRestaurantId());
+        assertEquals("Pizza Margherita", results.get(0).getName());
+    }
+
+    @Test
+    void searchRanksNameMatchesFirstAndFiltersByType() {
+        // Arrange
+        Restaurant restaurant = createApprovedRestaurant();
+        restaurant.getDishes().add(createDish(restaurant, 3L, "Focaccia", "Impasto della pizza con olio"));
+        searchIndexHelper.indexRestaurant(restaurant);
+
+        // Act & Assert
+        assertEquals(List.of("DISH:1", "DISH:3"), search("pizza", null));
+        assertTrue(search("pizza", SearchDocumentType.RESTAURANT).isEmpty());
+    }
+
+    @Test
+    void searchDoesNotRequireStopWordsOrShortLastWord() {
+        // Arrange
+        searchIndexHelper.indexRestaurant(createApprovedRestaurant());
+
+        // Act & Assert
+        assertEquals(List.of("RESTAURANT:1"), search("trattoria la", null));
+        assertEquals(List.of("DISH:1"), search("margherita p", null));
+    }
+
+    @Test
+    void indexRestaurantWhenNotApprovedRemovesRestaurantAndDishes() {
+        // Arrange
+        Restaurant restaurant = createApprovedRestaurant();
+        searchIndexHelper.indexRestaurant(restaurant);
+        restaurant.setApproved(false);
+
+        // Act
+        searchIndexHelper.indexRestaurant(restaurant);
+
+        // Assert
+        assertTrue(search("mario", null).isEmpty());
+        assertTrue(search("pizza", null).isEmpty());
+    }
+
+    @Test
+    void removeRestaurantAndRemoveDishRemoveThemFromIndex() {
+        // Arrange
+        Restaurant restaurant = createApprovedRestaurant();
+        searchIndexHelper.indexRestaurant(restaurant);
+
+        // Act
+        searchIndexHelper.removeDish(2L);
+        List<String> afterDishRemoval = search("cheeseburger", null);
+        searchIndexHelper.removeRestaurant(restaurant.getId());
+
+        // Assert
+        assertTrue(afterDishRemoval.isEmpty());
+        assertTrue(search("pizza", null).isEmpty());
+        assertTrue(search("mario", null).isEmpty());
+    }
+
+    @Test
+    void indexDishWhenRestaurantIsNotApprovedDoesNotIndexDish() {
+        // Arrange
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+
+        // Act
+        searchIndexHelper.indexDish(createDish(restaurant, 1L, "Lasagne", "Al forno"));
+
+        // Assert
+        assertTrue(search("lasagne", null).isEmpty());
+    }
+
+    @Test
+    void indexCategoryAndRemoveCategoryChangeIndex() {
+        // Arrange
+        Category category = TestDataUtil.createTestCategory();
+        category.setName("Pizzeria");
+
+        // Act
+        searchIndexHelper.indexCategory(category);
+        List<String> afterIndexing = search("pizzerie", SearchDocumentType.CATEGORY);
+        searchIndexHelper.removeCategory(category.getId());
+
+        // Assert
+        assertEquals(List.of("CATEGORY:1"), afterIndexing);
+        assertTrue(search("pizzeria", null).isEmpty());
+    }
+
+    @Test
+    void indexDishWhenTransactionActiveWaitsForCommit() {
+        // Arrange
+        Restaurant restaurant = createApprovedRestaurant();
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            searchIndexHelper.indexDish(restaurant.getDishes().get(0));
+            assertTrue(search("pizza", null).isEmpty());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertEquals(List.of("DISH:1"), search("pizza", null));
+    }
+
+    @Test
+    void initializeIndexWhenIndexIsMissingRebuildsItFromDatabase() {
+        // Arrange
+        when(categoryRepository.findAll()).thenReturn(List.of(TestDataUtil.createTestCategory()));
+        when(restaurantRepository.findSearchableByApproved(true))
+                .thenReturn(List.of(new SearchableRestaurant(1L, "Da Mario", "Trattoria", "Napoli")));
+        when(dishRepository.streamSearchableByRestaurant_Approved(true))
+                .thenReturn(Stream.of(new SearchableDish(1L, 1L, "Pizza Margherita", "Pomodoro e mozzarella")));
+
+        // Act
+        searchIndexHelper.initializeIndex();
+
+        // Assert
+        assertEquals(List.of("CATEGORY:1"), search("category", null));
+        assertEquals(List.of("RESTAURANT:1"), search("napoli", null));
+        assertEquals(List.of("DISH:1"), search("pizza", null));
+    }
+
+    @Test
+    void initializeIndexWhenIndexWasBuiltDoesNotReadDatabaseAgain() throws IOException {
+        // Arrange
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(restaurantRepository.findSearchableByApproved(true)).thenReturn(List.of());
+        when(dishRepository.streamSearchableByRestaurant_Approved(true)).thenReturn(Stream.of());
+        searchIndexHelper.initializeIndex();
+        searchIndexHelper.indexRestaurant(createApprovedRestaurant());
+        searchIndexHelper.close();
+        clearInvocations(categoryRepository, restaurantRepository, dishRepository);
+
+        // Act
+        searchIndexHelper = openIndex();
+        searchIndexHelper.initializeIndex();
+
+        // Assert
+        assertEquals(List.of("DISH:1"), search("pizza", null));
+        verifyNoInteractions(categoryRepository, restaurantRepository, dishRepository);
+    }
+
+    @Test
+    void initializeIndexKeepsChangesAppliedWhileRebuilding() {
+        // Arrange
+        Category category = TestDataUtil.createTestCategory();
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(restaurantRepository.findSearchableByApproved(true)).thenReturn(List.of());
+        when(dishRepository.streamSearchableByRestaurant_Approved(true)).thenAnswer(invocation -> {
+            searchIndexHelper.indexCategory(category);
+            return Stream.of();
+        });
+
+        // Act
+        searchIndexHelper.initializeIndex();
+
+        // Assert
+        assertEquals(List.of("CATEGORY:1"), search("category", null));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.TestDataUtil;
+import com.example.foody.helper.AvailabilityIndexHelper;
+import com.example.foody.model.Booking;
+import com.example.foody.model.seat_ledger.SeatLedgerEntry;
+import com.example.foody.model.seat_ledger.SeatLedgerKey;
+import com.example.foody.repository.SeatLedgerRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link SeatLedgerHelperImpl} class using mock services.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SeatLedgerHelperImplTest {
+
+    @InjectMocks
+    private SeatLedgerHelperImpl seatLedgerHelper;
+
+    @Mock
+    private SeatLedgerRepository seatLedgerRepository;
+
+    @Mock
+    private AvailabilityIndexHelper availabilityIndexHelper;
+
+    @Test
+    void reserveSeatsWhenEntryHasEnoughSeatsReturnsTrue() {
+        // Arrange
+        Booking booking = TestDataUtil.createTestBooking();
+        when(seatLedgerRepository.reserveSeats(1L, booking.getDate(), 1L, booking.getSeats(), booking.getRestaurant().getSeats()))
+                .thenReturn(1);
+
+        // Act
+        boolean reserved = seatLedgerHelper.reserveSeats(booking);
+
+        // Assert
+        assertTrue(reserved);
+        verify(seatLedgerRepository, never()).insertIgnoreFromBookings(anyLong(), any(), anyLong());
+        verify(availabilityIndexHelper, times(1)).addBookedSeats(booking.getDate(), 1L, booking.getSeats());
+    }
+
+    @Test
+    void reserveSeatsWhenEntryIsFullReturnsFalse() {
+        // Arrange
+        Booking booking = TestDataUtil.createTestBooking();
+        when(seatLedgerRepository.reserveSeats(1L, booking.getDate(), 1L, booking.getSeats(), booking.getRestaurant().getSeats()))
+                .thenReturn(0);
+        when(seatLedgerRepository.existsById(new SeatLedgerKey(1L, booking.getDate(), 1L))).thenReturn(true);
+
+        // Act
+        boolean reserved = seatLedgerHelper.reserveSeats(booking);
+
+        // Assert
+        assertFalse(reserved);
+        verify(seatLedgerRepository, never()).insertIgnoreFromBookings(anyLong(), any(), anyLong());
+        verifyNoInteractions(availabilityIndexHelper);
+    }
+
+    @Test
+    void reserveSeatsWhenEntryDoesNotExistCreatesItAndRetries() {
+        // Arrange
+        Booking booking = TestDataUtil.createTestBooking();
+        when(seatLedgerRepository.reserveSeats(1L, booking.getDate(), 1L, booking.getSeats(), booking.getRestaurant().getSeats()))
+                .thenReturn(0, 1);
+        when(seatLedgerRepository.existsById(new SeatLedgerKey(1L, booking.getDate(), 1L))).thenReturn(false);
+
+        // Act
+        boolean reserved = seatLedgerHelper.reserveSeats(booking);
+
+        // Assert
+        assertTrue(reserved);
+        verify(seatLedgerRepository, times(1)).insertIgnoreFromBookings(1L, booking.getDate(), 1L);
+        verify(availabilityIndexHelper, times(1)).evictDate(booking.getDate());
+        verify(availabilityIndexHelper, never()).addBookedSeats(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void releaseSeatsReleasesSeatsOfBooking() {
+        // Arrange
+        Booking booking = TestDataUtil.createTestBooking();
+        when(seatLedgerRepository.releaseSeats(1L, booking.getDate(), 1L, booking.getSeats())).thenReturn(1);
+
+        // Act
+        seatLedgerHelper.releaseSeats(booking);
+
+        // Assert
+        verify(seatLedgerRepository, times(1)).releaseSeats(1L, booking.getDate(), 1L, booking.getSeats());
+        verify(availabilityIndexHelper, times(1)).addBookedSeats(booking.getDate(), 1L, -booking.getSeats());
+    }
+
+    @Test
+    void releaseSeatsWhenEntryDoesNotExistDoesNotChangeIndex() {
+        // Arrange
+        Booking booking = TestDataUtil.createTestBooking();
+        when(seatLedgerRepository.releaseSeats(1L, booking.getDate(), 1L, booking.getSeats())).thenReturn(0);
+
+        // Act
+        seatLedgerHelper.releaseSeats(booking);
+
+        // Assert
+        verifyNoInteractions(availabilityIndexHelper);
+    }
+
+    @Test
+    void findBookedSeatsGroupsEntriesByDateAndSittingTime() {
+        // Arrange
+        LocalDate from = LocalDate.of(2040, 1, 1);
+        LocalDate to = from.plusDays(13);
+        when(seatLedgerRepository.findAllById_RestaurantIdAndId_DateBetween(1L, from, to)).thenReturn(List.of(
+                new SeatLedgerEntry(new SeatLedgerKey(1L, from, 1L), 4),
+                new SeatLedgerEntry(new SeatLedgerKey(1L, from, 2L), 6),
+                new SeatLedgerEntry(new SeatLedgerKey(1L, to, 1L), 2)
+        ));
+
+        // Act
+        Map<LocalDate, Map<Long, Integer>> bookedSeats = seatLedgerHelper.findBookedSeats(1L, from, to);
+
+        // Assert
+        assertEquals(Map.of(1L, 4, 2L, 6), bookedSeats.get(from));
+        assertEquals(Map.of(1L, 2), bookedSeats.get(to));
+    }
+}
\ No newline at end of file
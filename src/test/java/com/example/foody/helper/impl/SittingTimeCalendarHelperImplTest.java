@@ -0,0 +1,169 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.repository.SittingTimeRepository;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link SittingTimeCalendarHelperImpl} class using mock repositories.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SittingTimeCalendarHelperImplTest {
+
+    private static final long RESTAURANT_ID = 1L;
+
+    @InjectMocks
+    private SittingTimeCalendarHelperImpl sittingTimeCalendarHelper;
+
+    @Mock
+    private SittingTimeRepository sittingTimeRepository;
+
+    private SittingTimeSlot createSlot(long id, long restaurantId, int weekDay, int hour) {
+        return new SittingTimeSlot(id, restaurantId, weekDay, weekDay, LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0));
+    }
+
+    @Test
+    void findSlotsReturnsSlotsOrderedByWeekDayAndStartReadingThemOnce() {
+        // Arrange
+        SittingTimeSlot mondayDinner = createSlot(1L, RESTAURANT_ID, 1, 20);
+        SittingTimeSlot mondayLunch = createSlot(2L, RESTAURANT_ID, 1, 12);
+        SittingTimeSlot sunday = createSlot(3L, RESTAURANT_ID, 7, 12);
+        when(sittingTimeRepository.findSlotsByRestaurant_IdIn(List.of(RESTAURANT_ID)))
+                .thenReturn(List.of(sunday, mondayDinner, mondayLunch));
+
+        // Act
+        List<SittingTimeSlot> slots = sittingTimeCalendarHelper.findSlots(RESTAURANT_ID);
+        List<SittingTimeSlot> mondaySlots = sittingTimeCalendarHelper.findSlots(RESTAURANT_ID, 1);
+
+        // Assert
+        assertEquals(List.of(mondayLunch, mondayDinner, sunday), slots);
+        assertEquals(List.of(mondayLunch, mondayDinner), mondaySlots);
+        verify(sittingTimeRepository, times(1)).findSlotsByRestaurant_IdIn(anyList());
+    }
+
+    @Test
+    void findSlotsWhenWeekDayIsInvalidReturnsEmptyList() {
+        // Arrange
+        when(sittingTimeRepository.findSlotsByRestaurant_IdIn(List.of(RESTAURANT_ID)))
+                .thenReturn(List.of(createSlot(1L, RESTAURANT_ID, 1, 12)));
+
+        // Act & Assert
+        assertTrue(sittingTimeCalendarHelper.findSlots(RESTAURANT_ID, 8).isEmpty());
+    }
+
+    @Test
+    void findSlotsStartingAfterReadsMissingCalendarsAtOnceAndAppliesLimitPerRestaurant() {
+        // Arrange
+        long otherRestaurantId = 2L;
+        SittingTimeSlot past = createSlot(1L, RESTAURANT_ID, 1, 12);
+        SittingTimeSlot next = createSlot(2L, RESTAURANT_ID, 1, 19);
+        SittingTimeSlot later = createSlot(3L, RESTAURANT_ID, 1, 20);
+        SittingTimeSlot otherNext = createSlot(4L, otherRestaurantId, 1, 21);
+        when(sittingTimeRepository.findSlotsByRestaurant_IdIn(anyList()))
+                .thenReturn(List.of(past, next, later, otherNext));
+
+        // Act
+        Map<Long, List<SittingTimeSlot>> slots = sittingTimeCalendarHelper.findSlotsStartingAfter(
+                List.of(RESTAURANT_ID, otherRestaurantId, 3L),
+                1,
+                LocalTime.of(15, 0),
+                1
+        );
+
+        // Assert
+        assertEquals(Map.of(RESTAURANT_ID, List.of(next), otherRestaurantId, List.of(otherNext)), slots);
+        verify(sittingTimeRepository, times(1)).findSlotsByRestaurant_IdIn(anyList());
+    }
+
+    @Test
+    void findSlotsStartingBetweenIncludesBoundsAndOmitsRestaurantsWithoutSlots() {
+        // Arrange
+        long otherRestaurantId = 2L;
+        SittingTimeSlot lunch = createSlot(1L, RESTAURANT_ID, 1, 12);
+        SittingTimeSlot early = createSlot(2L, RESTAURANT_ID, 1, 19);
+        SittingTimeSlot late = createSlot(3L, RESTAURANT_ID, 1, 21);
+        SittingTimeSlot otherLunch = createSlot(4L, otherRestaurantId, 1, 13);
+        when(sittingTimeRepository.findSlotsByRestaurant_IdIn(anyList()))
+                .thenReturn(List.of(lunch, early, late, otherLunch));
+
+        // Act
+        Map<Long, List<SittingTimeSlot>> slots = sittingTimeCalendarHelper.findSlotsStartingBetween(
+                List.of(RESTAURANT_ID, otherRestaurantId),
+                1,
+                LocalTime.of(19, 0),
+                LocalTime.of(21, 0)
+        );
+
+        // Assert
+        assertEquals(Map.of(RESTAURANT_ID, List.of(early, late)), slots);
+    }
+
+    @Test
+    void evictReadsCalendarAgainOnNextRequest() {
+        // Arrange
+        SittingTimeSlot slot = createSlot(1L, RESTAURANT_ID, 1, 12);
+        when(sittingTimeRepository.findSlotsByRestaurant_IdIn(List.of(RESTAURANT_ID)))
+                .thenReturn(List.of(slot))
+                .thenReturn(List.of());
+        sittingTimeCalendarHelper.findSlots(RESTAURANT_ID);
+
+        // Act
+        sittingTimeCalendarHelper.evict(RESTAURANT_ID);
+
+        // Assert
+        assertTrue(sittingTimeCalendarHelper.findSlots(RESTAURANT_ID).isEmpty());
+        verify(sittingTimeRepository, times(2)).findSlotsByRestaurant_IdIn(List.of(RESTAURANT_ID));
+    }
+
+    @Test
+    void evictWhenTransactionActiveWaitsForCommit() {
+        // Arrange
+        when(sittingTimeRepository.findSlotsByRestaurant_IdIn(List.of(RESTAURANT_ID)))
+                .thenReturn(List.of(createSlot(1L, RESTAURANT_ID, 1, 12)));
+        sittingTimeCalendarHelper.findSlots(RESTAURANT_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            sittingTimeCalendarHelper.evict(RESTAURANT_ID);
+            sittingTimeCalendarHelper.findSlots(RESTAURANT_ID);
+            verify(sittingTimeRepository, times(1)).findSlotsByRestaurant_IdIn(anyList());
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCommit());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        sittingTimeCalendarHelper.findSlots(RESTAURANT_ID);
+        verify(sittingTimeRepository, times(2)).findSlotsByRestaurant_IdIn(anyList());
+    }
+
+    @Test
+    void findSlotsWhenEvictedWhileReadingDoesNotKeepCalendar() {
+        // Arrange
+        when(sittingTimeRepository.findSlotsByRestaurant_IdIn(List.of(RESTAURANT_ID))).thenAnswer(invocation -> {
+            sittingTimeCalendarHelper.evict(RESTAURANT_ID);
+            return List.of(createSlot(1L, RESTAURANT_ID, 1, 12));
+        });
+
+        // Act
+        List<SittingTimeSlot> slots = sittingTimeCalendarHelper.findSlots(RESTAURANT_ID);
+        sittingTimeCalendarHelper.findSlots(RESTAURANT_ID);
+
+        // Assert
+        assertEquals(1, slots.size());
+        verify(sittingTimeRepository, times(2)).findSlotsByRestaurant_IdIn(List.of(RESTAURANT_ID));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,249 @@
+package com.example.foody.helper.impl;
+
+import com.example.foody.model.*;
+import com.example.foody.model.order_dish.OrderDish;
+import com.example.foody.model.user.*;
+import com.example.foody.repository.SoftDeleteJobRepository;
+import com.example.foody.utils.enums.SoftDeleteJobStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link SoftDeleteHelperImpl} class using a mock entity manager and repository.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SoftDeleteHelperImplTest {
+
+    private static final LocalDateTime DELETED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private static final List<Class<?>> ENTITY_TYPES = List.of(
+            Address.class, Booking.class, Category.class, CreditCard.class, Dish.class, Order.class, OrderDish.class,
+            Restaurant.class, Review.class, SittingTime.class, WeekDayInfo.class, User.class, AdminUser.class,
+            CookUser.class, CustomerUser.class, EmployeeUser.class, ModeratorUser.class, RestaurateurUser.class,
+            WaiterUser.class
+    );
+
+    @InjectMocks
+    private SoftDeleteHelperImpl softDeleteHelper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private SoftDeleteJobRepository softDeleteJobRepository;
+
+    @Mock
+    private Metamodel metamodel;
+
+    @Test
+    void deleteDescendantsWhenSmallCascadeMarksEveryTableBeforeItsParent() {
+        // Arrange
+        stubMetamodel();
+        stubCount(1);
+        NativeQuery<?> update = stubUpdate();
+        when(update.executeUpdate()).thenReturn(2);
+        when(softDeleteJobRepository.save(any(SoftDeleteJob.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        SoftDeleteJob result = softDeleteHelper.deleteDescendants(Restaurant.class, 1L, DELETED_AT);
+
+        // Assert
+        List<String> updates = captureUpdates();
+        assertEquals(List.of(
+                "UPDATE addresses SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND id IN (SELECT address_id FROM restaurants WHERE id = :id) LIMIT :limit",
+                "UPDATE bookings SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND restaurant_id = :id LIMIT :limit",
+                "UPDATE reviews SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND dish_id IN (SELECT id FROM dishes WHERE restaurant_id = :id) LIMIT :limit",
+                "UPDATE dishes SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND restaurant_id = :id LIMIT :limit",
+                "UPDATE orders SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND buyer_id IN (SELECT buyer_id FROM users WHERE employer_restaurant_id = :id)"
+                        + " LIMIT :limit",
+                "UPDATE users SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND employer_restaurant_id = :id LIMIT :limit",
+                "UPDATE orders SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND restaurant_id = :id LIMIT :limit",
+                "UPDATE reviews SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND restaurant_id = :id LIMIT :limit",
+                "UPDATE bookings SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND sitting_time_id IN (SELECT id FROM sitting_times WHERE week_day_info_id IN"
+                        + " (SELECT id FROM week_day_infos WHERE restaurant_id = :id)) LIMIT :limit",
+                "UPDATE sitting_times SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND week_day_info_id IN (SELECT id FROM week_day_infos WHERE restaurant_id = :id)"
+                        + " LIMIT :limit",
+                "UPDATE week_day_infos SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND restaurant_id = :id LIMIT :limit"
+        ), updates);
+        verify(update, times(updates.size())).setParameter("deletedAt", DELETED_AT);
+        verify(update, times(updates.size())).setParameter("limit", Integer.MAX_VALUE);
+        assertEquals("Restaurant", result.getEntityType());
+        assertEquals(SoftDeleteJobStatus.COMPLETED, result.getStatus());
+        assertEquals(updates.size(), result.getTotalSteps());
+        assertEquals(updates.size(), result.getCompletedSteps());
+        assertEquals(2L * updates.size(), result.getDeletedRows());
+    }
+
+    @Test
+    void deleteDescendantsWhenLargeCascadeLeavesJobPending() {
+        // Arrange
+        stubMetamodel();
+        stubCount(SoftDeleteHelperImpl.SoftDeleteLimits.MAX_SYNCHRONOUS_ROWS + 1);
+        when(softDeleteJobRepository.save(any(SoftDeleteJob.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        SoftDeleteJob result = softDeleteHelper.deleteDescendants(Restaurant.class, 1L, DELETED_AT);
+
+        // Assert
+        verify(entityManager, times(1)).createNativeQuery(startsWith("SELECT COUNT(*)"));
+        verify(entityManager, never()).createNativeQuery(startsWith("UPDATE"));
+        assertEquals(SoftDeleteJobStatus.PENDING, result.getStatus());
+        assertEquals(0, result.getCompletedSteps());
+        assertEquals(DELETED_AT, result.getEntityDeletedAt());
+    }
+
+    @Test
+    void deleteDescendantsWhenRestaurateurLeavesRestaurantToRestaurantRemoval() {
+        // Arrange
+        stubMetamodel();
+        when(softDeleteJobRepository.save(any(SoftDeleteJob.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        SoftDeleteJob result = softDeleteHelper.deleteDescendants(RestaurateurUser.class, 1L, DELETED_AT);
+
+        // Assert
+        verify(entityManager, never()).createNativeQuery(anyString());
+        assertEquals(SoftDeleteJobStatus.COMPLETED, result.getStatus());
+        assertEquals(0, result.getTotalSteps());
+    }
+
+    @Test
+    void deleteDescendantsWhenCustomerCascadesToOwnedEntities() {
+        // Arrange
+        stubMetamodel();
+        stubCount(0);
+        stubUpdate();
+        when(softDeleteJobRepository.save(any(SoftDeleteJob.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        softDeleteHelper.deleteDescendants(CustomerUser.class, 1L, DELETED_AT);
+
+        // Assert
+        assertEquals(List.of(
+                "UPDATE bookings SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND customer_id = :id LIMIT :limit",
+                "UPDATE orders SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND buyer_id IN (SELECT buyer_id FROM users WHERE id = :id) LIMIT :limit",
+                "UPDATE credit_cards SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND id IN (SELECT credit_card_id FROM users WHERE id = :id) LIMIT :limit",
+                "UPDATE reviews SET deleted_at = :deletedAt WHERE deleted_at IS NULL"
+                        + " AND customer_id = :id LIMIT :limit"
+        ), captureUpdates());
+    }
+
+    @Test
+    void runBatchWhenBatchIsFullKeepsCurrentStep() {
+        // Arrange
+        stubMetamodel();
+        NativeQuery<?> update = stubUpdate();
+        when(update.executeUpdate()).thenReturn(SoftDeleteHelperImpl.SoftDeleteLimits.BATCH_SIZE);
+        SoftDeleteJob softDeleteJob = new SoftDeleteJob("Dish", 1L, DELETED_AT, 1);
+
+        // Act
+        softDeleteHelper.runBatch(softDeleteJob);
+
+        // Assert
+        verify(update).setParameter("limit", SoftDeleteHelperImpl.SoftDeleteLimits.BATCH_SIZE);
+        verify(softDeleteJobRepository).save(softDeleteJob);
+        assertEquals(SoftDeleteJobStatus.PENDING, softDeleteJob.getStatus());
+        assertEquals(0, softDeleteJob.getCompletedSteps());
+        assertEquals(SoftDeleteHelperImpl.SoftDeleteLimits.BATCH_SIZE, softDeleteJob.getDeletedRows());
+    }
+
+    @Test
+    void runBatchWhenLastStepIsExhaustedCompletesJob() {
+        // Arrange
+        stubMetamodel();
+        NativeQuery<?> update = stubUpdate();
+        when(update.executeUpdate()).thenReturn(3);
+        SoftDeleteJob softDeleteJob = new SoftDeleteJob("Dish", 1L, DELETED_AT, 1);
+        softDeleteJob.setDeletedRows(SoftDeleteHelperImpl.SoftDeleteLimits.BATCH_SIZE);
+        SoftDeleteJob savedJob = new SoftDeleteJob("Dish", 1L, DELETED_AT, 1);
+        when(softDeleteJobRepository.save(softDeleteJob)).thenReturn(savedJob);
+
+        // Act
+        SoftDeleteJob result = softDeleteHelper.runBatch(softDeleteJob);
+
+        // Assert
+        assertEquals(List.of(
+                "UPDATE reviews SET deleted_at = :deletedAt WHERE deleted_at IS NULL AND dish_id = :id LIMIT :limit"
+        ), captureUpdates());
+        assertSame(savedJob, result);
+        assertEquals(SoftDeleteJobStatus.COMPLETED, softDeleteJob.getStatus());
+        assertEquals(1, softDeleteJob.getCompletedSteps());
+        assertEquals(SoftDeleteHelperImpl.SoftDeleteLimits.BATCH_SIZE + 3, softDeleteJob.getDeletedRows());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void stubMetamodel() {
+        Set<EntityType<?>> entityTypes = ENTITY_TYPES.stream()
+                .map(type -> {
+                    EntityType entityType = mock(EntityType.class);
+                    lenient().when(entityType.getJavaType()).thenReturn(type);
+                    lenient().when(entityType.getName()).thenReturn(type.getSimpleName());
+                    lenient().when(metamodel.entity(type)).thenReturn(entityType);
+                    return (EntityType<?>) entityType;
+                })
+                .collect(Collectors.toSet());
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        when(metamodel.getEntities()).thenReturn(entityTypes);
+    }
+
+    private void stubCount(long rows) {
+        Query count = mock(Query.class, RETURNS_SELF);
+        when(count.getSingleResult()).thenReturn(rows);
+        when(entityManager.createNativeQuery(startsWith("SELECT COUNT(*)"))).thenReturn(count);
+    }
+
+    @SuppressWarnings("unchecked")
+    private NativeQuery<?> stubUpdate() {
+        Query query = mock(Query.class);
+        NativeQuery<?> update = mock(NativeQuery.class, RETURNS_SELF);
+        when(query.unwrap(NativeQuery.class)).thenReturn(update);
+        when(entityManager.createNativeQuery(startsWith("UPDATE"))).thenReturn(query);
+        return update;
+    }
+
+    private List<String> captureUpdates() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(entityManager, atLeast(0)).createNativeQuery(captor.capture());
+        return captor.getAllValues().stream()
+                .filter(sql -> sql.startsWith("UPDATE"))
+                .collect(Collectors.toList());
+    }
+}
\ No newline at end of file
@@ -4,10 +4,9 @@ import com.example.foody.TestDataUtil;
 import com.example.foody.dto.response.CustomerUserResponseDTO;
 import com.example.foody.dto.response.UserResponseDTO;
 import com.example.foody.exceptions.entity.EntityEditException;
+import com.example.foody.helper.FirebaseTokenHelper;
 import com.example.foody.mapper.UserMapper;
 import com.example.foody.model.user.CustomerUser;
-import com.example.foody.repository.UserRepository;
-import com.example.foody.service.FirebaseService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -29,14 +28,11 @@ public class UserHelperImplTest {
     private UserHelperImpl userHelperImpl;
 
     @Mock
-    private FirebaseService firebaseService;
+    private FirebaseTokenHelper firebaseTokenHelper;
 
     @Mock
     private UserMapper userMapper;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Test
     void buildUserResponseDTOWhenValidReturnsUserResponseDTO() {
         // Arrange
@@ -44,7 +40,7 @@ public class UserHelperImplTest {
         String firebaseCustomToken = customer.getFirebaseCustomToken();
         CustomerUserResponseDTO customerUserResponseDTO = TestDataUtil.createTestCustomerUserResponseDTO();
 
-        when(firebaseService.verifyToken(firebaseCustomToken)).thenReturn(true);
+        when(firebaseTokenHelper.getCustomToken(customer)).thenReturn(firebaseCustomToken);
         when(userMapper.userToUserResponseDTO(customer, firebaseCustomToken)).thenReturn(customerUserResponseDTO);
 
         // Act
@@ -54,7 +50,7 @@ public class UserHelperImplTest {
         assertNotNull(result);
         assertEquals(customerUserResponseDTO, result);
         verify(userMapper).userToUserResponseDTO(customer, firebaseCustomToken);
-        verify(firebaseService).verifyToken(firebaseCustomToken);
+        verify(firebaseTokenHelper).getCustomToken(customer);
     }
 
     @Test
@@ -67,65 +63,35 @@ public class UserHelperImplTest {
 
         // Assert
         assertNull(result);
-        verifyNoInteractions(firebaseService);
+        verify(userMapper).userToUserResponseDTO(null, null);
     }
 
     @Test
-    void buildUserResponseDTOWhenFirebaseCustomTokenIsNullReturnsUserResponseDTO() {
+    void buildUserResponseDTOWhenTokenNotIncludedDoesNotRetrieveToken() {
         // Arrange
         CustomerUser customer = TestDataUtil.createTestCustomerUser();
         CustomerUserResponseDTO customerUserResponseDTO = TestDataUtil.createTestCustomerUserResponseDTO();
-        customer.setFirebaseCustomToken(null);
 
         when(userMapper.userToUserResponseDTO(customer, null)).thenReturn(customerUserResponseDTO);
 
         // Act
-        UserResponseDTO result = userHelperImpl.buildUserResponseDTO(customer);
+        UserResponseDTO result = userHelperImpl.buildUserResponseDTO(customer, false);
 
         // Assert
-        assertNotNull(result);
         assertEquals(customerUserResponseDTO, result);
-        verify(userMapper).userToUserResponseDTO(customer, null);
+        verifyNoInteractions(firebaseTokenHelper);
     }
 
     @Test
-    void buildUserResponseDTOWhenFirebaseCustomTokenIsInvalidReturnsUserResponseDTO() {
+    void buildUserResponseDTOWhenTokenSaveFailsThrowsEntityEditException() {
         // Arrange
         CustomerUser customer = TestDataUtil.createTestCustomerUser();
-        CustomerUserResponseDTO customerUserResponseDTO = TestDataUtil.createTestCustomerUserResponseDTO();
-        String invalidToken = "invalid-token";
-
-        when(firebaseService.verifyToken(customer.getFirebaseCustomToken())).thenReturn(false);
-        when(firebaseService.createCustomToken(customer.getEmail())).thenReturn(invalidToken);
-        when(userMapper.userToUserResponseDTO(customer, invalidToken)).thenReturn(customerUserResponseDTO);
-
-        // Act
-        UserResponseDTO result = userHelperImpl.buildUserResponseDTO(customer);
 
-        // Assert
-        assertNotNull(result);
-        assertEquals(customerUserResponseDTO, result);
-        verify(userMapper).userToUserResponseDTO(customer, invalidToken);
-//        verify(firebaseService).verifyToken(customer.getFirebaseCustomToken());
-        verify(firebaseService).createCustomToken(customer.getEmail());
-    }
-
-    @Test
-    void buildUserResponseDTOWhenUserSaveFailsThrowsEntityEditException() {
-        // Arrange
-        CustomerUser customer = TestDataUtil.createTestCustomerUser();
-        String firebaseCustomToken = customer.getFirebaseCustomToken();
-
-        when(firebaseService.verifyToken(firebaseCustomToken)).thenReturn(false);
-        when(firebaseService.createCustomToken(customer.getEmail())).thenReturn(firebaseCustomToken);
-        doThrow(new RuntimeException()).when(userRepository).save(customer);
+        when(firebaseTokenHelper.getCustomToken(customer)).thenThrow(new EntityEditException("user", "id", customer.getId()));
 
         // Act & Assert
         assertThrows(EntityEditException.class, () -> userHelperImpl.buildUserResponseDTO(customer));
         verifyNoInteractions(userMapper);
-        verify(firebaseService).verifyToken(firebaseCustomToken);
-        verify(firebaseService).createCustomToken(customer.getEmail());
-        verify(userRepository).save(customer);
     }
 
     @Test
@@ -135,7 +101,7 @@ public class UserHelperImplTest {
         List<CustomerUser> customers = List.of(customer);
         CustomerUserResponseDTO customerUserResponseDTO = TestDataUtil.createTestCustomerUserResponseDTO();
 
-        when(firebaseService.verifyToken(customer.getFirebaseCustomToken())).thenReturn(true);
+        when(firebaseTokenHelper.getCustomToken(customer)).thenReturn(customer.getFirebaseCustomToken());
         when(userMapper.userToUserResponseDTO(customer, customer.getFirebaseCustomToken())).thenReturn(customerUserResponseDTO);
 
         // Act
@@ -146,6 +112,22 @@ public class UserHelperImplTest {
         assertEquals(1, result.size());
         assertEquals(customerUserResponseDTO, result.getFirst());
         verify(userMapper).userToUserResponseDTO(customer, customer.getFirebaseCustomToken());
-        verify(firebaseService).verifyToken(customer.getFirebaseCustomToken());
+        verify(firebaseTokenHelper).getCustomToken(customer);
+    }
+
+    @Test
+    void buildUserResponseDTOsWhenTokensNotIncludedDoesNotRetrieveTokens() {
+        // Arrange
+        CustomerUser customer = TestDataUtil.createTestCustomerUser();
+        CustomerUserResponseDTO customerUserResponseDTO = TestDataUtil.createTestCustomerUserResponseDTO();
+
+        when(userMapper.userToUserResponseDTO(customer, null)).thenReturn(customerUserResponseDTO);
+
+        // Act
+        List<UserResponseDTO> result = userHelperImpl.buildUserResponseDTOs(List.of(customer), false);
+
+        // Assert
+        assertEquals(List.of(customerUserResponseDTO), result);
+        verifyNoInteractions(firebaseTokenHelper);
     }
 }
\ No newline at end of file
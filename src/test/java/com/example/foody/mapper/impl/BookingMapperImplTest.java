@@ -74,7 +74,7 @@ public class BookingMapperImplTest {
         when(booking.getStatus()).thenReturn(BookingStatus.ACTIVE);
 
         when(sittingTimeMapper.sittingTimeToSittingTimeResponseDTO(sittingTime)).thenReturn(mock(SittingTimeResponseDTO.class));
-        when(userHelper.buildUserResponseDTO(customer)).thenReturn(mock(CustomerUserResponseDTO.class));
+        when(userHelper.buildUserResponseDTO(customer, false)).thenReturn(mock(CustomerUserResponseDTO.class));
         when(restaurantMapper.restaurantToRestaurantResponseDTO(restaurant)).thenReturn(mock(RestaurantResponseDTO.class));
 
         // Act
@@ -87,7 +87,7 @@ public class BookingMapperImplTest {
         assertEquals(4, result.getSeats());
         assertEquals(BookingStatus.ACTIVE.name(), result.getStatus());
         verify(sittingTimeMapper).sittingTimeToSittingTimeResponseDTO(sittingTime);
-        verify(userHelper).buildUserResponseDTO(customer);
+        verify(userHelper).buildUserResponseDTO(customer, false);
         verify(restaurantMapper).restaurantToRestaurantResponseDTO(restaurant);
     }
 
@@ -108,7 +108,7 @@ public class BookingMapperImplTest {
         when(booking.getStatus()).thenReturn(null);
 
         when(sittingTimeMapper.sittingTimeToSittingTimeResponseDTO(sittingTime)).thenReturn(mock(SittingTimeResponseDTO.class));
-        when(userHelper.buildUserResponseDTO(customer)).thenReturn(mock(CustomerUserResponseDTO.class));
+        when(userHelper.buildUserResponseDTO(customer, false)).thenReturn(mock(CustomerUserResponseDTO.class));
         when(restaurantMapper.restaurantToRestaurantResponseDTO(restaurant)).thenReturn(mock(RestaurantResponseDTO.class));
 
         // Act
@@ -121,7 +121,7 @@ public class BookingMapperImplTest {
         assertEquals(4, result.getSeats());
         assertNull(result.getStatus());
         verify(sittingTimeMapper).sittingTimeToSittingTimeResponseDTO(sittingTime);
-        verify(userHelper).buildUserResponseDTO(customer);
+        verify(userHelper).buildUserResponseDTO(customer, false);
         verify(restaurantMapper).restaurantToRestaurantResponseDTO(restaurant);
     }
 
@@ -184,7 +184,7 @@ public class BookingMapperImplTest {
 
         when(sittingTimeMapper.sittingTimeToSittingTimeResponseDTO(sittingTime))
                 .thenReturn(mock(SittingTimeResponseDTO.class));
-        when(userHelper.buildUserResponseDTO(customer))
+        when(userHelper.buildUserResponseDTO(customer, false))
                 .thenReturn(mock(CustomerUserResponseDTO.class));
         when(restaurantMapper.restaurantToRestaurantResponseDTO(restaurant))
                 .thenReturn(mock(RestaurantResponseDTO.class));
@@ -201,7 +201,7 @@ public class BookingMapperImplTest {
         assertEquals(4, result.get(0).getSeats());
         assertEquals(BookingStatus.ACTIVE.name(), result.get(0).getStatus());
         verify(sittingTimeMapper).sittingTimeToSittingTimeResponseDTO(sittingTime);
-        verify(userHelper).buildUserResponseDTO(customer);
+        verify(userHelper).buildUserResponseDTO(customer, false);
         verify(restaurantMapper).restaurantToRestaurantResponseDTO(restaurant);
     }
 }
\ No newline at end of file
@@ -50,7 +50,7 @@ public class OrderDishMapperImplTest {
         when(orderDish.getDish()).thenReturn(dish);
         when(dish.getId()).thenReturn(1L);
         when(dish.getName()).thenReturn("Test Dish");
-        when(dish.getPrice()).thenReturn(BigDecimal.valueOf(10.0));
+        when(orderDish.getUnitPrice()).thenReturn(BigDecimal.valueOf(10.0));
         when(orderDish.getQuantity()).thenReturn(2);
 
         // Act
@@ -129,7 +129,7 @@ public class OrderDishMapperImplTest {
         when(orderDish.getDish()).thenReturn(dish);
         when(dish.getId()).thenReturn(1L);
         when(dish.getName()).thenReturn("Test Dish");
-        when(dish.getPrice()).thenReturn(BigDecimal.valueOf(10.0));
+        when(orderDish.getUnitPrice()).thenReturn(BigDecimal.valueOf(10.0));
         when(orderDish.getQuantity()).thenReturn(2);
 
         List<OrderDish> orderDishes = Collections.singletonList(orderDish);
@@ -76,7 +76,7 @@ public class OrderMapperImplTest {
         when(order.getStatus()).thenReturn(OrderStatus.CREATED);
 
         when(orderDishMapper.orderDishesToOrderDishResponseDTOs(anyList())).thenReturn(Collections.emptyList());
-        when(userHelper.buildUserResponseDTO(user)).thenReturn(mock(UserResponseDTO.class));
+        when(userHelper.buildUserResponseDTO(user, false)).thenReturn(mock(UserResponseDTO.class));
         when(restaurantMapper.restaurantToRestaurantResponseDTO(restaurant)).thenReturn(mock(RestaurantResponseDTO.class));
 
         // Act
@@ -89,7 +89,7 @@ public class OrderMapperImplTest {
         assertEquals("A1", result.getTableCode());
         assertEquals(OrderStatus.CREATED.name(), result.getStatus());
         verify(orderDishMapper).orderDishesToOrderDishResponseDTOs(anyList());
-        verify(userHelper).buildUserResponseDTO(user);
+        verify(userHelper).buildUserResponseDTO(user, false);
         verify(restaurantMapper).restaurantToRestaurantResponseDTO(restaurant);
     }
 
@@ -112,7 +112,7 @@ public class OrderMapperImplTest {
         when(order.getStatus()).thenReturn(null);
 
         when(orderDishMapper.orderDishesToOrderDishResponseDTOs(anyList())).thenReturn(Collections.emptyList());
-        when(userHelper.buildUserResponseDTO(user)).thenReturn(mock(UserResponseDTO.class));
+        when(userHelper.buildUserResponseDTO(user, false)).thenReturn(mock(UserResponseDTO.class));
         when(restaurantMapper.restaurantToRestaurantResponseDTO(restaurant)).thenReturn(mock(RestaurantResponseDTO.class));
 
         // Act
@@ -125,7 +125,7 @@ public class OrderMapperImplTest {
         assertEquals("A1", result.getTableCode());
         assertNull(result.getStatus());
         verify(orderDishMapper).orderDishesToOrderDishResponseDTOs(anyList());
-        verify(userHelper).buildUserResponseDTO(user);
+        verify(userHelper).buildUserResponseDTO(user, false);
         verify(restaurantMapper).restaurantToRestaurantResponseDTO(restaurant);
     }
 
@@ -186,7 +186,7 @@ public class OrderMapperImplTest {
         when(order.getOrderDishes()).thenReturn(Collections.singletonList(orderDish));
 
         when(orderDishMapper.orderDishesToOrderDishResponseDTOs(anyList())).thenReturn(Collections.emptyList());
-        when(userHelper.buildUserResponseDTO(user)).thenReturn(mock(UserResponseDTO.class));
+        when(userHelper.buildUserResponseDTO(user, false)).thenReturn(mock(UserResponseDTO.class));
         when(restaurantMapper.restaurantToRestaurantResponseDTO(restaurant)).thenReturn(mock(RestaurantResponseDTO.class));
 
         List<Order> orders = Collections.singletonList(order);
@@ -202,7 +202,7 @@ public class OrderMapperImplTest {
         assertEquals("A1", result.get(0).getTableCode());
         assertEquals(OrderStatus.CREATED.name(), result.get(0).getStatus());
         verify(orderDishMapper).orderDishesToOrderDishResponseDTOs(anyList());
-        verify(userHelper).buildUserResponseDTO(user);
+        verify(userHelper).buildUserResponseDTO(user, false);
         verify(restaurantMapper).restaurantToRestaurantResponseDTO(restaurant);
     }
 }
\ No newline at end of file
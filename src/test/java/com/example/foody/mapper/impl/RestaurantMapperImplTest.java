@@ -11,6 +11,7 @@ import com.example.foody.mapper.CategoryMapper;
 import com.example.foody.mapper.ReviewMapper;
 import com.example.foody.mapper.SittingTimeMapper;
 import com.example.foody.model.*;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -102,13 +103,16 @@ public class RestaurantMapperImplTest {
     void restaurantToDetailedRestaurantResponseDTOWhenValidReturnsDTO() {
         // Arrange
         Restaurant restaurant = TestDataUtil.createTestRestaurant();
-        List<SittingTime> sittingTimes = Collections.emptyList();
+        List<SittingTimeSlot> sittingTimes = Collections.emptyList();
         List<Dish> dishes = Collections.emptyList();
         List<Review> reviews = Collections.emptyList();
 
+        restaurant.getRatingAggregate().setCount(3);
+        restaurant.getRatingAggregate().setFourStarCount(1);
+        restaurant.getRatingAggregate().setFiveStarCount(2);
         when(dishHelper.buildDishResponseDTOs(dishes)).thenReturn(Collections.emptyList());
         when(reviewMapper.reviewsToReviewResponseDTOs(reviews)).thenReturn(Collections.emptyList());
-        when(sittingTimeMapper.sittingTimesToSittingTimeResponseDTOs(sittingTimes)).thenReturn(Collections.emptyList());
+        when(sittingTimeMapper.sittingTimeSlotsToSittingTimeResponseDTOs(sittingTimes)).thenReturn(Collections.emptyList());
 
         // Act
         DetailedRestaurantResponseDTO result = restaurantMapper.restaurantToDetailedRestaurantResponseDTO(restaurant, 4.5, sittingTimes, dishes, reviews);
@@ -116,6 +120,8 @@ public class RestaurantMapperImplTest {
         // Assert
         assertNotNull(result);
         assertEquals(4.5, result.getAverageRating());
+        assertEquals(3, result.getRatingCount());
+        assertEquals(List.of(0, 0, 0, 1, 2), result.getRatingHistogram());
     }
 
     @Test
@@ -3,6 +3,7 @@ package com.example.foody.mapper.impl;
 import com.example.foody.dto.response.SittingTimeResponseDTO;
 import com.example.foody.model.SittingTime;
 import com.example.foody.model.WeekDayInfo;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -111,4 +112,31 @@ public class SittingTimeMapperImplTest {
         assertEquals(LocalTime.of(14, 0), result.get(0).getEnd());
         assertEquals(2L, result.get(0).getWeekDayInfoId());
     }
+
+    @Test
+    void sittingTimeSlotsToSittingTimeResponseDTOsWhenSlotsIsNullReturnsNull() {
+        // Act
+        List<SittingTimeResponseDTO> result = sittingTimeMapper.sittingTimeSlotsToSittingTimeResponseDTOs(null);
+
+        // Assert
+        assertNull(result);
+    }
+
+    @Test
+    void sittingTimeSlotsToSittingTimeResponseDTOsWhenValidReturnsDTOList() {
+        // Arrange
+        SittingTimeSlot sittingTimeSlot = new SittingTimeSlot(1L, 3L, 2L, 1, LocalTime.of(12, 0), LocalTime.of(14, 0));
+
+        // Act
+        List<SittingTimeResponseDTO> result =
+                sittingTimeMapper.sittingTimeSlotsToSittingTimeResponseDTOs(List.of(sittingTimeSlot));
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).getId());
+        assertEquals(LocalTime.of(12, 0), result.get(0).getStart());
+        assertEquals(LocalTime.of(14, 0), result.get(0).getEnd());
+        assertEquals(2L, result.get(0).getWeekDayInfoId());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.example.foody.mapper.impl;
+
+import com.example.foody.dto.response.SoftDeleteJobResponseDTO;
+import com.example.foody.model.SoftDeleteJob;
+import com.example.foody.utils.enums.SoftDeleteJobStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SoftDeleteJobMapperImpl} class.
+ */
+public class SoftDeleteJobMapperImplTest {
+
+    private final SoftDeleteJobMapperImpl softDeleteJobMapper = new SoftDeleteJobMapperImpl();
+
+    @Test
+    void softDeleteJobToSoftDeleteJobResponseDTOWhenJobIsNullReturnsNull() {
+        // Act
+        SoftDeleteJobResponseDTO result = softDeleteJobMapper.softDeleteJobToSoftDeleteJobResponseDTO(null);
+
+        // Assert
+        assertNull(result);
+    }
+
+    @Test
+    void softDeleteJobToSoftDeleteJobResponseDTOWhenValidReturnsDTO() {
+        // Arrange
+        SoftDeleteJob softDeleteJob = new SoftDeleteJob("Restaurant", 1L, LocalDateTime.now(), 11);
+        softDeleteJob.setId(5L);
+        softDeleteJob.setCompletedSteps(4);
+        softDeleteJob.setDeletedRows(2500);
+
+        // Act
+        SoftDeleteJobResponseDTO result = softDeleteJobMapper.softDeleteJobToSoftDeleteJobResponseDTO(softDeleteJob);
+
+        // Assert
+        assertEquals(5L, result.getId());
+        assertEquals("Restaurant", result.getEntityType());
+        assertEquals(1L, result.getEntityId());
+        assertEquals(SoftDeleteJobStatus.PENDING.name(), result.getStatus());
+        assertEquals(4, result.getCompletedSteps());
+        assertEquals(11, result.getTotalSteps());
+        assertEquals(2500, result.getDeletedRows());
+        assertEquals(softDeleteJob.getCreatedAt(), result.getCreatedAt());
+    }
+
+    @Test
+    void softDeleteJobsToSoftDeleteJobResponseDTOsWhenListIsNullReturnsNull() {
+        // Act
+        List<SoftDeleteJobResponseDTO> result = softDeleteJobMapper.softDeleteJobsToSoftDeleteJobResponseDTOs(null);
+
+        // Assert
+        assertNull(result);
+    }
+
+    @Test
+    void softDeleteJobsToSoftDeleteJobResponseDTOsWhenValidReturnsDTOs() {
+        // Arrange
+        List<SoftDeleteJob> softDeleteJobs = List.of(
+                new SoftDeleteJob("Restaurant", 1L, LocalDateTime.now(), 11),
+                new SoftDeleteJob("Dish", 2L, LocalDateTime.now(), 1)
+        );
+
+        // Act
+        List<SoftDeleteJobResponseDTO> result = softDeleteJobMapper.softDeleteJobsToSoftDeleteJobResponseDTOs(
+                softDeleteJobs
+        );
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("Dish", result.get(1).getEntityType());
+    }
+}
\ No newline at end of file
@@ -73,4 +73,4 @@ public class RestaurantStaffNewReviewEventListenerTest {
                 expectedVariables
         );
     }
-}
+}
\ No newline at end of file
@@ -2,9 +2,11 @@ package com.example.foody.observer.manager;
 
 import com.example.foody.observer.listener.EventListener;
 import com.example.foody.utils.enums.EventType;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -13,68 +15,69 @@ import static org.mockito.Mockito.*;
  */
 public class EventManagerTest {
 
-    private EventManager eventManager;
+    private final EventManager eventManager = new EventManager();
+
+    /**
+     * Listener identified by its recipient, like the real listeners.
+     */
+    private record RecipientListener(String recipient, List<String> notifications) implements EventListener<String> {
 
-    @BeforeEach
-    void setUp() {
-        eventManager = new EventManager();
+        @Override
+        public void update(String data) {
+            notifications.add(recipient + ":" + data);
+        }
     }
 
     @Test
-    void subscribeWhenListenerIsAddedSuccessfully() {
+    void publishNotifiesAllListenersBeforeReturning() {
         // Arrange
-        EventType eventType = EventType.ORDER_CREATED;
-        EventListener<String> listener = mock(EventListener.class);
+        EventListener<String> listener1 = mock(EventListener.class);
+        EventListener<String> listener2 = mock(EventListener.class);
+        String data = "Order123";
 
         // Act
-        eventManager.subscribe(eventType, listener);
+        eventManager.publish(EventType.ORDER_CREATED, data, List.of(listener1, listener2));
 
         // Assert
-        assertEquals(1, eventManager.getListeners().get(eventType).size());
-        assertTrue(eventManager.getListeners().get(eventType).contains(listener));
+        verify(listener1).update(data);
+        verify(listener2).update(data);
     }
 
     @Test
-    void unsubscribeWhenListenerIsRemovedSuccessfully() {
+    void publishWhenListenersAreDuplicatedNotifiesEachRecipientOnce() {
         // Arrange
-        EventType eventType = EventType.ORDER_CREATED;
-        EventListener<String> listener = mock(EventListener.class);
-        eventManager.subscribe(eventType, listener);
+        List<String> notifications = new ArrayList<>();
+        RecipientListener listener = new RecipientListener("cook@example.com", notifications);
+        RecipientListener duplicate = new RecipientListener("cook@example.com", notifications);
+        RecipientListener other = new RecipientListener("waiter@example.com", notifications);
 
         // Act
-        eventManager.unsubscribe(eventType, listener);
+        eventManager.publish(EventType.ORDER_CREATED, "Order123", List.of(listener, duplicate, other));
 
         // Assert
-        assertEquals(0, eventManager.getListeners().get(eventType).size());
-        assertFalse(eventManager.getListeners().get(eventType).contains(listener));
+        assertEquals(List.of("cook@example.com:Order123", "waiter@example.com:Order123"), notifications);
     }
 
     @Test
-    void notifyListenersWhenAllListenersAreNotified() {
-        // Arrange
-        EventType eventType = EventType.ORDER_CREATED;
-        EventListener<String> listener1 = mock(EventListener.class);
-        EventListener<String> listener2 = mock(EventListener.class);
-        eventManager.subscribe(eventType, listener1);
-        eventManager.subscribe(eventType, listener2);
-
-        String data = "Order123";
-
-        // Act
-        eventManager.notifyListeners(eventType, data);
-
-        // Assert
-        verify(listener1, times(1)).update(data);
-        verify(listener2, times(1)).update(data);
+    void publishWhenNoListenersExistDoesNothing() {
+        // Act & Assert
+        assertDoesNotThrow(() ->
+                eventManager.publish(EventType.ORDER_CREATED, "Order123", List.<EventListener<String>>of())
+        );
     }
 
     @Test
-    void notifyListenersWhenNoListenersExistDoesNotThrowException() {
+    void publishWhenListenerFailsThrowsToPublisherAndStops() {
         // Arrange
-        EventType eventType = EventType.ORDER_CREATED;
-        String data = "Order123";
+        EventListener<String> failingListener = mock(EventListener.class);
+        EventListener<String> listener = mock(EventListener.class);
+        doThrow(new IllegalStateException()).when(failingListener).update(any());
 
         // Act & Assert
-        assertDoesNotThrow(() -> eventManager.notifyListeners(eventType, data));
+        assertThrows(
+                IllegalStateException.class,
+                () -> eventManager.publish(EventType.ORDER_CREATED, "Order123", List.of(failingListener, listener))
+        );
+        verify(listener, never()).update(any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,546 @@
+package com.example.foody.repository;
+
+import com.example.foody.TestSessionFactoryUtil;
+import com.example.foody.helper.impl.SoftDeleteHelperImpl;
+import com.example.foody.model.Restaurant;
+import com.example.foody.repository.customized.CustomizedBookingRepositoryImpl;
+import com.example.foody.repository.customized.CustomizedOrderRepositoryImpl;
+import com.example.foody.utils.enums.Role;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class checking the query plans of the repositories against the migrated schema.
+ * <p>
+ * The migrations are applied to a MariaDB container, the tables are filled with a realistic amount of rows and each
+ * repository query is run through the repositories with sample parameters, in a transaction that is rolled back. The
+ * statements sent to the database are captured with their parameters and explained, so the plans are those of the SQL
+ * generated by Spring Data and Hibernate, including the deleted_at filter of soft-deleted entities. The test fails if
+ * MariaDB would read any table of a query in full. Queries reading every row by design, like the streams of the list
+ * endpoints, are not checked.
+ * <p>
+ * The session factory validates the entities against the migrated schema, so a migration missing a mapped column
+ * fails the test too.
+ * <p>
+ * The test is skipped on machines without Docker, but always runs in CI, where a missing Docker fails it instead, so
+ * the check is never skipped silently there. The CI workflow runs it as a separate step.
+ */
+@Testcontainers
+@EnabledIf("isDockerAvailableOrRequired")
+public class RepositoryQueryPlanTest {
+
+    @Container
+    private static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+    private static final String[] SEED_STATEMENTS = {
+            "SET FOREIGN_KEY_CHECKS = 0",
+            """
+            INSERT INTO users (role, id, created_at, active, birth_date, email, name, password, surname, avatar_url,
+                               buyer_id, employer_restaurant_id)
+            SELECT CASE
+                       WHEN seq = 1 THEN 'ADMIN'
+                       WHEN seq <= 201 THEN 'RESTAURATEUR'
+                       WHEN seq <= 401 THEN 'COOK'
+                       WHEN seq <= 601 THEN 'WAITER'
+                       ELSE 'CUSTOMER'
+                   END,
+                   seq, NOW(6) - INTERVAL seq MINUTE, 1, '1990-01-01', CONCAT('user', seq, '@example.com'),
+                   'Name', 'password', 'Surname', CONCAT('avatar-', seq), seq,
+                   IF(seq BETWEEN 202 AND 601, seq % 200 + 1, NULL)
+            FROM seq_1_to_5000
+            """,
+            """
+            INSERT INTO addresses (id, created_at, city, civic_number, postal_code, province, street)
+            SELECT seq, NOW(6), 'Roma', '1', '00100', 'RM', 'Via Roma'
+            FROM seq_1_to_200
+            """,
+            """
+            INSERT INTO restaurants (id, created_at, approved, description, name, phone_number, photo_url, seats,
+                                     address_id, restaurateur_id)
+            SELECT seq, NOW(6) - INTERVAL seq HOUR, seq % 20 <> 0, 'Description', CONCAT('Restaurant ', seq),
+                   '+390000000000', CONCAT('photo-', seq), 50, seq, seq + 1
+            FROM seq_1_to_200
+            """,
+            "INSERT INTO categories (id, name) SELECT seq, CONCAT('Category ', seq) FROM seq_1_to_10",
+            """
+            INSERT INTO restaurant_category (restaurant_id, category_id)
+            SELECT seq, seq % 10 + 1 FROM seq_1_to_200
+            UNION ALL
+            SELECT seq, (seq + 3) % 10 + 1 FROM seq_1_to_200
+            """,
+            """
+            INSERT INTO dishes (id, created_at, description, name, photo_url, price, restaurant_id)
+            SELECT seq, NOW(6) - INTERVAL seq MINUTE, 'Description', CONCAT('Dish ', seq), CONCAT('dish-', seq), 10,
+                   seq % 200 + 1
+            FROM seq_1_to_4000
+            """,
+            """
+            INSERT INTO week_day_infos (id, created_at, sitting_time_step, start_launch, end_launch, week_day,
+                                        restaurant_id)
+            SELECT seq, NOW(6), 'THIRTY', '12:00', '17:00', (seq - 1) DIV 200 + 1, (seq - 1) % 200 + 1
+            FROM seq_1_to_1400
+            """,
+            """
+            INSERT INTO sitting_times (id, created_at, start, end, week_day_info_id)
+            SELECT seq, NOW(6), SEC_TO_TIME(43200 + ((seq - 1) DIV 1400) * 1800),
+                   SEC_TO_TIME(45000 + ((seq - 1) DIV 1400) * 1800), (seq - 1) % 1400 + 1
+            FROM seq_1_to_14000
+            """,
+            """
+            INSERT INTO bookings (id, created_at, date, seats, status, customer_id, restaurant_id, sitting_time_id)
+            SELECT seq, NOW(6) - INTERVAL seq MINUTE, CURRENT_DATE + INTERVAL 14 DAY - INTERVAL (seq % 400) DAY, 2,
+                   IF(seq % 10 = 0, 'CANCELLED', 'ACTIVE'), 602 + seq % 4399, seq % 200 + 1, seq % 14000 + 1
+            FROM seq_1_to_50000
+            """,
+            """
+            INSERT INTO seat_ledger (restaurant_id, date, sitting_time_id, booked_seats)
+            SELECT restaurant_id, date, sitting_time_id, SUM(seats)
+            FROM bookings
+            WHERE status = 'ACTIVE'
+            GROUP BY restaurant_id, date, sitting_time_id
+            """,
+            """
+            INSERT INTO orders (id, created_at, buyer_id, item_count, status, table_code, total_amount, restaurant_id)
+            SELECT seq, NOW(6) - INTERVAL seq MINUTE, 202 + seq % 4799, 2,
+                   CASE WHEN seq <= 100 THEN 'PAID' WHEN seq <= 200 THEN 'PREPARING' ELSE 'COMPLETED' END,
+                   CONCAT('T', seq % 30), 20, seq % 200 + 1
+            FROM seq_1_to_50000
+            """,
+            """
+            INSERT INTO order_dish (quantity, unit_price, dish_id, order_id)
+            SELECT 2, 10, seq % 4000 + 1, seq
+            FROM seq_1_to_50000
+            """,
+            """
+            INSERT INTO reviews (id, created_at, description, rating, title, customer_id, dish_id, restaurant_id)
+            SELECT seq, NOW(6) - INTERVAL seq MINUTE, 'Description', seq % 5 + 1, 'Title', 602 + seq % 4399,
+                   IF(seq % 2 = 0, NULL, seq % 4000 + 1), seq % 200 + 1
+            FROM seq_1_to_20000
+            """,
+            """
+            INSERT INTO email_outbox (id, created_at, attempts, body, next_attempt_at, recipient, status, subject)
+            SELECT seq, NOW(6), 1, 'Body', NOW(6), 'user@example.com', IF(seq <= 10, 'PENDING', 'SENT'), 'Subject'
+            FROM seq_1_to_5000
+            """,
+            """
+            INSERT INTO media_uploads (id, created_at, attempts, file_type, next_attempt_at, staged_path, status)
+            SELECT seq, NOW(6), 5, 'DISH_PHOTO', NOW(6), CONCAT('staging/', seq), IF(seq <= 10, 'PENDING', 'FAILED')
+            FROM seq_1_to_1000
+            """,
+            """
+            INSERT INTO soft_delete_jobs (id, created_at, attempts, completed_steps, deleted_rows, entity_deleted_at,
+                                          entity_id, entity_type, next_attempt_at, status, total_steps)
+            SELECT seq, NOW(6), 0, 11, 100, NOW(6), seq, 'Restaurant', NOW(6), IF(seq <= 10, 'PENDING', 'COMPLETED'),
+                   11
+            FROM seq_1_to_1000
+            """,
+            "SET FOREIGN_KEY_CHECKS = 1",
+            """
+            ANALYZE TABLE users, addresses, restaurants, categories, restaurant_category, dishes, week_day_infos,
+                          sitting_times, bookings, seat_ledger, orders, order_dish, reviews, email_outbox,
+                          media_uploads, soft_delete_jobs
+            """
+    };
+
+    private static final List<CapturedStatement> CAPTURED_STATEMENTS = new ArrayList<>();
+
+    private static final Map<String, Consumer<Session>> QUERIES = new LinkedHashMap<>();
+
+    private static final LocalDateTime CURSOR_CREATED_AT = LocalDateTime.now().minusDays(1);
+
+    private static final List<Long> IDS = List.of(1L, 2L, 3L);
+
+    static {
+        QUERIES.put("BookingRepository.findAllByCustomer_IdOrderByDateDesc", session ->
+                bookingRepository(session).findAllByCustomer_IdOrderByDateDesc(1000L));
+        QUERIES.put("BookingRepository.findAllByRestaurant_IdOrderByDateDesc", session ->
+                bookingRepository(session).findAllByRestaurant_IdOrderByDateDesc(5L));
+        QUERIES.put("BookingRepository.existsActiveFutureBookingByCustomer_IdAndRestaurant_IdAndDate", session ->
+                bookingRepository(session).existsActiveFutureBookingByCustomer_IdAndRestaurant_IdAndDate(
+                        1000L,
+                        5L,
+                        LocalDate.now().plusDays(1)
+                ));
+        QUERIES.put("BookingRepository.existsCurrentActiveBooking", session ->
+                bookingRepository(session).existsCurrentActiveBooking(1000L, 5L));
+        QUERIES.put("BookingRepository.findAllCurrentActiveBookingsByCustomer_Id", session ->
+                bookingRepository(session).findAllCurrentActiveBookingsByCustomer_Id(1000L));
+        QUERIES.put("BookingRepository.existsPastActiveBookingByCustomer_IdAndRestaurant_Id", session ->
+                bookingRepository(session).existsPastActiveBookingByCustomer_IdAndRestaurant_Id(1000L, 5L));
+        QUERIES.put("BookingRepository.findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit", session ->
+                bookingRepository(session)
+                        .findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(CURSOR_CREATED_AT, 100L, 20));
+        QUERIES.put("BookingRepository.updateStatusByIdAndStatusIn", session ->
+                bookingRepository(session).updateStatusByIdAndStatusIn(100L, "CANCELLED", List.of("ACTIVE")));
+        QUERIES.put("BookingRepository.findActiveFutureIdsForUpdateBySittingTime_IdIn", session ->
+                bookingRepository(session).findActiveFutureIdsForUpdateBySittingTime_IdIn(IDS));
+        QUERIES.put("BookingRepository.findActiveFutureIdsForUpdateByCustomer_Id", session ->
+                bookingRepository(session).findActiveFutureIdsForUpdateByCustomer_Id(1000L));
+        QUERIES.put("BookingRepository.findAllByIdIn", session ->
+                bookingRepository(session).findAllByIdIn(IDS));
+        QUERIES.put("BookingRepository.deleteAllBySittingTime_IdIn", session ->
+                bookingRepository(session).deleteAllBySittingTime_IdIn(IDS));
+        QUERIES.put("SeatLedgerRepository.findAllById_RestaurantIdAndId_DateBetween", session ->
+                repository(session, SeatLedgerRepository.class).findAllById_RestaurantIdAndId_DateBetween(
+                        5L,
+                        LocalDate.now(),
+                        LocalDate.now().plusDays(14)
+                ));
+        QUERIES.put("SeatLedgerRepository.reserveSeats", session ->
+                repository(session, SeatLedgerRepository.class).reserveSeats(5L, LocalDate.now(), 5L, 2, 50));
+        QUERIES.put("SeatLedgerRepository.insertIgnoreFromBookings", session ->
+                repository(session, SeatLedgerRepository.class).insertIgnoreFromBookings(5L, LocalDate.now(), 5L));
+        QUERIES.put("SeatLedgerRepository.insertIgnoreAllFromBookings", session ->
+                repository(session, SeatLedgerRepository.class).insertIgnoreAllFromBookings(LocalDate.now()));
+        QUERIES.put("SeatLedgerRepository.deleteAllById_SittingTimeIdIn", session ->
+                repository(session, SeatLedgerRepository.class).deleteAllById_SittingTimeIdIn(IDS));
+        QUERIES.put("CustomizedOrderRepository.findById", session ->
+                orderRepository(session).findById(100L));
+        QUERIES.put("CustomizedOrderRepository.findAllByBuyer_IdOrderByCreatedAtDesc", session ->
+                orderRepository(session).findAllByBuyer_IdOrderByCreatedAtDesc(1000L));
+        QUERIES.put("CustomizedOrderRepository.findAllByRestaurant_IdOrderByCreatedAtDesc", session ->
+                orderRepository(session).findAllByRestaurant_IdOrderByCreatedAtDesc(5L));
+        QUERIES.put("CustomizedOrderRepository.findAllByRestaurant_IdAndStatusInOrderByCreatedAtDesc", session ->
+                orderRepository(session)
+                        .findAllByRestaurant_IdAndStatusInOrderByCreatedAtDesc(5L, List.of("PAID", "PREPARING")));
+        QUERIES.put("CustomizedOrderRepository.findAllByStatusInOrderByCreatedAtDesc", session ->
+                orderRepository(session).findAllByStatusInOrderByCreatedAtDesc(List.of("PAID", "PREPARING")));
+        QUERIES.put("CustomizedOrderRepository.findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit", session ->
+                orderRepository(session)
+                        .findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(CURSOR_CREATED_AT, 100L, 20));
+        QUERIES.put("CustomizedOrderRepository.loadDetails", session -> {
+            OrderRepository orderRepository = orderRepository(session);
+            orderRepository.loadDetails(orderRepository.findAllByIdInOrderByCreatedAtDesc(IDS));
+        });
+        QUERIES.put("OrderRepository.existsByBuyer_IdAndDish_Id", session ->
+                orderRepository(session).existsByBuyer_IdAndDish_Id(1000L, 5L));
+        QUERIES.put("OrderRepository.updateStatusByIdAndStatusIn", session ->
+                orderRepository(session).updateStatusByIdAndStatusIn(100L, "PAID", List.of("CREATED")));
+        QUERIES.put("OrderRepository.findIdsForUpdateByRestaurant_IdAndIdInAndStatusIn", session ->
+                orderRepository(session).findIdsForUpdateByRestaurant_IdAndIdInAndStatusIn(5L, IDS, List.of("PAID")));
+        QUERIES.put("OrderRepository.findIdsForUpdateByRestaurant_IdAndTableCodeAndStatusIn", session ->
+                orderRepository(session)
+                        .findIdsForUpdateByRestaurant_IdAndTableCodeAndStatusIn(5L, "T5", List.of("CREATED")));
+        QUERIES.put("OrderRepository.updateStatusByIdIn", session ->
+                orderRepository(session).updateStatusByIdIn(IDS, "PREPARING"));
+        QUERIES.put("OrderRepository.findAllByBuyer_IdAndStatusIn", session ->
+                orderRepository(session).findAllByBuyer_IdAndStatusIn(1000L, List.of("PAID", "PREPARING")));
+        QUERIES.put("ReviewRepository.findAllByCustomer_IdOrderByCreatedAtDesc", session ->
+                repository(session, ReviewRepository.class).findAllByCustomer_IdOrderByCreatedAtDesc(1000L));
+        QUERIES.put("ReviewRepository.findAllByRestaurant_IdOrderByCreatedAtDesc", session ->
+                repository(session, ReviewRepository.class).findAllByRestaurant_IdOrderByCreatedAtDesc(5L));
+        QUERIES.put("ReviewRepository.findAllByDish_IdOrderByCreatedAtDesc", session ->
+                repository(session, ReviewRepository.class).findAllByDish_IdOrderByCreatedAtDesc(5L));
+        QUERIES.put("ReviewRepository.findAllByRestaurant_IdOrderByCreated_AtDescLimit", session ->
+                repository(session, ReviewRepository.class).findAllByRestaurant_IdOrderByCreated_AtDescLimit(5L, 3));
+        QUERIES.put("ReviewRepository.findIdsByRestaurant_IdInOrderByCreated_AtDescLimit", session ->
+                repository(session, ReviewRepository.class).findIdsByRestaurant_IdInOrderByCreated_AtDescLimit(IDS, 3));
+        QUERIES.put("ReviewRepository.findAllByIdInOrderByCreatedAtDesc", session ->
+                repository(session, ReviewRepository.class).findAllByIdInOrderByCreatedAtDesc(IDS));
+        QUERIES.put("ReviewRepository.findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit", session ->
+                repository(session, ReviewRepository.class)
+                        .findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(CURSOR_CREATED_AT, 100L, 20));
+        QUERIES.put("DishRepository.findAllByRestaurant_Id", session ->
+                repository(session, DishRepository.class).findAllByRestaurant_Id(5L));
+        QUERIES.put("DishRepository.findAllByRestaurant_IdOrderByAverageRatingDescLimit", session ->
+                repository(session, DishRepository.class).findAllByRestaurant_IdOrderByAverageRatingDescLimit(5L, 3));
+        QUERIES.put("DishRepository.findIdsByRestaurant_IdInOrderByAverageRatingDescLimit", session ->
+                repository(session, DishRepository.class)
+                        .findIdsByRestaurant_IdInOrderByAverageRatingDescLimit(IDS, 3));
+        QUERIES.put("DishRepository.addRatings", session ->
+                repository(session, DishRepository.class).addRatings(5L, 4, 1));
+        QUERIES.put("DishRepository.findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit", session ->
+                repository(session, DishRepository.class)
+                        .findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(CURSOR_CREATED_AT, 100L, 20));
+        QUERIES.put("DishRepository.updatePhotoUrlByPhotoUrl", session ->
+                repository(session, DishRepository.class).updatePhotoUrlByPhotoUrl("dish-5", "dish-new"));
+        QUERIES.put("DishRepository.removeRatingsByCustomer_Id", session ->
+                repository(session, DishRepository.class).removeRatingsByCustomer_Id(700L));
+        QUERIES.put("RestaurantRepository.findAllByApproved", session ->
+                repository(session, RestaurantRepository.class).findAllByApproved(false));
+        QUERIES.put("RestaurantRepository.findByIdAndApproved", session ->
+                repository(session, RestaurantRepository.class).findByIdAndApproved(5L, true));
+        QUERIES.put("RestaurantRepository.findByRestaurateur_Id", session ->
+                repository(session, RestaurantRepository.class).findByRestaurateur_Id(5L));
+        QUERIES.put("RestaurantRepository.findAllByCategories_IdAndApproved", session ->
+                repository(session, RestaurantRepository.class).findAllByCategories_IdAndApproved(5L, true));
+        QUERIES.put(
+                "RestaurantRepository.findAllByApprovedInAndCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit",
+                session -> repository(session, RestaurantRepository.class)
+                        .findAllByApprovedInAndCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(
+                                List.of(true),
+                                CURSOR_CREATED_AT,
+                                100L,
+                                20
+                        )
+        );
+        QUERIES.put("RestaurantRepository.addRatings", session ->
+                repository(session, RestaurantRepository.class).addRatings(5L, 4, 1));
+        QUERIES.put("RestaurantRepository.updatePhotoUrlByPhotoUrl", session ->
+                repository(session, RestaurantRepository.class).updatePhotoUrlByPhotoUrl("photo-5", "photo-new"));
+        QUERIES.put("RestaurantRepository.removeRatingsByDish_Id", session ->
+                repository(session, RestaurantRepository.class).removeRatingsByDish_Id(5L));
+        QUERIES.put("RestaurantRepository.removeRatingsByCustomer_Id", session ->
+                repository(session, RestaurantRepository.class).removeRatingsByCustomer_Id(700L));
+        QUERIES.put("UserRepository.findByEmail", session ->
+                repository(session, UserRepository.class).findByEmail("user5@example.com"));
+        QUERIES.put("UserRepository.findByRole", session ->
+                repository(session, UserRepository.class).findByRole(Role.ADMIN));
+        QUERIES.put("UserRepository.updateAvatarUrlByAvatarUrl", session ->
+                repository(session, UserRepository.class).updateAvatarUrlByAvatarUrl("avatar-5", "avatar-new"));
+        QUERIES.put("WeekDayInfoRepository.findAllByRestaurantIdOrderByWeekDay", session ->
+                repository(session, WeekDayInfoRepository.class).findAllByRestaurantIdOrderByWeekDay(5L));
+        QUERIES.put("SittingTimeRepository.findSlotsByRestaurant_IdIn", session ->
+                repository(session, SittingTimeRepository.class).findSlotsByRestaurant_IdIn(IDS));
+        QUERIES.put("SittingTimeRepository.deleteAllByIdIn", session ->
+                repository(session, SittingTimeRepository.class).deleteAllByIdIn(IDS));
+        QUERIES.put("EmailOutboxMessageRepository.claimDue", session ->
+                repository(session, EmailOutboxMessageRepository.class)
+                        .claimDue("token", LocalDateTime.now(), LocalDateTime.now().plusMinutes(5), 50));
+        QUERIES.put("EmailOutboxMessageRepository.findAllByClaimTokenOrderById", session ->
+                repository(session, EmailOutboxMessageRepository.class).findAllByClaimTokenOrderById("token"));
+        QUERIES.put("EmailOutboxMessageRepository.markSentByIdInAndClaimToken", session ->
+                repository(session, EmailOutboxMessageRepository.class)
+                        .markSentByIdInAndClaimToken(IDS, "token", LocalDateTime.now()));
+        QUERIES.put("EmailOutboxMessageRepository.markFailedAttemptByIdInAndClaimToken", session ->
+                repository(session, EmailOutboxMessageRepository.class).markFailedAttemptByIdInAndClaimToken(
+                        IDS, "token", "PENDING", 1, LocalDateTime.now(), "error"));
+        QUERIES.put("EmailOutboxMessageRepository.deleteAllByStatusAndSentAtBeforeLimit", session ->
+                repository(session, EmailOutboxMessageRepository.class)
+                        .deleteAllByStatusAndSentAtBeforeLimit("SENT", LocalDateTime.now().minusDays(7), 500));
+        QUERIES.put("MediaUploadRepository.claimDue", session ->
+                repository(session, MediaUploadRepository.class)
+                        .claimDue("token", LocalDateTime.now(), LocalDateTime.now().plusMinutes(10), 10));
+        QUERIES.put("MediaUploadRepository.findAllByClaimTokenOrderById", session ->
+                repository(session, MediaUploadRepository.class).findAllByClaimTokenOrderById("token"));
+        QUERIES.put("SoftDeleteJobRepository.claimDue", session ->
+                repository(session, SoftDeleteJobRepository.class)
+                        .claimDue("token", LocalDateTime.now(), LocalDateTime.now().plusMinutes(10), 5));
+        QUERIES.put("SoftDeleteJobRepository.findAllByClaimTokenOrderById", session ->
+                repository(session, SoftDeleteJobRepository.class).findAllByClaimTokenOrderById("token"));
+        QUERIES.put("SoftDeleteHelperImpl.deleteDescendants of a restaurant", session ->
+                new SoftDeleteHelperImpl(session, repository(session, SoftDeleteJobRepository.class))
+                        .deleteDescendants(Restaurant.class, 5L, LocalDateTime.now()));
+    }
+
+    private static SessionFactory sessionFactory;
+
+    /**
+     * Checks whether the test must run: always in CI, elsewhere only when Docker is available.
+     *
+     * @return true if the test must run, false otherwise
+     */
+    static boolean isDockerAvailableOrRequired() {
+        return System.getenv("CI") != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(MARIADB.getJdbcUrl(), MARIADB.getUsername(), MARIADB.getPassword())
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            for (String seedStatement : SEED_STATEMENTS) {
+                statement.execute(seedStatement);
+            }
+        }
+
+        sessionFactory = TestSessionFactoryUtil.buildSessionFactory(
+                MARIADB.getJdbcUrl(),
+                MARIADB.getUsername(),
+                MARIADB.getPassword(),
+                Map.of(
+                        AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, createCapturingDataSource(),
+                        AvailableSettings.HBM2DDL_AUTO, "validate"
+                )
+        );
+    }
+
+    @AfterAll
+    static void closeSessionFactory() {
+        if (sessionFactory != null) sessionFactory.close();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(MARIADB.getJdbcUrl(), MARIADB.getUsername(), MARIADB.getPassword());
+    }
+
+    private static <T> T repository(Session session, Class<T> repositoryInterface, Object... implementations) {
+        return new JpaRepositoryFactory(session)
+                .getRepository(repositoryInterface, RepositoryFragments.just(implementations));
+    }
+
+    private static BookingRepository bookingRepository(Session session) {
+        return repository(session, BookingRepository.class, new CustomizedBookingRepositoryImpl(session));
+    }
+
+    private static OrderRepository orderRepository(Session session) {
+        return repository(session, OrderRepository.class, new CustomizedOrderRepositoryImpl(session));
+    }
+
+    /**
+     * Creates a data source over the container whose prepared statements record their SQL and parameters when they
+     * are executed.
+     *
+     * @return the data source
+     */
+    private static DataSource createCapturingDataSource() {
+        return proxy(DataSource.class, (dataSourceProxy, dataSourceMethod, dataSourceArgs) -> {
+            if (!dataSourceMethod.getName().equals("getConnection")) {
+                throw new UnsupportedOperationException(dataSourceMethod.getName());
+            }
+            Connection connection = connect();
+            return proxy(Connection.class, (connectionProxy, connectionMethod, connectionArgs) -> {
+                Object result = invoke(connection, connectionMethod, connectionArgs);
+                if (!connectionMethod.getName().equals("prepareStatement")) return result;
+
+                PreparedStatement preparedStatement = (PreparedStatement) result;
+                String sql = (String) connectionArgs[0];
+                Map<Integer, ParameterSetter> parameters = new TreeMap<>();
+                return proxy(PreparedStatement.class, (statementProxy, statementMethod, statementArgs) -> {
+                    String name = statementMethod.getName();
+                    if (name.startsWith("set") && statementArgs != null && statementArgs.length >= 2
+                            && statementArgs[0] instanceof Integer index) {
+                        parameters.put(index, new ParameterSetter(statementMethod, statementArgs));
+                    } else if (name.startsWith("execute") && statementArgs == null) {
+                        CAPTURED_STATEMENTS.add(new CapturedStatement(sql, List.copyOf(parameters.values())));
+                    } else if (name.equals("clearParameters")) {
+                        parameters.clear();
+                    }
+                    return invoke(preparedStatement, statementMethod, statementArgs);
+                });
+            });
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Runs the operation in a transaction that is rolled back, capturing the statements it sends.
+     *
+     * @param operation the operation
+     * @return the statements sent by the operation
+     */
+    private static List<CapturedStatement> captureStatements(Consumer<Session> operation) {
+        CAPTURED_STATEMENTS.clear();
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                operation.accept(session);
+                session.flush();
+            } finally {
+                transaction.rollback();
+            }
+        }
+        return List.copyOf(CAPTURED_STATEMENTS);
+    }
+
+    @Test
+    void repositoryQueriesDoNotReadWholeTables() throws Throwable {
+        // Arrange
+        List<String> fullScans = new ArrayList<>();
+
+        try (Connection connection = connect()) {
+            for (Map.Entry<String, Consumer<Session>> query : QUERIES.entrySet()) {
+                // Act
+                for (CapturedStatement capturedStatement : captureStatements(query.getValue())) {
+                    if (!capturedStatement.readsRows()) continue;
+
+                    String sql = "EXPLAIN " + capturedStatement.sql();
+                    try (PreparedStatement explain = connection.prepareStatement(sql)) {
+                        for (ParameterSetter parameter : capturedStatement.parameters()) {
+                            invoke(explain, parameter.method(), parameter.args());
+                        }
+                        try (ResultSet plan = explain.executeQuery()) {
+                            while (plan.next()) {
+                                String table = plan.getString("table");
+                                if ("ALL".equals(plan.getString("type")) && table != null && !table.startsWith("<")) {
+                                    fullScans.add(query.getKey() + " reads " + table + " in full");
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // Assert
+        assertEquals(List.of(), fullScans);
+    }
+
+    /**
+     * Call setting a parameter of a prepared statement, replayed on the explained statement.
+     *
+     * @param method the setter of the parameter
+     * @param args   the arguments of the setter, starting with the parameter index
+     */
+    private record ParameterSetter(Method method, Object[] args) {
+    }
+
+    /**
+     * Statement sent by a repository query, with its parameters in index order.
+     *
+     * @param sql        the SQL of the statement
+     * @param parameters the setters of its parameters
+     */
+    private record CapturedStatement(String sql, List<ParameterSetter> parameters) {
+
+        /**
+         * Checks whether the statement reads rows, which excludes the inserts of single rows.
+         *
+         * @return true if the statement reads rows, false otherwise
+         */
+        boolean readsRows() {
+            String lowerCaseSql = sql.strip().toLowerCase();
+            return !lowerCaseSql.startsWith("insert") || lowerCaseSql.contains("select");
+        }
+    }
+}
\ No newline at end of file
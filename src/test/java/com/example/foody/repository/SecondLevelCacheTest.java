@@ -0,0 +1,230 @@
+package com.example.foody.repository;
+
+import com.example.foody.TestSessionFactoryUtil;
+import com.example.foody.config.SecondLevelCacheConfig;
+import com.example.foody.model.Category;
+import com.example.foody.model.Dish;
+import com.example.foody.model.Restaurant;
+import com.example.foody.model.SittingTime;
+import com.example.foody.model.user.User;
+import com.example.foody.utils.QueryCountInspector;
+import com.example.foody.utils.SoftDeleteCacheEvictor;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import javax.cache.CacheManager;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class checking the queries saved by the second-level cache against an in-memory database.
+ * <p>
+ * The entities are mapped by a session factory configured like the application one, with the cache manager of
+ * {@link SecondLevelCacheConfig}. Each operation runs in its own session, so only the second-level cache is shared
+ * between two runs, and the statements sent by the first and the second run are counted by
+ * {@link QueryCountInspector}.
+ */
+public class SecondLevelCacheTest {
+
+    private static final String RATING_COLUMNS = """
+            rating_count, rating_sum, rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count,
+            average_rating""";
+
+    private static final String RATING_VALUES = "0, 0, 0, 0, 0, 0, 0, 0";
+
+    private static final String[] SEED_STATEMENTS = {
+            """
+            INSERT INTO users (role, id, created_at, active, birth_date, email, name, password, surname)
+            VALUES ('RESTAURATEUR', 1, NOW(), TRUE, '1990-01-01', 'restaurateur1@example.com', 'Name', 'pw', 'Surname'),
+                   ('RESTAURATEUR', 2, NOW(), TRUE, '1990-01-01', 'restaurateur2@example.com', 'Name', 'pw', 'Surname')
+            """,
+            """
+            INSERT INTO addresses (id, created_at, city, civic_number, postal_code, province, street)
+            VALUES (1, NOW(), 'Roma', '1', '00100', 'RM', 'Via Roma'),
+                   (2, NOW(), 'Roma', '2', '00100', 'RM', 'Via Roma')
+            """,
+            """
+            INSERT INTO restaurants (id, created_at, approved, description, name, phone_number, photo_url, seats,
+                                     address_id, restaurateur_id, %s)
+            VALUES (1, NOW(), TRUE, 'Description', 'Restaurant', '+390000000000', 'photo.jpg', 50, 1, 1, %s),
+                   (2, NOW(), TRUE, 'Description', 'Deleted', '+390000000000', NULL, 50, 2, 2, %s)
+            """.formatted(RATING_COLUMNS, RATING_VALUES, RATING_VALUES),
+            "INSERT INTO categories (id, name) VALUES (1, 'Category')",
+            "INSERT INTO restaurant_category (restaurant_id, category_id) VALUES (1, 1), (2, 1)",
+            """
+            INSERT INTO dishes (id, created_at, description, name, price, restaurant_id, %s)
+            VALUES (1, NOW(), 'Description', 'Dish', 10, 1, %s),
+                   (2, NOW(), 'Description', 'Deleted dish', 10, 1, %s)
+            """.formatted(RATING_COLUMNS, RATING_VALUES, RATING_VALUES),
+            """
+            INSERT INTO week_day_infos (id, created_at, sitting_time_step, start_launch, end_launch, week_day,
+                                        restaurant_id)
+            VALUES (1, NOW(), 'THIRTY', '12:00', '14:00', 1, 1)
+            """,
+            """
+            INSERT INTO sitting_times (id, created_at, start, end, week_day_info_id)
+            VALUES (1, NOW(), '12:00', '12:30', 1)
+            """
+    };
+
+    private static CacheManager cacheManager;
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void buildSessionFactoryAndSeed() {
+        cacheManager = SecondLevelCacheConfig.createCacheManager();
+        sessionFactory = TestSessionFactoryUtil.buildH2SessionFactory(
+                Map.of(
+                        AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+                        AvailableSettings.USE_QUERY_CACHE, true,
+                        AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME,
+                        ConfigSettings.MISSING_CACHE_STRATEGY, "fail",
+                        ConfigSettings.CACHE_MANAGER, cacheManager
+                ),
+                new SoftDeleteCacheEvictor()
+        );
+        TestSessionFactoryUtil.executeStatements(sessionFactory, SEED_STATEMENTS);
+    }
+
+    @AfterAll
+    static void closeSessionFactory() {
+        if (sessionFactory != null) sessionFactory.close();
+        if (cacheManager != null) cacheManager.close();
+    }
+
+    @BeforeEach
+    void evictCache() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    private static long countQueries(Consumer<Session> operation) {
+        return TestSessionFactoryUtil.countQueries(sessionFactory, operation);
+    }
+
+    private static Consumer<Session> initializeCategories(long restaurantId) {
+        return session -> Hibernate.initialize(session.find(Restaurant.class, restaurantId).getCategories());
+    }
+
+    @Test
+    void findByIdWhenCachedLoadsSittingTimeWithoutQueries() {
+        // Act
+        long firstQueryCount = countQueries(session -> session.find(SittingTime.class, 1L));
+        long secondQueryCount = countQueries(session -> session.find(SittingTime.class, 1L));
+
+        // Assert
+        assertTrue(firstQueryCount > 0);
+        assertEquals(0, secondQueryCount);
+    }
+
+    @Test
+    void findByIdWhenUserWasLoadedQueriesUserAgain() {
+        // Act
+        long firstQueryCount = countQueries(session -> session.find(User.class, 1L));
+        long secondQueryCount = countQueries(session -> session.find(User.class, 1L));
+
+        // Assert
+        assertTrue(firstQueryCount > 0);
+        assertEquals(firstQueryCount, secondQueryCount);
+    }
+
+    @Test
+    void findByIdAndApprovedWhenCachedLoadsRestaurantWithoutQueries() {
+        // Act
+        long firstQueryCount = countQueries(session -> new JpaRepositoryFactory(session)
+                .getRepository(RestaurantRepository.class)
+                .findByIdAndApproved(1L, true));
+        long secondQueryCount = countQueries(session -> new JpaRepositoryFactory(session)
+                .getRepository(RestaurantRepository.class)
+                .findByIdAndApproved(1L, true));
+
+        // Assert
+        assertTrue(firstQueryCount > 0);
+        assertEquals(0, secondQueryCount);
+    }
+
+    @Test
+    void restaurantCategoriesWhenCachedAreInitializedWithoutQueries() {
+        // Act
+        long firstQueryCount = countQueries(initializeCategories(1L));
+        long secondQueryCount = countQueries(initializeCategories(1L));
+
+        // Assert
+        assertTrue(firstQueryCount > 0);
+        assertEquals(0, secondQueryCount);
+    }
+
+    @Test
+    void updatePhotoUrlByPhotoUrlEvictsRestaurantsOnly() {
+        // Arrange
+        countQueries(session -> {
+            session.find(Restaurant.class, 1L);
+            session.find(Category.class, 1L);
+        });
+
+        // Act
+        countQueries(session -> new JpaRepositoryFactory(session)
+                .getRepository(RestaurantRepository.class)
+                .updatePhotoUrlByPhotoUrl("photo.jpg", "new-photo.jpg"));
+        long restaurantQueryCount = countQueries(session -> session.find(Restaurant.class, 1L));
+        long categoryQueryCount = countQueries(session -> session.find(Category.class, 1L));
+
+        // Assert
+        assertEquals(1, restaurantQueryCount);
+        assertEquals(0, categoryQueryCount);
+    }
+
+    @Test
+    void deleteWhenCachedEvictsDish() {
+        // Arrange
+        countQueries(session -> session.find(Dish.class, 2L));
+
+        // Act
+        countQueries(session -> session.find(Dish.class, 2L).delete());
+        long queryCount = countQueries(session -> session.find(Dish.class, 2L));
+        Dish result = sessionFactory.fromTransaction(session -> session.find(Dish.class, 2L));
+
+        // Assert
+        assertEquals(1, queryCount);
+        assertNull(result);
+    }
+
+    @Test
+    void deleteDishKeepsRestaurantCategoriesCached() {
+        // Arrange
+        countQueries(initializeCategories(1L));
+
+        // Act
+        countQueries(session -> session.find(Dish.class, 1L).delete());
+        long queryCount = countQueries(initializeCategories(1L));
+
+        // Assert
+        assertEquals(0, queryCount);
+    }
+
+    @Test
+    void deleteRestaurantEvictsItsCategoriesOnly() {
+        // Arrange
+        countQueries(initializeCategories(1L));
+        countQueries(initializeCategories(2L));
+
+        // Act
+        countQueries(session -> session.find(Restaurant.class, 2L).delete());
+        long keptQueryCount = countQueries(initializeCategories(1L));
+        boolean deletedCategoriesCached = sessionFactory.getCache()
+                .containsCollection(Restaurant.class.getName() + ".categories", 2L);
+
+        // Assert
+        assertEquals(0, keptQueryCount);
+        assertFalse(deletedCategoriesCached);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+package com.example.foody.repository.customized;
+
+import com.example.foody.TestSessionFactoryUtil;
+import com.example.foody.model.Order;
+import com.example.foody.utils.enums.OrderStatus;
+import com.example.foody.utils.state.OrderStateUtils;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link CustomizedOrderRepositoryImpl} class counting the statements sent to an in-memory database.
+ * <p>
+ * The details of the orders are read inside the counted operation, so a lazy load would be counted too.
+ */
+public class CustomizedOrderRepositoryImplQueryCountTest {
+
+    private static final String RATING_COLUMNS = """
+            rating_count, rating_sum, rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count,
+            average_rating""";
+
+    private static final String RATING_VALUES = "0, 0, 0, 0, 0, 0, 0, 0";
+
+    private static final String[] SEED_STATEMENTS = {
+            """
+            INSERT INTO users (role, id, created_at, active, birth_date, email, name, password, surname)
+            VALUES ('RESTAURATEUR', 1, NOW(), TRUE, '1990-01-01', 'restaurateur1@example.com', 'Name', 'pw', 'Surname'),
+                   ('RESTAURATEUR', 2, NOW(), TRUE, '1990-01-01', 'restaurateur2@example.com', 'Name', 'pw', 'Surname'),
+                   ('CUSTOMER', 3, NOW(), TRUE, '1990-01-01', 'customer3@example.com', 'Name', 'pw', 'Surname'),
+                   ('CUSTOMER', 4, NOW(), TRUE, '1990-01-01', 'customer4@example.com', 'Name', 'pw', 'Surname'),
+                   ('CUSTOMER', 5, NOW(), TRUE, '1990-01-01', 'customer5@example.com', 'Name', 'pw', 'Surname')
+            """,
+            """
+            INSERT INTO addresses (id, created_at, city, civic_number, postal_code, province, street)
+            VALUES (1, NOW(), 'Roma', '1', '00100', 'RM', 'Via Roma'),
+                   (2, NOW(), 'Roma', '2', '00100', 'RM', 'Via Roma')
+            """,
+            """
+            INSERT INTO restaurants (id, created_at, deleted_at, approved, description, name, phone_number, seats,
+                                     address_id, restaurateur_id, %s)
+            VALUES (1, NOW(), NULL, TRUE, 'Description', 'Restaurant', '+390000000000', 50, 1, 1, %s),
+                   (2, NOW(), NOW(), TRUE, 'Description', 'Deleted', '+390000000000', 50, 2, 2, %s)
+            """.formatted(RATING_COLUMNS, RATING_VALUES, RATING_VALUES),
+            """
+            INSERT INTO dishes (id, created_at, description, name, price, restaurant_id, %s)
+            VALUES (1, NOW(), 'Description', 'Dish', 10, 1, %s),
+                   (2, NOW(), 'Description', 'Dish', 10, 2, %s)
+            """.formatted(RATING_COLUMNS, RATING_VALUES, RATING_VALUES),
+            """
+            INSERT INTO orders (id, created_at, table_code, buyer_id, restaurant_id, status, total_amount, item_count,
+                                version)
+            VALUES (1, NOW(), 'T1', 3, 1, 'CREATED', 10, 1, 0),
+                   (2, NOW(), 'T1', 4, 1, 'CREATED', 10, 1, 0),
+                   (3, NOW(), 'T1', 5, 1, 'CREATED', 10, 1, 0),
+                   (4, NOW(), 'T1', 3, 1, 'PAID', 10, 1, 0),
+                   (5, NOW(), 'T1', 4, 1, 'PAID', 10, 1, 0),
+                   (6, NOW(), 'T1', 5, 1, 'PAID', 10, 1, 0),
+                   (7, NOW(), 'T1', 3, 2, 'CREATED', 10, 1, 0)
+            """,
+            """
+            INSERT INTO order_dish (order_id, dish_id, quantity, unit_price)
+            VALUES (1, 1, 1, 10), (2, 1, 1, 10), (3, 1, 1, 10), (4, 1, 1, 10), (5, 1, 1, 10), (6, 1, 1, 10),
+                   (7, 2, 1, 10)
+            """
+    };
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void buildSessionFactoryAndSeed() {
+        sessionFactory = TestSessionFactoryUtil.buildH2SessionFactory(Map.of());
+        TestSessionFactoryUtil.executeStatements(sessionFactory, SEED_STATEMENTS);
+    }
+
+    @AfterAll
+    static void closeSessionFactory() {
+        if (sessionFactory != null) sessionFactory.close();
+    }
+
+    /**
+     * Reads the details that the order responses map, so that any lazy load happens inside the counted operation.
+     *
+     * @param orders the orders
+     */
+    private static void readDetails(List<Order> orders) {
+        orders.forEach(order -> {
+            order.getOrderDishes().forEach(orderDish -> orderDish.getDish().getName());
+            order.getBuyer().getUser().getEmail();
+            order.getRestaurant().getAddress().getCity();
+            order.getRestaurant().getRestaurateur().getEmail();
+        });
+    }
+
+    @Test
+    void findByIdAndFindAllByRestaurantIssueSameQueryCount() {
+        // Arrange
+        List<Order> orders = new ArrayList<>();
+
+        // Act
+        long singleOrderQueryCount = TestSessionFactoryUtil.countQueries(sessionFactory, session -> readDetails(
+                new CustomizedOrderRepositoryImpl(session).findById(1L).stream().toList()
+        ));
+        long manyOrdersQueryCount = TestSessionFactoryUtil.countQueries(sessionFactory, session -> {
+            orders.addAll(new CustomizedOrderRepositoryImpl(session).findAllByRestaurant_IdOrderByCreatedAtDesc(1L));
+            readDetails(orders);
+        });
+
+        // Assert
+        assertEquals(6, orders.size());
+        assertEquals(3, singleOrderQueryCount);
+        assertEquals(3, manyOrdersQueryCount);
+    }
+
+    @Test
+    void findAllByRestaurant_IdAndStatusInIssuesThreeQueries() {
+        // Arrange
+        List<Order> orders = new ArrayList<>();
+
+        // Act
+        long queryCount = TestSessionFactoryUtil.countQueries(sessionFactory, session -> {
+            orders.addAll(new CustomizedOrderRepositoryImpl(session)
+                    .findAllByRestaurant_IdAndStatusInOrderByCreatedAtDesc(1L, List.of("PAID")));
+            readDetails(orders);
+        });
+
+        // Assert
+        assertEquals(3, orders.size());
+        assertEquals(3, queryCount);
+    }
+
+    @Test
+    void findAllByBuyer_IdWhenRestaurantSoftDeletedLeavesItsOrdersOut() {
+        // Arrange
+        List<Order> orders = new ArrayList<>();
+
+        // Act
+        TestSessionFactoryUtil.countQueries(sessionFactory, session ->
+                orders.addAll(new CustomizedOrderRepositoryImpl(session).findAllByBuyer_IdOrderByCreatedAtDesc(3L))
+        );
+
+        // Assert
+        assertEquals(List.of(1L, 4L), orders.stream().map(Order::getId).sorted().toList());
+    }
+
+    @Test
+    void markUpdatedAfterBulkStatusUpdateIssuesNoFurtherUpdate() {
+        // Arrange
+        TestSessionFactoryUtil.executeStatements(sessionFactory, """
+                INSERT INTO orders (id, created_at, table_code, buyer_id, restaurant_id, status, total_amount,
+                                    item_count, version)
+                VALUES (100, NOW(), 'T1', 3, 1, 'CREATED', 10, 1, 0)
+                """);
+        String bulkUpdate = "UPDATE orders SET status = 'PAID', version = version + 1 WHERE id = 100";
+        List<Order> updatedOrders = new ArrayList<>();
+
+        try {
+            // Act
+            long unchangedQueryCount = TestSessionFactoryUtil.countQueries(sessionFactory, session -> {
+                session.find(Order.class, 100L);
+                session.createNativeMutationQuery(bulkUpdate).executeUpdate();
+            });
+            long markedQueryCount = TestSessionFactoryUtil.countQueries(sessionFactory, session -> {
+                Order order = session.find(Order.class, 100L);
+                session.createNativeMutationQuery(bulkUpdate).executeUpdate();
+                order.setState(OrderStateUtils.getState(OrderStatus.PAID));
+                order.setVersion(order.getVersion() + 1);
+                new CustomizedOrderRepositoryImpl(session).markUpdated(order);
+            });
+            TestSessionFactoryUtil.countQueries(sessionFactory, session ->
+                    updatedOrders.add(session.find(Order.class, 100L))
+            );
+
+            // Assert
+            assertEquals(unchangedQueryCount, markedQueryCount);
+            assertEquals(OrderStatus.PAID, updatedOrders.get(0).getStatus());
+            assertEquals(2, updatedOrders.get(0).getVersion());
+        } finally {
+            TestSessionFactoryUtil.executeStatements(sessionFactory, "DELETE FROM orders WHERE id = 100");
+        }
+    }
+}
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.example.foody.model.Order;
 import com.example.foody.model.user.BuyerUser;
 import com.example.foody.model.user.User;
 import com.example.foody.state.order.OrderState;
+import com.example.foody.state.order.impl.CreatedState;
 import com.example.foody.utils.enums.OrderStatus;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
@@ -11,9 +12,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,16 +29,37 @@ public class CustomizedOrderRepositoryImplTest {
 
     private EntityManager entityManager;
     private CustomizedOrderRepositoryImpl repository;
+    private TypedQuery<Order> orderQuery;
+    private TypedQuery<User> userQuery;
 
     @BeforeEach
     void setUp() {
         entityManager = mock(EntityManager.class);
         repository = new CustomizedOrderRepositoryImpl(entityManager);
 
-        // Mock the TypedQuery
-        TypedQuery<Order> query = mock(TypedQuery.class);
-        when(entityManager.createQuery(anyString(), eq(Order.class))).thenReturn(query);
-        when(query.setParameter(anyString(), any())).thenReturn(query);
+        // Mock the TypedQuery for orders and users
+        orderQuery = mock(TypedQuery.class);
+        userQuery = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(Order.class))).thenReturn(orderQuery);
+        when(entityManager.createQuery(anyString(), eq(User.class))).thenReturn(userQuery);
+        when(orderQuery.setParameter(anyString(), any())).thenReturn(orderQuery);
+        when(orderQuery.setMaxResults(anyInt())).thenReturn(orderQuery);
+        when(orderQuery.setHint(anyString(), any())).thenReturn(orderQuery);
+        when(userQuery.setParameter(anyString(), any())).thenReturn(userQuery);
+        when(userQuery.getResultList()).thenReturn(List.of());
+    }
+
+    private static Order createOrder(Long buyerId) {
+        Order order = new Order();
+        order.setBuyer(new BuyerUser(buyerId, new ArrayList<>()));
+        order.setState(new CreatedState());
+        return order;
+    }
+
+    private static User createUser(long id) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(id);
+        return user;
     }
 
     @Test
@@ -42,10 +67,8 @@ public class CustomizedOrderRepositoryImplTest {
         // Arrange
         Order order1 = mock(Order.class);
         Order order2 = mock(Order.class);
-        TypedQuery<Order> query = mock(TypedQuery.class);
 
-        when(entityManager.createQuery("SELECT o FROM Order o", Order.class)).thenReturn(query);
-        when(query.getResultList()).thenReturn(List.of(order1, order2));
+        when(orderQuery.getResultList()).thenReturn(List.of(order1, order2));
 
         // Act
         List<Order> result = repository.findAll();
@@ -61,11 +84,8 @@ public class CustomizedOrderRepositoryImplTest {
         // Arrange
         long orderId = 1L;
         Order order = mock(Order.class);
-        TypedQuery<Order> query = mock(TypedQuery.class);
 
-        when(entityManager.createQuery("SELECT o FROM Order o WHERE o.id = :id", Order.class)).thenReturn(query);
-        when(query.setParameter("id", orderId)).thenReturn(query);
-        when(query.getResultList()).thenReturn(List.of(order));
+        when(orderQuery.getResultList()).thenReturn(List.of(order));
 
         // Act
         Optional<Order> result = repository.findById(orderId);
@@ -73,24 +93,22 @@ public class CustomizedOrderRepositoryImplTest {
         // Assert
         assertTrue(result.isPresent());
         assertEquals(order, result.get());
+        verify(orderQuery, times(1)).setParameter("id", orderId);
         verify(order, times(1)).getState();
     }
 
     @Test
     void findByIdWhenOrderDoesNotExistReturnsEmpty() {
         // Arrange
-        long orderId = 1L;
-        TypedQuery<Order> query = mock(TypedQuery.class);
-
-        when(entityManager.createQuery("SELECT o FROM Order o WHERE o.id = :id", Order.class)).thenReturn(query);
-        when(query.setParameter("id", orderId)).thenReturn(query);
-        when(query.getResultList()).thenReturn(List.of());
+        when(orderQuery.getResultList()).thenReturn(List.of());
 
         // Act
-        Optional<Order> result = repository.findById(orderId);
+        Optional<Order> result = repository.findById(1L);
 
         // Assert
         assertFalse(result.isPresent());
+        verify(entityManager, times(1)).createQuery(anyString(), eq(Order.class));
+        verify(entityManager, never()).createQuery(anyString(), eq(User.class));
     }
 
     @Test
@@ -98,116 +116,98 @@ public class CustomizedOrderRepositoryImplTest {
         // Arrange
         long buyerId = 1L;
         Order order = mock(Order.class);
-        TypedQuery<Order> query = mock(TypedQuery.class);
 
-        when(entityManager.createQuery("SELECT o FROM Order o WHERE o.buyer.id = :buyerId ORDER BY o.createdAt DESC", Order.class)).thenReturn(query);
-        when(query.setParameter("buyerId", buyerId)).thenReturn(query);
-        when(query.getResultList()).thenReturn(List.of(order));
+        when(orderQuery.getResultList()).thenReturn(List.of(order));
 
         // Act
         List<Order> result = repository.findAllByBuyer_IdOrderByCreatedAtDesc(buyerId);
 
         // Assert
         assertEquals(1, result.size());
+        verify(orderQuery, times(1)).setParameter("buyerId", buyerId);
         verify(order, times(1)).getState();
     }
 
     @Test
     void setBuyerUserWhenBuyerExistsSetsUser() {
         // Arrange
-        long orderId = 1L;
-        Order order = mock(Order.class);
-        BuyerUser buyer = mock(BuyerUser.class);
-        User user = mock(User.class);
-        TypedQuery<Order> orderQuery = mock(TypedQuery.class);
-        TypedQuery<User> userQuery = mock(TypedQuery.class);
+        Order order = createOrder(1L);
+        User user = createUser(1L);
 
-        // Configure the EntityManager mock to return a TypedQuery mock for Order
-        when(entityManager.createQuery("SELECT o FROM Order o WHERE o.id = :id", Order.class)).thenReturn(orderQuery);
-        when(orderQuery.setParameter("id", orderId)).thenReturn(orderQuery);
         when(orderQuery.getResultList()).thenReturn(List.of(order));
-
-        // Configure the Order mock
-        when(order.getBuyer()).thenReturn(buyer);
-        when(buyer.getId()).thenReturn(1L);
-
-        // Configure the EntityManager mock to return a TypedQuery mock for User
-        when(entityManager.createQuery("SELECT u FROM User u WHERE u.id = :id", User.class)).thenReturn(userQuery);
-        when(userQuery.setParameter("id", 1L)).thenReturn(userQuery);
         when(userQuery.getResultList()).thenReturn(List.of(user));
 
         // Act
-        Optional<Order> result = repository.findById(orderId);
+        Optional<Order> result = repository.findById(1L);
 
         // Assert
         assertTrue(result.isPresent());
-        verify(buyer, times(1)).setUser(user);
+        assertEquals(user, result.get().getBuyer().getUser());
+        verify(userQuery, times(1)).setParameter("ids", List.of(1L));
     }
 
     @Test
     void setBuyerUserWhenBuyerIdIsNullDoesNotSetUser() {
         // Arrange
-        long orderId = 1L;
+        Order order = createOrder(null);
+
+        when(orderQuery.getResultList()).thenReturn(List.of(order));
+
+        // Act
+        Optional<Order> result = repository.findById(1L);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertNull(result.get().getBuyer().getUser());
+        verify(entityManager, never()).createQuery(anyString(), eq(User.class));
+    }
+
+    @Test
+    void setBuyerUserWhenBuyerIsNullDoesNotThrowException() {
+        // Arrange
         Order order = mock(Order.class);
-        BuyerUser buyer = mock(BuyerUser.class);
-        TypedQuery<Order> query = mock(TypedQuery.class);
 
-        when(entityManager.createQuery("SELECT o FROM Order o WHERE o.id = :id", Order.class)).thenReturn(query);
-        when(query.setParameter("id", orderId)).thenReturn(query);
-        when(query.getResultList()).thenReturn(List.of(order));
-        when(order.getBuyer()).thenReturn(buyer);
-        when(buyer.getId()).thenReturn(null);
+        when(orderQuery.getResultList()).thenReturn(List.of(order));
+        when(order.getBuyer()).thenReturn(null);
 
         // Act
-        Optional<Order> result = repository.findById(orderId);
+        Optional<Order> result = repository.findById(1L);
 
         // Assert
         assertTrue(result.isPresent());
-        verify(buyer, never()).setUser(any());
     }
 
     @Test
     void setOrderStateWhenStateIsNullSetsState() {
         // Arrange
-        long orderId = 1L;
         Order order = mock(Order.class);
-        TypedQuery<Order> query = mock(TypedQuery.class);
-
-        // Configure the EntityManager mock to return a TypedQuery mock
-        when(entityManager.createQuery("SELECT o FROM Order o WHERE o.id = :id", Order.class)).thenReturn(query);
-        when(query.setParameter("id", orderId)).thenReturn(query);
-        when(query.getResultList()).thenReturn(List.of(order));
 
-        // Configure the Order mock
+        when(orderQuery.getResultList()).thenReturn(List.of(order));
         when(order.getState()).thenReturn(null);
         when(order.getStatus()).thenReturn(OrderStatus.CREATED);
 
         ArgumentCaptor<Object> stateCaptor = ArgumentCaptor.forClass(Object.class);
 
         // Act
-        Optional<Order> result = repository.findById(orderId);
+        Optional<Order> result = repository.findById(1L);
 
         // Assert
         assertTrue(result.isPresent());
         verify(order, times(1)).getState();
         verify(order, times(1)).setState((OrderState) stateCaptor.capture());
-        assertTrue(stateCaptor.getValue() instanceof com.example.foody.state.order.impl.CreatedState);
+        assertInstanceOf(CreatedState.class, stateCaptor.getValue());
     }
 
     @Test
     void setOrderStateWhenStateIsNotNullDoesNotOverrideState() {
         // Arrange
-        long orderId = 1L;
         Order order = mock(Order.class);
-        TypedQuery<Order> query = mock(TypedQuery.class);
 
-        when(entityManager.createQuery("SELECT o FROM Order o WHERE o.id = :id", Order.class)).thenReturn(query);
-        when(query.setParameter("id", orderId)).thenReturn(query);
-        when(query.getResultList()).thenReturn(List.of(order));
-        when(order.getState()).thenReturn(mock(com.example.foody.state.order.OrderState.class));
+        when(orderQuery.getResultList()).thenReturn(List.of(order));
+        when(order.getState()).thenReturn(mock(OrderState.class));
 
         // Act
-        Optional<Order> result = repository.findById(orderId);
+        Optional<Order> result = repository.findById(1L);
 
         // Assert
         assertTrue(result.isPresent());
@@ -220,13 +220,8 @@ public class CustomizedOrderRepositoryImplTest {
         long restaurantId = 1L;
         Order order1 = mock(Order.class);
         Order order2 = mock(Order.class);
-        TypedQuery<Order> query = mock(TypedQuery.class);
 
-        // Configure the EntityManager mock to return a TypedQuery mock
-        when(entityManager.createQuery("SELECT o FROM Order o WHERE o.restaurant.id = :restaurantId ORDER BY o.createdAt DESC", Order.class))
-                .thenReturn(query);
-        when(query.setParameter("restaurantId", restaurantId)).thenReturn(query);
-        when(query.getResultList()).thenReturn(List.of(order1, order2));
+        when(orderQuery.getResultList()).thenReturn(List.of(order1, order2));
 
         // Act
         List<Order> result = repository.findAllByRestaurant_IdOrderByCreatedAtDesc(restaurantId);
@@ -236,16 +231,13 @@ public class CustomizedOrderRepositoryImplTest {
         assertEquals(2, result.size());
         assertTrue(result.contains(order1));
         assertTrue(result.contains(order2));
-        verify(query, times(1)).setParameter("restaurantId", restaurantId);
-        verify(query, times(1)).getResultList();
+        verify(orderQuery, times(1)).setParameter("restaurantId", restaurantId);
     }
 
     @Test
     void findAllWhenNoOrdersExistReturnsEmptyList() {
         // Arrange
-        TypedQuery<Order> query = mock(TypedQuery.class);
-        when(entityManager.createQuery("SELECT o FROM Order o", Order.class)).thenReturn(query);
-        when(query.getResultList()).thenReturn(Collections.emptyList());
+        when(orderQuery.getResultList()).thenReturn(Collections.emptyList());
 
         // Act
         List<Order> result = repository.findAll();
@@ -258,15 +250,10 @@ public class CustomizedOrderRepositoryImplTest {
     @Test
     void findAllByRestaurant_IdOrderByCreatedAtDescWhenNoOrdersExistReturnsEmptyList() {
         // Arrange
-        long restaurantId = 1L;
-        TypedQuery<Order> query = mock(TypedQuery.class);
-        when(entityManager.createQuery("SELECT o FROM Order o WHERE o.restaurant.id = :restaurantId ORDER BY o.createdAt DESC", Order.class))
-                .thenReturn(query);
-        when(query.setParameter("restaurantId", restaurantId)).thenReturn(query);
-        when(query.getResultList()).thenReturn(Collections.emptyList());
+        when(orderQuery.getResultList()).thenReturn(Collections.emptyList());
 
         // Act
-        List<Order> result = repository.findAllByRestaurant_IdOrderByCreatedAtDesc(restaurantId);
+        List<Order> result = repository.findAllByRestaurant_IdOrderByCreatedAtDesc(1L);
 
         // Assert
         assertNotNull(result);
@@ -278,12 +265,8 @@ public class CustomizedOrderRepositoryImplTest {
         // Arrange
         long restaurantId = 1L;
         List<String> statuses = Collections.emptyList();
-        TypedQuery<Order> query = mock(TypedQuery.class);
-        when(entityManager.createQuery("SELECT o FROM Order o WHERE o.restaurant.id = :restaurantId AND o.status IN :statuses ORDER BY o.createdAt DESC", Order.class))
-                .thenReturn(query);
-        when(query.setParameter("restaurantId", restaurantId)).thenReturn(query);
-        when(query.setParameter("statuses", statuses)).thenReturn(query);
-        when(query.getResultList()).thenReturn(Collections.emptyList());
+
+        when(orderQuery.getResultList()).thenReturn(Collections.emptyList());
 
         // Act
         List<Order> result = repository.findAllByRestaurant_IdAndStatusInOrderByCreatedAtDesc(restaurantId, statuses);
@@ -291,24 +274,56 @@ public class CustomizedOrderRepositoryImplTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
+        verify(orderQuery, times(1)).setParameter("statuses", statuses);
     }
 
     @Test
-    void setBuyerUserWhenBuyerIsNullDoesNotThrowException() {
+    void findAllByRestaurant_IdAndStatusInOrderByCreatedAtDescWhenManyOrdersLooksUpBuyerUsersOnce() {
         // Arrange
-        long orderId = 1L;
-        Order order = mock(Order.class);
-        TypedQuery<Order> query = mock(TypedQuery.class);
+        List<Order> orders = LongStream.rangeClosed(1, 50)
+                .mapToObj(id -> createOrder((id - 1) % 10))
+                .toList();
+        List<User> users = LongStream.range(0, 10)
+                .mapToObj(CustomizedOrderRepositoryImplTest::createUser)
+                .toList();
 
-        when(entityManager.createQuery("SELECT o FROM Order o WHERE o.id = :id", Order.class)).thenReturn(query);
-        when(query.setParameter("id", orderId)).thenReturn(query);
-        when(query.getResultList()).thenReturn(List.of(order));
-        when(order.getBuyer()).thenReturn(null);
+        when(orderQuery.getResultList()).thenReturn(orders);
+        when(userQuery.getResultList()).thenReturn(users);
 
         // Act
-        Optional<Order> result = repository.findById(orderId);
+        List<Order> result = repository.findAllByRestaurant_IdAndStatusInOrderByCreatedAtDesc(1L, List.of("PAID"));
 
         // Assert
-        assertTrue(result.isPresent());
+        assertEquals(50, result.size());
+        assertTrue(result.stream().allMatch(order -> order.getBuyer().getUser() != null));
+        verify(entityManager, times(2)).createQuery(anyString(), eq(Order.class));
+        verify(entityManager, times(1)).createQuery(anyString(), eq(User.class));
+        verify(userQuery, times(1)).setParameter("ids", LongStream.range(0, 10).boxed().toList());
+    }
+
+    @Test
+    void streamAllByOrderByCreatedAtDescIdDescWhenCalledDoesNotLoadDetails() {
+        // Arrange
+        Order order = createOrder(1L);
+
+        when(orderQuery.getResultStream()).thenReturn(Stream.of(order));
+
+        // Act
+        List<Order> result = repository.streamAllByOrderByCreatedAtDescIdDesc().toList();
+
+        // Assert
+        assertEquals(List.of(order), result);
+        assertNull(order.getBuyer().getUser());
+        verify(entityManager, never()).createQuery(anyString(), eq(User.class));
+    }
+
+    @Test
+    void loadDetailsWhenOrdersEmptyIssuesNoQuery() {
+        // Act
+        List<Order> result = repository.loadDetails(List.of());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(entityManager);
     }
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.user.UserNotActiveException;
 import com.example.foody.model.user.User;
 import com.example.foody.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -42,6 +45,9 @@ public class JwtAuthFilterTest {
     @Mock
     private UserDetailsService userDetailsService;
 
+    @Spy
+    private PrincipalCache principalCache = new PrincipalCache();
+
     @Mock
     private HandlerExceptionResolver handlerExceptionResolver;
 
@@ -93,9 +99,8 @@ public class JwtAuthFilterTest {
         User user = TestDataUtil.createTestCustomerUser();
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtService.extractUsername(token)).thenReturn(username);
+        when(jwtService.parseToken(token)).thenReturn(createClaims(username, user.getId(), true));
         when(userDetailsService.loadUserByUsername(username)).thenReturn(user);
-        when(jwtService.validateToken(token, user)).thenReturn(true);
 
         // Act
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
@@ -113,11 +118,11 @@ public class JwtAuthFilterTest {
         String username = "test@example.com";
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtService.extractUsername(token)).thenReturn(username);
+        when(jwtService.parseToken(token)).thenReturn(createClaims(username, null, null));
 
-        User user = mock(User.class);
+        User user = TestDataUtil.createTestCustomerUser();
+        user.setActive(false);
         when(userDetailsService.loadUserByUsername(username)).thenReturn(user);
-        when(user.isActive()).thenReturn(false);
 
         // Act
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
@@ -135,7 +140,7 @@ public class JwtAuthFilterTest {
         String username = "test@example.com";
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtService.extractUsername(token)).thenReturn(username);
+        when(jwtService.parseToken(token)).thenReturn(createClaims(username, null, null));
         when(userDetailsService.loadUserByUsername(username)).thenThrow(new EntityNotFoundException("user", "email", username));
 
         // Act
@@ -146,4 +151,72 @@ public class JwtAuthFilterTest {
                 .resolveException(eq(request), eq(response), isNull(), any(EntityNotFoundException.class));
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
+
+    @Test
+    void doFilterInternalWhenUserIsCachedDoesNotLoadUser() throws Exception {
+        // Arrange
+        String token = "valid.jwt.token";
+        String username = "test@example.com";
+        User user = TestDataUtil.createTestCustomerUser();
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(jwtService.parseToken(token)).thenReturn(createClaims(username, user.getId(), true));
+        when(userDetailsService.loadUserByUsername(username)).thenReturn(user);
+
+        // Act
+        jwtAuthFilter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        Assertions.assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userDetailsService, times(1)).loadUserByUsername(username);
+        verify(filterChain, times(2)).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternalWhenActiveClaimIsFalseThrowsExceptionWithoutLoadingUser() throws Exception {
+        // Arrange
+        String token = "valid.jwt.token";
+        String username = "test@example.com";
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(jwtService.parseToken(token)).thenReturn(createClaims(username, 1L, false));
+
+        // Act
+        jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(handlerExceptionResolver, times(1))
+                .resolveException(eq(request), eq(response), isNull(), any(UserNotActiveException.class));
+        verifyNoInteractions(userDetailsService);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilterInternalWhenIdClaimDoesNotMatchDoesNotSetAuthentication() throws Exception {
+        // Arrange
+        String token = "valid.jwt.token";
+        String username = "test@example.com";
+        User user = TestDataUtil.createTestCustomerUser();
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(jwtService.parseToken(token)).thenReturn(createClaims(username, user.getId() + 1, true));
+        when(userDetailsService.loadUserByUsername(username)).thenReturn(user);
+
+        // Act
+        jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    private Claims createClaims(String username, Long id, Boolean active) {
+        return Jwts.claims()
+                .subject(username)
+                .add(JwtService.ClaimNames.ID, id)
+                .add(JwtService.ClaimNames.ACTIVE, active)
+                .build();
+    }
 }
\ No newline at end of file
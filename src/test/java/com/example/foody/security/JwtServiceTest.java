@@ -2,10 +2,12 @@ package com.example.foody.security;
 
 import com.example.foody.TestDataUtil;
 import com.example.foody.model.user.User;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -124,6 +126,34 @@ public class JwtServiceTest {
         assertThrows(ExpiredJwtException.class, () -> jwtService.validateToken(expiredToken, userDetails));
     }
 
+    @Test
+    void parseTokenWhenValidTokenReturnsUserClaims() {
+        // Arrange
+        setTestJwtProperties();
+        User user = TestDataUtil.createTestCustomerUser();
+        String token = jwtService.generateToken(user);
+
+        // Act
+        Claims claims = jwtService.parseToken(token);
+
+        // Assert
+        assertEquals(user.getEmail(), claims.getSubject());
+        assertEquals(user.getId(), claims.get(JwtService.ClaimNames.ID, Long.class));
+        assertEquals(user.getRole().name(), claims.get(JwtService.ClaimNames.ROLE, String.class));
+        assertEquals(true, claims.get(JwtService.ClaimNames.ACTIVE, Boolean.class));
+    }
+
+    @Test
+    void parseTokenWhenSecretChangesRejectsPreviousTokens() {
+        // Arrange
+        setTestJwtProperties();
+        String token = jwtService.generateToken(TestDataUtil.createTestCustomerUser());
+        jwtService.setSECRET("b3RoZXJzZWNyZXR2YWx1ZTEyMzQ1Njc4OTAxMjM0NTY3ODkwMTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkw");
+
+        // Act & Assert
+        assertThrows(SignatureException.class, () -> jwtService.parseToken(token));
+    }
+
     private void setTestJwtProperties() {
         jwtService.setSECRET("dGVzdHNlY3JldHZhbHVlMTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkw");
         jwtService.setEXPIRATION(60000); // 60 secondi
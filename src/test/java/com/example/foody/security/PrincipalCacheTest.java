@@ -0,0 +1,130 @@
+package com.example.foody.security;
+
+import com.example.foody.TestDataUtil;
+import com.example.foody.model.Restaurant;
+import com.example.foody.model.user.CookUser;
+import com.example.foody.model.user.RestaurateurUser;
+import com.example.foody.model.user.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link PrincipalCache} class.
+ */
+public class PrincipalCacheTest {
+
+    private final PrincipalCache principalCache = new PrincipalCache();
+
+    @Test
+    void getWhenUserIsCachedDoesNotLoadUserAgain() {
+        // Arrange
+        User user = TestDataUtil.createTestCustomerUser();
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        User first = principalCache.get(user.getEmail(), email -> {
+            loads.incrementAndGet();
+            return user;
+        });
+        User second = principalCache.get(user.getEmail(), email -> {
+            loads.incrementAndGet();
+            return user;
+        });
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(user.getId(), second.getId());
+        assertEquals(user.getEmail(), second.getEmail());
+        assertEquals(user.getRole(), second.getRole());
+        assertNotSame(first, second);
+        assertNotSame(user, first);
+    }
+
+    @Test
+    void getWhenCopyIsChangedReturnsUnchangedUser() {
+        // Arrange
+        User user = TestDataUtil.createTestCustomerUser();
+        User first = principalCache.get(user.getEmail(), email -> user);
+
+        // Act
+        first.setPassword("changed");
+        first.setActive(false);
+        user.setName("Changed");
+        User second = principalCache.get(user.getEmail(), email -> user);
+
+        // Assert
+        assertEquals("password123", second.getPassword());
+        assertTrue(second.isActive());
+        assertEquals("Customer", second.getName());
+    }
+
+    @Test
+    void getWhenUserHasRestaurantReturnsReferenceToRestaurant() {
+        // Arrange
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        RestaurateurUser restaurateurUser = TestDataUtil.createTestRestaurateurUser();
+        restaurateurUser.setRestaurant(restaurant);
+        CookUser cookUser = TestDataUtil.createTestCookUser();
+        cookUser.setEmployerRestaurant(restaurant);
+
+        // Act
+        User restaurateur = principalCache.get(restaurateurUser.getEmail(), email -> restaurateurUser);
+        User cook = principalCache.get(cookUser.getEmail(), email -> cookUser);
+
+        // Assert
+        RestaurateurUser cachedRestaurateur = assertInstanceOf(RestaurateurUser.class, restaurateur);
+        CookUser cachedCook = assertInstanceOf(CookUser.class, cook);
+        assertEquals(restaurant.getId(), cachedRestaurateur.getRestaurant().getId());
+        assertEquals(restaurant.getId(), cachedCook.getEmployerRestaurant().getId());
+        assertNotSame(restaurant, cachedCook.getEmployerRestaurant());
+    }
+
+    @Test
+    void getWhenUserIsInvalidatedLoadsUserAgain() {
+        // Arrange
+        User user = TestDataUtil.createTestCustomerUser();
+        AtomicInteger loads = new AtomicInteger();
+        principalCache.get(user.getEmail(), email -> {
+            loads.incrementAndGet();
+            return user;
+        });
+
+        // Act
+        principalCache.invalidate(user.getEmail());
+        principalCache.get(user.getEmail(), email -> {
+            loads.incrementAndGet();
+            return user;
+        });
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidateAllLoadsEveryUserAgain() {
+        // Arrange
+        User cookUser = TestDataUtil.createTestCookUser();
+        User waiterUser = TestDataUtil.createTestWaiterUser();
+        AtomicInteger loads = new AtomicInteger();
+        principalCache.get(cookUser.getEmail(), email -> cookUser);
+        principalCache.get(waiterUser.getEmail(), email -> waiterUser);
+
+        // Act
+        principalCache.invalidateAll(List.of(cookUser.getEmail(), waiterUser.getEmail()));
+        principalCache.get(cookUser.getEmail(), email -> {
+            loads.incrementAndGet();
+            return cookUser;
+        });
+        principalCache.get(waiterUser.getEmail(), email -> {
+            loads.incrementAndGet();
+            return waiterUser;
+        });
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+}
\ No newline at end of file
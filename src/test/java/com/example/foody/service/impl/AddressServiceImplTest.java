@@ -5,6 +5,7 @@ import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.helper.GeocodingHelper;
 import com.example.foody.model.Address;
 import com.example.foody.repository.AddressRepository;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,9 @@ public class AddressServiceImplTest {
     @Mock
     private AddressRepository addressRepository;
 
+    @Mock
+    private GeocodingHelper geocodingHelper;
+
     @Test
     void saveWhenAddressIsValidReturnsSavedAddress() {
         // Arrange
@@ -44,6 +48,7 @@ public class AddressServiceImplTest {
         // Assert
         assertNotNull(savedAddress);
         assertEquals(address, savedAddress);
+        verify(geocodingHelper, times(1)).geocode(address);
         verify(addressRepository, times(1)).save(address);
     }
 
@@ -75,6 +80,7 @@ public class AddressServiceImplTest {
         // Assert
         assertNotNull(updatedAddress);
         assertEquals("New City", updatedAddress.getCity());
+        verify(geocodingHelper, times(1)).geocode(existingAddress);
         verify(addressRepository, times(1)).findById(existingAddress.getId());
         verify(addressRepository, times(1)).save(existingAddress);
     }
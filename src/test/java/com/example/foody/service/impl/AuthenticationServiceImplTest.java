@@ -9,6 +9,7 @@ import com.example.foody.dto.response.TokenResponseDTO;
 import com.example.foody.dto.response.UserResponseDTO;
 import com.example.foody.exceptions.auth.InvalidCredentialsException;
 import com.example.foody.exceptions.entity.EntityDuplicateException;
+import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
 import com.example.foody.exceptions.user.InvalidPasswordException;
 import com.example.foody.exceptions.user.UserNotActiveException;
@@ -19,9 +20,10 @@ import com.example.foody.model.user.*;
 import com.example.foody.repository.RestaurantRepository;
 import com.example.foody.repository.UserRepository;
 import com.example.foody.security.JwtService;
+import com.example.foody.security.PrincipalCache;
 import com.example.foody.service.EmailService;
 import com.example.foody.service.FirebaseService;
-import com.example.foody.service.GoogleDriveService;
+import com.example.foody.service.MediaService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -72,7 +74,7 @@ public class AuthenticationServiceImplTest {
     private JwtService jwtService;
 
     @Mock
-    private GoogleDriveService googleDriveService;
+    private MediaService mediaService;
 
     @Mock
     private FirebaseService firebaseService;
@@ -80,6 +82,9 @@ public class AuthenticationServiceImplTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -410,6 +415,8 @@ public class AuthenticationServiceImplTest {
         changePasswordRequest.setNewPassword("newPassword123");
         mockSecurityContext(user);
 
+        User storedUser = TestDataUtil.createTestCustomerUser();
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(storedUser));
         when(passwordEncoder.matches(user.getPassword(), user.getPassword())).thenReturn(true);
         when(passwordEncoder.encode("newPassword123")).thenReturn("encodedNewPassword");
 
@@ -417,8 +424,9 @@ public class AuthenticationServiceImplTest {
         authenticationService.changePassword(changePasswordRequest);
 
         // Assert
-        verify(userRepository, times(1)).save(user);
-        assertEquals("encodedNewPassword", user.getPassword());
+        verify(userRepository, times(1)).save(storedUser);
+        verify(principalCache, times(1)).invalidate(user.getEmail());
+        assertEquals("encodedNewPassword", storedUser.getPassword());
     }
 
     @Test
@@ -447,9 +455,30 @@ public class AuthenticationServiceImplTest {
         when(passwordEncoder.matches(user.getPassword(), user.getPassword())).thenReturn(true);
         when(passwordEncoder.encode("newPassword123")).thenReturn("encodedNewPassword");
         mockSecurityContext(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         doThrow(new RuntimeException()).when(userRepository).save(user);
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> authenticationService.changePassword(changePasswordRequest));
     }
+
+    @Test
+    void changePasswordWhenUserIsMissingThrowsEntityNotFoundException() {
+        // Arrange
+        User user = TestDataUtil.createTestCustomerUser();
+        UserChangePasswordRequestDTO changePasswordRequest = new UserChangePasswordRequestDTO();
+        changePasswordRequest.setCurrentPassword(user.getPassword());
+        changePasswordRequest.setNewPassword("newPassword123");
+        mockSecurityContext(user);
+
+        when(passwordEncoder.matches(user.getPassword(), user.getPassword())).thenReturn(true);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(
+                EntityNotFoundException.class,
+                () -> authenticationService.changePassword(changePasswordRequest)
+        );
+        verify(userRepository, never()).save(any());
+    }
 }
\ No newline at end of file
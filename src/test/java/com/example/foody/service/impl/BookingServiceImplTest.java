@@ -3,12 +3,17 @@ package com.example.foody.service.impl;
 import com.example.foody.TestDataUtil;
 import com.example.foody.dto.request.BookingRequestDTO;
 import com.example.foody.dto.response.BookingResponseDTO;
+import com.example.foody.dto.response.RestaurantAvailabilityResponseDTO;
+import com.example.foody.dto.response.SeatAvailabilityResponseDTO;
 import com.example.foody.exceptions.booking.*;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
+import com.example.foody.helper.AvailabilityIndexHelper;
+import com.example.foody.helper.SeatLedgerHelper;
+import com.example.foody.helper.SittingTimeCalendarHelper;
 import com.example.foody.mapper.BookingMapper;
 import com.example.foody.model.Booking;
 import com.example.foody.model.Restaurant;
@@ -22,6 +27,8 @@ import com.example.foody.repository.RestaurantRepository;
 import com.example.foody.repository.SittingTimeRepository;
 import com.example.foody.service.EmailService;
 import com.example.foody.state.booking.impl.CancelledState;
+import com.example.foody.utils.enums.BookingStatus;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -34,10 +41,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -64,6 +73,15 @@ public class BookingServiceImplTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private SeatLedgerHelper seatLedgerHelper;
+
+    @Mock
+    private SittingTimeCalendarHelper sittingTimeCalendarHelper;
+
+    @Mock
+    private AvailabilityIndexHelper availabilityIndexHelper;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -94,6 +112,7 @@ public class BookingServiceImplTest {
         when(restaurantRepository.findByIdAndApproved(bookingRequestDTO.getRestaurantId(), true))
                 .thenReturn(Optional.of(restaurant));
         when(bookingMapper.bookingRequestDTOToBooking(bookingRequestDTO)).thenReturn(booking);
+        when(seatLedgerHelper.reserveSeats(booking)).thenReturn(true);
         when(bookingRepository.save(booking)).thenReturn(booking);
         when(bookingMapper.bookingToBookingResponseDTO(booking)).thenReturn(new BookingResponseDTO());
 
@@ -151,6 +170,7 @@ public class BookingServiceImplTest {
         when(restaurantRepository.findByIdAndApproved(bookingRequestDTO.getRestaurantId(), true))
                 .thenReturn(Optional.of(restaurant));
         when(bookingMapper.bookingRequestDTOToBooking(bookingRequestDTO)).thenReturn(booking);
+        when(seatLedgerHelper.reserveSeats(booking)).thenReturn(true);
         doThrow(new RuntimeException()).when(bookingRepository).save(booking);
 
         // Act & Assert
@@ -196,6 +216,7 @@ public class BookingServiceImplTest {
         when(restaurantRepository.findByIdAndApproved(bookingRequestDTO.getRestaurantId(), true))
                 .thenReturn(Optional.of(restaurant));
         when(bookingMapper.bookingRequestDTOToBooking(bookingRequestDTO)).thenReturn(booking);
+        when(seatLedgerHelper.reserveSeats(booking)).thenReturn(true);
         when(bookingRepository.save(booking)).thenReturn(booking);
         when(bookingMapper.bookingToBookingResponseDTO(booking)).thenReturn(new BookingResponseDTO());
 
@@ -292,8 +313,7 @@ public class BookingServiceImplTest {
         when(restaurantRepository.findByIdAndApproved(bookingRequestDTO.getRestaurantId(), true))
                 .thenReturn(Optional.of(restaurant));
         when(bookingMapper.bookingRequestDTOToBooking(bookingRequestDTO)).thenReturn(booking);
-        when(bookingRepository.countBookedSeats(booking.getDate(), sittingTime.getId(), restaurant.getId()))
-                .thenReturn((long) restaurant.getSeats());
+        when(seatLedgerHelper.reserveSeats(booking)).thenReturn(false);
 
         // Act & Assert
         assertThrows(BookingNotAllowedException.class, () -> bookingService.save(bookingRequestDTO));
@@ -492,6 +512,97 @@ public class BookingServiceImplTest {
         assertEquals(1, responseDTOs.size());
     }
 
+    @Test
+    void findAvailabilityByRestaurantReturnsFreeSeatsOfEachSittingTime() {
+        // Arrange
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        int weekDay = tomorrow.getDayOfWeek().getValue();
+        SittingTimeSlot sittingTime = TestDataUtil.createTestSittingTimeSlot();
+
+        when(restaurantRepository.findByIdAndApproved(restaurant.getId(), true)).thenReturn(Optional.of(restaurant));
+        when(sittingTimeCalendarHelper.findSlots(eq(restaurant.getId()), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(1).equals(weekDay) ? List.of(sittingTime) : List.of());
+        when(seatLedgerHelper.findBookedSeats(eq(restaurant.getId()), any(), any()))
+                .thenReturn(Map.of(tomorrow, Map.of(sittingTime.id(), 2)));
+
+        // Act
+        List<SeatAvailabilityResponseDTO> responseDTOs = bookingService.findAvailabilityByRestaurant(restaurant.getId());
+
+        // Assert
+        assertEquals(2, responseDTOs.size());
+        assertEquals(tomorrow, responseDTOs.get(0).getDate());
+        assertEquals(restaurant.getSeats() - 2, responseDTOs.get(0).getFreeSeats());
+        assertEquals(tomorrow.plusWeeks(1), responseDTOs.get(1).getDate());
+        assertEquals(restaurant.getSeats(), responseDTOs.get(1).getFreeSeats());
+    }
+
+    @Test
+    void findAvailabilityByRestaurantWhenRestaurantDoesNotExistThrowsEntityNotFoundException() {
+        // Arrange
+        when(restaurantRepository.findByIdAndApproved(1L, true)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> bookingService.findAvailabilityByRestaurant(1L));
+    }
+
+    @Test
+    void searchAvailabilitySearchesWindowAndSortsByClosestSittingTime() {
+        // Arrange
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        LocalTime time = LocalTime.of(20, 0);
+        RestaurantAvailabilityResponseDTO farther = new RestaurantAvailabilityResponseDTO(1L, "Farther", List.of(
+                new SeatAvailabilityResponseDTO(tomorrow, 1L, LocalTime.of(19, 0), LocalTime.of(20, 0), 4)
+        ));
+        RestaurantAvailabilityResponseDTO closer = new RestaurantAvailabilityResponseDTO(2L, "Closer", List.of(
+                new SeatAvailabilityResponseDTO(tomorrow, 2L, LocalTime.of(20, 30), LocalTime.of(21, 30), 4)
+        ));
+        when(availabilityIndexHelper.findAvailableRestaurants(
+                tomorrow, LocalTime.of(19, 0), LocalTime.of(21, 0), 2, 3L
+        )).thenReturn(List.of(farther, closer));
+
+        // Act
+        List<RestaurantAvailabilityResponseDTO> responseDTOs =
+                bookingService.searchAvailability(tomorrow, time, 2, 60, 3L);
+
+        // Assert
+        assertEquals(List.of(closer, farther), responseDTOs);
+    }
+
+    @Test
+    void searchAvailabilityCutsWindowAtBoundsOfDate() {
+        // Arrange
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        when(availabilityIndexHelper.findAvailableRestaurants(
+                tomorrow, LocalTime.MIN, LocalTime.of(23, 59, 59), 2, null
+        )).thenReturn(List.of());
+
+        // Act
+        List<RestaurantAvailabilityResponseDTO> responseDTOs =
+                bookingService.searchAvailability(tomorrow, LocalTime.of(0, 30), 2, 24 * 60, null);
+
+        // Assert
+        assertTrue(responseDTOs.isEmpty());
+        verify(availabilityIndexHelper, times(1))
+                .findAvailableRestaurants(tomorrow, LocalTime.MIN, LocalTime.of(23, 59, 59), 2, null);
+    }
+
+    @Test
+    void searchAvailabilityWhenDateIsOutsideAvailabilityDaysReturnsEmptyList() {
+        // Act
+        List<RestaurantAvailabilityResponseDTO> responseDTOs = bookingService.searchAvailability(
+                LocalDate.now().plusDays(BookingServiceImpl.AvailabilityLimits.DAYS),
+                LocalTime.of(20, 0),
+                2,
+                60,
+                null
+        );
+
+        // Assert
+        assertTrue(responseDTOs.isEmpty());
+        verifyNoInteractions(availabilityIndexHelper);
+    }
+
     @Test
     void cancelByIdWhenBookingExistsCancelsBookingAndReturnsResponseDTO() {
         // Arrange
@@ -500,7 +611,8 @@ public class BookingServiceImplTest {
         mockSecurityContext(customer);
 
         when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
-        when(bookingRepository.save(booking)).thenReturn(booking);
+        when(bookingRepository.updateStatusByIdAndStatusIn(eq(booking.getId()), eq(BookingStatus.CANCELLED.name()), anyList()))
+                .thenReturn(1);
         when(bookingMapper.bookingToBookingResponseDTO(booking))
                 .thenReturn(TestDataUtil.createTestBookingResponseDTO());
 
@@ -509,7 +621,9 @@ public class BookingServiceImplTest {
 
         // Assert
         assertNotNull(responseDTO);
-        verify(bookingRepository, times(1)).save(booking);
+        verify(seatLedgerHelper, times(1)).releaseSeats(booking);
+        verify(bookingRepository, times(1))
+                .updateStatusByIdAndStatusIn(eq(booking.getId()), eq(BookingStatus.CANCELLED.name()), anyList());
     }
 
     @Test
@@ -532,7 +646,8 @@ public class BookingServiceImplTest {
         mockSecurityContext(admin);
 
         when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
-        when(bookingRepository.save(booking)).thenReturn(booking);
+        when(bookingRepository.updateStatusByIdAndStatusIn(eq(booking.getId()), eq(BookingStatus.CANCELLED.name()), anyList()))
+                .thenReturn(1);
         when(bookingMapper.bookingToBookingResponseDTO(booking))
                 .thenReturn(TestDataUtil.createTestBookingResponseDTO());
 
@@ -541,7 +656,8 @@ public class BookingServiceImplTest {
 
         // Assert
         assertNotNull(responseDTO);
-        verify(bookingRepository, times(1)).save(booking);
+        verify(bookingRepository, times(1))
+                .updateStatusByIdAndStatusIn(eq(booking.getId()), eq(BookingStatus.CANCELLED.name()), anyList());
     }
 
     @Test
@@ -560,6 +676,7 @@ public class BookingServiceImplTest {
 
         // Act & Assert
         assertThrows(ForbiddenRestaurantAccessException.class, () -> bookingService.cancelById(booking.getId()));
+        verify(bookingRepository, never()).updateStatusByIdAndStatusIn(anyLong(), anyString(), anyList());
     }
 
     @Test
@@ -577,17 +694,39 @@ public class BookingServiceImplTest {
     }
 
     @Test
-    void cancelByIdWhenSaveFailsThrowsEntityEditException() {
+    void cancelByIdWhenBookingCancelledConcurrentlyThrowsBookingStateConflictException() {
+        // Arrange
+        CustomerUser customer = TestDataUtil.createTestCustomerUser();
+        Booking booking = TestDataUtil.createTestBooking();
+        booking.setState(new CancelledState());
+        mockSecurityContext(customer);
+
+        when(bookingRepository.updateStatusByIdAndStatusIn(
+                booking.getId(),
+                BookingStatus.CANCELLED.name(),
+                List.of(BookingStatus.ACTIVE.name())
+        )).thenReturn(0);
+        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
+
+        // Act & Assert
+        assertThrows(BookingStateConflictException.class, () -> bookingService.cancelById(booking.getId()));
+        verify(seatLedgerHelper, never()).releaseSeats(booking);
+    }
+
+    @Test
+    void cancelByIdWhenUpdateFailsThrowsEntityEditException() {
         // Arrange
         Booking booking = TestDataUtil.createTestBooking();
         CustomerUser customer = TestDataUtil.createTestCustomerUser();
         mockSecurityContext(customer);
 
         when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
-        doThrow(new RuntimeException()).when(bookingRepository).save(booking);
+        when(bookingRepository.updateStatusByIdAndStatusIn(anyLong(), anyString(), anyList()))
+                .thenThrow(new RuntimeException());
 
         // Act & Assert
         assertThrows(EntityEditException.class, () -> bookingService.cancelById(booking.getId()));
+        verify(bookingRepository, never()).refresh(booking);
     }
 
     @Test
@@ -602,6 +741,7 @@ public class BookingServiceImplTest {
 
         // Assert
         assertTrue(result);
+        verify(seatLedgerHelper, times(1)).releaseSeats(booking);
         verify(bookingRepository, times(1)).save(booking);
         verify(emailService, times(1)).sendTemplatedEmail(any(), any(), any());
     }
@@ -626,4 +766,47 @@ public class BookingServiceImplTest {
         // Act & Assert
         assertThrows(EntityDeletionException.class, () -> bookingService.remove(booking.getId()));
     }
+
+    @Test
+    void removeAllBySittingTimesDeletesBookingsAndNotifiesOnlyActiveFutureBookings() {
+        // Arrange
+        Booking booking = TestDataUtil.createTestBooking();
+        List<Long> sittingTimeIds = List.of(booking.getSittingTime().getId());
+
+        when(bookingRepository.findActiveFutureIdsForUpdateBySittingTime_IdIn(sittingTimeIds))
+                .thenReturn(List.of(booking.getId()));
+        when(bookingRepository.findAllByIdIn(List.of(booking.getId()))).thenReturn(List.of(booking));
+        when(bookingRepository.deleteAllBySittingTime_IdIn(sittingTimeIds)).thenReturn(3);
+
+        // Act
+        int result = bookingService.removeAllBySittingTimes(sittingTimeIds);
+
+        // Assert
+        assertEquals(3, result);
+        verify(seatLedgerHelper, times(1)).releaseSittingTimes(sittingTimeIds);
+        verify(emailService, times(1)).sendTemplatedEmail(eq(booking.getCustomer().getEmail()), any(), any());
+    }
+
+    @Test
+    void removeAllBySittingTimesWhenNoSittingTimesDoesNothing() {
+        // Act
+        int result = bookingService.removeAllBySittingTimes(List.of());
+
+        // Assert
+        assertEquals(0, result);
+        verifyNoInteractions(bookingRepository, seatLedgerHelper, emailService);
+    }
+
+    @Test
+    void removeAllBySittingTimesWhenDeleteFailsThrowsEntityDeletionException() {
+        // Arrange
+        List<Long> sittingTimeIds = List.of(1L);
+
+        when(bookingRepository.findActiveFutureIdsForUpdateBySittingTime_IdIn(sittingTimeIds)).thenReturn(List.of());
+        when(bookingRepository.deleteAllBySittingTime_IdIn(sittingTimeIds)).thenThrow(new RuntimeException());
+
+        // Act & Assert
+        assertThrows(EntityDeletionException.class, () -> bookingService.removeAllBySittingTimes(sittingTimeIds));
+        verifyNoInteractions(emailService);
+    }
 }
\ No newline at end of file
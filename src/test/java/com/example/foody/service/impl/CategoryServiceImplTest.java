@@ -7,6 +7,7 @@ import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityDuplicateException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.helper.SearchIndexHelper;
 import com.example.foody.mapper.CategoryMapper;
 import com.example.foody.model.Category;
 import com.example.foody.model.Restaurant;
@@ -43,6 +44,9 @@ public class CategoryServiceImplTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private SearchIndexHelper searchIndexHelper;
+
     @Test
     void saveWhenCategoryIsValidReturnsCategoryResponseDTO() {
         // Arrange
@@ -60,6 +64,7 @@ public class CategoryServiceImplTest {
         // Assert
         assertNotNull(responseDTO);
         verify(categoryRepository, times(1)).save(category);
+        verify(searchIndexHelper, times(1)).indexCategory(category);
     }
 
     @Test
@@ -198,6 +203,7 @@ public class CategoryServiceImplTest {
         assertTrue(result);
         verify(categoryRepository, times(1)).findById(category.getId());
         verify(categoryRepository, times(1)).delete(category);
+        verify(searchIndexHelper, times(1)).removeCategory(category.getId());
     }
 
     @Test
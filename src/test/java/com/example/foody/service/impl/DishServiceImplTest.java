@@ -4,6 +4,7 @@ import com.example.foody.TestDataUtil;
 import com.example.foody.dto.request.DishRequestDTO;
 import com.example.foody.dto.request.DishUpdateRequestDTO;
 import com.example.foody.dto.response.DishResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.exceptions.dish.ForbiddenDishAccessException;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
@@ -11,6 +12,10 @@ import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
 import com.example.foody.helper.DishHelper;
+import com.example.foody.helper.PaginationHelper;
+import com.example.foody.helper.RatingAggregateHelper;
+import com.example.foody.helper.SearchIndexHelper;
+import com.example.foody.helper.SoftDeleteHelper;
 import com.example.foody.mapper.DishMapper;
 import com.example.foody.model.Dish;
 import com.example.foody.model.Restaurant;
@@ -19,7 +24,8 @@ import com.example.foody.model.user.RestaurateurUser;
 import com.example.foody.model.user.User;
 import com.example.foody.repository.DishRepository;
 import com.example.foody.repository.RestaurantRepository;
-import com.example.foody.service.GoogleDriveService;
+import com.example.foody.service.MediaService;
+import com.example.foody.utils.pagination.KeysetCursor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -33,6 +39,8 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -57,7 +65,19 @@ public class DishServiceImplTest {
     private DishHelper dishHelper;
 
     @Mock
-    private GoogleDriveService googleDriveService;
+    private MediaService mediaService;
+
+    @Mock
+    private PaginationHelper paginationHelper;
+
+    @Mock
+    private SearchIndexHelper searchIndexHelper;
+
+    @Mock
+    private RatingAggregateHelper ratingAggregateHelper;
+
+    @Mock
+    private SoftDeleteHelper softDeleteHelper;
 
     @Mock
     private SecurityContext securityContext;
@@ -91,6 +111,7 @@ public class DishServiceImplTest {
         // Assert
         assertNotNull(responseDTO);
         verify(dishRepository, times(1)).save(dish);
+        verify(searchIndexHelper, times(1)).indexDish(dish);
     }
 
     @Test
@@ -204,6 +225,31 @@ public class DishServiceImplTest {
         assertEquals(1, responseDTOs.size());
     }
 
+    @Test
+    void findAllWhenCursorIsNullFetchesFirstPageWithExtraDish() {
+        // Arrange
+        List<Dish> dishes = List.of(TestDataUtil.createTestDish());
+        PageResponseDTO<DishResponseDTO> page = new PageResponseDTO<>(
+                List.of(TestDataUtil.createTestDishResponseDTO()),
+                null,
+                false
+        );
+        when(paginationHelper.getPageSize(10)).thenReturn(10);
+        when(dishRepository.findAllByCreatedAtAndIdBeforeOrderByCreatedAtDescIdDescLimit(
+                KeysetCursor.FIRST.createdAt(),
+                KeysetCursor.FIRST.id(),
+                11
+        )).thenReturn(dishes);
+        when(paginationHelper.<Dish, DishResponseDTO>buildPageResponseDTO(eq(dishes), eq(10), any(), any()))
+                .thenReturn(page);
+
+        // Act
+        PageResponseDTO<DishResponseDTO> responseDTO = dishService.findAll(null, 10);
+
+        // Assert
+        assertEquals(page, responseDTO);
+    }
+
     @Test
     void findByIdWhenDishExistsReturnsDishResponseDTO() {
         // Arrange
@@ -343,6 +389,9 @@ public class DishServiceImplTest {
         // Assert
         assertTrue(result);
         verify(dishRepository, times(1)).save(dish);
+        verify(ratingAggregateHelper, times(1)).removeDishReviews(dish.getId());
+        verify(softDeleteHelper, times(1)).deleteDescendants(Dish.class, dish.getId(), dish.getDeletedAt());
+        verify(searchIndexHelper, times(1)).removeDish(dish.getId());
     }
 
     @Test
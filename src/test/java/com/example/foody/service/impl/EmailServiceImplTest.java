@@ -0,0 +1,282 @@
+package com.example.foody.service.impl;
+
+import com.example.foody.exceptions.entity.EntityCreationException;
+import com.example.foody.model.EmailOutboxMessage;
+import com.example.foody.repository.EmailOutboxMessageRepository;
+import com.example.foody.service.EmailTemplateService;
+import com.example.foody.utils.email_template.EmailContent;
+import com.example.foody.utils.enums.EmailOutboxStatus;
+import com.example.foody.utils.enums.EmailPlaceholder;
+import com.example.foody.utils.enums.EmailTemplateType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link EmailServiceImpl} class using mock services.
+ */
+@ExtendWith(MockitoExtension.class)
+public class EmailServiceImplTest {
+
+    @InjectMocks
+    private EmailServiceImpl emailService;
+
+    @Mock
+    private JavaMailSender javaMailSender;
+
+    @Mock
+    private EmailTemplateService emailTemplateService;
+
+    @Mock
+    private EmailOutboxMessageRepository emailOutboxMessageRepository;
+
+    /**
+     * Stubs the claim of a batch made of the given outbox messages, marking them with the claim token.
+     *
+     * @param outboxMessages the claimed outbox messages
+     */
+    private void stubClaim(EmailOutboxMessage... outboxMessages) {
+        when(emailOutboxMessageRepository.claimDue(anyString(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            Arrays.stream(outboxMessages).forEach(message -> message.setClaimToken(invocation.getArgument(0)));
+            return outboxMessages.length;
+        });
+        when(emailOutboxMessageRepository.findAllByClaimTokenOrderById(anyString()))
+                .thenReturn(List.of(outboxMessages));
+    }
+
+    /**
+     * Creates an outbox message with the given ID and recipient.
+     *
+     * @param id        the ID of the message
+     * @param recipient the recipient of the message
+     * @return the outbox message
+     */
+    private static EmailOutboxMessage outboxMessage(long id, String recipient) {
+        EmailOutboxMessage outboxMessage = new EmailOutboxMessage(recipient, "Subject", "Body");
+        outboxMessage.setId(id);
+        return outboxMessage;
+    }
+
+    @Test
+    void sendTemplatedEmailQueuesRenderedEmail() {
+        // Arrange
+        Map<EmailPlaceholder, Object> variables = Map.of(EmailPlaceholder.ORDER_ID, 1L);
+        when(emailTemplateService.prepareEmailContent(EmailTemplateType.NEW_ORDER, variables))
+                .thenReturn(new EmailContent("Subject", "Body"));
+
+        // Act
+        emailService.sendTemplatedEmail("cook@example.com", EmailTemplateType.NEW_ORDER, variables);
+
+        // Assert
+        ArgumentCaptor<EmailOutboxMessage> captor = ArgumentCaptor.forClass(EmailOutboxMessage.class);
+        verify(emailOutboxMessageRepository).save(captor.capture());
+        assertEquals("cook@example.com", captor.getValue().getRecipient());
+        assertEquals("Subject", captor.getValue().getSubject());
+        assertEquals("Body", captor.getValue().getBody());
+        assertEquals(EmailOutboxStatus.PENDING, captor.getValue().getStatus());
+        verifyNoInteractions(javaMailSender);
+    }
+
+    @Test
+    void sendTemplatedEmailWhenSaveFailsThrowsEntityCreationException() {
+        // Arrange
+        when(emailTemplateService.prepareEmailContent(any(), any())).thenReturn(new EmailContent("Subject", "Body"));
+        when(emailOutboxMessageRepository.save(any())).thenThrow(new RuntimeException());
+
+        // Act & Assert
+        assertThrows(
+                EntityCreationException.class,
+                () -> emailService.sendTemplatedEmail("cook@example.com", EmailTemplateType.NEW_ORDER, Map.of())
+        );
+    }
+
+    @Test
+    void deliverPendingEmailsWhenNoneDueDoesNotSend() {
+        // Arrange
+        when(emailOutboxMessageRepository.claimDue(anyString(), any(), any(), anyInt())).thenReturn(0);
+
+        // Act
+        int delivered = emailService.deliverPendingEmails();
+
+        // Assert
+        assertEquals(0, delivered);
+        verifyNoInteractions(javaMailSender);
+        verify(emailOutboxMessageRepository, never()).findAllByClaimTokenOrderById(anyString());
+    }
+
+    @Test
+    void deliverPendingEmailsSendsBatchAndCoalescesDuplicates() {
+        // Arrange
+        EmailOutboxMessage first = outboxMessage(1L, "cook@example.com");
+        EmailOutboxMessage duplicate = outboxMessage(2L, "cook@example.com");
+        EmailOutboxMessage other = outboxMessage(3L, "waiter@example.com");
+        stubClaim(first, duplicate, other);
+
+        // Act
+        int delivered = emailService.deliverPendingEmails();
+
+        // Assert
+        ArgumentCaptor<SimpleMailMessage[]> captor = ArgumentCaptor.forClass(SimpleMailMessage[].class);
+        verify(javaMailSender, times(1)).send(captor.capture());
+        assertEquals(2, captor.getValue().length);
+        assertEquals(3, delivered);
+        verify(emailOutboxMessageRepository)
+                .markSentByIdInAndClaimToken(eq(List.of(1L, 2L, 3L)), eq(first.getClaimToken()), any());
+        verify(emailOutboxMessageRepository, never())
+                .markFailedAttemptByIdInAndClaimToken(any(), any(), any(), anyInt(), any(), any());
+        verify(emailOutboxMessageRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void deliverPendingEmailsClaimsBatchForLease() {
+        // Arrange
+        ArgumentCaptor<LocalDateTime> nowCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> leaseUntilCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(emailOutboxMessageRepository.claimDue(
+                anyString(), nowCaptor.capture(), leaseUntilCaptor.capture(), anyInt()
+        )).thenReturn(0);
+
+        // Act
+        emailService.deliverPendingEmails();
+
+        // Assert
+        verify(emailOutboxMessageRepository).claimDue(
+                anyString(), any(), any(), eq(EmailServiceImpl.DeliveryLimits.BATCH_SIZE)
+        );
+        assertEquals(
+                nowCaptor.getValue().plus(EmailServiceImpl.DeliveryLimits.CLAIM_LEASE),
+                leaseUntilCaptor.getValue()
+        );
+    }
+
+    @Test
+    void deliverPendingEmailsWhenOneRejectedRetriesOnlyRejected() {
+        // Arrange
+        EmailOutboxMessage accepted = outboxMessage(1L, "cook@example.com");
+        EmailOutboxMessage rejected = outboxMessage(2L, "invalid");
+        stubClaim(accepted, rejected);
+
+        SimpleMailMessage rejectedMail = new SimpleMailMessage();
+        rejectedMail.setTo("invalid");
+        rejectedMail.setSubject("Subject");
+        rejectedMail.setText("Body");
+        doThrow(new MailSendException(Map.of(rejectedMail, new Exception("Invalid address"))))
+                .when(javaMailSender).send(any(SimpleMailMessage[].class));
+        ArgumentCaptor<LocalDateTime> nextAttemptAtCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+
+        // Act
+        int delivered = emailService.deliverPendingEmails();
+
+        // Assert
+        assertEquals(1, delivered);
+        verify(emailOutboxMessageRepository).markSentByIdInAndClaimToken(eq(List.of(1L)), anyString(), any());
+        verify(emailOutboxMessageRepository).markFailedAttemptByIdInAndClaimToken(
+                eq(List.of(2L)),
+                eq(rejected.getClaimToken()),
+                eq(EmailOutboxStatus.PENDING.name()),
+                eq(1),
+                nextAttemptAtCaptor.capture(),
+                eq("Invalid address")
+        );
+        assertTrue(nextAttemptAtCaptor.getValue().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void deliverPendingEmailsWhenBatchFailsRecordsAttemptsWithOneStatementPerAttemptCount() {
+        // Arrange
+        EmailOutboxMessage first = outboxMessage(1L, "cook@example.com");
+        EmailOutboxMessage second = outboxMessage(2L, "waiter@example.com");
+        EmailOutboxMessage retried = outboxMessage(3L, "customer@example.com");
+        retried.setAttempts(2);
+        stubClaim(first, second, retried);
+        doThrow(new MailSendException("Connection refused"))
+                .when(javaMailSender).send(any(SimpleMailMessage[].class));
+
+        // Act
+        int delivered = emailService.deliverPendingEmails();
+
+        // Assert
+        assertEquals(0, delivered);
+        verify(emailOutboxMessageRepository).markFailedAttemptByIdInAndClaimToken(
+                eq(List.of(1L, 2L)), anyString(), eq(EmailOutboxStatus.PENDING.name()), eq(1), any(), any()
+        );
+        verify(emailOutboxMessageRepository).markFailedAttemptByIdInAndClaimToken(
+                eq(List.of(3L)), anyString(), eq(EmailOutboxStatus.PENDING.name()), eq(3), any(), any()
+        );
+        verify(emailOutboxMessageRepository, never()).markSentByIdInAndClaimToken(any(), any(), any());
+    }
+
+    @Test
+    void deliverPendingEmailsWhenMaxAttemptsReachedMarksFailed() {
+        // Arrange
+        EmailOutboxMessage message = outboxMessage(1L, "cook@example.com");
+        message.setAttempts(EmailServiceImpl.DeliveryLimits.MAX_ATTEMPTS - 1);
+        stubClaim(message);
+        doThrow(new MailSendException("Connection refused"))
+                .when(javaMailSender).send(any(SimpleMailMessage[].class));
+
+        // Act
+        int delivered = emailService.deliverPendingEmails();
+
+        // Assert
+        assertEquals(0, delivered);
+        verify(emailOutboxMessageRepository).markFailedAttemptByIdInAndClaimToken(
+                eq(List.of(1L)),
+                anyString(),
+                eq(EmailOutboxStatus.FAILED.name()),
+                eq(EmailServiceImpl.DeliveryLimits.MAX_ATTEMPTS),
+                any(),
+                eq("Connection refused")
+        );
+    }
+
+    @Test
+    void purgeSentEmailsDeletesInBatchesUntilNoneLeft() {
+        // Arrange
+        int batchSize = EmailServiceImpl.DeliveryLimits.PURGE_BATCH_SIZE;
+        when(emailOutboxMessageRepository.deleteAllByStatusAndSentAtBeforeLimit(
+                eq(EmailOutboxStatus.SENT.name()), any(), eq(batchSize)
+        )).thenReturn(batchSize, 3);
+
+        // Act
+        int purged = emailService.purgeSentEmails();
+
+        // Assert
+        assertEquals(batchSize + 3, purged);
+        verify(emailOutboxMessageRepository, times(2)).deleteAllByStatusAndSentAtBeforeLimit(
+                anyString(), any(), anyInt()
+        );
+    }
+
+    @Test
+    void purgeSentEmailsKeepsMessagesOfRetentionPeriod() {
+        // Arrange
+        ArgumentCaptor<LocalDateTime> sentBeforeCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(emailOutboxMessageRepository.deleteAllByStatusAndSentAtBeforeLimit(
+                anyString(), sentBeforeCaptor.capture(), anyInt()
+        )).thenReturn(0);
+
+        // Act
+        emailService.purgeSentEmails();
+
+        // Assert
+        LocalDateTime retentionStart = LocalDateTime.now().minus(EmailServiceImpl.DeliveryLimits.SENT_RETENTION);
+        assertFalse(sentBeforeCaptor.getValue().isAfter(retentionStart));
+        assertTrue(sentBeforeCaptor.getValue().isAfter(retentionStart.minusMinutes(1)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,350 @@
+package com.example.foody.service.impl;
+
+import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.exceptions.google_drive.GoogleDriveFileUploadException;
+import com.example.foody.exceptions.media.MediaStagingException;
+import com.example.foody.model.MediaUpload;
+import com.example.foody.repository.DishRepository;
+import com.example.foody.repository.MediaUploadRepository;
+import com.example.foody.repository.RestaurantRepository;
+import com.example.foody.repository.UserRepository;
+import com.example.foody.service.ImageStorageService;
+import com.example.foody.utils.enums.GoogleDriveFileType;
+import com.example.foody.utils.enums.MediaUploadStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link MediaServiceImpl} class using mock services and a temporary staging directory.
+ */
+@ExtendWith(MockitoExtension.class)
+public class MediaServiceImplTest {
+
+    private static final byte[] IMAGE = {1, 2, 3};
+
+    @TempDir
+    private Path stagingDirectory;
+
+    @Mock
+    private ImageStorageService imageStorageService;
+
+    @Mock
+    private MediaUploadRepository mediaUploadRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private DishRepository dishRepository;
+
+    private MediaServiceImpl mediaService;
+
+    @BeforeEach
+    void setUp() {
+        mediaService = new MediaServiceImpl(
+                imageStorageService,
+                mediaUploadRepository,
+                userRepository,
+                restaurantRepository,
+                dishRepository,
+                stagingDirectory.toString()
+        );
+    }
+
+    @Test
+    void stageImageWritesFileAndReturnsStagedUrl() throws IOException {
+        // Arrange
+        when(mediaUploadRepository.save(any(MediaUpload.class))).thenAnswer(invocation -> {
+            MediaUpload mediaUpload = invocation.getArgument(0);
+            mediaUpload.setId(7L);
+            return mediaUpload;
+        });
+
+        // Act
+        String url = mediaService.stageImage(Base64.getEncoder().encodeToString(IMAGE), GoogleDriveFileType.DISH_PHOTO);
+
+        // Assert
+        ArgumentCaptor<MediaUpload> captor = ArgumentCaptor.forClass(MediaUpload.class);
+        verify(mediaUploadRepository).save(captor.capture());
+        assertEquals(MediaServiceImpl.STAGED_URL_PREFIX + 7, url);
+        assertEquals(GoogleDriveFileType.DISH_PHOTO, captor.getValue().getFileType());
+        assertEquals(MediaUploadStatus.PENDING, captor.getValue().getStatus());
+        assertArrayEquals(IMAGE, Files.readAllBytes(Path.of(captor.getValue().getStagedPath())));
+        verifyNoInteractions(imageStorageService);
+    }
+
+    @Test
+    void stageImageWhenInvalidBase64ThrowsMediaStagingException() {
+        // Act & Assert
+        assertThrows(
+                MediaStagingException.class,
+                () -> mediaService.stageImage("not base64!", GoogleDriveFileType.USER_AVATAR)
+        );
+        verifyNoInteractions(mediaUploadRepository);
+    }
+
+    @Test
+    void deleteImageWhenUploadedDeletesFromStorage() {
+        // Act
+        mediaService.deleteImage("https://drive.google.com/uc?id=1");
+
+        // Assert
+        verify(imageStorageService).deleteImage("https://drive.google.com/uc?id=1");
+        verifyNoInteractions(mediaUploadRepository);
+    }
+
+    @Test
+    void deleteImageWhenStagedDiscardsFileAndUpload() throws IOException {
+        // Arrange
+        MediaUpload mediaUpload = createStagedUpload(3L, GoogleDriveFileType.USER_AVATAR);
+        when(mediaUploadRepository.findById(3L)).thenReturn(Optional.of(mediaUpload));
+
+        // Act
+        mediaService.deleteImage(MediaServiceImpl.STAGED_URL_PREFIX + 3);
+
+        // Assert
+        verify(mediaUploadRepository).delete(mediaUpload);
+        assertFalse(Files.exists(Path.of(mediaUpload.getStagedPath())));
+        verifyNoInteractions(imageStorageService);
+    }
+
+    @Test
+    void deleteImageWhenStagedInTransactionDiscardsOnlyAfterCommit() throws IOException {
+        // Arrange
+        MediaUpload mediaUpload = createStagedUpload(3L, GoogleDriveFileType.USER_AVATAR);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            mediaService.deleteImage(MediaServiceImpl.STAGED_URL_PREFIX + 3);
+
+            // Assert
+            verifyNoInteractions(mediaUploadRepository);
+            assertTrue(Files.exists(Path.of(mediaUpload.getStagedPath())));
+
+            when(mediaUploadRepository.findById(3L)).thenReturn(Optional.of(mediaUpload));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(mediaUploadRepository).delete(mediaUpload);
+            assertFalse(Files.exists(Path.of(mediaUpload.getStagedPath())));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void deleteImageWhenStagedAndTransactionRollsBackKeepsFileAndUpload() throws IOException {
+        // Arrange
+        MediaUpload mediaUpload = createStagedUpload(3L, GoogleDriveFileType.USER_AVATAR);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        try {
+            mediaService.deleteImage(MediaServiceImpl.STAGED_URL_PREFIX + 3);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        verifyNoInteractions(mediaUploadRepository);
+        assertTrue(Files.exists(Path.of(mediaUpload.getStagedPath())));
+    }
+
+    @Test
+    void findStagedImageWhenMissingThrowsEntityNotFoundException() {
+        // Arrange
+        when(mediaUploadRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> mediaService.findStagedImage(1L));
+    }
+
+    @Test
+    void uploadStagedImagesReplacesStagedUrlAndDiscardsStagedFile() throws IOException {
+        // Arrange
+        MediaUpload mediaUpload = createStagedUpload(5L, GoogleDriveFileType.RESTAURANT_PHOTO);
+        stubClaim(mediaUpload);
+        when(imageStorageService.uploadImage(any(), eq(GoogleDriveFileType.RESTAURANT_PHOTO))).thenReturn("url");
+        when(mediaUploadRepository.updateUploadedUrlByIdAndClaimToken(eq(5L), anyString(), eq("url"))).thenReturn(1);
+        when(restaurantRepository.updatePhotoUrlByPhotoUrl(MediaServiceImpl.STAGED_URL_PREFIX + 5, "url")).thenReturn(1);
+
+        // Act
+        int uploaded = mediaService.uploadStagedImages();
+
+        // Assert
+        assertEquals(1, uploaded);
+        verify(mediaUploadRepository).updateUploadedUrlByIdAndClaimToken(eq(5L), anyString(), eq("url"));
+        verify(mediaUploadRepository).delete(mediaUpload);
+        verify(imageStorageService, never()).deleteImage(any());
+        assertFalse(Files.exists(Path.of(mediaUpload.getStagedPath())));
+    }
+
+    @Test
+    void uploadStagedImagesWhenImageNoLongerReferencedDeletesUploadedImage() throws IOException {
+        // Arrange
+        MediaUpload mediaUpload = createStagedUpload(5L, GoogleDriveFileType.USER_AVATAR);
+        stubClaim(mediaUpload);
+        when(imageStorageService.uploadImage(any(), eq(GoogleDriveFileType.USER_AVATAR))).thenReturn("url");
+        when(mediaUploadRepository.updateUploadedUrlByIdAndClaimToken(eq(5L), anyString(), eq("url"))).thenReturn(1);
+        when(userRepository.updateAvatarUrlByAvatarUrl(MediaServiceImpl.STAGED_URL_PREFIX + 5, "url")).thenReturn(0);
+        when(userRepository.existsByAvatarUrl("url")).thenReturn(false);
+
+        // Act
+        mediaService.uploadStagedImages();
+
+        // Assert
+        verify(imageStorageService).deleteImage("url");
+        verify(mediaUploadRepository).delete(mediaUpload);
+    }
+
+    @Test
+    void uploadStagedImagesWhenRetriedAfterUploadReusesUploadedImage() throws IOException {
+        // Arrange
+        MediaUpload mediaUpload = createStagedUpload(5L, GoogleDriveFileType.DISH_PHOTO);
+        mediaUpload.setUploadedUrl("url");
+        stubClaim(mediaUpload);
+        when(dishRepository.updatePhotoUrlByPhotoUrl(MediaServiceImpl.STAGED_URL_PREFIX + 5, "url")).thenReturn(1);
+
+        // Act
+        int uploaded = mediaService.uploadStagedImages();
+
+        // Assert
+        assertEquals(1, uploaded);
+        verify(imageStorageService, never()).uploadImage(any(), any());
+        verify(mediaUploadRepository).delete(mediaUpload);
+    }
+
+    @Test
+    void uploadStagedImagesWhenRetriedAfterReplaceKeepsUploadedImage() throws IOException {
+        // Arrange
+        MediaUpload mediaUpload = createStagedUpload(5L, GoogleDriveFileType.DISH_PHOTO);
+        mediaUpload.setUploadedUrl("url");
+        stubClaim(mediaUpload);
+        when(dishRepository.updatePhotoUrlByPhotoUrl(MediaServiceImpl.STAGED_URL_PREFIX + 5, "url")).thenReturn(0);
+        when(dishRepository.existsByPhotoUrl("url")).thenReturn(true);
+
+        // Act
+        mediaService.uploadStagedImages();
+
+        // Assert
+        verify(imageStorageService, never()).deleteImage(any());
+        verify(mediaUploadRepository).delete(mediaUpload);
+        assertFalse(Files.exists(Path.of(mediaUpload.getStagedPath())));
+    }
+
+    @Test
+    void uploadStagedImagesWhenDiscardedDuringUploadDeletesUploadedImage() throws IOException {
+        // Arrange
+        MediaUpload mediaUpload = createStagedUpload(5L, GoogleDriveFileType.USER_AVATAR);
+        stubClaim(mediaUpload);
+        when(imageStorageService.uploadImage(any(), eq(GoogleDriveFileType.USER_AVATAR))).thenReturn("url");
+        when(mediaUploadRepository.updateUploadedUrlByIdAndClaimToken(eq(5L), anyString(), eq("url"))).thenReturn(0);
+
+        // Act
+        int uploaded = mediaService.uploadStagedImages();
+
+        // Assert
+        assertEquals(0, uploaded);
+        verify(imageStorageService).deleteImage("url");
+        verifyNoInteractions(userRepository);
+        verify(mediaUploadRepository, never()).delete(any());
+    }
+
+    @Test
+    void uploadStagedImagesWhenNoneDueDoesNotUpload() {
+        // Arrange
+        when(mediaUploadRepository.claimDue(anyString(), any(), any(), anyInt())).thenReturn(0);
+
+        // Act
+        int uploaded = mediaService.uploadStagedImages();
+
+        // Assert
+        assertEquals(0, uploaded);
+        verify(mediaUploadRepository, never()).findAllByClaimTokenOrderById(anyString());
+        verifyNoInteractions(imageStorageService);
+    }
+
+    @Test
+    void uploadStagedImagesWhenUploadFailsSchedulesRetry() throws IOException {
+        // Arrange
+        MediaUpload mediaUpload = createStagedUpload(5L, GoogleDriveFileType.DISH_PHOTO);
+        stubClaim(mediaUpload);
+        when(imageStorageService.uploadImage(any(), any()))
+                .thenThrow(new GoogleDriveFileUploadException(GoogleDriveFileType.DISH_PHOTO));
+
+        // Act
+        int uploaded = mediaService.uploadStagedImages();
+
+        // Assert
+        assertEquals(0, uploaded);
+        assertEquals(1, mediaUpload.getAttempts());
+        assertEquals(MediaUploadStatus.PENDING, mediaUpload.getStatus());
+        assertTrue(mediaUpload.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertTrue(Files.exists(Path.of(mediaUpload.getStagedPath())));
+        verify(mediaUploadRepository).updateFailedAttemptByIdAndClaimToken(
+                eq(5L), anyString(), eq(MediaUploadStatus.PENDING.name()), eq(1), any(), any()
+        );
+        verify(mediaUploadRepository, never()).delete(any());
+    }
+
+    @Test
+    void uploadStagedImagesWhenMaxAttemptsReachedMarksFailed() throws IOException {
+        // Arrange
+        MediaUpload mediaUpload = createStagedUpload(5L, GoogleDriveFileType.DISH_PHOTO);
+        mediaUpload.setAttempts(MediaServiceImpl.UploadLimits.MAX_ATTEMPTS - 1);
+        stubClaim(mediaUpload);
+        when(imageStorageService.uploadImage(any(), any())).thenThrow(new RuntimeException("down"));
+
+        // Act
+        mediaService.uploadStagedImages();
+
+        // Assert
+        assertEquals(MediaUploadStatus.FAILED, mediaUpload.getStatus());
+        assertEquals("down", mediaUpload.getLastError());
+    }
+
+    /**
+     * Stubs the claim of a batch made of the given uploads, marking them with the claim token.
+     *
+     * @param mediaUploads the claimed uploads
+     */
+    private void stubClaim(MediaUpload... mediaUploads) {
+        when(mediaUploadRepository.claimDue(anyString(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            Arrays.stream(mediaUploads).forEach(mediaUpload -> mediaUpload.setClaimToken(invocation.getArgument(0)));
+            return mediaUploads.length;
+        });
+        when(mediaUploadRepository.findAllByClaimTokenOrderById(anyString())).thenReturn(List.of(mediaUploads));
+    }
+
+    private MediaUpload createStagedUpload(long id, GoogleDriveFileType fileType) throws IOException {
+        Path stagedImage = Files.write(stagingDirectory.resolve(String.valueOf(id)), IMAGE);
+        MediaUpload mediaUpload = new MediaUpload(fileType, stagedImage.toString());
+        mediaUpload.setId(id);
+        return mediaUpload;
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.foody.service.impl;
 
 import com.example.foody.TestDataUtil;
+import com.example.foody.dto.request.OrderBulkTransitionRequestDTO;
 import com.example.foody.dto.request.OrderRequestDTO;
 import com.example.foody.dto.response.OrderResponseDTO;
 import com.example.foody.exceptions.entity.EntityCreationException;
@@ -10,28 +11,33 @@ import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.order.ForbiddenOrderAccessException;
 import com.example.foody.exceptions.order.InvalidOrderStateException;
 import com.example.foody.exceptions.order.OrderNotAllowedException;
+import com.example.foody.exceptions.order.OrderStateConflictException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
+import com.example.foody.helper.KitchenBoardHelper;
 import com.example.foody.mapper.OrderMapper;
 import com.example.foody.model.Dish;
 import com.example.foody.model.Order;
 import com.example.foody.model.Restaurant;
+import com.example.foody.model.order_dish.OrderDish;
 import com.example.foody.model.user.*;
 import com.example.foody.observer.manager.EventManager;
 import com.example.foody.repository.*;
 import com.example.foody.service.EmailService;
 import com.example.foody.state.order.impl.PaidState;
 import com.example.foody.state.order.impl.PreparingState;
+import com.example.foody.utils.enums.EventType;
 import com.example.foody.utils.enums.OrderStatus;
+import com.example.foody.utils.kitchen_board.KitchenBoard;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -72,7 +78,7 @@ public class OrderServiceImplTest {
     private EmailService emailService;
 
     @Mock
-    private SimpMessagingTemplate simpMessagingTemplate;
+    private KitchenBoardHelper kitchenBoardHelper;
 
     @Mock
     private SecurityContext securityContext;
@@ -121,6 +127,36 @@ public class OrderServiceImplTest {
         });
     }
 
+    @Test
+    void saveWhenDishesAddedUpdatesOrderTotals() {
+        // Arrange
+        CustomerUser customer = TestDataUtil.createTestCustomerUser();
+        OrderRequestDTO orderRequestDTO = TestDataUtil.createTestOrderRequestDTO();
+        Order order = TestDataUtil.createTestOrderWithoutDishes();
+        OrderDish orderDish = TestDataUtil.createTestOrderDish();
+        mockSecurityContext(customer);
+
+        when(bookingRepository.existsCurrentActiveBooking(customer.getId(), orderRequestDTO.getRestaurantId()))
+                .thenReturn(true);
+        when(dishRepository.findById(anyLong())).thenReturn(Optional.of(TestDataUtil.createTestDish()));
+        when(restaurantRepository.findByIdAndApproved(orderRequestDTO.getRestaurantId(), true))
+                .thenReturn(Optional.of(TestDataUtil.createTestRestaurant()));
+        when(orderMapper.orderRequestDTOToOrder(orderRequestDTO)).thenReturn(order);
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(orderDishRepository.save(any())).thenReturn(orderDish);
+
+        // Act
+        orderService.save(orderRequestDTO);
+
+        // Assert
+        assertEquals(List.of(orderDish), order.getOrderDishes());
+        assertEquals(orderDish.getQuantity(), order.getItemCount());
+        assertEquals(
+                0,
+                orderDish.getUnitPrice().multiply(BigDecimal.valueOf(orderDish.getQuantity())).compareTo(order.getTotalAmount())
+        );
+    }
+
     @Test
     void saveWhenUserIsWaiterReturnsOrderResponseDTO() {
         // Arrange
@@ -573,28 +609,82 @@ public class OrderServiceImplTest {
     }
 
     @Test
-    void findAllByRestaurantAndInProgressWhenUserIsCookReturnsOrderResponseDTOs() {
+    void findAllByRestaurantAndInProgressWhenBoardNotLoadedLoadsBoard() {
         // Arrange
         CookUser cook = TestDataUtil.createTestCookUser();
-        List<Order> orders = List.of(TestDataUtil.createTestOrder());
         Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        KitchenBoard board = new KitchenBoard(0, List.of(TestDataUtil.createTestOrderResponseDTO()));
         cook.setId(2L);
         restaurant.setEmployees(List.of(cook));
         mockSecurityContext(cook);
 
+        when(kitchenBoardHelper.findBoard(restaurant.getId())).thenReturn(Optional.empty());
         when(restaurantRepository.findByIdAndApproved(restaurant.getId(), true)).thenReturn(Optional.of(restaurant));
-        when(orderRepository.findAllByRestaurant_IdAndStatusInOrderByCreatedAtDesc(
-                restaurant.getId(),
-                List.of(OrderStatus.PAID.name(), OrderStatus.PREPARING.name()))
-        ).thenReturn(orders);
-        when(orderMapper.ordersToOrderResponseDTOs(orders)).thenReturn(List.of(TestDataUtil.createTestOrderResponseDTO()));
+        when(kitchenBoardHelper.loadBoard(restaurant.getId())).thenReturn(board);
 
         // Act
-        List<OrderResponseDTO> responseDTOs = orderService.findAllByRestaurantAndInProgress(restaurant.getId());
+        KitchenBoard result = orderService.findAllByRestaurantAndInProgress(restaurant.getId());
 
         // Assert
-        assertNotNull(responseDTOs);
-        assertEquals(1, responseDTOs.size());
+        assertEquals(board, result);
+        assertEquals(1, result.orders().size());
+    }
+
+    @Test
+    void findAllByRestaurantAndInProgressWhenBoardLoadedReturnsBoardWithoutReadingOrders() {
+        // Arrange
+        CookUser cook = TestDataUtil.createTestCookUser();
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        KitchenBoard board = new KitchenBoard(3, List.of(TestDataUtil.createTestOrderResponseDTO()));
+        cook.setEmployerRestaurant(restaurant);
+        mockSecurityContext(cook);
+
+        when(restaurantRepository.findByIdAndApproved(restaurant.getId(), true)).thenReturn(Optional.of(restaurant));
+        when(kitchenBoardHelper.findBoard(restaurant.getId())).thenReturn(Optional.of(board));
+
+        // Act
+        KitchenBoard result = orderService.findAllByRestaurantAndInProgress(restaurant.getId());
+
+        // Assert
+        assertEquals(board, result);
+        verify(kitchenBoardHelper, never()).loadBoard(restaurant.getId());
+        verifyNoInteractions(orderRepository, orderMapper);
+    }
+
+    @Test
+    void findAllByRestaurantAndInProgressWhenBoardLoadedAndRestaurantNotApprovedThrowsEntityNotFoundException() {
+        // Arrange
+        CookUser cook = TestDataUtil.createTestCookUser();
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        cook.setEmployerRestaurant(restaurant);
+        mockSecurityContext(cook);
+
+        when(restaurantRepository.findByIdAndApproved(restaurant.getId(), true)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(
+                EntityNotFoundException.class,
+                () -> orderService.findAllByRestaurantAndInProgress(restaurant.getId())
+        );
+        verifyNoInteractions(kitchenBoardHelper);
+    }
+
+    @Test
+    void findAllByRestaurantAndInProgressWhenBoardLoadedAndUserNotEmployeeThrowsForbiddenRestaurantAccessException() {
+        // Arrange
+        CookUser cook = TestDataUtil.createTestCookUser();
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        KitchenBoard board = new KitchenBoard(3, List.of(TestDataUtil.createTestOrderResponseDTO()));
+        mockSecurityContext(cook);
+
+        when(restaurantRepository.findByIdAndApproved(restaurant.getId(), true)).thenReturn(Optional.of(restaurant));
+        when(kitchenBoardHelper.findBoard(restaurant.getId())).thenReturn(Optional.of(board));
+
+        // Act & Assert
+        assertThrows(
+                ForbiddenRestaurantAccessException.class,
+                () -> orderService.findAllByRestaurantAndInProgress(restaurant.getId())
+        );
     }
 
     @Test
@@ -606,7 +696,8 @@ public class OrderServiceImplTest {
         mockSecurityContext(customer);
 
         when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
-        when(orderRepository.save(order)).thenReturn(order);
+        when(orderRepository.updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.PAID.name()), anyList()))
+                .thenReturn(1);
         when(orderMapper.orderToOrderResponseDTO(order)).thenReturn(TestDataUtil.createTestOrderResponseDTO());
 
         // Act
@@ -614,8 +705,13 @@ public class OrderServiceImplTest {
 
         // Assert
         assertNotNull(responseDTO);
+        assertEquals(OrderStatus.PAID, order.getStatus());
+        assertEquals(1, order.getVersion());
         verify(orderRepository, times(1)).findById(order.getId());
-        verify(orderRepository, times(1)).save(order);
+        verify(orderRepository, times(1))
+                .updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.PAID.name()), anyList());
+        verify(orderRepository, times(1)).markUpdated(order);
+        verify(orderRepository, never()).refresh(order);
     }
 
     @Test
@@ -637,7 +733,8 @@ public class OrderServiceImplTest {
         mockSecurityContext(admin);
 
         when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
-        when(orderRepository.save(order)).thenReturn(order);
+        when(orderRepository.updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.PAID.name()), anyList()))
+                .thenReturn(1);
         when(orderMapper.orderToOrderResponseDTO(order)).thenReturn(TestDataUtil.createTestOrderResponseDTO());
 
         // Act
@@ -646,7 +743,8 @@ public class OrderServiceImplTest {
         // Assert
         assertNotNull(responseDTO);
         verify(orderRepository, times(1)).findById(order.getId());
-        verify(orderRepository, times(1)).save(order);
+        verify(orderRepository, times(1))
+                .updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.PAID.name()), anyList());
     }
 
     @Test
@@ -666,6 +764,7 @@ public class OrderServiceImplTest {
         assertThrows(ForbiddenOrderAccessException.class, () -> orderService.payById(order.getId()));
         verify(orderRepository, times(1)).findById(order.getId());
         verify(orderRepository, never()).save(order);
+        verify(orderRepository, never()).updateStatusByIdAndStatusIn(anyLong(), anyString(), anyList());
     }
 
     @Test
@@ -686,7 +785,7 @@ public class OrderServiceImplTest {
     }
 
     @Test
-    void payByIdWhenSaveFailsThrowsEntityEditException() {
+    void payByIdWhenUpdateFailsThrowsEntityEditException() {
         // Arrange
         CustomerUser customer = TestDataUtil.createTestCustomerUser();
         Order order = TestDataUtil.createTestOrder();
@@ -694,12 +793,12 @@ public class OrderServiceImplTest {
         mockSecurityContext(customer);
 
         when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
-        doThrow(new RuntimeException()).when(orderRepository).save(order);
+        when(orderRepository.updateStatusByIdAndStatusIn(anyLong(), anyString(), anyList()))
+                .thenThrow(new RuntimeException());
 
         // Act & Assert
         assertThrows(EntityEditException.class, () -> orderService.payById(order.getId()));
-        verify(orderRepository, times(1)).findById(order.getId());
-        verify(orderRepository, times(1)).save(order);
+        verify(orderRepository, never()).refresh(order);
     }
 
     @Test
@@ -715,7 +814,8 @@ public class OrderServiceImplTest {
         mockSecurityContext(cook);
 
         when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
-        when(orderRepository.save(order)).thenReturn(order);
+        when(orderRepository.updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.PREPARING.name()), anyList()))
+                .thenReturn(1);
         when(orderMapper.orderToOrderResponseDTO(order)).thenReturn(TestDataUtil.createTestOrderResponseDTO());
 
         // Act
@@ -724,7 +824,8 @@ public class OrderServiceImplTest {
         // Assert
         assertNotNull(responseDTO);
         verify(orderRepository, times(1)).findById(order.getId());
-        verify(orderRepository, times(1)).save(order);
+        verify(orderRepository, times(1))
+                .updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.PREPARING.name()), anyList());
     }
 
     @Test
@@ -736,7 +837,8 @@ public class OrderServiceImplTest {
         mockSecurityContext(admin);
 
         when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
-        when(orderRepository.save(order)).thenReturn(order);
+        when(orderRepository.updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.PREPARING.name()), anyList()))
+                .thenReturn(1);
         when(orderMapper.orderToOrderResponseDTO(order)).thenReturn(TestDataUtil.createTestOrderResponseDTO());
 
         // Act
@@ -745,7 +847,8 @@ public class OrderServiceImplTest {
         // Assert
         assertNotNull(responseDTO);
         verify(orderRepository, times(1)).findById(order.getId());
-        verify(orderRepository, times(1)).save(order);
+        verify(orderRepository, times(1))
+                .updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.PREPARING.name()), anyList());
     }
 
     @Test
@@ -767,6 +870,7 @@ public class OrderServiceImplTest {
         assertThrows(ForbiddenOrderAccessException.class, () -> orderService.prepareById(order.getId()));
         verify(orderRepository, times(1)).findById(order.getId());
         verify(orderRepository, never()).save(order);
+        verify(orderRepository, never()).updateStatusByIdAndStatusIn(anyLong(), anyString(), anyList());
     }
 
     @Test
@@ -801,7 +905,27 @@ public class OrderServiceImplTest {
     }
 
     @Test
-    void prepareByIdWhenSaveFailsThrowsEntityEditException() {
+    void prepareByIdWhenOrderPreparedConcurrentlyThrowsOrderStateConflictException() {
+        // Arrange
+        CookUser cook = TestDataUtil.createTestCookUser();
+        Order order = TestDataUtil.createTestOrder();
+        order.setState(new PreparingState());
+        mockSecurityContext(cook);
+
+        when(orderRepository.updateStatusByIdAndStatusIn(
+                order.getId(),
+                OrderStatus.PREPARING.name(),
+                List.of(OrderStatus.PAID.name())
+        )).thenReturn(0);
+        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+
+        // Act & Assert
+        assertThrows(OrderStateConflictException.class, () -> orderService.prepareById(order.getId()));
+        verify(kitchenBoardHelper, never()).applyOrderChange(anyLong(), any());
+    }
+
+    @Test
+    void prepareByIdWhenUpdateFailsThrowsEntityEditException() {
         // Arrange
         CookUser cook = TestDataUtil.createTestCookUser();
         Order order = TestDataUtil.createTestOrder();
@@ -809,12 +933,106 @@ public class OrderServiceImplTest {
         mockSecurityContext(cook);
 
         when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
-        doThrow(new RuntimeException()).when(orderRepository).save(order);
+        when(orderRepository.updateStatusByIdAndStatusIn(anyLong(), anyString(), anyList()))
+                .thenThrow(new RuntimeException());
 
         // Act & Assert
         assertThrows(EntityEditException.class, () -> orderService.prepareById(order.getId()));
-        verify(orderRepository, times(1)).findById(order.getId());
-        verify(orderRepository, times(1)).save(order);
+        verify(orderRepository, never()).refresh(order);
+    }
+
+    @Test
+    void prepareAllByRestaurantWhenOrderIdsGivenUpdatesMatchingOrdersOnce() {
+        // Arrange
+        CookUser cook = TestDataUtil.createTestCookUser();
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        Order order = TestDataUtil.createTestOrder();
+        List<OrderResponseDTO> responseDTOs = List.of(TestDataUtil.createTestOrderResponseDTO());
+        OrderBulkTransitionRequestDTO requestDTO = new OrderBulkTransitionRequestDTO(List.of(1L, 2L), null);
+        cook.setEmployerRestaurant(restaurant);
+        mockSecurityContext(cook);
+
+        when(orderRepository.findIdsForUpdateByRestaurant_IdAndIdInAndStatusIn(
+                restaurant.getId(),
+                List.of(1L, 2L),
+                List.of(OrderStatus.PAID.name())
+        )).thenReturn(List.of(1L));
+        when(orderRepository.findAllByIdInOrderByCreatedAtDesc(List.of(1L))).thenReturn(List.of(order));
+        when(orderMapper.ordersToOrderResponseDTOs(List.of(order))).thenReturn(responseDTOs);
+
+        // Act
+        List<OrderResponseDTO> result = orderService.prepareAllByRestaurant(restaurant.getId(), requestDTO);
+
+        // Assert
+        assertEquals(responseDTOs, result);
+        verify(orderRepository, times(1)).updateStatusByIdIn(List.of(1L), OrderStatus.PREPARING.name());
+        verify(kitchenBoardHelper, times(1)).applyOrderChanges(restaurant.getId(), responseDTOs);
+        verifyNoInteractions(restaurantRepository);
+    }
+
+    @Test
+    void prepareAllByRestaurantWhenNoOrderMatchesReturnsEmptyList() {
+        // Arrange
+        CookUser cook = TestDataUtil.createTestCookUser();
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        OrderBulkTransitionRequestDTO requestDTO = new OrderBulkTransitionRequestDTO(List.of(1L), null);
+        cook.setEmployerRestaurant(restaurant);
+        mockSecurityContext(cook);
+
+        when(orderRepository.findIdsForUpdateByRestaurant_IdAndIdInAndStatusIn(anyLong(), anyList(), anyList()))
+                .thenReturn(List.of());
+
+        // Act
+        List<OrderResponseDTO> result = orderService.prepareAllByRestaurant(restaurant.getId(), requestDTO);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(orderRepository, never()).updateStatusByIdIn(anyList(), anyString());
+    }
+
+    @Test
+    void prepareAllByRestaurantWhenCookIsNotEmployedInRestaurantThrowsForbiddenRestaurantAccessException() {
+        // Arrange
+        CookUser cook = TestDataUtil.createTestCookUser();
+        OrderBulkTransitionRequestDTO requestDTO = new OrderBulkTransitionRequestDTO(List.of(1L), null);
+        mockSecurityContext(cook);
+
+        // Act & Assert
+        assertThrows(
+                ForbiddenRestaurantAccessException.class,
+                () -> orderService.prepareAllByRestaurant(1L, requestDTO)
+        );
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void completeAllByRestaurantWhenTableCodeGivenCompletesOrdersOfTable() {
+        // Arrange
+        CookUser cook = TestDataUtil.createTestCookUser();
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        Order order = TestDataUtil.createTestOrder();
+        List<OrderResponseDTO> responseDTOs = List.of(TestDataUtil.createTestOrderResponseDTO());
+        OrderBulkTransitionRequestDTO requestDTO = new OrderBulkTransitionRequestDTO(List.of(), "T4");
+        order.getBuyer().setUser(TestDataUtil.createTestCustomerUser());
+        cook.setEmployerRestaurant(restaurant);
+        mockSecurityContext(cook);
+
+        when(orderRepository.findIdsForUpdateByRestaurant_IdAndTableCodeAndStatusIn(
+                restaurant.getId(),
+                "T4",
+                List.of(OrderStatus.PREPARING.name())
+        )).thenReturn(List.of(order.getId()));
+        when(orderRepository.findAllByIdInOrderByCreatedAtDesc(List.of(order.getId()))).thenReturn(List.of(order));
+        when(orderMapper.ordersToOrderResponseDTOs(List.of(order))).thenReturn(responseDTOs);
+
+        // Act
+        List<OrderResponseDTO> result = orderService.completeAllByRestaurant(restaurant.getId(), requestDTO);
+
+        // Assert
+        assertEquals(responseDTOs, result);
+        verify(orderRepository, times(1)).updateStatusByIdIn(List.of(order.getId()), OrderStatus.COMPLETED.name());
+        verify(eventManager, times(1)).publish(eq(EventType.ORDER_COMPLETED), eq(order), anyList());
+        verify(kitchenBoardHelper, times(1)).applyOrderChanges(restaurant.getId(), responseDTOs);
     }
 
     @Test
@@ -831,7 +1049,8 @@ public class OrderServiceImplTest {
         mockSecurityContext(cook);
 
         when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
-        when(orderRepository.save(order)).thenReturn(order);
+        when(orderRepository.updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.COMPLETED.name()), anyList()))
+                .thenReturn(1);
         when(orderMapper.orderToOrderResponseDTO(order)).thenReturn(TestDataUtil.createTestOrderResponseDTO());
 
         // Act
@@ -840,7 +1059,8 @@ public class OrderServiceImplTest {
         // Assert
         assertNotNull(responseDTO);
         verify(orderRepository, times(1)).findById(order.getId());
-        verify(orderRepository, times(1)).save(order);
+        verify(orderRepository, times(1))
+                .updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.COMPLETED.name()), anyList());
     }
 
     @Test
@@ -853,7 +1073,8 @@ public class OrderServiceImplTest {
         mockSecurityContext(admin);
 
         when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
-        when(orderRepository.save(order)).thenReturn(order);
+        when(orderRepository.updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.COMPLETED.name()), anyList()))
+                .thenReturn(1);
         when(orderMapper.orderToOrderResponseDTO(order)).thenReturn(TestDataUtil.createTestOrderResponseDTO());
 
         // Act
@@ -862,7 +1083,8 @@ public class OrderServiceImplTest {
         // Assert
         assertNotNull(responseDTO);
         verify(orderRepository, times(1)).findById(order.getId());
-        verify(orderRepository, times(1)).save(order);
+        verify(orderRepository, times(1))
+                .updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.COMPLETED.name()), anyList());
     }
 
     @Test
@@ -875,7 +1097,8 @@ public class OrderServiceImplTest {
         mockSecurityContext(waiter);
 
         when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
-        when(orderRepository.save(order)).thenReturn(order);
+        when(orderRepository.updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.COMPLETED.name()), anyList()))
+                .thenReturn(1);
         when(orderMapper.orderToOrderResponseDTO(order)).thenReturn(TestDataUtil.createTestOrderResponseDTO());
 
         // Act
@@ -884,7 +1107,8 @@ public class OrderServiceImplTest {
         // Assert
         assertNotNull(responseDTO);
         verify(orderRepository, times(1)).findById(order.getId());
-        verify(orderRepository, times(1)).save(order);
+        verify(orderRepository, times(1))
+                .updateStatusByIdAndStatusIn(eq(order.getId()), eq(OrderStatus.COMPLETED.name()), anyList());
     }
 
     @Test
@@ -906,6 +1130,7 @@ public class OrderServiceImplTest {
         assertThrows(ForbiddenOrderAccessException.class, () -> orderService.completeById(order.getId()));
         verify(orderRepository, times(1)).findById(order.getId());
         verify(orderRepository, never()).save(order);
+        verify(orderRepository, never()).updateStatusByIdAndStatusIn(anyLong(), anyString(), anyList());
     }
 
     @Test
@@ -942,7 +1167,7 @@ public class OrderServiceImplTest {
     }
 
     @Test
-    void completeByIdWhenSaveFailsThrowsEntityEditException() {
+    void completeByIdWhenUpdateFailsThrowsEntityEditException() {
         // Arrange
         CookUser cook = TestDataUtil.createTestCookUser();
         Order order = TestDataUtil.createTestOrder();
@@ -951,12 +1176,12 @@ public class OrderServiceImplTest {
         mockSecurityContext(cook);
 
         when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
-        doThrow(new RuntimeException()).when(orderRepository).save(order);
+        when(orderRepository.updateStatusByIdAndStatusIn(anyLong(), anyString(), anyList()))
+                .thenThrow(new RuntimeException());
 
         // Act & Assert
         assertThrows(EntityEditException.class, () -> orderService.completeById(order.getId()));
-        verify(orderRepository, times(1)).findById(order.getId());
-        verify(orderRepository, times(1)).save(order);
+        verify(orderRepository, never()).refresh(order);
     }
 
     @Test
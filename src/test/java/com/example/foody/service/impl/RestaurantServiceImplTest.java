@@ -3,6 +3,8 @@ package com.example.foody.service.impl;
 import com.example.foody.TestDataUtil;
 import com.example.foody.dto.request.RestaurantRequestDTO;
 import com.example.foody.dto.response.DetailedRestaurantResponseDTO;
+import com.example.foody.dto.response.NearbyRestaurantResponseDTO;
+import com.example.foody.dto.response.PageResponseDTO;
 import com.example.foody.dto.response.RestaurantResponseDTO;
 import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
@@ -10,7 +12,14 @@ import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
 import com.example.foody.exceptions.restaurant.RestaurateurAlreadyHasRestaurantException;
+import com.example.foody.helper.AvailabilityIndexHelper;
+import com.example.foody.helper.KitchenBoardHelper;
+import com.example.foody.helper.LocationIndexHelper;
+import com.example.foody.helper.PaginationHelper;
 import com.example.foody.helper.RestaurantHelper;
+import com.example.foody.helper.SearchIndexHelper;
+import com.example.foody.helper.SittingTimeCalendarHelper;
+import com.example.foody.helper.SoftDeleteHelper;
 import com.example.foody.mapper.RestaurantMapper;
 import com.example.foody.model.Address;
 import com.example.foody.model.Category;
@@ -18,10 +27,12 @@ import com.example.foody.model.Restaurant;
 import com.example.foody.model.user.*;
 import com.example.foody.repository.CategoryRepository;
 import com.example.foody.repository.RestaurantRepository;
+import com.example.foody.security.PrincipalCache;
 import com.example.foody.service.AddressService;
 import com.example.foody.service.CategoryService;
 import com.example.foody.service.EmailService;
-import com.example.foody.service.GoogleDriveService;
+import com.example.foody.service.MediaService;
+import com.example.foody.utils.location_index.DistanceCursor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -68,17 +79,41 @@ public class RestaurantServiceImplTest {
     private AddressService addressService;
 
     @Mock
-    private GoogleDriveService googleDriveService;
+    private MediaService mediaService;
 
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private AvailabilityIndexHelper availabilityIndexHelper;
+
+    @Mock
+    private SearchIndexHelper searchIndexHelper;
+
+    @Mock
+    private LocationIndexHelper locationIndexHelper;
+
+    @Mock
+    private SoftDeleteHelper softDeleteHelper;
+
+    @Mock
+    private PaginationHelper paginationHelper;
+
     @Mock
     private SecurityContext securityContext;
 
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private KitchenBoardHelper kitchenBoardHelper;
+
+    @Mock
+    private SittingTimeCalendarHelper sittingTimeCalendarHelper;
+
     private void mockSecurityContext(User user) {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
@@ -448,6 +483,53 @@ public class RestaurantServiceImplTest {
         assertEquals(1, detailedRestaurantResponseDTOs.size());
     }
 
+    @Test
+    void findNearbyWhenMoreRestaurantsExistReturnsPageWithNextCursor() {
+        // Arrange
+        NearbyRestaurantResponseDTO first = new NearbyRestaurantResponseDTO(1L, "First", "Milano", 45.46, 9.19, 0.5);
+        NearbyRestaurantResponseDTO second = new NearbyRestaurantResponseDTO(2L, "Second", "Milano", 45.47, 9.19, 1.5);
+
+        when(paginationHelper.getPageSize(1)).thenReturn(1);
+        when(locationIndexHelper.findNearest(45.46, 9.19, 10, 1L, null, DistanceCursor.FIRST, 2))
+                .thenReturn(List.of(first, second));
+
+        // Act
+        PageResponseDTO<NearbyRestaurantResponseDTO> page =
+                restaurantService.findNearby(45.46, 9.19, 10, 1L, false, null, 1);
+
+        // Assert
+        assertEquals(List.of(first), page.getContent());
+        assertTrue(page.isHasNext());
+        assertEquals(new DistanceCursor(0.5, 1L), DistanceCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void findNearbyWhenLastPageCapsRadiusAndReturnsPageWithoutCursor() {
+        // Arrange
+        DistanceCursor cursor = new DistanceCursor(0.5, 1L);
+        NearbyRestaurantResponseDTO second = new NearbyRestaurantResponseDTO(2L, "Second", "Milano", 45.47, 9.19, 1.5);
+
+        when(paginationHelper.getPageSize(20)).thenReturn(20);
+        when(locationIndexHelper.findNearest(
+                eq(45.46),
+                eq(9.19),
+                eq((double) RestaurantServiceImpl.NearbyLimits.MAX_RADIUS_KM),
+                isNull(),
+                notNull(),
+                eq(cursor),
+                eq(21)
+        )).thenReturn(List.of(second));
+
+        // Act
+        PageResponseDTO<NearbyRestaurantResponseDTO> page =
+                restaurantService.findNearby(45.46, 9.19, 1000, null, true, cursor.encode(), 20);
+
+        // Assert
+        assertEquals(List.of(second), page.getContent());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
     @Test
     void approveByIdWhenRestaurantExistsApprovesRestaurantAndSendsEmail() {
         // Arrange
@@ -469,6 +551,11 @@ public class RestaurantServiceImplTest {
         verify(restaurantRepository, times(1)).save(restaurant);
         verify(emailService, times(1)).sendTemplatedEmail(anyString(), any(), any());
         verify(restaurantHelper, times(1)).buildDetailedRestaurantResponseDTO(restaurant);
+        verify(availabilityIndexHelper, times(1)).evictRestaurants();
+        verify(locationIndexHelper, times(1)).evictRestaurants();
+        verify(searchIndexHelper, times(1)).indexRestaurant(restaurant);
+        verify(principalCache, times(1))
+                .invalidateAll(List.of("restaurateur@test.com", "cook@test.com", "waiter@test.com"));
     }
 
     @Test
@@ -607,6 +694,12 @@ public class RestaurantServiceImplTest {
         assertTrue(result);
         verify(restaurantRepository, times(1)).findById(restaurant.getId());
         verify(restaurantRepository, times(1)).save(restaurant);
+        verify(softDeleteHelper, times(1))
+                .deleteDescendants(Restaurant.class, restaurant.getId(), restaurant.getDeletedAt());
+        verify(principalCache, times(1))
+                .invalidateAll(List.of(restaurateurUser.getEmail(), "cook@test.com", "waiter@test.com"));
+        verify(kitchenBoardHelper, times(1)).evictBoard(restaurant.getId());
+        verify(sittingTimeCalendarHelper, times(1)).evict(restaurant.getId());
     }
 
     @Test
@@ -636,5 +729,6 @@ public class RestaurantServiceImplTest {
         assertThrows(EntityDeletionException.class, () -> restaurantService.remove(restaurant.getId()));
         verify(restaurantRepository, times(1)).findById(restaurant.getId());
         verify(restaurantRepository, times(1)).save(restaurant);
+        verifyNoInteractions(softDeleteHelper);
     }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.review.ForbiddenReviewAccessException;
 import com.example.foody.exceptions.review.ReviewNotAllowedException;
+import com.example.foody.helper.RatingAggregateHelper;
 import com.example.foody.mapper.ReviewMapper;
 import com.example.foody.model.Dish;
 import com.example.foody.model.Restaurant;
@@ -15,6 +16,7 @@ import com.example.foody.model.Review;
 import com.example.foody.model.user.*;
 import com.example.foody.observer.manager.EventManager;
 import com.example.foody.repository.*;
+import com.example.foody.utils.enums.EventType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -60,6 +62,9 @@ public class ReviewServiceImplTest {
     @Mock
     private EventManager eventManager;
 
+    @Mock
+    private RatingAggregateHelper ratingAggregateHelper;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -99,6 +104,8 @@ public class ReviewServiceImplTest {
         // Assert
         assertNotNull(responseDTO);
         verify(reviewRepository, times(1)).save(review);
+        verify(ratingAggregateHelper, times(1)).addReview(review);
+        verify(eventManager, times(1)).publish(eq(EventType.NEW_REVIEW), eq(review), anyList());
     }
 
     @Test
@@ -185,6 +192,7 @@ public class ReviewServiceImplTest {
 
         // Act & Assert
         assertThrows(EntityCreationException.class, () -> reviewService.save(reviewRequestDTO));
+        verifyNoInteractions(ratingAggregateHelper);
     }
 
     @Test
@@ -414,6 +422,7 @@ public class ReviewServiceImplTest {
         // Assert
         assertTrue(result);
         verify(reviewRepository, times(1)).save(review);
+        verify(ratingAggregateHelper, times(1)).removeReview(review);
     }
 
     @Test
@@ -432,6 +441,7 @@ public class ReviewServiceImplTest {
         // Assert
         assertTrue(result);
         verify(reviewRepository, times(1)).save(review);
+        verify(ratingAggregateHelper, times(1)).removeReview(review);
     }
 
     @Test
@@ -465,5 +475,6 @@ public class ReviewServiceImplTest {
 
         // Act & Assert
         assertThrows(EntityDeletionException.class, () -> reviewService.remove(review.getId()));
+        verifyNoInteractions(ratingAggregateHelper);
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.example.foody.service.impl;
+
+import com.example.foody.dto.response.SearchResultResponseDTO;
+import com.example.foody.helper.SearchIndexHelper;
+import com.example.foody.utils.enums.SearchDocumentType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link SearchServiceImpl} class using mock helpers.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SearchServiceImplTest {
+
+    @InjectMocks
+    private SearchServiceImpl searchService;
+
+    @Mock
+    private SearchIndexHelper searchIndexHelper;
+
+    @Test
+    void searchReturnsResultsOfIndex() {
+        // Arrange
+        List<SearchResultResponseDTO> results = List.of(
+                new SearchResultResponseDTO(SearchDocumentType.DISH.name(), 1L, 1L, "Pizza", 1f)
+        );
+        when(searchIndexHelper.search("pizza", SearchDocumentType.DISH, 10)).thenReturn(results);
+
+        // Act
+        List<SearchResultResponseDTO> responseDTOs = searchService.search("pizza", SearchDocumentType.DISH, 10);
+
+        // Assert
+        assertEquals(results, responseDTOs);
+    }
+
+    @Test
+    void searchCapsNumberOfResults() {
+        // Arrange
+        when(searchIndexHelper.search("pizza", null, SearchServiceImpl.SearchLimits.MAX_RESULTS)).thenReturn(List.of());
+
+        // Act
+        List<SearchResultResponseDTO> responseDTOs = searchService.search("pizza", null, 1000);
+
+        // Assert
+        assertEquals(List.of(), responseDTOs);
+    }
+}
\ No newline at end of file
@@ -7,23 +7,27 @@ import com.example.foody.exceptions.entity.EntityCreationException;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
 import com.example.foody.exceptions.sitting_time.InvalidWeekDayException;
+import com.example.foody.helper.SittingTimeCalendarHelper;
 import com.example.foody.mapper.SittingTimeMapper;
 import com.example.foody.model.Booking;
 import com.example.foody.model.SittingTime;
 import com.example.foody.model.WeekDayInfo;
 import com.example.foody.repository.SittingTimeRepository;
 import com.example.foody.service.BookingService;
+import com.example.foody.utils.sitting_time_calendar.SittingTimeSlot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -44,13 +48,17 @@ public class SittingTimeServiceImplTest {
     @Mock
     private BookingService bookingService;
 
+    @Mock
+    private SittingTimeCalendarHelper sittingTimeCalendarHelper;
+
     private void mockSittingTimeService() {
         SittingTimeBuilderImpl sittingTimeBuilder = new SittingTimeBuilderImpl();
         sittingTimeService = new SittingTimeServiceImpl(
                 sittingTimeRepository,
                 sittingTimeMapper,
                 sittingTimeBuilder,
-                bookingService
+                bookingService,
+                sittingTimeCalendarHelper
         );
     }
 
@@ -58,10 +66,9 @@ public class SittingTimeServiceImplTest {
     void createForWeekDayInfoWhenWeekDayInfoIsValidReturnsSittingTimes() {
         // Arrange
         WeekDayInfo weekDayInfo = TestDataUtil.createTestWeekDayInfo();
-        SittingTime sittingTime = TestDataUtil.createTestSittingTime();
         mockSittingTimeService();
 
-        when(sittingTimeRepository.save(any(SittingTime.class))).thenReturn(sittingTime);
+        when(sittingTimeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         List<SittingTime> sittingTimes = sittingTimeService.createForWeekDayInfo(weekDayInfo);
@@ -69,18 +76,17 @@ public class SittingTimeServiceImplTest {
         // Assert
         assertNotNull(sittingTimes);
         assertFalse(sittingTimes.isEmpty());
-        verify(sittingTimeRepository, atLeast(1)).save(any(SittingTime.class));
+        verify(sittingTimeRepository, times(1)).saveAll(anyList());
     }
 
     @Test
     void createForWeekDayInfoWhenWeekDayInfoStartLaunchIsNullReturnsOnlyDinnerSittingTimes() {
         // Arrange
         WeekDayInfo weekDayInfo = TestDataUtil.createTestWeekDayInfo();
-        SittingTime sittingTime = TestDataUtil.createTestSittingTime();
         weekDayInfo.setStartLaunch(null);
         mockSittingTimeService();
 
-        when(sittingTimeRepository.save(any(SittingTime.class))).thenReturn(sittingTime);
+        when(sittingTimeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         List<SittingTime> sittingTimes = sittingTimeService.createForWeekDayInfo(weekDayInfo);
@@ -88,18 +94,17 @@ public class SittingTimeServiceImplTest {
         // Assert
         assertNotNull(sittingTimes);
         assertFalse(sittingTimes.isEmpty());
-        verify(sittingTimeRepository, atLeast(1)).save(any(SittingTime.class));
+        verify(sittingTimeRepository, times(1)).saveAll(anyList());
     }
 
     @Test
     void createForWeekDayInfoWhenWeekDayInfoEndLaunchIsNullReturnsOnlyDinnerSittingTimes() {
         // Arrange
         WeekDayInfo weekDayInfo = TestDataUtil.createTestWeekDayInfo();
-        SittingTime sittingTime = TestDataUtil.createTestSittingTime();
         weekDayInfo.setEndLaunch(null);
         mockSittingTimeService();
 
-        when(sittingTimeRepository.save(any(SittingTime.class))).thenReturn(sittingTime);
+        when(sittingTimeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         List<SittingTime> sittingTimes = sittingTimeService.createForWeekDayInfo(weekDayInfo);
@@ -107,7 +112,7 @@ public class SittingTimeServiceImplTest {
         // Assert
         assertNotNull(sittingTimes);
         assertFalse(sittingTimes.isEmpty());
-        verify(sittingTimeRepository, atLeast(1)).save(any(SittingTime.class));
+        verify(sittingTimeRepository, times(1)).saveAll(anyList());
     }
 
     @Test
@@ -116,11 +121,11 @@ public class SittingTimeServiceImplTest {
         WeekDayInfo weekDayInfo = TestDataUtil.createTestWeekDayInfo();
         mockSittingTimeService();
 
-        when(sittingTimeRepository.save(any(SittingTime.class))).thenThrow(RuntimeException.class);
+        when(sittingTimeRepository.saveAll(anyList())).thenThrow(RuntimeException.class);
 
         // Act & Assert
         assertThrows(EntityCreationException.class, () -> sittingTimeService.createForWeekDayInfo(weekDayInfo));
-        verify(sittingTimeRepository, atLeast(1)).save(any(SittingTime.class));
+        verify(sittingTimeRepository, times(1)).saveAll(anyList());
     }
 
     @Test
@@ -144,10 +149,9 @@ public class SittingTimeServiceImplTest {
     void findAllByRestaurantReturnsSittingTimeResponseDTOs() {
         // Arrange
         long restaurantId = 1L;
-        List<SittingTime> sittingTimes = List.of(TestDataUtil.createTestSittingTime());
-        when(sittingTimeRepository.findAllByWeekDayInfoRestaurantId(restaurantId))
-                .thenReturn(sittingTimes);
-        when(sittingTimeMapper.sittingTimesToSittingTimeResponseDTOs(sittingTimes))
+        List<SittingTimeSlot> sittingTimes = List.of(TestDataUtil.createTestSittingTimeSlot());
+        when(sittingTimeCalendarHelper.findSlots(restaurantId)).thenReturn(sittingTimes);
+        when(sittingTimeMapper.sittingTimeSlotsToSittingTimeResponseDTOs(sittingTimes))
                 .thenReturn(List.of(TestDataUtil.createTestSittingTimeResponseDTO()));
 
         // Act
@@ -156,7 +160,7 @@ public class SittingTimeServiceImplTest {
         // Assert
         assertNotNull(responseDTOs);
         assertEquals(1, responseDTOs.size());
-        verify(sittingTimeRepository, times(1)).findAllByWeekDayInfoRestaurantId(restaurantId);
+        verifyNoInteractions(sittingTimeRepository);
     }
 
     @Test
@@ -164,10 +168,9 @@ public class SittingTimeServiceImplTest {
         // Arrange
         long restaurantId = 1L;
         int weekDay = 1;
-        List<SittingTime> sittingTimes = List.of(TestDataUtil.createTestSittingTime());
-        when(sittingTimeRepository.findAllByWeekDayInfo_Restaurant_IdAndWeekDayInfo_WeekDayOrderByStart(restaurantId, weekDay))
-                .thenReturn(sittingTimes);
-        when(sittingTimeMapper.sittingTimesToSittingTimeResponseDTOs(sittingTimes))
+        List<SittingTimeSlot> sittingTimes = List.of(TestDataUtil.createTestSittingTimeSlot());
+        when(sittingTimeCalendarHelper.findSlots(restaurantId, weekDay)).thenReturn(sittingTimes);
+        when(sittingTimeMapper.sittingTimeSlotsToSittingTimeResponseDTOs(sittingTimes))
                 .thenReturn(List.of(TestDataUtil.createTestSittingTimeResponseDTO()));
 
         // Act
@@ -176,8 +179,7 @@ public class SittingTimeServiceImplTest {
         // Assert
         assertNotNull(responseDTOs);
         assertEquals(1, responseDTOs.size());
-        verify(sittingTimeRepository, times(1))
-                .findAllByWeekDayInfo_Restaurant_IdAndWeekDayInfo_WeekDayOrderByStart(restaurantId, weekDay);
+        verifyNoInteractions(sittingTimeRepository);
     }
 
     @Test
@@ -187,7 +189,7 @@ public class SittingTimeServiceImplTest {
 
         // Act & Assert
         assertThrows(InvalidWeekDayException.class, () -> sittingTimeService.findAllByRestaurantAndWeekDay(0L, weekDay));
-        verify(sittingTimeRepository, never()).findAllByWeekDayInfo_Restaurant_IdAndWeekDayInfo_WeekDayOrderByStart(anyLong(), anyInt());
+        verify(sittingTimeCalendarHelper, never()).findSlots(anyLong(), anyInt());
     }
 
     @Test
@@ -197,18 +199,19 @@ public class SittingTimeServiceImplTest {
 
         // Act & Assert
         assertThrows(InvalidWeekDayException.class, () -> sittingTimeService.findAllByRestaurantAndWeekDay(0L, weekDay));
-        verify(sittingTimeRepository, never()).findAllByWeekDayInfo_Restaurant_IdAndWeekDayInfo_WeekDayOrderByStart(anyLong(), anyInt());
+        verify(sittingTimeCalendarHelper, never()).findSlots(anyLong(), anyInt());
     }
 
     @Test
-    void findAllByRestaurantAndWeekDayAndStartAfterNowReturnsSittingTimeResponseDTOs() {
+    void findAllByRestaurantAndWeekDayAndStartAfterNowReturnsOnlyNextSittingTimes() {
         // Arrange
         long restaurantId = 1L;
         int weekDay = 1;
-        List<SittingTime> sittingTimes = List.of(TestDataUtil.createTestSittingTime());
-        when(sittingTimeRepository.findAllByRestaurantIdAndWeekDayAndStartAfterNowOrderByStart(restaurantId, weekDay))
-                .thenReturn(sittingTimes);
-        when(sittingTimeMapper.sittingTimesToSittingTimeResponseDTOs(sittingTimes))
+        SittingTimeSlot pastSittingTime = new SittingTimeSlot(1L, 1L, 1L, weekDay, LocalTime.MIN, LocalTime.MIN);
+        SittingTimeSlot nextSittingTime = new SittingTimeSlot(2L, 1L, 1L, weekDay, LocalTime.MAX, LocalTime.MAX);
+        when(sittingTimeCalendarHelper.findSlots(restaurantId, weekDay))
+                .thenReturn(List.of(pastSittingTime, nextSittingTime));
+        when(sittingTimeMapper.sittingTimeSlotsToSittingTimeResponseDTOs(List.of(nextSittingTime)))
                 .thenReturn(List.of(TestDataUtil.createTestSittingTimeResponseDTO()));
 
         // Act
@@ -217,8 +220,6 @@ public class SittingTimeServiceImplTest {
         // Assert
         assertNotNull(responseDTOs);
         assertEquals(1, responseDTOs.size());
-        verify(sittingTimeRepository, times(1))
-                .findAllByRestaurantIdAndWeekDayAndStartAfterNowOrderByStart(restaurantId, weekDay);
     }
 
     @Test
@@ -237,6 +238,7 @@ public class SittingTimeServiceImplTest {
         assertTrue(result);
         verify(sittingTimeRepository, times(1)).findById(sittingTime.getId());
         verify(sittingTimeRepository, times(1)).save(sittingTime);
+        verify(sittingTimeCalendarHelper, times(1)).evict(sittingTime.getWeekDayInfo().getRestaurant().getId());
     }
 
     @Test
@@ -265,4 +267,85 @@ public class SittingTimeServiceImplTest {
         verify(sittingTimeRepository, times(1)).findById(sittingTime.getId());
         verify(sittingTimeRepository, times(1)).save(sittingTime);
     }
+
+    private SittingTime createSittingTime(long id, WeekDayInfo weekDayInfo, LocalTime start, LocalTime end) {
+        SittingTime sittingTime = TestDataUtil.createTestSittingTime();
+        sittingTime.setId(id);
+        sittingTime.setWeekDayInfo(weekDayInfo);
+        sittingTime.setStart(start);
+        sittingTime.setEnd(end);
+        return sittingTime;
+    }
+
+    @Test
+    void updateForWeekDayInfosWhenSittingTimesAreUnchangedKeepsThem() {
+        // Arrange
+        WeekDayInfo weekDayInfo = TestDataUtil.createTestWeekDayInfo();
+        weekDayInfo.setStartDinner(null);
+        weekDayInfo.setEndDinner(null);
+        List<SittingTime> currentSittingTimes = List.of(
+                createSittingTime(1L, weekDayInfo, LocalTime.of(12, 0), LocalTime.of(13, 0)),
+                createSittingTime(2L, weekDayInfo, LocalTime.of(13, 0), LocalTime.of(14, 0))
+        );
+        weekDayInfo.setSittingTimes(currentSittingTimes);
+        mockSittingTimeService();
+
+        // Act
+        List<SittingTime> sittingTimes = sittingTimeService.updateForWeekDayInfos(List.of(weekDayInfo));
+
+        // Assert
+        assertEquals(currentSittingTimes, sittingTimes);
+        verify(sittingTimeRepository, never()).saveAll(anyList());
+        verify(sittingTimeRepository, never()).deleteAllByIdIn(anyList());
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void updateForWeekDayInfosWhenSittingTimesChangedWritesOnlyDifference() {
+        // Arrange
+        WeekDayInfo weekDayInfo = TestDataUtil.createTestWeekDayInfo();
+        weekDayInfo.setStartDinner(null);
+        weekDayInfo.setEndDinner(null);
+        SittingTime keptSittingTime = createSittingTime(1L, weekDayInfo, LocalTime.of(12, 0), LocalTime.of(13, 0));
+        weekDayInfo.setSittingTimes(List.of(
+                keptSittingTime,
+                createSittingTime(2L, weekDayInfo, LocalTime.of(13, 0), LocalTime.of(15, 0)),
+                createSittingTime(3L, weekDayInfo, LocalTime.of(15, 0), LocalTime.of(16, 0))
+        ));
+        mockSittingTimeService();
+
+        when(sittingTimeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<SittingTime> sittingTimes = sittingTimeService.updateForWeekDayInfos(List.of(weekDayInfo));
+
+        // Assert
+        assertEquals(2, sittingTimes.size());
+        assertSame(keptSittingTime, sittingTimes.get(0));
+        assertEquals(LocalTime.of(13, 0), sittingTimes.get(1).getStart());
+        assertEquals(LocalTime.of(14, 0), sittingTimes.get(1).getEnd());
+        verify(bookingService, times(1)).removeAllBySittingTimes(List.of(2L, 3L));
+        verify(sittingTimeRepository, times(1)).deleteAllByIdIn(List.of(2L, 3L));
+        verify(sittingTimeRepository, times(1)).saveAll(List.of(sittingTimes.get(1)));
+        verify(sittingTimeCalendarHelper, times(1)).evict(weekDayInfo.getRestaurant().getId());
+    }
+
+    @Test
+    void updateForWeekDayInfosWhenDeleteFailsThrowsEntityDeletionException() {
+        // Arrange
+        WeekDayInfo weekDayInfo = TestDataUtil.createTestWeekDayInfo();
+        weekDayInfo.setSittingTimes(List.of(
+                createSittingTime(1L, weekDayInfo, LocalTime.of(10, 0), LocalTime.of(11, 0))
+        ));
+        mockSittingTimeService();
+
+        when(sittingTimeRepository.deleteAllByIdIn(List.of(1L))).thenThrow(RuntimeException.class);
+
+        // Act & Assert
+        assertThrows(
+                EntityDeletionException.class,
+                () -> sittingTimeService.updateForWeekDayInfos(List.of(weekDayInfo))
+        );
+        verify(sittingTimeRepository, never()).saveAll(anyList());
+    }
 }
\ No newline at end of file
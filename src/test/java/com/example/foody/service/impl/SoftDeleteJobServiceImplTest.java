@@ -0,0 +1,271 @@
+package com.example.foody.service.impl;
+
+import com.example.foody.dto.response.SoftDeleteJobResponseDTO;
+import com.example.foody.exceptions.entity.EntityEditException;
+import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.exceptions.soft_delete_job.SoftDeleteJobNotFailedException;
+import com.example.foody.helper.SoftDeleteHelper;
+import com.example.foody.mapper.SoftDeleteJobMapper;
+import com.example.foody.model.SoftDeleteJob;
+import com.example.foody.repository.SoftDeleteJobRepository;
+import com.example.foody.utils.enums.SoftDeleteJobStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link SoftDeleteJobServiceImpl} class using mock repositories and helpers.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SoftDeleteJobServiceImplTest {
+
+    @InjectMocks
+    private SoftDeleteJobServiceImpl softDeleteJobService;
+
+    @Mock
+    private SoftDeleteJobRepository softDeleteJobRepository;
+
+    @Mock
+    private SoftDeleteJobMapper softDeleteJobMapper;
+
+    @Mock
+    private SoftDeleteHelper softDeleteHelper;
+
+    @Test
+    void findByIdWhenJobExistsReturnsResponseDTO() {
+        // Arrange
+        SoftDeleteJob softDeleteJob = createPendingJob();
+        SoftDeleteJobResponseDTO responseDTO = new SoftDeleteJobResponseDTO();
+        when(softDeleteJobRepository.findById(softDeleteJob.getId())).thenReturn(Optional.of(softDeleteJob));
+        when(softDeleteJobMapper.softDeleteJobToSoftDeleteJobResponseDTO(softDeleteJob)).thenReturn(responseDTO);
+
+        // Act
+        SoftDeleteJobResponseDTO result = softDeleteJobService.findById(softDeleteJob.getId());
+
+        // Assert
+        assertSame(responseDTO, result);
+    }
+
+    @Test
+    void findByIdWhenJobDoesNotExistThrowsEntityNotFoundException() {
+        // Arrange
+        when(softDeleteJobRepository.findById(0L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> softDeleteJobService.findById(0L));
+    }
+
+    @Test
+    void findAllUncompletedReturnsPendingAndFailedJobs() {
+        // Arrange
+        List<SoftDeleteJob> softDeleteJobs = List.of(createPendingJob());
+        List<SoftDeleteJobResponseDTO> responseDTOs = List.of(new SoftDeleteJobResponseDTO());
+        when(softDeleteJobRepository.findAllByStatusNotOrderById(SoftDeleteJobStatus.COMPLETED))
+                .thenReturn(softDeleteJobs);
+        when(softDeleteJobMapper.softDeleteJobsToSoftDeleteJobResponseDTOs(softDeleteJobs)).thenReturn(responseDTOs);
+
+        // Act
+        List<SoftDeleteJobResponseDTO> result = softDeleteJobService.findAllUncompleted();
+
+        // Assert
+        assertSame(responseDTOs, result);
+    }
+
+    @Test
+    void retryWhenJobFailedLeavesItPendingWithoutAttempts() {
+        // Arrange
+        SoftDeleteJob softDeleteJob = createPendingJob();
+        softDeleteJob.setStatus(SoftDeleteJobStatus.FAILED);
+        softDeleteJob.setAttempts(SoftDeleteJobServiceImpl.CascadeLimits.MAX_ATTEMPTS);
+        softDeleteJob.setNextAttemptAt(LocalDateTime.now().plusHours(1));
+        SoftDeleteJobResponseDTO responseDTO = new SoftDeleteJobResponseDTO();
+        when(softDeleteJobRepository.findById(softDeleteJob.getId())).thenReturn(Optional.of(softDeleteJob));
+        when(softDeleteJobRepository.save(softDeleteJob)).thenReturn(softDeleteJob);
+        when(softDeleteJobMapper.softDeleteJobToSoftDeleteJobResponseDTO(softDeleteJob)).thenReturn(responseDTO);
+
+        // Act
+        SoftDeleteJobResponseDTO result = softDeleteJobService.retry(softDeleteJob.getId());
+
+        // Assert
+        assertSame(responseDTO, result);
+        assertEquals(SoftDeleteJobStatus.PENDING, softDeleteJob.getStatus());
+        assertEquals(0, softDeleteJob.getAttempts());
+        assertFalse(softDeleteJob.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void retryWhenJobHasNotFailedThrowsSoftDeleteJobNotFailedException() {
+        // Arrange
+        SoftDeleteJob softDeleteJob = createPendingJob();
+        when(softDeleteJobRepository.findById(softDeleteJob.getId())).thenReturn(Optional.of(softDeleteJob));
+
+        // Act & Assert
+        assertThrows(
+                SoftDeleteJobNotFailedException.class,
+                () -> softDeleteJobService.retry(softDeleteJob.getId())
+        );
+        verify(softDeleteJobRepository, never()).save(any());
+    }
+
+    @Test
+    void retryWhenSaveFailsThrowsEntityEditException() {
+        // Arrange
+        SoftDeleteJob softDeleteJob = createPendingJob();
+        softDeleteJob.setStatus(SoftDeleteJobStatus.FAILED);
+        when(softDeleteJobRepository.findById(softDeleteJob.getId())).thenReturn(Optional.of(softDeleteJob));
+        when(softDeleteJobRepository.save(softDeleteJob)).thenThrow(new RuntimeException());
+
+        // Act & Assert
+        assertThrows(EntityEditException.class, () -> softDeleteJobService.retry(softDeleteJob.getId()));
+    }
+
+    @Test
+    void runPendingJobsWhenNothingIsDueDoesNotLoadJobs() {
+        // Arrange
+        when(softDeleteJobRepository.claimDue(anyString(), any(), any(), anyInt())).thenReturn(0);
+
+        // Act
+        int completed = softDeleteJobService.runPendingJobs();
+
+        // Assert
+        assertEquals(0, completed);
+        verify(softDeleteJobRepository, never()).findAllByClaimTokenOrderById(anyString());
+        verifyNoInteractions(softDeleteHelper);
+    }
+
+    @Test
+    void runPendingJobsRunsBatchesUntilJobIsCompleted() {
+        // Arrange
+        SoftDeleteJob softDeleteJob = createPendingJob();
+        SoftDeleteJob firstBatchJob = createPendingJob();
+        SoftDeleteJob completedJob = createPendingJob();
+        completedJob.setStatus(SoftDeleteJobStatus.COMPLETED);
+        stubClaim(softDeleteJob);
+        when(softDeleteHelper.runBatch(softDeleteJob)).thenReturn(firstBatchJob);
+        when(softDeleteHelper.runBatch(firstBatchJob)).thenReturn(completedJob);
+
+        // Act
+        int completed = softDeleteJobService.runPendingJobs();
+
+        // Assert
+        assertEquals(1, completed);
+        verify(softDeleteHelper).runBatch(softDeleteJob);
+        verify(softDeleteHelper).runBatch(firstBatchJob);
+        verify(softDeleteJobRepository, never()).save(any());
+    }
+
+    @Test
+    void runPendingJobsWhenJobIsLargeStopsAfterMaxBatchesAndReleasesClaim() {
+        // Arrange
+        SoftDeleteJob softDeleteJob = createPendingJob();
+        stubClaim(softDeleteJob);
+        when(softDeleteHelper.runBatch(softDeleteJob)).thenReturn(softDeleteJob);
+
+        // Act
+        int completed = softDeleteJobService.runPendingJobs();
+
+        // Assert
+        assertEquals(0, completed);
+        verify(softDeleteHelper, times(SoftDeleteJobServiceImpl.CascadeLimits.MAX_BATCHES_PER_RUN))
+                .runBatch(softDeleteJob);
+        verify(softDeleteJobRepository).save(softDeleteJob);
+        assertNull(softDeleteJob.getClaimToken());
+        assertFalse(softDeleteJob.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void runPendingJobsWhenBatchFailsSchedulesRetryFromCommittedProgress() {
+        // Arrange
+        SoftDeleteJob softDeleteJob = createPendingJob();
+        softDeleteJob.setCompletedSteps(3);
+        SoftDeleteJob committedJob = createPendingJob();
+        committedJob.setCompletedSteps(2);
+        stubClaim(softDeleteJob);
+        when(softDeleteHelper.runBatch(softDeleteJob)).thenThrow(new RuntimeException("lock wait timeout"));
+        when(softDeleteJobRepository.findById(softDeleteJob.getId())).thenAnswer(invocation -> {
+            committedJob.setClaimToken(softDeleteJob.getClaimToken());
+            return Optional.of(committedJob);
+        });
+
+        // Act
+        int completed = softDeleteJobService.runPendingJobs();
+
+        // Assert
+        assertEquals(0, completed);
+        verify(softDeleteJobRepository).save(committedJob);
+        assertEquals(2, committedJob.getCompletedSteps());
+        assertEquals(1, committedJob.getAttempts());
+        assertEquals("lock wait timeout", committedJob.getLastError());
+        assertEquals(SoftDeleteJobStatus.PENDING, committedJob.getStatus());
+        assertNull(committedJob.getClaimToken());
+        assertTrue(committedJob.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void runPendingJobsWhenJobWasClaimedAgainLeavesItToOtherWorker() {
+        // Arrange
+        SoftDeleteJob softDeleteJob = createPendingJob();
+        SoftDeleteJob committedJob = createPendingJob();
+        committedJob.setClaimToken("other-worker");
+        stubClaim(softDeleteJob);
+        when(softDeleteHelper.runBatch(softDeleteJob))
+                .thenThrow(new ObjectOptimisticLockingFailureException(SoftDeleteJob.class, softDeleteJob.getId()));
+        when(softDeleteJobRepository.findById(softDeleteJob.getId())).thenReturn(Optional.of(committedJob));
+
+        // Act
+        int completed = softDeleteJobService.runPendingJobs();
+
+        // Assert
+        assertEquals(0, completed);
+        verify(softDeleteJobRepository, never()).save(any());
+        assertEquals(0, committedJob.getAttempts());
+        assertEquals("other-worker", committedJob.getClaimToken());
+    }
+
+    @Test
+    void runPendingJobsWhenMaxAttemptsReachedMarksFailed() {
+        // Arrange
+        SoftDeleteJob softDeleteJob = createPendingJob();
+        softDeleteJob.setAttempts(SoftDeleteJobServiceImpl.CascadeLimits.MAX_ATTEMPTS - 1);
+        stubClaim(softDeleteJob);
+        when(softDeleteHelper.runBatch(softDeleteJob)).thenThrow(new RuntimeException("down"));
+        when(softDeleteJobRepository.findById(softDeleteJob.getId())).thenReturn(Optional.of(softDeleteJob));
+
+        // Act
+        softDeleteJobService.runPendingJobs();
+
+        // Assert
+        assertEquals(SoftDeleteJobStatus.FAILED, softDeleteJob.getStatus());
+        assertEquals("down", softDeleteJob.getLastError());
+        verify(softDeleteJobRepository).save(softDeleteJob);
+    }
+
+    private void stubClaim(SoftDeleteJob... softDeleteJobs) {
+        when(softDeleteJobRepository.claimDue(anyString(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            Arrays.stream(softDeleteJobs)
+                    .forEach(softDeleteJob -> softDeleteJob.setClaimToken(invocation.getArgument(0)));
+            return softDeleteJobs.length;
+        });
+        when(softDeleteJobRepository.findAllByClaimTokenOrderById(anyString())).thenReturn(List.of(softDeleteJobs));
+    }
+
+    private SoftDeleteJob createPendingJob() {
+        SoftDeleteJob softDeleteJob = new SoftDeleteJob("Restaurant", 1L, LocalDateTime.now(), 11);
+        softDeleteJob.setId(5L);
+        return softDeleteJob;
+    }
+}
\ No newline at end of file
@@ -6,14 +6,27 @@ import com.example.foody.dto.response.UserResponseDTO;
 import com.example.foody.exceptions.entity.EntityDeletionException;
 import com.example.foody.exceptions.entity.EntityEditException;
 import com.example.foody.exceptions.entity.EntityNotFoundException;
+import com.example.foody.helper.KitchenBoardHelper;
+import com.example.foody.helper.RatingAggregateHelper;
+import com.example.foody.helper.SeatLedgerHelper;
+import com.example.foody.helper.SoftDeleteHelper;
 import com.example.foody.helper.UserHelper;
 import com.example.foody.mapper.UserMapper;
+import com.example.foody.model.Booking;
+import com.example.foody.model.Restaurant;
+import com.example.foody.model.user.CustomerUser;
+import com.example.foody.model.user.RestaurateurUser;
 import com.example.foody.model.user.User;
+import com.example.foody.model.user.WaiterUser;
+import com.example.foody.repository.BookingRepository;
 import com.example.foody.repository.UserRepository;
-import com.example.foody.service.GoogleDriveService;
+import com.example.foody.security.PrincipalCache;
+import com.example.foody.service.MediaService;
+import com.example.foody.service.RestaurantService;
 import com.example.foody.utils.enums.Role;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -43,7 +56,28 @@ public class UserServiceImplTest {
     private UserHelper userHelper;
 
     @Mock
-    private GoogleDriveService googleDriveService;
+    private MediaService mediaService;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private RatingAggregateHelper ratingAggregateHelper;
+
+    @Mock
+    private SoftDeleteHelper softDeleteHelper;
+
+    @Mock
+    private KitchenBoardHelper kitchenBoardHelper;
+
+    @Mock
+    private SeatLedgerHelper seatLedgerHelper;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private RestaurantService restaurantService;
 
     @Test
     void findAllReturnsListOfUserResponseDTO() {
@@ -51,7 +85,7 @@ public class UserServiceImplTest {
         List<User> users = List.of(TestDataUtil.createTestCustomerUser());
 
         when(userRepository.findAll()).thenReturn(users);
-        when(userHelper.buildUserResponseDTOs(users))
+        when(userHelper.buildUserResponseDTOs(users, false))
                 .thenReturn(List.of(TestDataUtil.createTestCustomerUserResponseDTO()));
 
         // Act
@@ -119,7 +153,7 @@ public class UserServiceImplTest {
         List<User> users = List.of(TestDataUtil.createTestCustomerUser());
 
         when(userRepository.findByRole(Role.CUSTOMER)).thenReturn(users);
-        when(userHelper.buildUserResponseDTOs(users)).thenReturn(List.of(TestDataUtil.createTestCustomerUserResponseDTO()));
+        when(userHelper.buildUserResponseDTOs(users, false)).thenReturn(List.of(TestDataUtil.createTestCustomerUserResponseDTO()));
 
         // Act
         List<UserResponseDTO> responseDTOs = userService.findByRole(Role.CUSTOMER);
@@ -146,6 +180,7 @@ public class UserServiceImplTest {
         // Assert
         assertNotNull(responseDTO);
         verify(userRepository, times(1)).save(user);
+        verify(principalCache, times(1)).invalidate(user.getEmail());
     }
 
     @Test
@@ -177,9 +212,10 @@ public class UserServiceImplTest {
     @Test
     void removeWhenUserExistsDeletesUser() {
         // Arrange
-        User user = TestDataUtil.createTestCustomerUser();
+        CustomerUser user = TestDataUtil.createTestCustomerUser();
 
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(bookingRepository.findActiveFutureIdsForUpdateByCustomer_Id(user.getId())).thenReturn(List.of());
 
         // Act
         boolean result = userService.remove(user.getId());
@@ -187,6 +223,105 @@ public class UserServiceImplTest {
         // Assert
         assertTrue(result);
         verify(userRepository, times(1)).save(user);
+        verify(principalCache, times(1)).invalidate(user.getEmail());
+        verify(ratingAggregateHelper, times(1)).removeCustomerReviews(user.getId());
+        verify(kitchenBoardHelper, times(1)).removeBuyerOrders(user.getBuyer().getId());
+        verify(softDeleteHelper, times(1)).deleteDescendants(CustomerUser.class, user.getId(), user.getDeletedAt());
+        verifyNoInteractions(seatLedgerHelper, restaurantService);
+    }
+
+    @Test
+    void removeWhenCustomerHoldsActiveFutureBookingReleasesItsSeatsBeforeCascade() {
+        // Arrange
+        CustomerUser user = TestDataUtil.createTestCustomerUser();
+        Booking booking = TestDataUtil.createTestBooking();
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(bookingRepository.findActiveFutureIdsForUpdateByCustomer_Id(user.getId()))
+                .thenReturn(List.of(booking.getId()));
+        when(bookingRepository.findAllByIdIn(List.of(booking.getId()))).thenReturn(List.of(booking));
+
+        // Act
+        boolean result = userService.remove(user.getId());
+
+        // Assert
+        assertTrue(result);
+        InOrder inOrder = inOrder(seatLedgerHelper, softDeleteHelper);
+        inOrder.verify(seatLedgerHelper, times(1)).releaseSeats(booking);
+        inOrder.verify(softDeleteHelper, times(1))
+                .deleteDescendants(CustomerUser.class, user.getId(), user.getDeletedAt());
+    }
+
+    @Test
+    void removeWhenReleasingSeatsFailsThrowsEntityDeletionException() {
+        // Arrange
+        CustomerUser user = TestDataUtil.createTestCustomerUser();
+        Booking booking = TestDataUtil.createTestBooking();
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(bookingRepository.findActiveFutureIdsForUpdateByCustomer_Id(user.getId()))
+                .thenReturn(List.of(booking.getId()));
+        when(bookingRepository.findAllByIdIn(List.of(booking.getId()))).thenReturn(List.of(booking));
+        doThrow(new RuntimeException()).when(seatLedgerHelper).releaseSeats(booking);
+
+        // Act & Assert
+        assertThrows(EntityDeletionException.class, () -> userService.remove(user.getId()));
+        verifyNoInteractions(softDeleteHelper);
+    }
+
+    @Test
+    void removeWhenUserIsWaiterRemovesTheirOrdersFromKitchenBoards() {
+        // Arrange
+        WaiterUser user = TestDataUtil.createTestWaiterUser();
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        // Act
+        boolean result = userService.remove(user.getId());
+
+        // Assert
+        assertTrue(result);
+        verify(kitchenBoardHelper, times(1)).removeBuyerOrders(user.getBuyer().getId());
+        verify(softDeleteHelper, times(1)).deleteDescendants(WaiterUser.class, user.getId(), user.getDeletedAt());
+        verifyNoInteractions(ratingAggregateHelper, bookingRepository);
+    }
+
+    @Test
+    void removeWhenUserIsRestaurateurRemovesRestaurant() {
+        // Arrange
+        RestaurateurUser user = TestDataUtil.createTestRestaurateurUser();
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        user.setRestaurant(restaurant);
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        // Act
+        boolean result = userService.remove(user.getId());
+
+        // Assert
+        assertTrue(result);
+        verify(restaurantService, times(1)).remove(restaurant.getId());
+        verify(softDeleteHelper, times(1))
+                .deleteDescendants(RestaurateurUser.class, user.getId(), user.getDeletedAt());
+        verifyNoInteractions(ratingAggregateHelper, kitchenBoardHelper);
+    }
+
+    @Test
+    void removeWhenRestaurantOfRestaurateurIsAlreadyDeletedDoesNotRemoveItAgain() {
+        // Arrange
+        RestaurateurUser user = TestDataUtil.createTestRestaurateurUser();
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        restaurant.delete();
+        user.setRestaurant(restaurant);
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        // Act
+        boolean result = userService.remove(user.getId());
+
+        // Assert
+        assertTrue(result);
+        verifyNoInteractions(restaurantService);
     }
 
     @Test
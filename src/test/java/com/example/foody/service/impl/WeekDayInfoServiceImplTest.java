@@ -3,6 +3,8 @@ package com.example.foody.service.impl;
 import com.example.foody.TestDataUtil;
 import com.example.foody.dto.request.WeekDayInfoRequestDTO;
 import com.example.foody.dto.request.WeekDayInfoUpdateRequestDTO;
+import com.example.foody.dto.request.WeekDayInfoWeekDayRequestDTO;
+import com.example.foody.dto.request.WeekDayInfoWeekRequestDTO;
 import com.example.foody.dto.response.WeekDayInfoResponseDTO;
 import com.example.foody.exceptions.entity.*;
 import com.example.foody.exceptions.restaurant.ForbiddenRestaurantAccessException;
@@ -15,8 +17,11 @@ import com.example.foody.model.user.User;
 import com.example.foody.repository.RestaurantRepository;
 import com.example.foody.repository.WeekDayInfoRepository;
 import com.example.foody.service.SittingTimeService;
+import com.example.foody.utils.enums.SittingTimeStep;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -30,6 +35,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -60,6 +66,9 @@ class WeekDayInfoServiceImplTest {
     @Mock
     private Authentication authentication;
 
+    @Captor
+    private ArgumentCaptor<List<WeekDayInfo>> weekDayInfosCaptor;
+
     private void mockSecurityContext(User user) {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
@@ -181,6 +190,7 @@ class WeekDayInfoServiceImplTest {
         // Assert
         assertNotNull(responseDTO);
         verify(weekDayInfoRepository, times(1)).save(any(WeekDayInfo.class));
+        verify(sittingTimeService, times(1)).updateForWeekDayInfos(List.of(weekDayInfo));
     }
 
     @Test
@@ -231,4 +241,89 @@ class WeekDayInfoServiceImplTest {
         assertThrows(EntityEditException.class, () -> weekDayInfoService.update(weekDayInfo.getId(), updateRequestDTO));
         verify(weekDayInfoRepository, times(1)).save(any(WeekDayInfo.class));
     }
+
+    @Test
+    void updateWeekUpdatesExistingWeekDaysAndCreatesMissingOnes() {
+        // Arrange
+        RestaurateurUser restaurateur = TestDataUtil.createTestRestaurateurUser();
+        WeekDayInfoWeekRequestDTO requestDTO = TestDataUtil.createTestWeekDayInfoWeekRequestDTO();
+        WeekDayInfoWeekDayRequestDTO missingWeekDayRequestDTO = new WeekDayInfoWeekDayRequestDTO(2);
+        missingWeekDayRequestDTO.setSittingTimeStep(SittingTimeStep.THIRTY.name());
+        requestDTO.setWeekDayInfos(List.of(missingWeekDayRequestDTO, requestDTO.getWeekDayInfos().get(0)));
+        WeekDayInfo weekDayInfo = TestDataUtil.createTestWeekDayInfo();
+        Restaurant restaurant = weekDayInfo.getRestaurant();
+        mockSecurityContext(restaurateur);
+
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+        when(weekDayInfoRepository.findAllByRestaurantIdOrderByWeekDay(restaurant.getId()))
+                .thenReturn(List.of(weekDayInfo));
+        when(weekDayInfoRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(weekDayInfoMapper.weekDayInfosToWeekDayInfoResponseDTOs(anyList()))
+                .thenReturn(List.of(TestDataUtil.createTestWeekDayInfoResponseDTO()));
+
+        // Act
+        List<WeekDayInfoResponseDTO> responseDTOs = weekDayInfoService.updateWeek(restaurant.getId(), requestDTO);
+
+        // Assert
+        assertEquals(1, responseDTOs.size());
+        verify(sittingTimeService, times(1)).updateForWeekDayInfos(weekDayInfosCaptor.capture());
+        List<WeekDayInfo> weekDayInfos = weekDayInfosCaptor.getValue();
+        assertEquals(2, weekDayInfos.size());
+        assertSame(weekDayInfo, weekDayInfos.get(0));
+        assertEquals(2, weekDayInfos.get(1).getWeekDay());
+        assertEquals(restaurant, weekDayInfos.get(1).getRestaurant());
+        verify(weekDayInfoMapper, times(1))
+                .updateWeekDayInfoFromWeekDayInfoUpdateRequestDTO(weekDayInfo, requestDTO.getWeekDayInfos().get(1));
+    }
+
+    @Test
+    void updateWeekWhenRestaurantDoesNotExistThrowsEntityNotFoundException() {
+        // Arrange
+        RestaurateurUser restaurateur = TestDataUtil.createTestRestaurateurUser();
+        WeekDayInfoWeekRequestDTO requestDTO = TestDataUtil.createTestWeekDayInfoWeekRequestDTO();
+        mockSecurityContext(restaurateur);
+
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> weekDayInfoService.updateWeek(1L, requestDTO));
+        verifyNoInteractions(sittingTimeService);
+    }
+
+    @Test
+    void updateWeekWhenRestaurateurIsNotOwnerThrowsForbiddenRestaurantAccessException() {
+        // Arrange
+        RestaurateurUser restaurateur = TestDataUtil.createTestRestaurateurUser();
+        RestaurateurUser otherRestaurateur = TestDataUtil.createTestRestaurateurUser();
+        WeekDayInfoWeekRequestDTO requestDTO = TestDataUtil.createTestWeekDayInfoWeekRequestDTO();
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        otherRestaurateur.setId(2L);
+        restaurant.setRestaurateur(otherRestaurateur);
+        mockSecurityContext(restaurateur);
+
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+
+        // Act & Assert
+        assertThrows(
+                ForbiddenRestaurantAccessException.class,
+                () -> weekDayInfoService.updateWeek(restaurant.getId(), requestDTO)
+        );
+        verify(weekDayInfoRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void updateWeekWhenSaveFailsThrowsEntityEditException() {
+        // Arrange
+        RestaurateurUser restaurateur = TestDataUtil.createTestRestaurateurUser();
+        WeekDayInfoWeekRequestDTO requestDTO = TestDataUtil.createTestWeekDayInfoWeekRequestDTO();
+        Restaurant restaurant = TestDataUtil.createTestRestaurant();
+        mockSecurityContext(restaurateur);
+
+        when(restaurantRepository.findById(restaurant.getId())).thenReturn(Optional.of(restaurant));
+        when(weekDayInfoRepository.saveAll(anyList())).thenThrow(RuntimeException.class);
+
+        // Act & Assert
+        assertThrows(EntityEditException.class, () -> weekDayInfoService.updateWeek(restaurant.getId(), requestDTO));
+        verifyNoInteractions(sittingTimeService);
+    }
 }
\ No newline at end of file
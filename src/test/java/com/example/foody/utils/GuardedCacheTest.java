@@ -0,0 +1,108 @@
+package com.example.foody.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link GuardedCache} class.
+ */
+public class GuardedCacheTest {
+
+    private final GuardedCache<Long, String> cache = new GuardedCache<>(2);
+
+    @Test
+    void loadKeepsLoadedValue() {
+        // Act
+        String value = cache.load(1L, () -> "value");
+
+        // Assert
+        assertEquals("value", value);
+        assertEquals("value", cache.get(1L));
+    }
+
+    @Test
+    void loadWhenChangedWhileLoadingReturnsValueWithoutKeepingIt() {
+        // Act
+        String value = cache.load(1L, () -> {
+            cache.countChange(1L);
+            return "stale";
+        });
+
+        // Assert
+        assertEquals("stale", value);
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void loadWhenEvictedWhileLoadingReturnsValueWithoutKeepingIt() {
+        // Act
+        cache.load(1L, () -> {
+            cache.evict(1L);
+            return "stale";
+        });
+
+        // Assert
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void loadWhenChangedDuringNestedLoadKeepsNeitherValue() {
+        // Act
+        cache.load(1L, () -> {
+            cache.load(1L, () -> "inner");
+            cache.evict(1L);
+            cache.countChange(1L);
+            return "outer";
+        });
+
+        // Assert
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void loadAllLoadsOnlyMissingKeysAndRespectsMaxSize() {
+        // Arrange
+        cache.load(1L, () -> "one");
+
+        // Act
+        Map<Long, String> values = cache.loadAll(List.of(1L, 2L, 3L), keys -> {
+            assertEquals(List.of(2L, 3L), keys);
+            return Map.of(2L, "two", 3L, "three");
+        });
+
+        // Assert
+        assertEquals(Map.of(1L, "one", 2L, "two", 3L, "three"), values);
+        assertEquals("two", cache.get(2L));
+        assertNull(cache.get(3L));
+    }
+
+    @Test
+    void preloadWhenChangedWhileLoadingKeepsNothing() {
+        // Act
+        cache.preload(() -> {
+            cache.countChange(2L);
+            return Map.of(1L, "one");
+        });
+
+        // Assert
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void evictIfRemovesMatchingValues() {
+        // Arrange
+        cache.load(1L, () -> "one");
+        cache.load(2L, () -> "two");
+
+        // Act
+        cache.evictIf((key, value) -> value.equals("one"));
+
+        // Assert
+        assertNull(cache.get(1L));
+        assertEquals("two", cache.get(2L));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.example.foody.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector counting the SQL statements prepared by the current thread.
+ * <p>
+ * Registered as statement inspector of the session factories built by {@link com.example.foody.TestSessionFactoryUtil},
+ * it lets tests check how many queries an operation issues, for example to detect N+1 selects.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<Long> QUERY_COUNT = ThreadLocal.withInitial(() -> 0L);
+
+    /**
+     * Counts the statement and returns it unchanged.
+     *
+     * @param sql the SQL statement
+     * @return the same SQL statement
+     */
+    @Override
+    public String inspect(String sql) {
+        QUERY_COUNT.set(QUERY_COUNT.get() + 1);
+        return sql;
+    }
+
+    /**
+     * Retrieves the number of statements prepared by the current thread since the last reset.
+     *
+     * @return the number of statements
+     */
+    public static long getQueryCount() {
+        return QUERY_COUNT.get();
+    }
+
+    /**
+     * Resets the number of statements prepared by the current thread.
+     */
+    public static void resetQueryCount() {
+        QUERY_COUNT.remove();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.example.foody.utils.email_template;
+
+import com.example.foody.utils.enums.EmailPlaceholder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link EmailTemplate} class.
+ */
+public class EmailTemplateTest {
+
+    private static final String TEMPLATE_CONTENT = """
+            # Subject
+            New order at {restaurantName}
+
+            # Body
+            Hi {cookName} {cookSurname},
+
+            order #{orderId} at {restaurantName} is {unknown}.
+            """;
+
+    @Test
+    void renderWhenAllVariablesProvidedReplacesPlaceholders() {
+        // Arrange
+        EmailTemplate template = EmailTemplate.compile(TEMPLATE_CONTENT);
+        Map<EmailPlaceholder, Object> variables = Map.of(
+                EmailPlaceholder.RESTAURANT_NAME, "Da Mario",
+                EmailPlaceholder.COOK_NAME, "Luigi",
+                EmailPlaceholder.COOK_SURNAME, "Verdi",
+                EmailPlaceholder.ORDER_ID, 42L
+        );
+
+        // Act
+        EmailContent content = template.render(variables);
+
+        // Assert
+        assertEquals("New order at Da Mario", content.subject());
+        assertEquals("Hi Luigi Verdi,\n\norder #42 at Da Mario is {unknown}.", content.body());
+    }
+
+    @Test
+    void renderWhenVariableMissingKeepsPlaceholder() {
+        // Arrange
+        EmailTemplate template = EmailTemplate.compile(TEMPLATE_CONTENT);
+
+        // Act
+        EmailContent content = template.render(Map.of(EmailPlaceholder.RESTAURANT_NAME, "Da Mario"));
+
+        // Assert
+        assertEquals("New order at Da Mario", content.subject());
+        assertTrue(content.body().startsWith("Hi {cookName} {cookSurname},"));
+    }
+
+    @Test
+    void renderWhenCalledTwiceReturnsSameContent() {
+        // Arrange
+        EmailTemplate template = EmailTemplate.compile(TEMPLATE_CONTENT);
+        Map<EmailPlaceholder, Object> variables = Map.of(EmailPlaceholder.RESTAURANT_NAME, "Da Mario");
+
+        // Act
+        EmailContent first = template.render(variables);
+        EmailContent second = template.render(variables);
+
+        // Assert
+        assertEquals(first, second);
+    }
+
+    @Test
+    void compileWhenMarkersMissingThrowsIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("Hi {cookName}"));
+    }
+}
\ No newline at end of file
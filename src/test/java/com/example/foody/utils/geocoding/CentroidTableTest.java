@@ -0,0 +1,68 @@
+package com.example.foody.utils.geocoding;
+
+import com.example.foody.exceptions.geocoding.GeocodingTableException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link CentroidTable} class.
+ */
+public class CentroidTableTest {
+
+    private static final String TEST_POSTAL_CODES_PATH = "/geo/test_postal_codes.csv";
+
+    @Test
+    void readWhenRequiredTableIsMissingThrowsGeocodingTableException() {
+        // Act & Assert
+        assertThrows(
+                GeocodingTableException.class,
+                () -> CentroidTable.read("/geo/missing.csv", CentroidTable.POSTAL_CODES_PATH)
+        );
+    }
+
+    @Test
+    void readWhenOptionalTableIsMissingReadsRequiredTable() {
+        // Act
+        CentroidTable table = CentroidTable.read(CentroidTable.PROVINCE_CAPITALS_PATH, "/geo/missing.csv");
+
+        // Assert
+        assertEquals(Optional.of(new Centroid(45.4642, 9.19)), table.find("20121", null));
+        assertTrue(table.find("20099", null).isEmpty());
+    }
+
+    @Test
+    void readWhenOptionalTableExistsReplacesAndAddsPostalCodes() {
+        // Act
+        CentroidTable table = CentroidTable.read(CentroidTable.PROVINCE_CAPITALS_PATH, TEST_POSTAL_CODES_PATH);
+
+        // Assert
+        assertEquals(Optional.of(new Centroid(45.47, 9.19)), table.find("20121", null));
+        assertEquals(Optional.of(new Centroid(45.54, 9.25)), table.find("20099", null));
+    }
+
+    @Test
+    void findWhenPostalCodeIsUnknownReturnsAverageOfProvince() {
+        // Arrange
+        CentroidTable table = CentroidTable.read(CentroidTable.PROVINCE_CAPITALS_PATH, TEST_POSTAL_CODES_PATH);
+
+        // Act
+        Centroid centroid = table.find("20999", " mi ").orElseThrow();
+
+        // Assert
+        assertEquals(45.505, centroid.latitude(), 1e-9);
+        assertEquals(9.22, centroid.longitude(), 1e-9);
+    }
+
+    @Test
+    void findWhenPostalCodeAndProvinceAreUnknownReturnsEmpty() {
+        // Arrange
+        CentroidTable table = CentroidTable.read(CentroidTable.PROVINCE_CAPITALS_PATH, TEST_POSTAL_CODES_PATH);
+
+        // Act & Assert
+        assertTrue(table.find("99999", "ZZ").isEmpty());
+        assertTrue(table.find(null, null).isEmpty());
+    }
+}
\ No newline at end of file
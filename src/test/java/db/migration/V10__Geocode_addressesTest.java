@@ -0,0 +1,82 @@
+package db.migration;
+
+import com.example.foody.TestSessionFactoryUtil;
+import com.example.foody.utils.geocoding.CentroidTable;
+import org.flywaydb.core.api.migration.Context;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link V10__Geocode_addresses} class running the migration against an in-memory database.
+ */
+public class V10__Geocode_addressesTest {
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void buildSessionFactoryAndSeed() {
+        sessionFactory = TestSessionFactoryUtil.buildH2SessionFactory(Map.of());
+        TestSessionFactoryUtil.executeStatements(sessionFactory, """
+                INSERT INTO addresses (id, created_at, city, civic_number, postal_code, province, street, latitude,
+                                       longitude)
+                VALUES (1, NOW(), 'Milano', '1', '20121', 'MI', 'Via Milano', NULL, NULL),
+                       (2, NOW(), 'Milano', '2', '20999', 'MI', 'Via Milano', NULL, NULL),
+                       (3, NOW(), 'Nowhere', '3', '99999', 'ZZ', 'Via Nowhere', NULL, NULL),
+                       (4, NOW(), 'Roma', '4', '00184', 'RM', 'Via Roma', 1.0, 2.0)
+                """);
+    }
+
+    @AfterAll
+    static void closeSessionFactory() {
+        if (sessionFactory != null) sessionFactory.close();
+    }
+
+    @Test
+    void migrateGeocodesAddressesWithoutCoordinates() {
+        // Arrange
+        V10__Geocode_addresses migration = new V10__Geocode_addresses(
+                CentroidTable.read(CentroidTable.PROVINCE_CAPITALS_PATH, "/geo/missing.csv")
+        );
+        Map<Long, Double[]> coordinates = new HashMap<>();
+
+        // Act
+        try (var session = sessionFactory.openSession()) {
+            session.doWork(connection -> {
+                Context context = mock(Context.class);
+                when(context.getConnection()).thenReturn(connection);
+                try {
+                    migration.migrate(context);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+
+                try (Statement statement = connection.createStatement();
+                     ResultSet rows = statement.executeQuery("SELECT id, latitude, longitude FROM addresses")) {
+                    while (rows.next()) {
+                        coordinates.put(rows.getLong("id"), new Double[]{
+                                rows.getObject("latitude", Double.class),
+                                rows.getObject("longitude", Double.class)
+                        });
+                    }
+                }
+            });
+        }
+
+        // Assert
+        assertArrayEquals(new Double[]{45.4642, 9.19}, coordinates.get(1L));
+        assertArrayEquals(new Double[]{45.4642, 9.19}, coordinates.get(2L));
+        assertArrayEquals(new Double[]{null, null}, coordinates.get(3L));
+        assertArrayEquals(new Double[]{1.0, 2.0}, coordinates.get(4L));
+    }
+}
\ No newline at end of file